@@ -0,0 +1,337 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package -------------------------------- */
+
+package com.github.jessemull.microflex.benchmarks;
+
+/* ----------------------------- Dependencies ------------------------------ */
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.StackBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
+import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.StackBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
+import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
+import com.github.jessemull.microflex.doubleflex.plate.StackDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
+import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.StackInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellInteger;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * Creates the plates, stacks and result maps used by the benchmarks. Every well
+ * of a fixture plate holds the same number of values, so the replicate depth
+ * parameter controls the amount of work done for each well. Values are drawn
+ * from RandomUtil.
+ *
+ * <br><br>
+ *
+ * Plate sizes are given as the number of wells and must be one of the standard
+ * plate formats: 6, 12, 24, 48, 96, 384 or 1536.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class Fixtures {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    private static final int MIN = 1;        // Minimum well value
+    private static final int MAX = 1000;     // Maximum well value
+
+    /* ---------------------------- Constructors ---------------------------- */
+
+    /**
+     * Private constructor prevents util class instantiation.
+     */
+    private Fixtures() {}
+
+    /* ------------------------- Plate Dimensions --------------------------- */
+
+    /**
+     * Returns the number of rows for the plate size.
+     * @param    int    the number of wells
+     * @return          the number of rows
+     */
+    public static int rows(int wells) {
+
+        switch(wells) {
+            case 6:    return PlateDouble.ROWS_6WELL;
+            case 12:   return PlateDouble.ROWS_12WELL;
+            case 24:   return PlateDouble.ROWS_24WELL;
+            case 48:   return PlateDouble.ROWS_48WELL;
+            case 96:   return PlateDouble.ROWS_96WELL;
+            case 384:  return PlateDouble.ROWS_384WELL;
+            case 1536: return PlateDouble.ROWS_1536WELL;
+            default:   throw new IllegalArgumentException("Invalid plate size: " + wells + ".");
+        }
+    }
+
+    /**
+     * Returns the number of columns for the plate size.
+     * @param    int    the number of wells
+     * @return          the number of columns
+     */
+    public static int columns(int wells) {
+        return wells / rows(wells);
+    }
+
+    /* --------------------------- Double Fixtures -------------------------- */
+
+    /**
+     * Returns a full double plate.
+     * @param    int    the number of wells
+     * @param    int    the number of values in each well
+     * @return          the plate
+     */
+    public static PlateDouble plateDouble(int wells, int depth) {
+
+        PlateDouble plate = new PlateDouble(rows(wells), columns(wells), "Plate");
+
+        for(int row = 0; row < plate.rows(); row++) {
+            for(int column = 1; column <= plate.columns(); column++) {
+                plate.addWells(new WellDouble(row, column,
+                        RandomUtil.randomDoubleList(MIN, MAX, depth)));
+            }
+        }
+
+        return plate;
+    }
+
+    /**
+     * Returns a stack of full double plates.
+     * @param    int    the number of wells
+     * @param    int    the number of values in each well
+     * @param    int    the number of plates
+     * @return          the stack
+     */
+    public static StackDouble stackDouble(int wells, int depth, int plates) {
+
+        StackDouble stack = new StackDouble(rows(wells), columns(wells), "Stack");
+
+        for(int i = 0; i < plates; i++) {
+            PlateDouble plate = plateDouble(wells, depth);
+            plate.setLabel("Plate" + i);
+            stack.add(plate);
+        }
+
+        return stack;
+    }
+
+    /**
+     * Returns the first value of each well.
+     * @param    PlateDouble    the plate
+     * @return                  the result map
+     */
+    public static Map<WellDouble, Double> resultDouble(PlateDouble plate) {
+
+        Map<WellDouble, Double> result = new TreeMap<WellDouble, Double>();
+
+        for(WellDouble well : plate) {
+            result.put(well, well.get(0));
+        }
+
+        return result;
+    }
+
+    /* -------------------------- Integer Fixtures -------------------------- */
+
+    /**
+     * Returns a full integer plate.
+     * @param    int    the number of wells
+     * @param    int    the number of values in each well
+     * @return          the plate
+     */
+    public static PlateInteger plateInteger(int wells, int depth) {
+
+        PlateInteger plate = new PlateInteger(rows(wells), columns(wells), "Plate");
+
+        for(int row = 0; row < plate.rows(); row++) {
+            for(int column = 1; column <= plate.columns(); column++) {
+                plate.addWells(new WellInteger(row, column,
+                        RandomUtil.randomIntegerList(MIN, MAX, depth)));
+            }
+        }
+
+        return plate;
+    }
+
+    /**
+     * Returns a stack of full integer plates.
+     * @param    int    the number of wells
+     * @param    int    the number of values in each well
+     * @param    int    the number of plates
+     * @return          the stack
+     */
+    public static StackInteger stackInteger(int wells, int depth, int plates) {
+
+        StackInteger stack = new StackInteger(rows(wells), columns(wells), "Stack");
+
+        for(int i = 0; i < plates; i++) {
+            PlateInteger plate = plateInteger(wells, depth);
+            plate.setLabel("Plate" + i);
+            stack.add(plate);
+        }
+
+        return stack;
+    }
+
+    /**
+     * Returns the first value of each well.
+     * @param    PlateInteger    the plate
+     * @return                   the result map
+     */
+    public static Map<WellInteger, Integer> resultInteger(PlateInteger plate) {
+
+        Map<WellInteger, Integer> result = new TreeMap<WellInteger, Integer>();
+
+        for(WellInteger well : plate) {
+            result.put(well, well.get(0));
+        }
+
+        return result;
+    }
+
+    /* ------------------------ Big Decimal Fixtures ------------------------ */
+
+    /**
+     * Returns a full big decimal plate.
+     * @param    int    the number of wells
+     * @param    int    the number of values in each well
+     * @return          the plate
+     */
+    public static PlateBigDecimal plateBigDecimal(int wells, int depth) {
+
+        PlateBigDecimal plate = new PlateBigDecimal(rows(wells), columns(wells), "Plate");
+
+        for(int row = 0; row < plate.rows(); row++) {
+            for(int column = 1; column <= plate.columns(); column++) {
+                plate.addWells(new WellBigDecimal(row, column,
+                        RandomUtil.randomBigDecimalList(new BigDecimal(MIN), new BigDecimal(MAX), depth)));
+            }
+        }
+
+        return plate;
+    }
+
+    /**
+     * Returns a stack of full big decimal plates.
+     * @param    int    the number of wells
+     * @param    int    the number of values in each well
+     * @param    int    the number of plates
+     * @return          the stack
+     */
+    public static StackBigDecimal stackBigDecimal(int wells, int depth, int plates) {
+
+        StackBigDecimal stack = new StackBigDecimal(rows(wells), columns(wells), "Stack");
+
+        for(int i = 0; i < plates; i++) {
+            PlateBigDecimal plate = plateBigDecimal(wells, depth);
+            plate.setLabel("Plate" + i);
+            stack.add(plate);
+        }
+
+        return stack;
+    }
+
+    /**
+     * Returns the first value of each well.
+     * @param    PlateBigDecimal    the plate
+     * @return                      the result map
+     */
+    public static Map<WellBigDecimal, BigDecimal> resultBigDecimal(PlateBigDecimal plate) {
+
+        Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
+
+        for(WellBigDecimal well : plate) {
+            result.put(well, well.get(0));
+        }
+
+        return result;
+    }
+
+    /* ------------------------ Big Integer Fixtures ------------------------ */
+
+    /**
+     * Returns a full big integer plate.
+     * @param    int    the number of wells
+     * @param    int    the number of values in each well
+     * @return          the plate
+     */
+    public static PlateBigInteger plateBigInteger(int wells, int depth) {
+
+        PlateBigInteger plate = new PlateBigInteger(rows(wells), columns(wells), "Plate");
+
+        for(int row = 0; row < plate.rows(); row++) {
+            for(int column = 1; column <= plate.columns(); column++) {
+                plate.addWells(new WellBigInteger(row, column,
+                        RandomUtil.randomBigIntegerList(BigInteger.valueOf(MIN), BigInteger.valueOf(MAX), depth)));
+            }
+        }
+
+        return plate;
+    }
+
+    /**
+     * Returns a stack of full big integer plates.
+     * @param    int    the number of wells
+     * @param    int    the number of values in each well
+     * @param    int    the number of plates
+     * @return          the stack
+     */
+    public static StackBigInteger stackBigInteger(int wells, int depth, int plates) {
+
+        StackBigInteger stack = new StackBigInteger(rows(wells), columns(wells), "Stack");
+
+        for(int i = 0; i < plates; i++) {
+            PlateBigInteger plate = plateBigInteger(wells, depth);
+            plate.setLabel("Plate" + i);
+            stack.add(plate);
+        }
+
+        return stack;
+    }
+
+    /**
+     * Returns the first value of each well.
+     * @param    PlateBigInteger    the plate
+     * @return                      the result map
+     */
+    public static Map<WellBigInteger, BigInteger> resultBigInteger(PlateBigInteger plate) {
+
+        Map<WellBigInteger, BigInteger> result = new TreeMap<WellBigInteger, BigInteger>();
+
+        for(WellBigInteger well : plate) {
+            result.put(well, well.get(0));
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,322 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+/* -------------------------------- Package -------------------------------- */
+
+package com.github.jessemull.microflex.benchmarks;
+
+/* ----------------------------- Dependencies ------------------------------ */
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.jessemull.microflex.bigdecimalflex.io.PlateReaderBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.io.PlateWriterBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
+import com.github.jessemull.microflex.bigintegerflex.io.PlateReaderBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.io.PlateWriterBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
+import com.github.jessemull.microflex.doubleflex.io.PlateReaderDouble;
+import com.github.jessemull.microflex.doubleflex.io.PlateWriterDouble;
+import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
+import com.github.jessemull.microflex.integerflex.io.PlateReaderInteger;
+import com.github.jessemull.microflex.integerflex.io.PlateWriterInteger;
+import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+
+/**
+ * Measures plate writer and plate reader round trips for each numeric flavor.
+ * Each round trip writes to a string and reads the string back:
+ *
+ * <br><br>
+ *
+ * <table cellspacing="5px" style="text-align:left; margin: 20px;">
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px;">Benchmark<div></th>
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px;">Round Trip<div></th>
+ *    <tr>
+ *       <td>json</td>
+ *       <td>A plate as JSON</td>
+ *    </tr>
+ *    <tr>
+ *       <td>map</td>
+ *       <td>The first value of each well as a plate map</td>
+ *    </tr>
+ *    <tr>
+ *       <td>table</td>
+ *       <td>The first value of each well as a result table</td>
+ *    </tr>
+ * </table>
+ *
+ * The plate size and the number of values in each well are parameters.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IOBenchmark {
+
+    /* ----------------------------- Parameters ----------------------------- */
+
+    @Param({"6", "12", "24", "48", "96", "384", "1536"})
+    public int wells;    // Number of wells in each plate
+
+    @Param({"1", "10", "100"})
+    public int depth;    // Number of values in each well
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    private static final String LABEL = "Result";    // Result label
+
+    /* The plate reader expects a blank line after each plate map */
+
+    private PlateWriterDouble writerDouble = new PlateWriterDouble(new StringWriter());
+    private PlateWriterInteger writerInteger = new PlateWriterInteger(new StringWriter());
+    private PlateWriterBigDecimal writerBigDecimal = new PlateWriterBigDecimal(new StringWriter());
+    private PlateWriterBigInteger writerBigInteger = new PlateWriterBigInteger(new StringWriter());
+
+    private PlateDouble plateDouble;
+    private PlateInteger plateInteger;
+    private PlateBigDecimal plateBigDecimal;
+    private PlateBigInteger plateBigInteger;
+
+    private Map<WellDouble, Double> resultDouble;
+    private Map<WellInteger, Integer> resultInteger;
+    private Map<WellBigDecimal, BigDecimal> resultBigDecimal;
+    private Map<WellBigInteger, BigInteger> resultBigInteger;
+
+    /* -------------------------------- Setup ------------------------------- */
+
+    /**
+     * Creates the plates and results.
+     */
+    @Setup
+    public void setUp() {
+
+        plateDouble = Fixtures.plateDouble(wells, depth);
+        plateInteger = Fixtures.plateInteger(wells, depth);
+        plateBigDecimal = Fixtures.plateBigDecimal(wells, depth);
+        plateBigInteger = Fixtures.plateBigInteger(wells, depth);
+
+        resultDouble = Fixtures.resultDouble(plateDouble);
+        resultInteger = Fixtures.resultInteger(plateInteger);
+        resultBigDecimal = Fixtures.resultBigDecimal(plateBigDecimal);
+        resultBigInteger = Fixtures.resultBigInteger(plateBigInteger);
+    }
+
+    /* ------------------------------- Double ------------------------------- */
+
+    @Benchmark
+    public PlateDouble jsonDouble() throws IOException {
+
+        PlateReaderDouble reader = new PlateReaderDouble(
+                new StringReader(writerDouble.plateToJSONAsString(plateDouble)));
+
+        try {
+            return reader.nextJSONPlate();
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Benchmark
+    public PlateDouble mapDouble() throws IOException {
+
+        PlateReaderDouble reader = new PlateReaderDouble(new StringReader(
+                writerDouble.resultToPlateMapAsString(resultDouble, 
+                        plateDouble.rows(), plateDouble.columns(), LABEL) + "\n"));
+
+        try {
+            return reader.nextMap();
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Benchmark
+    public WellSetDouble tableDouble() throws IOException {
+
+        PlateReaderDouble reader = new PlateReaderDouble(
+                new StringReader(writerDouble.resultToTableAsString(resultDouble, LABEL)));
+
+        try {
+            return reader.nextTable();
+        } finally {
+            reader.close();
+        }
+    }
+
+    /* ------------------------------- Integer ------------------------------ */
+
+    @Benchmark
+    public PlateInteger jsonInteger() throws IOException {
+
+        PlateReaderInteger reader = new PlateReaderInteger(
+                new StringReader(writerInteger.plateToJSONAsString(plateInteger)));
+
+        try {
+            return reader.nextJSONPlate();
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Benchmark
+    public PlateInteger mapInteger() throws IOException {
+
+        PlateReaderInteger reader = new PlateReaderInteger(new StringReader(
+                writerInteger.resultToPlateMapAsString(resultInteger, 
+                        plateInteger.rows(), plateInteger.columns(), LABEL) + "\n"));
+
+        try {
+            return reader.nextMap();
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Benchmark
+    public WellSetInteger tableInteger() throws IOException {
+
+        PlateReaderInteger reader = new PlateReaderInteger(
+                new StringReader(writerInteger.resultToTableAsString(resultInteger, LABEL)));
+
+        try {
+            return reader.nextTable();
+        } finally {
+            reader.close();
+        }
+    }
+
+    /* ----------------------------- Big Decimal ---------------------------- */
+
+    @Benchmark
+    public PlateBigDecimal jsonBigDecimal() throws IOException {
+
+        PlateReaderBigDecimal reader = new PlateReaderBigDecimal(
+                new StringReader(writerBigDecimal.plateToJSONAsString(plateBigDecimal)));
+
+        try {
+            return reader.nextJSONPlate();
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Benchmark
+    public PlateBigDecimal mapBigDecimal() throws IOException {
+
+        PlateReaderBigDecimal reader = new PlateReaderBigDecimal(new StringReader(
+                writerBigDecimal.resultToPlateMapAsString(resultBigDecimal, 
+                        plateBigDecimal.rows(), plateBigDecimal.columns(), LABEL) + "\n"));
+
+        try {
+            return reader.nextMap();
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Benchmark
+    public WellSetBigDecimal tableBigDecimal() throws IOException {
+
+        PlateReaderBigDecimal reader = new PlateReaderBigDecimal(
+                new StringReader(writerBigDecimal.resultToTableAsString(resultBigDecimal, LABEL)));
+
+        try {
+            return reader.nextTable();
+        } finally {
+            reader.close();
+        }
+    }
+
+    /* ----------------------------- Big Integer ---------------------------- */
+
+    @Benchmark
+    public PlateBigInteger jsonBigInteger() throws IOException {
+
+        PlateReaderBigInteger reader = new PlateReaderBigInteger(
+                new StringReader(writerBigInteger.plateToJSONAsString(plateBigInteger)));
+
+        try {
+            return reader.nextJSONPlate();
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Benchmark
+    public PlateBigInteger mapBigInteger() throws IOException {
+
+        PlateReaderBigInteger reader = new PlateReaderBigInteger(new StringReader(
+                writerBigInteger.resultToPlateMapAsString(resultBigInteger, 
+                        plateBigInteger.rows(), plateBigInteger.columns(), LABEL) + "\n"));
+
+        try {
+            return reader.nextMap();
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Benchmark
+    public WellSetBigInteger tableBigInteger() throws IOException {
+
+        PlateReaderBigInteger reader = new PlateReaderBigInteger(
+                new StringReader(writerBigInteger.resultToTableAsString(resultBigInteger, LABEL)));
+
+        try {
+            return reader.nextTable();
+        } finally {
+            reader.close();
+        }
+    }
+
+}
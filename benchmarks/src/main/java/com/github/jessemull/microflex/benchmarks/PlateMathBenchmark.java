@@ -0,0 +1,164 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+/* -------------------------------- Package -------------------------------- */
+
+package com.github.jessemull.microflex.benchmarks;
+
+/* ----------------------------- Dependencies ------------------------------ */
+
+import java.math.MathContext;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.jessemull.microflex.bigdecimalflex.math.AdditionBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.math.MultiplicationBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
+import com.github.jessemull.microflex.bigintegerflex.math.AdditionBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.math.MultiplicationBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
+import com.github.jessemull.microflex.doubleflex.math.AdditionDouble;
+import com.github.jessemull.microflex.doubleflex.math.MultiplicationDouble;
+import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
+import com.github.jessemull.microflex.integerflex.math.AdditionInteger;
+import com.github.jessemull.microflex.integerflex.math.MultiplicationInteger;
+import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+
+/**
+ * Measures binary math operations on pairs of plates for each numeric flavor.
+ * The plate size and the number of values in each well are parameters.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlateMathBenchmark {
+
+    /* ----------------------------- Parameters ----------------------------- */
+
+    @Param({"6", "12", "24", "48", "96", "384", "1536"})
+    public int wells;    // Number of wells in each plate
+
+    @Param({"1", "10", "100"})
+    public int depth;    // Number of values in each well
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    private static final MathContext MC = MathContext.DECIMAL64;    // Big decimal context
+
+    private AdditionDouble additionDouble = new AdditionDouble();
+    private AdditionInteger additionInteger = new AdditionInteger();
+    private AdditionBigDecimal additionBigDecimal = new AdditionBigDecimal();
+    private AdditionBigInteger additionBigInteger = new AdditionBigInteger();
+
+    private MultiplicationDouble multiplicationDouble = new MultiplicationDouble();
+    private MultiplicationInteger multiplicationInteger = new MultiplicationInteger();
+    private MultiplicationBigDecimal multiplicationBigDecimal = new MultiplicationBigDecimal();
+    private MultiplicationBigInteger multiplicationBigInteger = new MultiplicationBigInteger();
+
+    private PlateDouble plateDouble1;
+    private PlateDouble plateDouble2;
+    private PlateInteger plateInteger1;
+    private PlateInteger plateInteger2;
+    private PlateBigDecimal plateBigDecimal1;
+    private PlateBigDecimal plateBigDecimal2;
+    private PlateBigInteger plateBigInteger1;
+    private PlateBigInteger plateBigInteger2;
+
+    /* -------------------------------- Setup ------------------------------- */
+
+    /**
+     * Creates the plates.
+     */
+    @Setup
+    public void setUp() {
+        plateDouble1 = Fixtures.plateDouble(wells, depth);
+        plateDouble2 = Fixtures.plateDouble(wells, depth);
+        plateInteger1 = Fixtures.plateInteger(wells, depth);
+        plateInteger2 = Fixtures.plateInteger(wells, depth);
+        plateBigDecimal1 = Fixtures.plateBigDecimal(wells, depth);
+        plateBigDecimal2 = Fixtures.plateBigDecimal(wells, depth);
+        plateBigInteger1 = Fixtures.plateBigInteger(wells, depth);
+        plateBigInteger2 = Fixtures.plateBigInteger(wells, depth);
+    }
+
+    /* ------------------------------ Addition ------------------------------ */
+
+    @Benchmark
+    public PlateDouble additionDouble() {
+        return additionDouble.plates(plateDouble1, plateDouble2);
+    }
+
+    @Benchmark
+    public PlateInteger additionInteger() {
+        return additionInteger.plates(plateInteger1, plateInteger2);
+    }
+
+    @Benchmark
+    public PlateBigDecimal additionBigDecimal() {
+        return additionBigDecimal.plates(plateBigDecimal1, plateBigDecimal2);
+    }
+
+    @Benchmark
+    public PlateBigInteger additionBigInteger() {
+        return additionBigInteger.plates(plateBigInteger1, plateBigInteger2);
+    }
+
+    /* --------------------------- Multiplication --------------------------- */
+
+    @Benchmark
+    public PlateDouble multiplicationDouble() {
+        return multiplicationDouble.plates(plateDouble1, plateDouble2);
+    }
+
+    @Benchmark
+    public PlateInteger multiplicationInteger() {
+        return multiplicationInteger.plates(plateInteger1, plateInteger2);
+    }
+
+    @Benchmark
+    public PlateBigDecimal multiplicationBigDecimal() {
+        return multiplicationBigDecimal.plates(plateBigDecimal1, plateBigDecimal2, MC);
+    }
+
+    @Benchmark
+    public PlateBigInteger multiplicationBigInteger() {
+        return multiplicationBigInteger.plates(plateBigInteger1, plateBigInteger2);
+    }
+
+}
@@ -0,0 +1,142 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+/* -------------------------------- Package -------------------------------- */
+
+package com.github.jessemull.microflex.benchmarks;
+
+/* ----------------------------- Dependencies ------------------------------ */
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.jessemull.microflex.bigdecimalflex.math.AdditionBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.StackBigDecimal;
+import com.github.jessemull.microflex.bigintegerflex.math.AdditionBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.StackBigInteger;
+import com.github.jessemull.microflex.doubleflex.math.AdditionDouble;
+import com.github.jessemull.microflex.doubleflex.plate.StackDouble;
+import com.github.jessemull.microflex.integerflex.math.AdditionInteger;
+import com.github.jessemull.microflex.integerflex.plate.StackInteger;
+
+/**
+ * Measures binary math operations on pairs of stacks for each numeric flavor.
+ * The plate size, the number of values in each well, the number of plates in
+ * each stack and sequential or fork join parallel execution are parameters.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StackMathBenchmark {
+
+    /* ----------------------------- Parameters ----------------------------- */
+
+    @Param({"96", "384", "1536"})
+    public int wells;     // Number of wells in each plate
+
+    @Param({"1", "10"})
+    public int depth;     // Number of values in each well
+
+    @Param({"2", "10", "50"})
+    public int plates;    // Number of plates in each stack
+
+    @Param({"false", "true"})
+    public boolean parallel;    // Parallel execution using the default pool
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    private AdditionDouble additionDouble = new AdditionDouble();
+    private AdditionInteger additionInteger = new AdditionInteger();
+    private AdditionBigDecimal additionBigDecimal = new AdditionBigDecimal();
+    private AdditionBigInteger additionBigInteger = new AdditionBigInteger();
+
+    private StackDouble stackDouble1;
+    private StackDouble stackDouble2;
+    private StackInteger stackInteger1;
+    private StackInteger stackInteger2;
+    private StackBigDecimal stackBigDecimal1;
+    private StackBigDecimal stackBigDecimal2;
+    private StackBigInteger stackBigInteger1;
+    private StackBigInteger stackBigInteger2;
+
+    /* -------------------------------- Setup ------------------------------- */
+
+    /**
+     * Creates the stacks and sets the execution mode.
+     */
+    @Setup
+    public void setUp() {
+        stackDouble1 = Fixtures.stackDouble(wells, depth, plates);
+        stackDouble2 = Fixtures.stackDouble(wells, depth, plates);
+        stackInteger1 = Fixtures.stackInteger(wells, depth, plates);
+        stackInteger2 = Fixtures.stackInteger(wells, depth, plates);
+        stackBigDecimal1 = Fixtures.stackBigDecimal(wells, depth, plates);
+        stackBigDecimal2 = Fixtures.stackBigDecimal(wells, depth, plates);
+        stackBigInteger1 = Fixtures.stackBigInteger(wells, depth, plates);
+        stackBigInteger2 = Fixtures.stackBigInteger(wells, depth, plates);
+
+        additionDouble.setParallel(parallel);
+        additionInteger.setParallel(parallel);
+        additionBigDecimal.setParallel(parallel);
+        additionBigInteger.setParallel(parallel);
+    }
+
+    /* ------------------------------ Addition ------------------------------ */
+
+    @Benchmark
+    public StackDouble additionDouble() {
+        return additionDouble.stacks(stackDouble1, stackDouble2);
+    }
+
+    @Benchmark
+    public StackInteger additionInteger() {
+        return additionInteger.stacks(stackInteger1, stackInteger2);
+    }
+
+    @Benchmark
+    public StackBigDecimal additionBigDecimal() {
+        return additionBigDecimal.stacks(stackBigDecimal1, stackBigDecimal2);
+    }
+
+    @Benchmark
+    public StackBigInteger additionBigInteger() {
+        return additionBigInteger.stacks(stackBigInteger1, stackBigInteger2);
+    }
+
+}
@@ -0,0 +1,165 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+/* -------------------------------- Package -------------------------------- */
+
+package com.github.jessemull.microflex.benchmarks;
+
+/* ----------------------------- Dependencies ------------------------------ */
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.MeanBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.PercentileBigDecimal;
+import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.stat.MeanBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.stat.PercentileBigInteger;
+import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
+import com.github.jessemull.microflex.doubleflex.stat.MeanDouble;
+import com.github.jessemull.microflex.doubleflex.stat.PercentileDouble;
+import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellInteger;
+import com.github.jessemull.microflex.integerflex.stat.MeanInteger;
+import com.github.jessemull.microflex.integerflex.stat.PercentileInteger;
+
+/**
+ * Measures a descriptive statistic and a quantile statistic on a plate for each
+ * numeric flavor. The mean is the representative descriptive statistic and the
+ * median percentile is the representative quantile statistic. The plate size 
+ * and the number of values in each well are parameters.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatisticBenchmark {
+
+    /* ----------------------------- Parameters ----------------------------- */
+
+    @Param({"6", "12", "24", "48", "96", "384", "1536"})
+    public int wells;    // Number of wells in each plate
+
+    @Param({"1", "10", "100"})
+    public int depth;    // Number of values in each well
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    private static final int P = 50;                                 // The percentile
+    private static final MathContext MC = MathContext.DECIMAL64;     // Big decimal context
+
+    private MeanDouble meanDouble = new MeanDouble();
+    private MeanInteger meanInteger = new MeanInteger();
+    private MeanBigDecimal meanBigDecimal = new MeanBigDecimal();
+    private MeanBigInteger meanBigInteger = new MeanBigInteger();
+
+    private PercentileDouble percentileDouble = new PercentileDouble();
+    private PercentileInteger percentileInteger = new PercentileInteger();
+    private PercentileBigDecimal percentileBigDecimal = new PercentileBigDecimal();
+    private PercentileBigInteger percentileBigInteger = new PercentileBigInteger();
+
+    private PlateDouble plateDouble;
+    private PlateInteger plateInteger;
+    private PlateBigDecimal plateBigDecimal;
+    private PlateBigInteger plateBigInteger;
+
+    /* -------------------------------- Setup ------------------------------- */
+
+    /**
+     * Creates the plates.
+     */
+    @Setup
+    public void setUp() {
+        plateDouble = Fixtures.plateDouble(wells, depth);
+        plateInteger = Fixtures.plateInteger(wells, depth);
+        plateBigDecimal = Fixtures.plateBigDecimal(wells, depth);
+        plateBigInteger = Fixtures.plateBigInteger(wells, depth);
+    }
+
+    /* -------------------------------- Mean -------------------------------- */
+
+    @Benchmark
+    public Map<WellDouble, Double> meanDouble() {
+        return meanDouble.plate(plateDouble);
+    }
+
+    @Benchmark
+    public Map<WellInteger, Double> meanInteger() {
+        return meanInteger.plate(plateInteger);
+    }
+
+    @Benchmark
+    public Map<WellBigDecimal, BigDecimal> meanBigDecimal() {
+        return meanBigDecimal.plate(plateBigDecimal, MC);
+    }
+
+    @Benchmark
+    public Map<WellBigInteger, BigDecimal> meanBigInteger() {
+        return meanBigInteger.plate(plateBigInteger, MC);
+    }
+
+    /* ----------------------------- Percentile ----------------------------- */
+
+    @Benchmark
+    public Map<WellDouble, Double> percentileDouble() {
+        return percentileDouble.plate(plateDouble, P);
+    }
+
+    @Benchmark
+    public Map<WellInteger, Double> percentileInteger() {
+        return percentileInteger.plate(plateInteger, P);
+    }
+
+    @Benchmark
+    public Map<WellBigDecimal, BigDecimal> percentileBigDecimal() {
+        return percentileBigDecimal.plate(plateBigDecimal, P);
+    }
+
+    @Benchmark
+    public Map<WellBigInteger, BigDecimal> percentileBigInteger() {
+        return percentileBigInteger.plate(plateBigInteger, P);
+    }
+
+}
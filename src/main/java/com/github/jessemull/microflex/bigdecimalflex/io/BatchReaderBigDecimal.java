@@ -0,0 +1,465 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/*--------------------------- Package Declaration ----------------------------*/
+
+package com.github.jessemull.microflex.bigdecimalflex.io;
+
+/*------------------------------- Dependencies -------------------------------*/
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.InputMismatchException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.google.common.base.Preconditions;
+
+import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.StackBigDecimal;
+
+/**
+ * Reads many plate files concurrently and passes the plates and stacks read
+ * from each file to a consumer. The format of each file is detected from its
+ * content:
+ *
+ * <table cellspacing="5px" style="text-align:left; margin: 20px;">
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px;">Format<div></th>
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px;">Detection<div></th>
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px;">Content<div></th>
+ *    <tr>
+ *       <td>Binary</td>
+ *       <td>binary plate file magic number</td>
+ *       <td>one stack</td>
+ *    </tr>
+ *    <tr>
+ *       <td>JSON</td>
+ *       <td>first character is an opening brace</td>
+ *       <td>plate or stack list</td>
+ *    </tr>
+ *    <tr>
+ *       <td>XML</td>
+ *       <td>first character is an opening angle bracket</td>
+ *       <td>plate or stack list</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Text</td>
+ *       <td>all other files</td>
+ *       <td>delimited plate maps</td>
+ *    </tr>
+ * </table>
+ *
+ * Files are read on a fixed number of worker threads. Each completed file is
+ * placed on a bounded queue and passed to the consumer on the calling thread,
+ * in the order the files complete. When the queue is full the workers wait
+ * for the consumer, so a slow consumer limits the number of files held in
+ * memory. The read time and any error are reported with each file. A file that
+ * cannot be read does not stop the batch. An error thrown while reading a file
+ * is reported as a failed file holding an execution exception. An exception
+ * thrown by the consumer cancels the remaining files and is rethrown.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class BatchReaderBigDecimal {
+
+    /*---------------------------- Public Fields -----------------------------*/
+
+    /* File formats */
+
+    public static final int FORMAT_UNKNOWN = -1;    // The file could not be opened
+    public static final int FORMAT_TEXT = 0;        // Delimited plate maps
+    public static final int FORMAT_JSON = 1;        // JSON plate or stack list
+    public static final int FORMAT_XML = 2;         // XML plate or stack list
+    public static final int FORMAT_BINARY = 3;      // Binary plate file
+
+    /*---------------------------- Private Fields ----------------------------*/
+
+    private static final int SNIFF_LIMIT = 1024;    // Bytes examined to detect the format
+
+    private int threads;                 // Number of worker threads
+    private int capacity;                // Number of completed files held for the consumer
+    private String delimiter = "\t";     // The plate map delimiter
+
+    /*--------------------------- Consumer Interface -------------------------*/
+
+    /**
+     * Receives each file read by the batch reader. The consumer is called on
+     * the thread running the batch.
+     */
+    public interface Consumer {
+
+        /**
+         * Accepts the outcome of reading a file.
+         * @param    BatchFileBigDecimal    the file
+         */
+        void accept(BatchFileBigDecimal file);
+    }
+
+    /*----------------------------- Constructors -----------------------------*/
+
+    /**
+     * Creates a batch reader using twice the number of available processors as
+     * worker threads.
+     */
+    public BatchReaderBigDecimal() {
+        this(2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a batch reader using the number of worker threads. The number of
+     * completed files waiting for the consumer is limited to the number of
+     * threads.
+     * @param    int    the number of worker threads
+     */
+    public BatchReaderBigDecimal(int threads) {
+        this(threads, threads);
+    }
+
+    /**
+     * Creates a batch reader using the number of worker threads and limiting
+     * the number of completed files waiting for the consumer.
+     * @param    int    the number of worker threads
+     * @param    int    the number of completed files held for the consumer
+     */
+    public BatchReaderBigDecimal(int threads, int capacity) {
+        Preconditions.checkArgument(threads > 0, "The number of threads must be positive.");
+        Preconditions.checkArgument(capacity > 0, "The capacity must be positive.");
+        this.threads = threads;
+        this.capacity = capacity;
+    }
+
+    /*---------------------------- Reader Settings ---------------------------*/
+
+    /**
+     * Returns the number of worker threads.
+     * @return    the number of threads
+     */
+    public int threads() {
+        return this.threads;
+    }
+
+    /**
+     * Returns the number of completed files held for the consumer.
+     * @return    the capacity
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Sets the delimiter used by delimited plate map files.
+     * @param    String    the delimiter
+     */
+    public void setDelimiter(String delimiter) {
+        Preconditions.checkNotNull(delimiter, "The delimiter cannot be null.");
+        Preconditions.checkArgument(!delimiter.isEmpty(), "Invalid delimiter.");
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Returns the delimiter used by delimited plate map files.
+     * @return    the delimiter
+     */
+    public String getDelimiter() {
+        return this.delimiter;
+    }
+
+    /*---------------------------- Batch Methods -----------------------------*/
+
+    /**
+     * Reads each file in the directory. Subdirectories and hidden files are
+     * ignored. The files are submitted in file name order.
+     * @param    File        the directory
+     * @param    Consumer    the consumer
+     * @throws   IOException             the directory cannot be listed
+     * @throws   InterruptedException    the batch was interrupted
+     */
+    public void readDirectory(File directory, Consumer consumer) throws IOException, InterruptedException {
+
+        Preconditions.checkNotNull(directory, "The directory cannot be null.");
+
+        File[] files = directory.listFiles();
+
+        if(files == null) {
+            throw new IOException("Unable to list the directory " + directory + ".");
+        }
+
+        Arrays.sort(files);
+
+        List<File> list = new ArrayList<File>();
+
+        for(File file : files) {
+            if(file.isFile() && !file.isHidden()) {
+                list.add(file);
+            }
+        }
+
+        this.read(list, consumer);
+    }
+
+    /**
+     * Reads each file in the directory. Subdirectories and hidden files are
+     * ignored. The files are submitted in file name order.
+     * @param    String      the directory name
+     * @param    Consumer    the consumer
+     * @throws   IOException             the directory cannot be listed
+     * @throws   InterruptedException    the batch was interrupted
+     */
+    public void readDirectory(String directory, Consumer consumer) throws IOException, InterruptedException {
+        Preconditions.checkNotNull(directory, "The directory cannot be null.");
+        this.readDirectory(new File(directory), consumer);
+    }
+
+    /**
+     * Reads each file in the array.
+     * @param    File[]      the files
+     * @param    Consumer    the consumer
+     * @throws   InterruptedException    the batch was interrupted
+     */
+    public void read(File[] files, Consumer consumer) throws InterruptedException {
+        Preconditions.checkNotNull(files, "The file array cannot be null.");
+        this.read(Arrays.asList(files), consumer);
+    }
+
+    /**
+     * Reads each file in the collection.
+     * @param    Collection<File>    the files
+     * @param    Consumer            the consumer
+     * @throws   InterruptedException    the batch was interrupted
+     */
+    public void read(Collection<File> files, Consumer consumer) throws InterruptedException {
+
+        Preconditions.checkNotNull(files, "The file collection cannot be null.");
+        Preconditions.checkNotNull(consumer, "The consumer cannot be null.");
+
+        List<File> list = new ArrayList<File>(files);
+
+        if(list.isEmpty()) {
+            return;
+        }
+
+        final BlockingQueue<BatchFileBigDecimal> queue = new ArrayBlockingQueue<BatchFileBigDecimal>(this.capacity);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(this.threads, list.size()));
+
+        try {
+
+            for(final File file : list) {
+
+                Preconditions.checkNotNull(file, "The file cannot be null.");
+
+                executor.execute(new Runnable() {
+                    public void run() {
+                        try {
+                            queue.put(BatchReaderBigDecimal.this.outcome(file));
+                        } catch(InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                });
+            }
+
+            for(int i = 0; i < list.size(); i++) {
+                consumer.accept(queue.take());
+            }
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads a single file on the calling thread.
+     * @param    File    the file
+     * @return           the outcome
+     */
+    public BatchFileBigDecimal read(File file) {
+
+        Preconditions.checkNotNull(file, "The file cannot be null.");
+
+        long start = System.nanoTime();
+
+        int format = FORMAT_UNKNOWN;
+        List<PlateBigDecimal> plates = new ArrayList<PlateBigDecimal>();
+        List<StackBigDecimal> stacks = new ArrayList<StackBigDecimal>();
+        Exception error = null;
+
+        try {
+
+            format = format(file);
+
+            switch(format) {
+
+                case FORMAT_BINARY: stacks.add(BinaryReaderBigDecimal.read(file));
+                                    break;
+
+                case FORMAT_TEXT:   PlateMapReaderBigDecimal maps = new PlateMapReaderBigDecimal(this.delimiter);
+                                    maps.setPool(null);
+                                    plates.addAll(maps.readMaps(file));
+                                    break;
+
+                default:            readDocument(file, format, plates, stacks);
+                                    break;
+            }
+
+            if(plates.isEmpty() && stacks.isEmpty()) {
+                throw new InputMismatchException("The file does not contain plates or stacks.");
+            }
+
+        } catch(Exception e) {
+            plates.clear();
+            stacks.clear();
+            error = e;
+        }
+
+        return new BatchFileBigDecimal(file, format, plates, stacks, System.nanoTime() - start, error);
+    }
+
+    /*---------------------------- Private Methods ---------------------------*/
+
+    /**
+     * Reads a single file on a worker thread. An error thrown while reading the
+     * file is wrapped in an execution exception and returned as a failed outcome,
+     * so the batch receives exactly one outcome for every file.
+     * @param    File    the file
+     * @return           the outcome
+     */
+    private BatchFileBigDecimal outcome(File file) {
+
+        long start = System.nanoTime();
+
+        try {
+            return this.read(file);
+        } catch(Throwable t) {
+            return new BatchFileBigDecimal(file, FORMAT_UNKNOWN, new ArrayList<PlateBigDecimal>(),
+                    new ArrayList<StackBigDecimal>(), System.nanoTime() - start, new ExecutionException(t));
+        }
+    }
+
+    /**
+     * Detects the file format from the first bytes of the file.
+     * @param    File    the file
+     * @return           the file format
+     * @throws   IOException
+     */
+    private static int format(File file) throws IOException {
+
+        byte[] bytes = new byte[SNIFF_LIMIT];
+        int length = 0;
+
+        InputStream stream = new FileInputStream(file);
+
+        try {
+
+            int read = 0;
+
+            while(length < bytes.length && (read = stream.read(bytes, length, bytes.length - length)) != -1) {
+                length += read;
+            }
+
+        } finally {
+            stream.close();
+        }
+
+        if(length >= 4) {
+
+            int magic = (bytes[0] & 0xFF) << 24 | (bytes[1] & 0xFF) << 16 |
+                        (bytes[2] & 0xFF) << 8 | (bytes[3] & 0xFF);
+
+            if(magic == BinaryWriterBigDecimal.MAGIC) {
+                return FORMAT_BINARY;
+            }
+        }
+
+        int index = 0;
+
+        /* Skips the UTF-8 byte order mark and leading white space */
+
+        if(length >= 3 && (bytes[0] & 0xFF) == 0xEF && (bytes[1] & 0xFF) == 0xBB && (bytes[2] & 0xFF) == 0xBF) {
+            index = 3;
+        }
+
+        while(index < length && Character.isWhitespace(bytes[index])) {
+            index++;
+        }
+
+        if(index < length && bytes[index] == '{') {
+            return FORMAT_JSON;
+        }
+
+        if(index < length && bytes[index] == '<') {
+            return FORMAT_XML;
+        }
+
+        return FORMAT_TEXT;
+    }
+
+    /**
+     * Reads the plates or stacks from a JSON or XML document.
+     * @param    File                 the file
+     * @param    int                  the file format
+     * @param    List<PlateBigDecimal>    the plate output
+     * @param    List<StackBigDecimal>    the stack output
+     * @throws   Exception
+     */
+    private static void readDocument(File file, int format, List<PlateBigDecimal> plates,
+            List<StackBigDecimal> stacks) throws Exception {
+
+        PlateReaderBigDecimal reader = new PlateReaderBigDecimal(file);
+
+        try {
+
+            if(format == FORMAT_JSON) {
+
+                while(reader.hasNextJSONPlate()) {
+                    plates.add(reader.nextJSONPlate());
+                }
+
+                while(reader.hasNextJSONStack()) {
+                    stacks.add(reader.nextJSONStack());
+                }
+
+            } else {
+
+                while(reader.hasNextXMLPlate()) {
+                    plates.add(reader.nextXMLPlate());
+                }
+
+                while(reader.hasNextXMLStack()) {
+                    stacks.add(reader.nextXMLStack());
+                }
+            }
+
+        } finally {
+            reader.close();
+        }
+    }
+
+}
@@ -0,0 +1,480 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/*--------------------------- Package Declaration ----------------------------*/
+
+package com.github.jessemull.microflex.bigdecimalflex.io;
+
+/*------------------------------- Dependencies -------------------------------*/
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.InputMismatchException;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+
+import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.StackBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
+import com.github.jessemull.microflex.plate.WellCoordinate;
+import com.github.jessemull.microflex.plate.WellList;
+
+/**
+ * Reads plates and stacks from a binary file created by the binary writer. The
+ * file is memory mapped and only the header, the plate index and the trailer are
+ * read when the reader is opened. Each plate block is mapped on first access, so
+ * any plate or well of a stack can be fetched without reading the rest of the
+ * file. Wells are located using a binary search of the sorted well index.
+ *
+ * <br><br>
+ *
+ * A file with an unknown magic number, version or value type is rejected with
+ * an input mismatch exception. See the binary writer for the file layout.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class BinaryReaderBigDecimal implements Closeable {
+
+    /*---------------------------- Private Fields ----------------------------*/
+
+    private FileChannel channel;         // The file channel
+    private short version;               // The format version
+    private int rows;                    // Number of plate rows
+    private int columns;                 // Number of plate columns
+    private String label;                // The stack label
+    private long[] offsets;              // Plate block offsets
+    private long index;                  // Offset of the plate index
+    private MappedByteBuffer[] blocks;   // Mapped plate blocks
+    private int[] entries;               // Well index positions of the mapped blocks
+
+    /*----------------------------- Constructors -----------------------------*/
+
+    /**
+     * Opens the binary file and reads the header and the plate index.
+     * @param    File    the file
+     * @throws   IOException
+     */
+    public BinaryReaderBigDecimal(File file) throws IOException {
+
+        Preconditions.checkNotNull(file, "The file cannot be null.");
+
+        RandomAccessFile random = new RandomAccessFile(file, "r");
+        this.channel = random.getChannel();
+
+        try {
+            this.open();
+        } catch(IOException | RuntimeException e) {
+            random.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the binary file and reads the header and the plate index.
+     * @param    String    the file name
+     * @throws   IOException
+     */
+    public BinaryReaderBigDecimal(String fileName) throws IOException {
+        this(new File(fileName));
+    }
+
+    /*---------------------------- Static Methods ----------------------------*/
+
+    /**
+     * Reads every plate in the file into a stack.
+     * @param    File    the file
+     * @return           the stack
+     * @throws   IOException
+     */
+    public static StackBigDecimal read(File file) throws IOException {
+
+        BinaryReaderBigDecimal reader = new BinaryReaderBigDecimal(file);
+
+        try {
+            return reader.stack();
+        } finally {
+            reader.close();
+        }
+    }
+
+    /*---------------------------- Reader Methods ----------------------------*/
+
+    /**
+     * Returns the number of plates in the file.
+     * @return    the number of plates
+     */
+    public int size() {
+        return this.offsets.length;
+    }
+
+    /**
+     * Returns the number of plate rows.
+     * @return    the number of rows
+     */
+    public int rows() {
+        return this.rows;
+    }
+
+    /**
+     * Returns the number of plate columns.
+     * @return    the number of columns
+     */
+    public int columns() {
+        return this.columns;
+    }
+
+    /**
+     * Returns the stack label.
+     * @return    the label
+     */
+    public String label() {
+        return this.label;
+    }
+
+    /**
+     * Returns the format version of the file.
+     * @return    the version
+     */
+    public int version() {
+        return this.version;
+    }
+
+    /**
+     * Returns the label of the plate without reading the wells.
+     * @param    int    the plate index
+     * @return          the plate label
+     * @throws   IOException
+     */
+    public String plateLabel(int plate) throws IOException {
+        ByteBuffer block = this.block(plate);
+        block.position(0);
+        return string(block);
+    }
+
+    /**
+     * Returns the number of wells in the plate without reading the wells.
+     * @param    int    the plate index
+     * @return          the number of wells
+     * @throws   IOException
+     */
+    public int plateSize(int plate) throws IOException {
+        ByteBuffer block = this.block(plate);
+        return block.getInt(this.entries[plate] - 4);
+    }
+
+    /**
+     * Reads the plate.
+     * @param    int    the plate index
+     * @return          the plate
+     * @throws   IOException
+     */
+    public PlateBigDecimal plate(int plate) throws IOException {
+
+        ByteBuffer block = this.block(plate);
+        block.position(0);
+
+        PlateBigDecimal result = new PlateBigDecimal(this.rows, this.columns, string(block));
+
+        block.position(block.position() + 8);
+
+        int groups = block.getInt();
+
+        for(int i = 0; i < groups; i++) {
+
+            WellList list = new WellList(string(block));
+            int size = block.getInt();
+
+            for(int j = 0; j < size; j++) {
+                list.add(block.getInt(), block.getInt());
+            }
+
+            result.addGroups(list);
+        }
+
+        int size = block.getInt();
+        int entries = block.position();
+
+        for(int i = 0; i < size; i++) {
+            result.addWells(well(block, entries + i * BinaryWriterBigDecimal.ENTRY));
+        }
+
+        return result;
+    }
+
+    /**
+     * Reads the well with the given row and column or returns null if the plate
+     * does not contain the well.
+     * @param    int    the plate index
+     * @param    int    the well row
+     * @param    int    the well column
+     * @return          the well or null
+     * @throws   IOException
+     */
+    public WellBigDecimal well(int plate, int row, int column) throws IOException {
+
+        ByteBuffer block = this.block(plate);
+
+        int entries = this.entries[plate];
+        int low = 0;
+        int high = block.getInt(entries - 4) - 1;
+
+        while(low <= high) {
+
+            int middle = (low + high) >>> 1;
+            int entry = entries + middle * BinaryWriterBigDecimal.ENTRY;
+            int comparison = WellCoordinate.compare(block.getInt(entry), block.getInt(entry + 4), row, column);
+
+            if(comparison < 0) {
+                low = middle + 1;
+            } else if(comparison > 0) {
+                high = middle - 1;
+            } else {
+                return well(block, entry);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Reads the well with the given ID or returns null if the plate does not
+     * contain the well.
+     * @param    int       the plate index
+     * @param    String    the well ID
+     * @return             the well or null
+     * @throws   IOException
+     */
+    public WellBigDecimal well(int plate, String wellID) throws IOException {
+        WellCoordinate coordinate = WellCoordinate.parse(wellID);
+        return this.well(plate, coordinate.row(), coordinate.column());
+    }
+
+    /**
+     * Reads every plate in the file into a stack.
+     * @return    the stack
+     * @throws    IOException
+     */
+    public StackBigDecimal stack() throws IOException {
+
+        StackBigDecimal stack = new StackBigDecimal(this.rows, this.columns, this.label);
+
+        for(int i = 0; i < this.offsets.length; i++) {
+            stack.add(this.plate(i));
+        }
+
+        return stack;
+    }
+
+    /**
+     * Closes the file. Mapped plate blocks are released by the garbage collector.
+     * @throws    IOException
+     */
+    public void close() throws IOException {
+        this.blocks = null;
+        this.channel.close();
+    }
+
+    /*---------------------------- Private Methods ---------------------------*/
+
+    /**
+     * Reads and validates the trailer, the header and the plate index.
+     * @throws    IOException
+     */
+    private void open() throws IOException {
+
+        long length = this.channel.size();
+
+        if(length < BinaryWriterBigDecimal.HEADER + BinaryWriterBigDecimal.TRAILER) {
+            throw new InputMismatchException("The file is not a binary plate file.");
+        }
+
+        MappedByteBuffer trailer = this.channel.map(FileChannel.MapMode.READ_ONLY,
+                length - BinaryWriterBigDecimal.TRAILER, BinaryWriterBigDecimal.TRAILER);
+
+        int count = trailer.getInt();
+        this.index = trailer.getLong();
+
+        if(trailer.getInt() != BinaryWriterBigDecimal.MAGIC || count < 0 ||
+           this.index < BinaryWriterBigDecimal.HEADER ||
+           this.index + 8L * count != length - BinaryWriterBigDecimal.TRAILER) {
+            throw new InputMismatchException("The file is not a binary plate file.");
+        }
+
+        MappedByteBuffer header = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, BinaryWriterBigDecimal.HEADER);
+
+        if(header.getInt() != BinaryWriterBigDecimal.MAGIC) {
+            throw new InputMismatchException("The file is not a binary plate file.");
+        }
+
+        this.version = header.getShort();
+
+        if(this.version != BinaryWriterBigDecimal.VERSION) {
+            throw new InputMismatchException("Unsupported binary plate file version: " + this.version + ".");
+        }
+
+        byte type = header.get();
+
+        if(type != BinaryWriterBigDecimal.TYPE) {
+            throw new InputMismatchException("The binary plate file does not contain big decimal values.");
+        }
+
+        header.get();
+
+        this.rows = header.getInt();
+        this.columns = header.getInt();
+
+        int labelLength = header.getInt();
+
+        if(labelLength > this.index - BinaryWriterBigDecimal.HEADER) {
+            throw new InputMismatchException("The file is not a binary plate file.");
+        }
+
+        if(labelLength >= 0) {
+            MappedByteBuffer bytes = this.channel.map(FileChannel.MapMode.READ_ONLY,
+                    BinaryWriterBigDecimal.HEADER, labelLength);
+            byte[] array = new byte[labelLength];
+            bytes.get(array);
+            this.label = new String(array, Charsets.UTF_8);
+        }
+
+        MappedByteBuffer plates = this.channel.map(FileChannel.MapMode.READ_ONLY, this.index, 8L * count);
+
+        this.offsets = new long[count];
+        this.blocks = new MappedByteBuffer[count];
+        this.entries = new int[count];
+
+        for(int i = 0; i < count; i++) {
+            this.offsets[i] = plates.getLong();
+        }
+    }
+
+    /**
+     * Returns the mapped plate block, mapping the block and locating its well
+     * index on first access.
+     * @param    int    the plate index
+     * @return          the plate block
+     * @throws   IOException
+     */
+    private ByteBuffer block(int plate) throws IOException {
+
+        Preconditions.checkElementIndex(plate, this.offsets.length, "The plate index");
+
+        if(this.blocks == null) {
+            throw new IllegalStateException("The binary plate file is closed.");
+        }
+
+        MappedByteBuffer block = this.blocks[plate];
+
+        if(block == null) {
+            long start = this.offsets[plate];
+            long end = plate + 1 < this.offsets.length ? this.offsets[plate + 1] : this.index;
+            block = this.channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            this.entries[plate] = entries(block.duplicate());
+            this.blocks[plate] = block;
+        }
+
+        return block.duplicate();
+    }
+
+    /**
+     * Returns the position of the first well index entry in the block.
+     * @param    ByteBuffer    the plate block
+     * @return                 the position of the well index
+     */
+    private static int entries(ByteBuffer block) {
+
+        block.position(0);
+        skip(block);
+        block.position(block.position() + 8);
+
+        int groups = block.getInt();
+
+        for(int i = 0; i < groups; i++) {
+            skip(block);
+            int size = block.getInt();
+            block.position(block.position() + 8 * size);
+        }
+
+        return block.position() + 4;
+    }
+
+    /**
+     * Reads the well described by the well index entry.
+     * @param    ByteBuffer    the plate block
+     * @param    int           the position of the entry
+     * @return                 the well
+     */
+    private static WellBigDecimal well(ByteBuffer block, int entry) {
+
+        int row = block.getInt(entry);
+        int column = block.getInt(entry + 4);
+        BigDecimal[] values = new BigDecimal[block.getInt(entry + 8)];
+
+        block.position(block.getInt(entry + 12));
+
+        for(int i = 0; i < values.length; i++) {
+            int scale = block.getInt();
+            byte[] bytes = new byte[block.getInt()];
+            block.get(bytes);
+            values[i] = new BigDecimal(new BigInteger(bytes), scale);
+        }
+
+        return new WellBigDecimal(row, column, values);
+    }
+
+    /**
+     * Reads a string stored as a length and UTF-8 bytes.
+     * @param    ByteBuffer    the buffer
+     * @return                 the string or null
+     */
+    private static String string(ByteBuffer buffer) {
+
+        int length = buffer.getInt();
+
+        if(length < 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+
+        return new String(bytes, Charsets.UTF_8);
+    }
+
+    /**
+     * Skips a string stored as a length and UTF-8 bytes.
+     * @param    ByteBuffer    the buffer
+     */
+    private static void skip(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        buffer.position(buffer.position() + Math.max(length, 0));
+    }
+
+}
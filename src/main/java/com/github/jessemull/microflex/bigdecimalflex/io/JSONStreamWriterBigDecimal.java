@@ -0,0 +1,586 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/*--------------------------- Package Declaration ----------------------------*/
+
+package com.github.jessemull.microflex.bigdecimalflex.io;
+
+/*------------------------------- Dependencies -------------------------------*/
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import com.google.common.base.Preconditions;
+
+import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.StackBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
+import com.github.jessemull.microflex.util.CodecUtil;
+
+/**
+ * Writes JSON encoded results, wells, well sets, plates and stacks one element at
+ * a time using the Jackson streaming generator. The plate writer converts the
+ * elements to a tree of JSON objects before the first character is written. The
+ * stream writer writes each element directly to the target as it is passed to a
+ * write method, so no copy of the data is held in memory.
+ *
+ * <br><br>
+ *
+ * The output is identical to the output of the plate writer and can be read by
+ * the plate reader or the JSON stream reader. The first element written opens the
+ * root object and determines the root field name. All following elements must be
+ * of the same type, otherwise an illegal state exception is thrown. The document
+ * is completed by calling finish or close. Finish flushes the completed document
+ * and leaves the target open. Close also closes the target.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class JSONStreamWriterBigDecimal implements Closeable, Flushable {
+
+    /*---------------------------- Private Fields ----------------------------*/
+
+    /* Root field names */
+
+    private static final String RESULTS = "results";
+    private static final String WELLS = "wells";
+    private static final String WELLSETS = "wellsets";
+    private static final String PLATES = "plates";
+    private static final String STACKS = "stacks";
+
+    /* Default result label */
+
+    private static final String RESULT = "Result";
+
+    private JsonGenerator generator;    // The streaming generator
+    private String root;                // Root field name
+    private boolean finished;           // The document is complete
+    private int count;                  // Number of elements written
+
+    /*----------------------------- Constructors -----------------------------*/
+
+    /**
+     * Creates a stream writer for the writer target.
+     * @param    Writer    the target
+     * @throws   IOException
+     */
+    public JSONStreamWriterBigDecimal(Writer target) throws IOException {
+        this.generator = CodecUtil.mapper().getFactory().createGenerator(target);
+        this.generator.useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Creates a stream writer for the output stream target. The output is UTF-8
+     * encoded.
+     * @param    OutputStream    the target
+     * @throws   IOException
+     */
+    public JSONStreamWriterBigDecimal(OutputStream target) throws IOException {
+        this.generator = CodecUtil.mapper().getFactory().createGenerator(target, JsonEncoding.UTF8);
+        this.generator.useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Creates a stream writer for the file.
+     * @param    File    the file
+     * @throws   IOException
+     */
+    public JSONStreamWriterBigDecimal(File target) throws IOException {
+        this(new FileOutputStream(target));
+    }
+
+    /**
+     * Creates a stream writer for the file.
+     * @param    String    the file name
+     * @throws   IOException
+     */
+    public JSONStreamWriterBigDecimal(String fileName) throws IOException {
+        this(new File(fileName));
+    }
+
+    /*---------------------------- Stream Methods ----------------------------*/
+
+    /**
+     * Returns the root field name or null if no element has been written.
+     * @return    the root field name
+     */
+    public String root() {
+        return this.root;
+    }
+
+    /**
+     * Returns the number of elements written.
+     * @return    the number of elements written
+     */
+    public int count() {
+        return this.count;
+    }
+
+    /**
+     * Completes the document and flushes the target. The target remains open.
+     * Calling finish on a completed document has no effect.
+     * @throws    IOException
+     */
+    public void finish() throws IOException {
+
+        if(this.root != null && !this.finished) {
+            this.generator.writeEndArray();
+            this.generator.writeEndObject();
+        }
+
+        this.finished = true;
+        this.generator.flush();
+    }
+
+    /**
+     * Flushes the generator and the target.
+     * @throws    IOException
+     */
+    public void flush() throws IOException {
+        this.generator.flush();
+    }
+
+    /**
+     * Completes the document and closes the generator and the target.
+     * @throws    IOException
+     */
+    public void close() throws IOException {
+        this.finish();
+        this.generator.close();
+    }
+
+    /*--------------------- Methods for JSON Result Output -------------------*/
+
+    /**
+     * Writes the well value pairs using the default result label.
+     * @param    Map<WellBigDecimal, BigDecimal>    the result
+     * @throws   IOException
+     */
+    public void writeResult(Map<WellBigDecimal, BigDecimal> result) throws IOException {
+        this.writeResult(result, RESULT);
+    }
+
+    /**
+     * Writes the well value pairs. The pairs are written in well ID order.
+     * @param    Map<WellBigDecimal, BigDecimal>    the result
+     * @param    String                     the result label
+     * @throws   IOException
+     */
+    public void writeResult(Map<WellBigDecimal, BigDecimal> result, String label) throws IOException {
+
+        Preconditions.checkNotNull(result, "The result cannot be null.");
+
+        this.start(RESULTS);
+
+        Map<String, BigDecimal> sorted = new TreeMap<String, BigDecimal>();
+
+        for(Map.Entry<WellBigDecimal, BigDecimal> entry : result.entrySet()) {
+            sorted.put(entry.getKey().index(), entry.getValue());
+        }
+
+        this.generator.writeStartObject();
+        this.generator.writeStringField("type", "BigDecimal");
+        this.generator.writeStringField("label", label);
+        this.generator.writeNumberField("size", result.size());
+        this.generator.writeObjectFieldStart("wells");
+
+        for(Map.Entry<String, BigDecimal> entry : sorted.entrySet()) {
+            this.generator.writeFieldName(entry.getKey());
+            this.writeNumber(entry.getValue());
+        }
+
+        this.generator.writeEndObject();
+        this.generator.writeEndObject();
+
+        this.count++;
+    }
+
+    /**
+     * Writes each result using the default result label.
+     * @param    Collection<Map<WellBigDecimal, BigDecimal>>    the results
+     * @throws   IOException
+     */
+    public void writeResults(Collection<Map<WellBigDecimal, BigDecimal>> results) throws IOException {
+
+        Preconditions.checkNotNull(results, "The result collection cannot be null.");
+
+        this.start(RESULTS);
+
+        for(Map<WellBigDecimal, BigDecimal> result : results) {
+            this.writeResult(result, RESULT);
+        }
+    }
+
+    /**
+     * Writes each result using the label at the same index.
+     * @param    Collection<Map<WellBigDecimal, BigDecimal>>    the results
+     * @param    List<String>                           the result labels
+     * @throws   IOException
+     */
+    public void writeResults(Collection<Map<WellBigDecimal, BigDecimal>> results,
+            List<String> labels) throws IOException {
+
+        Preconditions.checkNotNull(results, "The result collection cannot be null.");
+        Preconditions.checkNotNull(labels, "The label list cannot be null.");
+
+        this.start(RESULTS);
+
+        int index = 0;
+
+        for(Map<WellBigDecimal, BigDecimal> result : results) {
+            this.writeResult(result, labels.get(index++));
+        }
+    }
+
+    /*---------------------- Methods for JSON Well Output --------------------*/
+
+    /**
+     * Writes the well.
+     * @param    WellBigDecimal    the well
+     * @throws   IOException
+     */
+    public void writeWell(WellBigDecimal well) throws IOException {
+
+        Preconditions.checkNotNull(well, "The well cannot be null.");
+
+        this.start(WELLS);
+
+        this.generator.writeStartObject();
+        this.generator.writeStringField("type", well.typeString());
+        this.generator.writeStringField("index", well.index());
+        this.generator.writeNumberField("size", well.size());
+        this.writeValues(well);
+        this.generator.writeEndObject();
+
+        this.count++;
+    }
+
+    /**
+     * Writes each well in the collection.
+     * @param    Collection<WellBigDecimal>    the wells
+     * @throws   IOException
+     */
+    public void writeWells(Collection<WellBigDecimal> wells) throws IOException {
+
+        Preconditions.checkNotNull(wells, "The well collection cannot be null.");
+
+        this.start(WELLS);
+
+        for(WellBigDecimal well : wells) {
+            this.writeWell(well);
+        }
+    }
+
+    /**
+     * Writes each well in the array.
+     * @param    WellBigDecimal[]    the wells
+     * @throws   IOException
+     */
+    public void writeWells(WellBigDecimal[] wells) throws IOException {
+        Preconditions.checkNotNull(wells, "The well array cannot be null.");
+        this.writeWells(Arrays.asList(wells));
+    }
+
+    /*----------------------- Methods for JSON Set Output --------------------*/
+
+    /**
+     * Writes the well set.
+     * @param    WellSetBigDecimal    the well set
+     * @throws   IOException
+     */
+    public void writeSet(WellSetBigDecimal set) throws IOException {
+
+        Preconditions.checkNotNull(set, "The well set cannot be null.");
+
+        this.start(WELLSETS);
+
+        this.generator.writeStartObject();
+        this.generator.writeStringField("type", "BigDecimal");
+        this.generator.writeStringField("label", set.label());
+        this.generator.writeNumberField("size", set.size());
+        this.generator.writeArrayFieldStart("wells");
+
+        for(WellBigDecimal well : set) {
+            this.writeSimpleWell(well);
+        }
+
+        this.generator.writeEndArray();
+        this.generator.writeEndObject();
+
+        this.count++;
+    }
+
+    /**
+     * Writes each well set in the collection.
+     * @param    Collection<WellSetBigDecimal>    the well sets
+     * @throws   IOException
+     */
+    public void writeSets(Collection<WellSetBigDecimal> sets) throws IOException {
+
+        Preconditions.checkNotNull(sets, "The well set collection cannot be null.");
+
+        this.start(WELLSETS);
+
+        for(WellSetBigDecimal set : sets) {
+            this.writeSet(set);
+        }
+    }
+
+    /**
+     * Writes each well set in the array.
+     * @param    WellSetBigDecimal[]    the well sets
+     * @throws   IOException
+     */
+    public void writeSets(WellSetBigDecimal[] sets) throws IOException {
+        Preconditions.checkNotNull(sets, "The well set array cannot be null.");
+        this.writeSets(Arrays.asList(sets));
+    }
+
+    /*---------------------- Methods for JSON Plate Output -------------------*/
+
+    /**
+     * Writes the plate.
+     * @param    PlateBigDecimal    the plate
+     * @throws   IOException
+     */
+    public void writePlate(PlateBigDecimal plate) throws IOException {
+
+        Preconditions.checkNotNull(plate, "The plate cannot be null.");
+
+        this.start(PLATES);
+        this.writePlateObject(plate);
+
+        this.count++;
+    }
+
+    /**
+     * Writes each plate in the collection.
+     * @param    Collection<PlateBigDecimal>    the plates
+     * @throws   IOException
+     */
+    public void writePlates(Collection<PlateBigDecimal> plates) throws IOException {
+
+        Preconditions.checkNotNull(plates, "The plate collection cannot be null.");
+
+        this.start(PLATES);
+
+        for(PlateBigDecimal plate : plates) {
+            this.writePlate(plate);
+        }
+    }
+
+    /**
+     * Writes each plate in the array.
+     * @param    PlateBigDecimal[]    the plates
+     * @throws   IOException
+     */
+    public void writePlates(PlateBigDecimal[] plates) throws IOException {
+        Preconditions.checkNotNull(plates, "The plate array cannot be null.");
+        this.writePlates(Arrays.asList(plates));
+    }
+
+    /*---------------------- Methods for JSON Stack Output -------------------*/
+
+    /**
+     * Writes the stack. Each plate is written as it is reached by the stack
+     * iterator.
+     * @param    StackBigDecimal    the stack
+     * @throws   IOException
+     */
+    public void writeStack(StackBigDecimal stack) throws IOException {
+
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+
+        this.start(STACKS);
+
+        this.generator.writeStartObject();
+        this.generator.writeStringField("type", "BigDecimal");
+        this.generator.writeStringField("label", stack.label());
+        this.generator.writeNumberField("rows", stack.rows());
+        this.generator.writeNumberField("columns", stack.columns());
+        this.generator.writeNumberField("size", stack.size());
+        this.generator.writeArrayFieldStart("plates");
+
+        for(PlateBigDecimal plate : stack) {
+            this.writePlateObject(plate);
+        }
+
+        this.generator.writeEndArray();
+        this.generator.writeEndObject();
+
+        this.count++;
+    }
+
+    /**
+     * Writes each stack in the collection.
+     * @param    Collection<StackBigDecimal>    the stacks
+     * @throws   IOException
+     */
+    public void writeStacks(Collection<StackBigDecimal> stacks) throws IOException {
+
+        Preconditions.checkNotNull(stacks, "The stack collection cannot be null.");
+
+        this.start(STACKS);
+
+        for(StackBigDecimal stack : stacks) {
+            this.writeStack(stack);
+        }
+    }
+
+    /**
+     * Writes each stack in the array.
+     * @param    StackBigDecimal[]    the stacks
+     * @throws   IOException
+     */
+    public void writeStacks(StackBigDecimal[] stacks) throws IOException {
+        Preconditions.checkNotNull(stacks, "The stack array cannot be null.");
+        this.writeStacks(Arrays.asList(stacks));
+    }
+
+    /*---------------------------- Private Methods ---------------------------*/
+
+    /**
+     * Opens the root object and array on the first call. Later calls check that
+     * the element type matches the root field.
+     * @param    String    the root field name
+     * @throws   IOException
+     */
+    private void start(String field) throws IOException {
+
+        if(this.finished) {
+            throw new IllegalStateException("The JSON document is complete.");
+        }
+
+        if(this.root == null) {
+            this.generator.writeStartObject();
+            this.generator.writeArrayFieldStart(field);
+            this.root = field;
+            return;
+        }
+
+        if(!this.root.equals(field)) {
+            throw new IllegalStateException("Cannot write " + field +
+                    " to a document holding " + this.root + ".");
+        }
+    }
+
+    /**
+     * Writes a plate object, including the well sets and wells.
+     * @param    PlateBigDecimal    the plate
+     * @throws   IOException
+     */
+    private void writePlateObject(PlateBigDecimal plate) throws IOException {
+
+        this.generator.writeStartObject();
+        this.generator.writeStringField("type", "BigDecimal");
+        this.generator.writeStringField("label", plate.label());
+        this.generator.writeStringField("descriptor", plate.descriptor());
+        this.generator.writeNumberField("rows", plate.rows());
+        this.generator.writeNumberField("columns", plate.columns());
+        this.generator.writeNumberField("size", plate.size());
+        this.generator.writeArrayFieldStart("wellsets");
+
+        Set<WellSetBigDecimal> groups = plate.allGroups();
+
+        for(WellSetBigDecimal set : groups) {
+
+            this.generator.writeStartObject();
+            this.generator.writeStringField("label", set.label());
+            this.generator.writeNumberField("size", set.size());
+            this.generator.writeArrayFieldStart("wells");
+
+            for(WellBigDecimal well : set) {
+                this.generator.writeString(well.index());
+            }
+
+            this.generator.writeEndArray();
+            this.generator.writeEndObject();
+        }
+
+        this.generator.writeEndArray();
+        this.generator.writeArrayFieldStart("wells");
+
+        for(WellBigDecimal well : plate) {
+            this.writeSimpleWell(well);
+        }
+
+        this.generator.writeEndArray();
+        this.generator.writeEndObject();
+    }
+
+    /**
+     * Writes the index and values of a well.
+     * @param    WellBigDecimal    the well
+     * @throws   IOException
+     */
+    private void writeSimpleWell(WellBigDecimal well) throws IOException {
+        this.generator.writeStartObject();
+        this.generator.writeStringField("index", well.index());
+        this.writeValues(well);
+        this.generator.writeEndObject();
+    }
+
+    /**
+     * Writes the values field of a well.
+     * @param    WellBigDecimal    the well
+     * @throws   IOException
+     */
+    private void writeValues(WellBigDecimal well) throws IOException {
+
+        this.generator.writeArrayFieldStart("values");
+
+        for(BigDecimal value : well.data()) {
+            this.generator.writeNumber(value);
+        }
+
+        this.generator.writeEndArray();
+    }
+
+    /**
+     * Writes a number or null.
+     * @param    BigDecimal    the number
+     * @throws   IOException
+     */
+    private void writeNumber(BigDecimal number) throws IOException {
+        if(number == null) {
+            this.generator.writeNull();
+        } else {
+            this.generator.writeNumber(number);
+        }
+    }
+
+}
@@ -0,0 +1,409 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/*--------------------------- Package Declaration ----------------------------*/
+
+package com.github.jessemull.microflex.bigdecimalflex.io;
+
+/*------------------------------- Dependencies -------------------------------*/
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.InputMismatchException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+
+import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.StackBigDecimal;
+import com.github.jessemull.microflex.util.ParallelUtil;
+
+/**
+ * Reads files containing many delimited plate maps in parallel. The plate reader
+ * parses plate maps one at a time on the calling thread. This reader memory maps
+ * the file, splits the input into plate map chunks at the blank lines separating
+ * the maps and parses the chunks on the workers of a fork join pool. The plate
+ * maps are returned in file order regardless of the order in which the chunks
+ * are parsed.
+ *
+ * <br><br>
+ *
+ * Each chunk is parsed by a plate reader, so the plate map format and the
+ * resulting plates are identical to those produced by the plate reader next map
+ * method. Unlike the plate reader, a chunk that is not a valid plate map is not
+ * skipped and an input mismatch exception identifying the first line of the
+ * chunk is thrown. The shared default pool is used unless another pool is set.
+ * A null pool parses the chunks sequentially.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class PlateMapReaderBigDecimal {
+
+    /*---------------------------- Private Fields ----------------------------*/
+
+    private ForkJoinPool pool = ParallelUtil.defaultPool();    // Pool for parallel parsing or null
+    private String delimiter = "\t";                           // The delimiter
+    private Charset charset = Charsets.UTF_8;                  // The file character set
+
+    /*----------------------------- Constructors -----------------------------*/
+
+    /**
+     * Creates a plate map reader using the tab delimiter and UTF-8 encoding.
+     */
+    public PlateMapReaderBigDecimal() {}
+
+    /**
+     * Creates a plate map reader using the delimiter and UTF-8 encoding.
+     * @param    String    the delimiter
+     */
+    public PlateMapReaderBigDecimal(String delimiter) {
+        this.setDelimiter(delimiter);
+    }
+
+    /**
+     * Creates a plate map reader using the delimiter and character set.
+     * @param    String     the delimiter
+     * @param    Charset    the character set
+     */
+    public PlateMapReaderBigDecimal(String delimiter, Charset charset) {
+        this.setDelimiter(delimiter);
+        this.setCharset(charset);
+    }
+
+    /*-------------------------- Parallel Execution --------------------------*/
+
+    /**
+     * Sets the fork join pool used to parse the plate maps in parallel. A null
+     * pool restores sequential parsing.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the fork join pool used for parallel parsing or null if the plate
+     * maps are parsed sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+
+    /**
+     * Enables parallel parsing using the shared default pool or restores
+     * sequential parsing.
+     * @param    boolean    true for parallel parsing
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
+
+    /**
+     * Returns true if the plate maps are parsed in parallel.
+     * @return    true if parallel parsing is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+
+    /*---------------------------- Reader Settings ---------------------------*/
+
+    /**
+     * Sets the delimiter.
+     * @param    String    the delimiter
+     */
+    public void setDelimiter(String delimiter) {
+        Preconditions.checkNotNull(delimiter, "The delimiter cannot be null.");
+        Preconditions.checkArgument(!delimiter.isEmpty(), "Invalid delimiter.");
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Returns the delimiter.
+     * @return    the delimiter
+     */
+    public String getDelimiter() {
+        return this.delimiter;
+    }
+
+    /**
+     * Sets the character set used to decode files.
+     * @param    Charset    the character set
+     */
+    public void setCharset(Charset charset) {
+        Preconditions.checkNotNull(charset, "The character set cannot be null.");
+        this.charset = charset;
+    }
+
+    /**
+     * Returns the character set used to decode files.
+     * @return    the character set
+     */
+    public Charset getCharset() {
+        return this.charset;
+    }
+
+    /*---------------------------- Reader Methods ----------------------------*/
+
+    /**
+     * Reads every plate map in the file and returns the plates in file order.
+     * @param    File    the file
+     * @return           the plates
+     * @throws   IOException
+     */
+    public List<PlateBigDecimal> readMaps(File file) throws IOException {
+        return this.parseMaps(this.decode(file));
+    }
+
+    /**
+     * Reads every plate map in the file and returns the plates in file order.
+     * @param    String    the file name
+     * @return             the plates
+     * @throws   IOException
+     */
+    public List<PlateBigDecimal> readMaps(String fileName) throws IOException {
+        Preconditions.checkNotNull(fileName, "The file name cannot be null.");
+        return this.readMaps(new File(fileName));
+    }
+
+    /**
+     * Reads every plate map in the file into a stack. The stack dimensions are
+     * the dimensions of the first plate map. The order of the plates in the
+     * stack is determined by the stack.
+     * @param    File      the file
+     * @param    String    the stack label
+     * @return             the stack
+     * @throws   IOException
+     */
+    public StackBigDecimal readStack(File file, String label) throws IOException {
+        return stack(this.readMaps(file), label);
+    }
+
+    /**
+     * Reads every plate map in the file into a stack. The stack dimensions are
+     * the dimensions of the first plate map. The order of the plates in the
+     * stack is determined by the stack.
+     * @param    String    the file name
+     * @param    String    the stack label
+     * @return             the stack
+     * @throws   IOException
+     */
+    public StackBigDecimal readStack(String fileName, String label) throws IOException {
+        return stack(this.readMaps(fileName), label);
+    }
+
+    /**
+     * Parses every plate map in the input and returns the plates in input order.
+     * @param    CharSequence    the input
+     * @return                   the plates
+     */
+    public List<PlateBigDecimal> parseMaps(CharSequence input) {
+
+        Preconditions.checkNotNull(input, "The input cannot be null.");
+
+        final String delim = this.delimiter;
+
+        return ParallelUtil.map(this.pool, chunks(input), new ParallelUtil.Task<Chunk, PlateBigDecimal>() {
+            public PlateBigDecimal apply(Chunk chunk) {
+                return chunk.parse(delim);
+            }
+        });
+    }
+
+    /*---------------------------- Private Methods ---------------------------*/
+
+    /**
+     * Memory maps and decodes the file.
+     * @param    File    the file
+     * @return           the decoded characters
+     * @throws   IOException
+     */
+    private CharBuffer decode(File file) throws IOException {
+
+        Preconditions.checkNotNull(file, "The file cannot be null.");
+
+        RandomAccessFile random = new RandomAccessFile(file, "r");
+
+        try {
+
+            FileChannel channel = random.getChannel();
+
+            Preconditions.checkArgument(channel.size() <= Integer.MAX_VALUE,
+                    "The file is too large to map.");
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            return this.charset.decode(buffer);
+
+        } finally {
+            random.close();
+        }
+    }
+
+    /**
+     * Splits the input into chunks of consecutive non-blank lines.
+     * @param    CharSequence    the input
+     * @return                   the chunks in input order
+     */
+    private static List<Chunk> chunks(CharSequence input) {
+
+        List<Chunk> chunks = new ArrayList<Chunk>();
+
+        int length = input.length();
+        int start = -1;
+        int startLine = 0;
+        int line = 1;
+        int index = 0;
+
+        while(index < length) {
+
+            /* Finds the end of the line and checks for a blank line */
+
+            int end = index;
+            boolean blank = true;
+
+            while(end < length && input.charAt(end) != '\n' && input.charAt(end) != '\r') {
+                blank &= Character.isWhitespace(input.charAt(end));
+                end++;
+            }
+
+            if(blank) {
+
+                if(start >= 0) {
+                    chunks.add(new Chunk(input.subSequence(start, index).toString(), startLine));
+                    start = -1;
+                }
+
+            } else if(start < 0) {
+                start = index;
+                startLine = line;
+            }
+
+            /* Moves past the line terminator */
+
+            if(end < length && input.charAt(end) == '\r') {
+                end++;
+            }
+
+            if(end < length && input.charAt(end) == '\n') {
+                end++;
+            }
+
+            index = end;
+            line++;
+        }
+
+        if(start >= 0) {
+            chunks.add(new Chunk(input.subSequence(start, length).toString(), startLine));
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Adds the plates to a new stack.
+     * @param    List<PlateBigDecimal>    the plates
+     * @param    String               the stack label
+     * @return                        the stack
+     */
+    private static StackBigDecimal stack(List<PlateBigDecimal> plates, String label) {
+
+        if(plates.isEmpty()) {
+            throw new InputMismatchException("The input does not contain a plate map.");
+        }
+
+        PlateBigDecimal first = plates.get(0);
+        StackBigDecimal stack = new StackBigDecimal(first.rows(), first.columns(), label);
+
+        for(PlateBigDecimal plate : plates) {
+            stack.add(plate);
+        }
+
+        return stack;
+    }
+
+    /*---------------------------- Private Classes ---------------------------*/
+
+    /**
+     * A single plate map and the line number of its label.
+     */
+    private static class Chunk {
+
+        private final String text;    // The plate map
+        private final int line;       // The line number of the label
+
+        /**
+         * Creates a chunk.
+         * @param    String    the plate map
+         * @param    int       the line number of the label
+         */
+        Chunk(String text, int line) {
+            this.text = text;
+            this.line = line;
+        }
+
+        /**
+         * Parses the plate map.
+         * @param    String    the delimiter
+         * @return             the plate
+         */
+        PlateBigDecimal parse(String delimiter) {
+
+            /* The plate reader expects a blank line or another map after the last row */
+
+            PlateReaderBigDecimal reader = new PlateReaderBigDecimal(new StringReader(this.text + "\n"));
+
+            try {
+
+                reader.setDelimiter(delimiter);
+
+                PlateBigDecimal plate = reader.hasNextMap() ? reader.nextMap() : null;
+
+                if(plate == null) {
+                    throw new InputMismatchException("Invalid plate map at line " + this.line + ".");
+                }
+
+                return plate;
+
+            } finally {
+
+                try {
+                    reader.close();
+                } catch(IOException e) {
+                    e.printStackTrace();
+                }
+
+            }
+        }
+    }
+
+}
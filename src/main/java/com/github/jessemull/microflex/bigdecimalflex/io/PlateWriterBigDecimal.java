@@ -37,19 +37,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.TransformerException;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.StackBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
+import com.github.jessemull.microflex.util.CodecUtil;
 
 /**
  * Formats and writes stacks, plates, well sets and wells to an output stream or 
@@ -1132,8 +1131,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   IOException
      */
     public void resultToJSON(Map<WellBigDecimal, BigDecimal> data) throws IOException {  
-          ObjectMapper mapper = new ObjectMapper();
-          mapper.writerWithDefaultPrettyPrinter().writeValue(this, new ResultListPOJOBigDecimal(data));
+        JSONStreamWriterBigDecimal stream = new JSONStreamWriterBigDecimal(this);
+        stream.writeResult(data);
+        stream.close();
     }
     
     /**
@@ -1143,8 +1143,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String resultToJSONAsString(Map<WellBigDecimal, BigDecimal> data) throws JsonProcessingException {  
-          ObjectMapper mapper = new ObjectMapper();
-          return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new ResultListPOJOBigDecimal(data));
+          return CodecUtil.writer().writeValueAsString(new ResultListPOJOBigDecimal(data));
     }
      
     /**
@@ -1153,8 +1152,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   IOException
      */
     public void resultToJSON(List<Map<WellBigDecimal, BigDecimal>> data) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new ResultListPOJOBigDecimal(data));
+        JSONStreamWriterBigDecimal stream = new JSONStreamWriterBigDecimal(this);
+        stream.writeResults(data);
+        stream.close();
     }
     
     /**
@@ -1164,8 +1164,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String resultToJSONAsString(List<Map<WellBigDecimal, BigDecimal>> data) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new ResultListPOJOBigDecimal(data));
+        return CodecUtil.writer().writeValueAsString(new ResultListPOJOBigDecimal(data));
     }
     
     /**
@@ -1175,8 +1174,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   IOException
      */
     public void resultToJSON(Map<WellBigDecimal, BigDecimal> data, String label) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new ResultListPOJOBigDecimal(data, label));
+        JSONStreamWriterBigDecimal stream = new JSONStreamWriterBigDecimal(this);
+        stream.writeResult(data, label);
+        stream.close();
     }
     
     /**
@@ -1186,8 +1186,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @return                                      the JSON formatted result
      */
     public String resultToJSONAsString(Map<WellBigDecimal, BigDecimal> data, String label) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new ResultListPOJOBigDecimal(data, label));
+    	return CodecUtil.writer().writeValueAsString(new ResultListPOJOBigDecimal(data, label));
     }
     
     /**
@@ -1198,8 +1197,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   IOException
      */
     public void resultToJSON(List<Map<WellBigDecimal, BigDecimal>> data, List<String> labels) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new ResultListPOJOBigDecimal(data, labels));
+        JSONStreamWriterBigDecimal stream = new JSONStreamWriterBigDecimal(this);
+        stream.writeResults(data, labels);
+        stream.close();
     }
     
     /**
@@ -1211,8 +1211,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String resultToJSONAsString(List<Map<WellBigDecimal, BigDecimal>> data, List<String> labels) throws JsonProcessingException {
-    	ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new ResultListPOJOBigDecimal(data, labels));
+    	return CodecUtil.writer().writeValueAsString(new ResultListPOJOBigDecimal(data, labels));
     }
     
     /*--------------------- Methods for Well JSON Output ---------------------*/
@@ -1223,8 +1222,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   IOException 
      */
     public void wellToJSON(WellBigDecimal well) throws IOException {   	
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellListPOJOBigDecimal(well));
+        JSONStreamWriterBigDecimal stream = new JSONStreamWriterBigDecimal(this);
+        stream.writeWell(well);
+        stream.close();
     }
     
     /**
@@ -1234,8 +1234,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws  JsonProcessingException 
      */
     public String wellToJSONAsString(WellBigDecimal well) throws JsonProcessingException {   	
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellListPOJOBigDecimal(well));
+        return CodecUtil.writer().writeValueAsString(new WellListPOJOBigDecimal(well));
     }
     
     /**
@@ -1244,8 +1243,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   IOException 
      */
     public void wellToJSON(Collection<WellBigDecimal> collection) throws IOException {     
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellListPOJOBigDecimal(collection));
+        JSONStreamWriterBigDecimal stream = new JSONStreamWriterBigDecimal(this);
+        stream.writeWells(collection);
+        stream.close();
     }
     
     /**
@@ -1255,8 +1255,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String wellToJSONAsString(Collection<WellBigDecimal> collection) throws JsonProcessingException {     
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellListPOJOBigDecimal(collection));
+        return CodecUtil.writer().writeValueAsString(new WellListPOJOBigDecimal(collection));
     }
     
     /**
@@ -1265,8 +1264,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   IOException 
      */
     public void wellToJSON(WellBigDecimal[] array) throws   IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellListPOJOBigDecimal(array));
+        JSONStreamWriterBigDecimal stream = new JSONStreamWriterBigDecimal(this);
+        stream.writeWells(array);
+        stream.close();
     }
     
     /**
@@ -1276,8 +1276,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String wellToJSONAsString(WellBigDecimal[] array) throws   JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellListPOJOBigDecimal(array));
+        return CodecUtil.writer().writeValueAsString(new WellListPOJOBigDecimal(array));
     }
     
     /*------------------- Methods for Well Set JSON Output -------------------*/
@@ -1288,8 +1287,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   IOException 
      */
     public void setToJSON(WellSetBigDecimal set) throws   IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellSetListPOJOBigDecimal(set));
+        JSONStreamWriterBigDecimal stream = new JSONStreamWriterBigDecimal(this);
+        stream.writeSet(set);
+        stream.close();
     }
     
     /**
@@ -1299,8 +1299,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String setToJSONAsString(WellSetBigDecimal set) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellSetListPOJOBigDecimal(set));
+        return CodecUtil.writer().writeValueAsString(new WellSetListPOJOBigDecimal(set));
     }
     
     /**
@@ -1309,8 +1308,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   IOException 
      */
     public void setToJSON(Collection<WellSetBigDecimal> collection) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellSetListPOJOBigDecimal(collection));
+        JSONStreamWriterBigDecimal stream = new JSONStreamWriterBigDecimal(this);
+        stream.writeSets(collection);
+        stream.close();
     }
     
     /**
@@ -1320,8 +1320,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   JsonProcessingException 
      */ 
     public String setToJSONAsString(Collection<WellSetBigDecimal> collection) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellSetListPOJOBigDecimal(collection));
+        return CodecUtil.writer().writeValueAsString(new WellSetListPOJOBigDecimal(collection));
     }
     
     /**
@@ -1330,8 +1329,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   IOException 
      */
     public void setToJSON(WellSetBigDecimal[] array) throws   IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellSetListPOJOBigDecimal(array));
+        JSONStreamWriterBigDecimal stream = new JSONStreamWriterBigDecimal(this);
+        stream.writeSets(array);
+        stream.close();
     }
     
     /**
@@ -1341,8 +1341,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   JsonProcessingException  
      */
     public String setToJSONAsString(WellSetBigDecimal[] array) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper(); 
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellSetListPOJOBigDecimal(array));
+        return CodecUtil.writer().writeValueAsString(new WellSetListPOJOBigDecimal(array));
     }
     
     /*-------------------- Methods for Plate JSON Output ---------------------*/
@@ -1353,8 +1352,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   IOException 
      */
     public void plateToJSON(PlateBigDecimal plate) throws IOException {    
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new PlateListPOJOBigDecimal(plate));
+        JSONStreamWriterBigDecimal stream = new JSONStreamWriterBigDecimal(this);
+        stream.writePlate(plate);
+        stream.close();
     }
     
     /**
@@ -1364,8 +1364,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String plateToJSONAsString(PlateBigDecimal plate) throws JsonProcessingException {    
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new PlateListPOJOBigDecimal(plate));
+        return CodecUtil.writer().writeValueAsString(new PlateListPOJOBigDecimal(plate));
     } 
     
     /**
@@ -1374,8 +1373,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   IOException 
      */
     public void plateToJSON(Collection<PlateBigDecimal> collection) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new PlateListPOJOBigDecimal(collection));
+        JSONStreamWriterBigDecimal stream = new JSONStreamWriterBigDecimal(this);
+        stream.writePlates(collection);
+        stream.close();
     }
     
     /**
@@ -1385,8 +1385,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String plateToJSONAsString(Collection<PlateBigDecimal> collection) throws JsonProcessingException {
-    	ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new PlateListPOJOBigDecimal(collection));
+    	return CodecUtil.writer().writeValueAsString(new PlateListPOJOBigDecimal(collection));
     }
      
     /**
@@ -1395,8 +1394,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws IOException 
      */
     public void plateToJSON(PlateBigDecimal[] array) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new PlateListPOJOBigDecimal(array));
+        JSONStreamWriterBigDecimal stream = new JSONStreamWriterBigDecimal(this);
+        stream.writePlates(array);
+        stream.close();
     }
     
     /**
@@ -1405,8 +1405,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String plateToJSONAsString(PlateBigDecimal[] array) throws JsonProcessingException {
-    	ObjectMapper mapper = new ObjectMapper(); 
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new PlateListPOJOBigDecimal(array));
+    	return CodecUtil.writer().writeValueAsString(new PlateListPOJOBigDecimal(array));
     }
     
     /*-------------------- Methods for Stack JSON Output ---------------------*/
@@ -1417,8 +1416,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   IOException 
      */
     public void stackToJSON(StackBigDecimal stack) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new StackListPOJOBigDecimal(stack));
+        JSONStreamWriterBigDecimal stream = new JSONStreamWriterBigDecimal(this);
+        stream.writeStack(stack);
+        stream.close();
     }
     
     /**
@@ -1428,8 +1428,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String stackToJSONAsString(StackBigDecimal stack) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new StackListPOJOBigDecimal(stack));
+        return CodecUtil.writer().writeValueAsString(new StackListPOJOBigDecimal(stack));
     }
     
     /**
@@ -1438,8 +1437,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   IOException 
      */
     public void stackToJSON(Collection<StackBigDecimal> collection) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new StackListPOJOBigDecimal(collection));
+        JSONStreamWriterBigDecimal stream = new JSONStreamWriterBigDecimal(this);
+        stream.writeStacks(collection);
+        stream.close();
     }
     
     /**
@@ -1449,8 +1449,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String stackToJSONAsString(Collection<StackBigDecimal> collection) throws JsonProcessingException {
-    	ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new StackListPOJOBigDecimal(collection));
+    	return CodecUtil.writer().writeValueAsString(new StackListPOJOBigDecimal(collection));
     }
     
     /**
@@ -1459,8 +1458,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws IOException 
      */
     public void stackToJSON(StackBigDecimal[] array) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new StackListPOJOBigDecimal(array));
+        JSONStreamWriterBigDecimal stream = new JSONStreamWriterBigDecimal(this);
+        stream.writeStacks(array);
+        stream.close();
     }
     
     /**
@@ -1470,8 +1470,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String stackToJSONAsString(StackBigDecimal[] array) throws JsonProcessingException {
-    	ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new StackListPOJOBigDecimal(array));
+    	return CodecUtil.writer().writeValueAsString(new StackListPOJOBigDecimal(array));
     } 
     
     /*-------------------- Methods for Result XML Output --------------------*/
@@ -1485,8 +1484,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      */
     public void resultToXML(Map<WellBigDecimal, BigDecimal> map) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	ResultListXMLBigDecimal resultList = new ResultListXMLBigDecimal(map);
-    	this.printXMLResult(resultList);
+        XMLStreamWriterBigDecimal stream = new XMLStreamWriterBigDecimal(this);
+        stream.writeResult(map);
+        stream.finish();
     }
     
     /**
@@ -1509,8 +1509,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      */
     public void resultToXML(Map<WellBigDecimal, BigDecimal> map, String label) 
     		throws IOException, ParserConfigurationException, TransformerException {
-    	ResultListXMLBigDecimal resultList = new ResultListXMLBigDecimal(map, label);
-    	this.printXMLResult(resultList);
+        XMLStreamWriterBigDecimal stream = new XMLStreamWriterBigDecimal(this);
+        stream.writeResult(map, label);
+        stream.finish();
     }
     
     /**
@@ -1533,8 +1534,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      */
     public void resultToXML(Collection<Map<WellBigDecimal, BigDecimal>> collection) 
     		throws IOException, TransformerException, ParserConfigurationException {
-    	ResultListXMLBigDecimal resultList = new ResultListXMLBigDecimal(collection);
-    	this.printXMLResult(resultList);
+        XMLStreamWriterBigDecimal stream = new XMLStreamWriterBigDecimal(this);
+        stream.writeResults(collection);
+        stream.finish();
     }
     
     /**
@@ -1557,8 +1559,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      */
     public void resultToXML(Collection<Map<WellBigDecimal, BigDecimal>> collection, List<String> labels) 
     		throws IOException, TransformerException, ParserConfigurationException {
-    	ResultListXMLBigDecimal resultList = new ResultListXMLBigDecimal(collection, labels);
-    	this.printXMLResult(resultList);
+        XMLStreamWriterBigDecimal stream = new XMLStreamWriterBigDecimal(this);
+        stream.writeResults(collection, labels);
+        stream.finish();
     }
     
     /**
@@ -1581,9 +1584,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
     	
     	try {
 
-    		JAXBContext context = JAXBContext.newInstance(ResultListXMLBigDecimal.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(ResultListXMLBigDecimal.class);
 
 			marshaller.marshal(resultList, this);
 			
@@ -1603,9 +1604,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
     	try {
 
     		StringWriter writer = new StringWriter();
-    		JAXBContext context = JAXBContext.newInstance(ResultListXMLBigDecimal.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(ResultListXMLBigDecimal.class);
 
 			marshaller.marshal(resultList, writer);
 			
@@ -1629,8 +1628,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      */
     public void wellToXML(WellBigDecimal well) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	WellListXMLBigDecimal wellList = new WellListXMLBigDecimal(well);
-    	this.printXMLWell(wellList);
+        XMLStreamWriterBigDecimal stream = new XMLStreamWriterBigDecimal(this);
+        stream.writeWell(well);
+        stream.finish();
     }
     
     /**
@@ -1652,8 +1652,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      */
     public void wellToXML(Collection<WellBigDecimal> collection) throws IOException, 
     		TransformerException, ParserConfigurationException {
-    	WellListXMLBigDecimal wellList = new WellListXMLBigDecimal(collection);
-    	this.printXMLWell(wellList);
+        XMLStreamWriterBigDecimal stream = new XMLStreamWriterBigDecimal(this);
+        stream.writeWells(collection);
+        stream.finish();
     }
     
     /**
@@ -1676,8 +1677,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      */
     public void wellToXML(WellBigDecimal[] array) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	WellListXMLBigDecimal wellList = new WellListXMLBigDecimal(array);
-    	this.printXMLWell(wellList);
+        XMLStreamWriterBigDecimal stream = new XMLStreamWriterBigDecimal(this);
+        stream.writeWells(array);
+        stream.finish();
     }
     
     /**
@@ -1700,9 +1702,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
         
     	try {
 
-    		JAXBContext context = JAXBContext.newInstance(WellListXMLBigDecimal.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(WellListXMLBigDecimal.class);
 
 			marshaller.marshal(wellList, this);
 			
@@ -1722,9 +1722,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
     	try {
 
     		StringWriter writer = new StringWriter();
-    		JAXBContext context = JAXBContext.newInstance(WellListXMLBigDecimal.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(WellListXMLBigDecimal.class);
 
 			marshaller.marshal(wellList, writer);
 			
@@ -1749,8 +1747,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
     public void setToXML(WellSetBigDecimal set) throws IOException, 
                                                     ParserConfigurationException, 
                                                     TransformerException {
-    	WellSetListXMLBigDecimal setList = new WellSetListXMLBigDecimal(set);
-    	this.printXMLSet(setList);
+        XMLStreamWriterBigDecimal stream = new XMLStreamWriterBigDecimal(this);
+        stream.writeSet(set);
+        stream.finish();
     }
     
     /**
@@ -1773,8 +1772,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
     public void setToXML(Collection<WellSetBigDecimal> collection) throws IOException, 
                                                                        TransformerException, 
                                                                        ParserConfigurationException {
-    	WellSetListXMLBigDecimal setList = new WellSetListXMLBigDecimal(collection);
-    	this.printXMLSet(setList);
+        XMLStreamWriterBigDecimal stream = new XMLStreamWriterBigDecimal(this);
+        stream.writeSets(collection);
+        stream.finish();
     }
     
     /**
@@ -1797,8 +1797,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
     public void setToXML(WellSetBigDecimal[] array) throws IOException, 
                                                         ParserConfigurationException, 
                                                         TransformerException {
-    	WellSetListXMLBigDecimal setList = new WellSetListXMLBigDecimal(array);
-    	this.printXMLSet(setList);
+        XMLStreamWriterBigDecimal stream = new XMLStreamWriterBigDecimal(this);
+        stream.writeSets(array);
+        stream.finish();
     }
     
     /**
@@ -1820,9 +1821,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
         
     	try {
 
-    		JAXBContext context = JAXBContext.newInstance(WellSetListXMLBigDecimal.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(WellSetListXMLBigDecimal.class);
 
 			marshaller.marshal(setList, this);
 			
@@ -1842,9 +1841,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
     	try {
 
     		StringWriter writer = new StringWriter();
-    		JAXBContext context = JAXBContext.newInstance(WellSetListXMLBigDecimal.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(WellSetListXMLBigDecimal.class);
 
 			marshaller.marshal(setList, writer);
 			
@@ -1868,8 +1865,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      */
     public void plateToXML(PlateBigDecimal plate) throws IOException, 
     		TransformerException, ParserConfigurationException {
-    	PlateListXMLBigDecimal plateList = new PlateListXMLBigDecimal(plate);
-    	this.printXMLPlate(plateList);
+        XMLStreamWriterBigDecimal stream = new XMLStreamWriterBigDecimal(this);
+        stream.writePlate(plate);
+        stream.finish();
     }
     
     /**
@@ -1891,8 +1889,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      */
     public void plateToXML(Collection<PlateBigDecimal> collection) throws IOException, 
     		TransformerException, ParserConfigurationException {
-    	PlateListXMLBigDecimal plateList = new PlateListXMLBigDecimal(collection);
-    	this.printXMLPlate(plateList);
+        XMLStreamWriterBigDecimal stream = new XMLStreamWriterBigDecimal(this);
+        stream.writePlates(collection);
+        stream.finish();
     }
     
     /**
@@ -1914,8 +1913,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      */
     public void plateToXML(PlateBigDecimal[] array) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	PlateListXMLBigDecimal plateList = new PlateListXMLBigDecimal(array);
-    	this.printXMLPlate(plateList);
+        XMLStreamWriterBigDecimal stream = new XMLStreamWriterBigDecimal(this);
+        stream.writePlates(array);
+        stream.finish();
     }
     
     /**
@@ -1937,9 +1937,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
     	
     	try {
 
-    		JAXBContext context = JAXBContext.newInstance(PlateListXMLBigDecimal.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(PlateListXMLBigDecimal.class);
 
 			marshaller.marshal(plateList, this);
 			
@@ -1959,9 +1957,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
     	try {
 
     		StringWriter writer = new StringWriter();
-    		JAXBContext context = JAXBContext.newInstance(PlateListXMLBigDecimal.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(PlateListXMLBigDecimal.class);
 
 			marshaller.marshal(plateList, writer);
 			
@@ -1985,8 +1981,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      */
     public void stackToXML(StackBigDecimal stack) throws IOException, 
     		TransformerException, ParserConfigurationException {
-    	StackListXMLBigDecimal stackList = new StackListXMLBigDecimal(stack);
-    	this.printXMLStack(stackList);
+        XMLStreamWriterBigDecimal stream = new XMLStreamWriterBigDecimal(this);
+        stream.writeStack(stack);
+        stream.finish();
     }
     
     /**
@@ -2008,8 +2005,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      */
     public void stackToXML(Collection<StackBigDecimal> collection) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	StackListXMLBigDecimal stackList = new StackListXMLBigDecimal(collection);
-    	this.printXMLStack(stackList);
+        XMLStreamWriterBigDecimal stream = new XMLStreamWriterBigDecimal(this);
+        stream.writeStacks(collection);
+        stream.finish();
     }
     
     /**
@@ -2031,8 +2029,9 @@ public class PlateWriterBigDecimal extends PrintWriter {
      */
     public void stackToXML(StackBigDecimal[] array) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	StackListXMLBigDecimal stackList = new StackListXMLBigDecimal(array);
-    	this.printXMLStack(stackList);
+        XMLStreamWriterBigDecimal stream = new XMLStreamWriterBigDecimal(this);
+        stream.writeStacks(array);
+        stream.finish();
     }
     
     /**
@@ -2056,9 +2055,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
     	
     	try {
 
-    		JAXBContext context = JAXBContext.newInstance(StackListXMLBigDecimal.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(StackListXMLBigDecimal.class);
 
 			marshaller.marshal(stackList, this);
 			
@@ -2078,9 +2075,7 @@ public class PlateWriterBigDecimal extends PrintWriter {
     	try {
 
     		StringWriter writer = new StringWriter();
-    		JAXBContext context = JAXBContext.newInstance(StackListXMLBigDecimal.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(StackListXMLBigDecimal.class);
 
 			marshaller.marshal(stackList, writer);
 			
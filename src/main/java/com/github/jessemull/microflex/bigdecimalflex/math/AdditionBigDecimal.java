@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * This class performs addition operations for BigDecimal plate stacks, plates, 
@@ -577,5 +578,42 @@ public class AdditionBigDecimal extends MathOperationBigDecimalBinary {
 
 		return result;
 	}
-    
+	
+	/**
+	 * Adds the values of the second list to the values of the first list and
+	 * writes the result to the first list. The first list must hold at least as
+	 * many values as the second list.
+	 * @param    List<BigDecimal> list1    the first list
+	 * @param    List<BigDecimal> list2    the second list
+	 * @override
+	 */
+	public void calculateInPlace(List<BigDecimal> list1, List<BigDecimal> list2) {
+		
+		if(list1.size() < list2.size()) {
+			throw new IllegalArgumentException("The first list must hold at least as many values as the second list.");
+		}
+		
+		ListIterator<BigDecimal> iter = list1.listIterator();
+		
+		for(BigDecimal value : list2) {
+			iter.set(iter.next().add(value));
+		}
+	}
+	
+	/**
+	 * Adds the constant to each value in the list and writes the result to the
+	 * list.
+	 * @param    List<BigDecimal> list    the list
+	 * @param    BigDecimal constant      the constant value
+	 * @override
+	 */
+	public void calculateInPlace(List<BigDecimal> list, BigDecimal constant) {
+		
+		ListIterator<BigDecimal> iter = list.listIterator();
+		
+		while(iter.hasNext()) {
+			iter.set(iter.next().add(constant));
+		}
+	}
+	
 }
@@ -26,6 +26,7 @@ package com.github.jessemull.microflex.bigdecimalflex.math;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * This class performs the decrement operation for BigDecimal plate stacks, plates, 
@@ -70,4 +71,18 @@ public class DecrementBigDecimal extends MathOperationBigDecimalUnary {
         return result;
     }
     
+    /**
+     * Decrements the values in the list and writes the result to the list.
+     * @param    List<BigDecimal>    the list
+     * @override
+     */
+    public void calculateInPlace(List<BigDecimal> list) {
+        
+        ListIterator<BigDecimal> iter = list.listIterator();
+        
+        while(iter.hasNext()) {
+            iter.set(iter.next().subtract(BigDecimal.ONE));
+        }
+    }
+    
 }
@@ -0,0 +1,643 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.bigdecimalflex.math;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.base.Preconditions;
+
+import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.StackBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
+
+/**
+ * This class records a chain of mathematical operations and evaluates the chain
+ * for big decimal plate stacks, plates and well sets in a single pass over the wells.
+ * Chaining the plate methods of the math operations creates a new plate, well set
+ * and well for each operation. An expression applies every operation to a well
+ * before moving to the next well, so only the final result is created:
+ *
+ * <pre>
+ * ExpressionBigDecimal percent = new ExpressionBigDecimal()
+ *         .subtract(background)
+ *         .divide(control, MathContext.DECIMAL64)
+ *         .multiply(BigDecimal.valueOf(100), MathContext.DECIMAL64);
+ *
+ * StackBigDecimal result = percent.stacks(stack);
+ * </pre>
+ *
+ * Operations take a well set, a plate or a constant as the second argument. The
+ * wells of a well set or plate argument are matched to the input wells using the
+ * row and column and are indexed when the operation is added to the expression.
+ * An expression can be evaluated any number of times and a plate or well set
+ * argument is applied to each plate in a stack. A plate argument must have the
+ * same dimensions as each plate the expression is evaluated for.
+ *
+ * <br><br>
+ *
+ * Expressions follow the standard and strict semantics of the math operations.
+ * Standard functions treat missing data points as zeroes, pass input wells
+ * missing from a well set or plate argument through unchanged and add the wells
+ * found only in the argument to the result. Strict functions omit missing data
+ * points and omit the wells missing from a well set or plate argument. The result
+ * is identical to evaluating the operations one at a time using the sets, plates
+ * or stacks methods, except that the result keeps the label of the input.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class ExpressionBigDecimal {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    /* Operations used by the convenience methods */
+
+    private static final MathOperationBigDecimalBinary ADDITION = new AdditionBigDecimal();
+    private static final MathOperationBigDecimalBinary SUBTRACTION = new SubtractionBigDecimal();
+    private static final MathOperationBigDecimalBinaryContext MULTIPLICATION = new MultiplicationBigDecimal();
+    private static final MathOperationBigDecimalBinaryContext DIVISION = new DivisionBigDecimal();
+
+    private List<Step> steps = new ArrayList<Step>();    // The operations in order
+
+    /* ---------------------------- Constructors ---------------------------- */
+
+    /**
+     * Creates an empty expression.
+     */
+    public ExpressionBigDecimal() {}
+
+    /* -------------------------- Operation Methods ------------------------- */
+
+    /**
+     * Adds a binary operation using the wells of the well set.
+     * @param    MathOperationBigDecimalBinary    the operation
+     * @param    WellSetBigDecimal                the well set
+     * @return                                    this expression
+     */
+    public ExpressionBigDecimal apply(MathOperationBigDecimalBinary operation, WellSetBigDecimal set) {
+
+        Preconditions.checkNotNull(set, "The well set cannot be null.");
+
+        this.steps.add(this.step(operation, set));
+
+        return this;
+    }
+
+    /**
+     * Adds a binary operation using the wells of the plate. The well groups of
+     * the plate are added to the plate results.
+     * @param    MathOperationBigDecimalBinary    the operation
+     * @param    PlateBigDecimal                  the plate
+     * @return                                    this expression
+     */
+    public ExpressionBigDecimal apply(MathOperationBigDecimalBinary operation, PlateBigDecimal plate) {
+
+        Preconditions.checkNotNull(plate, "The plate cannot be null.");
+
+        Step step = this.step(operation, plate);
+        step.plate = plate;
+
+        this.steps.add(step);
+
+        return this;
+    }
+
+    /**
+     * Adds a binary operation using the constant.
+     * @param    MathOperationBigDecimalBinary    the operation
+     * @param    BigDecimal                       the constant
+     * @return                                    this expression
+     */
+    public ExpressionBigDecimal apply(MathOperationBigDecimalBinary operation, BigDecimal constant) {
+
+        Preconditions.checkNotNull(operation, "The operation cannot be null.");
+        Preconditions.checkNotNull(constant, "The constant cannot be null.");
+
+        Step step = new Step();
+        step.binary = operation;
+        step.constant = constant;
+
+        this.steps.add(step);
+
+        return this;
+    }
+
+    /**
+     * Adds a binary operation using the wells of the well set and the math 
+     * context.
+     * @param    MathOperationBigDecimalBinaryContext    the operation
+     * @param    WellSetBigDecimal                       the well set
+     * @param    MathContext                             the math context
+     * @return                                           this expression
+     */
+    public ExpressionBigDecimal apply(MathOperationBigDecimalBinaryContext operation, WellSetBigDecimal set, MathContext mc) {
+
+        Preconditions.checkNotNull(set, "The well set cannot be null.");
+
+        this.steps.add(this.step(operation, set, mc));
+
+        return this;
+    }
+
+    /**
+     * Adds a binary operation using the wells of the plate and the math context.
+     * The well groups of the plate are added to the plate results.
+     * @param    MathOperationBigDecimalBinaryContext    the operation
+     * @param    PlateBigDecimal                         the plate
+     * @param    MathContext                             the math context
+     * @return                                           this expression
+     */
+    public ExpressionBigDecimal apply(MathOperationBigDecimalBinaryContext operation, PlateBigDecimal plate, MathContext mc) {
+
+        Preconditions.checkNotNull(plate, "The plate cannot be null.");
+
+        Step step = this.step(operation, plate, mc);
+        step.plate = plate;
+
+        this.steps.add(step);
+
+        return this;
+    }
+
+    /**
+     * Adds a binary operation using the constant and the math context.
+     * @param    MathOperationBigDecimalBinaryContext    the operation
+     * @param    BigDecimal                              the constant
+     * @param    MathContext                             the math context
+     * @return                                           this expression
+     */
+    public ExpressionBigDecimal apply(MathOperationBigDecimalBinaryContext operation, BigDecimal constant, MathContext mc) {
+
+        Preconditions.checkNotNull(operation, "The operation cannot be null.");
+        Preconditions.checkNotNull(constant, "The constant cannot be null.");
+        Preconditions.checkNotNull(mc, "The math context cannot be null.");
+
+        Step step = new Step();
+        step.context = operation;
+        step.constant = constant;
+        step.mc = mc;
+
+        this.steps.add(step);
+
+        return this;
+    }
+
+    /**
+     * Adds a unary operation.
+     * @param    MathOperationBigDecimalUnary    the operation
+     * @return                                   this expression
+     */
+    public ExpressionBigDecimal apply(MathOperationBigDecimalUnary operation) {
+
+        Preconditions.checkNotNull(operation, "The operation cannot be null.");
+
+        Step step = new Step();
+        step.unary = operation;
+
+        this.steps.add(step);
+
+        return this;
+    }
+
+    /**
+     * Adds the wells of the well set.
+     * @param    WellSetBigDecimal    the well set
+     * @return                        this expression
+     */
+    public ExpressionBigDecimal add(WellSetBigDecimal set) {
+        return this.apply(ADDITION, set);
+    }
+
+    /**
+     * Adds the wells of the plate.
+     * @param    PlateBigDecimal    the plate
+     * @return                      this expression
+     */
+    public ExpressionBigDecimal add(PlateBigDecimal plate) {
+        return this.apply(ADDITION, plate);
+    }
+
+    /**
+     * Adds the constant.
+     * @param    BigDecimal    the constant
+     * @return                 this expression
+     */
+    public ExpressionBigDecimal add(BigDecimal constant) {
+        return this.apply(ADDITION, constant);
+    }
+
+    /**
+     * Subtracts the wells of the well set.
+     * @param    WellSetBigDecimal    the well set
+     * @return                        this expression
+     */
+    public ExpressionBigDecimal subtract(WellSetBigDecimal set) {
+        return this.apply(SUBTRACTION, set);
+    }
+
+    /**
+     * Subtracts the wells of the plate.
+     * @param    PlateBigDecimal    the plate
+     * @return                      this expression
+     */
+    public ExpressionBigDecimal subtract(PlateBigDecimal plate) {
+        return this.apply(SUBTRACTION, plate);
+    }
+
+    /**
+     * Subtracts the constant.
+     * @param    BigDecimal    the constant
+     * @return                 this expression
+     */
+    public ExpressionBigDecimal subtract(BigDecimal constant) {
+        return this.apply(SUBTRACTION, constant);
+    }
+
+    /**
+     * Multiplies by the wells of the well set.
+     * @param    WellSetBigDecimal    the well set
+     * @param    MathContext          the math context
+     * @return                        this expression
+     */
+    public ExpressionBigDecimal multiply(WellSetBigDecimal set, MathContext mc) {
+        return this.apply(MULTIPLICATION, set, mc);
+    }
+
+    /**
+     * Multiplies by the wells of the plate.
+     * @param    PlateBigDecimal    the plate
+     * @param    MathContext        the math context
+     * @return                      this expression
+     */
+    public ExpressionBigDecimal multiply(PlateBigDecimal plate, MathContext mc) {
+        return this.apply(MULTIPLICATION, plate, mc);
+    }
+
+    /**
+     * Multiplies by the constant.
+     * @param    BigDecimal     the constant
+     * @param    MathContext    the math context
+     * @return                  this expression
+     */
+    public ExpressionBigDecimal multiply(BigDecimal constant, MathContext mc) {
+        return this.apply(MULTIPLICATION, constant, mc);
+    }
+
+    /**
+     * Divides by the wells of the well set.
+     * @param    WellSetBigDecimal    the well set
+     * @param    MathContext          the math context
+     * @return                        this expression
+     */
+    public ExpressionBigDecimal divide(WellSetBigDecimal set, MathContext mc) {
+        return this.apply(DIVISION, set, mc);
+    }
+
+    /**
+     * Divides by the wells of the plate.
+     * @param    PlateBigDecimal    the plate
+     * @param    MathContext        the math context
+     * @return                      this expression
+     */
+    public ExpressionBigDecimal divide(PlateBigDecimal plate, MathContext mc) {
+        return this.apply(DIVISION, plate, mc);
+    }
+
+    /**
+     * Divides by the constant.
+     * @param    BigDecimal     the constant
+     * @param    MathContext    the math context
+     * @return                  this expression
+     */
+    public ExpressionBigDecimal divide(BigDecimal constant, MathContext mc) {
+        return this.apply(DIVISION, constant, mc);
+    }
+
+    /**
+     * Returns the number of operations in the expression.
+     * @return    the number of operations
+     */
+    public int size() {
+        return this.steps.size();
+    }
+
+    /* ---------------------------- Set Methods ----------------------------- */
+
+    /**
+     * Evaluates the expression for each well in the set. Missing data points
+     * are treated as zeroes.
+     * @param    WellSetBigDecimal    the well set
+     * @return                        the result
+     */
+    public WellSetBigDecimal sets(WellSetBigDecimal set) {
+        Preconditions.checkNotNull(set, "The well set cannot be null.");
+        return this.evaluate(set, set.label(), false);
+    }
+
+    /**
+     * Evaluates the expression for each well in the set. Missing data points
+     * and missing wells are omitted.
+     * @param    WellSetBigDecimal    the well set
+     * @return                        the result
+     */
+    public WellSetBigDecimal setsStrict(WellSetBigDecimal set) {
+        Preconditions.checkNotNull(set, "The well set cannot be null.");
+        return this.evaluate(set, set.label(), true);
+    }
+
+    /* --------------------------- Plate Methods ---------------------------- */
+
+    /**
+     * Evaluates the expression for each well in the plate. Missing data points
+     * are treated as zeroes.
+     * @param    PlateBigDecimal    the plate
+     * @return                      the result
+     */
+    public PlateBigDecimal plates(PlateBigDecimal plate) {
+        return this.evaluate(plate, false);
+    }
+
+    /**
+     * Evaluates the expression for each well in the plate. Missing data points
+     * and missing wells are omitted.
+     * @param    PlateBigDecimal    the plate
+     * @return                      the result
+     */
+    public PlateBigDecimal platesStrict(PlateBigDecimal plate) {
+        return this.evaluate(plate, true);
+    }
+
+    /* --------------------------- Stack Methods ---------------------------- */
+
+    /**
+     * Evaluates the expression for each plate in the stack. Missing data points
+     * are treated as zeroes.
+     * @param    StackBigDecimal    the stack
+     * @return                      the result
+     */
+    public StackBigDecimal stacks(StackBigDecimal stack) {
+        return this.evaluate(stack, false);
+    }
+
+    /**
+     * Evaluates the expression for each plate in the stack. Missing data points
+     * and missing wells are omitted.
+     * @param    StackBigDecimal    the stack
+     * @return                      the result
+     */
+    public StackBigDecimal stacksStrict(StackBigDecimal stack) {
+        return this.evaluate(stack, true);
+    }
+
+    /* -------------------------- Private Methods --------------------------- */
+
+    /**
+     * Evaluates the expression for each plate in the stack.
+     * @param    StackBigDecimal    the stack
+     * @param    boolean            true for strict evaluation
+     * @return                      the result
+     */
+    private StackBigDecimal evaluate(StackBigDecimal stack, boolean strict) {
+
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+
+        StackBigDecimal result = new StackBigDecimal(stack.rows(), stack.columns(), stack.label());
+
+        for(PlateBigDecimal plate : stack) {
+            result.add(this.evaluate(plate, strict));
+        }
+
+        return result;
+    }
+
+    /**
+     * Evaluates the expression for each well in the plate. The result holds
+     * the well groups of the input plate and each plate argument.
+     * @param    PlateBigDecimal    the plate
+     * @param    boolean            true for strict evaluation
+     * @return                      the result
+     */
+    private PlateBigDecimal evaluate(PlateBigDecimal plate, boolean strict) {
+
+        Preconditions.checkNotNull(plate, "The plate cannot be null.");
+
+        for(Step step : this.steps) {
+            Preconditions.checkArgument(step.plate == null ||
+                    step.plate.rows() == plate.rows() && step.plate.columns() == plate.columns(),
+                    "Unequal plate dimensions.");
+        }
+
+        PlateBigDecimal result = new PlateBigDecimal(plate.rows(), plate.columns(), plate.label());
+
+        for(WellSetBigDecimal set : plate.allGroups()) {
+            result.addGroups(set.wellList());
+        }
+
+        for(Step step : this.steps) {
+            if(step.plate != null) {
+                for(WellSetBigDecimal set : step.plate.allGroups()) {
+                    result.addGroups(set.wellList());
+                }
+            }
+        }
+
+        result.addWells(this.evaluate(plate, plate.label(), strict));
+
+        return result;
+    }
+
+    /**
+     * Evaluates the expression for each well. Using standard evaluation the 
+     * wells found only in a well set or plate argument join the result at that 
+     * operation and are passed through the remaining operations.
+     * @param    Iterable<WellBigDecimal>    the wells
+     * @param    String                      the result label
+     * @param    boolean                     true for strict evaluation
+     * @return                               the result
+     */
+    private WellSetBigDecimal evaluate(Iterable<WellBigDecimal> wells, String label, boolean strict) {
+
+        WellSetBigDecimal result = new WellSetBigDecimal();
+        result.setLabel(label);
+
+        for(WellBigDecimal well : wells) {
+            this.evaluate(well, 0, strict, result);
+        }
+
+        if(!strict) {
+
+            Set<WellBigDecimal> added = new HashSet<WellBigDecimal>();
+
+            for(WellBigDecimal well : wells) {
+                added.add(well);
+            }
+
+            for(int i = 0; i < this.steps.size(); i++) {
+
+                Map<WellBigDecimal, WellBigDecimal> argument = this.steps.get(i).wells;
+
+                if(argument == null) {
+                    continue;
+                }
+
+                for(WellBigDecimal well : argument.keySet()) {
+                    if(added.add(well)) {
+                        this.evaluate(well, i + 1, false, result);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a binary operation step and indexes the wells of the argument.
+     * @param    MathOperationBigDecimalBinary    the operation
+     * @param    Iterable<WellBigDecimal>         the wells
+     * @return                                    the step
+     */
+    private Step step(MathOperationBigDecimalBinary operation, Iterable<WellBigDecimal> wells) {
+
+        Preconditions.checkNotNull(operation, "The operation cannot be null.");
+
+        Step step = new Step();
+        step.binary = operation;
+        step.wells = new HashMap<WellBigDecimal, WellBigDecimal>();
+
+        for(WellBigDecimal well : wells) {
+            step.wells.put(well, well);
+        }
+
+        return step;
+    }
+
+    /**
+     * Creates a binary operation step using the math context and indexes the 
+     * wells of the argument.
+     * @param    MathOperationBigDecimalBinaryContext    the operation
+     * @param    Iterable<WellBigDecimal>                the wells
+     * @param    MathContext                             the math context
+     * @return                                           the step
+     */
+    private Step step(MathOperationBigDecimalBinaryContext operation, Iterable<WellBigDecimal> wells, MathContext mc) {
+
+        Preconditions.checkNotNull(operation, "The operation cannot be null.");
+        Preconditions.checkNotNull(mc, "The math context cannot be null.");
+
+        Step step = new Step();
+        step.context = operation;
+        step.mc = mc;
+        step.wells = new HashMap<WellBigDecimal, WellBigDecimal>();
+
+        for(WellBigDecimal well : wells) {
+            step.wells.put(well, well);
+        }
+
+        return step;
+    }
+
+    /**
+     * Applies the operations to the well values beginning with the operation at
+     * the index and adds the result to the well set. A well missing from a well
+     * set or plate argument is not added using strict evaluation.
+     * @param    WellBigDecimal       the well
+     * @param    int                  index of the first operation
+     * @param    boolean              true for strict evaluation
+     * @param    WellSetBigDecimal    the result
+     */
+    private void evaluate(WellBigDecimal well, int first, boolean strict, WellSetBigDecimal result) {
+
+        List<BigDecimal> values = well.data();
+
+        for(int i = first; i < this.steps.size(); i++) {
+
+            Step step = this.steps.get(i);
+
+            if(step.unary != null) {
+
+                values = step.unary.calculate(values);
+
+            } else if(step.wells == null) {
+
+                values = step.context == null ?
+                        step.binary.calculate(values, step.constant) :
+                        step.context.calculate(values, step.constant, step.mc);
+
+            } else {
+
+                WellBigDecimal operand = step.wells.get(well);
+
+                if(operand == null) {
+
+                    if(strict) {
+                        return;
+                    }
+
+                    continue;
+                }
+
+                if(step.context == null) {
+                    values = strict ?
+                            step.binary.calculateStrict(values, operand.data()) :
+                            step.binary.calculate(values, operand.data());
+                } else {
+                    values = strict ?
+                            step.context.calculateStrict(values, operand.data(), step.mc) :
+                            step.context.calculate(values, operand.data(), step.mc);
+                }
+            }
+        }
+
+        result.add(new WellBigDecimal(well.row(), well.column(), values));
+    }
+
+    /* ---------------------------- Step Class ------------------------------ */
+
+    /**
+     * A single operation and its second argument.
+     */
+    private static class Step {
+
+        private MathOperationBigDecimalBinary binary;            // Binary operation
+        private MathOperationBigDecimalBinaryContext context;    // Binary operation using a context
+        private MathOperationBigDecimalUnary unary;              // Unary operation
+        private Map<WellBigDecimal, WellBigDecimal> wells;       // Well set argument
+        private PlateBigDecimal plate;                           // Plate argument
+        private BigDecimal constant;                             // Constant argument
+        private MathContext mc;                                  // Math context
+
+    }
+
+}
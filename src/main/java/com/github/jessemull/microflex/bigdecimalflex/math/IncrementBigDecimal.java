@@ -26,6 +26,7 @@ package com.github.jessemull.microflex.bigdecimalflex.math;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * This class performs the increment operation for BigDecimal plate stacks, plates, 
@@ -71,4 +72,18 @@ public class IncrementBigDecimal extends MathOperationBigDecimalUnary {
         return result;
     }
     
+    /**
+     * Increments the values in the list and writes the result to the list.
+     * @param    List<BigDecimal>    the list
+     * @override
+     */
+    public void calculateInPlace(List<BigDecimal> list) {
+        
+        ListIterator<BigDecimal> iter = list.listIterator();
+        
+        while(iter.hasNext()) {
+            iter.set(iter.next().add(BigDecimal.ONE));
+        }
+    }
+    
 }
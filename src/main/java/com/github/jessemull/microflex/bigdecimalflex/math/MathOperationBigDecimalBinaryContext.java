@@ -25,15 +25,21 @@ package com.github.jessemull.microflex.bigdecimalflex.math;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import com.google.common.collect.Iterators;
 
 import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.StackBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs mathematical operations with two arguments for BigDecimal 
@@ -228,6 +234,13 @@ import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
  *    </tr>
  * </table>
  * 
+ * In place functions write the result of the operation to the wells of the first
+ * argument instead of returning new wells, well sets, plates and stacks.
+ * 
+ * Setting a fork join pool performs the operation on the wells of plates and
+ * sets and on the plates of stacks in parallel. The results are identical to
+ * those of sequential execution.
+ * 
  * MicroFlex currently supports the following binary mathematical operations 
  * for BigDecimal objects:
  * 
@@ -257,6 +270,10 @@ import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
  */
 public abstract class MathOperationBigDecimalBinaryContext {
 
+	/* ---------------------------- Private Fields -------------------------- */
+	
+	private ForkJoinPool pool;    // Pool for parallel execution or null
+	
 	/* ---------------------------- Constructors ---------------------------- */
 	
 	/**
@@ -264,6 +281,45 @@ public abstract class MathOperationBigDecimalBinaryContext {
 	 */
 	public MathOperationBigDecimalBinaryContext() {}
 
+	/* ------------------------- Parallel Execution ------------------------- */
+	
+	/**
+	 * Sets the fork join pool used to perform the operation on the wells of 
+	 * plates and sets and on the plates of stacks in parallel. Results are 
+	 * identical to those of sequential execution. A null pool restores 
+	 * sequential execution.
+	 * @param    ForkJoinPool    the pool or null
+	 */
+	public void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+	
+	/**
+	 * Returns the fork join pool used for parallel execution or null if the 
+	 * operation is performed sequentially.
+	 * @return    the pool or null
+	 */
+	public ForkJoinPool pool() {
+		return this.pool;
+	}
+	
+	/**
+	 * Enables parallel execution using the shared default pool or restores 
+	 * sequential execution.
+	 * @param    boolean    true for parallel execution
+	 */
+	public void setParallel(boolean parallel) {
+		this.pool = parallel ? ParallelUtil.defaultPool() : null;
+	}
+	
+	/**
+	 * Returns true if the operation is performed in parallel.
+	 * @return    true if parallel execution is enabled
+	 */
+	public boolean isParallel() {
+		return this.pool != null;
+	}
+
 	/* ----------------------------- Well Methods --------------------------- */
 	
     /**
@@ -814,7 +870,7 @@ public abstract class MathOperationBigDecimalBinaryContext {
      * @param    MathContext          the math context
      * @return                        result of the operation
      */
-    public WellSetBigDecimal sets(WellSetBigDecimal set1, WellSetBigDecimal set2, MathContext mc) {
+    public WellSetBigDecimal sets(WellSetBigDecimal set1, WellSetBigDecimal set2, final MathContext mc) {
     	
         this.validateArgs(set1, set2);
     	
@@ -831,18 +887,17 @@ public abstract class MathOperationBigDecimalBinaryContext {
         clone1.retain(set2);
         clone2.retain(set1);
         
-        Iterator<WellBigDecimal> iter1 = clone1.iterator();
-        Iterator<WellBigDecimal> iter2 = clone2.iterator();
-        
-    	while(iter1.hasNext()) {
+    	List<WellBigDecimal> wells = ParallelUtil.map(this.pool, clone1, clone2, 
+    			new ParallelUtil.PairTask<WellBigDecimal, WellBigDecimal, WellBigDecimal>() {
     		
-    		WellBigDecimal well1 = iter1.next();
-    		WellBigDecimal well2 = iter2.next();
-    		
-    		List<BigDecimal> list = this.calculate(well1.data(), well2.data(), mc);
-    		result.add(new WellBigDecimal(well1.row(), well1.column(), list));
-
-    	}
+    		public WellBigDecimal apply(WellBigDecimal well1, WellBigDecimal well2) {
+    			
+    			List<BigDecimal> list = calculate(well1.data(), well2.data(), mc);
+    			return new WellBigDecimal(well1.row(), well1.column(), list);
+    		}
+    	});
+    	
+    	result.add(wells);
     	
     	result.add(set1Excluded);
     	result.add(set2Excluded);
@@ -916,7 +971,7 @@ public abstract class MathOperationBigDecimalBinaryContext {
      * @param    MathContext          the math context
      * @return                        result of the operation
      */
-    public WellSetBigDecimal setsStrict(WellSetBigDecimal set1, WellSetBigDecimal set2, MathContext mc) {
+    public WellSetBigDecimal setsStrict(WellSetBigDecimal set1, WellSetBigDecimal set2, final MathContext mc) {
     	
     	this.validateArgs(set1, set2);
     	
@@ -933,20 +988,19 @@ public abstract class MathOperationBigDecimalBinaryContext {
         clone1.retain(set2);
         clone2.retain(set1);
         
-        Iterator<WellBigDecimal> iter1 = clone1.iterator();
-        Iterator<WellBigDecimal> iter2 = clone2.iterator();
-        
-    	while(iter1.hasNext()) {
-
-    		WellBigDecimal well1 = iter1.next();
-    		WellBigDecimal well2 = iter2.next();
+    	List<WellBigDecimal> wells = ParallelUtil.map(this.pool, clone1, clone2, 
+    			new ParallelUtil.PairTask<WellBigDecimal, WellBigDecimal, WellBigDecimal>() {
     		
-    		validateArgs(well1, well2);
+    		public WellBigDecimal apply(WellBigDecimal well1, WellBigDecimal well2) {
     			
-    		List<BigDecimal> list = this.calculateStrict(well1.data(), well2.data(), mc);
-    		result.add(new WellBigDecimal(well1.row(), well1.column(), list));
-
-    	}
+    			validateArgs(well1, well2);
+    			
+    			List<BigDecimal> list = calculateStrict(well1.data(), well2.data(), mc);
+    			return new WellBigDecimal(well1.row(), well1.column(), list);
+    		}
+    	});
+    	
+    	result.add(wells);
 
     	return result;
     }
@@ -1000,17 +1054,22 @@ public abstract class MathOperationBigDecimalBinaryContext {
      * @param    MathContext          the math context
      * @return                        result of the operation
      */
-    public WellSetBigDecimal sets(WellSetBigDecimal set, BigDecimal constant, MathContext mc) {
+    public WellSetBigDecimal sets(WellSetBigDecimal set, final BigDecimal constant, final MathContext mc) {
     	
     	this.validateArgs(set);
     	
     	WellSetBigDecimal result = new WellSetBigDecimal();
     	result.setLabel(set.label());
     
-    	for(WellBigDecimal well : set) {
-    		result.add(new WellBigDecimal(well.row(), well.column(), 
-    				this.calculate(well.data(), constant, mc)));
-    	} 
+    	List<WellBigDecimal> wells = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigDecimal, WellBigDecimal>() {
+    		
+    		public WellBigDecimal apply(WellBigDecimal well) {
+    			return new WellBigDecimal(well.row(), well.column(), 
+    					calculate(well.data(), constant, mc));
+    		}
+    	});
+    	
+    	result.add(wells);
     	
     	return result;
     }
@@ -1216,7 +1275,7 @@ public abstract class MathOperationBigDecimalBinaryContext {
      * @param    MathContext        the math context
      * @return                      the result of the operation
      */
-    public StackBigDecimal stacks(StackBigDecimal stack1, StackBigDecimal stack2, MathContext mc) {
+    public StackBigDecimal stacks(StackBigDecimal stack1, StackBigDecimal stack2, final MathContext mc) {
     	
         this.validateArgs(stack1, stack2);
     	
@@ -1225,10 +1284,20 @@ public abstract class MathOperationBigDecimalBinaryContext {
     	Iterator<PlateBigDecimal> iter1 = stack1.iterator();
     	Iterator<PlateBigDecimal> iter2 = stack2.iterator();
     	
-    	while(iter1.hasNext() && iter2.hasNext()) {
-    	    PlateBigDecimal resultPlate = this.plates(iter1.next(), iter2.next(), mc);
-    	    result.add(resultPlate);
+    	List<PlateBigDecimal> resultPlates = ParallelUtil.map(this.pool, stack1, stack2, 
+    			new ParallelUtil.PairTask<PlateBigDecimal, PlateBigDecimal, PlateBigDecimal>() {
+    		
+    		public PlateBigDecimal apply(PlateBigDecimal plate1, PlateBigDecimal plate2) {
+    			return plates(plate1, plate2, mc);
+    		}
+    	});
+    	
+    	for(PlateBigDecimal resultPlate : resultPlates) {
+    		result.add(resultPlate);
     	}
+    	
+    	Iterators.advance(iter1, resultPlates.size());
+    	Iterators.advance(iter2, resultPlates.size());
 
     	while(iter1.hasNext()) {
     		result.add(iter1.next());
@@ -1299,7 +1368,7 @@ public abstract class MathOperationBigDecimalBinaryContext {
      * @param    MathContext        the math context
      * @return                      the result of the operation
      */
-    public StackBigDecimal stacksStrict(StackBigDecimal stack1, StackBigDecimal stack2, MathContext mc) {
+    public StackBigDecimal stacksStrict(StackBigDecimal stack1, StackBigDecimal stack2, final MathContext mc) {
 
         this.validateArgs(stack1, stack2);
     	
@@ -1308,9 +1377,16 @@ public abstract class MathOperationBigDecimalBinaryContext {
     	Iterator<PlateBigDecimal> iter1 = stack1.iterator();
     	Iterator<PlateBigDecimal> iter2 = stack2.iterator();
     	
-    	while(iter1.hasNext() && iter2.hasNext()) {
-    	    PlateBigDecimal resultPlate = this.platesStrict(iter1.next(), iter2.next(), mc);
-    	    result.add(resultPlate);
+    	List<PlateBigDecimal> resultPlates = ParallelUtil.map(this.pool, stack1, stack2, 
+    			new ParallelUtil.PairTask<PlateBigDecimal, PlateBigDecimal, PlateBigDecimal>() {
+    		
+    		public PlateBigDecimal apply(PlateBigDecimal plate1, PlateBigDecimal plate2) {
+    			return platesStrict(plate1, plate2, mc);
+    		}
+    	});
+    	
+    	for(PlateBigDecimal resultPlate : resultPlates) {
+    		result.add(resultPlate);
     	}
     	
     	return result;
@@ -1351,17 +1427,21 @@ public abstract class MathOperationBigDecimalBinaryContext {
      * @param    MathContext        the math context
      * @return                      result of the operation
      */
-    public StackBigDecimal stacks(StackBigDecimal stack, BigDecimal constant, MathContext mc) {
+    public StackBigDecimal stacks(StackBigDecimal stack, final BigDecimal constant, final MathContext mc) {
         
         this.validateArgs(stack);
     	
     	StackBigDecimal result = new StackBigDecimal(stack.rows(), stack.columns());
     	
-    	Iterator<PlateBigDecimal> iter1 = stack.iterator();
+    	List<PlateBigDecimal> resultPlates = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateBigDecimal, PlateBigDecimal>() {
+    		
+    		public PlateBigDecimal apply(PlateBigDecimal plate) {
+    			return plates(plate, constant, mc);
+    		}
+    	});
     	
-    	while(iter1.hasNext()) {
-    	    PlateBigDecimal resultPlate = this.plates(iter1.next(), constant, mc);
-    	    result.add(resultPlate);
+    	for(PlateBigDecimal resultPlate : resultPlates) {
+    		result.add(resultPlate);
     	}
     	
     	return result;
@@ -1567,6 +1647,295 @@ public abstract class MathOperationBigDecimalBinaryContext {
     	return result;
     }
     
+    /* --------------------------- In Place Methods ------------------------- */
+    
+    /**
+     * Writes the result of the mathematical operation to the first well. Missing 
+     * data points due to uneven data set lengths are treated as zeroes.
+     * @param    WellBigDecimal    the first well
+     * @param    WellBigDecimal    the second well
+     * @param    MathContext       the math context
+     */
+    public void wellsInPlace(WellBigDecimal well1, WellBigDecimal well2, MathContext mc) {
+    	
+    	this.validateArgs(well1, well2);
+    	
+    	List<BigDecimal> data1 = well1.data();
+    	List<BigDecimal> data2 = well2.data();
+    	
+    	int length1 = data1.size();
+    	int length2 = data2.size();
+    	
+    	if(length1 < length2) {
+    		data1.addAll(data2.subList(length1, length2));
+    		this.calculateInPlace(data1.subList(0, length1), data2.subList(0, length1), mc);
+    	} else {
+    		this.calculateInPlace(data1, data2, mc);
+    	}
+    	
+    	well1.dataModified();
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the first well. Missing 
+     * data points due to uneven data set lengths are omitted.
+     * @param    WellBigDecimal    the first well
+     * @param    WellBigDecimal    the second well
+     * @param    MathContext       the math context
+     */
+    public void wellsStrictInPlace(WellBigDecimal well1, WellBigDecimal well2, MathContext mc) {
+    	
+    	this.validateArgs(well1, well2);
+    	
+    	List<BigDecimal> data1 = well1.data();
+    	List<BigDecimal> data2 = well2.data();
+    	
+    	int length = Math.min(data1.size(), data2.size());
+    	
+    	this.calculateInPlace(data1.subList(0, length), data2.subList(0, length), mc);
+    	data1.subList(length, data1.size()).clear();
+    	well1.dataModified();
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the well.
+     * @param    WellBigDecimal    the well
+     * @param    BigDecimal        constant for the operation
+     * @param    MathContext       the math context
+     */
+    public void wellsInPlace(WellBigDecimal well, BigDecimal constant, MathContext mc) {
+    	this.validateArgs(well);
+    	this.calculateInPlace(well.data(), constant, mc);
+    	well.dataModified();
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the first 
+     * set. Missing data points due to uneven data set lengths are treated as 
+     * zeroes. Copies of the wells missing from the first set are added to the
+     * first set.
+     * @param    WellSetBigDecimal    the first set
+     * @param    WellSetBigDecimal    the second set
+     * @param    MathContext          the math context
+     */
+    public void setsInPlace(WellSetBigDecimal set1, WellSetBigDecimal set2, MathContext mc) {
+    	
+    	this.validateArgs(set1, set2);
+    	
+    	for(WellBigDecimal well : this.inPlace(set1, set2, false, mc)) {
+    		set1.add(new WellBigDecimal(well));
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the first 
+     * set. Missing data points due to uneven data set lengths are omitted. Wells
+     * missing from the second set are removed from the first set.
+     * @param    WellSetBigDecimal    the first set
+     * @param    WellSetBigDecimal    the second set
+     * @param    MathContext          the math context
+     */
+    public void setsStrictInPlace(WellSetBigDecimal set1, WellSetBigDecimal set2, MathContext mc) {
+    	
+    	this.validateArgs(set1, set2);
+    	
+    	for(WellBigDecimal well : this.inPlace(set1, set2, true, mc)) {
+    		set1.remove(well);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the set.
+     * @param    WellSetBigDecimal    the set
+     * @param    BigDecimal           constant for the operation
+     * @param    MathContext          the math context
+     */
+    public void setsInPlace(WellSetBigDecimal set, BigDecimal constant, MathContext mc) {
+    	
+    	this.validateArgs(set);
+    	
+    	for(WellBigDecimal well : set) {
+    		this.wellsInPlace(well, constant, mc);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the first 
+     * plate. Missing data points due to uneven data set lengths are treated as 
+     * zeroes. Copies of the wells missing from the first plate are added to the
+     * first plate. The well groups of the first plate are unchanged.
+     * @param    PlateBigDecimal    the first plate
+     * @param    PlateBigDecimal    the second plate
+     * @param    MathContext        the math context
+     */
+    public void platesInPlace(PlateBigDecimal plate1, PlateBigDecimal plate2, MathContext mc) {
+    	
+    	this.validateArgs(plate1, plate2);
+    	
+    	for(WellBigDecimal well : this.inPlace(plate1, plate2, false, mc)) {
+    		plate1.addWells(well);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the first 
+     * plate. Missing data points due to uneven data set lengths are omitted. 
+     * Wells missing from the second plate are removed from the first plate.
+     * @param    PlateBigDecimal    the first plate
+     * @param    PlateBigDecimal    the second plate
+     * @param    MathContext        the math context
+     */
+    public void platesStrictInPlace(PlateBigDecimal plate1, PlateBigDecimal plate2, MathContext mc) {
+    	
+    	this.validateArgs(plate1, plate2);
+    	
+    	for(WellBigDecimal well : this.inPlace(plate1, plate2, true, mc)) {
+    		plate1.removeWells(well);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the plate.
+     * @param    PlateBigDecimal    the plate
+     * @param    BigDecimal         constant for the operation
+     * @param    MathContext        the math context
+     */
+    public void platesInPlace(PlateBigDecimal plate, BigDecimal constant, MathContext mc) {
+    	
+    	this.validateArgs(plate);
+    	
+    	for(WellBigDecimal well : plate) {
+    		this.wellsInPlace(well, constant, mc);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the plates of the first 
+     * stack. Missing data points due to uneven data set lengths are treated as 
+     * zeroes. Copies of the plates missing from the first stack are added to the
+     * first stack.
+     * @param    StackBigDecimal    the first stack
+     * @param    StackBigDecimal    the second stack
+     * @param    MathContext        the math context
+     */
+    public void stacksInPlace(StackBigDecimal stack1, StackBigDecimal stack2, MathContext mc) {
+    	
+    	this.validateArgs(stack1, stack2);
+    	
+    	PlateBigDecimal[] plates1 = stack1.toArray();
+    	PlateBigDecimal[] plates2 = stack2.toArray();
+    	
+    	stack1.clear();
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		if(i < plates2.length) {
+    			this.platesInPlace(plates1[i], plates2[i], mc);
+    		}
+    		
+    		stack1.add(plates1[i]);
+    	}
+    	
+    	for(int i = plates1.length; i < plates2.length; i++) {
+    		stack1.add(new PlateBigDecimal(plates2[i]));
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the plates of the first 
+     * stack. Missing data points due to uneven data set lengths are omitted. 
+     * Plates missing from the second stack are removed from the first stack.
+     * @param    StackBigDecimal    the first stack
+     * @param    StackBigDecimal    the second stack
+     * @param    MathContext        the math context
+     */
+    public void stacksStrictInPlace(StackBigDecimal stack1, StackBigDecimal stack2, MathContext mc) {
+    	
+    	this.validateArgs(stack1, stack2);
+    	
+    	PlateBigDecimal[] plates1 = stack1.toArray();
+    	PlateBigDecimal[] plates2 = stack2.toArray();
+    	
+    	stack1.clear();
+    	
+    	for(int i = 0; i < plates1.length && i < plates2.length; i++) {
+    		this.platesStrictInPlace(plates1[i], plates2[i], mc);
+    		stack1.add(plates1[i]);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the plates of the stack.
+     * @param    StackBigDecimal    the stack
+     * @param    BigDecimal         constant for the operation
+     * @param    MathContext        the math context
+     */
+    public void stacksInPlace(StackBigDecimal stack, BigDecimal constant, MathContext mc) {
+    	
+    	this.validateArgs(stack);
+    	
+    	PlateBigDecimal[] plates = stack.toArray();
+    	
+    	stack.clear();
+    	
+    	for(PlateBigDecimal plate : plates) {
+    		this.platesInPlace(plate, constant, mc);
+    		stack.add(plate);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to each well of the first
+     * argument matching a well in the second argument. Both arguments iterate
+     * over the wells in row and column order. Returns the unmatched wells of the
+     * first argument for strict operations and the unmatched wells of the second
+     * argument otherwise.
+     * @param    Iterable<WellBigDecimal>    the first wells
+     * @param    Iterable<WellBigDecimal>    the second wells
+     * @param    boolean                     true for strict operations
+     * @param    MathContext                 the math context
+     * @return                               the unmatched wells
+     */
+    private List<WellBigDecimal> inPlace(Iterable<WellBigDecimal> wells1, Iterable<WellBigDecimal> wells2, boolean strict, MathContext mc) {
+    	
+    	List<WellBigDecimal> unmatched = new ArrayList<WellBigDecimal>();
+    	
+    	Iterator<WellBigDecimal> iter1 = wells1.iterator();
+    	Iterator<WellBigDecimal> iter2 = wells2.iterator();
+    	
+    	WellBigDecimal well1 = iter1.hasNext() ? iter1.next() : null;
+    	WellBigDecimal well2 = iter2.hasNext() ? iter2.next() : null;
+    	
+    	while(well1 != null || well2 != null) {
+    		
+    		int comparison = well1 == null ? 1 : well2 == null ? -1 : well1.compareTo(well2);
+    		
+    		if(comparison == 0) {
+    			
+    			if(strict) {
+    				this.wellsStrictInPlace(well1, well2, mc);
+    			} else {
+    				this.wellsInPlace(well1, well2, mc);
+    			}
+    			
+    		} else if(comparison < 0 && strict) {
+    			unmatched.add(well1);
+    		} else if(comparison > 0 && !strict) {
+    			unmatched.add(well2);
+    		}
+    		
+    		if(comparison <= 0) {
+    			well1 = iter1.hasNext() ? iter1.next() : null;
+    		}
+    		
+    		if(comparison >= 0) {
+    			well2 = iter2.hasNext() ? iter2.next() : null;
+    		}
+    	}
+    	
+    	return unmatched;
+    }
+    
     /*---------------- Methods for Validating Well Arguments -----------------*/
     
     /**
@@ -1975,4 +2344,52 @@ public abstract class MathOperationBigDecimalBinaryContext {
      * @return                             result of the mathematical operation
      */
     public abstract List<BigDecimal> calculateStrict(List<BigDecimal> list, Collection<BigDecimal> collection, int begin, int length, MathContext mc);
+    
+    /**
+     * Performs the mathematical operation for the two lists and writes the
+     * result to the first list. The first list must hold at least as many 
+     * values as the second list. Subclasses override this method to avoid 
+     * creating a result list. By default the result is calculated using the 
+     * list operation and set in the first list. Missing data points due to 
+     * lists of unequal length are treated as zero values.
+     * @param    List<BigDecimal>    the first list
+     * @param    List<BigDecimal>    the second list
+     * @param    MathContext         the math context
+     */
+    public void calculateInPlace(List<BigDecimal> list1, List<BigDecimal> list2, MathContext mc) {
+    	
+    	if(list1.size() < list2.size()) {
+    		throw new IllegalArgumentException("The first list must hold at least as many values as the second list.");
+    	}
+    	
+    	this.set(list1, this.calculate(list1, list2, mc));
+    }
+    
+    /**
+     * Performs the mathematical operation for the list and a constant and
+     * writes the result to the list. Subclasses override this method to avoid
+     * creating a result list. By default the result is calculated using the
+     * list operation and set in the list.
+     * @param    List<BigDecimal>    the list
+     * @param    BigDecimal          the constant value
+     * @param    MathContext         the math context
+     */
+    public void calculateInPlace(List<BigDecimal> list, BigDecimal constant, MathContext mc) {
+    	this.set(list, this.calculate(list, constant, mc));
+    }
+    
+    /**
+     * Replaces the values in the list with the values in the result.
+     * @param    List<BigDecimal>    the list
+     * @param    List<BigDecimal>    the result
+     */
+    private void set(List<BigDecimal> list, List<BigDecimal> result) {
+    	
+    	ListIterator<BigDecimal> iter = list.listIterator();
+    	
+    	for(BigDecimal value : result) {
+    		iter.next();
+    		iter.set(value);
+    	}
+    }
 }
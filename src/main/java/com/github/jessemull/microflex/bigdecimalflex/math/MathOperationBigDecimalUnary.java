@@ -25,11 +25,14 @@ package com.github.jessemull.microflex.bigdecimalflex.math;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
 
 import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.StackBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs mathematical operations with a single argument for BigDecimal 
@@ -51,6 +54,13 @@ import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
  *    </tr>
  * </table>
  * 
+ * In place functions write the result of the operation to the wells of the
+ * argument instead of returning new wells, well sets, plates and stacks.
+ * 
+ * Setting a fork join pool performs the operation on the wells of plates and
+ * sets and on the plates of stacks in parallel. The results are identical to
+ * those of sequential execution.
+ * 
  * @author Jesse L. Mull
  * @update Updated Oct 18, 2016
  * @address http://www.jessemull.com
@@ -58,6 +68,10 @@ import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
  */
 public abstract class MathOperationBigDecimalUnary {
 
+	/* ---------------------------- Private Fields -------------------------- */
+	
+	private ForkJoinPool pool;    // Pool for parallel execution or null
+	
 	/* ---------------------------- Constructors ---------------------------- */
 	
 	/**
@@ -65,6 +79,45 @@ public abstract class MathOperationBigDecimalUnary {
 	 */
 	public MathOperationBigDecimalUnary() {}
 
+	/* ------------------------- Parallel Execution ------------------------- */
+	
+	/**
+	 * Sets the fork join pool used to perform the operation on the wells of 
+	 * plates and sets and on the plates of stacks in parallel. Results are 
+	 * identical to those of sequential execution. A null pool restores 
+	 * sequential execution.
+	 * @param    ForkJoinPool    the pool or null
+	 */
+	public void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+	
+	/**
+	 * Returns the fork join pool used for parallel execution or null if the 
+	 * operation is performed sequentially.
+	 * @return    the pool or null
+	 */
+	public ForkJoinPool pool() {
+		return this.pool;
+	}
+	
+	/**
+	 * Enables parallel execution using the shared default pool or restores 
+	 * sequential execution.
+	 * @param    boolean    true for parallel execution
+	 */
+	public void setParallel(boolean parallel) {
+		this.pool = parallel ? ParallelUtil.defaultPool() : null;
+	}
+	
+	/**
+	 * Returns true if the operation is performed in parallel.
+	 * @return    true if parallel execution is enabled
+	 */
+	public boolean isParallel() {
+		return this.pool != null;
+	}
+
 	/* ----------------------------- Well Methods --------------------------- */
 	
     /**
@@ -117,10 +170,15 @@ public abstract class MathOperationBigDecimalUnary {
     		result.addGroups(set.wellList());
     	}
     	
-    	for(WellBigDecimal well : plate) {
-    		result.addWells(new WellBigDecimal(well.row(), well.column(), 
-    				this.calculate(well.data())));
-    	}
+    	List<WellBigDecimal> wells = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigDecimal, WellBigDecimal>() {
+    		
+    		public WellBigDecimal apply(WellBigDecimal well) {
+    			return new WellBigDecimal(well.row(), well.column(), 
+    					calculate(well.data()));
+    		}
+    	});
+    	
+    	result.addWells(wells);
     	
     	return result;
     }
@@ -169,10 +227,15 @@ public abstract class MathOperationBigDecimalUnary {
     	WellSetBigDecimal result = new WellSetBigDecimal();
     	result.setLabel(set.label());
     	
-    	for(WellBigDecimal well : set) {
-    		result.add(new WellBigDecimal(well.row(), well.column(), 
-    				this.calculate(well.data())));
-    	}
+    	List<WellBigDecimal> wells = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigDecimal, WellBigDecimal>() {
+    		
+    		public WellBigDecimal apply(WellBigDecimal well) {
+    			return new WellBigDecimal(well.row(), well.column(), 
+    					calculate(well.data()));
+    		}
+    	});
+    	
+    	result.add(wells);
     	
     	return result;
     }
@@ -217,8 +280,15 @@ public abstract class MathOperationBigDecimalUnary {
     	
     	StackBigDecimal result = new StackBigDecimal(stack.rows(), stack.columns(), stack.label());
     	
-    	for(PlateBigDecimal plate : stack) {
-    		result.add(this.plates(plate));
+    	List<PlateBigDecimal> resultPlates = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateBigDecimal, PlateBigDecimal>() {
+    		
+    		public PlateBigDecimal apply(PlateBigDecimal plate) {
+    			return plates(plate);
+    		}
+    	});
+    	
+    	for(PlateBigDecimal resultPlate : resultPlates) {
+    		result.add(resultPlate);
     	}
     	
     	return result;
@@ -246,6 +316,72 @@ public abstract class MathOperationBigDecimalUnary {
      	return result;
      } 
      
+    /* --------------------------- In Place Methods ------------------------- */
+    
+    /**
+     * Writes the result of the mathematical operation to the well.
+     * @param    WellBigDecimal    the well
+     */
+    public void wellsInPlace(WellBigDecimal well) {
+    	
+    	if(well == null) {
+    		throw new NullPointerException("Well is null.");
+    	}
+    	
+    	this.calculateInPlace(well.data());
+    	well.dataModified();
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the set.
+     * @param    WellSetBigDecimal    the well set
+     */
+    public void setsInPlace(WellSetBigDecimal set) {
+    	
+    	if(set == null) {
+    		throw new NullPointerException("Well set is null.");
+    	}
+    	
+    	for(WellBigDecimal well : set) {
+    		this.wellsInPlace(well);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the plate.
+     * @param    PlateBigDecimal    the plate
+     */
+    public void platesInPlace(PlateBigDecimal plate) {
+    	
+    	if(plate == null) {
+    		throw new NullPointerException("Plate is null.");
+    	}
+    	
+    	for(WellBigDecimal well : plate) {
+    		this.wellsInPlace(well);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the plates of the stack.
+     * @param    StackBigDecimal    the stack
+     */
+    public void stacksInPlace(StackBigDecimal stack) {
+    	
+    	if(stack == null) {
+    		throw new NullPointerException("Stack is null.");
+    	}
+    	
+    	PlateBigDecimal[] plates = stack.toArray();
+    	
+    	stack.clear();
+    	
+    	for(PlateBigDecimal plate : plates) {
+    		this.platesInPlace(plate);
+    		stack.add(plate);
+    	}
+    }
+    
     /*------------------------ List Operation Methods ------------------------*/
     
     /**
@@ -262,4 +398,21 @@ public abstract class MathOperationBigDecimalUnary {
      * @return                       result of the mathematical operation
      */
     public abstract List<BigDecimal> calculate(List<BigDecimal> list, int begin, int length);
+    
+    /**
+     * Performs the mathematical operation for the list and writes the result
+     * to the list. Subclasses override this method to avoid creating a result
+     * list. By default the result is calculated using the list operation and
+     * set in the list.
+     * @param    List<BigDecimal>    the list
+     */
+    public void calculateInPlace(List<BigDecimal> list) {
+    	
+    	ListIterator<BigDecimal> iter = list.listIterator();
+    	
+    	for(BigDecimal value : this.calculate(list)) {
+    		iter.next();
+    		iter.set(value);
+    	}
+    }
 }
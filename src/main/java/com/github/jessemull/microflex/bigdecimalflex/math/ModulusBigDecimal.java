@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * This class performs modulus operations for BigDecimal plate stacks, plates, 
@@ -598,5 +599,50 @@ public class ModulusBigDecimal extends MathOperationBigDecimalBinaryContext {
 
 		return result;
 	}
-    
+	
+	/**
+	 * Calculates the remainder of the values in the first list divided by the
+	 * values in the second list and writes the result to the first list. The
+	 * first list must hold at least as many values as the second list.
+	 * @param    List<BigDecimal> list1    the first list
+	 * @param    List<BigDecimal> list2    the second list
+	 * @param    MathContext mc            the math context
+	 * @override
+	 */
+	public void calculateInPlace(List<BigDecimal> list1, List<BigDecimal> list2, MathContext mc) {
+		
+		if(list1.size() < list2.size()) {
+			throw new IllegalArgumentException("The first list must hold at least as many values as the second list.");
+		}
+		
+		ListIterator<BigDecimal> iter = list1.listIterator();
+		
+		if(list1.size() > list2.size()) {
+			for(BigDecimal value : list2) {
+				iter.set(value.remainder(iter.next(), mc));
+			}
+		} else {
+			for(BigDecimal value : list2) {
+				iter.set(iter.next().remainder(value, mc));
+			}
+		}
+	}
+	
+	/**
+	 * Calculates the remainder of each value in the list divided by the
+	 * constant and writes the result to the list.
+	 * @param    List<BigDecimal> list    the list
+	 * @param    BigDecimal constant      the constant value
+	 * @param    MathContext mc           the math context
+	 * @override
+	 */
+	public void calculateInPlace(List<BigDecimal> list, BigDecimal constant, MathContext mc) {
+		
+		ListIterator<BigDecimal> iter = list.listIterator();
+		
+		while(iter.hasNext()) {
+			iter.set(iter.next().remainder(constant, mc));
+		}
+	}
+	
 }
@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * This class performs multiplication operations for BigDecimal plate stacks, plates, 
@@ -592,5 +593,44 @@ public class MultiplicationBigDecimal extends MathOperationBigDecimalBinaryConte
 
 		return result;
 	}
-    
+	
+	/**
+	 * Multiplies the values in the first list by the values in the second list
+	 * and writes the result to the first list. The first list must hold at
+	 * least as many values as the second list.
+	 * @param    List<BigDecimal> list1    the first list
+	 * @param    List<BigDecimal> list2    the second list
+	 * @param    MathContext mc            the math context
+	 * @override
+	 */
+	public void calculateInPlace(List<BigDecimal> list1, List<BigDecimal> list2, MathContext mc) {
+		
+		if(list1.size() < list2.size()) {
+			throw new IllegalArgumentException("The first list must hold at least as many values as the second list.");
+		}
+		
+		ListIterator<BigDecimal> iter = list1.listIterator();
+		
+		for(BigDecimal value : list2) {
+			iter.set(iter.next().multiply(value, mc));
+		}
+	}
+	
+	/**
+	 * Multiplies each value in the list by the constant and writes the result
+	 * to the list.
+	 * @param    List<BigDecimal> list    the list
+	 * @param    BigDecimal constant      the constant value
+	 * @param    MathContext mc           the math context
+	 * @override
+	 */
+	public void calculateInPlace(List<BigDecimal> list, BigDecimal constant, MathContext mc) {
+		
+		ListIterator<BigDecimal> iter = list.listIterator();
+		
+		while(iter.hasNext()) {
+			iter.set(iter.next().multiply(constant, mc));
+		}
+	}
+	
 }
@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * This class performs subtraction operations for BigDecimal plate stacks, plates, 
@@ -579,5 +580,48 @@ public class SubtractionBigDecimal extends MathOperationBigDecimalBinary {
 
 		return result;
 	}
-    
+	
+	/**
+	 * Subtracts the values in the second list from the values in the first list
+	 * and writes the result to the first list. The first list must hold at
+	 * least as many values as the second list.
+	 * @param    List<BigDecimal> list1    the first list
+	 * @param    List<BigDecimal> list2    the second list
+	 * @override
+	 */
+	public void calculateInPlace(List<BigDecimal> list1, List<BigDecimal> list2) {
+		
+		if(list1.size() < list2.size()) {
+			throw new IllegalArgumentException("The first list must hold at least as many values as the second list.");
+		}
+		
+		ListIterator<BigDecimal> iter = list1.listIterator();
+		
+		if(list1.size() > list2.size()) {
+			for(BigDecimal value : list2) {
+				iter.set(value.subtract(iter.next()));
+			}
+		} else {
+			for(BigDecimal value : list2) {
+				iter.set(iter.next().subtract(value));
+			}
+		}
+	}
+	
+	/**
+	 * Subtracts the constant from each value in the list and writes the result
+	 * to the list.
+	 * @param    List<BigDecimal> list    the list
+	 * @param    BigDecimal constant      the constant value
+	 * @override
+	 */
+	public void calculateInPlace(List<BigDecimal> list, BigDecimal constant) {
+		
+		ListIterator<BigDecimal> iter = list.listIterator();
+		
+		while(iter.hasNext()) {
+			iter.set(iter.next().subtract(constant));
+		}
+	}
+	
 }
@@ -95,6 +95,12 @@ import com.github.jessemull.microflex.util.BigDecimalUtil;
  * primitive numerical types for input and output as well as two immutable types: 
  * BigDecimal and BigInteger.
  * 
+ * The data version changes whenever values are removed, replaced or rewritten
+ * using the well methods but not when values are appended. Incremental 
+ * statistics use the version to add the appended values to a running summary
+ * instead of reading every value. Changes made directly to the list returned
+ * by data() must be followed by a call to dataModified().
+ * 
  * @author Jesse L. Mull
  * @update Updated Oct 18, 2016
  * @address http://www.jessemull.com
@@ -104,7 +110,8 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
     
 	/*---------------------------- Private Fields ----------------------------*/
 	
-    private List<BigDecimal> data = new ArrayList<BigDecimal>();
+    private List<BigDecimal> data = new ArrayList<BigDecimal>();    // The data set
+    private int version;                                            // Incremented by changes other than appends
     
     /* ---------------------------- Constructors ---------------------------- */
     
@@ -321,6 +328,23 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
         return this.data;
     }
     
+    /**
+     * Returns the data version. The version changes whenever values are removed,
+     * replaced or rewritten but not when values are appended to the data set.
+     * @return    the data version
+     */
+    public int dataVersion() {
+        return this.version;
+    }
+    
+    /**
+     * Records a change to the data set. Must be called after values in the list
+     * returned by data() are removed or replaced directly.
+     */
+    public void dataModified() {
+    	this.version++;
+    }
+    
     /**
      * Returns the well data set as a list of doubles. Overflow results in an
      * arithmetic exception.
@@ -522,6 +546,7 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
     public void replaceData(BigDecimal datum) {
     	this.data.clear();
         this.data.add(BigDecimalUtil.toBigDecimal(datum));
+    	this.dataModified();
     }
     
     /**
@@ -531,6 +556,7 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
     public void replaceData(Collection<BigDecimal> collection) {
     	this.data.clear();
     	this.add(collection);
+    	this.dataModified();
     }
     
     /**
@@ -540,6 +566,7 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
     public void replaceData(BigDecimal[] array) {
     	this.data.clear();
     	this.add(array);
+    	this.dataModified();
     }
     
     /**
@@ -549,6 +576,7 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
     public void replaceData(WellBigDecimal well) {
     	this.data.clear();
     	this.add(well);
+    	this.dataModified();
     }
     
     /**
@@ -558,6 +586,7 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
     public void replaceData(WellSetBigDecimal set) {
     	this.data.clear();
     	this.add(set);
+    	this.dataModified();
     }
     
     /* --------------------- Methods for removing data ---------------------- */
@@ -570,6 +599,7 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
     	List<BigDecimal> list = new ArrayList<BigDecimal>();
     	list.add(number);
     	this.data.removeAll(list);
+    	this.dataModified();
     }
     
     /**
@@ -579,6 +609,7 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
     public void remove(Collection<BigDecimal> collection) {
     	List<BigDecimal> list = new ArrayList<BigDecimal>(collection);
     	this.data.removeAll(list);
+    	this.dataModified();
     }
     
     /**
@@ -587,6 +618,7 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
      */
     public void remove(BigDecimal[] array) {
     	this.data.removeAll(Arrays.asList(array));
+    	this.dataModified();
     }
     
     /**
@@ -595,6 +627,7 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
      */
     public void removeWell(WellBigDecimal well) {
     	this.data.removeAll(well.data());
+    	this.dataModified();
     }
     
     /**
@@ -605,6 +638,7 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
     	for(Well<BigDecimal> well : set) {
     		this.data.removeAll(well.data());
     	}
+    	this.dataModified();
     }
     
     /**
@@ -629,6 +663,7 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
     	List<BigDecimal> removed = new ArrayList<BigDecimal>(this.data().subList(0, begin));
     	removed.addAll(this.data().subList(end, this.size()));
     	this.data = removed;
+    	this.dataModified();
     }
     
     /* -------------------- Methods for retaining data ---------------------- */
@@ -641,6 +676,7 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
     	if(this.data.contains(number)) {
     		this.data.clear();
     		this.data.add(BigDecimalUtil.toBigDecimal(number));
+    		this.dataModified();
     	} else {
     		throw new IllegalArgumentException(number + " does not exist in the well data set.");
     	}
@@ -652,6 +688,7 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
      */
     public void retain(Collection<BigDecimal> collection) {
     	this.data.retainAll(collection);
+    	this.dataModified();
     }
     
     /**
@@ -660,6 +697,7 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
      */
     public void retain(BigDecimal[] array) {
     	this.data.retainAll(Arrays.asList(array));
+    	this.dataModified();
     }
     
     /**
@@ -668,6 +706,7 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
      */
     public void retainWell(WellBigDecimal well) {
     	this.data.retainAll(well.data());
+    	this.dataModified();
     }
     
     /**
@@ -678,6 +717,7 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
     	for(Well<BigDecimal> well : set) {
     		this.data.retainAll(well.data());
     	}
+    	this.dataModified();
     }
     
     /**
@@ -700,6 +740,7 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
     	}
 
     	this.data = this.data.subList(begin, end);
+    	this.dataModified();
     }
     
     /* ------------------- Methods for plate parameters --------------------- */
@@ -717,6 +758,7 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
      */
     public void clear() {
     	this.data.clear();
+    	this.dataModified();
     }
     
     /**
@@ -801,10 +843,6 @@ public class WellBigDecimal extends Well<BigDecimal> implements Iterable<BigDeci
             return true;
         }
         
-        WellBigDecimal well = (WellBigDecimal) object;
-        
-        return this.row() == well.row() && 
-               this.column() == well.column() &&
-               this.alphaBase() == well.alphaBase();    
+        return this.coordinate().equals(((WellBigDecimal) object).coordinate());
     }
 }
@@ -26,16 +26,21 @@ package com.github.jessemull.microflex.bigdecimalflex.stat;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.StackBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs statistical operations for BigDecimal plate stacks, plates, 
@@ -187,7 +192,49 @@ import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
  * @email hello@jessemull.com
  */
 public abstract class DescriptiveStatisticBigDecimalContext {
+
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private ForkJoinPool pool;    // Pool for parallel execution or null
+    
+    /* ------------------------- Parallel Execution ------------------------- */
+    
+    /**
+     * Sets the fork join pool used to calculate the statistic for the wells, 
+     * plates and sets in parallel. Results are merged in the same order used 
+     * by sequential execution. A null pool restores sequential execution.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    
+    /**
+     * Returns the fork join pool used for parallel execution or null if the 
+     * statistic is calculated sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
     
+    /**
+     * Enables parallel execution using the shared default pool or restores 
+     * sequential execution.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
+    
+    /**
+     * Returns true if the statistic is calculated in parallel.
+     * @return    true if parallel execution is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+        
     /* ---------------- Well statistics for all plate wells ----------------- */
     
     /**
@@ -196,15 +243,23 @@ public abstract class DescriptiveStatisticBigDecimalContext {
      * @param    MathContext        the math context
      * @return                      map of wells and results
      */
-    public Map<WellBigDecimal, BigDecimal> plate(PlateBigDecimal plate, MathContext mc) {
+    public Map<WellBigDecimal, BigDecimal> plate(PlateBigDecimal plate, final MathContext mc) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : plate) {
             WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone, well(well, mc));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -220,15 +275,23 @@ public abstract class DescriptiveStatisticBigDecimalContext {
      * @param    MathContext        the math context
      * @return                      map of wells and results   
      */
-    public Map<WellBigDecimal, BigDecimal> plate(PlateBigDecimal plate, int begin, int length, MathContext mc) {
+    public Map<WellBigDecimal, BigDecimal> plate(PlateBigDecimal plate, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, begin, length, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : plate) {
             WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone, well(well, begin, length, mc));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -247,13 +310,7 @@ public abstract class DescriptiveStatisticBigDecimalContext {
         
         Preconditions.checkNotNull(plate, "The plate cannot be null.");
 
-        List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            
-        for (WellBigDecimal well : plate) {
-            aggregated.addAll(well.data());
-        }
-      
-        return calculate(aggregated, mc);
+        return aggregate(plate, 0, -1, mc);
         
     }
     
@@ -263,23 +320,23 @@ public abstract class DescriptiveStatisticBigDecimalContext {
      * @param    MathContext                    the math context
      * @return                                  map of plates and aggregated results
      */
-    public Map<PlateBigDecimal, BigDecimal> platesAggregated(Collection<PlateBigDecimal> collection, MathContext mc) {
+    public Map<PlateBigDecimal, BigDecimal> platesAggregated(Collection<PlateBigDecimal> collection, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
 
         Map<PlateBigDecimal, BigDecimal> results = new TreeMap<PlateBigDecimal, BigDecimal>();
         
-        for(PlateBigDecimal plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-                aggregated.addAll(well.data());
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateBigDecimal, BigDecimal>() {
+            public BigDecimal apply(PlateBigDecimal plate) {
+
+                return aggregate(plate, 0, -1, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : collection) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -291,23 +348,23 @@ public abstract class DescriptiveStatisticBigDecimalContext {
      * @param    MathContext          the math context
      * @return                        map of plates and aggregated result
      */
-    public Map<PlateBigDecimal, BigDecimal> platesAggregated(PlateBigDecimal[] array, MathContext mc) {
+    public Map<PlateBigDecimal, BigDecimal> platesAggregated(PlateBigDecimal[] array, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
 
         Map<PlateBigDecimal, BigDecimal> results = new TreeMap<PlateBigDecimal, BigDecimal>();
         
-        for(PlateBigDecimal plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-                aggregated.addAll(well.data());
+        List<BigDecimal> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateBigDecimal, BigDecimal>() {
+            public BigDecimal apply(PlateBigDecimal plate) {
+
+                return aggregate(plate, 0, -1, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : array) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -327,13 +384,7 @@ public abstract class DescriptiveStatisticBigDecimalContext {
 
         Preconditions.checkNotNull(plate, "The plate cannot be null.");
 
-        List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            
-        for (WellBigDecimal well : plate) {
-            aggregated.addAll(well.data().subList(begin, begin + length));
-        }
-      
-        return calculate(aggregated, mc);
+        return aggregate(plate, begin, length, mc);
         
     }
     
@@ -347,23 +398,23 @@ public abstract class DescriptiveStatisticBigDecimalContext {
      * @return                                  map of plates and aggregated results
      */
     public Map<PlateBigDecimal, BigDecimal> platesAggregated(
-            Collection<PlateBigDecimal> collection, int begin, int length, MathContext mc) {
+            Collection<PlateBigDecimal> collection, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
 
         Map<PlateBigDecimal, BigDecimal> results = new TreeMap<PlateBigDecimal, BigDecimal>();
         
-        for(PlateBigDecimal plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateBigDecimal, BigDecimal>() {
+            public BigDecimal apply(PlateBigDecimal plate) {
+
+                return aggregate(plate, begin, length, mc);
             }
-         
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : collection) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -380,23 +431,23 @@ public abstract class DescriptiveStatisticBigDecimalContext {
      * @return                        map of plates and aggregated results	
      */
     public Map<PlateBigDecimal, BigDecimal> platesAggregated(
-            PlateBigDecimal[] array, int begin, int length, MathContext mc) {
+            PlateBigDecimal[] array, final int begin, final int length, final MathContext mc) {
        
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateBigDecimal, BigDecimal> results = new TreeMap<PlateBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateBigDecimal, BigDecimal>() {
+            public BigDecimal apply(PlateBigDecimal plate) {
+
+                return aggregate(plate, begin, length, mc);
+            }
+        });
+
+        int index = 0;
+
         for(PlateBigDecimal plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
-            }      
-            
-            results.put(clone, calculate(aggregated, mc));
-        
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -411,15 +462,23 @@ public abstract class DescriptiveStatisticBigDecimalContext {
      * @param    MathContext          the math context
      * @return                        map of wells and results
      */
-    public Map<WellBigDecimal, BigDecimal> set(WellSetBigDecimal set, MathContext mc) {
+    public Map<WellBigDecimal, BigDecimal> set(WellSetBigDecimal set, final MathContext mc) {
     	
         Preconditions.checkNotNull(set, "The set cannot be null.");
     	
     	Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : set) {
             WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone, well(well, mc));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -435,15 +494,23 @@ public abstract class DescriptiveStatisticBigDecimalContext {
      * @param    MathContext          the math context
      * @return                        map of wells and results
      */
-    public Map<WellBigDecimal, BigDecimal> set(WellSetBigDecimal set, int begin, int length, MathContext mc) {
+    public Map<WellBigDecimal, BigDecimal> set(WellSetBigDecimal set, final int begin, final int length, final MathContext mc) {
         
     	Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, begin, length, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : set) {
-        	WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone,  well(well, begin, length, mc));
+            WellBigDecimal clone = new WellBigDecimal(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -462,13 +529,7 @@ public abstract class DescriptiveStatisticBigDecimalContext {
         
         Preconditions.checkNotNull(set, "The well set cannot be null.");
 
-        List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-        	
-        for (WellBigDecimal well : set) {
-            aggregated.addAll(well.data());
-        }
-      
-        return calculate(aggregated, mc);
+        return aggregate(set, 0, -1, mc);
         
     }
     
@@ -478,23 +539,23 @@ public abstract class DescriptiveStatisticBigDecimalContext {
      * @param    MathContext                      the math context
      * @return                                    map of well sets and aggregated results
      */
-    public Map<WellSetBigDecimal, BigDecimal> setsAggregated(Collection<WellSetBigDecimal> collection, MathContext mc) {
+    public Map<WellSetBigDecimal, BigDecimal> setsAggregated(Collection<WellSetBigDecimal> collection, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
 
         Map<WellSetBigDecimal, BigDecimal> results = new TreeMap<WellSetBigDecimal, BigDecimal>();
         
-        for(WellSetBigDecimal set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-                aggregated.addAll(well.data());
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellSetBigDecimal set) {
+
+                return aggregate(set, 0, -1, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : collection) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -506,23 +567,23 @@ public abstract class DescriptiveStatisticBigDecimalContext {
      * @param    MathContext            the math context
      * @return                          map of well sets and aggregated results
      */
-    public Map<WellSetBigDecimal, BigDecimal> setsAggregated(WellSetBigDecimal[] array, MathContext mc) {
+    public Map<WellSetBigDecimal, BigDecimal> setsAggregated(WellSetBigDecimal[] array, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
 
         Map<WellSetBigDecimal, BigDecimal> results = new TreeMap<WellSetBigDecimal, BigDecimal>();
         
-        for(WellSetBigDecimal set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-                aggregated.addAll(well.data());
+        List<BigDecimal> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellSetBigDecimal set) {
+
+                return aggregate(set, 0, -1, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : array) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -542,13 +603,7 @@ public abstract class DescriptiveStatisticBigDecimalContext {
 
         Preconditions.checkNotNull(set, "The well set cannot be null.");
 
-        List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            
-        for (WellBigDecimal well : set) {
-            aggregated.addAll(well.data().subList(begin, begin + length));
-        }
-      
-        return calculate(aggregated, mc);
+        return aggregate(set, begin, length, mc);
         
     }
     
@@ -562,23 +617,23 @@ public abstract class DescriptiveStatisticBigDecimalContext {
      * @return                                    map of well sets and aggregated results
      */
     public Map<WellSetBigDecimal, BigDecimal> setsAggregated(
-            Collection<WellSetBigDecimal> collection, int begin, int length, MathContext mc) {
+            Collection<WellSetBigDecimal> collection, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetBigDecimal, BigDecimal> results = new TreeMap<WellSetBigDecimal, BigDecimal>();
         
-        for(WellSetBigDecimal set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellSetBigDecimal set) {
+
+                return aggregate(set, begin, length, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : collection) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -595,27 +650,270 @@ public abstract class DescriptiveStatisticBigDecimalContext {
      * @return                          map of well sets and aggregated results
      */
     public Map<WellSetBigDecimal, BigDecimal> setsAggregated(
-            WellSetBigDecimal[] array, int begin, int length, MathContext mc) {
+            WellSetBigDecimal[] array, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetBigDecimal, BigDecimal> results = new TreeMap<WellSetBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellSetBigDecimal set) {
+
+                return aggregate(set, begin, length, mc);
+            }
+        });
+
+        int index = 0;
+
         for(WellSetBigDecimal set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+            results.put(new WellSetBigDecimal(set), values.get(index++));
+        }
+        
+        return results;
+        
+    }
+    
+    /* ------------------------- Stack statistics --------------------------  */
+    
+    /**
+     * Returns the statistic for each well of each plate in the stack. The plates 
+     * are processed in parallel when a pool is set.
+     * @param    StackBigDecimal    the stack
+     * @param    MathContext        the math context
+     * @return                      map of plates and well results
+     */
+    public Map<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>> stack(StackBigDecimal stack, final MathContext mc) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        
+        Map<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>> results = new TreeMap<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>>();
+        
+        List<Map<WellBigDecimal, BigDecimal>> values = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>>() {
+            public Map<WellBigDecimal, BigDecimal> apply(PlateBigDecimal plate) {
+                return plate(plate, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
+        });
+        
+        int index = 0;
+        
+        for(PlateBigDecimal plate : stack) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Returns the statistic for each well of each plate in the stack using the 
+     * values between the indices. The plates are processed in parallel when a 
+     * pool is set.
+     * @param    StackBigDecimal    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset
+     * @param    MathContext        the math context
+     * @return                      map of plates and well results
+     */
+    public Map<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>> stack(StackBigDecimal stack, final int begin, final int length, final MathContext mc) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        
+        Map<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>> results = new TreeMap<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>>();
+        
+        List<Map<WellBigDecimal, BigDecimal>> values = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>>() {
+            public Map<WellBigDecimal, BigDecimal> apply(PlateBigDecimal plate) {
+                return plate(plate, begin, length, mc);
+            }
+        });
+        
+        int index = 0;
+        
+        for(PlateBigDecimal plate : stack) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /* ------------- Well statistics across the plates of a stack ----------  */
+    
+    /**
+     * Returns the statistic for each well position using the values of the well 
+     * in every plate of the stack. For example, the median of well A1 across the 
+     * replicate plates. The stack is read in a single sweep and the results are
+     * mapped to wells holding the values of each position.
+     * @param    StackBigDecimal    the stack
+     * @param    MathContext        the math context
+     * @return                      map of wells and results
+     */
+    public Map<WellBigDecimal, BigDecimal> stackWells(StackBigDecimal stack, final MathContext mc) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        
+        Collection<WellBigDecimal> positions = this.positions(stack, 0, -1);
+        
+        Map<WellBigDecimal, BigDecimal> results = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, positions, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, mc);
+            }
+        });
+        
+        int index = 0;
+        
+        for(WellBigDecimal well : positions) {
+            results.put(well, values.get(index++));
         }
         
         return results;
+    }
+    
+    /**
+     * Returns the statistic for each well position using the values between the
+     * indices of the well in every plate of the stack.
+     * @param    StackBigDecimal    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset
+     * @param    MathContext        the math context
+     * @return                      map of wells and results
+     */
+    public Map<WellBigDecimal, BigDecimal> stackWells(StackBigDecimal stack, int begin, int length, final MathContext mc) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        Preconditions.checkArgument(begin >= 0 && length >= 0, "Invalid subset.");
+        
+        Collection<WellBigDecimal> positions = this.positions(stack, begin, length);
         
+        Map<WellBigDecimal, BigDecimal> results = new TreeMap<WellBigDecimal, BigDecimal>();
+        
+        List<BigDecimal> values = ParallelUtil.map(this.pool, positions, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, mc);
+            }
+        });
+        
+        int index = 0;
+        
+        for(WellBigDecimal well : positions) {
+            results.put(well, values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /* --------------------- Aggregated stack statistics -------------------  */
+    
+    /**
+     * Returns the aggregated statistic for the stack.
+     * @param    StackBigDecimal    the stack
+     * @param    MathContext        the math context
+     * @return                      the aggregated result
+     */
+    public BigDecimal stacksAggregated(StackBigDecimal stack, MathContext mc) {
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        return this.aggregate(stack, 0, -1, mc);
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack. The stacks are processed
+     * in parallel when a pool is set.
+     * @param    Collection<StackBigDecimal>    collection of stacks
+     * @param    MathContext                    the math context
+     * @return                                  map of stacks and aggregated results
+     */
+    public Map<StackBigDecimal, BigDecimal> stacksAggregated(Collection<StackBigDecimal> collection, final MathContext mc) {
+        
+        Preconditions.checkNotNull(collection, "The stack collection cannot be null.");
+        
+        Map<StackBigDecimal, BigDecimal> results = new LinkedHashMap<StackBigDecimal, BigDecimal>();
+        
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<StackBigDecimal, BigDecimal>() {
+            public BigDecimal apply(StackBigDecimal stack) {
+                return aggregate(stack, 0, -1, mc);
+            }
+        });
+        
+        int index = 0;
+        
+        for(StackBigDecimal stack : collection) {
+            results.put(new StackBigDecimal(stack), values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack. The stacks are processed
+     * in parallel when a pool is set.
+     * @param    StackBigDecimal[]    array of stacks
+     * @param    MathContext          the math context
+     * @return                        map of stacks and aggregated results
+     */
+    public Map<StackBigDecimal, BigDecimal> stacksAggregated(StackBigDecimal[] array, MathContext mc) {
+        Preconditions.checkNotNull(array, "The stack array cannot be null.");
+        return this.stacksAggregated(Arrays.asList(array), mc);
+    }
+    
+    /**
+     * Returns the aggregated statistic for the stack using the values between 
+     * the indices.
+     * @param    StackBigDecimal    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset
+     * @param    MathContext        the math context
+     * @return                      the aggregated result
+     */
+    public BigDecimal stacksAggregated(StackBigDecimal stack, int begin, int length, MathContext mc) {
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        Preconditions.checkArgument(begin >= 0 && length >= 0, "Invalid subset.");
+        return this.aggregate(stack, begin, length, mc);
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack using the values between 
+     * the indices. The stacks are processed in parallel when a pool is set.
+     * @param    Collection<StackBigDecimal>    collection of stacks
+     * @param    int                            beginning index of subset
+     * @param    int                            length of subset
+     * @param    MathContext                    the math context
+     * @return                                  map of stacks and aggregated results
+     */
+    public Map<StackBigDecimal, BigDecimal> stacksAggregated(
+            Collection<StackBigDecimal> collection, final int begin, final int length, final MathContext mc) {
+        
+        Preconditions.checkNotNull(collection, "The stack collection cannot be null.");
+        Preconditions.checkArgument(begin >= 0 && length >= 0, "Invalid subset.");
+        
+        Map<StackBigDecimal, BigDecimal> results = new LinkedHashMap<StackBigDecimal, BigDecimal>();
+        
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<StackBigDecimal, BigDecimal>() {
+            public BigDecimal apply(StackBigDecimal stack) {
+                return aggregate(stack, begin, length, mc);
+            }
+        });
+        
+        int index = 0;
+        
+        for(StackBigDecimal stack : collection) {
+            results.put(new StackBigDecimal(stack), values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack using the values between 
+     * the indices. The stacks are processed in parallel when a pool is set.
+     * @param    StackBigDecimal[]    array of stacks
+     * @param    int                  beginning index of subset
+     * @param    int                  length of subset
+     * @param    MathContext          the math context
+     * @return                        map of stacks and aggregated results
+     */
+    public Map<StackBigDecimal, BigDecimal> stacksAggregated(
+            StackBigDecimal[] array, int begin, int length, MathContext mc) {
+        Preconditions.checkNotNull(array, "The stack array cannot be null.");
+        return this.stacksAggregated(Arrays.asList(array), begin, length, mc);
     }
     
     /* -------------------------- Well statistics --------------------------  */
@@ -670,4 +968,181 @@ public abstract class DescriptiveStatisticBigDecimalContext {
      * @return                       the result
      */
     public abstract BigDecimal calculate(List<BigDecimal> list, int begin, int length, MathContext mc);
+    
+    /* --------- Methods for calculating the statistic of a summary --------  */
+    
+    /**
+     * Returns true if the statistic can be calculated from a summary of the 
+     * values. Aggregated plate, set and stack statistics for mergeable statistics
+     * merge the summaries of the wells and plates instead of copying the values 
+     * of every well into a list. Statistics calculated from the count, sum or 
+     * extrema of the values override this method and the summary calculate 
+     * method.
+     * @return    true if the statistic is mergeable
+     */
+    public boolean isMergeable() {
+        return false;
+    }
+    
+    /**
+     * Calculates the statistic using a summary of the values. Mergeable 
+     * statistics override this method. The summary holds the count, sum and 
+     * extrema of the values.
+     * @param    SummaryBigDecimal    the summary
+     * @return                        the result
+     * @throws    UnsupportedOperationException    if the statistic is not mergeable
+     */
+    public BigDecimal calculate(SummaryBigDecimal summary) {
+        throw new UnsupportedOperationException("The statistic cannot be calculated from a summary.");
+    }
+    
+    /* ------------------------ Aggregation helpers ------------------------  */
+    
+    /**
+     * Returns the aggregated statistic for the wells. Mergeable statistics are
+     * calculated from a summary of the values and other statistics using a 
+     * list holding the values of every well. A negative length uses all the 
+     * values of each well.
+     * @param    Iterable<WellBigDecimal>    the wells
+     * @param    int                         beginning index of subset
+     * @param    int                         length of subset or -1
+     * @param    MathContext                 the math context
+     * @return                               the aggregated result
+     */
+    private BigDecimal aggregate(Iterable<WellBigDecimal> wells, int begin, int length, MathContext mc) {
+        
+        if(this.isMergeable()) {
+            return calculate(this.summary(wells, begin, length, mc));
+        }
+        
+        List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+        
+        for(WellBigDecimal well : wells) {
+            aggregated.addAll(length < 0 ? well.data() : well.data().subList(begin, begin + length));
+        }
+        
+        return calculate(aggregated, mc);
+    }
+    
+    /**
+     * Returns the aggregated statistic for the stack. A negative length uses 
+     * all the values of each well.
+     * @param    StackBigDecimal    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset or -1
+     * @param    MathContext        the math context
+     * @return                      the aggregated result
+     */
+    private BigDecimal aggregate(StackBigDecimal stack, int begin, int length, MathContext mc) {
+        
+        if(this.isMergeable()) {
+            return calculate(this.summary(stack, begin, length, mc));
+        }
+        
+        return calculate(this.aggregated(stack, begin, length), mc);
+    }
+    
+    /**
+     * Returns the summary of the count, sum and extrema of the values in the 
+     * wells. A negative length uses all the values of each well.
+     * @param    Iterable<WellBigDecimal>    the wells
+     * @param    int                         beginning index of subset
+     * @param    int                         length of subset or -1
+     * @param    MathContext                 the math context
+     * @return                               the summary
+     */
+    private SummaryBigDecimal summary(Iterable<WellBigDecimal> wells, int begin, int length, MathContext mc) {
+        
+        SummaryBigDecimal summary = new SummaryBigDecimal(mc, false);
+        
+        for(WellBigDecimal well : wells) {
+            for(BigDecimal value : length < 0 ? well.data() : well.data().subList(begin, begin + length)) {
+                summary.add(value);
+            }
+        }
+        
+        return summary;
+    }
+    
+    /**
+     * Returns the summary of the count, sum and extrema of the values in the 
+     * stack. A partial summary is calculated for each plate, in parallel when 
+     * a pool is set, and the partial summaries are merged.
+     * @param    StackBigDecimal    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset or -1
+     * @param    MathContext        the math context
+     * @return                      the summary
+     */
+    private SummaryBigDecimal summary(StackBigDecimal stack, final int begin, final int length, final MathContext mc) {
+        
+        List<SummaryBigDecimal> partials = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateBigDecimal, SummaryBigDecimal>() {
+            public SummaryBigDecimal apply(PlateBigDecimal plate) {
+                return summary(plate, begin, length, mc);
+            }
+        });
+        
+        SummaryBigDecimal summary = new SummaryBigDecimal(mc, false);
+        
+        for(SummaryBigDecimal partial : partials) {
+            summary.merge(partial);
+        }
+        
+        return summary;
+    }
+    
+    /* ---------------------- Stack sweep helpers --------------------------  */
+    
+    /**
+     * Returns the values of every well in the stack. A negative length adds all 
+     * the values of each well.
+     * @param    StackBigDecimal    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset or -1
+     * @return                      the values
+     */
+    private List<BigDecimal> aggregated(StackBigDecimal stack, int begin, int length) {
+        
+        List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+        
+        for(PlateBigDecimal plate : stack) {
+            for(WellBigDecimal well : plate) {
+                aggregated.addAll(length < 0 ? well.data() : well.data().subList(begin, begin + length));
+            }
+        }
+        
+        return aggregated;
+    }
+    
+    /**
+     * Sweeps the stack once and returns a well for each well position holding 
+     * the values of the position from every plate. A negative length adds all
+     * the values of each well.
+     * @param    StackBigDecimal    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset or -1
+     * @return                      the wells in row and column order
+     */
+    private Collection<WellBigDecimal> positions(StackBigDecimal stack, int begin, int length) {
+        
+        Map<WellBigDecimal, WellBigDecimal> positions = new TreeMap<WellBigDecimal, WellBigDecimal>();
+        
+        for(PlateBigDecimal plate : stack) {
+            
+            for(WellBigDecimal well : plate) {
+                
+                WellBigDecimal position = positions.get(well);
+                
+                if(position == null) {
+                    position = new WellBigDecimal(well.row(), well.column());
+                    positions.put(position, position);
+                }
+                
+                position.add(length < 0 ? well.data() : well.data().subList(begin, begin + length));
+            }
+        }
+        
+        return positions.values();
+    }
+    
 }
@@ -35,6 +35,7 @@ import com.google.common.base.Preconditions;
 import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs weighted statistical operations for BigDecimal plate stacks, 
@@ -187,15 +188,23 @@ public abstract class DescriptiveStatisticBigDecimalWeights extends DescriptiveS
      * @param    double[]           weights for the data set
      * @return                      map of wells and results
      */
-    public Map<WellBigDecimal, BigDecimal> plate(PlateBigDecimal plate, double[] weights) {
+    public Map<WellBigDecimal, BigDecimal> plate(PlateBigDecimal plate, final double[] weights) {
 
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
     	
     	Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), plate, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, weights);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : plate) {
             WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone, well(well, weights));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -211,15 +220,23 @@ public abstract class DescriptiveStatisticBigDecimalWeights extends DescriptiveS
      * @param    int                length of subset
      * @return                      map of wells and results
      */
-    public Map<WellBigDecimal, BigDecimal> plate(PlateBigDecimal plate, double[] weights, int begin, int length) {
+    public Map<WellBigDecimal, BigDecimal> plate(PlateBigDecimal plate, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
     	
     	Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), plate, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, weights, begin, length);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : plate) {
             WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone, well(well, weights, begin, length));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -262,29 +279,35 @@ public abstract class DescriptiveStatisticBigDecimalWeights extends DescriptiveS
      * @return                                  map of plates and aggregated results
      */
     public Map<PlateBigDecimal, BigDecimal> platesAggregated(
-            Collection<PlateBigDecimal> collection, double[] weights) {
+            Collection<PlateBigDecimal> collection, final double[] weights) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateBigDecimal, BigDecimal> results = new TreeMap<PlateBigDecimal, BigDecimal>();
         
-        for(PlateBigDecimal plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-
-            	List<BigDecimal> input = well.data();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<PlateBigDecimal, BigDecimal>() {
+            public BigDecimal apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+
+                	List<BigDecimal> input = well.data();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : collection) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -298,29 +321,35 @@ public abstract class DescriptiveStatisticBigDecimalWeights extends DescriptiveS
      * @return                        map of plates and aggregated results
      */
     public Map<PlateBigDecimal, BigDecimal> platesAggregated(
-            PlateBigDecimal[] array, double[] weights) {
+            PlateBigDecimal[] array, final double[] weights) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateBigDecimal, BigDecimal> results = new TreeMap<PlateBigDecimal, BigDecimal>();
         
-        for(PlateBigDecimal plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-
-            	List<BigDecimal> input = well.data();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<PlateBigDecimal, BigDecimal>() {
+            public BigDecimal apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+
+                	List<BigDecimal> input = well.data();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : array) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -366,29 +395,35 @@ public abstract class DescriptiveStatisticBigDecimalWeights extends DescriptiveS
      * @return                                  map of plates and aggregated results
      */
     public Map<PlateBigDecimal, BigDecimal> platesAggregated(
-            Collection<PlateBigDecimal> collection, double[] weights, int begin, int length) {
+            Collection<PlateBigDecimal> collection, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateBigDecimal, BigDecimal> results = new TreeMap<PlateBigDecimal, BigDecimal>();
         
-        for(PlateBigDecimal plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-
-            	List<BigDecimal> input = well.data().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<PlateBigDecimal, BigDecimal>() {
+            public BigDecimal apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+
+                	List<BigDecimal> input = well.data().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : collection) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -405,29 +440,35 @@ public abstract class DescriptiveStatisticBigDecimalWeights extends DescriptiveS
      * @return                        map of plates and aggregated results
      */
     public Map<PlateBigDecimal, BigDecimal> platesAggregated(
-            PlateBigDecimal[] array, double[] weights, int begin, int length) {
+            PlateBigDecimal[] array, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateBigDecimal, BigDecimal> results = new TreeMap<PlateBigDecimal, BigDecimal>();
         
-        for(PlateBigDecimal plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-
-            	List<BigDecimal> input = well.data().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<PlateBigDecimal, BigDecimal>() {
+            public BigDecimal apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+
+                	List<BigDecimal> input = well.data().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : array) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -442,15 +483,23 @@ public abstract class DescriptiveStatisticBigDecimalWeights extends DescriptiveS
      * @param    double[]             weights for the data set
      * @return                        map of wells and results
      */
-    public Map<WellBigDecimal, BigDecimal> set(WellSetBigDecimal set, double[] weights) {
+    public Map<WellBigDecimal, BigDecimal> set(WellSetBigDecimal set, final double[] weights) {
 
     	Preconditions.checkNotNull(set, "The set cannot be null.");
     	
     	Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), set, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, weights);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : set) {
-        	WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone,  well(well, weights));
+            WellBigDecimal clone = new WellBigDecimal(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -466,15 +515,23 @@ public abstract class DescriptiveStatisticBigDecimalWeights extends DescriptiveS
      * @param    int                  length of subset
      * @return                        map of wells and results
      */
-    public Map<WellBigDecimal, BigDecimal> set(WellSetBigDecimal set, double[] weights, int begin, int length) {
+    public Map<WellBigDecimal, BigDecimal> set(WellSetBigDecimal set, final double[] weights, final int begin, final int length) {
 
         Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), set, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, weights, begin, length);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : set) {
-        	WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone,  well(well, weights, begin, length));
+            WellBigDecimal clone = new WellBigDecimal(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -517,29 +574,35 @@ public abstract class DescriptiveStatisticBigDecimalWeights extends DescriptiveS
      * @return                                    map of well sets and aggregated results
      */
     public Map<WellSetBigDecimal, BigDecimal> setsAggregated(
-            Collection<WellSetBigDecimal> collection, double[] weights) {
+            Collection<WellSetBigDecimal> collection, final double[] weights) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetBigDecimal, BigDecimal> results = new TreeMap<WellSetBigDecimal, BigDecimal>();
         
-        for(WellSetBigDecimal set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-
-            	List<BigDecimal> input = well.data();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<WellSetBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+
+                	List<BigDecimal> input = well.data();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : collection) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -553,29 +616,35 @@ public abstract class DescriptiveStatisticBigDecimalWeights extends DescriptiveS
      * @return                          map of well sets and aggregated results
      */
     public Map<WellSetBigDecimal, BigDecimal> setsAggregated(
-            WellSetBigDecimal[] array, double[] weights) {
+            WellSetBigDecimal[] array, final double[] weights) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetBigDecimal, BigDecimal> results = new TreeMap<WellSetBigDecimal, BigDecimal>();
         
-        for(WellSetBigDecimal set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-
-            	List<BigDecimal> input = well.data();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<WellSetBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+
+                	List<BigDecimal> input = well.data();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : array) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -621,29 +690,35 @@ public abstract class DescriptiveStatisticBigDecimalWeights extends DescriptiveS
      * @return                                    map of well sets and aggregated results
      */
     public Map<WellSetBigDecimal, BigDecimal> setsAggregated(
-            Collection<WellSetBigDecimal> collection, double[] weights, int begin, int length) {
+            Collection<WellSetBigDecimal> collection, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetBigDecimal, BigDecimal> results = new TreeMap<WellSetBigDecimal, BigDecimal>();
         
-        for(WellSetBigDecimal set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-
-            	List<BigDecimal> input = well.data().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<WellSetBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+
+                	List<BigDecimal> input = well.data().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : collection) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -660,29 +735,35 @@ public abstract class DescriptiveStatisticBigDecimalWeights extends DescriptiveS
      * @return                          map of well sets and aggregated results
      */
     public Map<WellSetBigDecimal, BigDecimal> setsAggregated(
-            WellSetBigDecimal[] array, double[] weights, int begin, int length) {
+            WellSetBigDecimal[] array, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetBigDecimal, BigDecimal> results = new TreeMap<WellSetBigDecimal, BigDecimal>();
         
-        for(WellSetBigDecimal set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-
-            	List<BigDecimal> input = well.data().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<WellSetBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+
+                	List<BigDecimal> input = well.data().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : array) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
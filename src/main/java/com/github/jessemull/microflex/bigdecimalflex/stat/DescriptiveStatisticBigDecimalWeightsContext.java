@@ -36,6 +36,7 @@ import com.google.common.base.Preconditions;
 import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs weighted statistical operations for BigDecimal plate stacks, 
@@ -189,15 +190,23 @@ public abstract class DescriptiveStatisticBigDecimalWeightsContext extends Descr
      * @param    MathContext        the math context
      * @return                      map of wells and results
      */
-    public Map<WellBigDecimal, BigDecimal> plate(PlateBigDecimal plate, double[] weights, MathContext mc) {
+    public Map<WellBigDecimal, BigDecimal> plate(PlateBigDecimal plate, final double[] weights, final MathContext mc) {
 
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
     	
     	Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), plate, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, weights, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : plate) {
             WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone, well(well, weights, mc));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -214,15 +223,23 @@ public abstract class DescriptiveStatisticBigDecimalWeightsContext extends Descr
      * @param    MathContext        the math context
      * @return                      map of wells and results
      */
-    public Map<WellBigDecimal, BigDecimal> plate(PlateBigDecimal plate, double[] weights, int begin, int length, MathContext mc) {
+    public Map<WellBigDecimal, BigDecimal> plate(PlateBigDecimal plate, final double[] weights, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
     	
     	Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), plate, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, weights, begin, length, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : plate) {
             WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone, well(well, weights, begin, length, mc));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -267,29 +284,35 @@ public abstract class DescriptiveStatisticBigDecimalWeightsContext extends Descr
      * @return                                  map of plates and aggregated results
      */
     public Map<PlateBigDecimal, BigDecimal> platesAggregated(
-            Collection<PlateBigDecimal> collection, double[] weights, MathContext mc) {
+            Collection<PlateBigDecimal> collection, final double[] weights, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateBigDecimal, BigDecimal> results = new TreeMap<PlateBigDecimal, BigDecimal>();
         
-        for(PlateBigDecimal plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-
-            	List<BigDecimal> input = well.data();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<PlateBigDecimal, BigDecimal>() {
+            public BigDecimal apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+
+                	List<BigDecimal> input = well.data();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : collection) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -304,29 +327,35 @@ public abstract class DescriptiveStatisticBigDecimalWeightsContext extends Descr
      * @return                        map of plates and aggregated results
      */
     public Map<PlateBigDecimal, BigDecimal> platesAggregated(
-            PlateBigDecimal[] array, double[] weights, MathContext mc) {
+            PlateBigDecimal[] array, final double[] weights, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateBigDecimal, BigDecimal> results = new TreeMap<PlateBigDecimal, BigDecimal>();
         
-        for(PlateBigDecimal plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-
-            	List<BigDecimal> input = well.data();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<PlateBigDecimal, BigDecimal>() {
+            public BigDecimal apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+
+                	List<BigDecimal> input = well.data();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : array) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -374,29 +403,35 @@ public abstract class DescriptiveStatisticBigDecimalWeightsContext extends Descr
      * @return                                  map of plates and aggregated results
      */
     public Map<PlateBigDecimal, BigDecimal> platesAggregated(
-            Collection<PlateBigDecimal> collection, double[] weights, int begin, int length, MathContext mc) {
+            Collection<PlateBigDecimal> collection, final double[] weights, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateBigDecimal, BigDecimal> results = new TreeMap<PlateBigDecimal, BigDecimal>();
         
-        for(PlateBigDecimal plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-
-            	List<BigDecimal> input = well.data().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<PlateBigDecimal, BigDecimal>() {
+            public BigDecimal apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+
+                	List<BigDecimal> input = well.data().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : collection) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -414,29 +449,35 @@ public abstract class DescriptiveStatisticBigDecimalWeightsContext extends Descr
      * @return                        map of plates and aggregated results
      */
     public Map<PlateBigDecimal, BigDecimal> platesAggregated(
-            PlateBigDecimal[] array, double[] weights, int begin, int length, MathContext mc) {
+            PlateBigDecimal[] array, final double[] weights, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateBigDecimal, BigDecimal> results = new TreeMap<PlateBigDecimal, BigDecimal>();
         
-        for(PlateBigDecimal plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<PlateBigDecimal, BigDecimal>() {
+            public BigDecimal apply(PlateBigDecimal plate) {
 
-            	List<BigDecimal> input = well.data().subList(begin, begin + length);
-            
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+
+                	List<BigDecimal> input = well.data().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : array) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -452,15 +493,23 @@ public abstract class DescriptiveStatisticBigDecimalWeightsContext extends Descr
      * @param    MathContext          the math context
      * @return                        map of wells and results
      */
-    public Map<WellBigDecimal, BigDecimal> set(WellSetBigDecimal set, double[] weights, MathContext mc) {
+    public Map<WellBigDecimal, BigDecimal> set(WellSetBigDecimal set, final double[] weights, final MathContext mc) {
 
     	Preconditions.checkNotNull(set, "The set cannot be null.");
     	
     	Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), set, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, weights, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : set) {
-        	WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone,  well(well, weights, mc));
+            WellBigDecimal clone = new WellBigDecimal(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -477,15 +526,23 @@ public abstract class DescriptiveStatisticBigDecimalWeightsContext extends Descr
      * @param    MathContext          the math context
      * @return                        map of wells and results
      */
-    public Map<WellBigDecimal, BigDecimal> set(WellSetBigDecimal set, double[] weights, int begin, int length, MathContext mc) {
+    public Map<WellBigDecimal, BigDecimal> set(WellSetBigDecimal set, final double[] weights, final int begin, final int length, final MathContext mc) {
 
         Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), set, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, weights, begin, length, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : set) {
-        	WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone,  well(well, weights, begin, length, mc));
+            WellBigDecimal clone = new WellBigDecimal(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -530,29 +587,35 @@ public abstract class DescriptiveStatisticBigDecimalWeightsContext extends Descr
      * @return                                    map of well sets and aggregated results
      */
     public Map<WellSetBigDecimal, BigDecimal> setsAggregated(
-            Collection<WellSetBigDecimal> collection, double[] weights, MathContext mc) {
+            Collection<WellSetBigDecimal> collection, final double[] weights, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetBigDecimal, BigDecimal> results = new TreeMap<WellSetBigDecimal, BigDecimal>();
         
-        for(WellSetBigDecimal set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-
-            	List<BigDecimal> input = well.data();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<WellSetBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+
+                	List<BigDecimal> input = well.data();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : collection) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -567,29 +630,35 @@ public abstract class DescriptiveStatisticBigDecimalWeightsContext extends Descr
      * @return                          map of well sets and aggregated results
      */
     public Map<WellSetBigDecimal, BigDecimal> setsAggregated(
-            WellSetBigDecimal[] array, double[] weights, MathContext mc) {
+            WellSetBigDecimal[] array, final double[] weights, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetBigDecimal, BigDecimal> results = new TreeMap<WellSetBigDecimal, BigDecimal>();
         
-        for(WellSetBigDecimal set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-
-            	List<BigDecimal> input = well.data();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<WellSetBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+
+                	List<BigDecimal> input = well.data();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : array) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -637,29 +706,35 @@ public abstract class DescriptiveStatisticBigDecimalWeightsContext extends Descr
      * @return                                    map of well sets and aggregated results
      */
     public Map<WellSetBigDecimal, BigDecimal> setsAggregated(
-            Collection<WellSetBigDecimal> collection, double[] weights, int begin, int length, MathContext mc) {
+            Collection<WellSetBigDecimal> collection, final double[] weights, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetBigDecimal, BigDecimal> results = new TreeMap<WellSetBigDecimal, BigDecimal>();
         
-        for(WellSetBigDecimal set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-
-            	List<BigDecimal> input = well.data().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<WellSetBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+
+                	List<BigDecimal> input = well.data().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : collection) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -677,29 +752,35 @@ public abstract class DescriptiveStatisticBigDecimalWeightsContext extends Descr
      * @return                          map of well sets and aggregated results
      */
     public Map<WellSetBigDecimal, BigDecimal> setsAggregated(
-            WellSetBigDecimal[] array, double[] weights, int begin, int length, MathContext mc) {
+            WellSetBigDecimal[] array, final double[] weights, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetBigDecimal, BigDecimal> results = new TreeMap<WellSetBigDecimal, BigDecimal>();
         
-        for(WellSetBigDecimal set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-
-            	List<BigDecimal> input = well.data().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<WellSetBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+
+                	List<BigDecimal> input = well.data().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : array) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -30,12 +30,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs statistical operations that return a list of BigDecimals as
@@ -188,7 +190,49 @@ import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
  * @email hello@jessemull.com
  */
 public abstract class DescriptiveStatisticListBigDecimalContext {
+
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private ForkJoinPool pool;    // Pool for parallel execution or null
+    
+    /* ------------------------- Parallel Execution ------------------------- */
+    
+    /**
+     * Sets the fork join pool used to calculate the statistic for the wells, 
+     * plates and sets in parallel. Results are merged in the same order used 
+     * by sequential execution. A null pool restores sequential execution.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    
+    /**
+     * Returns the fork join pool used for parallel execution or null if the 
+     * statistic is calculated sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+    
+    /**
+     * Enables parallel execution using the shared default pool or restores 
+     * sequential execution.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
     
+    /**
+     * Returns true if the statistic is calculated in parallel.
+     * @return    true if parallel execution is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+        
     /* ---------------- Well statistics for all plate wells ----------------- */
     
     /**
@@ -197,15 +241,23 @@ public abstract class DescriptiveStatisticListBigDecimalContext {
      * @param    MathContext        the math context
      * @return                      map of wells and results
      */
-    public Map<WellBigDecimal, List<BigDecimal>> plate(PlateBigDecimal plate, MathContext mc) {
+    public Map<WellBigDecimal, List<BigDecimal>> plate(PlateBigDecimal plate, final MathContext mc) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellBigDecimal, List<BigDecimal>> result = new TreeMap<WellBigDecimal, List<BigDecimal>>();
         
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigDecimal, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellBigDecimal well) {
+                return well(well, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : plate) {
             WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone, well(well, mc));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -221,15 +273,23 @@ public abstract class DescriptiveStatisticListBigDecimalContext {
      * @param    MathContext        the math context
      * @return                      map of wells and results   
      */
-    public Map<WellBigDecimal, List<BigDecimal>> plate(PlateBigDecimal plate, int begin, int length, MathContext mc) {
+    public Map<WellBigDecimal, List<BigDecimal>> plate(PlateBigDecimal plate, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellBigDecimal, List<BigDecimal>> result = new TreeMap<WellBigDecimal, List<BigDecimal>>();
         
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigDecimal, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellBigDecimal well) {
+                return well(well, begin, length, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : plate) {
             WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone, well(well, begin, length, mc));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -264,23 +324,29 @@ public abstract class DescriptiveStatisticListBigDecimalContext {
      * @param    MathContext                    the math context
      * @return                                  map of plates and aggregated results
      */
-    public Map<PlateBigDecimal, List<BigDecimal>> platesAggregated(Collection<PlateBigDecimal> collection, MathContext mc) {
+    public Map<PlateBigDecimal, List<BigDecimal>> platesAggregated(Collection<PlateBigDecimal> collection, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
 
         Map<PlateBigDecimal, List<BigDecimal>> results = new TreeMap<PlateBigDecimal, List<BigDecimal>>();
         
-        for(PlateBigDecimal plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-                aggregated.addAll(well.data());
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateBigDecimal, List<BigDecimal>>() {
+            public List<BigDecimal> apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : collection) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -292,23 +358,29 @@ public abstract class DescriptiveStatisticListBigDecimalContext {
      * @param    MathContext          the math context
      * @return                        map of plates and aggregated result
      */
-    public Map<PlateBigDecimal, List<BigDecimal>> platesAggregated(PlateBigDecimal[] array, MathContext mc) {
+    public Map<PlateBigDecimal, List<BigDecimal>> platesAggregated(PlateBigDecimal[] array, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
 
         Map<PlateBigDecimal, List<BigDecimal>> results = new TreeMap<PlateBigDecimal, List<BigDecimal>>();
         
-        for(PlateBigDecimal plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-                aggregated.addAll(well.data());
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateBigDecimal, List<BigDecimal>>() {
+            public List<BigDecimal> apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : array) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -348,23 +420,29 @@ public abstract class DescriptiveStatisticListBigDecimalContext {
      * @return                                  map of plates and aggregated results
      */
     public Map<PlateBigDecimal, List<BigDecimal>> platesAggregated(
-            Collection<PlateBigDecimal> collection, int begin, int length, MathContext mc) {
+            Collection<PlateBigDecimal> collection, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
 
         Map<PlateBigDecimal, List<BigDecimal>> results = new TreeMap<PlateBigDecimal, List<BigDecimal>>();
         
-        for(PlateBigDecimal plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateBigDecimal, List<BigDecimal>>() {
+            public List<BigDecimal> apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, mc);
             }
-         
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : collection) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -381,23 +459,29 @@ public abstract class DescriptiveStatisticListBigDecimalContext {
      * @return                        map of plates and aggregated results	
      */
     public Map<PlateBigDecimal, List<BigDecimal>> platesAggregated(
-            PlateBigDecimal[] array, int begin, int length, MathContext mc) {
+            PlateBigDecimal[] array, final int begin, final int length, final MathContext mc) {
        
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateBigDecimal, List<BigDecimal>> results = new TreeMap<PlateBigDecimal, List<BigDecimal>>();
         
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateBigDecimal, List<BigDecimal>>() {
+            public List<BigDecimal> apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, mc);
+            }
+        });
+
+        int index = 0;
+
         for(PlateBigDecimal plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
-            }      
-            
-            results.put(clone, calculate(aggregated, mc));
-        
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -412,15 +496,23 @@ public abstract class DescriptiveStatisticListBigDecimalContext {
      * @param    MathContext          the math context
      * @return                        map of wells and results
      */
-    public Map<WellBigDecimal, List<BigDecimal>> set(WellSetBigDecimal set, MathContext mc) {
+    public Map<WellBigDecimal, List<BigDecimal>> set(WellSetBigDecimal set, final MathContext mc) {
     	
         Preconditions.checkNotNull(set, "The set cannot be null.");
     	
     	Map<WellBigDecimal, List<BigDecimal>> result = new TreeMap<WellBigDecimal, List<BigDecimal>>();
         
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigDecimal, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellBigDecimal well) {
+                return well(well, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : set) {
             WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone, well(well, mc));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -436,15 +528,23 @@ public abstract class DescriptiveStatisticListBigDecimalContext {
      * @param    MathContext          the math context
      * @return                        map of wells and results
      */
-    public Map<WellBigDecimal, List<BigDecimal>> set(WellSetBigDecimal set, int begin, int length, MathContext mc) {
+    public Map<WellBigDecimal, List<BigDecimal>> set(WellSetBigDecimal set, final int begin, final int length, final MathContext mc) {
         
     	Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellBigDecimal, List<BigDecimal>> result = new TreeMap<WellBigDecimal, List<BigDecimal>>();
         
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigDecimal, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellBigDecimal well) {
+                return well(well, begin, length, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : set) {
-        	WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone,  well(well, begin, length, mc));
+            WellBigDecimal clone = new WellBigDecimal(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -479,23 +579,29 @@ public abstract class DescriptiveStatisticListBigDecimalContext {
      * @param    MathContext                      the math context
      * @return                                    map of well sets and aggregated results
      */
-    public Map<WellSetBigDecimal, List<BigDecimal>> setsAggregated(Collection<WellSetBigDecimal> collection, MathContext mc) {
+    public Map<WellSetBigDecimal, List<BigDecimal>> setsAggregated(Collection<WellSetBigDecimal> collection, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
 
         Map<WellSetBigDecimal, List<BigDecimal>> results = new TreeMap<WellSetBigDecimal, List<BigDecimal>>();
         
-        for(WellSetBigDecimal set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-                aggregated.addAll(well.data());
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetBigDecimal, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : collection) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -507,23 +613,29 @@ public abstract class DescriptiveStatisticListBigDecimalContext {
      * @param    MathContext            the math context
      * @return                          map of well sets and aggregated results
      */
-    public Map<WellSetBigDecimal, List<BigDecimal>> setsAggregated(WellSetBigDecimal[] array, MathContext mc) {
+    public Map<WellSetBigDecimal, List<BigDecimal>> setsAggregated(WellSetBigDecimal[] array, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
 
         Map<WellSetBigDecimal, List<BigDecimal>> results = new TreeMap<WellSetBigDecimal, List<BigDecimal>>();
         
-        for(WellSetBigDecimal set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-                aggregated.addAll(well.data());
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetBigDecimal, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : array) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -563,23 +675,29 @@ public abstract class DescriptiveStatisticListBigDecimalContext {
      * @return                                    map of well sets and aggregated results
      */
     public Map<WellSetBigDecimal, List<BigDecimal>> setsAggregated(
-            Collection<WellSetBigDecimal> collection, int begin, int length, MathContext mc) {
+            Collection<WellSetBigDecimal> collection, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetBigDecimal, List<BigDecimal>> results = new TreeMap<WellSetBigDecimal, List<BigDecimal>>();
         
-        for(WellSetBigDecimal set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetBigDecimal, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : collection) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -596,23 +714,29 @@ public abstract class DescriptiveStatisticListBigDecimalContext {
      * @return                          map of well sets and aggregated results
      */
     public Map<WellSetBigDecimal, List<BigDecimal>> setsAggregated(
-            WellSetBigDecimal[] array, int begin, int length, MathContext mc) {
+            WellSetBigDecimal[] array, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetBigDecimal, List<BigDecimal>> results = new TreeMap<WellSetBigDecimal, List<BigDecimal>>();
         
-        for(WellSetBigDecimal set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetBigDecimal, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : array) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -145,5 +145,22 @@ public class MinBigDecimal extends DescriptiveStatisticBigDecimal {
     public BigDecimal calculate(List<BigDecimal> list, int begin, int length) {
         return Collections.min(list.subList(begin, begin + length));            
     }
+    
+    /**
+     * Returns true. The minimum is calculated from a summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the minimum using a summary of the values.
+     * @param    SummaryBigDecimal    the summary
+     * @return                       the result
+     */
+    public BigDecimal calculate(SummaryBigDecimal summary) {
+        return summary.min();
+    }
 
 }
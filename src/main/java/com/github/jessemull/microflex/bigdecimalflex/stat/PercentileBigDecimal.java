@@ -26,7 +26,6 @@ package com.github.jessemull.microflex.bigdecimalflex.stat;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -36,6 +35,7 @@ import com.google.common.base.Preconditions;
 import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
+import com.github.jessemull.microflex.util.SelectionUtil;
 
 /**
  * This class calculates percentiles for BigDecimal plate stacks, plates, 
@@ -620,37 +620,36 @@ public class PercentileBigDecimal {
      */
     public BigDecimal calculate(List<BigDecimal> list, int p) {
         
-    	int n = list.size();
-    	
+        int n = list.size();
+        
     	if(n == 1) {
     		return list.get(0);
     	}
-    	
-        Collections.sort(list);        
+        
+        BigDecimal[] values = list.toArray(new BigDecimal[n]);
         double pos = (p * (n + 1)) / 100.0;
         
         if(pos < 1) {
-        	return list.get(0);
+        	return SelectionUtil.select(values, 0, n, 0);
         }
         
         if(pos >= n) {
-        	return list.get(list.size() - 1);
+        	return SelectionUtil.select(values, 0, n, n - 1);
         }
         
         if(pos == Math.floor(pos) && !Double.isInfinite(pos)) {       
-        	return list.get((int) pos - 1);
+        	return SelectionUtil.select(values, 0, n, (int) pos - 1);
         }
         	
         int lowerIndex = (int) Math.floor(pos) - 1;
-        int upperIndex = lowerIndex + 1;
+        BigDecimal[] bounds = SelectionUtil.select(values, 0, n, new int[]{ lowerIndex, lowerIndex + 1 });
         
-        BigDecimal lower = list.get(lowerIndex);
-        BigDecimal upper = list.get(upperIndex);      
+        BigDecimal lower = bounds[0];
+        BigDecimal upper = bounds[1];      
         BigDecimal d = new BigDecimal((pos - 1 - lowerIndex) + "");
         
         return upper.subtract(lower).multiply(d).add(lower);
-
-    };
+    }
     
     /**
      * Calculates the percentile of the values between the beginning and ending 
@@ -26,16 +26,21 @@ package com.github.jessemull.microflex.bigdecimalflex.stat;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.StackBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs statistical operations for BigDecimal plate stacks, plates, 
@@ -137,7 +142,49 @@ import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
  * @email hello@jessemull.com
  */
 public abstract class QuantileStatisticBigDecimalContext {
+
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private ForkJoinPool pool;    // Pool for parallel execution or null
+    
+    /* ------------------------- Parallel Execution ------------------------- */
+    
+    /**
+     * Sets the fork join pool used to calculate the statistic for the wells, 
+     * plates and sets in parallel. Results are merged in the same order used 
+     * by sequential execution. A null pool restores sequential execution.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    
+    /**
+     * Returns the fork join pool used for parallel execution or null if the 
+     * statistic is calculated sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
     
+    /**
+     * Enables parallel execution using the shared default pool or restores 
+     * sequential execution.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
+    
+    /**
+     * Returns true if the statistic is calculated in parallel.
+     * @return    true if parallel execution is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+        
     /* ---------------- Well statistics for all plate wells ----------------- */
     
     /**
@@ -147,15 +194,23 @@ public abstract class QuantileStatisticBigDecimalContext {
      * @param    MathContext        the math context
      * @return                      map of wells and results
      */
-    public Map<WellBigDecimal, BigDecimal> plate(PlateBigDecimal plate, int p, MathContext mc) {
+    public Map<WellBigDecimal, BigDecimal> plate(PlateBigDecimal plate, final int p, final MathContext mc) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, p, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : plate) {
             WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone, well(well, p, mc));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -172,15 +227,23 @@ public abstract class QuantileStatisticBigDecimalContext {
      * @param    MathContext        the math context
      * @return                      map of wells and results   
      */
-    public Map<WellBigDecimal, BigDecimal> plate(PlateBigDecimal plate, int begin, int length, int p, MathContext mc) {
+    public Map<WellBigDecimal, BigDecimal> plate(PlateBigDecimal plate, final int begin, final int length, final int p, final MathContext mc) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, begin, length, p, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : plate) {
             WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone, well(well, begin, length, p, mc));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -217,23 +280,29 @@ public abstract class QuantileStatisticBigDecimalContext {
      * @param    MathContext                    the math context
      * @return                                  map of plates and aggregated results
      */
-    public Map<PlateBigDecimal, BigDecimal> platesAggregated(Collection<PlateBigDecimal> collection, int p, MathContext mc) {
+    public Map<PlateBigDecimal, BigDecimal> platesAggregated(Collection<PlateBigDecimal> collection, final int p, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
 
         Map<PlateBigDecimal, BigDecimal> results = new TreeMap<PlateBigDecimal, BigDecimal>();
         
-        for(PlateBigDecimal plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-                aggregated.addAll(well.data());
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateBigDecimal, BigDecimal>() {
+            public BigDecimal apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : collection) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -246,23 +315,29 @@ public abstract class QuantileStatisticBigDecimalContext {
      * @param    MathContext          the math context
      * @return                        map of plates and aggregated result
      */
-    public Map<PlateBigDecimal, BigDecimal> platesAggregated(PlateBigDecimal[] array, int p, MathContext mc) {
+    public Map<PlateBigDecimal, BigDecimal> platesAggregated(PlateBigDecimal[] array, final int p, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
 
         Map<PlateBigDecimal, BigDecimal> results = new TreeMap<PlateBigDecimal, BigDecimal>();
         
-        for(PlateBigDecimal plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-                aggregated.addAll(well.data());
+        List<BigDecimal> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateBigDecimal, BigDecimal>() {
+            public BigDecimal apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : array) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -304,23 +379,29 @@ public abstract class QuantileStatisticBigDecimalContext {
      * @return                                  map of plates and aggregated results
      */
     public Map<PlateBigDecimal, BigDecimal> platesAggregated(
-            Collection<PlateBigDecimal> collection, int begin, int length, int p, MathContext mc) {
+            Collection<PlateBigDecimal> collection, final int begin, final int length, final int p, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateBigDecimal, BigDecimal> results = new TreeMap<PlateBigDecimal, BigDecimal>();
         
-        for(PlateBigDecimal plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateBigDecimal, BigDecimal>() {
+            public BigDecimal apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : collection) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -338,23 +419,29 @@ public abstract class QuantileStatisticBigDecimalContext {
      * @return                        map of plates and aggregated results
      */
     public Map<PlateBigDecimal, BigDecimal> platesAggregated(
-            PlateBigDecimal[] array, int begin, int length, int p, MathContext mc) {
+            PlateBigDecimal[] array, final int begin, final int length, final int p, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateBigDecimal, BigDecimal> results = new TreeMap<PlateBigDecimal, BigDecimal>();
         
-        for(PlateBigDecimal plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<BigDecimal> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateBigDecimal, BigDecimal>() {
+            public BigDecimal apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : array) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -370,15 +457,23 @@ public abstract class QuantileStatisticBigDecimalContext {
      * @param    MathContext          the math context
      * @return                        map of wells and results
      */
-    public Map<WellBigDecimal, BigDecimal> set(WellSetBigDecimal set, int p, MathContext mc) {
+    public Map<WellBigDecimal, BigDecimal> set(WellSetBigDecimal set, final int p, final MathContext mc) {
     	
         Preconditions.checkNotNull(set, "The set cannot be null.");
     	
     	Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, p, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : set) {
             WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone, well(well, p, mc));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -395,15 +490,23 @@ public abstract class QuantileStatisticBigDecimalContext {
      * @param    MathContext          the math context
      * @return                        map of wells and results
      */
-    public Map<WellBigDecimal, BigDecimal> set(WellSetBigDecimal set, int begin, int length, int p, MathContext mc) {
+    public Map<WellBigDecimal, BigDecimal> set(WellSetBigDecimal set, final int begin, final int length, final int p, final MathContext mc) {
         
     	Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, begin, length, p, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : set) {
-        	WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone,  well(well, begin, length, p, mc));
+            WellBigDecimal clone = new WellBigDecimal(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -440,23 +543,29 @@ public abstract class QuantileStatisticBigDecimalContext {
      * @param    MathContext                      the math context
      * @return                                    map of well sets and aggregated results
      */
-    public Map<WellSetBigDecimal, BigDecimal> setsAggregated(Collection<WellSetBigDecimal> collection, int p, MathContext mc) {
+    public Map<WellSetBigDecimal, BigDecimal> setsAggregated(Collection<WellSetBigDecimal> collection, final int p, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
 
         Map<WellSetBigDecimal, BigDecimal> results = new TreeMap<WellSetBigDecimal, BigDecimal>();
         
-        for(WellSetBigDecimal set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-                aggregated.addAll(well.data());
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : collection) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -469,23 +578,29 @@ public abstract class QuantileStatisticBigDecimalContext {
      * @param    MathContext            the math context
      * @return                          map of well sets and aggregated results
      */
-    public Map<WellSetBigDecimal, BigDecimal> setsAggregated(WellSetBigDecimal[] array, int p, MathContext mc) {
+    public Map<WellSetBigDecimal, BigDecimal> setsAggregated(WellSetBigDecimal[] array, final int p, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
 
         Map<WellSetBigDecimal, BigDecimal> results = new TreeMap<WellSetBigDecimal, BigDecimal>();
         
-        for(WellSetBigDecimal set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-                aggregated.addAll(well.data());
+        List<BigDecimal> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : array) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -527,23 +642,29 @@ public abstract class QuantileStatisticBigDecimalContext {
      * @return                                    map of well sets and aggregated results
      */
     public Map<WellSetBigDecimal, BigDecimal> setsAggregated(
-            Collection<WellSetBigDecimal> collection, int begin, int length, int p, MathContext mc) {
+            Collection<WellSetBigDecimal> collection, final int begin, final int length, final int p, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetBigDecimal, BigDecimal> results = new TreeMap<WellSetBigDecimal, BigDecimal>();
         
-        for(WellSetBigDecimal set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : collection) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -561,27 +682,286 @@ public abstract class QuantileStatisticBigDecimalContext {
      * @return                          map of well sets and aggregated results
      */
     public Map<WellSetBigDecimal, BigDecimal> setsAggregated(
-            WellSetBigDecimal[] array, int begin, int length, int p, MathContext mc) {
+            WellSetBigDecimal[] array, final int begin, final int length, final int p, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetBigDecimal, BigDecimal> results = new TreeMap<WellSetBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, p, mc);
+            }
+        });
+
+        int index = 0;
+
         for(WellSetBigDecimal set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+            results.put(new WellSetBigDecimal(set), values.get(index++));
+        }
+        
+        return results;
+        
+    }
+    
+    /* ------------------------- Stack statistics --------------------------  */
+    
+    /**
+     * Returns the statistic for each well of each plate in the stack. The plates 
+     * are processed in parallel when a pool is set.
+     * @param    StackBigDecimal    the stack
+     * @param    int                the integer value
+     * @param    MathContext        the math context
+     * @return                      map of plates and well results
+     */
+    public Map<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>> stack(StackBigDecimal stack, final int p, final MathContext mc) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        
+        Map<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>> results = new TreeMap<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>>();
+        
+        List<Map<WellBigDecimal, BigDecimal>> values = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>>() {
+            public Map<WellBigDecimal, BigDecimal> apply(PlateBigDecimal plate) {
+                return plate(plate, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
+        });
+        
+        int index = 0;
+        
+        for(PlateBigDecimal plate : stack) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Returns the statistic for each well of each plate in the stack using the 
+     * values between the indices. The plates are processed in parallel when a 
+     * pool is set.
+     * @param    StackBigDecimal    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset
+     * @param    int                the integer value
+     * @param    MathContext        the math context
+     * @return                      map of plates and well results
+     */
+    public Map<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>> stack(StackBigDecimal stack, final int begin, final int length, final int p, final MathContext mc) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
         
+        Map<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>> results = new TreeMap<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>>();
+        
+        List<Map<WellBigDecimal, BigDecimal>> values = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>>() {
+            public Map<WellBigDecimal, BigDecimal> apply(PlateBigDecimal plate) {
+                return plate(plate, begin, length, p, mc);
+            }
+        });
+        
+        int index = 0;
+        
+        for(PlateBigDecimal plate : stack) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
+    }
+    
+    /* ------------- Well statistics across the plates of a stack ----------  */
+    
+    /**
+     * Returns the statistic for each well position using the values of the well 
+     * in every plate of the stack. For example, the median of well A1 across the 
+     * replicate plates. The stack is read in a single sweep and the results are
+     * mapped to wells holding the values of each position.
+     * @param    StackBigDecimal    the stack
+     * @param    int                the integer value
+     * @param    MathContext        the math context
+     * @return                      map of wells and results
+     */
+    public Map<WellBigDecimal, BigDecimal> stackWells(StackBigDecimal stack, final int p, final MathContext mc) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        
+        Collection<WellBigDecimal> positions = this.positions(stack, 0, -1);
+        
+        Map<WellBigDecimal, BigDecimal> results = new TreeMap<WellBigDecimal, BigDecimal>();
+        
+        List<BigDecimal> values = ParallelUtil.map(this.pool, positions, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, p, mc);
+            }
+        });
+        
+        int index = 0;
         
+        for(WellBigDecimal well : positions) {
+            results.put(well, values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Returns the statistic for each well position using the values between the
+     * indices of the well in every plate of the stack.
+     * @param    StackBigDecimal    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset
+     * @param    int                the integer value
+     * @param    MathContext        the math context
+     * @return                      map of wells and results
+     */
+    public Map<WellBigDecimal, BigDecimal> stackWells(StackBigDecimal stack, int begin, int length, final int p, final MathContext mc) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        Preconditions.checkArgument(begin >= 0 && length >= 0, "Invalid subset.");
+        
+        Collection<WellBigDecimal> positions = this.positions(stack, begin, length);
+        
+        Map<WellBigDecimal, BigDecimal> results = new TreeMap<WellBigDecimal, BigDecimal>();
+        
+        List<BigDecimal> values = ParallelUtil.map(this.pool, positions, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, p, mc);
+            }
+        });
+        
+        int index = 0;
+        
+        for(WellBigDecimal well : positions) {
+            results.put(well, values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /* --------------------- Aggregated stack statistics -------------------  */
+    
+    /**
+     * Returns the aggregated statistic for the stack.
+     * @param    StackBigDecimal    the stack
+     * @param    int                the integer value
+     * @param    MathContext        the math context
+     * @return                      the aggregated result
+     */
+    public BigDecimal stacksAggregated(StackBigDecimal stack, int p, MathContext mc) {
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        return calculate(this.aggregated(stack, 0, -1), p, mc);
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack. The stacks are processed
+     * in parallel when a pool is set.
+     * @param    Collection<StackBigDecimal>    collection of stacks
+     * @param    int                            the integer value
+     * @param    MathContext                    the math context
+     * @return                                  map of stacks and aggregated results
+     */
+    public Map<StackBigDecimal, BigDecimal> stacksAggregated(Collection<StackBigDecimal> collection, final int p, final MathContext mc) {
+        
+        Preconditions.checkNotNull(collection, "The stack collection cannot be null.");
+        
+        Map<StackBigDecimal, BigDecimal> results = new LinkedHashMap<StackBigDecimal, BigDecimal>();
+        
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<StackBigDecimal, BigDecimal>() {
+            public BigDecimal apply(StackBigDecimal stack) {
+                return calculate(aggregated(stack, 0, -1), p, mc);
+            }
+        });
+        
+        int index = 0;
+        
+        for(StackBigDecimal stack : collection) {
+            results.put(new StackBigDecimal(stack), values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack. The stacks are processed
+     * in parallel when a pool is set.
+     * @param    StackBigDecimal[]    array of stacks
+     * @param    int                  the integer value
+     * @param    MathContext          the math context
+     * @return                        map of stacks and aggregated results
+     */
+    public Map<StackBigDecimal, BigDecimal> stacksAggregated(StackBigDecimal[] array, int p, MathContext mc) {
+        Preconditions.checkNotNull(array, "The stack array cannot be null.");
+        return this.stacksAggregated(Arrays.asList(array), p, mc);
+    }
+    
+    /**
+     * Returns the aggregated statistic for the stack using the values between 
+     * the indices.
+     * @param    StackBigDecimal    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset
+     * @param    int                the integer value
+     * @param    MathContext        the math context
+     * @return                      the aggregated result
+     */
+    public BigDecimal stacksAggregated(StackBigDecimal stack, int begin, int length, int p, MathContext mc) {
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        Preconditions.checkArgument(begin >= 0 && length >= 0, "Invalid subset.");
+        return calculate(this.aggregated(stack, begin, length), p, mc);
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack using the values between 
+     * the indices. The stacks are processed in parallel when a pool is set.
+     * @param    Collection<StackBigDecimal>    collection of stacks
+     * @param    int                            beginning index of subset
+     * @param    int                            length of subset
+     * @param    int                            the integer value
+     * @param    MathContext                    the math context
+     * @return                                  map of stacks and aggregated results
+     */
+    public Map<StackBigDecimal, BigDecimal> stacksAggregated(
+            Collection<StackBigDecimal> collection, final int begin, final int length, final int p, final MathContext mc) {
+        
+        Preconditions.checkNotNull(collection, "The stack collection cannot be null.");
+        Preconditions.checkArgument(begin >= 0 && length >= 0, "Invalid subset.");
+        
+        Map<StackBigDecimal, BigDecimal> results = new LinkedHashMap<StackBigDecimal, BigDecimal>();
+        
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<StackBigDecimal, BigDecimal>() {
+            public BigDecimal apply(StackBigDecimal stack) {
+                return calculate(aggregated(stack, begin, length), p, mc);
+            }
+        });
+        
+        int index = 0;
+        
+        for(StackBigDecimal stack : collection) {
+            results.put(new StackBigDecimal(stack), values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack using the values between 
+     * the indices. The stacks are processed in parallel when a pool is set.
+     * @param    StackBigDecimal[]    array of stacks
+     * @param    int                  beginning index of subset
+     * @param    int                  length of subset
+     * @param    int                  the integer value
+     * @param    MathContext          the math context
+     * @return                        map of stacks and aggregated results
+     */
+    public Map<StackBigDecimal, BigDecimal> stacksAggregated(
+            StackBigDecimal[] array, int begin, int length, int p, MathContext mc) {
+        Preconditions.checkNotNull(array, "The stack array cannot be null.");
+        return this.stacksAggregated(Arrays.asList(array), begin, length, p, mc);
     }
     
     /* --------------------------- Well statistics -------------------------  */
@@ -640,4 +1020,59 @@ public abstract class QuantileStatisticBigDecimalContext {
      * @return                       the result
      */
     public abstract BigDecimal calculate(List<BigDecimal> list, int begin, int length, int p, MathContext mc);
+    
+    /* ---------------------- Stack sweep helpers --------------------------  */
+    
+    /**
+     * Returns the values of every well in the stack. A negative length adds all 
+     * the values of each well.
+     * @param    StackBigDecimal    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset or -1
+     * @return                      the values
+     */
+    private List<BigDecimal> aggregated(StackBigDecimal stack, int begin, int length) {
+        
+        List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+        
+        for(PlateBigDecimal plate : stack) {
+            for(WellBigDecimal well : plate) {
+                aggregated.addAll(length < 0 ? well.data() : well.data().subList(begin, begin + length));
+            }
+        }
+        
+        return aggregated;
+    }
+    
+    /**
+     * Sweeps the stack once and returns a well for each well position holding 
+     * the values of the position from every plate. A negative length adds all
+     * the values of each well.
+     * @param    StackBigDecimal    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset or -1
+     * @return                      the wells in row and column order
+     */
+    private Collection<WellBigDecimal> positions(StackBigDecimal stack, int begin, int length) {
+        
+        Map<WellBigDecimal, WellBigDecimal> positions = new TreeMap<WellBigDecimal, WellBigDecimal>();
+        
+        for(PlateBigDecimal plate : stack) {
+            
+            for(WellBigDecimal well : plate) {
+                
+                WellBigDecimal position = positions.get(well);
+                
+                if(position == null) {
+                    position = new WellBigDecimal(well.row(), well.column());
+                    positions.put(position, position);
+                }
+                
+                position.add(length < 0 ? well.data() : well.data().subList(begin, begin + length));
+            }
+        }
+        
+        return positions.values();
+    }
+    
 }
@@ -30,12 +30,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs statistical operations for BigDecimal plate stacks, plates, 
@@ -137,7 +139,49 @@ import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
  * @email hello@jessemull.com
  */
 public abstract class QuantileStatisticBigDecimalRationalContext {
+
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private ForkJoinPool pool;    // Pool for parallel execution or null
+    
+    /* ------------------------- Parallel Execution ------------------------- */
+    
+    /**
+     * Sets the fork join pool used to calculate the statistic for the wells, 
+     * plates and sets in parallel. Results are merged in the same order used 
+     * by sequential execution. A null pool restores sequential execution.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    
+    /**
+     * Returns the fork join pool used for parallel execution or null if the 
+     * statistic is calculated sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+    
+    /**
+     * Enables parallel execution using the shared default pool or restores 
+     * sequential execution.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
     
+    /**
+     * Returns true if the statistic is calculated in parallel.
+     * @return    true if parallel execution is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+        
     /* ---------------- Well statistics for all plate wells ----------------- */
     
     /**
@@ -147,15 +191,23 @@ public abstract class QuantileStatisticBigDecimalRationalContext {
      * @param    MathContext        the math context     
      * @return                      map of wells and results
      */
-    public Map<WellBigDecimal, BigDecimal> plate(PlateBigDecimal plate, double p, MathContext mc) {
+    public Map<WellBigDecimal, BigDecimal> plate(PlateBigDecimal plate, final double p, final MathContext mc) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, p, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : plate) {
             WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone, well(well, p, mc));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -172,15 +224,23 @@ public abstract class QuantileStatisticBigDecimalRationalContext {
      * @param    MathContext        the math context
      * @return                      map of wells and results   
      */
-    public Map<WellBigDecimal, BigDecimal> plate(PlateBigDecimal plate, int begin, int length, double p, MathContext mc) {
+    public Map<WellBigDecimal, BigDecimal> plate(PlateBigDecimal plate, final int begin, final int length, final double p, final MathContext mc) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, begin, length, p, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : plate) {
             WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone, well(well, begin, length, p, mc));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -217,23 +277,29 @@ public abstract class QuantileStatisticBigDecimalRationalContext {
      * @param    MathContext                    the math context  
      * @return                                  map of plates and aggregated results
      */
-    public Map<PlateBigDecimal, BigDecimal> platesAggregated(Collection<PlateBigDecimal> collection, double p, MathContext mc) {
+    public Map<PlateBigDecimal, BigDecimal> platesAggregated(Collection<PlateBigDecimal> collection, final double p, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
 
         Map<PlateBigDecimal, BigDecimal> results = new TreeMap<PlateBigDecimal, BigDecimal>();
         
-        for(PlateBigDecimal plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-                aggregated.addAll(well.data());
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateBigDecimal, BigDecimal>() {
+            public BigDecimal apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : collection) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -246,23 +312,29 @@ public abstract class QuantileStatisticBigDecimalRationalContext {
      * @param    MathContext          the math context
      * @return                        map of plates and aggregated result
      */
-    public Map<PlateBigDecimal, BigDecimal> platesAggregated(PlateBigDecimal[] array, double p, MathContext mc) {
+    public Map<PlateBigDecimal, BigDecimal> platesAggregated(PlateBigDecimal[] array, final double p, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
 
         Map<PlateBigDecimal, BigDecimal> results = new TreeMap<PlateBigDecimal, BigDecimal>();
         
-        for(PlateBigDecimal plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-                aggregated.addAll(well.data());
+        List<BigDecimal> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateBigDecimal, BigDecimal>() {
+            public BigDecimal apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : array) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -304,23 +376,29 @@ public abstract class QuantileStatisticBigDecimalRationalContext {
      * @return                                  map of plates and aggregated results
      */
     public Map<PlateBigDecimal, BigDecimal> platesAggregated(
-            Collection<PlateBigDecimal> collection, int begin, int length, double p, MathContext mc) {
+            Collection<PlateBigDecimal> collection, final int begin, final int length, final double p, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateBigDecimal, BigDecimal> results = new TreeMap<PlateBigDecimal, BigDecimal>();
         
-        for(PlateBigDecimal plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateBigDecimal, BigDecimal>() {
+            public BigDecimal apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : collection) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -338,23 +416,29 @@ public abstract class QuantileStatisticBigDecimalRationalContext {
      * @return                        map of plates and aggregated results
      */
     public Map<PlateBigDecimal, BigDecimal> platesAggregated(
-            PlateBigDecimal[] array, int begin, int length, double p, MathContext mc) {
+            PlateBigDecimal[] array, final int begin, final int length, final double p, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateBigDecimal, BigDecimal> results = new TreeMap<PlateBigDecimal, BigDecimal>();
         
-        for(PlateBigDecimal plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<BigDecimal> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateBigDecimal, BigDecimal>() {
+            public BigDecimal apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : array) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -370,15 +454,23 @@ public abstract class QuantileStatisticBigDecimalRationalContext {
      * @param    MathContext          the math context
      * @return                        map of wells and results
      */
-    public Map<WellBigDecimal, BigDecimal> set(WellSetBigDecimal set, double p, MathContext mc) {
+    public Map<WellBigDecimal, BigDecimal> set(WellSetBigDecimal set, final double p, final MathContext mc) {
     	
         Preconditions.checkNotNull(set, "The set cannot be null.");
     	
     	Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, p, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : set) {
             WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone, well(well, p, mc));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -395,15 +487,23 @@ public abstract class QuantileStatisticBigDecimalRationalContext {
      * @param    MathContext          the math context 
      * @return                        map of wells and results
      */
-    public Map<WellBigDecimal, BigDecimal> set(WellSetBigDecimal set, int begin, int length, double p, MathContext mc) {
+    public Map<WellBigDecimal, BigDecimal> set(WellSetBigDecimal set, final int begin, final int length, final double p, final MathContext mc) {
         
     	Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellBigDecimal, BigDecimal> result = new TreeMap<WellBigDecimal, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellBigDecimal well) {
+                return well(well, begin, length, p, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : set) {
-        	WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone,  well(well, begin, length, p, mc));
+            WellBigDecimal clone = new WellBigDecimal(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -440,23 +540,29 @@ public abstract class QuantileStatisticBigDecimalRationalContext {
      * @param    MathContext                      the math context
      * @return                                    map of well sets and aggregated results
      */
-    public Map<WellSetBigDecimal, BigDecimal> setsAggregated(Collection<WellSetBigDecimal> collection, double p, MathContext mc) {
+    public Map<WellSetBigDecimal, BigDecimal> setsAggregated(Collection<WellSetBigDecimal> collection, final double p, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
 
         Map<WellSetBigDecimal, BigDecimal> results = new TreeMap<WellSetBigDecimal, BigDecimal>();
         
-        for(WellSetBigDecimal set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-                aggregated.addAll(well.data());
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : collection) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -469,23 +575,29 @@ public abstract class QuantileStatisticBigDecimalRationalContext {
      * @param    MathContext            the math context
      * @return                          map of well sets and aggregated results
      */
-    public Map<WellSetBigDecimal, BigDecimal> setsAggregated(WellSetBigDecimal[] array, double p, MathContext mc) {
+    public Map<WellSetBigDecimal, BigDecimal> setsAggregated(WellSetBigDecimal[] array, final double p, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
 
         Map<WellSetBigDecimal, BigDecimal> results = new TreeMap<WellSetBigDecimal, BigDecimal>();
         
-        for(WellSetBigDecimal set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-                aggregated.addAll(well.data());
+        List<BigDecimal> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : array) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -527,23 +639,29 @@ public abstract class QuantileStatisticBigDecimalRationalContext {
      * @return                                    map of well sets and aggregated results
      */
     public Map<WellSetBigDecimal, BigDecimal> setsAggregated(
-            Collection<WellSetBigDecimal> collection, int begin, int length, double p, MathContext mc) {
+            Collection<WellSetBigDecimal> collection, final int begin, final int length, final double p, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetBigDecimal, BigDecimal> results = new TreeMap<WellSetBigDecimal, BigDecimal>();
         
-        for(WellSetBigDecimal set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : collection) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -561,23 +679,29 @@ public abstract class QuantileStatisticBigDecimalRationalContext {
      * @return                          map of well sets and aggregated results
      */
     public Map<WellSetBigDecimal, BigDecimal> setsAggregated(
-            WellSetBigDecimal[] array, int begin, int length, double p, MathContext mc) {
+            WellSetBigDecimal[] array, final int begin, final int length, final double p, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetBigDecimal, BigDecimal> results = new TreeMap<WellSetBigDecimal, BigDecimal>();
         
-        for(WellSetBigDecimal set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<BigDecimal> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetBigDecimal, BigDecimal>() {
+            public BigDecimal apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : array) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
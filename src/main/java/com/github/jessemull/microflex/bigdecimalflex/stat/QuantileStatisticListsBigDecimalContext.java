@@ -30,12 +30,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs statistical operations for BigDecimal plate stacks, plates, 
@@ -138,7 +140,49 @@ import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
  * @email hello@jessemull.com
  */
 public abstract class QuantileStatisticListsBigDecimalContext {
+
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private ForkJoinPool pool;    // Pool for parallel execution or null
+    
+    /* ------------------------- Parallel Execution ------------------------- */
+    
+    /**
+     * Sets the fork join pool used to calculate the statistic for the wells, 
+     * plates and sets in parallel. Results are merged in the same order used 
+     * by sequential execution. A null pool restores sequential execution.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    
+    /**
+     * Returns the fork join pool used for parallel execution or null if the 
+     * statistic is calculated sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+    
+    /**
+     * Enables parallel execution using the shared default pool or restores 
+     * sequential execution.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
     
+    /**
+     * Returns true if the statistic is calculated in parallel.
+     * @return    true if parallel execution is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+        
     /* ---------------- Well statistics for all plate wells ----------------- */
     
     /**
@@ -148,15 +192,23 @@ public abstract class QuantileStatisticListsBigDecimalContext {
      * @param    MathContext        the math context
      * @return                      map of wells and results
      */
-    public Map<WellBigDecimal, List<List<BigDecimal>>> plate(PlateBigDecimal plate, List<BigDecimal> list, MathContext mc) {
+    public Map<WellBigDecimal, List<List<BigDecimal>>> plate(PlateBigDecimal plate, final List<BigDecimal> list, final MathContext mc) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellBigDecimal, List<List<BigDecimal>>> result = new TreeMap<WellBigDecimal, List<List<BigDecimal>>>();
         
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigDecimal, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(WellBigDecimal well) {
+                return well(well, list, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : plate) {
             WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone, well(well, list, mc));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -173,15 +225,23 @@ public abstract class QuantileStatisticListsBigDecimalContext {
      * @param    MathContext        the math context
      * @return                      map of wells and results   
      */
-    public Map<WellBigDecimal, List<List<BigDecimal>>> plate(PlateBigDecimal plate, int begin, int length, List<BigDecimal> list, MathContext mc) {
+    public Map<WellBigDecimal, List<List<BigDecimal>>> plate(PlateBigDecimal plate, final int begin, final int length, final List<BigDecimal> list, final MathContext mc) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellBigDecimal, List<List<BigDecimal>>> result = new TreeMap<WellBigDecimal, List<List<BigDecimal>>>();
         
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigDecimal, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(WellBigDecimal well) {
+                return well(well, begin, length, list, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : plate) {
             WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone, well(well, begin, length, list, mc));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -218,23 +278,29 @@ public abstract class QuantileStatisticListsBigDecimalContext {
      * @param    MathContext                    the math context
      * @return                                  map of plates and aggregated results
      */
-    public Map<PlateBigDecimal, List<List<BigDecimal>>> platesAggregated(Collection<PlateBigDecimal> collection, List<BigDecimal> list, MathContext mc) {
+    public Map<PlateBigDecimal, List<List<BigDecimal>>> platesAggregated(Collection<PlateBigDecimal> collection, final List<BigDecimal> list, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
 
         Map<PlateBigDecimal, List<List<BigDecimal>>> results = new TreeMap<PlateBigDecimal, List<List<BigDecimal>>>();
         
-        for(PlateBigDecimal plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-                aggregated.addAll(well.data());
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateBigDecimal, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated, list, mc);
             }
-      
-            results.put(clone, calculate(aggregated, list, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : collection) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -247,23 +313,29 @@ public abstract class QuantileStatisticListsBigDecimalContext {
      * @param    MathContext          the math context
      * @return                        map of plates and aggregated result
      */
-    public Map<PlateBigDecimal, List<List<BigDecimal>>> platesAggregated(PlateBigDecimal[] array, List<BigDecimal> list, MathContext mc) {
+    public Map<PlateBigDecimal, List<List<BigDecimal>>> platesAggregated(PlateBigDecimal[] array, final List<BigDecimal> list, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
 
         Map<PlateBigDecimal, List<List<BigDecimal>>> results = new TreeMap<PlateBigDecimal, List<List<BigDecimal>>>();
         
-        for(PlateBigDecimal plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-                aggregated.addAll(well.data());
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateBigDecimal, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated, list, mc);
             }
-      
-            results.put(clone, calculate(aggregated, list, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : array) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -305,23 +377,29 @@ public abstract class QuantileStatisticListsBigDecimalContext {
      * @return                                  map of plates and aggregated results
      */
     public Map<PlateBigDecimal, List<List<BigDecimal>>> platesAggregated(
-            Collection<PlateBigDecimal> collection, int begin, int length, List<BigDecimal> list, MathContext mc) {
+            Collection<PlateBigDecimal> collection, final int begin, final int length, final List<BigDecimal> list, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateBigDecimal, List<List<BigDecimal>>> results = new TreeMap<PlateBigDecimal, List<List<BigDecimal>>>();
         
-        for(PlateBigDecimal plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateBigDecimal, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, list, mc);
             }
-      
-            results.put(clone, calculate(aggregated, list, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : collection) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -339,23 +417,29 @@ public abstract class QuantileStatisticListsBigDecimalContext {
      * @return                        map of plates and aggregated results
      */
     public Map<PlateBigDecimal, List<List<BigDecimal>>> platesAggregated(
-            PlateBigDecimal[] array, int begin, int length, List<BigDecimal> list, MathContext mc) {
+            PlateBigDecimal[] array, final int begin, final int length, final List<BigDecimal> list, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateBigDecimal, List<List<BigDecimal>>> results = new TreeMap<PlateBigDecimal, List<List<BigDecimal>>>();
         
-        for(PlateBigDecimal plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigDecimal clone = new PlateBigDecimal(plate);
-            
-            for (WellBigDecimal well : plate) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateBigDecimal, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(PlateBigDecimal plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : plate) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, list, mc);
             }
-      
-            results.put(clone, calculate(aggregated, list, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigDecimal plate : array) {
+            results.put(new PlateBigDecimal(plate), values.get(index++));
         }
         
         return results;
@@ -371,15 +455,23 @@ public abstract class QuantileStatisticListsBigDecimalContext {
      * @param    MathContext          the math context
      * @return                        map of wells and results
      */
-    public Map<WellBigDecimal, List<List<BigDecimal>>> set(WellSetBigDecimal set, List<BigDecimal> list, MathContext mc) {
+    public Map<WellBigDecimal, List<List<BigDecimal>>> set(WellSetBigDecimal set, final List<BigDecimal> list, final MathContext mc) {
     	
         Preconditions.checkNotNull(set, "The set cannot be null.");
     	
     	Map<WellBigDecimal, List<List<BigDecimal>>> result = new TreeMap<WellBigDecimal, List<List<BigDecimal>>>();
         
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigDecimal, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(WellBigDecimal well) {
+                return well(well, list, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : set) {
             WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone, well(well, list, mc));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -396,15 +488,23 @@ public abstract class QuantileStatisticListsBigDecimalContext {
      * @param    MathContext          the math context
      * @return                        map of wells and results
      */
-    public Map<WellBigDecimal, List<List<BigDecimal>>> set(WellSetBigDecimal set, int begin, int length, List<BigDecimal> list, MathContext mc) {
+    public Map<WellBigDecimal, List<List<BigDecimal>>> set(WellSetBigDecimal set, final int begin, final int length, final List<BigDecimal> list, final MathContext mc) {
         
     	Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellBigDecimal, List<List<BigDecimal>>> result = new TreeMap<WellBigDecimal, List<List<BigDecimal>>>();
         
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigDecimal, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(WellBigDecimal well) {
+                return well(well, begin, length, list, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigDecimal well : set) {
-        	WellBigDecimal clone = new WellBigDecimal(well);
-            result.put(clone,  well(well, begin, length, list, mc));
+            WellBigDecimal clone = new WellBigDecimal(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -441,23 +541,29 @@ public abstract class QuantileStatisticListsBigDecimalContext {
      * @param    MathContext                      the math context
      * @return                                    map of well sets and aggregated results
      */
-    public Map<WellSetBigDecimal, List<List<BigDecimal>>> setsAggregated(Collection<WellSetBigDecimal> collection, List<BigDecimal> list, MathContext mc) {
+    public Map<WellSetBigDecimal, List<List<BigDecimal>>> setsAggregated(Collection<WellSetBigDecimal> collection, final List<BigDecimal> list, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
 
         Map<WellSetBigDecimal, List<List<BigDecimal>>> results = new TreeMap<WellSetBigDecimal, List<List<BigDecimal>>>();
         
-        for(WellSetBigDecimal set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-                aggregated.addAll(well.data());
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetBigDecimal, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated, list, mc);
             }
-      
-            results.put(clone, calculate(aggregated, list, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : collection) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -470,23 +576,29 @@ public abstract class QuantileStatisticListsBigDecimalContext {
      * @param    MathContext            the math context
      * @return                          map of well sets and aggregated results
      */
-    public Map<WellSetBigDecimal, List<List<BigDecimal>>> setsAggregated(WellSetBigDecimal[] array, List<BigDecimal> list, MathContext mc) {
+    public Map<WellSetBigDecimal, List<List<BigDecimal>>> setsAggregated(WellSetBigDecimal[] array, final List<BigDecimal> list, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
 
         Map<WellSetBigDecimal, List<List<BigDecimal>>> results = new TreeMap<WellSetBigDecimal, List<List<BigDecimal>>>();
         
-        for(WellSetBigDecimal set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-                aggregated.addAll(well.data());
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetBigDecimal, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated, list, mc);
             }
-      
-            results.put(clone, calculate(aggregated, list, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : array) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -528,23 +640,29 @@ public abstract class QuantileStatisticListsBigDecimalContext {
      * @return                                    map of well sets and aggregated results
      */
     public Map<WellSetBigDecimal, List<List<BigDecimal>>> setsAggregated(
-            Collection<WellSetBigDecimal> collection, int begin, int length, List<BigDecimal> list, MathContext mc) {
+            Collection<WellSetBigDecimal> collection, final int begin, final int length, final List<BigDecimal> list, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetBigDecimal, List<List<BigDecimal>>> results = new TreeMap<WellSetBigDecimal, List<List<BigDecimal>>>();
         
-        for(WellSetBigDecimal set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetBigDecimal, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, list, mc);
             }
-      
-            results.put(clone, calculate(aggregated, list, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : collection) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
@@ -562,23 +680,29 @@ public abstract class QuantileStatisticListsBigDecimalContext {
      * @return                          map of well sets and aggregated results
      */
     public Map<WellSetBigDecimal, List<List<BigDecimal>>> setsAggregated(
-            WellSetBigDecimal[] array, int begin, int length, List<BigDecimal> list, MathContext mc) {
+            WellSetBigDecimal[] array, final int begin, final int length, final List<BigDecimal> list, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetBigDecimal, List<List<BigDecimal>>> results = new TreeMap<WellSetBigDecimal, List<List<BigDecimal>>>();
         
-        for(WellSetBigDecimal set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigDecimal clone = new WellSetBigDecimal(set);
-            
-            for (WellBigDecimal well : set) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetBigDecimal, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(WellSetBigDecimal set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigDecimal well : set) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, list, mc);
             }
-      
-            results.put(clone, calculate(aggregated, list, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigDecimal set : array) {
+            results.put(new WellSetBigDecimal(set), values.get(index++));
         }
         
         return results;
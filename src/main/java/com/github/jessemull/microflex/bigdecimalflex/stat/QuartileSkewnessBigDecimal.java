@@ -25,9 +25,10 @@ package com.github.jessemull.microflex.bigdecimalflex.stat;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
-import java.util.Collections;
 import java.util.List;
 
+import com.github.jessemull.microflex.util.SelectionUtil;
+
 /**
  * This class calculates the quartile skewness of BigDecimal plate stacks, plates, 
  * wells and well sets.
@@ -134,32 +135,20 @@ public class QuartileSkewnessBigDecimal extends DescriptiveStatisticBigDecimalCo
      * @return                       the result
      */
     public BigDecimal calculate(List<BigDecimal> list, MathContext mc) {
+    	
+        int n = list.size();
         
-    	Collections.sort(list);
-        
-        if(list.size() < 2) {
+        if(n < 2) {
             return BigDecimal.ZERO;
         }
         
-        int index = list.size() / 2;
-        
-        int lowQ2 = (int) Math.floor((list.size() - 1.0) / 2.0);
-        int highQ2 = (int) Math.ceil((list.size() - 1.0) / 2.0);
-        BigDecimal q2 = (list.get(lowQ2).add(list.get(highQ2))).divide(new BigDecimal(2), mc);
-        
-        List<BigDecimal> listQ1 = list.subList(0, index);
-        int lowQ1 = (int) Math.floor((listQ1.size() - 1.0) / 2.0);
-        int highQ1 = (int) Math.ceil((listQ1.size() - 1.0) / 2.0);
-        BigDecimal q1 = (listQ1.get(lowQ1).add(listQ1.get(highQ1))).divide(new BigDecimal(2), mc);
-        
-        if(list.size() % 2 != 0) {
-        	index++;
-        }
+        BigDecimal[] selected = SelectionUtil.select(list.toArray(new BigDecimal[n]), 0, n, 
+                SelectionUtil.quartileRanks(n));
         
-        List<BigDecimal> listQ3 = list.subList(index, list.size());
-        int lowQ3 = (int) Math.floor((listQ3.size() - 1.0) / 2.0);
-        int highQ3 = (int) Math.ceil((listQ3.size() - 1.0) / 2.0);
-        BigDecimal q3 = (listQ3.get(lowQ3).add(listQ3.get(highQ3))).divide(new BigDecimal(2), mc);
+        BigDecimal two = new BigDecimal(2);
+        BigDecimal q1 = (selected[0].add(selected[1])).divide(two, mc);
+        BigDecimal q2 = (selected[2].add(selected[3])).divide(two, mc);
+        BigDecimal q3 = (selected[4].add(selected[5])).divide(two, mc);
         
         BigDecimal numerator = q1.subtract(q2.multiply(new BigDecimal(2))).add(q3);
         BigDecimal denominator = q3.subtract(q1);
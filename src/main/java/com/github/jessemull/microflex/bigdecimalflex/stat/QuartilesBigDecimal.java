@@ -26,9 +26,10 @@ package com.github.jessemull.microflex.bigdecimalflex.stat;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
+import com.github.jessemull.microflex.util.SelectionUtil;
+
 /**
  * This class returns the quartiles for big decimal plate stacks, plates, wells 
  * and well sets.
@@ -136,11 +137,13 @@ public class QuartilesBigDecimal extends DescriptiveStatisticListBigDecimalConte
      */
 	public List<BigDecimal> calculate(List<BigDecimal> list, MathContext mc) {
 		
+		BigDecimal[] values = list.toArray(new BigDecimal[list.size()]);
+		
 		List<BigDecimal> result = new ArrayList<BigDecimal>();
 		
-		result.add(this.percentile(list, 25));
-		result.add(this.percentile(list, 50));
-		result.add(this.percentile(list, 75));
+		result.add(this.percentile(values, 25));
+		result.add(this.percentile(values, 50));
+		result.add(this.percentile(values, 75));
 		
 		return result;
     }
@@ -163,34 +166,33 @@ public class QuartilesBigDecimal extends DescriptiveStatisticListBigDecimalConte
      * @param    int			    	  the percentile
      * @return                            the result
      */
-    private BigDecimal percentile(List<BigDecimal> list, int p) {
-    	
-        int n = list.size();
-    	
+    private BigDecimal percentile(BigDecimal[] values, int p) {
+        
+        int n = values.length;
+        
     	if(n == 1) {
-    		return list.get(0);
+    		return values[0];
     	}
-    	
-        Collections.sort(list);        
+        
         double pos = (p * (n + 1)) / 100.0;
         
         if(pos < 1) {
-        	return list.get(0);
+        	return SelectionUtil.select(values, 0, n, 0);
         }
         
         if(pos >= n) {
-        	return list.get(list.size() - 1);
+        	return SelectionUtil.select(values, 0, n, n - 1);
         }
         
         if(pos == Math.floor(pos) && !Double.isInfinite(pos)) {       
-        	return list.get((int) pos - 1);
+        	return SelectionUtil.select(values, 0, n, (int) pos - 1);
         }
         	
         int lowerIndex = (int) Math.floor(pos) - 1;
-        int upperIndex = lowerIndex + 1;
+        BigDecimal[] bounds = SelectionUtil.select(values, 0, n, new int[]{ lowerIndex, lowerIndex + 1 });
         
-        BigDecimal lower = list.get(lowerIndex);
-        BigDecimal upper = list.get(upperIndex);      
+        BigDecimal lower = bounds[0];
+        BigDecimal upper = bounds[1];      
         BigDecimal d = new BigDecimal((pos - 1 - lowerIndex) + "");
         
         return upper.subtract(lower).multiply(d).add(lower);
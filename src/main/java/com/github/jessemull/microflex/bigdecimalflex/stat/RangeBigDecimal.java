@@ -146,5 +146,22 @@ public class RangeBigDecimal extends DescriptiveStatisticBigDecimal {
     public BigDecimal calculate(List<BigDecimal> list, int begin, int length) {
         return Collections.max(list.subList(begin, begin + length));            
     }
+    
+    /**
+     * Returns true. The range is calculated from a summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the range using a summary of the values.
+     * @param    SummaryBigDecimal    the summary
+     * @return                       the result
+     */
+    public BigDecimal calculate(SummaryBigDecimal summary) {
+        return summary.max().subtract(summary.min());
+    }
 
 }
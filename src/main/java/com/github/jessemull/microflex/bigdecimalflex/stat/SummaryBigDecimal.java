@@ -0,0 +1,450 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package -------------------------------- */
+
+package com.github.jessemull.microflex.bigdecimalflex.stat;
+
+/* ----------------------------- Dependencies ------------------------------ */
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.NoSuchElementException;
+
+import com.google.common.base.Preconditions;
+
+import com.github.jessemull.microflex.util.ImmutableMathUtil;
+
+/**
+ * This class holds the moment based summary statistics for a set of big decimal
+ * values. The summary is created by the summary statistics object using a single
+ * pass over the values. The sums of the first four powers of the values are
+ * accumulated exactly and the central moments are derived from the exact sums,
+ * so no precision is lost before the final division. The derived statistics are
+ * rounded using the math context supplied when the summary was created.
+ *
+ * <br><br>
+ *
+ * Summaries are mergeable. A summary calculated for each well, plate or stack
+ * can be merged with the summaries of other groups of values in any order to
+ * obtain the summary of all the values, without copying the values into an
+ * aggregated list.
+ *
+ * <br><br>
+ *
+ * The derived statistics use the same formulas as the individual descriptive
+ * statistic objects:
+ *
+ * <table cellspacing="5px" style="text-align:left; margin: 20px;">
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px;">Summary Statistics<div></th>
+ *    <tr>
+ *       <td>N</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Sum</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Product</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Minimum</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Maximum</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Mean</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Population Variance</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Sample Variance</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Population Standard Deviation</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Sample Standard Deviation</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Standard Error</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Skewness</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Kurtosis</td>
+ *    </tr>
+ * </table>
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class SummaryBigDecimal {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    private MathContext mc;                         // Math context for the results
+    private long n;                                 // Number of values
+    private BigDecimal s1 = BigDecimal.ZERO;        // Exact sum of the values
+    private BigDecimal s2 = BigDecimal.ZERO;        // Exact sum of the squared values
+    private BigDecimal s3 = BigDecimal.ZERO;        // Exact sum of the cubed values
+    private BigDecimal s4 = BigDecimal.ZERO;        // Exact sum of the fourth power values
+    private BigDecimal min;                         // Minimum value
+    private BigDecimal max;                         // Maximum value
+    private BigDecimal product = BigDecimal.ONE;    // Product of the values rounded to the context
+    private boolean moments;                        // True if the powers and product are tracked
+
+    /* ----------------------------- Constructors --------------------------- */
+
+    /**
+     * Creates an empty summary.
+     * @param    MathContext    the math context for the results
+     */
+    SummaryBigDecimal(MathContext mc) {
+        this(mc, true);
+    }
+
+    /**
+     * Creates an empty summary. A summary that does not track the moments only
+     * holds the count, sum and extrema of the values, which avoids the cost of
+     * the exact power sums and the product when only those are needed.
+     * @param    MathContext    the math context for the results
+     * @param    boolean        true if the powers and product are tracked
+     */
+    SummaryBigDecimal(MathContext mc, boolean moments) {
+        this.mc = mc;
+        this.moments = moments;
+    }
+
+    /* ------------------------- Accumulation Methods ----------------------- */
+
+    /**
+     * Adds a value to the summary.
+     * @param    BigDecimal    the value
+     */
+    void add(BigDecimal value) {
+
+        this.n++;
+        this.s1 = this.s1.add(value);
+
+        if(this.moments) {
+
+            BigDecimal square = value.multiply(value);
+
+            this.s2 = this.s2.add(square);
+            this.s3 = this.s3.add(square.multiply(value));
+            this.s4 = this.s4.add(square.multiply(square));
+            this.product = this.product.multiply(value, this.mc);
+        }
+
+        if(this.min == null || value.compareTo(this.min) < 0) {
+            this.min = value;
+        }
+
+        if(this.max == null || value.compareTo(this.max) > 0) {
+            this.max = value;
+        }
+    }
+
+    /* ---------------------------- Merge Methods ------------------------- */
+
+    /**
+     * Merges the values of another summary into this summary. The exact power
+     * sums of the two summaries are added, so merging is associative and the
+     * partial summaries of wells, plates and stacks can be combined in any
+     * grouping. Both summaries must either track the moments or not.
+     * @param    SummaryBigDecimal    the summary to merge
+     * @return                      this summary
+     */
+    public SummaryBigDecimal merge(SummaryBigDecimal summary) {
+
+        Preconditions.checkNotNull(summary, "The summary cannot be null.");
+        Preconditions.checkArgument(this.moments == summary.moments, 
+                "Only summaries tracking the same statistics can be merged.");
+
+        if(summary.n == 0) {
+            return this;
+        }
+
+        this.n += summary.n;
+        this.s1 = this.s1.add(summary.s1);
+        this.s2 = this.s2.add(summary.s2);
+        this.s3 = this.s3.add(summary.s3);
+        this.s4 = this.s4.add(summary.s4);
+        this.product = this.product.multiply(summary.product, this.mc);
+
+        if(this.min == null || summary.min.compareTo(this.min) < 0) {
+            this.min = summary.min;
+        }
+
+        if(this.max == null || summary.max.compareTo(this.max) > 0) {
+            this.max = summary.max;
+        }
+
+        return this;
+    }
+
+    /* ------------------------- Summary Statistics ------------------------- */
+
+    /**
+     * Returns the math context used for the results.
+     * @return    the math context
+     */
+    public MathContext mathContext() {
+        return this.mc;
+    }
+
+    /**
+     * Returns the number of values.
+     * @return    the number of values
+     */
+    public long n() {
+        return this.n;
+    }
+
+    /**
+     * Returns the sum of the values.
+     * @return    the sum
+     */
+    public BigDecimal sum() {
+        return this.s1.round(this.mc);
+    }
+
+    /**
+     * Returns the product of the values rounded to the math context or zero if
+     * the summary holds no values.
+     * @return    the product
+     */
+    public BigDecimal product() {
+        this.checkMoments();
+        return this.n == 0 ? BigDecimal.ZERO : this.product;
+    }
+
+    /**
+     * Returns the minimum value.
+     * @return    the minimum
+     * @throws    NoSuchElementException    if the summary holds no values
+     */
+    public BigDecimal min() {
+        this.checkEmpty();
+        return this.min;
+    }
+
+    /**
+     * Returns the maximum value.
+     * @return    the maximum
+     * @throws    NoSuchElementException    if the summary holds no values
+     */
+    public BigDecimal max() {
+        this.checkEmpty();
+        return this.max;
+    }
+
+    /**
+     * Returns the mean or zero if the summary holds no values.
+     * @return    the mean
+     */
+    public BigDecimal mean() {
+
+        if(this.n == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        return this.s1.divide(BigDecimal.valueOf(this.n), this.mc);
+    }
+
+    /**
+     * Returns the population variance.
+     * @return    the population variance
+     */
+    public BigDecimal populationVariance() {
+        BigDecimal n = BigDecimal.valueOf(this.n);
+        return this.centralSecond().divide(n.multiply(n), this.mc);
+    }
+
+    /**
+     * Returns the sample variance.
+     * @return    the sample variance
+     */
+    public BigDecimal sampleVariance() {
+        BigDecimal n = BigDecimal.valueOf(this.n);
+        return this.centralSecond().divide(n.multiply(n.subtract(BigDecimal.ONE)), this.mc);
+    }
+
+    /**
+     * Returns the population standard deviation.
+     * @return    the population standard deviation
+     */
+    public BigDecimal populationStandardDeviation() {
+        return this.sqrt(this.populationVariance());
+    }
+
+    /**
+     * Returns the sample standard deviation.
+     * @return    the sample standard deviation
+     */
+    public BigDecimal sampleStandardDeviation() {
+        return this.sqrt(this.sampleVariance());
+    }
+
+    /**
+     * Returns the standard error of the mean.
+     * @return    the standard error
+     */
+    public BigDecimal standardError() {
+        return this.sampleStandardDeviation().divide(
+                this.sqrt(BigDecimal.valueOf(this.n)), this.mc);
+    }
+
+    /**
+     * Returns the unbiased skewness.
+     * @return    the skewness
+     */
+    public BigDecimal skewness() {
+
+        BigDecimal n = BigDecimal.valueOf(this.n);
+        BigDecimal coefficient = n.divide(n.subtract(BigDecimal.ONE).multiply(
+                n.subtract(new BigDecimal(2))), this.mc);
+        BigDecimal thirdMoment = this.centralThird().divide(n.multiply(n), this.mc);
+
+        return coefficient.multiply(thirdMoment, this.mc).divide(
+                this.sampleStandardDeviation().pow(3, this.mc), this.mc);
+    }
+
+    /**
+     * Returns the unbiased kurtosis.
+     * @return    the kurtosis
+     * @throws    ArithmeticException    if the summary holds three values or less
+     */
+    public BigDecimal kurtosis() {
+
+        if(this.n <= 3) {
+            throw new ArithmeticException("The kurtosis input list must contain " +
+                    "greater than three arguments.");
+        }
+
+        BigDecimal n = BigDecimal.valueOf(this.n);
+        BigDecimal n1 = n.subtract(BigDecimal.ONE);
+        BigDecimal n2 = n.subtract(new BigDecimal(2));
+        BigDecimal n3 = n.subtract(new BigDecimal(3));
+
+        BigDecimal fourthMoment = this.centralFourth().divide(n.pow(3), this.mc);
+        fourthMoment = fourthMoment.divide(this.sampleVariance().pow(2, this.mc), this.mc);
+
+        BigDecimal coefficient = n.multiply(n.add(BigDecimal.ONE)).divide(
+                n1.multiply(n2).multiply(n3), this.mc);
+        BigDecimal subtrahend = new BigDecimal(3).multiply(n1.pow(2)).divide(
+                n2.multiply(n3), this.mc);
+
+        return fourthMoment.multiply(coefficient, this.mc).subtract(subtrahend, this.mc);
+    }
+
+    /**
+     * Returns the summary as a string.
+     * @return    the summary
+     */
+    public String toString() {
+        return "N: " + this.n + " Sum: " + this.sum() + " Mean: " + this.mean() +
+               " Min: " + (this.n == 0 ? "NA" : this.min) +
+               " Max: " + (this.n == 0 ? "NA" : this.max);
+    }
+
+    /* --------------------------- Private Methods -------------------------- */
+
+    /**
+     * Returns n times the sum of the squared deviations from the mean.
+     * @return    the scaled second central sum
+     */
+    private BigDecimal centralSecond() {
+
+        this.checkMoments();
+
+        BigDecimal n = BigDecimal.valueOf(this.n);
+        return n.multiply(this.s2).subtract(this.s1.multiply(this.s1));
+    }
+
+    /**
+     * Returns n squared times the sum of the cubed deviations from the mean.
+     * @return    the scaled third central sum
+     */
+    private BigDecimal centralThird() {
+
+        this.checkMoments();
+
+        BigDecimal n = BigDecimal.valueOf(this.n);
+
+        return n.multiply(n).multiply(this.s3)
+                .subtract(new BigDecimal(3).multiply(n).multiply(this.s1).multiply(this.s2))
+                .add(new BigDecimal(2).multiply(this.s1.pow(3)));
+    }
+
+    /**
+     * Returns n cubed times the sum of the fourth power deviations from the mean.
+     * @return    the scaled fourth central sum
+     */
+    private BigDecimal centralFourth() {
+
+        this.checkMoments();
+
+        BigDecimal n = BigDecimal.valueOf(this.n);
+        BigDecimal squared = this.s1.multiply(this.s1);
+
+        return n.pow(3).multiply(this.s4)
+                .subtract(new BigDecimal(4).multiply(n.pow(2)).multiply(this.s1).multiply(this.s3))
+                .add(new BigDecimal(6).multiply(n).multiply(squared).multiply(this.s2))
+                .subtract(new BigDecimal(3).multiply(squared.multiply(squared)));
+    }
+
+    /**
+     * Returns the square root using the summary math context.
+     * @param    BigDecimal    the value
+     * @return                 the square root
+     */
+    private BigDecimal sqrt(BigDecimal value) {
+
+        if(value.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        return ImmutableMathUtil.sqrt(value, this.mc);
+    }
+
+    /**
+     * Throws an exception if the summary does not track the moments.
+     */
+    private void checkMoments() {
+        if(!this.moments) {
+            throw new IllegalStateException("The summary does not track the moments of the values.");
+        }
+    }
+
+    /**
+     * Throws an exception if the summary holds no values.
+     */
+    private void checkEmpty() {
+        if(this.n == 0) {
+            throw new NoSuchElementException("The summary does not contain any values.");
+        }
+    }
+
+}
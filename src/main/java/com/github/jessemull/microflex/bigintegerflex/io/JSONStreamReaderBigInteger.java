@@ -0,0 +1,424 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/*--------------------------- Package Declaration ----------------------------*/
+
+package com.github.jessemull.microflex.bigintegerflex.io;
+
+/*------------------------------- Dependencies -------------------------------*/
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigInteger;
+import java.util.InputMismatchException;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.main.JsonSchema;
+
+import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.StackBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
+import com.github.jessemull.microflex.util.CodecUtil;
+
+/**
+ * Reads JSON encoded results, wells, well sets, plates and stacks one element at
+ * a time using the Jackson streaming parser. The plate reader loads the entire
+ * source into memory and binds every element before the first element can be
+ * used. The stream reader advances the parser to the array of elements under the
+ * root object and binds a single element for each call to a next method, so the
+ * memory used is bounded by the size of the largest element rather than the size
+ * of the source.
+ *
+ * <br><br>
+ *
+ * The element type is determined by the root field name written by the plate
+ * writer:
+ *
+ * <table cellspacing="5px" style="text-align:left; margin: 20px;">
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px;">Root Field<div></th>
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px;">Element<div></th>
+ *    <tr>
+ *       <td>results</td>
+ *       <td>WellSetBigInteger</td>
+ *    </tr>
+ *    <tr>
+ *       <td>wells</td>
+ *       <td>WellBigInteger</td>
+ *    </tr>
+ *    <tr>
+ *       <td>wellsets</td>
+ *       <td>WellSetBigInteger</td>
+ *    </tr>
+ *    <tr>
+ *       <td>plates</td>
+ *       <td>PlateBigInteger</td>
+ *    </tr>
+ *    <tr>
+ *       <td>stacks</td>
+ *       <td>StackBigInteger</td>
+ *    </tr>
+ * </table>
+ *
+ * Validation is incremental. When enabled each element is checked against the
+ * JSON schema for its type before it is converted, and an invalid element throws
+ * an input mismatch exception. Validation may be disabled to bind the elements
+ * directly from the parser. Calling a next method when no element of the
+ * requested type remains throws a no such element exception.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class JSONStreamReaderBigInteger implements Closeable {
+
+    /*---------------------------- Private Fields ----------------------------*/
+
+    /* Root field names */
+
+    private static final String RESULTS = "results";
+    private static final String WELLS = "wells";
+    private static final String WELLSETS = "wellsets";
+    private static final String PLATES = "plates";
+    private static final String STACKS = "stacks";
+
+    private ObjectMapper mapper = CodecUtil.mapper();    // Binds the elements
+    private JsonParser parser;                           // The streaming parser
+    private String root;                                 // Root field name
+    private JsonSchema schema;                           // Schema for the root type
+    private boolean validate = true;                     // Validate each element
+    private boolean hasNext;                             // Parser is on an element
+    private int index;                                   // Index of the next element
+
+    /*----------------------------- Constructors -----------------------------*/
+
+    /**
+     * Creates a stream reader for the reader source.
+     * @param    Reader    the source
+     * @throws   IOException
+     */
+    public JSONStreamReaderBigInteger(Reader source) throws IOException {
+        this.parser = this.mapper.getFactory().createParser(source);
+        this.start();
+    }
+
+    /**
+     * Creates a stream reader for the input stream source. The encoding is
+     * detected by the parser.
+     * @param    InputStream    the source
+     * @throws   IOException
+     */
+    public JSONStreamReaderBigInteger(InputStream source) throws IOException {
+        this.parser = this.mapper.getFactory().createParser(source);
+        this.start();
+    }
+
+    /**
+     * Creates a stream reader for the file.
+     * @param    File    the file
+     * @throws   IOException
+     */
+    public JSONStreamReaderBigInteger(File source) throws IOException {
+        this(new FileInputStream(source));
+    }
+
+    /**
+     * Creates a stream reader for the file.
+     * @param    String    the file name
+     * @throws   IOException
+     */
+    public JSONStreamReaderBigInteger(String fileName) throws IOException {
+        this(new File(fileName));
+    }
+
+    /*---------------------------- Stream Methods ----------------------------*/
+
+    /**
+     * Returns the root field name, which identifies the element type.
+     * @return    the root field name
+     */
+    public String root() {
+        return this.root;
+    }
+
+    /**
+     * Returns the index of the next element.
+     * @return    the index of the next element
+     */
+    public int index() {
+        return this.index;
+    }
+
+    /**
+     * Enables or disables element validation.
+     * @param    boolean    true to validate each element
+     */
+    public void setValidate(boolean validate) {
+        this.validate = validate;
+    }
+
+    /**
+     * Returns true if each element is validated.
+     * @return    true if each element is validated
+     */
+    public boolean isValidate() {
+        return this.validate;
+    }
+
+    /**
+     * Closes the parser and the underlying source.
+     * @throws    IOException
+     */
+    public void close() throws IOException {
+        this.parser.close();
+    }
+
+    /*---------------------- Methods for JSON Result Input -------------------*/
+
+    /**
+     * Returns true if the source holds another result.
+     * @return    true if the source holds another result
+     */
+    public boolean hasNextJSONResult() {
+        return this.hasNext(RESULTS);
+    }
+
+    /**
+     * Reads the next result and returns the result as a well set.
+     * @return    the result
+     * @throws    IOException
+     */
+    public WellSetBigInteger nextJSONResult() throws IOException {
+
+        ResultPOJOBigInteger result = this.next(RESULTS, ResultPOJOBigInteger.class);
+
+        WellSetBigInteger set = new WellSetBigInteger();
+        set.setLabel(result.getLabel());
+
+        for(Map.Entry<String, BigInteger> entry : result.getWells().entrySet()) {
+
+            WellBigInteger well = new WellBigInteger(entry.getKey());
+            well.add(entry.getValue());
+
+            set.add(well);
+        }
+
+        return set;
+    }
+
+    /*----------------------- Methods for JSON Well Input --------------------*/
+
+    /**
+     * Returns true if the source holds another well.
+     * @return    true if the source holds another well
+     */
+    public boolean hasNextJSONWell() {
+        return this.hasNext(WELLS);
+    }
+
+    /**
+     * Reads the next well.
+     * @return    the well
+     * @throws    IOException
+     */
+    public WellBigInteger nextJSONWell() throws IOException {
+        return this.next(WELLS, WellPOJOBigInteger.class).toWellObject();
+    }
+
+    /*----------------------- Methods for JSON Set Input ---------------------*/
+
+    /**
+     * Returns true if the source holds another well set.
+     * @return    true if the source holds another well set
+     */
+    public boolean hasNextJSONSet() {
+        return this.hasNext(WELLSETS);
+    }
+
+    /**
+     * Reads the next well set.
+     * @return    the well set
+     * @throws    IOException
+     */
+    public WellSetBigInteger nextJSONSet() throws IOException {
+        return this.next(WELLSETS, WellSetPOJOBigInteger.class).toWellSetObject();
+    }
+
+    /*---------------------- Methods for JSON Plate Input --------------------*/
+
+    /**
+     * Returns true if the source holds another plate.
+     * @return    true if the source holds another plate
+     */
+    public boolean hasNextJSONPlate() {
+        return this.hasNext(PLATES);
+    }
+
+    /**
+     * Reads the next plate.
+     * @return    the plate
+     * @throws    IOException
+     */
+    public PlateBigInteger nextJSONPlate() throws IOException {
+        return this.next(PLATES, PlatePOJOBigInteger.class).toPlateObject();
+    }
+
+    /*---------------------- Methods for JSON Stack Input --------------------*/
+
+    /**
+     * Returns true if the source holds another stack.
+     * @return    true if the source holds another stack
+     */
+    public boolean hasNextJSONStack() {
+        return this.hasNext(STACKS);
+    }
+
+    /**
+     * Reads the next stack.
+     * @return    the stack
+     * @throws    IOException
+     */
+    public StackBigInteger nextJSONStack() throws IOException {
+        return this.next(STACKS, StackPOJOBigInteger.class).toStackObject();
+    }
+
+    /*---------------------------- Private Methods ---------------------------*/
+
+    /**
+     * Advances the parser to the first element of the array under the root
+     * object.
+     * @throws    IOException
+     */
+    private void start() throws IOException {
+
+        if(this.parser.nextToken() != JsonToken.START_OBJECT ||
+           this.parser.nextToken() != JsonToken.FIELD_NAME) {
+            throw new InputMismatchException("The source is not a JSON object.");
+        }
+
+        this.root = this.parser.getCurrentName();
+
+        if(!RESULTS.equals(this.root) && !WELLS.equals(this.root) &&
+           !WELLSETS.equals(this.root) && !PLATES.equals(this.root) &&
+           !STACKS.equals(this.root)) {
+            throw new InputMismatchException("Invalid JSON root field: " + this.root + ".");
+        }
+
+        if(this.parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new InputMismatchException("The " + this.root + " field must be an array.");
+        }
+
+        this.advance();
+    }
+
+    /**
+     * Moves the parser to the next element.
+     * @throws    IOException
+     */
+    private void advance() throws IOException {
+        this.hasNext = this.parser.nextToken() == JsonToken.START_OBJECT;
+    }
+
+    /**
+     * Returns true if the root field matches and the parser is on an element.
+     * @param    String    the root field name
+     * @return             true if another element is available
+     */
+    private boolean hasNext(String field) {
+        return field.equals(this.root) && this.hasNext;
+    }
+
+    /**
+     * Binds the next element, validating the element first if validation is
+     * enabled.
+     * @param    String      the root field name
+     * @param    Class<T>    the element POJO class
+     * @return               the element POJO
+     * @throws   IOException
+     */
+    private <T> T next(String field, Class<T> type) throws IOException {
+
+        if(!this.hasNext(field)) {
+            throw new NoSuchElementException("There are no more " + field + " in the source.");
+        }
+
+        T element;
+
+        if(this.validate) {
+
+            JsonNode node = this.mapper.readTree(this.parser);
+
+            if(!this.valid(node)) {
+                throw new InputMismatchException("Invalid JSON element at index " +
+                        this.index + " of " + this.root + ".");
+            }
+
+            element = this.mapper.treeToValue(node, type);
+
+        } else {
+            element = this.mapper.readValue(this.parser, type);
+        }
+
+        this.index++;
+        this.advance();
+
+        return element;
+    }
+
+    /**
+     * Validates a single element against the schema for the root type. The
+     * element is wrapped in a root object holding a one element array.
+     * @param    JsonNode    the element
+     * @return               true if the element is valid
+     * @throws   IOException
+     */
+    private boolean valid(JsonNode node) throws IOException {
+
+        try {
+
+            if(this.schema == null) {
+                this.schema = CodecUtil.schema("json_" +
+                        (WELLSETS.equals(this.root) ? "wellset" :
+                         this.root.substring(0, this.root.length() - 1)) + "_schema.json");
+            }
+
+            ObjectNode wrapper = this.mapper.createObjectNode();
+            wrapper.putArray(this.root).add(node);
+
+            return this.schema.validInstance(wrapper);
+
+        } catch(ProcessingException e) {
+            throw new IOException(e);
+        }
+    }
+
+}
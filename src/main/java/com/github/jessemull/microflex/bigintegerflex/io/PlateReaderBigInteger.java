@@ -44,23 +44,19 @@ import java.util.NoSuchElementException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
-import com.github.fge.jackson.JsonLoader;
 import com.github.fge.jsonschema.core.exceptions.ProcessingException;
-import com.github.fge.jsonschema.main.JsonSchema;
-import com.github.fge.jsonschema.main.JsonSchemaFactory;
 import com.google.common.io.CharStreams;
 
 import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.StackBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
+import com.github.jessemull.microflex.util.CodecUtil;
+import com.github.jessemull.microflex.util.DelimitedScanner;
 
 /**
  * Parses an input stream containing BigInteger stacks, plates, well sets, 
@@ -82,6 +78,13 @@ import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
  *    </tr>
  * </table>
  * 
+ * The source is read once. The format is detected from the first characters of
+ * the input when the reader is created. JSON and XML input is parsed on the first
+ * call to a JSON or XML method, and delimited plate maps and tables are never
+ * validated against the JSON schemas or unmarshalled.
+ * 
+ * <br><br>
+ * 
  * Result tables and maps must be separated using a user defined delimiter or the
  * default tab delimiter. Input must be formatted as follows:
  * 
@@ -446,7 +449,6 @@ public class PlateReaderBigInteger extends BufferedReader {
 
     /*---------------------------- Private Fields ----------------------------*/
     
-    private int ALPHA_BASE = 26;        // The number of possible characters for row indices
     private String delimiter = "\t";    // The delimiter
     
     private ResultListPOJOBigInteger resultsJSON;  // Result list POJO for JSON input
@@ -474,17 +476,14 @@ public class PlateReaderBigInteger extends BufferedReader {
     private int indexStacksXML = -1;      // Current index into the XML stack list
     
 	private String labelRegex = "^\\s*[^ ]+\\s*$";              // Regex for matching plate map labels
-	private String letters = "^[A-Z]+";                         // Regex for matching row index letters
-	   
-	/* Regex for matching JSON objects */
-
-	private String columnHeadersRegex;    // Regex for matching plate map column headers
-	private String tableHeaderRegex;      // Regex for matching table headers
 	
     private Pattern labelPattern = Pattern.compile(labelRegex);            // Pattern for matching plate map labels
-    private Pattern lettersPattern = Pattern.compile(letters);             // Pattern for matching row index letters
-    private Pattern columnHeadersPattern;                                  // Pattern for matching plate map column headers
-    private Pattern tableHeaderPattern;                                    // Pattern for matching table headers
+    
+    /* Scans plate map and table rows */
+    
+    private DelimitedScanner scanner = new DelimitedScanner(delimiter);    // Row scanner
+    private int scannedRow;                                                // Row index of the last scanned row
+    private int scannedColumn;                                             // Column index of the last scanned table row
     
     /* Paths to well, well set, plate and stack JSON/XML schemas */
     
@@ -494,6 +493,16 @@ public class PlateReaderBigInteger extends BufferedReader {
     private final String JSON_PLATE_SCHEMA = "json_plate_schema.json";
     private final String JSON_STACK_SCHEMA = "json_stack_schema.json";
     
+    /* Source formats detected from the first characters of the input */
+    
+    private static final int FORMAT_TEXT = 0;    // Delimited plate maps and tables
+    private static final int FORMAT_JSON = 1;    // JSON object
+    private static final int FORMAT_XML = 2;     // XML document
+    private static final int SNIFF_LIMIT = 1024; // Characters examined to detect the format
+    
+    private int format = FORMAT_TEXT;    // The detected source format
+    private boolean loaded;              // True once JSON or XML input has been parsed
+    
     /* Default buffer size for a buffered reader is 8192 bytes/chars */
     
     int readAheadLimit = 8192 * 10000;
@@ -509,18 +518,8 @@ public class PlateReaderBigInteger extends BufferedReader {
         
     	super(source);
         
-		try {
-			
-			this.setDelimiter(this.delimiter);
-	        
-	        String input = CharStreams.toString(source);
-	        
-			this.validateJSON(input);
-			this.validateXML(input);
-		
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
 
     }
     
@@ -536,18 +535,8 @@ public class PlateReaderBigInteger extends BufferedReader {
         
         super(source, size);
        
-        try {
-        	
-            this.setDelimiter(this.delimiter);
-
-            String input = CharStreams.toString(source);
-     
-			this.validateJSON(input);
-		    this.validateXML(input);
-		    
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
    
     }
 
@@ -560,18 +549,8 @@ public class PlateReaderBigInteger extends BufferedReader {
         
         super(new InputStreamReader(source));
 
-	    try {
-	    	
-	        this.setDelimiter(this.delimiter);
-	        
-		    String input = CharStreams.toString(new InputStreamReader(source));
-		    
-			this.validateJSON(input);
-	        this.validateXML(input);
-		
-	    } catch (Exception e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
 
     }
     
@@ -585,18 +564,8 @@ public class PlateReaderBigInteger extends BufferedReader {
         
         super(new InputStreamReader(source), size);
         
-        try {
-        	
-        	this.setDelimiter(this.delimiter);
-            
-            String input = CharStreams.toString(new InputStreamReader(source));
-
-			this.validateJSON(input);        
-	        this.validateXML(input);
-	        
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
     }
 
     /**
@@ -609,18 +578,8 @@ public class PlateReaderBigInteger extends BufferedReader {
         
         super(new BufferedReader(new InputStreamReader(source, set)));        
         
-        try {
-        	
-        	this.setDelimiter(this.delimiter);
-            
-            String input = CharStreams.toString(new InputStreamReader(source, set));
-
-			this.validateJSON(input);
-	        this.validateXML(input);
-
-        } catch(Exception e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
         
     }
     
@@ -636,18 +595,8 @@ public class PlateReaderBigInteger extends BufferedReader {
         
         super(new BufferedReader(new InputStreamReader(source, charsetName), size));        
         
-        try {
-        	
-        	this.setDelimiter(this.delimiter);
-            
-            String input = CharStreams.toString(new InputStreamReader(source, charsetName));
-
-			this.validateJSON(input);
-	        this.validateXML(input);
-	        
-		} catch(Exception e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
 
     }
 
@@ -661,18 +610,8 @@ public class PlateReaderBigInteger extends BufferedReader {
         
         super(new InputStreamReader(source, decoder));        
         
-        try {
-
-        	this.setDelimiter(this.delimiter);
-            
-            String input = CharStreams.toString(new InputStreamReader(source, decoder));
-
-			this.validateJSON(input);
-			this.validateXML(input);
-		
-        } catch(Exception e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
         
     }
     
@@ -687,18 +626,8 @@ public class PlateReaderBigInteger extends BufferedReader {
         
         super(new InputStreamReader(source, decoder), size);        
         
-        try {
-
-        	this.setDelimiter(this.delimiter);
-            
-            String input = CharStreams.toString(new InputStreamReader(source, decoder));
-
-			this.validateJSON(input);
-			this.validateXML(input);
-			
-		} catch(Exception e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
         
     }
     
@@ -713,18 +642,8 @@ public class PlateReaderBigInteger extends BufferedReader {
 
         super(new BufferedReader(new FileReader(source)));
 
-        try {
-        	
-            this.setDelimiter(this.delimiter);
-            
-            String input = CharStreams.toString(new FileReader(source));
-	        
-            this.validateJSON(input);
-	        this.validateXML(input);
-	      
-		} catch(ProcessingException e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
 
     }
     
@@ -739,17 +658,8 @@ public class PlateReaderBigInteger extends BufferedReader {
         
         super(new FileReader(source), size);
         
-        try {
-	        this.setDelimiter(this.delimiter);
-	
-	        String input = CharStreams.toString(new FileReader(source));
-	        
-	        this.validateJSON(input);
-	        this.validateXML(input);
-	        
-        } catch(Exception e) {
-        	e.printStackTrace();
-        }
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
     }
 
     /**
@@ -762,18 +672,8 @@ public class PlateReaderBigInteger extends BufferedReader {
         
         super(new FileReader(new File(fileName)));
         
-        try {
-
-			this.setDelimiter(this.delimiter);
-	        
-	        String input = CharStreams.toString(new FileReader(new File(fileName)));
-	        
-			this.validateJSON(input);
-	        this.validateXML(input);
-	        
-		} catch(Exception e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
 
     }
     
@@ -790,18 +690,8 @@ public class PlateReaderBigInteger extends BufferedReader {
         
         super(new FileReader(new File(fileName)), size);
         
-        try {
-        	
-        	this.setDelimiter(this.delimiter);
-            
-            String input = CharStreams.toString(new FileReader(new File(fileName)));
-
-			this.validateJSON(input);
-	        this.validateXML(input);
-	        
-		} catch(Exception e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
 
     }
 
@@ -835,6 +725,7 @@ public class PlateReaderBigInteger extends BufferedReader {
     	    while(label.trim().isEmpty()) {
     	    	
     	    	if(!this.hasNextLine()) {
+    	    		this.reset();
     	    		return false;
     	    	}
     	    	
@@ -846,60 +737,46 @@ public class PlateReaderBigInteger extends BufferedReader {
     	    Matcher labelMatcher = labelPattern.matcher(label);
 
     	    if(!labelMatcher.matches()) {	        
+    		    this.reset();
     		    return false;
          	}
       
     	    /* Check for valid column headers */
 
-    	    String headers = this.nextLine();
-
-    	    Matcher headersMatcher = columnHeadersPattern.matcher(headers);
-    	    int columnNumber = 0;
+    	    int columnNumber = this.scanColumnHeaders(this.nextLine());
     	
-    	    if(!headersMatcher.matches()) {   	              		    
+    	    if(columnNumber < 0) {   	              		    
+    	    	this.reset();
     	    	return false;       		    
-          	} else {
-    	    
-    	    	String[] splitHeaders = headers.trim().split(delimiter);
-    		
-    		    for(int i = 0; i < splitHeaders.length; i++) {
-    			    if(Integer.parseInt(splitHeaders[i]) != i + 1) {			        
-    				    throw new IllegalArgumentException("Invalid column index.");
-    			    }
-    		    }
-    		
-    		    columnNumber = splitHeaders.length;	
-    	    }
+          	}
 
     	    /* Validate the rows and row indices */
     	
     	    int currentIndex = 0;
     	    String row = null;
         	
-    	    while((row = this.nextLine().trim()) != null && !row.trim().isEmpty()) {
+    	    while((row = this.readLine()) != null && !row.trim().isEmpty()) {
 
-        	    String regex = "^\\s*[A-Za-z]+" + this.delimiter + "(\\s*(\\d+\\.?\\d+|Null)\\s*" + this.delimiter + "|\\s*(\\d+\\.?\\d*|Null))+\\s*\\n?$";
-            	Pattern pattern = Pattern.compile(regex);
-            	Matcher rowMatcher = pattern.matcher(row);
+    	    	int rowLength = this.scanMapRow(row, null);
 
-    		    if(!rowMatcher.lookingAt()) {
+    		    if(rowLength < 0) {
     		    	
     		    	if(currentIndex == 0) {
+    		    		this.reset();
     		    		return false;
     		    	}
     		    	
     		    	break;
     		    	
     	        } else {
-    	        
-    	            String[] rowSplit = row.split(delimiter);
-    	    	    int numValue = this.parseRow(rowSplit[0].trim());
     	    	
-    	    	    if(numValue != currentIndex) {   
+    	    	    if(this.scannedRow != currentIndex) {   
+    	    	    	this.reset();
     	    	    	return false;
     	    	    } 
 
-    	    	    if(rowSplit.length - 1 != columnNumber) {
+    	    	    if(rowLength != columnNumber) {
+    	    	    	this.reset();
     	    	    	return false;
     	    	    }
     	    	
@@ -933,8 +810,8 @@ public class PlateReaderBigInteger extends BufferedReader {
     
     /**
      * Scans the next token of the input as a plate map. If the next token 
-     * matches the plate map regular expression defined above then the token is 
-     * converted into a plate object.
+     * matches the plate map format defined above then the token is converted 
+     * into a plate object.
      * @return    plate containing the data from the map
      */
     public PlateBigInteger nextMap() {
@@ -971,25 +848,10 @@ public class PlateReaderBigInteger extends BufferedReader {
       
             /* Check for valid column headers */
         
-            String headers = this.nextLine();
-            Matcher headersMatcher = columnHeadersPattern.matcher(headers);
-            int columnNumber = 0;
+            int columnNumber = this.scanColumnHeaders(this.nextLine());
         
-            if(!headersMatcher.matches()) {
-            
+            if(columnNumber < 0) {
                 throw new InputMismatchException("Invalid plate map column headers.");
-            
-            } else {
-            
-                String[] splitHeaders = headers.trim().split(delimiter);
-            
-                for(int i = 0; i < splitHeaders.length; i++) {
-                    if(Integer.parseInt(splitHeaders[i]) != i + 1) {
-                        throw new InputMismatchException("Invalid plate map column headers.");
-                    }
-                }
-            
-                columnNumber = splitHeaders.length; 
             }
 
             /* Validate the rows and row indices */
@@ -998,41 +860,28 @@ public class PlateReaderBigInteger extends BufferedReader {
             List<WellBigInteger> wells = new ArrayList<WellBigInteger>();
             String row = null;
         
-            while((row = this.nextLine()) != null && !row.trim().isEmpty()) {
+            while((row = this.readLine()) != null && !row.trim().isEmpty()) {
                 
-            	String regex = "^\\s*[A-Za-z]+" + this.delimiter + "(\\s*(\\d+\\.?\\d+|Null)\\s*" + this.delimiter + "|\\s*(\\d+\\.?\\d*|Null))+\\s*\\n?$";
-            	Pattern pattern = Pattern.compile(regex);
-            	Matcher rowMatcher = pattern.matcher(row);
+                int rowLength = this.scanMapRow(row, wells);
                 
-                if(!rowMatcher.matches()) {
+                if(rowLength < 0) {
                 	
+                    if(currentIndex == 0) {
+                        throw new InputMismatchException("Invalid plate map row.");
+                    }
+                    
                     break;
                 
                 } else {
                 
-                    String[] rowSplit = row.split(delimiter);
-                    int numValue = this.parseRow(rowSplit[0].trim());
-                
-                    if(numValue != currentIndex) {   
+                    if(this.scannedRow != currentIndex) {   
                         throw new InputMismatchException("Invalid plate map row index.");
                     } 
 
-                    if(rowSplit.length - 1 != columnNumber) {
+                    if(rowLength != columnNumber) {
                         throw new InputMismatchException("Invalid plate map row length.");
                     }
                 
-                    for(int i = 1; i < rowSplit.length; i++) {
-                    	
-                    	if(!rowSplit[i].equals("Null")) {
-
-                    		WellBigInteger well = new WellBigInteger(numValue, i);
-                            BigInteger toAdd = new BigInteger(rowSplit[i].trim() + "");
-                            
-                            well.add(toAdd);
-                            wells.add(well);
-                    	}
-                    }
-                
                     currentIndex++;             
                 }
             }
@@ -1090,6 +939,7 @@ public class PlateReaderBigInteger extends BufferedReader {
             while(label.trim().isEmpty()) {
             	
             	if(!this.hasNextLine()) {
+            		this.reset();
             		return false;
             	}
             	
@@ -1101,6 +951,7 @@ public class PlateReaderBigInteger extends BufferedReader {
     	    Matcher labelMatcher = labelPattern.matcher(label);
     	    
     	    if(!labelMatcher.matches()) {	        
+    		    this.reset();
     		    return false;
          	}
     	    
@@ -1113,26 +964,20 @@ public class PlateReaderBigInteger extends BufferedReader {
     	    }
 
     	    /* Check for valid table headers */
-    	    
-    	    this.tableHeaderPattern = Pattern.compile(this.tableHeaderRegex);
-    	    Matcher tableHeaderMatcher = tableHeaderPattern.matcher(headers);
 
-    	    if(!tableHeaderMatcher.matches()) {
+    	    if(!this.scanTableHeaders(headers)) {
+    	        this.reset();
     	        return false;    	
     	    }
 
     	    String row = null;
     	    int index  = 0;
-    	    while((row = this.nextLine()) != null && !row.trim().isEmpty()) {
-
-    	    	String regex = "^\\s*[A-Za-z]+\\d+\\s*" + this.delimiter + "\\s*\\d+\\.?\\d+\\s*$";
-    	    	Pattern pattern = Pattern.compile(regex);
-    	    	
-    	    	Matcher tableRowMatcher = pattern.matcher(row);
+    	    while((row = this.readLine()) != null && !row.trim().isEmpty()) {
 
-    	    	if(!tableRowMatcher.matches()) {
+    	    	if(!this.scanTableRow(row)) {
     	    		
     	    		if(index == 0) {
+    	    			this.reset();
     	    			return false;
     	    		}
     	    		
@@ -1165,8 +1010,8 @@ public class PlateReaderBigInteger extends BufferedReader {
     
     /**
      * Scans the next token of the input as a table of wells. If the next token 
-     * matches the table regular expression defined above then the token is 
-     * converted into a well set.
+     * matches the table format defined above then the token is converted into 
+     * a well set.
      * @return    the converted table of wells  
      */
     public WellSetBigInteger nextTable() {
@@ -1203,32 +1048,27 @@ public class PlateReaderBigInteger extends BufferedReader {
     	    
     	    /* Check for valid table headers */
 
-    	    Matcher tableHeaderMatcher = tableHeaderPattern.matcher(headers);
-
-    	    if(!tableHeaderMatcher.matches()) {
+    	    if(!this.scanTableHeaders(headers)) {
     	        throw new IllegalArgumentException("Invalid table headers.");    	
     	    }
     	    
     	    List<WellBigInteger> wells = new ArrayList<WellBigInteger>();
     	    String row = null;
     	    
-    	    while((row = this.nextLine()) != null && !row.trim().isEmpty()) {
-    	    	
-    	    	String regex = "^\\s*[A-Za-z]+\\d+\\s*" + this.delimiter + "\\s*\\d+\\.?\\d+\\s*$";
-    	    	Pattern pattern = Pattern.compile(regex);
-    	    	
-    	    	Matcher tableRowMatcher = pattern.matcher(row);
-    	    	String[] split = row.split(this.delimiter);
+    	    while((row = this.readLine()) != null && !row.trim().isEmpty()) {
 
-    	    	if(!tableRowMatcher.matches()) {
+    	    	if(!this.scanTableRow(row)) {
+    	    		
+    	    		if(wells.isEmpty()) {
+    	    			throw new IllegalArgumentException("Invalid table row.");
+    	    		}
+    	    		
     	    		break;
     	    	} else {
     	    		
-    	    		WellBigInteger well = new WellBigInteger(split[0].trim());
+    	    		WellBigInteger well = new WellBigInteger(this.scannedRow, this.scannedColumn);
     	            
-    	    		BigInteger toAdd = new BigInteger(split[1].trim() + "");
-    	    		
-    	            well.add(toAdd);    	    		
+    	            well.add(this.scanner.bigIntegerValue());    	    		
     	    		wells.add(well);
     	    	}
     	    	
@@ -1262,6 +1102,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasNextJSONResult() {    
+        this.load();
         return this.indexResultsJSON >= 0 && this.indexResultsJSON < this.resultsJSON.size();
     }
     
@@ -1272,6 +1113,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasPreviousJSONResult() {    
+        this.load();
         return this.indexResultsJSON > 0;
     }
     
@@ -1281,6 +1123,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    the converted result object  
      */
     public WellSetBigInteger nextJSONResult() {
+        this.load();
 
     	if(this.hasNextJSONResult()) {
     		
@@ -1314,6 +1157,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    the converted result object  
      */
     public WellSetBigInteger previousJSONResult() {
+        this.load();
 
     	if(this.hasPreviousJSONResult()) {
     		
@@ -1347,6 +1191,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of converted result objects
      */
     public List<WellSetBigInteger> remainingJSONResults() {
+        this.load();
         
         if(!this.hasNextJSONResult()) {
             return null;
@@ -1367,6 +1212,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of converted result objects
      */
     public List<WellSetBigInteger> spentJSONResults() {
+        this.load();
         
         if(!this.hasPreviousJSONResult()) {
             return null;
@@ -1386,6 +1232,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of all result objects
      */
     public List<WellSetBigInteger> allJSONResults() {
+        this.load();
 
         List<WellSetBigInteger> allResults = new ArrayList<WellSetBigInteger>();
         
@@ -1420,6 +1267,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasNextXMLResult() {    
+        this.load();
         return this.indexResultsXML >= 0 && this.indexResultsXML < this.resultsXML.size();
     }
     
@@ -1430,6 +1278,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasPreviousXMLResult() {    
+        this.load();
         return this.indexResultsXML > 0;
     }
     
@@ -1439,6 +1288,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    the converted result object  
      */
     public WellSetBigInteger nextXMLResult() {
+        this.load();
         return this.hasNextXMLResult() ? 
                 this.resultsXML.get(indexResultsXML++).toWellSetObject() : null;
     }
@@ -1449,6 +1299,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    the converted result object  
      */
     public WellSetBigInteger previousXMLResult() {
+        this.load();
         return this.hasPreviousXMLResult() ? 
                 this.resultsXML.get(--indexResultsXML).toWellSetObject() : null;
     }
@@ -1459,6 +1310,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of converted result objects
      */
     public List<WellSetBigInteger> remainingXMLResults() {
+        this.load();
         
         if(!this.hasNextXMLResult()) {
             return null;
@@ -1479,6 +1331,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of converted result objects
      */
     public List<WellSetBigInteger> spentXMLResults() {
+        this.load();
         
         if(!this.hasPreviousXMLResult()) {
             return null;
@@ -1498,6 +1351,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of all converted result objects
      */
     public List<WellSetBigInteger> allXMLResults() {
+        this.load();
 
         List<WellSetBigInteger> allWellResults = new ArrayList<WellSetBigInteger>();
         
@@ -1517,6 +1371,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasNextJSONWell() {    
+        this.load();
         return this.indexWellsJSON >= 0 && this.indexWellsJSON < this.wellsJSON.size();
     }
     
@@ -1527,6 +1382,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasPreviousJSONWell() {    
+        this.load();
         return this.indexWellsJSON > 0;
     }
     
@@ -1536,6 +1392,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    the converted well object  
      */
     public WellBigInteger nextJSONWell() {
+        this.load();
         return this.hasNextJSONWell() ? 
                 this.wellsJSON.get(indexWellsJSON++).toWellObject() : null;
     }
@@ -1546,6 +1403,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    the converted well object  
      */
     public WellBigInteger previousJSONWell() {
+        this.load();
         return this.hasPreviousJSONWell() ? 
                 this.wellsJSON.get(--indexWellsJSON).toWellObject() : null;
     }
@@ -1556,6 +1414,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of converted well objects
      */
     public List<WellBigInteger> remainingJSONWells() {
+        this.load();
         
         if(!this.hasNextJSONWell()) {
             return null;
@@ -1576,6 +1435,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of converted well objects
      */
     public List<WellBigInteger> spentJSONWells() {
+        this.load();
         
         if(!this.hasPreviousJSONWell()) {
             return null;
@@ -1595,6 +1455,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of all well objects
      */
     public List<WellBigInteger> allJSONWells() {
+        this.load();
 
         List<WellBigInteger> allWells = new ArrayList<WellBigInteger>();
         
@@ -1614,6 +1475,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasNextXMLWell() {    
+        this.load();
         return this.indexWellsXML >= 0 && this.indexWellsXML < this.wellsXML.size();
     }
     
@@ -1624,6 +1486,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasPreviousXMLWell() {    
+        this.load();
         return this.indexWellsXML > 0;
     }
     
@@ -1633,6 +1496,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    the converted well object  
      */
     public WellBigInteger nextXMLWell() {
+        this.load();
         return this.hasNextXMLWell() ? 
                 this.wellsXML.get(indexWellsXML++).toWellObject() : null;
     }
@@ -1643,6 +1507,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    the converted well object  
      */
     public WellBigInteger previousXMLWell() {
+        this.load();
         return this.hasPreviousXMLWell() ? 
                 this.wellsXML.get(--indexWellsXML).toWellObject() : null;
     }
@@ -1653,6 +1518,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of converted well objects
      */
     public List<WellBigInteger> remainingXMLWells() {
+        this.load();
         
         if(!this.hasNextXMLWell()) {
             return null;
@@ -1673,6 +1539,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of converted well objects
      */
     public List<WellBigInteger> spentXMLWells() {
+        this.load();
         
         if(!this.hasPreviousXMLWell()) {
             return null;
@@ -1692,6 +1559,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of all well objects
      */
     public List<WellBigInteger> allXMLWells() {
+        this.load();
 
         List<WellBigInteger> allWells = new ArrayList<WellBigInteger>();
         
@@ -1711,6 +1579,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasNextJSONSet() {   
+        this.load();
         return this.indexSetsJSON >= 0 && this.indexSetsJSON < this.setsJSON.size();
     }
     
@@ -1721,6 +1590,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasPreviousJSONSet() {    
+        this.load();
         return this.indexSetsJSON > 0;
     }
     
@@ -1730,6 +1600,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    the converted well set object  
      */
     public WellSetBigInteger nextJSONSet() {
+        this.load();
         return this.hasNextJSONSet() ? 
                 this.setsJSON.get(indexSetsJSON++).toWellSetObject() : null;
     }
@@ -1740,6 +1611,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    the converted well set object  
      */
     public WellSetBigInteger previousJSONSet() {
+        this.load();
         return this.hasPreviousJSONSet() ? 
                 this.setsJSON.get(--indexSetsJSON).toWellSetObject() : null;
     }
@@ -1750,6 +1622,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of converted set objects
      */
     public List<WellSetBigInteger> remainingJSONSets() {
+        this.load();
         
         if(!this.hasNextJSONSet()) {
             return null;
@@ -1770,6 +1643,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of converted set objects
      */
     public List<WellSetBigInteger> spentJSONSets() {
+        this.load();
         
         if(!this.hasPreviousJSONSet()) {
             return null;
@@ -1789,6 +1663,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of all set objects
      */
     public List<WellSetBigInteger> allJSONSets() {
+        this.load();
 
         List<WellSetBigInteger> allSets = new ArrayList<WellSetBigInteger>();
         
@@ -1808,6 +1683,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasNextXMLSet() {    
+        this.load();
         return this.indexSetsXML >= 0 && this.indexSetsXML < this.setsXML.size();
     }
     
@@ -1818,6 +1694,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasPreviousXMLSet() {    
+        this.load();
         return this.indexSetsXML > 0;
     }
     
@@ -1827,6 +1704,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    the converted well set object  
      */
     public WellSetBigInteger nextXMLSet() {
+        this.load();
         return this.hasNextXMLSet() ? 
                 this.setsXML.get(indexSetsXML++).toWellSetObject() : null;
     }
@@ -1837,6 +1715,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    the converted well set object  
      */
     public WellSetBigInteger previousXMLSet() {
+        this.load();
         return this.hasPreviousXMLSet() ? 
                 this.setsXML.get(--indexSetsXML).toWellSetObject() : null;
     }
@@ -1847,6 +1726,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of converted well set objects
      */
     public List<WellSetBigInteger> remainingXMLSets() {
+        this.load();
         
         if(!this.hasNextXMLSet()) {
             return null;
@@ -1867,6 +1747,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of converted well set objects
      */
     public List<WellSetBigInteger> spentXMLSets() {
+        this.load();
         
         if(!this.hasPreviousXMLSet()) {
             return null;
@@ -1886,6 +1767,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of all well set objects
      */
     public List<WellSetBigInteger> allXMLSets() {
+        this.load();
 
         List<WellSetBigInteger> allWellSets = new ArrayList<WellSetBigInteger>();
         
@@ -1905,6 +1787,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasNextJSONPlate() {    
+        this.load();
         return this.indexPlatesJSON >= 0 && this.indexPlatesJSON < this.platesJSON.size();
     }
     
@@ -1915,6 +1798,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasPreviousJSONPlate() {    
+        this.load();
         return this.indexPlatesJSON > 0;
     }
     
@@ -1924,6 +1808,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    the converted plate object  
      */
     public PlateBigInteger nextJSONPlate() {
+        this.load();
         return this.hasNextJSONPlate() ? 
                 this.platesJSON.get(indexPlatesJSON++).toPlateObject() : null;
     }
@@ -1934,6 +1819,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    the converted plate object  
      */
     public PlateBigInteger previousJSONPlate() {
+        this.load();
         return this.hasPreviousJSONPlate() ? 
                 this.platesJSON.get(--indexPlatesJSON).toPlateObject() : null;
     }
@@ -1944,6 +1830,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of converted plate objects
      */
     public List<PlateBigInteger> remainingJSONPlates() {
+        this.load();
         
         if(!this.hasNextJSONPlate()) {
             return null;
@@ -1964,6 +1851,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of converted plate objects
      */
     public List<PlateBigInteger> spentJSONPlates() {
+        this.load();
         
         if(!this.hasPreviousJSONPlate()) {
             return null;
@@ -1983,6 +1871,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of all plate objects
      */
     public List<PlateBigInteger> allJSONPlates() {
+        this.load();
 
         List<PlateBigInteger> allPlates = new ArrayList<PlateBigInteger>();
         
@@ -2002,6 +1891,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasNextXMLPlate() {    
+        this.load();
         return this.indexPlatesXML >= 0 && this.indexPlatesXML < this.platesXML.size();
     }
     
@@ -2012,6 +1902,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasPreviousXMLPlate() {    
+        this.load();
         return this.indexPlatesXML > 0;
     }
     
@@ -2021,6 +1912,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    the converted plate object  
      */
     public PlateBigInteger nextXMLPlate() {
+        this.load();
         return this.hasNextXMLPlate() ? 
                 this.platesXML.get(indexPlatesXML++).toPlateObject() : null;
     }
@@ -2031,6 +1923,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    the converted plate object  
      */
     public PlateBigInteger previousXMLPlate() {
+        this.load();
         return this.hasPreviousXMLPlate() ? 
                 this.platesXML.get(--indexPlatesXML).toPlateObject() : null;
     }
@@ -2041,6 +1934,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of converted plate objects
      */
     public List<PlateBigInteger> remainingXMLPlates() {
+        this.load();
         
         if(!this.hasNextXMLPlate()) {
             return null;
@@ -2061,6 +1955,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of converted plate objects
      */
     public List<PlateBigInteger> spentXMLPlates() {
+        this.load();
         
         if(!this.hasPreviousXMLPlate()) {
             return null;
@@ -2080,6 +1975,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of all plate objects
      */
     public List<PlateBigInteger> allXMLPlates() {
+        this.load();
 
         List<PlateBigInteger> allPlates = new ArrayList<PlateBigInteger>();
         
@@ -2099,6 +1995,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasNextJSONStack() {    
+        this.load();
         return this.indexStacksJSON >= 0 && this.indexStacksJSON < this.stacksJSON.size();
     }
     
@@ -2109,6 +2006,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasPreviousJSONStack() {    
+        this.load();
         return this.indexStacksJSON > 0;
     }
     
@@ -2118,6 +2016,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    the converted stack object  
      */
     public StackBigInteger nextJSONStack() {
+        this.load();
         return this.hasNextJSONStack() ? 
                 this.stacksJSON.get(indexStacksJSON++).toStackObject() : null;
     }
@@ -2128,6 +2027,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    the converted stack object  
      */
     public StackBigInteger previousJSONStack() {
+        this.load();
         return this.hasPreviousJSONStack() ? 
                 this.stacksJSON.get(--indexStacksJSON).toStackObject() : null;
     }
@@ -2138,6 +2038,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of converted stack objects
      */
     public List<StackBigInteger> remainingJSONStacks() {
+        this.load();
         
         if(!this.hasNextJSONStack()) {
             return null;
@@ -2158,6 +2059,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of converted stack objects
      */
     public List<StackBigInteger> spentJSONStacks() {
+        this.load();
         
         if(!this.hasPreviousJSONStack()) {
             return null;
@@ -2177,6 +2079,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of all stack objects
      */
     public List<StackBigInteger> allJSONStacks() {
+        this.load();
 
         List<StackBigInteger> allStacks = new ArrayList<StackBigInteger>();
         
@@ -2196,6 +2099,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasNextXMLStack() {    
+        this.load();
         return this.indexStacksXML >= 0 && this.indexStacksXML < this.stacksXML.size();
     }
     
@@ -2206,6 +2110,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasPreviousXMLStack() {    
+        this.load();
         return this.indexStacksXML > 0;
     }
     
@@ -2215,6 +2120,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    the converted stack object  
      */
     public StackBigInteger nextXMLStack() {
+        this.load();
         return this.hasNextXMLStack() ? 
                 this.stacksXML.get(indexStacksXML++).toStackObject() : null;
     }
@@ -2225,6 +2131,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    the converted stack object  
      */
     public StackBigInteger previousXMLStack() {
+        this.load();
         return this.hasPreviousXMLStack() ? 
                 this.stacksXML.get(--indexStacksXML).toStackObject() : null;
     }
@@ -2235,6 +2142,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of converted stack objects
      */
     public List<StackBigInteger> remainingXMLStacks() {
+        this.load();
         
         if(!this.hasNextXMLStack()) {
             return null;
@@ -2255,6 +2163,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of converted stack objects
      */
     public List<StackBigInteger> spentXMLStacks() {
+        this.load();
         
         if(!this.hasPreviousXMLStack()) {
             return null;
@@ -2274,6 +2183,7 @@ public class PlateReaderBigInteger extends BufferedReader {
      * @return    list of all stack objects
      */
     public List<StackBigInteger> allXMLStacks() {
+        this.load();
 
         List<StackBigInteger> allStacks = new ArrayList<StackBigInteger>();
         
@@ -2294,17 +2204,13 @@ public class PlateReaderBigInteger extends BufferedReader {
 
     	try {
 
+	    	this.scanner.setDelimiter(delim);
 	    	this.delimiter = delim;
-	     
-	        this.columnHeadersRegex = "^\\s*" + this.delimiter + "?\\s*(\\s*\\d+)\\s*(" + this.delimiter + "\\s*\\d+\\s*)*$";
-	    	this.tableHeaderRegex = "^\\s*Index\\s*" + this.delimiter + "\\s*Value\\s*$";
-
-	        this.columnHeadersPattern = Pattern.compile(columnHeadersRegex); 
-	        this.tableHeaderPattern = Pattern.compile(tableHeaderRegex);
 	        
     	} catch(Exception e) {
     		
     		this.delimiter = "\t";
+    		this.scanner.setDelimiter(this.delimiter);
     		throw new IllegalArgumentException("Invalid delimiter.");
     	
     	}
@@ -2320,158 +2226,383 @@ public class PlateReaderBigInteger extends BufferedReader {
     }
     
     /**
-     * Converts a row ID to an integer value.
-     * @param    String    the row as a string
-     * @return             the row as an integer value
+     * Scans the plate map column headers. The headers must be the column 
+     * indices in ascending order beginning with one. A leading and trailing
+     * delimiter are allowed.
+     * @param    String    the column headers
+     * @return             the number of columns or -1 if the headers are invalid
+     */
+    private int scanColumnHeaders(String headers) {
+        
+        this.scanner.load(headers);
+        this.scanner.skipWhitespace();
+        this.scanner.nextDelimiter();
+        
+        int columns = 0;
+        
+        do {
+            
+            this.scanner.skipWhitespace();
+            
+            if(this.scanner.nextColumn() != ++columns) {
+                return -1;
+            }
+            
+            this.scanner.skipWhitespace();
+            
+            /* A trailing delimiter ends the headers */
+            
+            if(!this.scanner.nextDelimiter()) {
+                break;
+            }
+            
+            this.scanner.skipWhitespace();
+            
+        } while(!this.scanner.atEnd());
+        
+        return this.scanner.atEnd() ? columns : -1;
+    }
+    
+    /**
+     * Scans a plate map row. The row index is held in the scanned row field. 
+     * When the well list is not null a well is added to the list for each 
+     * value. The list is unchanged if the row is invalid.
+     * @param    String              the row
+     * @param    List<WellBigInteger>    the list of wells or null
+     * @return                       the number of values including empty 
+     *                               wells or -1 if the row is invalid
+     */
+    private int scanMapRow(String row, List<WellBigInteger> wells) {
+        
+        int size = wells == null ? 0 : wells.size();
+        
+        this.scanner.load(row);
+        this.scanner.skipWhitespace();
+        
+        this.scannedRow = this.scanner.nextRow();
+        
+        if(this.scannedRow < 0 || !this.scanner.nextDelimiter()) {
+            return -1;
+        }
+        
+        int column = 0;
+        boolean valid = true;
+        
+        while(true) {
+            
+            this.scanner.skipWhitespace();
+            column++;
+            
+            if(!this.scanner.nextNull()) {
+                
+                if(!this.scanner.nextNumber()) {
+                    valid = false;
+                    break;
+                }
+                
+                if(wells != null) {
+                    WellBigInteger well = new WellBigInteger(this.scannedRow, column);
+                    well.add(this.scanner.bigIntegerValue());
+                    wells.add(well);
+                }
+            }
+            
+            this.scanner.skipWhitespace();
+            
+            /* A trailing delimiter ends the row */
+            
+            if(!this.scanner.nextDelimiter()) {
+                break;
+            }
+            
+            this.scanner.skipWhitespace();
+            
+            if(this.scanner.atEnd()) {
+                break;
+            }
+        }
+        
+        if(!valid || !this.scanner.atEnd()) {
+            
+            if(wells != null) {
+                wells.subList(size, wells.size()).clear();
+            }
+            
+            return -1;
+        }
+        
+        return column;
+    }
+    
+    /**
+     * Scans the table headers.
+     * @param    String    the table headers
+     * @return             true if the headers are valid
      */
-    private int parseRow(String rowString) {
+    private boolean scanTableHeaders(String headers) {
+        
+        this.scanner.load(headers);
+        this.scanner.skipWhitespace();
+        
+        if(!this.scanner.next("Index")) {
+            return false;
+        }
         
-        int rowInt = 0;
-        int baseIndex = 0;
+        this.scanner.skipWhitespace();
+        
+        if(!this.scanner.nextDelimiter()) {
+            return false;
+        }
+        
+        this.scanner.skipWhitespace();
+        
+        if(!this.scanner.next("Value")) {
+            return false;
+        }
         
-        String upper = rowString.toUpperCase().trim();
-        Matcher lettersMatcher = lettersPattern.matcher(upper);
+        this.scanner.skipWhitespace();
         
-        if(lettersMatcher.find()) {
+        return this.scanner.atEnd();
+    }
+    
+    /**
+     * Scans a table row. The well indices are held in the scanned row and 
+     * column fields and the value is held by the scanner.
+     * @param    String    the row
+     * @return             true if the row is valid
+     */
+    private boolean scanTableRow(String row) {
+        
+        this.scanner.load(row);
+        this.scanner.skipWhitespace();
+        
+        this.scannedRow = this.scanner.nextRow();
+        this.scannedColumn = this.scanner.nextColumn();
+        
+        if(this.scannedRow < 0 || this.scannedColumn < 0) {
+            return false;
+        }
+        
+        this.scanner.skipWhitespace();
+        
+        if(!this.scanner.nextDelimiter()) {
+            return false;
+        }
+        
+        this.scanner.skipWhitespace();
+        
+        if(!this.scanner.nextNumber()) {
+            return false;
+        }
+        
+        this.scanner.skipWhitespace();
+        
+        return this.scanner.atEnd();
+    }
+    
+    /**
+     * Detects the source format from the first non whitespace character. JSON
+     * input begins with an opening brace and XML input begins with an opening
+     * angle bracket. All other input is treated as delimited plate maps and 
+     * tables. The reader is reset to the beginning of the input.
+     */
+    private void detectFormat() {
+        
+        try {
             
-            String letters = lettersMatcher.group(0);
-            rowInt = letters.charAt(letters.length() - 1) - 65;
+            this.mark(SNIFF_LIMIT);
             
-            for(int i = letters.length() - 1; i >= 0; i--) {
-                rowInt += (baseIndex++ * (letters.charAt(i) - 65 + 1) * ALPHA_BASE);                
+            int next = this.read();
+            int count = 1;
+            
+            while(next != -1 && count < SNIFF_LIMIT && 
+                 (Character.isWhitespace(next) || next == '\uFEFF')) {
+                next = this.read();
+                count++;
             }
             
-            return rowInt;
+            this.reset();
+            
+            if(next == '{') {
+                this.format = FORMAT_JSON;
+            } else if(next == '<') {
+                this.format = FORMAT_XML;
+            } else {
+                this.format = FORMAT_TEXT;
+            }
             
-        } else {           
-            throw new IllegalArgumentException("Invalid row ID: " + rowString);
+        } catch(IOException e) {
+            e.printStackTrace();
+        }
+    }
+    
+    /**
+     * Parses JSON or XML input on first use. The input is read once from this
+     * reader. Delimited input is never parsed here.
+     */
+    private void load() {
+        
+        if(this.loaded) {
+            return;
         }
         
+        this.loaded = true;
+        
+        if(this.format == FORMAT_TEXT) {
+            return;
+        }
+        
+        try {
+            
+            String input = CharStreams.toString(this);
+            
+            if(this.format == FORMAT_JSON) {
+                this.validateJSON(input);
+            } else {
+                this.validateXML(input);
+            }
+            
+        } catch(Exception e) {
+            e.printStackTrace();
+        }
     }
     
     /**
-     * Validates a string against a JSON schema.
-     * @param    String    file path to the JSON schema
-     * @param    String    string to validate
-     * @return             true when string is a valid JSON object
+     * Validates a JSON node against a JSON schema.
+     * @param    String      file path to the JSON schema
+     * @param    JsonNode    node to validate
+     * @return               true when node is a valid JSON object
      */
-    private boolean validateSchema(String schemaPath, String input) {
+    private boolean validateSchema(String schemaPath, JsonNode rootNode) {
         
         try {
         	
-        	ClassLoader classLoader = getClass().getClassLoader();
-        	File schemaFile = new File(classLoader.getResource(schemaPath).getFile());
-
-        	/* Convert the string to a JSON node */
-
-            JsonNode rootNode = JsonLoader.fromString(input);
-
-            /* Get the schema */
-
-            JsonNode schemaNode = JsonLoader.fromFile(schemaFile);
-            
-            JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
-            JsonSchema schema = factory.getJsonSchema(schemaNode);
-
-            return schema.validInstance(rootNode);
+            return CodecUtil.schema(schemaPath).validInstance(rootNode);
             
         } catch (Exception e) {
-        	e.printStackTrace();
+            e.printStackTrace();
             return false;
             
         }
     }
     
     /**
-     * Sets the boolean values for JSON schema validation.
+     * Parses the JSON input. The input is parsed into a tree once, reading
+     * floating point numbers as exact big decimals, and the tree is validated
+     * against the schema matching the root field and bound without reparsing.
      * @param    String    string to validate
-     * @throws IOException 
-     * @throws JsonProcessingException 
+     * @throws   IOException 
      */
     private void validateJSON(String input) throws ProcessingException, IOException {
 
-    	if(this.validateSchema(this.JSON_RESULT_SCHEMA, input)) {
-    		ObjectMapper mapper = new ObjectMapper();
-    		this.resultsJSON = mapper.readValue(this, ResultListPOJOBigInteger.class);
+        JsonNode rootNode = CodecUtil.decimalMapper().readTree(input);
+        
+    	if(rootNode.has("results") && this.validateSchema(this.JSON_RESULT_SCHEMA, rootNode)) {
+    		this.resultsJSON = CodecUtil.reader(ResultListPOJOBigInteger.class).readValue(rootNode);
     		this.indexResultsJSON = 0;
     		return;
     	}
     	
-    	if(this.validateSchema(this.JSON_WELL_SCHEMA, input)) {
-    		ObjectMapper mapper = new ObjectMapper();
-    		this.wellsJSON = mapper.readValue(this, WellListPOJOBigInteger.class);
+    	if(rootNode.has("wells") && this.validateSchema(this.JSON_WELL_SCHEMA, rootNode)) {
+    		this.wellsJSON = CodecUtil.reader(WellListPOJOBigInteger.class).readValue(rootNode);
     		this.indexWellsJSON = 0;
     		return;
     	}
 
-    	if(this.validateSchema(this.JSON_WELLSET_SCHEMA, input)) {
-    		ObjectMapper mapper = new ObjectMapper();
-    		this.setsJSON = mapper.readValue(this, WellSetListPOJOBigInteger.class);
+    	if(rootNode.has("wellsets") && this.validateSchema(this.JSON_WELLSET_SCHEMA, rootNode)) {
+    		this.setsJSON = CodecUtil.reader(WellSetListPOJOBigInteger.class).readValue(rootNode);
     		this.indexSetsJSON = 0;
     		return;
     	}
 
-    	if(this.validateSchema(this.JSON_PLATE_SCHEMA, input)) {
-    		ObjectMapper mapper = new ObjectMapper();
-    		this.platesJSON = mapper.readValue(this, PlateListPOJOBigInteger.class);
+    	if(rootNode.has("plates") && this.validateSchema(this.JSON_PLATE_SCHEMA, rootNode)) {
+    		this.platesJSON = CodecUtil.reader(PlateListPOJOBigInteger.class).readValue(rootNode);
     		this.indexPlatesJSON = 0;
     		return;
     	}
 
-    	if(this.validateSchema(this.JSON_STACK_SCHEMA, input)) {
-    		ObjectMapper mapper = new ObjectMapper();
-    		this.stacksJSON = mapper.readValue(this, StackListPOJOBigInteger.class);
+    	if(rootNode.has("stacks") && this.validateSchema(this.JSON_STACK_SCHEMA, rootNode)) {
+    		this.stacksJSON = CodecUtil.reader(StackListPOJOBigInteger.class).readValue(rootNode);
     		this.indexStacksJSON = 0;
     		return;
     	}
     }
     
     /**
-     * Sets the boolean values for XML schema validation.
+     * Parses the XML input. Only the list type matching the root element is 
+     * unmarshalled.
      * @param    String    string to validate
      * @throws   JAXBException 
      */
     private void validateXML(String input) throws JAXBException {
         
-    	try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(ResultListXMLBigInteger.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            StringReader reader = new StringReader(input);
-            this.resultsXML = (ResultListXMLBigInteger) unmarshaller.unmarshal(reader);
-            this.indexResultsXML = 0;
-        } catch(Exception e) {}
-    	
-        try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(WellListXMLBigInteger.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            StringReader reader = new StringReader(input);
-            this.wellsXML = (WellListXMLBigInteger) unmarshaller.unmarshal(reader);
-            this.indexWellsXML = 0;
-        } catch(Exception e) {}
+        String root = this.xmlRoot(input);
         
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(WellSetListXMLBigInteger.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            StringReader reader = new StringReader(input);
-            this.setsXML = (WellSetListXMLBigInteger) unmarshaller.unmarshal(reader);
-            this.indexSetsXML = 0;
+            
+            if("results".equals(root)) {
+                this.resultsXML = (ResultListXMLBigInteger) this.unmarshal(ResultListXMLBigInteger.class, input);
+                this.indexResultsXML = 0;
+            } else if("wells".equals(root)) {
+                this.wellsXML = (WellListXMLBigInteger) this.unmarshal(WellListXMLBigInteger.class, input);
+                this.indexWellsXML = 0;
+            } else if("wellsets".equals(root)) {
+                this.setsXML = (WellSetListXMLBigInteger) this.unmarshal(WellSetListXMLBigInteger.class, input);
+                this.indexSetsXML = 0;
+            } else if("plates".equals(root)) {
+                this.platesXML = (PlateListXMLBigInteger) this.unmarshal(PlateListXMLBigInteger.class, input);
+                this.indexPlatesXML = 0;
+            } else if("stacks".equals(root)) {
+                this.stacksXML = (StackListXMLBigInteger) this.unmarshal(StackListXMLBigInteger.class, input);
+                this.indexStacksXML = 0;
+            }
+            
         } catch(Exception e) {}
+    }
+    
+    /**
+     * Unmarshals the XML input using a context for the list class.
+     * @param    Class<?>    the list class
+     * @param    String      the XML input
+     * @return               the unmarshalled list
+     * @throws   JAXBException 
+     */
+    private Object unmarshal(Class<?> type, String input) throws JAXBException {
+        return CodecUtil.unmarshaller(type).unmarshal(new StringReader(input));
+    }
+    
+    /**
+     * Returns the name of the root element of an XML document. Declarations,
+     * comments and processing instructions are skipped.
+     * @param    String    the XML input
+     * @return             the root element name or an empty string
+     */
+    private String xmlRoot(String input) {
         
-        try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(PlateListXMLBigInteger.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            StringReader reader = new StringReader(input);
-            this.platesXML = (PlateListXMLBigInteger) unmarshaller.unmarshal(reader);
-            this.indexPlatesXML = 0;
-        } catch(Exception e) {}
+        int index = input.indexOf('<');
         
-        try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(StackListXMLBigInteger.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            StringReader reader = new StringReader(input);
-            this.stacksXML = (StackListXMLBigInteger) unmarshaller.unmarshal(reader);
-            this.indexStacksXML = 0;
-        } catch(Exception e) {}
+        while(index >= 0 && index + 1 < input.length()) {
+            
+            char next = input.charAt(index + 1);
+            
+            if(next != '?' && next != '!') {
+                
+                int end = index + 1;
+                
+                while(end < input.length() && 
+                      !Character.isWhitespace(input.charAt(end)) && 
+                      input.charAt(end) != '>' && 
+                      input.charAt(end) != '/') {
+                    end++;
+                }
+                
+                return input.substring(index + 1, end);
+            }
+            
+            index = input.indexOf('<', index + 1);
+        }
+        
+        return "";
     }
     
     /**
@@ -37,19 +37,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.TransformerException;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.StackBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
+import com.github.jessemull.microflex.util.CodecUtil;
 
 /**
  * Formats and writes stacks, plates, well sets and wells to an output stream or 
@@ -1132,8 +1131,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   IOException
      */
     public void resultToJSON(Map<WellBigInteger, BigInteger> data) throws IOException {  
-          ObjectMapper mapper = new ObjectMapper();
-          mapper.writerWithDefaultPrettyPrinter().writeValue(this, new ResultListPOJOBigInteger(data));
+        JSONStreamWriterBigInteger stream = new JSONStreamWriterBigInteger(this);
+        stream.writeResult(data);
+        stream.close();
     }
     
     /**
@@ -1143,8 +1143,7 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String resultToJSONAsString(Map<WellBigInteger, BigInteger> data) throws JsonProcessingException {  
-          ObjectMapper mapper = new ObjectMapper();
-          return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new ResultListPOJOBigInteger(data));
+          return CodecUtil.writer().writeValueAsString(new ResultListPOJOBigInteger(data));
     }
      
     /**
@@ -1153,8 +1152,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   IOException
      */
     public void resultToJSON(List<Map<WellBigInteger, BigInteger>> data) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new ResultListPOJOBigInteger(data));
+        JSONStreamWriterBigInteger stream = new JSONStreamWriterBigInteger(this);
+        stream.writeResults(data);
+        stream.close();
     }
     
     /**
@@ -1164,8 +1164,7 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String resultToJSONAsString(List<Map<WellBigInteger, BigInteger>> data) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new ResultListPOJOBigInteger(data));
+        return CodecUtil.writer().writeValueAsString(new ResultListPOJOBigInteger(data));
     }
     
     /**
@@ -1175,8 +1174,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   IOException
      */
     public void resultToJSON(Map<WellBigInteger, BigInteger> data, String label) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new ResultListPOJOBigInteger(data, label));
+        JSONStreamWriterBigInteger stream = new JSONStreamWriterBigInteger(this);
+        stream.writeResult(data, label);
+        stream.close();
     }
     
     /**
@@ -1186,8 +1186,7 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @return   String                                  the JSON formatted result
      */
     public String resultToJSONAsString(Map<WellBigInteger, BigInteger> data, String label) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new ResultListPOJOBigInteger(data, label));
+    	return CodecUtil.writer().writeValueAsString(new ResultListPOJOBigInteger(data, label));
     }
     
     /**
@@ -1198,8 +1197,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   IOException
      */
     public void resultToJSON(List<Map<WellBigInteger, BigInteger>> data, List<String> labels) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new ResultListPOJOBigInteger(data, labels));
+        JSONStreamWriterBigInteger stream = new JSONStreamWriterBigInteger(this);
+        stream.writeResults(data, labels);
+        stream.close();
     }
     
     /**
@@ -1211,8 +1211,7 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String resultToJSONAsString(List<Map<WellBigInteger, BigInteger>> data, List<String> labels) throws JsonProcessingException {
-    	ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new ResultListPOJOBigInteger(data, labels));
+    	return CodecUtil.writer().writeValueAsString(new ResultListPOJOBigInteger(data, labels));
     }
     
     /*--------------------- Methods for Well JSON Output ---------------------*/
@@ -1223,8 +1222,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   IOException 
      */
     public void wellToJSON(WellBigInteger well) throws IOException {   	
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellListPOJOBigInteger(well));
+        JSONStreamWriterBigInteger stream = new JSONStreamWriterBigInteger(this);
+        stream.writeWell(well);
+        stream.close();
     }
     
     /**
@@ -1234,8 +1234,7 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws  JsonProcessingException 
      */
     public String wellToJSONAsString(WellBigInteger well) throws JsonProcessingException {   	
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellListPOJOBigInteger(well));
+        return CodecUtil.writer().writeValueAsString(new WellListPOJOBigInteger(well));
     }
     
     /**
@@ -1244,8 +1243,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   IOException 
      */
     public void wellToJSON(Collection<WellBigInteger> collection) throws IOException {     
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellListPOJOBigInteger(collection));
+        JSONStreamWriterBigInteger stream = new JSONStreamWriterBigInteger(this);
+        stream.writeWells(collection);
+        stream.close();
     }
     
     /**
@@ -1255,8 +1255,7 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String wellToJSONAsString(Collection<WellBigInteger> collection) throws JsonProcessingException {     
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellListPOJOBigInteger(collection));
+        return CodecUtil.writer().writeValueAsString(new WellListPOJOBigInteger(collection));
     }
     
     /**
@@ -1265,8 +1264,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   IOException 
      */
     public void wellToJSON(WellBigInteger[] array) throws   IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellListPOJOBigInteger(array));
+        JSONStreamWriterBigInteger stream = new JSONStreamWriterBigInteger(this);
+        stream.writeWells(array);
+        stream.close();
     }
     
     /**
@@ -1276,8 +1276,7 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String wellToJSONAsString(WellBigInteger[] array) throws   JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellListPOJOBigInteger(array));
+        return CodecUtil.writer().writeValueAsString(new WellListPOJOBigInteger(array));
     }
     
     /*------------------- Methods for Well Set JSON Output -------------------*/
@@ -1288,8 +1287,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   IOException 
      */
     public void setToJSON(WellSetBigInteger set) throws   IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellSetListPOJOBigInteger(set));
+        JSONStreamWriterBigInteger stream = new JSONStreamWriterBigInteger(this);
+        stream.writeSet(set);
+        stream.close();
     }
     
     /**
@@ -1299,8 +1299,7 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String setToJSONAsString(WellSetBigInteger set) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellSetListPOJOBigInteger(set));
+        return CodecUtil.writer().writeValueAsString(new WellSetListPOJOBigInteger(set));
     }
     
     /**
@@ -1309,8 +1308,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   IOException 
      */
     public void setToJSON(Collection<WellSetBigInteger> collection) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellSetListPOJOBigInteger(collection));
+        JSONStreamWriterBigInteger stream = new JSONStreamWriterBigInteger(this);
+        stream.writeSets(collection);
+        stream.close();
     }
     
     /**
@@ -1320,8 +1320,7 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */ 
     public String setToJSONAsString(Collection<WellSetBigInteger> collection) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellSetListPOJOBigInteger(collection));
+        return CodecUtil.writer().writeValueAsString(new WellSetListPOJOBigInteger(collection));
     }
     
     /**
@@ -1330,8 +1329,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   IOException 
      */
     public void setToJSON(WellSetBigInteger[] array) throws   IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellSetListPOJOBigInteger(array));
+        JSONStreamWriterBigInteger stream = new JSONStreamWriterBigInteger(this);
+        stream.writeSets(array);
+        stream.close();
     }
     
     /**
@@ -1341,8 +1341,7 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   JsonProcessingException  
      */
     public String setToJSONAsString(WellSetBigInteger[] array) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper(); 
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellSetListPOJOBigInteger(array));
+        return CodecUtil.writer().writeValueAsString(new WellSetListPOJOBigInteger(array));
     }
     
     /*-------------------- Methods for Plate JSON Output ---------------------*/
@@ -1353,8 +1352,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   IOException 
      */
     public void plateToJSON(PlateBigInteger plate) throws IOException {    
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new PlateListPOJOBigInteger(plate));
+        JSONStreamWriterBigInteger stream = new JSONStreamWriterBigInteger(this);
+        stream.writePlate(plate);
+        stream.close();
     }
     
     /**
@@ -1364,8 +1364,7 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String plateToJSONAsString(PlateBigInteger plate) throws JsonProcessingException {    
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new PlateListPOJOBigInteger(plate));
+        return CodecUtil.writer().writeValueAsString(new PlateListPOJOBigInteger(plate));
     } 
     
     /**
@@ -1374,8 +1373,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   IOException 
      */
     public void plateToJSON(Collection<PlateBigInteger> collection) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new PlateListPOJOBigInteger(collection));
+        JSONStreamWriterBigInteger stream = new JSONStreamWriterBigInteger(this);
+        stream.writePlates(collection);
+        stream.close();
     }
     
     /**
@@ -1385,8 +1385,7 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String plateToJSONAsString(Collection<PlateBigInteger> collection) throws JsonProcessingException {
-    	ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new PlateListPOJOBigInteger(collection));
+    	return CodecUtil.writer().writeValueAsString(new PlateListPOJOBigInteger(collection));
     }
      
     /**
@@ -1395,8 +1394,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws IOException 
      */
     public void plateToJSON(PlateBigInteger[] array) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new PlateListPOJOBigInteger(array));
+        JSONStreamWriterBigInteger stream = new JSONStreamWriterBigInteger(this);
+        stream.writePlates(array);
+        stream.close();
     }
     
     /**
@@ -1405,8 +1405,7 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String plateToJSONAsString(PlateBigInteger[] array) throws JsonProcessingException {
-    	ObjectMapper mapper = new ObjectMapper(); 
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new PlateListPOJOBigInteger(array));
+    	return CodecUtil.writer().writeValueAsString(new PlateListPOJOBigInteger(array));
     }
     
     /*-------------------- Methods for Stack JSON Output ---------------------*/
@@ -1417,8 +1416,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   IOException 
      */
     public void stackToJSON(StackBigInteger stack) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new StackListPOJOBigInteger(stack));
+        JSONStreamWriterBigInteger stream = new JSONStreamWriterBigInteger(this);
+        stream.writeStack(stack);
+        stream.close();
     }
     
     /**
@@ -1428,8 +1428,7 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String stackToJSONAsString(StackBigInteger stack) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new StackListPOJOBigInteger(stack));
+        return CodecUtil.writer().writeValueAsString(new StackListPOJOBigInteger(stack));
     }
     
     /**
@@ -1438,8 +1437,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   IOException 
      */
     public void stackToJSON(Collection<StackBigInteger> collection) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new StackListPOJOBigInteger(collection));
+        JSONStreamWriterBigInteger stream = new JSONStreamWriterBigInteger(this);
+        stream.writeStacks(collection);
+        stream.close();
     }
     
     /**
@@ -1449,8 +1449,7 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String stackToJSONAsString(Collection<StackBigInteger> collection) throws JsonProcessingException {
-    	ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new StackListPOJOBigInteger(collection));
+    	return CodecUtil.writer().writeValueAsString(new StackListPOJOBigInteger(collection));
     }
     
     /**
@@ -1459,8 +1458,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws IOException 
      */
     public void stackToJSON(StackBigInteger[] array) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new StackListPOJOBigInteger(array));
+        JSONStreamWriterBigInteger stream = new JSONStreamWriterBigInteger(this);
+        stream.writeStacks(array);
+        stream.close();
     }
     
     /**
@@ -1470,8 +1470,7 @@ public class PlateWriterBigInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String stackToJSONAsString(StackBigInteger[] array) throws JsonProcessingException {
-    	ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new StackListPOJOBigInteger(array));
+    	return CodecUtil.writer().writeValueAsString(new StackListPOJOBigInteger(array));
     } 
     
     /*-------------------- Methods for Result XML Output --------------------*/
@@ -1485,8 +1484,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      */
     public void resultToXML(Map<WellBigInteger, BigInteger> map) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	ResultListXMLBigInteger resultList = new ResultListXMLBigInteger(map);
-    	this.printXMLResult(resultList);
+        XMLStreamWriterBigInteger stream = new XMLStreamWriterBigInteger(this);
+        stream.writeResult(map);
+        stream.finish();
     }
     
     /**
@@ -1509,8 +1509,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      */
     public void resultToXML(Map<WellBigInteger, BigInteger> map, String label) 
     		throws IOException, ParserConfigurationException, TransformerException {
-    	ResultListXMLBigInteger resultList = new ResultListXMLBigInteger(map, label);
-    	this.printXMLResult(resultList);
+        XMLStreamWriterBigInteger stream = new XMLStreamWriterBigInteger(this);
+        stream.writeResult(map, label);
+        stream.finish();
     }
     
     /**
@@ -1533,8 +1534,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      */
     public void resultToXML(Collection<Map<WellBigInteger, BigInteger>> collection) 
     		throws IOException, TransformerException, ParserConfigurationException {
-    	ResultListXMLBigInteger resultList = new ResultListXMLBigInteger(collection);
-    	this.printXMLResult(resultList);
+        XMLStreamWriterBigInteger stream = new XMLStreamWriterBigInteger(this);
+        stream.writeResults(collection);
+        stream.finish();
     }
     
     /**
@@ -1557,8 +1559,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      */
     public void resultToXML(Collection<Map<WellBigInteger, BigInteger>> collection, List<String> labels) 
     		throws IOException, TransformerException, ParserConfigurationException {
-    	ResultListXMLBigInteger resultList = new ResultListXMLBigInteger(collection, labels);
-    	this.printXMLResult(resultList);
+        XMLStreamWriterBigInteger stream = new XMLStreamWriterBigInteger(this);
+        stream.writeResults(collection, labels);
+        stream.finish();
     }
     
     /**
@@ -1581,9 +1584,7 @@ public class PlateWriterBigInteger extends PrintWriter {
     	
     	try {
 
-    		JAXBContext context = JAXBContext.newInstance(ResultListXMLBigInteger.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(ResultListXMLBigInteger.class);
 
 			marshaller.marshal(resultList, this);
 			
@@ -1603,9 +1604,7 @@ public class PlateWriterBigInteger extends PrintWriter {
     	try {
 
     		StringWriter writer = new StringWriter();
-    		JAXBContext context = JAXBContext.newInstance(ResultListXMLBigInteger.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(ResultListXMLBigInteger.class);
 
 			marshaller.marshal(resultList, writer);
 			
@@ -1629,8 +1628,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      */
     public void wellToXML(WellBigInteger well) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	WellListXMLBigInteger wellList = new WellListXMLBigInteger(well);
-    	this.printXMLWell(wellList);
+        XMLStreamWriterBigInteger stream = new XMLStreamWriterBigInteger(this);
+        stream.writeWell(well);
+        stream.finish();
     }
     
     /**
@@ -1652,8 +1652,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      */
     public void wellToXML(Collection<WellBigInteger> collection) throws IOException, 
     		TransformerException, ParserConfigurationException {
-    	WellListXMLBigInteger wellList = new WellListXMLBigInteger(collection);
-    	this.printXMLWell(wellList);
+        XMLStreamWriterBigInteger stream = new XMLStreamWriterBigInteger(this);
+        stream.writeWells(collection);
+        stream.finish();
     }
     
     /**
@@ -1676,8 +1677,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      */
     public void wellToXML(WellBigInteger[] array) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	WellListXMLBigInteger wellList = new WellListXMLBigInteger(array);
-    	this.printXMLWell(wellList);
+        XMLStreamWriterBigInteger stream = new XMLStreamWriterBigInteger(this);
+        stream.writeWells(array);
+        stream.finish();
     }
     
     /**
@@ -1700,9 +1702,7 @@ public class PlateWriterBigInteger extends PrintWriter {
         
     	try {
 
-    		JAXBContext context = JAXBContext.newInstance(WellListXMLBigInteger.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(WellListXMLBigInteger.class);
 
 			marshaller.marshal(wellList, this);
 			
@@ -1722,9 +1722,7 @@ public class PlateWriterBigInteger extends PrintWriter {
     	try {
 
     		StringWriter writer = new StringWriter();
-    		JAXBContext context = JAXBContext.newInstance(WellListXMLBigInteger.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(WellListXMLBigInteger.class);
 
 			marshaller.marshal(wellList, writer);
 			
@@ -1749,8 +1747,9 @@ public class PlateWriterBigInteger extends PrintWriter {
     public void setToXML(WellSetBigInteger set) throws IOException, 
                                                     ParserConfigurationException, 
                                                     TransformerException {
-    	WellSetListXMLBigInteger setList = new WellSetListXMLBigInteger(set);
-    	this.printXMLSet(setList);
+        XMLStreamWriterBigInteger stream = new XMLStreamWriterBigInteger(this);
+        stream.writeSet(set);
+        stream.finish();
     }
     
     /**
@@ -1773,8 +1772,9 @@ public class PlateWriterBigInteger extends PrintWriter {
     public void setToXML(Collection<WellSetBigInteger> collection) throws IOException, 
                                                                        TransformerException, 
                                                                        ParserConfigurationException {
-    	WellSetListXMLBigInteger setList = new WellSetListXMLBigInteger(collection);
-    	this.printXMLSet(setList);
+        XMLStreamWriterBigInteger stream = new XMLStreamWriterBigInteger(this);
+        stream.writeSets(collection);
+        stream.finish();
     }
     
     /**
@@ -1797,8 +1797,9 @@ public class PlateWriterBigInteger extends PrintWriter {
     public void setToXML(WellSetBigInteger[] array) throws IOException, 
                                                         ParserConfigurationException, 
                                                         TransformerException {
-    	WellSetListXMLBigInteger setList = new WellSetListXMLBigInteger(array);
-    	this.printXMLSet(setList);
+        XMLStreamWriterBigInteger stream = new XMLStreamWriterBigInteger(this);
+        stream.writeSets(array);
+        stream.finish();
     }
     
     /**
@@ -1820,9 +1821,7 @@ public class PlateWriterBigInteger extends PrintWriter {
         
     	try {
 
-    		JAXBContext context = JAXBContext.newInstance(WellSetListXMLBigInteger.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(WellSetListXMLBigInteger.class);
 
 			marshaller.marshal(setList, this);
 			
@@ -1842,9 +1841,7 @@ public class PlateWriterBigInteger extends PrintWriter {
     	try {
 
     		StringWriter writer = new StringWriter();
-    		JAXBContext context = JAXBContext.newInstance(WellSetListXMLBigInteger.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(WellSetListXMLBigInteger.class);
 
 			marshaller.marshal(setList, writer);
 			
@@ -1868,8 +1865,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      */
     public void plateToXML(PlateBigInteger plate) throws IOException, 
     		TransformerException, ParserConfigurationException {
-    	PlateListXMLBigInteger plateList = new PlateListXMLBigInteger(plate);
-    	this.printXMLPlate(plateList);
+        XMLStreamWriterBigInteger stream = new XMLStreamWriterBigInteger(this);
+        stream.writePlate(plate);
+        stream.finish();
     }
     
     /**
@@ -1891,8 +1889,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      */
     public void plateToXML(Collection<PlateBigInteger> collection) throws IOException, 
     		TransformerException, ParserConfigurationException {
-    	PlateListXMLBigInteger plateList = new PlateListXMLBigInteger(collection);
-    	this.printXMLPlate(plateList);
+        XMLStreamWriterBigInteger stream = new XMLStreamWriterBigInteger(this);
+        stream.writePlates(collection);
+        stream.finish();
     }
     
     /**
@@ -1914,8 +1913,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      */
     public void plateToXML(PlateBigInteger[] array) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	PlateListXMLBigInteger plateList = new PlateListXMLBigInteger(array);
-    	this.printXMLPlate(plateList);
+        XMLStreamWriterBigInteger stream = new XMLStreamWriterBigInteger(this);
+        stream.writePlates(array);
+        stream.finish();
     }
     
     /**
@@ -1937,9 +1937,7 @@ public class PlateWriterBigInteger extends PrintWriter {
     	
     	try {
 
-    		JAXBContext context = JAXBContext.newInstance(PlateListXMLBigInteger.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(PlateListXMLBigInteger.class);
 
 			marshaller.marshal(plateList, this);
 			
@@ -1959,9 +1957,7 @@ public class PlateWriterBigInteger extends PrintWriter {
     	try {
 
     		StringWriter writer = new StringWriter();
-    		JAXBContext context = JAXBContext.newInstance(PlateListXMLBigInteger.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(PlateListXMLBigInteger.class);
 
 			marshaller.marshal(plateList, writer);
 			
@@ -1985,8 +1981,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      */
     public void stackToXML(StackBigInteger stack) throws IOException, 
     		TransformerException, ParserConfigurationException {
-    	StackListXMLBigInteger stackList = new StackListXMLBigInteger(stack);
-    	this.printXMLStack(stackList);
+        XMLStreamWriterBigInteger stream = new XMLStreamWriterBigInteger(this);
+        stream.writeStack(stack);
+        stream.finish();
     }
     
     /**
@@ -2008,8 +2005,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      */
     public void stackToXML(Collection<StackBigInteger> collection) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	StackListXMLBigInteger stackList = new StackListXMLBigInteger(collection);
-    	this.printXMLStack(stackList);
+        XMLStreamWriterBigInteger stream = new XMLStreamWriterBigInteger(this);
+        stream.writeStacks(collection);
+        stream.finish();
     }
     
     /**
@@ -2031,8 +2029,9 @@ public class PlateWriterBigInteger extends PrintWriter {
      */
     public void stackToXML(StackBigInteger[] array) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	StackListXMLBigInteger stackList = new StackListXMLBigInteger(array);
-    	this.printXMLStack(stackList);
+        XMLStreamWriterBigInteger stream = new XMLStreamWriterBigInteger(this);
+        stream.writeStacks(array);
+        stream.finish();
     }
     
     /**
@@ -2056,9 +2055,7 @@ public class PlateWriterBigInteger extends PrintWriter {
     	
     	try {
 
-    		JAXBContext context = JAXBContext.newInstance(StackListXMLBigInteger.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(StackListXMLBigInteger.class);
 
 			marshaller.marshal(stackList, this);
 			
@@ -2078,9 +2075,7 @@ public class PlateWriterBigInteger extends PrintWriter {
     	try {
 
     		StringWriter writer = new StringWriter();
-    		JAXBContext context = JAXBContext.newInstance(StackListXMLBigInteger.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(StackListXMLBigInteger.class);
 
 			marshaller.marshal(stackList, writer);
 			
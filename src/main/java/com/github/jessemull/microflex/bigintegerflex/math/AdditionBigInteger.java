@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * This class performs addition operations with two arguments for BigInteger 
@@ -577,5 +578,42 @@ public class AdditionBigInteger extends MathOperationBigIntegerBinary {
 
 		return result;
 	}
-    
+	
+	/**
+	 * Adds the values of the second list to the values of the first list and
+	 * writes the result to the first list. The first list must hold at least as
+	 * many values as the second list.
+	 * @param    List<BigInteger> list1    the first list
+	 * @param    List<BigInteger> list2    the second list
+	 * @override
+	 */
+	public void calculateInPlace(List<BigInteger> list1, List<BigInteger> list2) {
+		
+		if(list1.size() < list2.size()) {
+			throw new IllegalArgumentException("The first list must hold at least as many values as the second list.");
+		}
+		
+		ListIterator<BigInteger> iter = list1.listIterator();
+		
+		for(BigInteger value : list2) {
+			iter.set(iter.next().add(value));
+		}
+	}
+	
+	/**
+	 * Adds the constant to each value in the list and writes the result to the
+	 * list.
+	 * @param    List<BigInteger> list    the list
+	 * @param    BigInteger constant      the constant value
+	 * @override
+	 */
+	public void calculateInPlace(List<BigInteger> list, BigInteger constant) {
+		
+		ListIterator<BigInteger> iter = list.listIterator();
+		
+		while(iter.hasNext()) {
+			iter.set(iter.next().add(constant));
+		}
+	}
+	
 }
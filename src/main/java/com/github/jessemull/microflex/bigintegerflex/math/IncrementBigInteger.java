@@ -26,6 +26,7 @@ package com.github.jessemull.microflex.bigintegerflex.math;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * This class performs increment operations with a single argument for BigInteger 
@@ -71,4 +72,18 @@ public class IncrementBigInteger extends MathOperationBigIntegerUnary {
         return result;
     }
     
+    /**
+     * Increments the values in the list and writes the result to the list.
+     * @param    List<BigInteger>    the list
+     * @override
+     */
+    public void calculateInPlace(List<BigInteger> list) {
+        
+        ListIterator<BigInteger> iter = list.listIterator();
+        
+        while(iter.hasNext()) {
+            iter.set(iter.next().add(BigInteger.ONE));
+        }
+    }
+    
 }
@@ -26,6 +26,7 @@ package com.github.jessemull.microflex.bigintegerflex.math;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * This class performs a left shift operations for BigInteger plate stacks, plates, 
@@ -76,4 +77,20 @@ public class LeftShiftBigInteger extends MathOperationBigIntegerShift {
         return result;
     }
     
+    /**
+     * Shifts the values in the list n bits to the left and writes the result
+     * to the list.
+     * @param    List<BigInteger>    the list
+     * @param    int                 number of bits to shift
+     * @override
+     */
+    public void calculateInPlace(List<BigInteger> list, int n) {
+        
+        ListIterator<BigInteger> iter = list.listIterator();
+        
+        while(iter.hasNext()) {
+            iter.set(iter.next().shiftLeft(n));
+        }
+    }
+    
 }
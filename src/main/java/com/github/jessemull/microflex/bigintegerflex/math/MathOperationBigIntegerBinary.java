@@ -24,15 +24,21 @@ package com.github.jessemull.microflex.bigintegerflex.math;
 /* ------------------------------ Dependencies ------------------------------ */
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import com.google.common.collect.Iterators;
 
 import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.StackBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs mathematical operations with two arguments for BigInteger 
@@ -227,6 +233,13 @@ import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
  *    </tr>
  * </table>
  * 
+ * In place functions write the result of the operation to the wells of the first
+ * argument instead of returning new wells, well sets, plates and stacks.
+ * 
+ * Setting a fork join pool performs the operation on the wells of plates and
+ * sets and on the plates of stacks in parallel. The results are identical to
+ * those of sequential execution.
+ * 
  * MicroFlex currently supports the following binary mathematical operations 
  * for BigInteger objects:
  * 
@@ -265,6 +278,10 @@ import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
  */
 public abstract class MathOperationBigIntegerBinary {
 
+	/* ---------------------------- Private Fields -------------------------- */
+	
+	private ForkJoinPool pool;    // Pool for parallel execution or null
+	
 	/* ---------------------------- Constructors ---------------------------- */
 	
 	/**
@@ -272,6 +289,45 @@ public abstract class MathOperationBigIntegerBinary {
 	 */
 	public MathOperationBigIntegerBinary() {}
 
+	/* ------------------------- Parallel Execution ------------------------- */
+	
+	/**
+	 * Sets the fork join pool used to perform the operation on the wells of 
+	 * plates and sets and on the plates of stacks in parallel. Results are 
+	 * identical to those of sequential execution. A null pool restores 
+	 * sequential execution.
+	 * @param    ForkJoinPool    the pool or null
+	 */
+	public void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+	
+	/**
+	 * Returns the fork join pool used for parallel execution or null if the 
+	 * operation is performed sequentially.
+	 * @return    the pool or null
+	 */
+	public ForkJoinPool pool() {
+		return this.pool;
+	}
+	
+	/**
+	 * Enables parallel execution using the shared default pool or restores 
+	 * sequential execution.
+	 * @param    boolean    true for parallel execution
+	 */
+	public void setParallel(boolean parallel) {
+		this.pool = parallel ? ParallelUtil.defaultPool() : null;
+	}
+	
+	/**
+	 * Returns true if the operation is performed in parallel.
+	 * @return    true if parallel execution is enabled
+	 */
+	public boolean isParallel() {
+		return this.pool != null;
+	}
+
 	/* ----------------------------- Well Methods --------------------------- */
 	
     /**
@@ -812,18 +868,17 @@ public abstract class MathOperationBigIntegerBinary {
         clone1.retain(set2);
         clone2.retain(set1);
         
-        Iterator<WellBigInteger> iter1 = clone1.iterator();
-        Iterator<WellBigInteger> iter2 = clone2.iterator();
-        
-    	while(iter1.hasNext()) {
+    	List<WellBigInteger> wells = ParallelUtil.map(this.pool, clone1, clone2, 
+    			new ParallelUtil.PairTask<WellBigInteger, WellBigInteger, WellBigInteger>() {
     		
-    		WellBigInteger well1 = iter1.next();
-    		WellBigInteger well2 = iter2.next();
-    		
-    		List<BigInteger> list = this.calculate(well1.data(), well2.data());
-    		result.add(new WellBigInteger(well1.row(), well1.column(), list));
-
-    	}
+    		public WellBigInteger apply(WellBigInteger well1, WellBigInteger well2) {
+    			
+    			List<BigInteger> list = calculate(well1.data(), well2.data());
+    			return new WellBigInteger(well1.row(), well1.column(), list);
+    		}
+    	});
+    	
+    	result.add(wells);
     	
     	result.add(set1Excluded);
     	result.add(set2Excluded);
@@ -912,20 +967,19 @@ public abstract class MathOperationBigIntegerBinary {
         clone1.retain(set2);
         clone2.retain(set1);
         
-        Iterator<WellBigInteger> iter1 = clone1.iterator();
-        Iterator<WellBigInteger> iter2 = clone2.iterator();
-        
-    	while(iter1.hasNext()) {
-    		
-    		WellBigInteger well1 = iter1.next();
-    		WellBigInteger well2 = iter2.next();
+    	List<WellBigInteger> wells = ParallelUtil.map(this.pool, clone1, clone2, 
+    			new ParallelUtil.PairTask<WellBigInteger, WellBigInteger, WellBigInteger>() {
     		
-    		validateArgs(well1, well2);
+    		public WellBigInteger apply(WellBigInteger well1, WellBigInteger well2) {
     			
-    		List<BigInteger> list = this.calculateStrict(well1.data(), well2.data());
-    		result.add(new WellBigInteger(well1.row(), well1.column(), list));
-
-    	}
+    			validateArgs(well1, well2);
+    			
+    			List<BigInteger> list = calculateStrict(well1.data(), well2.data());
+    			return new WellBigInteger(well1.row(), well1.column(), list);
+    		}
+    	});
+    	
+    	result.add(wells);
 
     	return result;
     }
@@ -977,17 +1031,22 @@ public abstract class MathOperationBigIntegerBinary {
      * @param    BigInteger           constant for operation
      * @return                        result of the operation
      */
-    public WellSetBigInteger sets(WellSetBigInteger set, BigInteger constant) {
+    public WellSetBigInteger sets(WellSetBigInteger set, final BigInteger constant) {
     	
     	this.validateArgs(set);
     	
     	WellSetBigInteger result = new WellSetBigInteger();
     	result.setLabel(set.label());
     
-    	for(WellBigInteger well : set) {
-    		result.add(new WellBigInteger(well.row(), well.column(), 
-    				this.calculate(well.data(), constant)));
-    	} 
+    	List<WellBigInteger> wells = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigInteger, WellBigInteger>() {
+    		
+    		public WellBigInteger apply(WellBigInteger well) {
+    			return new WellBigInteger(well.row(), well.column(), 
+    					calculate(well.data(), constant));
+    		}
+    	});
+    	
+    	result.add(wells);
     	
     	return result;
     }
@@ -1193,10 +1252,20 @@ public abstract class MathOperationBigIntegerBinary {
     	Iterator<PlateBigInteger> iter1 = stack1.iterator();
     	Iterator<PlateBigInteger> iter2 = stack2.iterator();
     	
-    	while(iter1.hasNext() && iter2.hasNext()) {
-    	    PlateBigInteger resultPlate = this.plates(iter1.next(), iter2.next());
-    	    result.add(resultPlate);
+    	List<PlateBigInteger> resultPlates = ParallelUtil.map(this.pool, stack1, stack2, 
+    			new ParallelUtil.PairTask<PlateBigInteger, PlateBigInteger, PlateBigInteger>() {
+    		
+    		public PlateBigInteger apply(PlateBigInteger plate1, PlateBigInteger plate2) {
+    			return plates(plate1, plate2);
+    		}
+    	});
+    	
+    	for(PlateBigInteger resultPlate : resultPlates) {
+    		result.add(resultPlate);
     	}
+    	
+    	Iterators.advance(iter1, resultPlates.size());
+    	Iterators.advance(iter2, resultPlates.size());
 
     	while(iter1.hasNext()) {
     		result.add(iter1.next());
@@ -1274,9 +1343,16 @@ public abstract class MathOperationBigIntegerBinary {
     	Iterator<PlateBigInteger> iter1 = stack1.iterator();
     	Iterator<PlateBigInteger> iter2 = stack2.iterator();
     	
-    	while(iter1.hasNext() && iter2.hasNext()) {
-    	    PlateBigInteger resultPlate = this.platesStrict(iter1.next(), iter2.next());
-    	    result.add(resultPlate);
+    	List<PlateBigInteger> resultPlates = ParallelUtil.map(this.pool, stack1, stack2, 
+    			new ParallelUtil.PairTask<PlateBigInteger, PlateBigInteger, PlateBigInteger>() {
+    		
+    		public PlateBigInteger apply(PlateBigInteger plate1, PlateBigInteger plate2) {
+    			return platesStrict(plate1, plate2);
+    		}
+    	});
+    	
+    	for(PlateBigInteger resultPlate : resultPlates) {
+    		result.add(resultPlate);
     	}
     	
     	return result;
@@ -1315,17 +1391,21 @@ public abstract class MathOperationBigIntegerBinary {
      * @param    BigInteger         constant for operation
      * @return                      result of the operation
      */
-    public StackBigInteger stacks(StackBigInteger stack, BigInteger constant) {
+    public StackBigInteger stacks(StackBigInteger stack, final BigInteger constant) {
         
         this.validateArgs(stack);
     	
     	StackBigInteger result = new StackBigInteger(stack.rows(), stack.columns());
     	
-    	Iterator<PlateBigInteger> iter1 = stack.iterator();
+    	List<PlateBigInteger> resultPlates = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateBigInteger, PlateBigInteger>() {
+    		
+    		public PlateBigInteger apply(PlateBigInteger plate) {
+    			return plates(plate, constant);
+    		}
+    	});
     	
-    	while(iter1.hasNext()) {
-    	    PlateBigInteger resultPlate = this.plates(iter1.next(), constant);
-    	    result.add(resultPlate);
+    	for(PlateBigInteger resultPlate : resultPlates) {
+    		result.add(resultPlate);
     	}
     	
     	return result;
@@ -1523,6 +1603,282 @@ public abstract class MathOperationBigIntegerBinary {
     	return result;
     }
     
+    /* --------------------------- In Place Methods ------------------------- */
+    
+    /**
+     * Writes the result of the mathematical operation to the first well. Missing 
+     * data points due to uneven data set lengths are treated as zeroes.
+     * @param    WellBigInteger    the first well
+     * @param    WellBigInteger    the second well
+     */
+    public void wellsInPlace(WellBigInteger well1, WellBigInteger well2) {
+    	
+    	this.validateArgs(well1, well2);
+    	
+    	List<BigInteger> data1 = well1.data();
+    	List<BigInteger> data2 = well2.data();
+    	
+    	int length1 = data1.size();
+    	int length2 = data2.size();
+    	
+    	if(length1 < length2) {
+    		data1.addAll(data2.subList(length1, length2));
+    		this.calculateInPlace(data1.subList(0, length1), data2.subList(0, length1));
+    	} else {
+    		this.calculateInPlace(data1, data2);
+    	}
+    	
+    	well1.dataModified();
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the first well. Missing 
+     * data points due to uneven data set lengths are omitted.
+     * @param    WellBigInteger    the first well
+     * @param    WellBigInteger    the second well
+     */
+    public void wellsStrictInPlace(WellBigInteger well1, WellBigInteger well2) {
+    	
+    	this.validateArgs(well1, well2);
+    	
+    	List<BigInteger> data1 = well1.data();
+    	List<BigInteger> data2 = well2.data();
+    	
+    	int length = Math.min(data1.size(), data2.size());
+    	
+    	this.calculateInPlace(data1.subList(0, length), data2.subList(0, length));
+    	data1.subList(length, data1.size()).clear();
+    	well1.dataModified();
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the well.
+     * @param    WellBigInteger    the well
+     * @param    BigInteger        constant for the operation
+     */
+    public void wellsInPlace(WellBigInteger well, BigInteger constant) {
+    	this.validateArgs(well);
+    	this.calculateInPlace(well.data(), constant);
+    	well.dataModified();
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the first 
+     * set. Missing data points due to uneven data set lengths are treated as 
+     * zeroes. Copies of the wells missing from the first set are added to the
+     * first set.
+     * @param    WellSetBigInteger    the first set
+     * @param    WellSetBigInteger    the second set
+     */
+    public void setsInPlace(WellSetBigInteger set1, WellSetBigInteger set2) {
+    	
+    	this.validateArgs(set1, set2);
+    	
+    	for(WellBigInteger well : this.inPlace(set1, set2, false)) {
+    		set1.add(new WellBigInteger(well));
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the first 
+     * set. Missing data points due to uneven data set lengths are omitted. Wells
+     * missing from the second set are removed from the first set.
+     * @param    WellSetBigInteger    the first set
+     * @param    WellSetBigInteger    the second set
+     */
+    public void setsStrictInPlace(WellSetBigInteger set1, WellSetBigInteger set2) {
+    	
+    	this.validateArgs(set1, set2);
+    	
+    	for(WellBigInteger well : this.inPlace(set1, set2, true)) {
+    		set1.remove(well);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the set.
+     * @param    WellSetBigInteger    the set
+     * @param    BigInteger           constant for the operation
+     */
+    public void setsInPlace(WellSetBigInteger set, BigInteger constant) {
+    	
+    	this.validateArgs(set);
+    	
+    	for(WellBigInteger well : set) {
+    		this.wellsInPlace(well, constant);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the first 
+     * plate. Missing data points due to uneven data set lengths are treated as 
+     * zeroes. Copies of the wells missing from the first plate are added to the
+     * first plate. The well groups of the first plate are unchanged.
+     * @param    PlateBigInteger    the first plate
+     * @param    PlateBigInteger    the second plate
+     */
+    public void platesInPlace(PlateBigInteger plate1, PlateBigInteger plate2) {
+    	
+    	this.validateArgs(plate1, plate2);
+    	
+    	for(WellBigInteger well : this.inPlace(plate1, plate2, false)) {
+    		plate1.addWells(well);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the first 
+     * plate. Missing data points due to uneven data set lengths are omitted. 
+     * Wells missing from the second plate are removed from the first plate.
+     * @param    PlateBigInteger    the first plate
+     * @param    PlateBigInteger    the second plate
+     */
+    public void platesStrictInPlace(PlateBigInteger plate1, PlateBigInteger plate2) {
+    	
+    	this.validateArgs(plate1, plate2);
+    	
+    	for(WellBigInteger well : this.inPlace(plate1, plate2, true)) {
+    		plate1.removeWells(well);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the plate.
+     * @param    PlateBigInteger    the plate
+     * @param    BigInteger         constant for the operation
+     */
+    public void platesInPlace(PlateBigInteger plate, BigInteger constant) {
+    	
+    	this.validateArgs(plate);
+    	
+    	for(WellBigInteger well : plate) {
+    		this.wellsInPlace(well, constant);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the plates of the first 
+     * stack. Missing data points due to uneven data set lengths are treated as 
+     * zeroes. Copies of the plates missing from the first stack are added to the
+     * first stack.
+     * @param    StackBigInteger    the first stack
+     * @param    StackBigInteger    the second stack
+     */
+    public void stacksInPlace(StackBigInteger stack1, StackBigInteger stack2) {
+    	
+    	this.validateArgs(stack1, stack2);
+    	
+    	PlateBigInteger[] plates1 = stack1.toArray();
+    	PlateBigInteger[] plates2 = stack2.toArray();
+    	
+    	stack1.clear();
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		if(i < plates2.length) {
+    			this.platesInPlace(plates1[i], plates2[i]);
+    		}
+    		
+    		stack1.add(plates1[i]);
+    	}
+    	
+    	for(int i = plates1.length; i < plates2.length; i++) {
+    		stack1.add(new PlateBigInteger(plates2[i]));
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the plates of the first 
+     * stack. Missing data points due to uneven data set lengths are omitted. 
+     * Plates missing from the second stack are removed from the first stack.
+     * @param    StackBigInteger    the first stack
+     * @param    StackBigInteger    the second stack
+     */
+    public void stacksStrictInPlace(StackBigInteger stack1, StackBigInteger stack2) {
+    	
+    	this.validateArgs(stack1, stack2);
+    	
+    	PlateBigInteger[] plates1 = stack1.toArray();
+    	PlateBigInteger[] plates2 = stack2.toArray();
+    	
+    	stack1.clear();
+    	
+    	for(int i = 0; i < plates1.length && i < plates2.length; i++) {
+    		this.platesStrictInPlace(plates1[i], plates2[i]);
+    		stack1.add(plates1[i]);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the plates of the stack.
+     * @param    StackBigInteger    the stack
+     * @param    BigInteger         constant for the operation
+     */
+    public void stacksInPlace(StackBigInteger stack, BigInteger constant) {
+    	
+    	this.validateArgs(stack);
+    	
+    	PlateBigInteger[] plates = stack.toArray();
+    	
+    	stack.clear();
+    	
+    	for(PlateBigInteger plate : plates) {
+    		this.platesInPlace(plate, constant);
+    		stack.add(plate);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to each well of the first
+     * argument matching a well in the second argument. Both arguments iterate
+     * over the wells in row and column order. Returns the unmatched wells of the
+     * first argument for strict operations and the unmatched wells of the second
+     * argument otherwise.
+     * @param    Iterable<WellBigInteger>    the first wells
+     * @param    Iterable<WellBigInteger>    the second wells
+     * @param    boolean                     true for strict operations
+     * @return                               the unmatched wells
+     */
+    private List<WellBigInteger> inPlace(Iterable<WellBigInteger> wells1, Iterable<WellBigInteger> wells2, boolean strict) {
+    	
+    	List<WellBigInteger> unmatched = new ArrayList<WellBigInteger>();
+    	
+    	Iterator<WellBigInteger> iter1 = wells1.iterator();
+    	Iterator<WellBigInteger> iter2 = wells2.iterator();
+    	
+    	WellBigInteger well1 = iter1.hasNext() ? iter1.next() : null;
+    	WellBigInteger well2 = iter2.hasNext() ? iter2.next() : null;
+    	
+    	while(well1 != null || well2 != null) {
+    		
+    		int comparison = well1 == null ? 1 : well2 == null ? -1 : well1.compareTo(well2);
+    		
+    		if(comparison == 0) {
+    			
+    			if(strict) {
+    				this.wellsStrictInPlace(well1, well2);
+    			} else {
+    				this.wellsInPlace(well1, well2);
+    			}
+    			
+    		} else if(comparison < 0 && strict) {
+    			unmatched.add(well1);
+    		} else if(comparison > 0 && !strict) {
+    			unmatched.add(well2);
+    		}
+    		
+    		if(comparison <= 0) {
+    			well1 = iter1.hasNext() ? iter1.next() : null;
+    		}
+    		
+    		if(comparison >= 0) {
+    			well2 = iter2.hasNext() ? iter2.next() : null;
+    		}
+    	}
+    	
+    	return unmatched;
+    }
+    
     /*---------------- Methods for Validating Well Arguments -----------------*/
     
     /**
@@ -1918,4 +2274,50 @@ public abstract class MathOperationBigIntegerBinary {
      * @return                             result of the mathematical operation
      */
     public abstract List<BigInteger> calculateStrict(List<BigInteger> list, Collection<BigInteger> collection, int begin, int length);
+    
+    /**
+     * Performs the mathematical operation for the two lists and writes the
+     * result to the first list. The first list must hold at least as many 
+     * values as the second list. Subclasses override this method to avoid 
+     * creating a result list. By default the result is calculated using the 
+     * list operation and set in the first list. Missing data points due to 
+     * lists of unequal length are treated as zero values.
+     * @param    List<BigInteger>    the first list
+     * @param    List<BigInteger>    the second list
+     */
+    public void calculateInPlace(List<BigInteger> list1, List<BigInteger> list2) {
+    	
+    	if(list1.size() < list2.size()) {
+    		throw new IllegalArgumentException("The first list must hold at least as many values as the second list.");
+    	}
+    	
+    	this.set(list1, this.calculate(list1, list2));
+    }
+    
+    /**
+     * Performs the mathematical operation for the list and a constant and
+     * writes the result to the list. Subclasses override this method to avoid
+     * creating a result list. By default the result is calculated using the
+     * list operation and set in the list.
+     * @param    List<BigInteger>    the list
+     * @param    BigInteger          the constant value
+     */
+    public void calculateInPlace(List<BigInteger> list, BigInteger constant) {
+    	this.set(list, this.calculate(list, constant));
+    }
+    
+    /**
+     * Replaces the values in the list with the values in the result.
+     * @param    List<BigInteger>    the list
+     * @param    List<BigInteger>    the result
+     */
+    private void set(List<BigInteger> list, List<BigInteger> result) {
+    	
+    	ListIterator<BigInteger> iter = list.listIterator();
+    	
+    	for(BigInteger value : result) {
+    		iter.next();
+    		iter.set(value);
+    	}
+    }
 }
@@ -25,11 +25,14 @@ package com.github.jessemull.microflex.bigintegerflex.math;
 
 import java.math.BigInteger;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
 
 import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.StackBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs mathematical shift operations for BigInteger plate stacks, 
@@ -51,6 +54,13 @@ import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
  *    </tr>
  * </table>
  * 
+ * In place functions write the result of the operation to the wells of the
+ * argument instead of returning new wells, well sets, plates and stacks.
+ * 
+ * Setting a fork join pool performs the operation on the wells of plates and
+ * sets and on the plates of stacks in parallel. The results are identical to
+ * those of sequential execution.
+ * 
  * @author Jesse L. Mull
  * @update Updated Oct 18, 2016
  * @address http://www.jessemull.com
@@ -58,6 +68,10 @@ import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
  */
 public abstract class MathOperationBigIntegerShift {
 
+	/* ---------------------------- Private Fields -------------------------- */
+	
+	private ForkJoinPool pool;    // Pool for parallel execution or null
+	
 	/* ---------------------------- Constructors ---------------------------- */
 	
 	/**
@@ -65,6 +79,45 @@ public abstract class MathOperationBigIntegerShift {
 	 */
 	public MathOperationBigIntegerShift() {}
 
+	/* ------------------------- Parallel Execution ------------------------- */
+	
+	/**
+	 * Sets the fork join pool used to perform the operation on the wells of 
+	 * plates and sets and on the plates of stacks in parallel. Results are 
+	 * identical to those of sequential execution. A null pool restores 
+	 * sequential execution.
+	 * @param    ForkJoinPool    the pool or null
+	 */
+	public void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+	
+	/**
+	 * Returns the fork join pool used for parallel execution or null if the 
+	 * operation is performed sequentially.
+	 * @return    the pool or null
+	 */
+	public ForkJoinPool pool() {
+		return this.pool;
+	}
+	
+	/**
+	 * Enables parallel execution using the shared default pool or restores 
+	 * sequential execution.
+	 * @param    boolean    true for parallel execution
+	 */
+	public void setParallel(boolean parallel) {
+		this.pool = parallel ? ParallelUtil.defaultPool() : null;
+	}
+	
+	/**
+	 * Returns true if the operation is performed in parallel.
+	 * @return    true if parallel execution is enabled
+	 */
+	public boolean isParallel() {
+		return this.pool != null;
+	}
+
 	/* ----------------------------- Well Methods --------------------------- */
 	
     /**
@@ -108,7 +161,7 @@ public abstract class MathOperationBigIntegerShift {
      * @param    int                number of bits to shift
      * @return                      result of the operation
      */
-    public PlateBigInteger plates(PlateBigInteger plate, int n) {
+    public PlateBigInteger plates(PlateBigInteger plate, final int n) {
     	
     	if(plate == null) {
     		throw new NullPointerException("Plate is null.");
@@ -116,10 +169,15 @@ public abstract class MathOperationBigIntegerShift {
     	
     	PlateBigInteger result = new PlateBigInteger(plate.rows(), plate.columns());
     	
-    	for(WellBigInteger well : plate) {
-    		result.addWells(new WellBigInteger(well.row(), well.column(), 
-    				this.calculate(well.data(), n)));
-    	}
+    	List<WellBigInteger> wells = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigInteger, WellBigInteger>() {
+    		
+    		public WellBigInteger apply(WellBigInteger well) {
+    			return new WellBigInteger(well.row(), well.column(), 
+    					calculate(well.data(), n));
+    		}
+    	});
+    	
+    	result.addWells(wells);
     	
     	return result;
     }
@@ -157,7 +215,7 @@ public abstract class MathOperationBigIntegerShift {
      * @param    int                       number of bits to shift
      * @return                             result of the operation
      */
-    public WellSetBigInteger sets(WellSetBigInteger set, int n) {
+    public WellSetBigInteger sets(WellSetBigInteger set, final int n) {
     	
     	if(set == null) {
     		throw new NullPointerException("Well set is null.");
@@ -165,10 +223,15 @@ public abstract class MathOperationBigIntegerShift {
     	
     	WellSetBigInteger result = new WellSetBigInteger();
     	
-    	for(WellBigInteger well : set) {
-    		result.add(new WellBigInteger(well.row(), well.column(), 
-    				this.calculate(well.data(), n)));
-    	}
+    	List<WellBigInteger> wells = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigInteger, WellBigInteger>() {
+    		
+    		public WellBigInteger apply(WellBigInteger well) {
+    			return new WellBigInteger(well.row(), well.column(), 
+    					calculate(well.data(), n));
+    		}
+    	});
+    	
+    	result.add(wells);
     	
     	return result;
     }
@@ -206,7 +269,7 @@ public abstract class MathOperationBigIntegerShift {
      * @param    int                number of bits to shift
      * @return                      the result of the operation
      */
-     public StackBigInteger stacks(StackBigInteger stack, int n) {
+     public StackBigInteger stacks(StackBigInteger stack, final int n) {
     	
     	if(stack == null) {
     		throw new NullPointerException("Stack is null.");
@@ -214,8 +277,15 @@ public abstract class MathOperationBigIntegerShift {
     	
     	StackBigInteger result = new StackBigInteger(stack.rows(), stack.columns());
     	
-    	for(PlateBigInteger plate : stack) {
-    		result.add(this.plates(plate, n));
+    	List<PlateBigInteger> resultPlates = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateBigInteger, PlateBigInteger>() {
+    		
+    		public PlateBigInteger apply(PlateBigInteger plate) {
+    			return plates(plate, n);
+    		}
+    	});
+    	
+    	for(PlateBigInteger resultPlate : resultPlates) {
+    		result.add(resultPlate);
     	}
     	
     	return result;
@@ -244,6 +314,76 @@ public abstract class MathOperationBigIntegerShift {
      	return result;
      } 
      
+    /* --------------------------- In Place Methods ------------------------- */
+    
+    /**
+     * Writes the result of the mathematical operation to the well.
+     * @param    WellBigInteger    the well
+     * @param    int               number of bits to shift
+     */
+    public void wellsInPlace(WellBigInteger well, int n) {
+    	
+    	if(well == null) {
+    		throw new NullPointerException("Well is null.");
+    	}
+    	
+    	this.calculateInPlace(well.data(), n);
+    	well.dataModified();
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the set.
+     * @param    WellSetBigInteger    the well set
+     * @param    int                  number of bits to shift
+     */
+    public void setsInPlace(WellSetBigInteger set, int n) {
+    	
+    	if(set == null) {
+    		throw new NullPointerException("Well set is null.");
+    	}
+    	
+    	for(WellBigInteger well : set) {
+    		this.wellsInPlace(well, n);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the plate.
+     * @param    PlateBigInteger    the plate
+     * @param    int                number of bits to shift
+     */
+    public void platesInPlace(PlateBigInteger plate, int n) {
+    	
+    	if(plate == null) {
+    		throw new NullPointerException("Plate is null.");
+    	}
+    	
+    	for(WellBigInteger well : plate) {
+    		this.wellsInPlace(well, n);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the plates of the stack.
+     * @param    StackBigInteger    the stack
+     * @param    int                number of bits to shift
+     */
+    public void stacksInPlace(StackBigInteger stack, int n) {
+    	
+    	if(stack == null) {
+    		throw new NullPointerException("Stack is null.");
+    	}
+    	
+    	PlateBigInteger[] plates = stack.toArray();
+    	
+    	stack.clear();
+    	
+    	for(PlateBigInteger plate : plates) {
+    		this.platesInPlace(plate, n);
+    		stack.add(plate);
+    	}
+    }
+    
     /*------------------------ List Operation Methods ------------------------*/
     
     /**
@@ -262,4 +402,22 @@ public abstract class MathOperationBigIntegerShift {
      * @return                       result of the mathematical operation
      */
     public abstract List<BigInteger> calculate(List<BigInteger> list, int n, int begin, int length);
+    
+    /**
+     * Performs the mathematical operation for the list and writes the result
+     * to the list. Subclasses override this method to avoid creating a result
+     * list. By default the result is calculated using the list operation and
+     * set in the list.
+     * @param    List<BigInteger>    the list
+     * @param    int                 number of bits to shift
+     */
+    public void calculateInPlace(List<BigInteger> list, int n) {
+    	
+    	ListIterator<BigInteger> iter = list.listIterator();
+    	
+    	for(BigInteger value : this.calculate(list, n)) {
+    		iter.next();
+    		iter.set(value);
+    	}
+    }
 }
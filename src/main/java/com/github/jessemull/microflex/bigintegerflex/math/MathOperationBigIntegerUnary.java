@@ -25,11 +25,14 @@ package com.github.jessemull.microflex.bigintegerflex.math;
 
 import java.math.BigInteger;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
 
 import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.StackBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs mathematical operations with a single argument for BigInteger 
@@ -54,6 +57,13 @@ import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
  *    </tr>
  * </table>
  * 
+ * In place functions write the result of the operation to the wells of the
+ * argument instead of returning new wells, well sets, plates and stacks.
+ * 
+ * Setting a fork join pool performs the operation on the wells of plates and
+ * sets and on the plates of stacks in parallel. The results are identical to
+ * those of sequential execution.
+ * 
  * @author Jesse L. Mull
  * @update Updated Oct 18, 2016
  * @address http://www.jessemull.com
@@ -61,6 +71,10 @@ import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
  */
 public abstract class MathOperationBigIntegerUnary {
 
+	/* ---------------------------- Private Fields -------------------------- */
+	
+	private ForkJoinPool pool;    // Pool for parallel execution or null
+	
 	/* ---------------------------- Constructors ---------------------------- */
 	
 	/**
@@ -68,6 +82,45 @@ public abstract class MathOperationBigIntegerUnary {
 	 */
 	public MathOperationBigIntegerUnary() {}
 
+	/* ------------------------- Parallel Execution ------------------------- */
+	
+	/**
+	 * Sets the fork join pool used to perform the operation on the wells of 
+	 * plates and sets and on the plates of stacks in parallel. Results are 
+	 * identical to those of sequential execution. A null pool restores 
+	 * sequential execution.
+	 * @param    ForkJoinPool    the pool or null
+	 */
+	public void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+	
+	/**
+	 * Returns the fork join pool used for parallel execution or null if the 
+	 * operation is performed sequentially.
+	 * @return    the pool or null
+	 */
+	public ForkJoinPool pool() {
+		return this.pool;
+	}
+	
+	/**
+	 * Enables parallel execution using the shared default pool or restores 
+	 * sequential execution.
+	 * @param    boolean    true for parallel execution
+	 */
+	public void setParallel(boolean parallel) {
+		this.pool = parallel ? ParallelUtil.defaultPool() : null;
+	}
+	
+	/**
+	 * Returns true if the operation is performed in parallel.
+	 * @return    true if parallel execution is enabled
+	 */
+	public boolean isParallel() {
+		return this.pool != null;
+	}
+
 	/* ----------------------------- Well Methods --------------------------- */
 	
     /**
@@ -116,10 +169,15 @@ public abstract class MathOperationBigIntegerUnary {
     	
     	PlateBigInteger result = new PlateBigInteger(plate.rows(), plate.columns());
     	
-    	for(WellBigInteger well : plate) {
-    		result.addWells(new WellBigInteger(well.row(), well.column(), 
-    				this.calculate(well.data())));
-    	}
+    	List<WellBigInteger> wells = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigInteger, WellBigInteger>() {
+    		
+    		public WellBigInteger apply(WellBigInteger well) {
+    			return new WellBigInteger(well.row(), well.column(), 
+    					calculate(well.data()));
+    		}
+    	});
+    	
+    	result.addWells(wells);
     	
     	return result;
     }
@@ -163,10 +221,15 @@ public abstract class MathOperationBigIntegerUnary {
     	
     	WellSetBigInteger result = new WellSetBigInteger();
     	
-    	for(WellBigInteger well : set) {
-    		result.add(new WellBigInteger(well.row(), well.column(), 
-    				this.calculate(well.data())));
-    	}
+    	List<WellBigInteger> wells = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigInteger, WellBigInteger>() {
+    		
+    		public WellBigInteger apply(WellBigInteger well) {
+    			return new WellBigInteger(well.row(), well.column(), 
+    					calculate(well.data()));
+    		}
+    	});
+    	
+    	result.add(wells);
     	
     	return result;
     }
@@ -210,8 +273,15 @@ public abstract class MathOperationBigIntegerUnary {
     	
     	StackBigInteger result = new StackBigInteger(stack.rows(), stack.columns());
     	
-    	for(PlateBigInteger plate : stack) {
-    		result.add(this.plates(plate));
+    	List<PlateBigInteger> resultPlates = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateBigInteger, PlateBigInteger>() {
+    		
+    		public PlateBigInteger apply(PlateBigInteger plate) {
+    			return plates(plate);
+    		}
+    	});
+    	
+    	for(PlateBigInteger resultPlate : resultPlates) {
+    		result.add(resultPlate);
     	}
     	
     	return result;
@@ -239,6 +309,72 @@ public abstract class MathOperationBigIntegerUnary {
      	return result;
      } 
      
+    /* --------------------------- In Place Methods ------------------------- */
+    
+    /**
+     * Writes the result of the mathematical operation to the well.
+     * @param    WellBigInteger    the well
+     */
+    public void wellsInPlace(WellBigInteger well) {
+    	
+    	if(well == null) {
+    		throw new NullPointerException("Well is null.");
+    	}
+    	
+    	this.calculateInPlace(well.data());
+    	well.dataModified();
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the set.
+     * @param    WellSetBigInteger    the well set
+     */
+    public void setsInPlace(WellSetBigInteger set) {
+    	
+    	if(set == null) {
+    		throw new NullPointerException("Well set is null.");
+    	}
+    	
+    	for(WellBigInteger well : set) {
+    		this.wellsInPlace(well);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the plate.
+     * @param    PlateBigInteger    the plate
+     */
+    public void platesInPlace(PlateBigInteger plate) {
+    	
+    	if(plate == null) {
+    		throw new NullPointerException("Plate is null.");
+    	}
+    	
+    	for(WellBigInteger well : plate) {
+    		this.wellsInPlace(well);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the plates of the stack.
+     * @param    StackBigInteger    the stack
+     */
+    public void stacksInPlace(StackBigInteger stack) {
+    	
+    	if(stack == null) {
+    		throw new NullPointerException("Stack is null.");
+    	}
+    	
+    	PlateBigInteger[] plates = stack.toArray();
+    	
+    	stack.clear();
+    	
+    	for(PlateBigInteger plate : plates) {
+    		this.platesInPlace(plate);
+    		stack.add(plate);
+    	}
+    }
+    
     /*------------------------ List Operation Methods ------------------------*/
     
     /**
@@ -255,4 +391,21 @@ public abstract class MathOperationBigIntegerUnary {
      * @return                       result of the mathematical operation
      */
     public abstract List<BigInteger> calculate(List<BigInteger> list, int begin, int length);
+    
+    /**
+     * Performs the mathematical operation for the list and writes the result
+     * to the list. Subclasses override this method to avoid creating a result
+     * list. By default the result is calculated using the list operation and
+     * set in the list.
+     * @param    List<BigInteger>    the list
+     */
+    public void calculateInPlace(List<BigInteger> list) {
+    	
+    	ListIterator<BigInteger> iter = list.listIterator();
+    	
+    	for(BigInteger value : this.calculate(list)) {
+    		iter.next();
+    		iter.set(value);
+    	}
+    }
 }
@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * This class performs modulus operations with two arguments for BigInteger 
@@ -584,5 +585,48 @@ public class ModulusBigInteger extends MathOperationBigIntegerBinary {
 
 		return result;
 	}
-    
+	
+	/**
+	 * Calculates the remainder of the values in the first list divided by the
+	 * values in the second list and writes the result to the first list. The
+	 * first list must hold at least as many values as the second list.
+	 * @param    List<BigInteger> list1    the first list
+	 * @param    List<BigInteger> list2    the second list
+	 * @override
+	 */
+	public void calculateInPlace(List<BigInteger> list1, List<BigInteger> list2) {
+		
+		if(list1.size() < list2.size()) {
+			throw new IllegalArgumentException("The first list must hold at least as many values as the second list.");
+		}
+		
+		ListIterator<BigInteger> iter = list1.listIterator();
+		
+		if(list1.size() > list2.size()) {
+			for(BigInteger value : list2) {
+				iter.set(value.remainder(iter.next()));
+			}
+		} else {
+			for(BigInteger value : list2) {
+				iter.set(iter.next().remainder(value));
+			}
+		}
+	}
+	
+	/**
+	 * Calculates the remainder of each value in the list divided by the
+	 * constant and writes the result to the list.
+	 * @param    List<BigInteger> list    the list
+	 * @param    BigInteger constant      the constant value
+	 * @override
+	 */
+	public void calculateInPlace(List<BigInteger> list, BigInteger constant) {
+		
+		ListIterator<BigInteger> iter = list.listIterator();
+		
+		while(iter.hasNext()) {
+			iter.set(iter.next().remainder(constant));
+		}
+	}
+	
 }
@@ -24,17 +24,24 @@ package com.github.jessemull.microflex.bigintegerflex.stat;
 /* ----------------------------- Dependencies ------------------------------ */
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.StackBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs statistical operations for BigInteger plate stacks, plates, 
@@ -186,7 +193,49 @@ import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
  * @email hello@jessemull.com
  */
 public abstract class DescriptiveStatisticBigInteger {
+
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private ForkJoinPool pool;    // Pool for parallel execution or null
+    
+    /* ------------------------- Parallel Execution ------------------------- */
+    
+    /**
+     * Sets the fork join pool used to calculate the statistic for the wells, 
+     * plates and sets in parallel. Results are merged in the same order used 
+     * by sequential execution. A null pool restores sequential execution.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    
+    /**
+     * Returns the fork join pool used for parallel execution or null if the 
+     * statistic is calculated sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+    
+    /**
+     * Enables parallel execution using the shared default pool or restores 
+     * sequential execution.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
     
+    /**
+     * Returns true if the statistic is calculated in parallel.
+     * @return    true if parallel execution is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+        
     /* ---------------- Well statistics for all plate wells ----------------- */
     
     /**
@@ -200,9 +249,17 @@ public abstract class DescriptiveStatisticBigInteger {
         
         Map<WellBigInteger, BigDecimal> result = new TreeMap<WellBigInteger, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellBigInteger well) {
+                return well(well);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : plate) {
             WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone, well(well));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -217,15 +274,23 @@ public abstract class DescriptiveStatisticBigInteger {
      * @param    int                length of subset
      * @return                      map of wells and results   
      */
-    public Map<WellBigInteger, BigDecimal> plate(PlateBigInteger plate, int begin, int length) {
+    public Map<WellBigInteger, BigDecimal> plate(PlateBigInteger plate, final int begin, final int length) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellBigInteger, BigDecimal> result = new TreeMap<WellBigInteger, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellBigInteger well) {
+                return well(well, begin, length);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : plate) {
             WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone, well(well, begin, length));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -243,13 +308,7 @@ public abstract class DescriptiveStatisticBigInteger {
         
         Preconditions.checkNotNull(plate, "The plate cannot be null.");
 
-        List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            
-        for (WellBigInteger well : plate) {
-            aggregated.addAll(well.toBigDecimal());
-        }
-      
-        return calculate(aggregated);
+        return aggregate(plate, 0, -1);
         
     }
     
@@ -264,17 +323,17 @@ public abstract class DescriptiveStatisticBigInteger {
 
         Map<PlateBigInteger, BigDecimal> results = new TreeMap<PlateBigInteger, BigDecimal>();
         
-        for(PlateBigInteger plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-                aggregated.addAll(well.toBigDecimal());
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateBigInteger, BigDecimal>() {
+            public BigDecimal apply(PlateBigInteger plate) {
+
+                return aggregate(plate, 0, -1);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : collection) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -291,17 +350,17 @@ public abstract class DescriptiveStatisticBigInteger {
 
         Map<PlateBigInteger, BigDecimal> results = new TreeMap<PlateBigInteger, BigDecimal>();
         
-        for(PlateBigInteger plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-                aggregated.addAll(well.toBigDecimal());
+        List<BigDecimal> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateBigInteger, BigDecimal>() {
+            public BigDecimal apply(PlateBigInteger plate) {
+
+                return aggregate(plate, 0, -1);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : array) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -320,13 +379,7 @@ public abstract class DescriptiveStatisticBigInteger {
 
         Preconditions.checkNotNull(plate, "The plate cannot be null.");
 
-        List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            
-        for (WellBigInteger well : plate) {
-            aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
-        }
-
-        return calculate(aggregated);
+        return aggregate(plate, begin, length);
         
     }
     
@@ -339,22 +392,23 @@ public abstract class DescriptiveStatisticBigInteger {
      * @return                                  map of plates and aggregated results
      */
     public Map<PlateBigInteger, BigDecimal> platesAggregated(
-            Collection<PlateBigInteger> collection, int begin, int length) {
+            Collection<PlateBigInteger> collection, final int begin, final int length) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateBigInteger, BigDecimal> results = new TreeMap<PlateBigInteger, BigDecimal>();
         
-        for(PlateBigInteger plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateBigInteger, BigDecimal>() {
+            public BigDecimal apply(PlateBigInteger plate) {
+
+                return aggregate(plate, begin, length);
             }
+        });
 
-            results.put(clone, calculate(aggregated));       
+        int index = 0;
+
+        for(PlateBigInteger plate : collection) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -370,23 +424,23 @@ public abstract class DescriptiveStatisticBigInteger {
      * @return                        map of plates and aggregated results
      */
     public Map<PlateBigInteger, BigDecimal> platesAggregated(
-            PlateBigInteger[] array, int begin, int length) {
+            PlateBigInteger[] array, final int begin, final int length) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateBigInteger, BigDecimal> results = new TreeMap<PlateBigInteger, BigDecimal>();
         
-        for(PlateBigInteger plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+        List<BigDecimal> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateBigInteger, BigDecimal>() {
+            public BigDecimal apply(PlateBigInteger plate) {
+
+                return aggregate(plate, begin, length);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : array) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -406,9 +460,17 @@ public abstract class DescriptiveStatisticBigInteger {
     	
     	Map<WellBigInteger, BigDecimal> result = new TreeMap<WellBigInteger, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellBigInteger well) {
+                return well(well);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : set) {
             WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone, well(well));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -423,15 +485,23 @@ public abstract class DescriptiveStatisticBigInteger {
      * @param    int                  length of subset
      * @return                        map of wells and results
      */
-    public Map<WellBigInteger, BigDecimal> set(WellSetBigInteger set, int begin, int length) {
+    public Map<WellBigInteger, BigDecimal> set(WellSetBigInteger set, final int begin, final int length) {
         
     	Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellBigInteger, BigDecimal> result = new TreeMap<WellBigInteger, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellBigInteger well) {
+                return well(well, begin, length);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : set) {
-        	WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone,  well(well, begin, length));
+            WellBigInteger clone = new WellBigInteger(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -449,13 +519,7 @@ public abstract class DescriptiveStatisticBigInteger {
         
         Preconditions.checkNotNull(set, "The well set cannot be null.");
 
-        List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-        	
-        for (WellBigInteger well : set) {
-            aggregated.addAll(well.toBigDecimal());
-        }
-      
-        return calculate(aggregated);
+        return aggregate(set, 0, -1);
         
     }
     
@@ -470,17 +534,17 @@ public abstract class DescriptiveStatisticBigInteger {
 
         Map<WellSetBigInteger, BigDecimal> results = new TreeMap<WellSetBigInteger, BigDecimal>();
         
-        for(WellSetBigInteger set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-                aggregated.addAll(well.toBigDecimal());
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellSetBigInteger set) {
+
+                return aggregate(set, 0, -1);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : collection) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -497,17 +561,17 @@ public abstract class DescriptiveStatisticBigInteger {
 
         Map<WellSetBigInteger, BigDecimal> results = new TreeMap<WellSetBigInteger, BigDecimal>();
         
-        for(WellSetBigInteger set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-                aggregated.addAll(well.toBigDecimal());
+        List<BigDecimal> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellSetBigInteger set) {
+
+                return aggregate(set, 0, -1);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : array) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -526,13 +590,7 @@ public abstract class DescriptiveStatisticBigInteger {
 
         Preconditions.checkNotNull(set, "The well set cannot be null.");
 
-        List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            
-        for (WellBigInteger well : set) {
-            aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
-        }
-      
-        return calculate(aggregated);
+        return aggregate(set, begin, length);
         
     }
     
@@ -545,23 +603,23 @@ public abstract class DescriptiveStatisticBigInteger {
      * @return                                    map of well sets and aggregated results
      */
     public Map<WellSetBigInteger, BigDecimal> setsAggregated(
-            Collection<WellSetBigInteger> collection, int begin, int length) {
+            Collection<WellSetBigInteger> collection, final int begin, final int length) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetBigInteger, BigDecimal> results = new TreeMap<WellSetBigInteger, BigDecimal>();
         
-        for(WellSetBigInteger set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellSetBigInteger set) {
+
+                return aggregate(set, begin, length);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : collection) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -577,27 +635,260 @@ public abstract class DescriptiveStatisticBigInteger {
      * @return                          map of well sets and aggregated results
      */
     public Map<WellSetBigInteger, BigDecimal> setsAggregated(
-            WellSetBigInteger[] array, int begin, int length) {
+            WellSetBigInteger[] array, final int begin, final int length) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetBigInteger, BigDecimal> results = new TreeMap<WellSetBigInteger, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellSetBigInteger set) {
+
+                return aggregate(set, begin, length);
+            }
+        });
+
+        int index = 0;
+
         for(WellSetBigInteger set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+            results.put(new WellSetBigInteger(set), values.get(index++));
+        }
+        
+        return results;
+        
+    }
+    
+    /* ------------------------- Stack statistics --------------------------  */
+    
+    /**
+     * Returns the statistic for each well of each plate in the stack. The plates 
+     * are processed in parallel when a pool is set.
+     * @param    StackBigInteger    the stack
+     * @return                      map of plates and well results
+     */
+    public Map<PlateBigInteger, Map<WellBigInteger, BigDecimal>> stack(StackBigInteger stack) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        
+        Map<PlateBigInteger, Map<WellBigInteger, BigDecimal>> results = new TreeMap<PlateBigInteger, Map<WellBigInteger, BigDecimal>>();
+        
+        List<Map<WellBigInteger, BigDecimal>> values = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateBigInteger, Map<WellBigInteger, BigDecimal>>() {
+            public Map<WellBigInteger, BigDecimal> apply(PlateBigInteger plate) {
+                return plate(plate);
             }
-      
-            results.put(clone, calculate(aggregated));
+        });
         
+        int index = 0;
+        
+        for(PlateBigInteger plate : stack) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
+    }
+    
+    /**
+     * Returns the statistic for each well of each plate in the stack using the 
+     * values between the indices. The plates are processed in parallel when a 
+     * pool is set.
+     * @param    StackBigInteger    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset
+     * @return                      map of plates and well results
+     */
+    public Map<PlateBigInteger, Map<WellBigInteger, BigDecimal>> stack(StackBigInteger stack, final int begin, final int length) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        
+        Map<PlateBigInteger, Map<WellBigInteger, BigDecimal>> results = new TreeMap<PlateBigInteger, Map<WellBigInteger, BigDecimal>>();
+        
+        List<Map<WellBigInteger, BigDecimal>> values = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateBigInteger, Map<WellBigInteger, BigDecimal>>() {
+            public Map<WellBigInteger, BigDecimal> apply(PlateBigInteger plate) {
+                return plate(plate, begin, length);
+            }
+        });
+        
+        int index = 0;
         
+        for(PlateBigInteger plate : stack) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /* ------------- Well statistics across the plates of a stack ----------  */
+    
+    /**
+     * Returns the statistic for each well position using the values of the well 
+     * in every plate of the stack. For example, the median of well A1 across the 
+     * replicate plates. The stack is read in a single sweep and the results are
+     * mapped to wells holding the values of each position.
+     * @param    StackBigInteger    the stack
+     * @return                      map of wells and results
+     */
+    public Map<WellBigInteger, BigDecimal> stackWells(StackBigInteger stack) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        
+        Collection<WellBigInteger> positions = this.positions(stack, 0, -1);
+        
+        Map<WellBigInteger, BigDecimal> results = new TreeMap<WellBigInteger, BigDecimal>();
+        
+        List<BigDecimal> values = ParallelUtil.map(this.pool, positions, new ParallelUtil.Task<WellBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellBigInteger well) {
+                return well(well);
+            }
+        });
+        
+        int index = 0;
+        
+        for(WellBigInteger well : positions) {
+            results.put(well, values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Returns the statistic for each well position using the values between the
+     * indices of the well in every plate of the stack.
+     * @param    StackBigInteger    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset
+     * @return                      map of wells and results
+     */
+    public Map<WellBigInteger, BigDecimal> stackWells(StackBigInteger stack, int begin, int length) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        Preconditions.checkArgument(begin >= 0 && length >= 0, "Invalid subset.");
+        
+        Collection<WellBigInteger> positions = this.positions(stack, begin, length);
+        
+        Map<WellBigInteger, BigDecimal> results = new TreeMap<WellBigInteger, BigDecimal>();
+        
+        List<BigDecimal> values = ParallelUtil.map(this.pool, positions, new ParallelUtil.Task<WellBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellBigInteger well) {
+                return well(well);
+            }
+        });
+        
+        int index = 0;
+        
+        for(WellBigInteger well : positions) {
+            results.put(well, values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /* --------------------- Aggregated stack statistics -------------------  */
+    
+    /**
+     * Returns the aggregated statistic for the stack.
+     * @param    StackBigInteger    the stack
+     * @return                      the aggregated result
+     */
+    public BigDecimal stacksAggregated(StackBigInteger stack) {
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        return this.aggregate(stack, 0, -1);
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack. The stacks are processed
+     * in parallel when a pool is set.
+     * @param    Collection<StackBigInteger>    collection of stacks
+     * @return                                  map of stacks and aggregated results
+     */
+    public Map<StackBigInteger, BigDecimal> stacksAggregated(Collection<StackBigInteger> collection) {
+        
+        Preconditions.checkNotNull(collection, "The stack collection cannot be null.");
+        
+        Map<StackBigInteger, BigDecimal> results = new LinkedHashMap<StackBigInteger, BigDecimal>();
+        
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<StackBigInteger, BigDecimal>() {
+            public BigDecimal apply(StackBigInteger stack) {
+                return aggregate(stack, 0, -1);
+            }
+        });
+        
+        int index = 0;
+        
+        for(StackBigInteger stack : collection) {
+            results.put(new StackBigInteger(stack), values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack. The stacks are processed
+     * in parallel when a pool is set.
+     * @param    StackBigInteger[]    array of stacks
+     * @return                        map of stacks and aggregated results
+     */
+    public Map<StackBigInteger, BigDecimal> stacksAggregated(StackBigInteger[] array) {
+        Preconditions.checkNotNull(array, "The stack array cannot be null.");
+        return this.stacksAggregated(Arrays.asList(array));
+    }
+    
+    /**
+     * Returns the aggregated statistic for the stack using the values between 
+     * the indices.
+     * @param    StackBigInteger    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset
+     * @return                      the aggregated result
+     */
+    public BigDecimal stacksAggregated(StackBigInteger stack, int begin, int length) {
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        Preconditions.checkArgument(begin >= 0 && length >= 0, "Invalid subset.");
+        return this.aggregate(stack, begin, length);
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack using the values between 
+     * the indices. The stacks are processed in parallel when a pool is set.
+     * @param    Collection<StackBigInteger>    collection of stacks
+     * @param    int                            beginning index of subset
+     * @param    int                            length of subset
+     * @return                                  map of stacks and aggregated results
+     */
+    public Map<StackBigInteger, BigDecimal> stacksAggregated(
+            Collection<StackBigInteger> collection, final int begin, final int length) {
+        
+        Preconditions.checkNotNull(collection, "The stack collection cannot be null.");
+        Preconditions.checkArgument(begin >= 0 && length >= 0, "Invalid subset.");
+        
+        Map<StackBigInteger, BigDecimal> results = new LinkedHashMap<StackBigInteger, BigDecimal>();
+        
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<StackBigInteger, BigDecimal>() {
+            public BigDecimal apply(StackBigInteger stack) {
+                return aggregate(stack, begin, length);
+            }
+        });
+        
+        int index = 0;
+        
+        for(StackBigInteger stack : collection) {
+            results.put(new StackBigInteger(stack), values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack using the values between 
+     * the indices. The stacks are processed in parallel when a pool is set.
+     * @param    StackBigInteger[]    array of stacks
+     * @param    int                  beginning index of subset
+     * @param    int                  length of subset
+     * @return                        map of stacks and aggregated results
+     */
+    public Map<StackBigInteger, BigDecimal> stacksAggregated(
+            StackBigInteger[] array, int begin, int length) {
+        Preconditions.checkNotNull(array, "The stack array cannot be null.");
+        return this.stacksAggregated(Arrays.asList(array), begin, length);
     }
     
     /* -------------------------- Well statistics --------------------------  */
@@ -646,4 +937,177 @@ public abstract class DescriptiveStatisticBigInteger {
      * @return                       the result
      */
     public abstract BigDecimal calculate(List<BigDecimal> list, int begin, int length);
+    
+    /* --------- Methods for calculating the statistic of a summary --------  */
+    
+    /**
+     * Returns true if the statistic can be calculated from a summary of the 
+     * values. Aggregated plate, set and stack statistics for mergeable statistics
+     * merge the summaries of the wells and plates instead of copying the values 
+     * of every well into a list. Statistics calculated from the count, sum or 
+     * extrema of the values override this method and the summary calculate 
+     * method.
+     * @return    true if the statistic is mergeable
+     */
+    public boolean isMergeable() {
+        return false;
+    }
+    
+    /**
+     * Calculates the statistic using a summary of the values. Mergeable 
+     * statistics override this method. The summary holds the count, sum and 
+     * extrema of the values.
+     * @param    SummaryBigInteger    the summary
+     * @return                        the result
+     * @throws    UnsupportedOperationException    if the statistic is not mergeable
+     */
+    public BigDecimal calculate(SummaryBigInteger summary) {
+        throw new UnsupportedOperationException("The statistic cannot be calculated from a summary.");
+    }
+    
+    /* ------------------------ Aggregation helpers ------------------------  */
+    
+    /**
+     * Returns the aggregated statistic for the wells. Mergeable statistics are
+     * calculated from a summary of the values and other statistics using a 
+     * list holding the values of every well. A negative length uses all the 
+     * values of each well.
+     * @param    Iterable<WellBigInteger>    the wells
+     * @param    int                         beginning index of subset
+     * @param    int                         length of subset or -1
+     * @return                               the aggregated result
+     */
+    private BigDecimal aggregate(Iterable<WellBigInteger> wells, int begin, int length) {
+        
+        if(this.isMergeable()) {
+            return calculate(this.summary(wells, begin, length));
+        }
+        
+        List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+        
+        for(WellBigInteger well : wells) {
+            aggregated.addAll(length < 0 ? well.toBigDecimal() : well.toBigDecimal().subList(begin, begin + length));
+        }
+        
+        return calculate(aggregated);
+    }
+    
+    /**
+     * Returns the aggregated statistic for the stack. A negative length uses 
+     * all the values of each well.
+     * @param    StackBigInteger    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset or -1
+     * @return                      the aggregated result
+     */
+    private BigDecimal aggregate(StackBigInteger stack, int begin, int length) {
+        
+        if(this.isMergeable()) {
+            return calculate(this.summary(stack, begin, length));
+        }
+        
+        return calculate(this.aggregated(stack, begin, length));
+    }
+    
+    /**
+     * Returns the summary of the count, sum and extrema of the values in the 
+     * wells. A negative length uses all the values of each well.
+     * @param    Iterable<WellBigInteger>    the wells
+     * @param    int                         beginning index of subset
+     * @param    int                         length of subset or -1
+     * @return                               the summary
+     */
+    private SummaryBigInteger summary(Iterable<WellBigInteger> wells, int begin, int length) {
+        
+        SummaryBigInteger summary = new SummaryBigInteger(MathContext.UNLIMITED, false);
+        
+        for(WellBigInteger well : wells) {
+            for(BigInteger value : length < 0 ? well.data() : well.data().subList(begin, begin + length)) {
+                summary.add(value);
+            }
+        }
+        
+        return summary;
+    }
+    
+    /**
+     * Returns the summary of the count, sum and extrema of the values in the 
+     * stack. A partial summary is calculated for each plate, in parallel when 
+     * a pool is set, and the partial summaries are merged.
+     * @param    StackBigInteger    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset or -1
+     * @return                      the summary
+     */
+    private SummaryBigInteger summary(StackBigInteger stack, final int begin, final int length) {
+        
+        List<SummaryBigInteger> partials = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateBigInteger, SummaryBigInteger>() {
+            public SummaryBigInteger apply(PlateBigInteger plate) {
+                return summary(plate, begin, length);
+            }
+        });
+        
+        SummaryBigInteger summary = new SummaryBigInteger(MathContext.UNLIMITED, false);
+        
+        for(SummaryBigInteger partial : partials) {
+            summary.merge(partial);
+        }
+        
+        return summary;
+    }
+    
+    /* ---------------------- Stack sweep helpers --------------------------  */
+    
+    /**
+     * Returns the values of every well in the stack. A negative length adds all 
+     * the values of each well.
+     * @param    StackBigInteger    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset or -1
+     * @return                      the values
+     */
+    private List<BigDecimal> aggregated(StackBigInteger stack, int begin, int length) {
+        
+        List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+        
+        for(PlateBigInteger plate : stack) {
+            for(WellBigInteger well : plate) {
+                aggregated.addAll(length < 0 ? well.toBigDecimal() : well.toBigDecimal().subList(begin, begin + length));
+            }
+        }
+        
+        return aggregated;
+    }
+    
+    /**
+     * Sweeps the stack once and returns a well for each well position holding 
+     * the values of the position from every plate. A negative length adds all
+     * the values of each well.
+     * @param    StackBigInteger    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset or -1
+     * @return                      the wells in row and column order
+     */
+    private Collection<WellBigInteger> positions(StackBigInteger stack, int begin, int length) {
+        
+        Map<WellBigInteger, WellBigInteger> positions = new TreeMap<WellBigInteger, WellBigInteger>();
+        
+        for(PlateBigInteger plate : stack) {
+            
+            for(WellBigInteger well : plate) {
+                
+                WellBigInteger position = positions.get(well);
+                
+                if(position == null) {
+                    position = new WellBigInteger(well.row(), well.column());
+                    positions.put(position, position);
+                }
+                
+                position.add(length < 0 ? well.data() : well.data().subList(begin, begin + length));
+            }
+        }
+        
+        return positions.values();
+    }
+    
 }
@@ -35,6 +35,7 @@ import com.google.common.base.Preconditions;
 import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs weighted statistical operations for BigInteger plate stacks, 
@@ -187,15 +188,23 @@ public abstract class DescriptiveStatisticBigIntegerWeights extends DescriptiveS
      * @param    double[]           weights for the data set
      * @return                      map of wells and results
      */
-    public Map<WellBigInteger, BigDecimal> plate(PlateBigInteger plate, double[] weights) {
+    public Map<WellBigInteger, BigDecimal> plate(PlateBigInteger plate, final double[] weights) {
 
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
     	
     	Map<WellBigInteger, BigDecimal> result = new TreeMap<WellBigInteger, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), plate, new ParallelUtil.Task<WellBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellBigInteger well) {
+                return well(well, weights);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : plate) {
             WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone, well(well, weights));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -211,15 +220,23 @@ public abstract class DescriptiveStatisticBigIntegerWeights extends DescriptiveS
      * @param    int                length of subset
      * @return                      map of wells and results
      */
-    public Map<WellBigInteger, BigDecimal> plate(PlateBigInteger plate, double[] weights, int begin, int length) {
+    public Map<WellBigInteger, BigDecimal> plate(PlateBigInteger plate, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
     	
     	Map<WellBigInteger, BigDecimal> result = new TreeMap<WellBigInteger, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), plate, new ParallelUtil.Task<WellBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellBigInteger well) {
+                return well(well, weights, begin, length);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : plate) {
             WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone, well(well, weights, begin, length));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -262,29 +279,35 @@ public abstract class DescriptiveStatisticBigIntegerWeights extends DescriptiveS
      * @return                                  map of plates and aggregated results
      */
     public Map<PlateBigInteger, BigDecimal> platesAggregated(
-            Collection<PlateBigInteger> collection, double[] weights) {
+            Collection<PlateBigInteger> collection, final double[] weights) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateBigInteger, BigDecimal> results = new TreeMap<PlateBigInteger, BigDecimal>();
         
-        for(PlateBigInteger plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-
-            	List<BigDecimal> input = well.toBigDecimal();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<PlateBigInteger, BigDecimal>() {
+            public BigDecimal apply(PlateBigInteger plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : plate) {
+
+                	List<BigDecimal> input = well.toBigDecimal();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : collection) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -298,29 +321,35 @@ public abstract class DescriptiveStatisticBigIntegerWeights extends DescriptiveS
      * @return                        map of plates and aggregated results
      */
     public Map<PlateBigInteger, BigDecimal> platesAggregated(
-            PlateBigInteger[] array, double[] weights) {
+            PlateBigInteger[] array, final double[] weights) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateBigInteger, BigDecimal> results = new TreeMap<PlateBigInteger, BigDecimal>();
         
-        for(PlateBigInteger plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-
-            	List<BigDecimal> input = well.toBigDecimal();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<PlateBigInteger, BigDecimal>() {
+            public BigDecimal apply(PlateBigInteger plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : plate) {
+
+                	List<BigDecimal> input = well.toBigDecimal();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : array) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -366,29 +395,35 @@ public abstract class DescriptiveStatisticBigIntegerWeights extends DescriptiveS
      * @return                                  map of plates and aggregated results
      */
     public Map<PlateBigInteger, BigDecimal> platesAggregated(
-            Collection<PlateBigInteger> collection, double[] weights, int begin, int length) {
+            Collection<PlateBigInteger> collection, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateBigInteger, BigDecimal> results = new TreeMap<PlateBigInteger, BigDecimal>();
         
-        for(PlateBigInteger plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-
-            	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<PlateBigInteger, BigDecimal>() {
+            public BigDecimal apply(PlateBigInteger plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : plate) {
+
+                	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : collection) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -405,29 +440,35 @@ public abstract class DescriptiveStatisticBigIntegerWeights extends DescriptiveS
      * @return                        map of plates and aggregated results
      */
     public Map<PlateBigInteger, BigDecimal> platesAggregated(
-            PlateBigInteger[] array, double[] weights, int begin, int length) {
+            PlateBigInteger[] array, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateBigInteger, BigDecimal> results = new TreeMap<PlateBigInteger, BigDecimal>();
         
-        for(PlateBigInteger plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-
-            	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<PlateBigInteger, BigDecimal>() {
+            public BigDecimal apply(PlateBigInteger plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : plate) {
+
+                	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : array) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -442,15 +483,23 @@ public abstract class DescriptiveStatisticBigIntegerWeights extends DescriptiveS
      * @param    double[]             weights for the data set
      * @return                        map of wells and results
      */
-    public Map<WellBigInteger, BigDecimal> set(WellSetBigInteger set, double[] weights) {
+    public Map<WellBigInteger, BigDecimal> set(WellSetBigInteger set, final double[] weights) {
 
     	Preconditions.checkNotNull(set, "The set cannot be null.");
     	
     	Map<WellBigInteger, BigDecimal> result = new TreeMap<WellBigInteger, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), set, new ParallelUtil.Task<WellBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellBigInteger well) {
+                return well(well, weights);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : set) {
-        	WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone,  well(well, weights));
+            WellBigInteger clone = new WellBigInteger(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -466,15 +515,23 @@ public abstract class DescriptiveStatisticBigIntegerWeights extends DescriptiveS
      * @param    int                  length of subset
      * @return                        map of wells and results
      */
-    public Map<WellBigInteger, BigDecimal> set(WellSetBigInteger set, double[] weights, int begin, int length) {
+    public Map<WellBigInteger, BigDecimal> set(WellSetBigInteger set, final double[] weights, final int begin, final int length) {
 
         Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellBigInteger, BigDecimal> result = new TreeMap<WellBigInteger, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), set, new ParallelUtil.Task<WellBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellBigInteger well) {
+                return well(well, weights, begin, length);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : set) {
-        	WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone,  well(well, weights, begin, length));
+            WellBigInteger clone = new WellBigInteger(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -517,29 +574,35 @@ public abstract class DescriptiveStatisticBigIntegerWeights extends DescriptiveS
      * @return                                    map of well sets and aggregated results
      */
     public Map<WellSetBigInteger, BigDecimal> setsAggregated(
-            Collection<WellSetBigInteger> collection, double[] weights) {
+            Collection<WellSetBigInteger> collection, final double[] weights) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetBigInteger, BigDecimal> results = new TreeMap<WellSetBigInteger, BigDecimal>();
         
-        for(WellSetBigInteger set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-
-            	List<BigDecimal> input = well.toBigDecimal();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<WellSetBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellSetBigInteger set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : set) {
+
+                	List<BigDecimal> input = well.toBigDecimal();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : collection) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -553,29 +616,35 @@ public abstract class DescriptiveStatisticBigIntegerWeights extends DescriptiveS
      * @return                          map of well sets and aggregated results
      */
     public Map<WellSetBigInteger, BigDecimal> setsAggregated(
-            WellSetBigInteger[] array, double[] weights) {
+            WellSetBigInteger[] array, final double[] weights) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetBigInteger, BigDecimal> results = new TreeMap<WellSetBigInteger, BigDecimal>();
         
-        for(WellSetBigInteger set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-
-            	List<BigDecimal> input = well.toBigDecimal();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<WellSetBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellSetBigInteger set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : set) {
+
+                	List<BigDecimal> input = well.toBigDecimal();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : array) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -621,29 +690,35 @@ public abstract class DescriptiveStatisticBigIntegerWeights extends DescriptiveS
      * @return                                    map of well sets and aggregated results
      */
     public Map<WellSetBigInteger, BigDecimal> setsAggregated(
-            Collection<WellSetBigInteger> collection, double[] weights, int begin, int length) {
+            Collection<WellSetBigInteger> collection, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetBigInteger, BigDecimal> results = new TreeMap<WellSetBigInteger, BigDecimal>();
         
-        for(WellSetBigInteger set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-
-            	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<WellSetBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellSetBigInteger set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : set) {
+
+                	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : collection) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -660,29 +735,35 @@ public abstract class DescriptiveStatisticBigIntegerWeights extends DescriptiveS
      * @return                          map of well sets and aggregated results
      */
     public Map<WellSetBigInteger, BigDecimal> setsAggregated(
-            WellSetBigInteger[] array, double[] weights, int begin, int length) {
+            WellSetBigInteger[] array, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetBigInteger, BigDecimal> results = new TreeMap<WellSetBigInteger, BigDecimal>();
         
-        for(WellSetBigInteger set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-
-            	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<BigDecimal> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<WellSetBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellSetBigInteger set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : set) {
+
+                	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : array) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -30,12 +30,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs statistical operations that return a list of big integers 
@@ -188,7 +190,49 @@ import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
  * @email hello@jessemull.com
  */
 public abstract class DescriptiveStatisticListBigIntegerContext {
+
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private ForkJoinPool pool;    // Pool for parallel execution or null
+    
+    /* ------------------------- Parallel Execution ------------------------- */
+    
+    /**
+     * Sets the fork join pool used to calculate the statistic for the wells, 
+     * plates and sets in parallel. Results are merged in the same order used 
+     * by sequential execution. A null pool restores sequential execution.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    
+    /**
+     * Returns the fork join pool used for parallel execution or null if the 
+     * statistic is calculated sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+    
+    /**
+     * Enables parallel execution using the shared default pool or restores 
+     * sequential execution.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
     
+    /**
+     * Returns true if the statistic is calculated in parallel.
+     * @return    true if parallel execution is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+        
     /* ---------------- Well statistics for all plate wells ----------------- */
     
     /**
@@ -197,15 +241,23 @@ public abstract class DescriptiveStatisticListBigIntegerContext {
      * @param    MathContext        the math context
      * @return                      map of wells and results
      */
-    public Map<WellBigInteger, List<BigDecimal>> plate(PlateBigInteger plate, MathContext mc) {
+    public Map<WellBigInteger, List<BigDecimal>> plate(PlateBigInteger plate, final MathContext mc) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellBigInteger, List<BigDecimal>> result = new TreeMap<WellBigInteger, List<BigDecimal>>();
         
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellBigInteger well) {
+                return well(well, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : plate) {
             WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone, well(well, mc));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -221,15 +273,23 @@ public abstract class DescriptiveStatisticListBigIntegerContext {
      * @param    MathContext        the math context
      * @return                      map of wells and results   
      */
-    public Map<WellBigInteger, List<BigDecimal>> plate(PlateBigInteger plate, int begin, int length, MathContext mc) {
+    public Map<WellBigInteger, List<BigDecimal>> plate(PlateBigInteger plate, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellBigInteger, List<BigDecimal>> result = new TreeMap<WellBigInteger, List<BigDecimal>>();
         
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellBigInteger well) {
+                return well(well, begin, length, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : plate) {
             WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone, well(well, begin, length, mc));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -264,23 +324,29 @@ public abstract class DescriptiveStatisticListBigIntegerContext {
      * @param    MathContext                    the math context
      * @return                                  map of plates and aggregated results
      */
-    public Map<PlateBigInteger, List<BigDecimal>> platesAggregated(Collection<PlateBigInteger> collection, MathContext mc) {
+    public Map<PlateBigInteger, List<BigDecimal>> platesAggregated(Collection<PlateBigInteger> collection, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
 
         Map<PlateBigInteger, List<BigDecimal>> results = new TreeMap<PlateBigInteger, List<BigDecimal>>();
         
-        for(PlateBigInteger plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-                aggregated.addAll(well.toBigDecimal());
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(PlateBigInteger plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : plate) {
+                    aggregated.addAll(well.toBigDecimal());
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : collection) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -292,23 +358,29 @@ public abstract class DescriptiveStatisticListBigIntegerContext {
      * @param    MathContext          the math context
      * @return                        map of plates and aggregated result
      */
-    public Map<PlateBigInteger, List<BigDecimal>> platesAggregated(PlateBigInteger[] array, MathContext mc) {
+    public Map<PlateBigInteger, List<BigDecimal>> platesAggregated(PlateBigInteger[] array, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
 
         Map<PlateBigInteger, List<BigDecimal>> results = new TreeMap<PlateBigInteger, List<BigDecimal>>();
         
-        for(PlateBigInteger plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-                aggregated.addAll(well.toBigDecimal());
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(PlateBigInteger plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : plate) {
+                    aggregated.addAll(well.toBigDecimal());
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : array) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -348,23 +420,29 @@ public abstract class DescriptiveStatisticListBigIntegerContext {
      * @return                                  map of plates and aggregated results
      */
     public Map<PlateBigInteger, List<BigDecimal>> platesAggregated(
-            Collection<PlateBigInteger> collection, int begin, int length, MathContext mc) {
+            Collection<PlateBigInteger> collection, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
 
         Map<PlateBigInteger, List<BigDecimal>> results = new TreeMap<PlateBigInteger, List<BigDecimal>>();
         
-        for(PlateBigInteger plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(PlateBigInteger plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : plate) {
+                    aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, mc);
             }
-         
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : collection) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -381,23 +459,29 @@ public abstract class DescriptiveStatisticListBigIntegerContext {
      * @return                        map of plates and aggregated results	
      */
     public Map<PlateBigInteger, List<BigDecimal>> platesAggregated(
-            PlateBigInteger[] array, int begin, int length, MathContext mc) {
+            PlateBigInteger[] array, final int begin, final int length, final MathContext mc) {
        
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateBigInteger, List<BigDecimal>> results = new TreeMap<PlateBigInteger, List<BigDecimal>>();
         
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(PlateBigInteger plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : plate) {
+                    aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, mc);
+            }
+        });
+
+        int index = 0;
+
         for(PlateBigInteger plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
-            }      
-            
-            results.put(clone, calculate(aggregated, mc));
-        
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -412,15 +496,23 @@ public abstract class DescriptiveStatisticListBigIntegerContext {
      * @param    MathContext          the math context
      * @return                        map of wells and results
      */
-    public Map<WellBigInteger, List<BigDecimal>> set(WellSetBigInteger set, MathContext mc) {
+    public Map<WellBigInteger, List<BigDecimal>> set(WellSetBigInteger set, final MathContext mc) {
     	
         Preconditions.checkNotNull(set, "The set cannot be null.");
     	
     	Map<WellBigInteger, List<BigDecimal>> result = new TreeMap<WellBigInteger, List<BigDecimal>>();
         
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellBigInteger well) {
+                return well(well, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : set) {
             WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone, well(well, mc));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -436,15 +528,23 @@ public abstract class DescriptiveStatisticListBigIntegerContext {
      * @param    MathContext          the math context
      * @return                        map of wells and results
      */
-    public Map<WellBigInteger, List<BigDecimal>> set(WellSetBigInteger set, int begin, int length, MathContext mc) {
+    public Map<WellBigInteger, List<BigDecimal>> set(WellSetBigInteger set, final int begin, final int length, final MathContext mc) {
         
     	Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellBigInteger, List<BigDecimal>> result = new TreeMap<WellBigInteger, List<BigDecimal>>();
         
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellBigInteger well) {
+                return well(well, begin, length, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : set) {
-        	WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone,  well(well, begin, length, mc));
+            WellBigInteger clone = new WellBigInteger(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -479,23 +579,29 @@ public abstract class DescriptiveStatisticListBigIntegerContext {
      * @param    MathContext                      the math context
      * @return                                    map of well sets and aggregated results
      */
-    public Map<WellSetBigInteger, List<BigDecimal>> setsAggregated(Collection<WellSetBigInteger> collection, MathContext mc) {
+    public Map<WellSetBigInteger, List<BigDecimal>> setsAggregated(Collection<WellSetBigInteger> collection, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
 
         Map<WellSetBigInteger, List<BigDecimal>> results = new TreeMap<WellSetBigInteger, List<BigDecimal>>();
         
-        for(WellSetBigInteger set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-                aggregated.addAll(well.toBigDecimal());
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellSetBigInteger set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : set) {
+                    aggregated.addAll(well.toBigDecimal());
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : collection) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -507,23 +613,29 @@ public abstract class DescriptiveStatisticListBigIntegerContext {
      * @param    MathContext            the math context
      * @return                          map of well sets and aggregated results
      */
-    public Map<WellSetBigInteger, List<BigDecimal>> setsAggregated(WellSetBigInteger[] array, MathContext mc) {
+    public Map<WellSetBigInteger, List<BigDecimal>> setsAggregated(WellSetBigInteger[] array, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
 
         Map<WellSetBigInteger, List<BigDecimal>> results = new TreeMap<WellSetBigInteger, List<BigDecimal>>();
         
-        for(WellSetBigInteger set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-                aggregated.addAll(well.toBigDecimal());
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellSetBigInteger set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : set) {
+                    aggregated.addAll(well.toBigDecimal());
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : array) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -563,23 +675,29 @@ public abstract class DescriptiveStatisticListBigIntegerContext {
      * @return                                    map of well sets and aggregated results
      */
     public Map<WellSetBigInteger, List<BigDecimal>> setsAggregated(
-            Collection<WellSetBigInteger> collection, int begin, int length, MathContext mc) {
+            Collection<WellSetBigInteger> collection, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetBigInteger, List<BigDecimal>> results = new TreeMap<WellSetBigInteger, List<BigDecimal>>();
         
-        for(WellSetBigInteger set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellSetBigInteger set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : set) {
+                    aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : collection) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -596,23 +714,29 @@ public abstract class DescriptiveStatisticListBigIntegerContext {
      * @return                          map of well sets and aggregated results
      */
     public Map<WellSetBigInteger, List<BigDecimal>> setsAggregated(
-            WellSetBigInteger[] array, int begin, int length, MathContext mc) {
+            WellSetBigInteger[] array, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetBigInteger, List<BigDecimal>> results = new TreeMap<WellSetBigInteger, List<BigDecimal>>();
         
-        for(WellSetBigInteger set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellSetBigInteger set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : set) {
+                    aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : array) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -36,6 +36,7 @@ import com.google.common.base.Preconditions;
 import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs weighted statistical operations for BigInteger plate stacks, 
@@ -189,15 +190,23 @@ public abstract class DescriptiveStatisticListBigIntegerWeightsContext extends D
      * @param    MathContext        the math context
      * @return                      map of wells and results
      */
-    public Map<WellBigInteger, List<BigDecimal>> plate(PlateBigInteger plate, double[] weights, MathContext mc) {
+    public Map<WellBigInteger, List<BigDecimal>> plate(PlateBigInteger plate, final double[] weights, final MathContext mc) {
 
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
     	
     	Map<WellBigInteger, List<BigDecimal>> result = new TreeMap<WellBigInteger, List<BigDecimal>>();
         
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool(), plate, new ParallelUtil.Task<WellBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellBigInteger well) {
+                return well(well, weights, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : plate) {
             WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone, well(well, weights, mc));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -214,15 +223,23 @@ public abstract class DescriptiveStatisticListBigIntegerWeightsContext extends D
      * @param    MathContext        the math context
      * @return                      map of wells and results
      */
-    public Map<WellBigInteger, List<BigDecimal>> plate(PlateBigInteger plate, double[] weights, int begin, int length, MathContext mc) {
+    public Map<WellBigInteger, List<BigDecimal>> plate(PlateBigInteger plate, final double[] weights, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
     	
     	Map<WellBigInteger, List<BigDecimal>> result = new TreeMap<WellBigInteger, List<BigDecimal>>();
         
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool(), plate, new ParallelUtil.Task<WellBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellBigInteger well) {
+                return well(well, weights, begin, length, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : plate) {
             WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone, well(well, weights, begin, length, mc));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -267,29 +284,35 @@ public abstract class DescriptiveStatisticListBigIntegerWeightsContext extends D
      * @return                                  map of plates and aggregated results
      */
     public Map<PlateBigInteger, List<BigDecimal>> platesAggregated(
-            Collection<PlateBigInteger> collection, double[] weights, MathContext mc) {
+            Collection<PlateBigInteger> collection, final double[] weights, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateBigInteger, List<BigDecimal>> results = new TreeMap<PlateBigInteger, List<BigDecimal>>();
         
-        for(PlateBigInteger plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-
-            	List<BigDecimal> input = well.toBigDecimal();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<PlateBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(PlateBigInteger plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : plate) {
+
+                	List<BigDecimal> input = well.toBigDecimal();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : collection) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -304,29 +327,35 @@ public abstract class DescriptiveStatisticListBigIntegerWeightsContext extends D
      * @return                        map of plates and aggregated results
      */
     public Map<PlateBigInteger, List<BigDecimal>> platesAggregated(
-            PlateBigInteger[] array, double[] weights, MathContext mc) {
+            PlateBigInteger[] array, final double[] weights, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateBigInteger, List<BigDecimal>> results = new TreeMap<PlateBigInteger, List<BigDecimal>>();
         
-        for(PlateBigInteger plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-
-            	List<BigDecimal> input = well.toBigDecimal();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<PlateBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(PlateBigInteger plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : plate) {
+
+                	List<BigDecimal> input = well.toBigDecimal();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : array) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -374,29 +403,35 @@ public abstract class DescriptiveStatisticListBigIntegerWeightsContext extends D
      * @return                                  map of plates and aggregated results
      */
     public Map<PlateBigInteger, List<BigDecimal>> platesAggregated(
-            Collection<PlateBigInteger> collection, double[] weights, int begin, int length, MathContext mc) {
+            Collection<PlateBigInteger> collection, final double[] weights, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateBigInteger, List<BigDecimal>> results = new TreeMap<PlateBigInteger, List<BigDecimal>>();
         
-        for(PlateBigInteger plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-
-            	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<PlateBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(PlateBigInteger plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : plate) {
+
+                	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : collection) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -414,29 +449,35 @@ public abstract class DescriptiveStatisticListBigIntegerWeightsContext extends D
      * @return                        map of plates and aggregated results
      */
     public Map<PlateBigInteger, List<BigDecimal>> platesAggregated(
-            PlateBigInteger[] array, double[] weights, int begin, int length, MathContext mc) {
+            PlateBigInteger[] array, final double[] weights, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateBigInteger, List<BigDecimal>> results = new TreeMap<PlateBigInteger, List<BigDecimal>>();
         
-        for(PlateBigInteger plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<PlateBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(PlateBigInteger plate) {
 
-            	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
-            
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : plate) {
+
+                	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : array) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -452,15 +493,23 @@ public abstract class DescriptiveStatisticListBigIntegerWeightsContext extends D
      * @param    MathContext          the math context
      * @return                        map of wells and results
      */
-    public Map<WellBigInteger, List<BigDecimal>> set(WellSetBigInteger set, double[] weights, MathContext mc) {
+    public Map<WellBigInteger, List<BigDecimal>> set(WellSetBigInteger set, final double[] weights, final MathContext mc) {
 
     	Preconditions.checkNotNull(set, "The set cannot be null.");
     	
     	Map<WellBigInteger, List<BigDecimal>> result = new TreeMap<WellBigInteger, List<BigDecimal>>();
         
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool(), set, new ParallelUtil.Task<WellBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellBigInteger well) {
+                return well(well, weights, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : set) {
-        	WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone,  well(well, weights, mc));
+            WellBigInteger clone = new WellBigInteger(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -477,15 +526,23 @@ public abstract class DescriptiveStatisticListBigIntegerWeightsContext extends D
      * @param    MathContext          the math context
      * @return                        map of wells and results
      */
-    public Map<WellBigInteger, List<BigDecimal>> set(WellSetBigInteger set, double[] weights, int begin, int length, MathContext mc) {
+    public Map<WellBigInteger, List<BigDecimal>> set(WellSetBigInteger set, final double[] weights, final int begin, final int length, final MathContext mc) {
 
         Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellBigInteger, List<BigDecimal>> result = new TreeMap<WellBigInteger, List<BigDecimal>>();
         
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool(), set, new ParallelUtil.Task<WellBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellBigInteger well) {
+                return well(well, weights, begin, length, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : set) {
-        	WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone,  well(well, weights, begin, length, mc));
+            WellBigInteger clone = new WellBigInteger(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -530,29 +587,35 @@ public abstract class DescriptiveStatisticListBigIntegerWeightsContext extends D
      * @return                                    map of well sets and aggregated results
      */
     public Map<WellSetBigInteger, List<BigDecimal>> setsAggregated(
-            Collection<WellSetBigInteger> collection, double[] weights, MathContext mc) {
+            Collection<WellSetBigInteger> collection, final double[] weights, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetBigInteger, List<BigDecimal>> results = new TreeMap<WellSetBigInteger, List<BigDecimal>>();
         
-        for(WellSetBigInteger set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-
-            	List<BigDecimal> input = well.toBigDecimal();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<WellSetBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellSetBigInteger set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : set) {
+
+                	List<BigDecimal> input = well.toBigDecimal();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : collection) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -567,29 +630,35 @@ public abstract class DescriptiveStatisticListBigIntegerWeightsContext extends D
      * @return                          map of well sets and aggregated results
      */
     public Map<WellSetBigInteger, List<BigDecimal>> setsAggregated(
-            WellSetBigInteger[] array, double[] weights, MathContext mc) {
+            WellSetBigInteger[] array, final double[] weights, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetBigInteger, List<BigDecimal>> results = new TreeMap<WellSetBigInteger, List<BigDecimal>>();
         
-        for(WellSetBigInteger set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-
-            	List<BigDecimal> input = well.toBigDecimal();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<WellSetBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellSetBigInteger set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : set) {
+
+                	List<BigDecimal> input = well.toBigDecimal();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : array) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -637,29 +706,35 @@ public abstract class DescriptiveStatisticListBigIntegerWeightsContext extends D
      * @return                                    map of well sets and aggregated results
      */
     public Map<WellSetBigInteger, List<BigDecimal>> setsAggregated(
-            Collection<WellSetBigInteger> collection, double[] weights, int begin, int length, MathContext mc) {
+            Collection<WellSetBigInteger> collection, final double[] weights, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetBigInteger, List<BigDecimal>> results = new TreeMap<WellSetBigInteger, List<BigDecimal>>();
         
-        for(WellSetBigInteger set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-
-            	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<WellSetBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellSetBigInteger set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : set) {
+
+                	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : collection) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -677,29 +752,35 @@ public abstract class DescriptiveStatisticListBigIntegerWeightsContext extends D
      * @return                          map of well sets and aggregated results
      */
     public Map<WellSetBigInteger, List<BigDecimal>> setsAggregated(
-            WellSetBigInteger[] array, double[] weights, int begin, int length, MathContext mc) {
+            WellSetBigInteger[] array, final double[] weights, final int begin, final int length, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetBigInteger, List<BigDecimal>> results = new TreeMap<WellSetBigInteger, List<BigDecimal>>();
         
-        for(WellSetBigInteger set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-
-            	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
-            	}
-            	
+        List<List<BigDecimal>> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<WellSetBigInteger, List<BigDecimal>>() {
+            public List<BigDecimal> apply(WellSetBigInteger set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : set) {
+
+                	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
+                	}
+
+                }
+
+                return calculate(aggregated, mc);
             }
-      
-            results.put(clone, calculate(aggregated, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : array) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
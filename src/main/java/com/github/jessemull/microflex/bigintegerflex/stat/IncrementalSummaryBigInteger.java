@@ -0,0 +1,323 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package -------------------------------- */
+
+package com.github.jessemull.microflex.bigintegerflex.stat;
+
+/* ----------------------------- Dependencies ------------------------------ */
+
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
+import com.google.common.base.Preconditions;
+
+/**
+ * This class tracks the summary statistics of a well, well set or plate while
+ * values are appended to the wells. A running summary is kept for each well
+ * and updated using the one pass formulas of the summary object, so reading
+ * the summaries after each read cycle adds only the values appended since the
+ * previous read instead of recalculating the statistics from every value.
+ *
+ * <br><br>
+ *
+ * The tracker compares the data version and length of each well to the values
+ * recorded during the previous update. Any change other than an append, such as
+ * a replace, remove, retain, clear or in place mathematical operation, changes
+ * the data version and the summary of the well is recalculated from the current
+ * values. Wells added to a tracked well set or plate are summarized during the
+ * next update and the summaries of removed wells are discarded.
+ *
+ * <br><br>
+ *
+ * The summaries returned by the tracker are copies and are not changed by later
+ * updates. The tracker is not thread safe.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class IncrementalSummaryBigInteger {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    private MathContext mc;                                                               // Math context for the summaries
+    private Iterable<WellBigInteger> wells;                                               // The tracked wells
+    private WellBigInteger well;                                                          // The tracked well or null
+    private WellSetBigInteger set;                                                        // The tracked well set or null
+    private PlateBigInteger plate;                                                        // The tracked plate or null
+    private Map<WellBigInteger, Entry> entries = new TreeMap<WellBigInteger, Entry>();    // Running summary for each well
+
+    /* ----------------------------- Constructors --------------------------- */
+
+    /**
+     * Tracks the values of a single well.
+     * @param    WellBigInteger    the well
+     * @param    MathContext       the math context for the summaries
+     */
+    public IncrementalSummaryBigInteger(WellBigInteger well, MathContext mc) {
+        Preconditions.checkNotNull(well, "The well cannot be null.");
+        Preconditions.checkNotNull(mc, "The math context cannot be null.");
+        this.wells = Collections.singletonList(well);
+        this.well = well;
+        this.mc = mc;
+    }
+
+    /**
+     * Tracks the values of the wells in the well set.
+     * @param    WellSetBigInteger    the well set
+     * @param    MathContext          the math context for the summaries
+     */
+    public IncrementalSummaryBigInteger(WellSetBigInteger set, MathContext mc) {
+        Preconditions.checkNotNull(set, "The set cannot be null.");
+        Preconditions.checkNotNull(mc, "The math context cannot be null.");
+        this.wells = set;
+        this.set = set;
+        this.mc = mc;
+    }
+
+    /**
+     * Tracks the values of the wells in the plate.
+     * @param    PlateBigInteger    the plate
+     * @param    MathContext        the math context for the summaries
+     */
+    public IncrementalSummaryBigInteger(PlateBigInteger plate, MathContext mc) {
+        Preconditions.checkNotNull(plate, "The plate cannot be null.");
+        Preconditions.checkNotNull(mc, "The math context cannot be null.");
+        this.wells = plate;
+        this.plate = plate;
+        this.mc = mc;
+    }
+
+    /* ------------------------------ Summaries ----------------------------- */
+
+    /**
+     * Returns the summary of the well values. Only the summary of the requested
+     * well is brought up to date.
+     * @param    WellBigInteger    the well
+     * @return                     the summary
+     * @throws   IllegalArgumentException    if the well is not tracked
+     */
+    public SummaryBigInteger summary(WellBigInteger well) {
+
+        Preconditions.checkNotNull(well, "The well cannot be null.");
+
+        WellBigInteger tracked = this.tracked(well);
+
+        if(tracked == null) {
+            this.entries.remove(well);
+        }
+
+        Preconditions.checkArgument(tracked != null, "The well %s is not tracked.", well.index());
+
+        return copy(this.entry(tracked).summary);
+    }
+
+    /**
+     * Returns the summary of each tracked well. The map is keyed by the tracked
+     * wells.
+     * @return    map of wells and summaries
+     */
+    public Map<WellBigInteger, SummaryBigInteger> summaries() {
+
+        this.update();
+
+        Map<WellBigInteger, SummaryBigInteger> result = new TreeMap<WellBigInteger, SummaryBigInteger>();
+
+        for(Entry entry : this.entries.values()) {
+            result.put(entry.well, copy(entry.summary));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the summary of the values in all tracked wells.
+     * @return    the aggregated summary
+     */
+    public SummaryBigInteger aggregated() {
+
+        this.update();
+
+        SummaryBigInteger result = new SummaryBigInteger(this.mc);
+
+        for(Entry entry : this.entries.values()) {
+            result.merge(entry.summary);
+        }
+
+        return result;
+    }
+
+    /**
+     * Discards the running summaries. The summaries are recalculated from the
+     * well values during the next update.
+     */
+    public void reset() {
+        this.entries.clear();
+    }
+
+    /* --------------------------- Private Methods -------------------------- */
+
+    /**
+     * Adds the values appended to each well since the previous update to the
+     * running summaries. The tracked wells and the running summaries are both
+     * ordered by row and column, so membership changes are reconciled in a
+     * single pass over the wells.
+     */
+    private void update() {
+
+        Iterator<Map.Entry<WellBigInteger, Entry>> iter = this.entries.entrySet().iterator();
+        Map.Entry<WellBigInteger, Entry> current = iter.hasNext() ? iter.next() : null;
+        List<WellBigInteger> added = new ArrayList<WellBigInteger>();
+
+        for(WellBigInteger well : this.wells) {
+
+            /* Discards the summaries of removed wells */
+
+            while(current != null && current.getKey().compareTo(well) < 0) {
+                iter.remove();
+                current = iter.hasNext() ? iter.next() : null;
+            }
+
+            if(current != null && current.getKey().compareTo(well) == 0) {
+
+                if(current.getValue().well != well) {
+                    current.setValue(new Entry(well));
+                }
+
+                current.getValue().update();
+                current = iter.hasNext() ? iter.next() : null;
+
+            } else {
+                added.add(well);
+            }
+        }
+
+        while(current != null) {
+            iter.remove();
+            current = iter.hasNext() ? iter.next() : null;
+        }
+
+        for(WellBigInteger well : added) {
+            this.entry(well);
+        }
+    }
+
+    /**
+     * Returns the running summary of the tracked well after adding the values
+     * appended since the previous update.
+     * @param    WellBigInteger    the tracked well
+     * @return                        the running summary
+     */
+    private Entry entry(WellBigInteger well) {
+
+        Entry entry = this.entries.get(well);
+
+        if(entry == null || entry.well != well) {
+            entry = new Entry(well);
+            this.entries.put(well, entry);
+        }
+
+        entry.update();
+
+        return entry;
+    }
+
+    /**
+     * Returns the tracked well with the row and column of the input well or null
+     * if the well is not tracked.
+     * @param    WellBigInteger    the input well
+     * @return                        the tracked well or null
+     */
+    private WellBigInteger tracked(WellBigInteger input) {
+
+        WellBigInteger well;
+
+        if(this.plate != null) {
+            well = this.plate.ceiling(input);
+        } else if(this.set != null) {
+            well = this.set.ceiling(input);
+        } else {
+            well = this.well;
+        }
+
+        return well != null && well.compareTo(input) == 0 ? well : null;
+    }
+
+    /**
+     * Returns a copy of the summary.
+     * @param    SummaryBigInteger    the summary
+     * @return                        the copy
+     */
+    private SummaryBigInteger copy(SummaryBigInteger summary) {
+        return new SummaryBigInteger(this.mc).merge(summary);
+    }
+
+    /**
+     * Running summary of a single well.
+     */
+    private class Entry {
+
+        private WellBigInteger well;                                      // The well
+        private SummaryBigInteger summary = new SummaryBigInteger(mc);    // Summary of the values read
+        private int version;                                              // Data version at the last update
+        private int length;                                               // Number of values read
+
+        /**
+         * Creates an empty running summary for the well.
+         * @param    WellBigInteger    the well
+         */
+        private Entry(WellBigInteger well) {
+            this.well = well;
+            this.version = well.dataVersion();
+        }
+
+        /**
+         * Adds the appended values to the summary. The summary is recalculated
+         * if the well was changed by an operation other than an append.
+         */
+        private void update() {
+
+            if(this.version != this.well.dataVersion() || this.length > this.well.size()) {
+                this.summary = new SummaryBigInteger(mc);
+                this.version = this.well.dataVersion();
+                this.length = 0;
+            }
+
+            List<BigInteger> data = this.well.data();
+
+            for(int i = this.length; i < data.size(); i++) {
+                this.summary.add(data.get(i));
+            }
+
+            this.length = data.size();
+        }
+    }
+
+}
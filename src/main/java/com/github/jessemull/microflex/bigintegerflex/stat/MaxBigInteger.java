@@ -145,5 +145,22 @@ public class MaxBigInteger extends DescriptiveStatisticBigInteger {
     public BigDecimal calculate(List<BigDecimal> list, int begin, int length) {
         return calculate(list.subList(begin, begin + length));            
     }
+    
+    /**
+     * Returns true. The maximum is calculated from a summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the maximum using a summary of the values.
+     * @param    SummaryBigInteger    the summary
+     * @return                       the result
+     */
+    public BigDecimal calculate(SummaryBigInteger summary) {
+        return new BigDecimal(summary.max());
+    }
 
 }
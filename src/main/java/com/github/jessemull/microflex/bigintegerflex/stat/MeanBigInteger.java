@@ -206,4 +206,21 @@ public class MeanBigInteger extends DescriptiveStatisticBigIntegerWeightsContext
     public BigDecimal calculate(List<BigDecimal> list, double[] weights, int begin, int length, MathContext mc) {
         return calculate(list.subList(begin, begin + length), weights, mc);
     }
+    
+    /**
+     * Returns true. The mean is calculated from a summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the mean using a summary of the values.
+     * @param    SummaryBigInteger    the summary
+     * @return                       the result
+     */
+    public BigDecimal calculate(SummaryBigInteger summary) {
+        return summary.mean();
+    }
 }
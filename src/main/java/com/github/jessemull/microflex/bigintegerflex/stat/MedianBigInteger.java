@@ -25,9 +25,10 @@ package com.github.jessemull.microflex.bigintegerflex.stat;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
-import java.util.Collections;
 import java.util.List;
 
+import com.github.jessemull.microflex.util.SelectionUtil;
+
 /**
  * This class calculates the median of BigInteger plate stacks, plates, 
  * wells and well sets.
@@ -135,17 +136,16 @@ public class MedianBigInteger extends DescriptiveStatisticBigIntegerContext {
      */
     public BigDecimal calculate(List<BigDecimal> list, MathContext mc) {
         
-        Collections.sort(list);
+        int n = list.size();
         
-        if(list.size() == 0) {
+        if(n == 0) {
             return BigDecimal.ZERO;
         }
-
-        int lowQ2 = (int) Math.floor((list.size() - 1.0) / 2.0);
-        int highQ2 = (int) Math.ceil((list.size() - 1.0) / 2.0);
-        BigDecimal q2 = (list.get(lowQ2).add(list.get(highQ2))).divide(new BigDecimal(2), mc);
         
-        return q2;
+        BigDecimal[] middle = SelectionUtil.select(list.toArray(new BigDecimal[n]), 0, n, 
+                new int[]{ (n - 1) / 2, n / 2 });
+        
+        return (middle[0].add(middle[1])).divide(new BigDecimal(2), mc);
     }
     
     /**
@@ -25,10 +25,10 @@ package com.github.jessemull.microflex.bigintegerflex.stat;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
+import com.github.jessemull.microflex.util.SelectionUtil;
+
 /**
  * This class calculates the median deviation of BigInteger plate stacks, plates, 
  * wells and well sets.
@@ -136,30 +136,25 @@ public class MedianDeviationBigInteger extends DescriptiveStatisticBigIntegerCon
      */
     public BigDecimal calculate(List<BigDecimal> list, MathContext mc) {
         
-        Collections.sort(list);
+        int n = list.size();
         
-        if(list.size() < 2) {
+        if(n < 2) {
             return BigDecimal.ZERO;
         }
-
-        int lowQ2 = (int) Math.floor((list.size() - 1.0) / 2.0);
-        int highQ2 = (int) Math.ceil((list.size() - 1.0) / 2.0);
-        BigDecimal q2 = (list.get(lowQ2).add(list.get(highQ2))).divide(new BigDecimal(2), mc);
         
-        List<BigDecimal> differences = new ArrayList<BigDecimal>();
+        BigDecimal[] values = list.toArray(new BigDecimal[n]);
+        int[] middle = new int[]{ (n - 1) / 2, n / 2 };
         
-        for(BigDecimal value : list) {
-        	value = value.subtract(q2).abs();
-        	differences.add(value);
+        BigDecimal[] q2Values = SelectionUtil.select(values, 0, n, middle);
+        BigDecimal q2 = (q2Values[0].add(q2Values[1])).divide(new BigDecimal(2), mc);
+
+        for(int i = 0; i < n; i++) {
+        	values[i] = values[i].subtract(q2).abs();
         }
         
-        Collections.sort(differences);
-        
-        int lowDiff = (int) Math.floor((differences.size() - 1.0) / 2.0);
-        int highDiff = (int) Math.ceil((differences.size() - 1.0) / 2.0);
-        BigDecimal qDiff = (differences.get(lowDiff).add(differences.get(highDiff))).divide(new BigDecimal(2), mc);
+        BigDecimal[] diffValues = SelectionUtil.select(values, 0, n, middle);
         
-        return qDiff;
+        return (diffValues[0].add(diffValues[1])).divide(new BigDecimal(2), mc);
     }
     
     /**
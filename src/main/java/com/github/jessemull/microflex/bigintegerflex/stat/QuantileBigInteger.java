@@ -25,9 +25,10 @@ package com.github.jessemull.microflex.bigintegerflex.stat;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
-import java.util.Collections;
 import java.util.List;
 
+import com.github.jessemull.microflex.util.SelectionUtil;
+
 /**
  * This class calculates quantiles for big integer plate stacks, plates, 
  * wells and well sets using the following steps:
@@ -149,35 +150,35 @@ public class QuantileBigInteger extends QuantileStatisticBigIntegerRationalConte
     public BigDecimal calculate(List<BigDecimal> list, double p, MathContext mc) {
         
         int n = list.size();
-    	
+        
     	if(n == 1) {
     		return list.get(0);
     	}
-    	
-        Collections.sort(list);        
+        
+        BigDecimal[] values = list.toArray(new BigDecimal[n]);
         double pos = (p * (n + 1));
         
         if(pos < 1) {
-        	return list.get(0);
+        	return SelectionUtil.select(values, 0, n, 0);
         }
         
         if(pos >= n) {
-        	return list.get(list.size() - 1);
+        	return SelectionUtil.select(values, 0, n, n - 1);
         }
         
         if(pos == Math.floor(pos) && !Double.isInfinite(pos)) {       
-        	return list.get((int) pos - 1);
+        	return SelectionUtil.select(values, 0, n, (int) pos - 1);
         }
         	
         int lowerIndex = (int) Math.floor(pos) - 1;
-        int upperIndex = lowerIndex + 1;
+        BigDecimal[] bounds = SelectionUtil.select(values, 0, n, new int[]{ lowerIndex, lowerIndex + 1 });
         
-        BigDecimal lower = list.get(lowerIndex);
-        BigDecimal upper = list.get(upperIndex);      
+        BigDecimal lower = bounds[0];
+        BigDecimal upper = bounds[1];      
         BigDecimal d = new BigDecimal((pos - 1 - lowerIndex) + "");
         
         return upper.subtract(lower).multiply(d).add(lower);
-    };
+    }
     
     /**
      * Calculates the quantile of the values between the beginning and ending 
@@ -26,16 +26,21 @@ package com.github.jessemull.microflex.bigintegerflex.stat;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.StackBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs statistical operations for BigInteger plate stacks, plates, 
@@ -137,7 +142,49 @@ import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
  * @email hello@jessemull.com
  */
 public abstract class QuantileStatisticBigIntegerContext {
+
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private ForkJoinPool pool;    // Pool for parallel execution or null
+    
+    /* ------------------------- Parallel Execution ------------------------- */
+    
+    /**
+     * Sets the fork join pool used to calculate the statistic for the wells, 
+     * plates and sets in parallel. Results are merged in the same order used 
+     * by sequential execution. A null pool restores sequential execution.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    
+    /**
+     * Returns the fork join pool used for parallel execution or null if the 
+     * statistic is calculated sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
     
+    /**
+     * Enables parallel execution using the shared default pool or restores 
+     * sequential execution.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
+    
+    /**
+     * Returns true if the statistic is calculated in parallel.
+     * @return    true if parallel execution is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+        
     /* ---------------- Well statistics for all plate wells ----------------- */
     
     /**
@@ -147,15 +194,23 @@ public abstract class QuantileStatisticBigIntegerContext {
      * @param    MathContext        the math context
      * @return                      map of wells and results
      */
-    public Map<WellBigInteger, BigDecimal> plate(PlateBigInteger plate, int p, MathContext mc) {
+    public Map<WellBigInteger, BigDecimal> plate(PlateBigInteger plate, final int p, final MathContext mc) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellBigInteger, BigDecimal> result = new TreeMap<WellBigInteger, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellBigInteger well) {
+                return well(well, p, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : plate) {
             WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone, well(well, p, mc));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -172,15 +227,23 @@ public abstract class QuantileStatisticBigIntegerContext {
      * @param    MathContext        the math context
      * @return                      map of wells and results   
      */
-    public Map<WellBigInteger, BigDecimal> plate(PlateBigInteger plate, int begin, int length, int p, MathContext mc) {
+    public Map<WellBigInteger, BigDecimal> plate(PlateBigInteger plate, final int begin, final int length, final int p, final MathContext mc) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellBigInteger, BigDecimal> result = new TreeMap<WellBigInteger, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellBigInteger well) {
+                return well(well, begin, length, p, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : plate) {
             WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone, well(well, begin, length, p, mc));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -217,23 +280,29 @@ public abstract class QuantileStatisticBigIntegerContext {
      * @param    MathContext                    the math context
      * @return                                  map of plates and aggregated results
      */
-    public Map<PlateBigInteger, BigDecimal> platesAggregated(Collection<PlateBigInteger> collection, int p, MathContext mc) {
+    public Map<PlateBigInteger, BigDecimal> platesAggregated(Collection<PlateBigInteger> collection, final int p, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
 
         Map<PlateBigInteger, BigDecimal> results = new TreeMap<PlateBigInteger, BigDecimal>();
         
-        for(PlateBigInteger plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-                aggregated.addAll(well.toBigDecimal());
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateBigInteger, BigDecimal>() {
+            public BigDecimal apply(PlateBigInteger plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : plate) {
+                    aggregated.addAll(well.toBigDecimal());
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : collection) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -246,23 +315,29 @@ public abstract class QuantileStatisticBigIntegerContext {
      * @param    MathContext          the math context
      * @return                        map of plates and aggregated result
      */
-    public Map<PlateBigInteger, BigDecimal> platesAggregated(PlateBigInteger[] array, int p, MathContext mc) {
+    public Map<PlateBigInteger, BigDecimal> platesAggregated(PlateBigInteger[] array, final int p, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
 
         Map<PlateBigInteger, BigDecimal> results = new TreeMap<PlateBigInteger, BigDecimal>();
         
-        for(PlateBigInteger plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-                aggregated.addAll(well.toBigDecimal());
+        List<BigDecimal> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateBigInteger, BigDecimal>() {
+            public BigDecimal apply(PlateBigInteger plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : plate) {
+                    aggregated.addAll(well.toBigDecimal());
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : array) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -304,23 +379,29 @@ public abstract class QuantileStatisticBigIntegerContext {
      * @return                                  map of plates and aggregated results
      */
     public Map<PlateBigInteger, BigDecimal> platesAggregated(
-            Collection<PlateBigInteger> collection, int begin, int length, int p, MathContext mc) {
+            Collection<PlateBigInteger> collection, final int begin, final int length, final int p, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateBigInteger, BigDecimal> results = new TreeMap<PlateBigInteger, BigDecimal>();
         
-        for(PlateBigInteger plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateBigInteger, BigDecimal>() {
+            public BigDecimal apply(PlateBigInteger plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : plate) {
+                    aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : collection) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -338,23 +419,29 @@ public abstract class QuantileStatisticBigIntegerContext {
      * @return                        map of plates and aggregated results
      */
     public Map<PlateBigInteger, BigDecimal> platesAggregated(
-            PlateBigInteger[] array, int begin, int length, int p, MathContext mc) {
+            PlateBigInteger[] array, final int begin, final int length, final int p, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateBigInteger, BigDecimal> results = new TreeMap<PlateBigInteger, BigDecimal>();
         
-        for(PlateBigInteger plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+        List<BigDecimal> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateBigInteger, BigDecimal>() {
+            public BigDecimal apply(PlateBigInteger plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : plate) {
+                    aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : array) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -370,15 +457,23 @@ public abstract class QuantileStatisticBigIntegerContext {
      * @param    MathContext          the math context
      * @return                        map of wells and results
      */
-    public Map<WellBigInteger, BigDecimal> set(WellSetBigInteger set, int p, MathContext mc) {
+    public Map<WellBigInteger, BigDecimal> set(WellSetBigInteger set, final int p, final MathContext mc) {
     	
         Preconditions.checkNotNull(set, "The set cannot be null.");
     	
     	Map<WellBigInteger, BigDecimal> result = new TreeMap<WellBigInteger, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellBigInteger well) {
+                return well(well, p, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : set) {
             WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone, well(well, p, mc));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -395,15 +490,23 @@ public abstract class QuantileStatisticBigIntegerContext {
      * @param    MathContext          the math context
      * @return                        map of wells and results
      */
-    public Map<WellBigInteger, BigDecimal> set(WellSetBigInteger set, int begin, int length, int p, MathContext mc) {
+    public Map<WellBigInteger, BigDecimal> set(WellSetBigInteger set, final int begin, final int length, final int p, final MathContext mc) {
         
     	Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellBigInteger, BigDecimal> result = new TreeMap<WellBigInteger, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellBigInteger well) {
+                return well(well, begin, length, p, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : set) {
-        	WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone,  well(well, begin, length, p, mc));
+            WellBigInteger clone = new WellBigInteger(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -440,23 +543,29 @@ public abstract class QuantileStatisticBigIntegerContext {
      * @param    MathContext                      the math context
      * @return                                    map of well sets and aggregated results
      */
-    public Map<WellSetBigInteger, BigDecimal> setsAggregated(Collection<WellSetBigInteger> collection, int p, MathContext mc) {
+    public Map<WellSetBigInteger, BigDecimal> setsAggregated(Collection<WellSetBigInteger> collection, final int p, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
 
         Map<WellSetBigInteger, BigDecimal> results = new TreeMap<WellSetBigInteger, BigDecimal>();
         
-        for(WellSetBigInteger set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-                aggregated.addAll(well.toBigDecimal());
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellSetBigInteger set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : set) {
+                    aggregated.addAll(well.toBigDecimal());
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : collection) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -469,23 +578,29 @@ public abstract class QuantileStatisticBigIntegerContext {
      * @param    MathContext            the math context
      * @return                          map of well sets and aggregated results
      */
-    public Map<WellSetBigInteger, BigDecimal> setsAggregated(WellSetBigInteger[] array, int p, MathContext mc) {
+    public Map<WellSetBigInteger, BigDecimal> setsAggregated(WellSetBigInteger[] array, final int p, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
 
         Map<WellSetBigInteger, BigDecimal> results = new TreeMap<WellSetBigInteger, BigDecimal>();
         
-        for(WellSetBigInteger set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-                aggregated.addAll(well.toBigDecimal());
+        List<BigDecimal> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellSetBigInteger set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : set) {
+                    aggregated.addAll(well.toBigDecimal());
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : array) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -527,23 +642,29 @@ public abstract class QuantileStatisticBigIntegerContext {
      * @return                                    map of well sets and aggregated results
      */
     public Map<WellSetBigInteger, BigDecimal> setsAggregated(
-            Collection<WellSetBigInteger> collection, int begin, int length, int p, MathContext mc) {
+            Collection<WellSetBigInteger> collection, final int begin, final int length, final int p, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetBigInteger, BigDecimal> results = new TreeMap<WellSetBigInteger, BigDecimal>();
         
-        for(WellSetBigInteger set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellSetBigInteger set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : set) {
+                    aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : collection) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -561,27 +682,286 @@ public abstract class QuantileStatisticBigIntegerContext {
      * @return                          map of well sets and aggregated results
      */
     public Map<WellSetBigInteger, BigDecimal> setsAggregated(
-            WellSetBigInteger[] array, int begin, int length, int p, MathContext mc) {
+            WellSetBigInteger[] array, final int begin, final int length, final int p, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetBigInteger, BigDecimal> results = new TreeMap<WellSetBigInteger, BigDecimal>();
         
+        List<BigDecimal> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellSetBigInteger set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : set) {
+                    aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, p, mc);
+            }
+        });
+
+        int index = 0;
+
         for(WellSetBigInteger set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+            results.put(new WellSetBigInteger(set), values.get(index++));
+        }
+        
+        return results;
+        
+    }
+    
+    /* ------------------------- Stack statistics --------------------------  */
+    
+    /**
+     * Returns the statistic for each well of each plate in the stack. The plates 
+     * are processed in parallel when a pool is set.
+     * @param    StackBigInteger    the stack
+     * @param    int                the integer value
+     * @param    MathContext        the math context
+     * @return                      map of plates and well results
+     */
+    public Map<PlateBigInteger, Map<WellBigInteger, BigDecimal>> stack(StackBigInteger stack, final int p, final MathContext mc) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        
+        Map<PlateBigInteger, Map<WellBigInteger, BigDecimal>> results = new TreeMap<PlateBigInteger, Map<WellBigInteger, BigDecimal>>();
+        
+        List<Map<WellBigInteger, BigDecimal>> values = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateBigInteger, Map<WellBigInteger, BigDecimal>>() {
+            public Map<WellBigInteger, BigDecimal> apply(PlateBigInteger plate) {
+                return plate(plate, p, mc);
             }
-      
-            results.put(clone, calculate(aggregated, p, mc));
+        });
+        
+        int index = 0;
+        
+        for(PlateBigInteger plate : stack) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Returns the statistic for each well of each plate in the stack using the 
+     * values between the indices. The plates are processed in parallel when a 
+     * pool is set.
+     * @param    StackBigInteger    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset
+     * @param    int                the integer value
+     * @param    MathContext        the math context
+     * @return                      map of plates and well results
+     */
+    public Map<PlateBigInteger, Map<WellBigInteger, BigDecimal>> stack(StackBigInteger stack, final int begin, final int length, final int p, final MathContext mc) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
         
+        Map<PlateBigInteger, Map<WellBigInteger, BigDecimal>> results = new TreeMap<PlateBigInteger, Map<WellBigInteger, BigDecimal>>();
+        
+        List<Map<WellBigInteger, BigDecimal>> values = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateBigInteger, Map<WellBigInteger, BigDecimal>>() {
+            public Map<WellBigInteger, BigDecimal> apply(PlateBigInteger plate) {
+                return plate(plate, begin, length, p, mc);
+            }
+        });
+        
+        int index = 0;
+        
+        for(PlateBigInteger plate : stack) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
+    }
+    
+    /* ------------- Well statistics across the plates of a stack ----------  */
+    
+    /**
+     * Returns the statistic for each well position using the values of the well 
+     * in every plate of the stack. For example, the median of well A1 across the 
+     * replicate plates. The stack is read in a single sweep and the results are
+     * mapped to wells holding the values of each position.
+     * @param    StackBigInteger    the stack
+     * @param    int                the integer value
+     * @param    MathContext        the math context
+     * @return                      map of wells and results
+     */
+    public Map<WellBigInteger, BigDecimal> stackWells(StackBigInteger stack, final int p, final MathContext mc) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        
+        Collection<WellBigInteger> positions = this.positions(stack, 0, -1);
+        
+        Map<WellBigInteger, BigDecimal> results = new TreeMap<WellBigInteger, BigDecimal>();
+        
+        List<BigDecimal> values = ParallelUtil.map(this.pool, positions, new ParallelUtil.Task<WellBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellBigInteger well) {
+                return well(well, p, mc);
+            }
+        });
+        
+        int index = 0;
         
+        for(WellBigInteger well : positions) {
+            results.put(well, values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Returns the statistic for each well position using the values between the
+     * indices of the well in every plate of the stack.
+     * @param    StackBigInteger    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset
+     * @param    int                the integer value
+     * @param    MathContext        the math context
+     * @return                      map of wells and results
+     */
+    public Map<WellBigInteger, BigDecimal> stackWells(StackBigInteger stack, int begin, int length, final int p, final MathContext mc) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        Preconditions.checkArgument(begin >= 0 && length >= 0, "Invalid subset.");
+        
+        Collection<WellBigInteger> positions = this.positions(stack, begin, length);
+        
+        Map<WellBigInteger, BigDecimal> results = new TreeMap<WellBigInteger, BigDecimal>();
+        
+        List<BigDecimal> values = ParallelUtil.map(this.pool, positions, new ParallelUtil.Task<WellBigInteger, BigDecimal>() {
+            public BigDecimal apply(WellBigInteger well) {
+                return well(well, p, mc);
+            }
+        });
+        
+        int index = 0;
+        
+        for(WellBigInteger well : positions) {
+            results.put(well, values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /* --------------------- Aggregated stack statistics -------------------  */
+    
+    /**
+     * Returns the aggregated statistic for the stack.
+     * @param    StackBigInteger    the stack
+     * @param    int                the integer value
+     * @param    MathContext        the math context
+     * @return                      the aggregated result
+     */
+    public BigDecimal stacksAggregated(StackBigInteger stack, int p, MathContext mc) {
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        return calculate(this.aggregated(stack, 0, -1), p, mc);
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack. The stacks are processed
+     * in parallel when a pool is set.
+     * @param    Collection<StackBigInteger>    collection of stacks
+     * @param    int                            the integer value
+     * @param    MathContext                    the math context
+     * @return                                  map of stacks and aggregated results
+     */
+    public Map<StackBigInteger, BigDecimal> stacksAggregated(Collection<StackBigInteger> collection, final int p, final MathContext mc) {
+        
+        Preconditions.checkNotNull(collection, "The stack collection cannot be null.");
+        
+        Map<StackBigInteger, BigDecimal> results = new LinkedHashMap<StackBigInteger, BigDecimal>();
+        
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<StackBigInteger, BigDecimal>() {
+            public BigDecimal apply(StackBigInteger stack) {
+                return calculate(aggregated(stack, 0, -1), p, mc);
+            }
+        });
+        
+        int index = 0;
+        
+        for(StackBigInteger stack : collection) {
+            results.put(new StackBigInteger(stack), values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack. The stacks are processed
+     * in parallel when a pool is set.
+     * @param    StackBigInteger[]    array of stacks
+     * @param    int                  the integer value
+     * @param    MathContext          the math context
+     * @return                        map of stacks and aggregated results
+     */
+    public Map<StackBigInteger, BigDecimal> stacksAggregated(StackBigInteger[] array, int p, MathContext mc) {
+        Preconditions.checkNotNull(array, "The stack array cannot be null.");
+        return this.stacksAggregated(Arrays.asList(array), p, mc);
+    }
+    
+    /**
+     * Returns the aggregated statistic for the stack using the values between 
+     * the indices.
+     * @param    StackBigInteger    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset
+     * @param    int                the integer value
+     * @param    MathContext        the math context
+     * @return                      the aggregated result
+     */
+    public BigDecimal stacksAggregated(StackBigInteger stack, int begin, int length, int p, MathContext mc) {
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        Preconditions.checkArgument(begin >= 0 && length >= 0, "Invalid subset.");
+        return calculate(this.aggregated(stack, begin, length), p, mc);
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack using the values between 
+     * the indices. The stacks are processed in parallel when a pool is set.
+     * @param    Collection<StackBigInteger>    collection of stacks
+     * @param    int                            beginning index of subset
+     * @param    int                            length of subset
+     * @param    int                            the integer value
+     * @param    MathContext                    the math context
+     * @return                                  map of stacks and aggregated results
+     */
+    public Map<StackBigInteger, BigDecimal> stacksAggregated(
+            Collection<StackBigInteger> collection, final int begin, final int length, final int p, final MathContext mc) {
+        
+        Preconditions.checkNotNull(collection, "The stack collection cannot be null.");
+        Preconditions.checkArgument(begin >= 0 && length >= 0, "Invalid subset.");
+        
+        Map<StackBigInteger, BigDecimal> results = new LinkedHashMap<StackBigInteger, BigDecimal>();
+        
+        List<BigDecimal> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<StackBigInteger, BigDecimal>() {
+            public BigDecimal apply(StackBigInteger stack) {
+                return calculate(aggregated(stack, begin, length), p, mc);
+            }
+        });
+        
+        int index = 0;
+        
+        for(StackBigInteger stack : collection) {
+            results.put(new StackBigInteger(stack), values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack using the values between 
+     * the indices. The stacks are processed in parallel when a pool is set.
+     * @param    StackBigInteger[]    array of stacks
+     * @param    int                  beginning index of subset
+     * @param    int                  length of subset
+     * @param    int                  the integer value
+     * @param    MathContext          the math context
+     * @return                        map of stacks and aggregated results
+     */
+    public Map<StackBigInteger, BigDecimal> stacksAggregated(
+            StackBigInteger[] array, int begin, int length, int p, MathContext mc) {
+        Preconditions.checkNotNull(array, "The stack array cannot be null.");
+        return this.stacksAggregated(Arrays.asList(array), begin, length, p, mc);
     }
     
     /* --------------------------- Well statistics -------------------------  */
@@ -640,4 +1020,59 @@ public abstract class QuantileStatisticBigIntegerContext {
      * @return                       the result
      */
     public abstract BigDecimal calculate(List<BigDecimal> list, int begin, int length, int p, MathContext mc);
+    
+    /* ---------------------- Stack sweep helpers --------------------------  */
+    
+    /**
+     * Returns the values of every well in the stack. A negative length adds all 
+     * the values of each well.
+     * @param    StackBigInteger    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset or -1
+     * @return                      the values
+     */
+    private List<BigDecimal> aggregated(StackBigInteger stack, int begin, int length) {
+        
+        List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+        
+        for(PlateBigInteger plate : stack) {
+            for(WellBigInteger well : plate) {
+                aggregated.addAll(length < 0 ? well.toBigDecimal() : well.toBigDecimal().subList(begin, begin + length));
+            }
+        }
+        
+        return aggregated;
+    }
+    
+    /**
+     * Sweeps the stack once and returns a well for each well position holding 
+     * the values of the position from every plate. A negative length adds all
+     * the values of each well.
+     * @param    StackBigInteger    the stack
+     * @param    int                beginning index of subset
+     * @param    int                length of subset or -1
+     * @return                      the wells in row and column order
+     */
+    private Collection<WellBigInteger> positions(StackBigInteger stack, int begin, int length) {
+        
+        Map<WellBigInteger, WellBigInteger> positions = new TreeMap<WellBigInteger, WellBigInteger>();
+        
+        for(PlateBigInteger plate : stack) {
+            
+            for(WellBigInteger well : plate) {
+                
+                WellBigInteger position = positions.get(well);
+                
+                if(position == null) {
+                    position = new WellBigInteger(well.row(), well.column());
+                    positions.put(position, position);
+                }
+                
+                position.add(length < 0 ? well.data() : well.data().subList(begin, begin + length));
+            }
+        }
+        
+        return positions.values();
+    }
+    
 }
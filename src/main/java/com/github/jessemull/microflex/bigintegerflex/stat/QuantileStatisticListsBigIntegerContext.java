@@ -30,12 +30,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
 import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs statistical operations for BigInteger plate stacks, plates, 
@@ -138,7 +140,49 @@ import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
  * @email hello@jessemull.com
  */
 public abstract class QuantileStatisticListsBigIntegerContext {
+
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private ForkJoinPool pool;    // Pool for parallel execution or null
+    
+    /* ------------------------- Parallel Execution ------------------------- */
+    
+    /**
+     * Sets the fork join pool used to calculate the statistic for the wells, 
+     * plates and sets in parallel. Results are merged in the same order used 
+     * by sequential execution. A null pool restores sequential execution.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    
+    /**
+     * Returns the fork join pool used for parallel execution or null if the 
+     * statistic is calculated sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+    
+    /**
+     * Enables parallel execution using the shared default pool or restores 
+     * sequential execution.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
     
+    /**
+     * Returns true if the statistic is calculated in parallel.
+     * @return    true if parallel execution is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+        
     /* ---------------- Well statistics for all plate wells ----------------- */
     
     /**
@@ -148,15 +192,23 @@ public abstract class QuantileStatisticListsBigIntegerContext {
      * @param    MathContext        the math context
      * @return                      map of wells and results
      */
-    public Map<WellBigInteger, List<List<BigDecimal>>> plate(PlateBigInteger plate, List<BigDecimal> list, MathContext mc) {
+    public Map<WellBigInteger, List<List<BigDecimal>>> plate(PlateBigInteger plate, final List<BigDecimal> list, final MathContext mc) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellBigInteger, List<List<BigDecimal>>> result = new TreeMap<WellBigInteger, List<List<BigDecimal>>>();
         
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigInteger, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(WellBigInteger well) {
+                return well(well, list, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : plate) {
             WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone, well(well, list, mc));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -173,15 +225,23 @@ public abstract class QuantileStatisticListsBigIntegerContext {
      * @param    MathContext        the math context
      * @return                      map of wells and results   
      */
-    public Map<WellBigInteger, List<List<BigDecimal>>> plate(PlateBigInteger plate, int begin, int length, List<BigDecimal> list, MathContext mc) {
+    public Map<WellBigInteger, List<List<BigDecimal>>> plate(PlateBigInteger plate, final int begin, final int length, final List<BigDecimal> list, final MathContext mc) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellBigInteger, List<List<BigDecimal>>> result = new TreeMap<WellBigInteger, List<List<BigDecimal>>>();
         
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellBigInteger, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(WellBigInteger well) {
+                return well(well, begin, length, list, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : plate) {
             WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone, well(well, begin, length, list, mc));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -218,23 +278,29 @@ public abstract class QuantileStatisticListsBigIntegerContext {
      * @param    MathContext                    the math context
      * @return                                  map of plates and aggregated results
      */
-    public Map<PlateBigInteger, List<List<BigDecimal>>> platesAggregated(Collection<PlateBigInteger> collection, List<BigDecimal> list, MathContext mc) {
+    public Map<PlateBigInteger, List<List<BigDecimal>>> platesAggregated(Collection<PlateBigInteger> collection, final List<BigDecimal> list, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
 
         Map<PlateBigInteger, List<List<BigDecimal>>> results = new TreeMap<PlateBigInteger, List<List<BigDecimal>>>();
         
-        for(PlateBigInteger plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-                aggregated.addAll(well.toBigDecimal());
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateBigInteger, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(PlateBigInteger plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : plate) {
+                    aggregated.addAll(well.toBigDecimal());
+                }
+
+                return calculate(aggregated, list, mc);
             }
-      
-            results.put(clone, calculate(aggregated, list, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : collection) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -247,23 +313,29 @@ public abstract class QuantileStatisticListsBigIntegerContext {
      * @param    MathContext          the math context
      * @return                        map of plates and aggregated result
      */
-    public Map<PlateBigInteger, List<List<BigDecimal>>> platesAggregated(PlateBigInteger[] array, List<BigDecimal> list, MathContext mc) {
+    public Map<PlateBigInteger, List<List<BigDecimal>>> platesAggregated(PlateBigInteger[] array, final List<BigDecimal> list, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
 
         Map<PlateBigInteger, List<List<BigDecimal>>> results = new TreeMap<PlateBigInteger, List<List<BigDecimal>>>();
         
-        for(PlateBigInteger plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-                aggregated.addAll(well.toBigDecimal());
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateBigInteger, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(PlateBigInteger plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : plate) {
+                    aggregated.addAll(well.toBigDecimal());
+                }
+
+                return calculate(aggregated, list, mc);
             }
-      
-            results.put(clone, calculate(aggregated, list, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : array) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -305,23 +377,29 @@ public abstract class QuantileStatisticListsBigIntegerContext {
      * @return                                  map of plates and aggregated results
      */
     public Map<PlateBigInteger, List<List<BigDecimal>>> platesAggregated(
-            Collection<PlateBigInteger> collection, int begin, int length, List<BigDecimal> list, MathContext mc) {
+            Collection<PlateBigInteger> collection, final int begin, final int length, final List<BigDecimal> list, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateBigInteger, List<List<BigDecimal>>> results = new TreeMap<PlateBigInteger, List<List<BigDecimal>>>();
         
-        for(PlateBigInteger plate : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateBigInteger, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(PlateBigInteger plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : plate) {
+                    aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, list, mc);
             }
-      
-            results.put(clone, calculate(aggregated, list, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : collection) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -339,23 +417,29 @@ public abstract class QuantileStatisticListsBigIntegerContext {
      * @return                        map of plates and aggregated results
      */
     public Map<PlateBigInteger, List<List<BigDecimal>>> platesAggregated(
-            PlateBigInteger[] array, int begin, int length, List<BigDecimal> list, MathContext mc) {
+            PlateBigInteger[] array, final int begin, final int length, final List<BigDecimal> list, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateBigInteger, List<List<BigDecimal>>> results = new TreeMap<PlateBigInteger, List<List<BigDecimal>>>();
         
-        for(PlateBigInteger plate : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            PlateBigInteger clone = new PlateBigInteger(plate);
-            
-            for (WellBigInteger well : plate) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateBigInteger, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(PlateBigInteger plate) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : plate) {
+                    aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, list, mc);
             }
-      
-            results.put(clone, calculate(aggregated, list, mc));
-        
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : array) {
+            results.put(new PlateBigInteger(plate), values.get(index++));
         }
         
         return results;
@@ -371,15 +455,23 @@ public abstract class QuantileStatisticListsBigIntegerContext {
      * @param    MathContext          the math context
      * @return                        map of wells and results
      */
-    public Map<WellBigInteger, List<List<BigDecimal>>> set(WellSetBigInteger set, List<BigDecimal> list, MathContext mc) {
+    public Map<WellBigInteger, List<List<BigDecimal>>> set(WellSetBigInteger set, final List<BigDecimal> list, final MathContext mc) {
     	
         Preconditions.checkNotNull(set, "The set cannot be null.");
     	
     	Map<WellBigInteger, List<List<BigDecimal>>> result = new TreeMap<WellBigInteger, List<List<BigDecimal>>>();
         
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigInteger, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(WellBigInteger well) {
+                return well(well, list, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : set) {
             WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone, well(well, list, mc));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -396,15 +488,23 @@ public abstract class QuantileStatisticListsBigIntegerContext {
      * @param    MathContext          the math context
      * @return                        map of wells and results
      */
-    public Map<WellBigInteger, List<List<BigDecimal>>> set(WellSetBigInteger set, int begin, int length, List<BigDecimal> list, MathContext mc) {
+    public Map<WellBigInteger, List<List<BigDecimal>>> set(WellSetBigInteger set, final int begin, final int length, final List<BigDecimal> list, final MathContext mc) {
         
     	Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellBigInteger, List<List<BigDecimal>>> result = new TreeMap<WellBigInteger, List<List<BigDecimal>>>();
         
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellBigInteger, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(WellBigInteger well) {
+                return well(well, begin, length, list, mc);
+            }
+        });
+
+        int index = 0;
+
         for (WellBigInteger well : set) {
-        	WellBigInteger clone = new WellBigInteger(well);
-            result.put(clone,  well(well, begin, length, list, mc));
+            WellBigInteger clone = new WellBigInteger(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -441,23 +541,29 @@ public abstract class QuantileStatisticListsBigIntegerContext {
      * @param    MathContext                      the math context
      * @return                                    map of well sets and aggregated results
      */
-    public Map<WellSetBigInteger, List<List<BigDecimal>>> setsAggregated(Collection<WellSetBigInteger> collection, List<BigDecimal> list, MathContext mc) {
+    public Map<WellSetBigInteger, List<List<BigDecimal>>> setsAggregated(Collection<WellSetBigInteger> collection, final List<BigDecimal> list, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
 
         Map<WellSetBigInteger, List<List<BigDecimal>>> results = new TreeMap<WellSetBigInteger, List<List<BigDecimal>>>();
         
-        for(WellSetBigInteger set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-                aggregated.addAll(well.toBigDecimal());
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetBigInteger, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(WellSetBigInteger set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : set) {
+                    aggregated.addAll(well.toBigDecimal());
+                }
+
+                return calculate(aggregated, list, mc);
             }
-      
-            results.put(clone, calculate(aggregated, list, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : collection) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -470,23 +576,29 @@ public abstract class QuantileStatisticListsBigIntegerContext {
      * @param    MathContext            the math context
      * @return                          map of well sets and aggregated results
      */
-    public Map<WellSetBigInteger, List<List<BigDecimal>>> setsAggregated(WellSetBigInteger[] array, List<BigDecimal> list, MathContext mc) {
+    public Map<WellSetBigInteger, List<List<BigDecimal>>> setsAggregated(WellSetBigInteger[] array, final List<BigDecimal> list, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
 
         Map<WellSetBigInteger, List<List<BigDecimal>>> results = new TreeMap<WellSetBigInteger, List<List<BigDecimal>>>();
         
-        for(WellSetBigInteger set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-                aggregated.addAll(well.toBigDecimal());
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetBigInteger, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(WellSetBigInteger set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : set) {
+                    aggregated.addAll(well.toBigDecimal());
+                }
+
+                return calculate(aggregated, list, mc);
             }
-      
-            results.put(clone, calculate(aggregated, list, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : array) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -528,23 +640,29 @@ public abstract class QuantileStatisticListsBigIntegerContext {
      * @return                                    map of well sets and aggregated results
      */
     public Map<WellSetBigInteger, List<List<BigDecimal>>> setsAggregated(
-            Collection<WellSetBigInteger> collection, int begin, int length, List<BigDecimal> list, MathContext mc) {
+            Collection<WellSetBigInteger> collection, final int begin, final int length, final List<BigDecimal> list, final MathContext mc) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetBigInteger, List<List<BigDecimal>>> results = new TreeMap<WellSetBigInteger, List<List<BigDecimal>>>();
         
-        for(WellSetBigInteger set : collection) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetBigInteger, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(WellSetBigInteger set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : set) {
+                    aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, list, mc);
             }
-      
-            results.put(clone, calculate(aggregated, list, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : collection) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -562,23 +680,29 @@ public abstract class QuantileStatisticListsBigIntegerContext {
      * @return                          map of well sets and aggregated results
      */
     public Map<WellSetBigInteger, List<List<BigDecimal>>> setsAggregated(
-            WellSetBigInteger[] array, int begin, int length, List<BigDecimal> list, MathContext mc) {
+            WellSetBigInteger[] array, final int begin, final int length, final List<BigDecimal> list, final MathContext mc) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetBigInteger, List<List<BigDecimal>>> results = new TreeMap<WellSetBigInteger, List<List<BigDecimal>>>();
         
-        for(WellSetBigInteger set : array) {
-            
-            List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
-            WellSetBigInteger clone = new WellSetBigInteger(set);
-            
-            for (WellBigInteger well : set) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+        List<List<List<BigDecimal>>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetBigInteger, List<List<BigDecimal>>>() {
+            public List<List<BigDecimal>> apply(WellSetBigInteger set) {
+
+                List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+
+                for (WellBigInteger well : set) {
+                    aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, list, mc);
             }
-      
-            results.put(clone, calculate(aggregated, list, mc));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : array) {
+            results.put(new WellSetBigInteger(set), values.get(index++));
         }
         
         return results;
@@ -146,5 +146,22 @@ public class RangeBigInteger extends DescriptiveStatisticBigInteger {
     public BigDecimal calculate(List<BigDecimal> list, int begin, int length) {
         return Collections.max(list.subList(begin, begin + length));            
     }
+    
+    /**
+     * Returns true. The range is calculated from a summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the range using a summary of the values.
+     * @param    SummaryBigInteger    the summary
+     * @return                       the result
+     */
+    public BigDecimal calculate(SummaryBigInteger summary) {
+        return new BigDecimal(summary.max().subtract(summary.min()));
+    }
 
 }
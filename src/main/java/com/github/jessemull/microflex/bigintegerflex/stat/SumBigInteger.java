@@ -199,4 +199,22 @@ public class SumBigInteger extends DescriptiveStatisticBigIntegerWeightsContext
     public BigDecimal calculate(List<BigDecimal> list, double[] weights, int begin, int length, MathContext mc) {
         return calculate(list.subList(begin, begin + length), weights, mc);
     }
+    
+    /**
+     * Returns true. The sum is calculated from a summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the sum using a summary of the values. The exact sum is rounded
+     * to the math context once.
+     * @param    SummaryBigInteger    the summary
+     * @return                       the result
+     */
+    public BigDecimal calculate(SummaryBigInteger summary) {
+        return new BigDecimal(summary.sum(), summary.mathContext());
+    }
 }
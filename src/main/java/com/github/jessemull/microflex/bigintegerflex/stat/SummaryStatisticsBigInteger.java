@@ -0,0 +1,460 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package -------------------------------- */
+
+package com.github.jessemull.microflex.bigintegerflex.stat;
+
+/* ----------------------------- Dependencies ------------------------------ */
+
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+
+import com.google.common.base.Preconditions;
+
+import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.StackBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
+import com.github.jessemull.microflex.util.ParallelUtil;
+
+/**
+ * This class calculates the moment based summary statistics for big integer plates,
+ * wells and well sets using a single pass over the values of each well. The
+ * count, sum, minimum, maximum, mean, variance, standard deviation, standard
+ * error, skewness and kurtosis are returned together in a summary object. The
+ * results are rounded using the math context.
+ * Calculating several statistics for each well with the summary statistics
+ * object is faster than using the individual statistic objects, which each
+ * traverse the well values.
+ *
+ * <br><br>
+ *
+ * Summaries can be calculated on plates, sets and wells using standard or
+ * aggregated functions. Standard functions calculate the summary for each well
+ * in the plate or set. Aggregated functions calculate a single summary using the
+ * values from all the wells in the plate, set or stack. The values are never 
+ * copied into an aggregated list. Stack summaries merge a partial summary for 
+ * each plate, and the plates, sets and stacks in collections and arrays are 
+ * summarized in parallel when a fork join pool is set.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class SummaryStatisticsBigInteger {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    private ForkJoinPool pool;    // Pool for parallel execution or null
+
+    /* ------------------------- Parallel Execution ------------------------- */
+
+    /**
+     * Sets the fork join pool used to calculate the summaries of the plates, 
+     * sets and stacks in parallel. The partial summaries are merged in the same
+     * order used by sequential execution. A null pool restores sequential 
+     * execution.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the fork join pool used for parallel execution or null if the 
+     * summaries are calculated sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+
+    /**
+     * Enables parallel execution using the shared default pool or restores 
+     * sequential execution.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
+
+    /**
+     * Returns true if the summaries are calculated in parallel.
+     * @return    true if parallel execution is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+
+    /* ---------------- Well summaries for all plate wells ------------------ */
+
+    /**
+     * Returns the summary for each plate well.
+     * @param    PlateBigInteger    the plate
+     * @param    MathContext        the math context
+     * @return                      map of wells and summaries
+     */
+    public Map<WellBigInteger, SummaryBigInteger> plate(PlateBigInteger plate, MathContext mc) {
+
+        Preconditions.checkNotNull(plate, "The plate value cannot be null.");
+
+        Map<WellBigInteger, SummaryBigInteger> result = new TreeMap<WellBigInteger, SummaryBigInteger>();
+
+        for (WellBigInteger well : plate) {
+            result.put(new WellBigInteger(well), well(well, mc));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the summary for each plate well using the values between the
+     * beginning and ending indices.
+     * @param    PlateBigInteger    the plate
+     * @param    int                beginning index of subset
+     * @param    int                length of subset
+     * @param    MathContext        the math context
+     * @return                      map of wells and summaries
+     */
+    public Map<WellBigInteger, SummaryBigInteger> plate(PlateBigInteger plate, int begin, int length, MathContext mc) {
+
+        Preconditions.checkNotNull(plate, "The plate value cannot be null.");
+
+        Map<WellBigInteger, SummaryBigInteger> result = new TreeMap<WellBigInteger, SummaryBigInteger>();
+
+        for (WellBigInteger well : plate) {
+            result.put(new WellBigInteger(well), well(well, begin, length, mc));
+        }
+
+        return result;
+    }
+
+    /* --------------------- Aggregated plate summaries --------------------- */
+
+    /**
+     * Returns the aggregated summary for the plate.
+     * @param    PlateBigInteger    the plate
+     * @param    MathContext        the math context
+     * @return                      the aggregated summary
+     */
+    public SummaryBigInteger platesAggregated(PlateBigInteger plate, MathContext mc) {
+
+        Preconditions.checkNotNull(plate, "The plate cannot be null.");
+
+        SummaryBigInteger summary = new SummaryBigInteger(mc);
+
+        for (WellBigInteger well : plate) {
+            for(BigInteger bi : well) {
+                summary.add(bi);
+            }
+        }
+
+        return summary;
+    }
+
+    /**
+     * Returns the aggregated summary for each plate. The plates are summarized
+     * in parallel when a pool is set.
+     * @param    Collection<PlateBigInteger>    collection of plates
+     * @param    MathContext                    the math context
+     * @return                                  map of plates and aggregated summaries
+     */
+    public Map<PlateBigInteger, SummaryBigInteger> platesAggregated(Collection<PlateBigInteger> collection, final MathContext mc) {
+
+        Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
+
+        Map<PlateBigInteger, SummaryBigInteger> results = new TreeMap<PlateBigInteger, SummaryBigInteger>();
+
+        List<SummaryBigInteger> summaries = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateBigInteger, SummaryBigInteger>() {
+            public SummaryBigInteger apply(PlateBigInteger plate) {
+                return platesAggregated(plate, mc);
+            }
+        });
+
+        int index = 0;
+
+        for(PlateBigInteger plate : collection) {
+            results.put(new PlateBigInteger(plate), summaries.get(index++));
+        }
+
+        return results;
+    }
+
+    /**
+     * Returns the aggregated summary for each plate. The plates are summarized
+     * in parallel when a pool is set.
+     * @param    PlateBigInteger[]    array of plates
+     * @param    MathContext          the math context
+     * @return                        map of plates and aggregated summaries
+     */
+    public Map<PlateBigInteger, SummaryBigInteger> platesAggregated(PlateBigInteger[] array, MathContext mc) {
+        Preconditions.checkNotNull(array, "The plate array cannot be null.");
+        return this.platesAggregated(Arrays.asList(array), mc);
+    }
+
+    /* ---------------- Well summaries for all wells in a set --------------- */
+
+    /**
+     * Returns the summary of each well in the well set.
+     * @param    WellSetBigInteger    the well set
+     * @param    MathContext          the math context
+     * @return                        map of wells and summaries
+     */
+    public Map<WellBigInteger, SummaryBigInteger> set(WellSetBigInteger set, MathContext mc) {
+
+        Preconditions.checkNotNull(set, "The set cannot be null.");
+
+        Map<WellBigInteger, SummaryBigInteger> result = new TreeMap<WellBigInteger, SummaryBigInteger>();
+
+        for (WellBigInteger well : set) {
+            result.put(new WellBigInteger(well), well(well, mc));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the summary of each well in the well set using the values between
+     * the beginning and ending indices.
+     * @param    WellSetBigInteger    the well set
+     * @param    int                  beginning index of subset
+     * @param    int                  length of subset
+     * @param    MathContext          the math context
+     * @return                        map of wells and summaries
+     */
+    public Map<WellBigInteger, SummaryBigInteger> set(WellSetBigInteger set, int begin, int length, MathContext mc) {
+
+        Preconditions.checkNotNull(set, "The well set cannot be null.");
+
+        Map<WellBigInteger, SummaryBigInteger> result = new TreeMap<WellBigInteger, SummaryBigInteger>();
+
+        for (WellBigInteger well : set) {
+            result.put(new WellBigInteger(well), well(well, begin, length, mc));
+        }
+
+        return result;
+    }
+
+    /* ---------------------- Aggregated set summaries ---------------------- */
+
+    /**
+     * Returns the aggregated summary for the well set.
+     * @param    WellSetBigInteger    the well set
+     * @param    MathContext          the math context
+     * @return                        the aggregated summary
+     */
+    public SummaryBigInteger setsAggregated(WellSetBigInteger set, MathContext mc) {
+
+        Preconditions.checkNotNull(set, "The well set cannot be null.");
+
+        SummaryBigInteger summary = new SummaryBigInteger(mc);
+
+        for (WellBigInteger well : set) {
+            for(BigInteger bi : well) {
+                summary.add(bi);
+            }
+        }
+
+        return summary;
+    }
+
+    /**
+     * Returns the aggregated summary for each well set. The sets are summarized
+     * in parallel when a pool is set.
+     * @param    Collection<WellSetBigInteger>    collection of well sets
+     * @param    MathContext                      the math context
+     * @return                                    map of well sets and aggregated summaries
+     */
+    public Map<WellSetBigInteger, SummaryBigInteger> setsAggregated(Collection<WellSetBigInteger> collection, final MathContext mc) {
+
+        Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
+
+        Map<WellSetBigInteger, SummaryBigInteger> results = new TreeMap<WellSetBigInteger, SummaryBigInteger>();
+
+        List<SummaryBigInteger> summaries = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetBigInteger, SummaryBigInteger>() {
+            public SummaryBigInteger apply(WellSetBigInteger set) {
+                return setsAggregated(set, mc);
+            }
+        });
+
+        int index = 0;
+
+        for(WellSetBigInteger set : collection) {
+            results.put(new WellSetBigInteger(set), summaries.get(index++));
+        }
+
+        return results;
+    }
+
+    /**
+     * Returns the aggregated summary for each well set. The sets are summarized
+     * in parallel when a pool is set.
+     * @param    WellSetBigInteger[]    array of well sets
+     * @param    MathContext            the math context
+     * @return                          map of well sets and aggregated summaries
+     */
+    public Map<WellSetBigInteger, SummaryBigInteger> setsAggregated(WellSetBigInteger[] array, MathContext mc) {
+        Preconditions.checkNotNull(array, "The well set array cannot be null.");
+        return this.setsAggregated(Arrays.asList(array), mc);
+    }
+
+    /* --------------------- Aggregated stack summaries --------------------- */
+
+    /**
+     * Returns the aggregated summary for the stack. A partial summary is
+     * calculated for each plate, in parallel when a pool is set, and the
+     * partial summaries are merged. The values are never copied into an 
+     * aggregated list.
+     * @param    StackBigInteger    the stack
+     * @param    MathContext        the math context
+     * @return                      the aggregated summary
+     */
+    public SummaryBigInteger stacksAggregated(StackBigInteger stack, final MathContext mc) {
+
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+
+        List<SummaryBigInteger> partials = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateBigInteger, SummaryBigInteger>() {
+            public SummaryBigInteger apply(PlateBigInteger plate) {
+                return platesAggregated(plate, mc);
+            }
+        });
+
+        SummaryBigInteger summary = new SummaryBigInteger(mc);
+
+        for(SummaryBigInteger partial : partials) {
+            summary.merge(partial);
+        }
+
+        return summary;
+    }
+
+    /**
+     * Returns the aggregated summary for each stack. The stacks are summarized
+     * in parallel when a pool is set.
+     * @param    Collection<StackBigInteger>    collection of stacks
+     * @param    MathContext                    the math context
+     * @return                                  map of stacks and aggregated summaries
+     */
+    public Map<StackBigInteger, SummaryBigInteger> stacksAggregated(Collection<StackBigInteger> collection, final MathContext mc) {
+
+        Preconditions.checkNotNull(collection, "The stack collection cannot be null.");
+
+        Map<StackBigInteger, SummaryBigInteger> results = new LinkedHashMap<StackBigInteger, SummaryBigInteger>();
+
+        List<SummaryBigInteger> summaries = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<StackBigInteger, SummaryBigInteger>() {
+            public SummaryBigInteger apply(StackBigInteger stack) {
+                return stacksAggregated(stack, mc);
+            }
+        });
+
+        int index = 0;
+
+        for(StackBigInteger stack : collection) {
+            results.put(new StackBigInteger(stack), summaries.get(index++));
+        }
+
+        return results;
+    }
+
+    /**
+     * Returns the aggregated summary for each stack. The stacks are summarized
+     * in parallel when a pool is set.
+     * @param    StackBigInteger[]    array of stacks
+     * @param    MathContext          the math context
+     * @return                        map of stacks and aggregated summaries
+     */
+    public Map<StackBigInteger, SummaryBigInteger> stacksAggregated(StackBigInteger[] array, MathContext mc) {
+        Preconditions.checkNotNull(array, "The stack array cannot be null.");
+        return this.stacksAggregated(Arrays.asList(array), mc);
+    }
+
+    /* --------------------------- Well summaries --------------------------- */
+
+    /**
+     * Returns the well summary.
+     * @param    WellBigInteger    the well
+     * @param    MathContext       the math context
+     * @return                     the summary
+     */
+    public SummaryBigInteger well(WellBigInteger well, MathContext mc) {
+        Preconditions.checkNotNull(well, "The well cannot be null.");
+        return calculate(well.data(), mc);
+    }
+
+    /**
+     * Returns the well summary for the values between the beginning and ending
+     * indices.
+     * @param    WellBigInteger    the well
+     * @param    int               beginning index of subset
+     * @param    int               length of the subset
+     * @param    MathContext       the math context
+     * @return                     the summary
+     */
+    public SummaryBigInteger well(WellBigInteger well, int begin, int length, MathContext mc) {
+        Preconditions.checkNotNull(well, "The well cannot be null.");
+        Preconditions.checkArgument(begin <= well.size() &&
+                                    begin >= 0 &&
+                                    begin + length <= well.size());
+        return calculate(well.data(), begin, length, mc);
+    }
+
+    /* --------- Methods for calculating the summary of a data set ---------- */
+
+    /**
+     * Calculates the summary.
+     * @param    List<BigInteger>    the list
+     * @param    MathContext         the math context
+     * @return                       the summary
+     */
+    public SummaryBigInteger calculate(List<BigInteger> list, MathContext mc) {
+
+        Preconditions.checkNotNull(list, "The list cannot be null.");
+        Preconditions.checkNotNull(mc, "The math context cannot be null.");
+
+        SummaryBigInteger summary = new SummaryBigInteger(mc);
+
+        for(BigInteger bi : list) {
+            summary.add(bi);
+        }
+
+        return summary;
+    }
+
+    /**
+     * Calculates the summary of the values between the beginning and ending indices.
+     * @param    List<BigInteger>    the list
+     * @param    int                 beginning index of subset
+     * @param    int                 length of subset
+     * @param    MathContext         the math context
+     * @return                       the summary
+     */
+    public SummaryBigInteger calculate(List<BigInteger> list, int begin, int length, MathContext mc) {
+        return calculate(list.subList(begin, begin + length), mc);
+    }
+
+}
@@ -0,0 +1,419 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/*--------------------------- Package Declaration ----------------------------*/
+
+package com.github.jessemull.microflex.doubleflex.io;
+
+/*------------------------------- Dependencies -------------------------------*/
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+
+import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
+import com.github.jessemull.microflex.doubleflex.plate.StackDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
+
+/**
+ * Writes plates and stacks to a compact, versioned binary file that can be read
+ * with random access by the binary reader. The values of each well are stored
+ * as primitive doubles and no text is formatted or parsed. Plates are written
+ * one at a time, so a stack does not need to be held in memory to be written.
+ *
+ * <br><br>
+ *
+ * All numbers are big endian. Strings are stored as the length of the UTF-8
+ * encoding followed by the encoded bytes, with a length of -1 for null. The file
+ * is laid out as follows:
+ *
+ * <table cellspacing="5px" style="text-align:left; margin: 20px;">
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px;">Section<div></th>
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px;">Contents<div></th>
+ *    <tr>
+ *       <td>Header</td>
+ *       <td>magic number, version, value type, reserved byte, rows, columns, stack label</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Plate Blocks</td>
+ *       <td>label, rows, columns, group count, groups, well count, well index, values</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Plate Index</td>
+ *       <td>the offset of each plate block from the start of the file</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Trailer</td>
+ *       <td>plate count, plate index offset, magic number</td>
+ *    </tr>
+ * </table>
+ *
+ * Each group is stored as a label, a size and the row and column of each well.
+ * Each well index entry holds the row, column, number of values and the offset of
+ * the values from the start of the plate block. Entries are sorted by row and
+ * column. The plate index and trailer are written when the writer is closed.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class BinaryWriterDouble implements Closeable {
+
+    /*--------------------------- Package Fields -----------------------------*/
+
+    /* File format constants shared with the binary reader */
+
+    static final int MAGIC = 0x4D464C58;    // The magic number "MFLX"
+    static final short VERSION = 1;         // The format version
+    static final byte TYPE = 1;             // The value type
+    static final int HEADER = 20;           // Fixed header length in bytes
+    static final int ENTRY = 16;            // Well index entry length in bytes
+    static final int TRAILER = 16;          // Trailer length in bytes
+
+    /*---------------------------- Private Fields ----------------------------*/
+
+    private FileChannel channel;                           // The file channel
+    private int rows;                                      // Number of plate rows
+    private int columns;                                   // Number of plate columns
+    private long position;                                 // Bytes written
+    private List<Long> offsets = new ArrayList<Long>();    // Plate block offsets
+    private boolean closed;                                // The file is complete
+
+    /*----------------------------- Constructors -----------------------------*/
+
+    /**
+     * Creates a binary writer for plates with the given dimensions and writes
+     * the file header.
+     * @param    File      the file
+     * @param    int       the number of plate rows
+     * @param    int       the number of plate columns
+     * @param    String    the stack label
+     * @throws   IOException
+     */
+    public BinaryWriterDouble(File file, int rows, int columns, String label) throws IOException {
+
+        Preconditions.checkNotNull(file, "The file cannot be null.");
+        Preconditions.checkArgument(rows > 0, "The number of rows must be positive.");
+        Preconditions.checkArgument(columns > 0, "The number of columns must be positive.");
+
+        this.rows = rows;
+        this.columns = columns;
+        this.channel = new FileOutputStream(file).getChannel();
+
+        byte[] bytes = encode(label);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER + length(bytes));
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.put(TYPE);
+        buffer.put((byte) 0);
+        buffer.putInt(rows);
+        buffer.putInt(columns);
+        put(buffer, bytes);
+
+        this.write(buffer);
+    }
+
+    /**
+     * Creates a binary writer for plates with the given dimensions and writes
+     * the file header.
+     * @param    String    the file name
+     * @param    int       the number of plate rows
+     * @param    int       the number of plate columns
+     * @param    String    the stack label
+     * @throws   IOException
+     */
+    public BinaryWriterDouble(String fileName, int rows, int columns, String label) throws IOException {
+        this(new File(fileName), rows, columns, label);
+    }
+
+    /*---------------------------- Static Methods ----------------------------*/
+
+    /**
+     * Writes the stack to the file.
+     * @param    File           the file
+     * @param    StackDouble    the stack
+     * @throws   IOException
+     */
+    public static void write(File file, StackDouble stack) throws IOException {
+
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+
+        BinaryWriterDouble writer = new BinaryWriterDouble(file, stack.rows(), stack.columns(), stack.label());
+
+        try {
+            writer.writeStack(stack);
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Writes the plate to the file. The plate label is used as the stack label.
+     * @param    File           the file
+     * @param    PlateDouble    the plate
+     * @throws   IOException
+     */
+    public static void write(File file, PlateDouble plate) throws IOException {
+
+        Preconditions.checkNotNull(plate, "The plate cannot be null.");
+
+        BinaryWriterDouble writer = new BinaryWriterDouble(file, plate.rows(), plate.columns(), plate.label());
+
+        try {
+            writer.writePlate(plate);
+        } finally {
+            writer.close();
+        }
+    }
+
+    /*---------------------------- Writer Methods ----------------------------*/
+
+    /**
+     * Returns the number of plates written.
+     * @return    the number of plates
+     */
+    public int size() {
+        return this.offsets.size();
+    }
+
+    /**
+     * Writes the plate block.
+     * @param    PlateDouble    the plate
+     * @throws   IOException
+     */
+    public void writePlate(PlateDouble plate) throws IOException {
+
+        Preconditions.checkNotNull(plate, "The plate cannot be null.");
+        Preconditions.checkArgument(plate.rows() == this.rows && plate.columns() == this.columns,
+                "The plate dimensions must match the file dimensions.");
+
+        if(this.closed) {
+            throw new IllegalStateException("The binary file is complete.");
+        }
+
+        byte[] label = encode(plate.label());
+        Set<WellSetDouble> groups = plate.allGroups();
+        List<byte[]> groupLabels = new ArrayList<byte[]>();
+
+        /* Calculates the block length and the start of the values */
+
+        long length = length(label) + 12;
+
+        for(WellSetDouble group : groups) {
+            byte[] bytes = encode(group.label());
+            groupLabels.add(bytes);
+            length += length(bytes) + 4 + 8L * group.size();
+        }
+
+        length += 4 + (long) ENTRY * plate.size();
+
+        long values = length;
+
+        for(WellDouble well : plate) {
+            length += 8L * well.size();
+        }
+
+        Preconditions.checkArgument(length <= Integer.MAX_VALUE,
+                "The plate is too large for a binary plate block.");
+
+        /* Writes the block */
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) length);
+
+        put(buffer, label);
+        buffer.putInt(plate.rows());
+        buffer.putInt(plate.columns());
+        buffer.putInt(groups.size());
+
+        int index = 0;
+
+        for(WellSetDouble group : groups) {
+
+            put(buffer, groupLabels.get(index++));
+            buffer.putInt(group.size());
+
+            for(WellDouble well : group) {
+                buffer.putInt(well.row());
+                buffer.putInt(well.column());
+            }
+        }
+
+        buffer.putInt(plate.size());
+
+        int offset = (int) values;
+
+        for(WellDouble well : plate) {
+            buffer.putInt(well.row());
+            buffer.putInt(well.column());
+            buffer.putInt(well.size());
+            buffer.putInt(offset);
+            offset += 8 * well.size();
+        }
+
+        for(WellDouble well : plate) {
+
+            double[] data = well.dataArray();
+            int start = well.dataOffset();
+            int end = start + well.dataLength();
+
+            for(int i = start; i < end; i++) {
+                buffer.putDouble(data[i]);
+            }
+        }
+
+        this.offsets.add(this.position);
+        this.write(buffer);
+    }
+
+    /**
+     * Writes each plate in the collection.
+     * @param    Collection<PlateDouble>    the plates
+     * @throws   IOException
+     */
+    public void writePlates(Collection<PlateDouble> plates) throws IOException {
+
+        Preconditions.checkNotNull(plates, "The plate collection cannot be null.");
+
+        for(PlateDouble plate : plates) {
+            this.writePlate(plate);
+        }
+    }
+
+    /**
+     * Writes each plate in the array.
+     * @param    PlateDouble[]    the plates
+     * @throws   IOException
+     */
+    public void writePlates(PlateDouble[] plates) throws IOException {
+        Preconditions.checkNotNull(plates, "The plate array cannot be null.");
+        this.writePlates(Arrays.asList(plates));
+    }
+
+    /**
+     * Writes each plate in the stack.
+     * @param    StackDouble    the stack
+     * @throws   IOException
+     */
+    public void writeStack(StackDouble stack) throws IOException {
+
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+
+        for(PlateDouble plate : stack) {
+            this.writePlate(plate);
+        }
+    }
+
+    /**
+     * Writes the plate index and the trailer and closes the file.
+     * @throws    IOException
+     */
+    public void close() throws IOException {
+
+        if(this.closed) {
+            return;
+        }
+
+        this.closed = true;
+
+        try {
+
+            long index = this.position;
+
+            ByteBuffer buffer = ByteBuffer.allocate(8 * this.offsets.size() + TRAILER);
+
+            for(Long offset : this.offsets) {
+                buffer.putLong(offset);
+            }
+
+            buffer.putInt(this.offsets.size());
+            buffer.putLong(index);
+            buffer.putInt(MAGIC);
+
+            this.write(buffer);
+
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    /*---------------------------- Private Methods ---------------------------*/
+
+    /**
+     * Writes the buffer to the channel.
+     * @param    ByteBuffer    the buffer
+     * @throws   IOException
+     */
+    private void write(ByteBuffer buffer) throws IOException {
+
+        buffer.flip();
+
+        while(buffer.hasRemaining()) {
+            this.position += this.channel.write(buffer);
+        }
+    }
+
+    /**
+     * Returns the UTF-8 encoding of the string or null.
+     * @param    String    the string
+     * @return             the encoded string
+     */
+    private static byte[] encode(String string) {
+        return string == null ? null : string.getBytes(Charsets.UTF_8);
+    }
+
+    /**
+     * Returns the number of bytes used to store the encoded string.
+     * @param    byte[]    the encoded string
+     * @return             the number of bytes
+     */
+    private static int length(byte[] bytes) {
+        return 4 + (bytes == null ? 0 : bytes.length);
+    }
+
+    /**
+     * Stores the length of the encoded string followed by the bytes.
+     * @param    ByteBuffer    the buffer
+     * @param    byte[]        the encoded string
+     */
+    private static void put(ByteBuffer buffer, byte[] bytes) {
+
+        if(bytes == null) {
+            buffer.putInt(-1);
+            return;
+        }
+
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+}
@@ -36,19 +36,21 @@ import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.TransformerException;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
 import com.github.jessemull.microflex.doubleflex.plate.StackDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
+import com.github.jessemull.microflex.doubleflex.stat.PlateResultDouble;
+import com.github.jessemull.microflex.util.CodecUtil;
 
 /**
  * Formats and writes stacks, plates, well sets and wells to an output stream or 
@@ -1123,6 +1125,194 @@ public class PlateWriterDouble extends PrintWriter {
     	return result;
     }
     
+    /*-------------------- Methods for Compact Result Output -----------------*/
+    
+    /**
+     * Prints the plate map for a compact result using the result dimensions 
+     * and label. The values are read directly from the result array.
+     * @param    PlateResultDouble    the result
+     * @throws   UnsupportedEncodingException 
+     * @throws   FileNotFoundException 
+     */
+    public void resultToPlateMap(PlateResultDouble result) 
+            throws FileNotFoundException, UnsupportedEncodingException {
+        this.printMapResult(result);
+        this.flush();
+    }
+    
+    /**
+     * Returns a string containing the plate map for a compact result using the 
+     * result dimensions and label.
+     * @param    PlateResultDouble    the result
+     * @return                        the plate map
+     */
+    public String resultToPlateMapAsString(PlateResultDouble result) {
+        return this.printMapResultAsString(result);
+    }
+    
+    /**
+     * Prints the well value pairs of a compact result as a delimiter separated 
+     * table.
+     * @param    PlateResultDouble    the result
+     * @throws   UnsupportedEncodingException 
+     * @throws   FileNotFoundException 
+     */
+    public void resultToTable(PlateResultDouble result) 
+            throws FileNotFoundException, UnsupportedEncodingException {
+        this.printTableResult(result);
+        this.flush();
+    }
+    
+    /**
+     * Returns a string containing the well value pairs of a compact result as a 
+     * delimiter separated table.
+     * @param    PlateResultDouble    the result
+     * @return                        the table
+     */
+    public String resultToTableAsString(PlateResultDouble result) {
+        return this.printTableResultAsString(result);
+    }
+    
+    /**
+     * Prints the well value pairs of a compact result in a JSON format.
+     * @param    PlateResultDouble    the result
+     * @throws   IOException
+     */
+    public void resultToJSON(PlateResultDouble result) throws IOException {
+        this.resultToJSON(result.toMap(), this.resultLabel(result));
+    }
+    
+    /**
+     * Returns a string containing the well value pairs of a compact result in a 
+     * JSON format.
+     * @param    PlateResultDouble    the result
+     * @return                        the JSON formatted result
+     * @throws   IOException
+     */
+    public String resultToJSONAsString(PlateResultDouble result) throws IOException {
+        return this.resultToJSONAsString(result.toMap(), this.resultLabel(result));
+    }
+    
+    /**
+     * Prints the well value pairs of a compact result in an XML format.
+     * @param    PlateResultDouble    the result
+     * @throws   IOException 
+     * @throws   ParserConfigurationException 
+     * @throws   TransformerException 
+     */
+    public void resultToXML(PlateResultDouble result) throws IOException, 
+            ParserConfigurationException, TransformerException {
+        this.resultToXML(result.toMap(), this.resultLabel(result));
+    }
+    
+    /**
+     * Returns a string containing the well value pairs of a compact result in an 
+     * XML format.
+     * @param    PlateResultDouble    the result
+     * @return                        the XML formatted result
+     */
+    public String resultToXMLAsString(PlateResultDouble result) {
+        return this.resultToXMLAsString(result.toMap(), this.resultLabel(result));
+    }
+    
+    /**
+     * Prints the plate map for a compact result.
+     * @param    PlateResultDouble    the result
+     * @throws   FileNotFoundException 
+     * @throws   UnsupportedEncodingException 
+     */
+    public void printMapResult(PlateResultDouble result) 
+            throws FileNotFoundException, UnsupportedEncodingException {
+        this.print(this.printMapResultAsString(result));
+        this.println();
+    }
+    
+    /**
+     * Returns a string containing the plate map for a compact result.
+     * @param    PlateResultDouble    the result
+     * @return                        the plate map
+     */
+    public String printMapResultAsString(PlateResultDouble result) {
+        
+        Preconditions.checkNotNull(result, "The result cannot be null.");
+        
+        StringBuilder builder = new StringBuilder();
+        
+        builder.append(this.resultLabel(result)).append("\n");
+        builder.append(this.delimiter);
+        
+        for(int k = 0; k < result.columns(); k++) {
+            builder.append(k + 1).append(this.delimiter);
+        }
+        
+        builder.append("\n");
+        
+        for(int i = 0; i < result.rows(); i++) {
+            
+            builder.append(this.rowString(i)).append(this.delimiter);
+            
+            for(int j = 1; j < result.columns() + 1; j++) {
+                
+                if(result.contains(i, j)) {
+                    builder.append(result.get(i, j)).append(this.delimiter);
+                } else {
+                    builder.append("Null").append(this.delimiter);
+                }
+            }
+            
+            builder.append("\n");
+        }
+        
+        return builder.toString();
+    }
+    
+    /**
+     * Prints the well value pairs of a compact result as a delimiter separated 
+     * table.
+     * @param    PlateResultDouble    the result
+     * @throws   UnsupportedEncodingException 
+     * @throws   FileNotFoundException 
+     */
+    public void printTableResult(PlateResultDouble result) 
+            throws FileNotFoundException, UnsupportedEncodingException {
+        this.print(this.printTableResultAsString(result));
+    }
+    
+    /**
+     * Returns a string holding the well value pairs of a compact result as a 
+     * delimiter separated table.
+     * @param    PlateResultDouble    the result
+     * @return                        the table string
+     */
+    public String printTableResultAsString(PlateResultDouble result) {
+        
+        Preconditions.checkNotNull(result, "The result cannot be null.");
+        
+        StringBuilder builder = new StringBuilder();
+        
+        builder.append(this.resultLabel(result)).append("\n");
+        builder.append("Index").append(this.delimiter).append("Value\n");
+        
+        double[] values = result.dataArray();
+        
+        for(int slot = result.nextSlot(0); slot >= 0; slot = result.nextSlot(slot + 1)) {
+            builder.append(result.index(slot)).append(this.delimiter).append(values[slot]).append("\n");
+        }
+        
+        builder.append("\n");
+        
+        return builder.toString();
+    }
+    
+    /**
+     * Returns the result label or the default label if the result is unlabeled.
+     * @param    PlateResultDouble    the result
+     * @return                        the label
+     */
+    private String resultLabel(PlateResultDouble result) {
+        return result.label() == null ? "Result" : result.label();
+    }
+    
     /*------------------- Methods for Data Set JSON Output -------------------*/
                                                             
     /**
@@ -1131,8 +1321,9 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   IOException
      */
     public void resultToJSON(Map<WellDouble, Double> data) throws IOException {  
-          ObjectMapper mapper = new ObjectMapper();
-          mapper.writerWithDefaultPrettyPrinter().writeValue(this, new ResultListPOJODouble(data));
+        JSONStreamWriterDouble stream = new JSONStreamWriterDouble(this);
+        stream.writeResult(data);
+        stream.close();
     }
     
     /**
@@ -1142,8 +1333,7 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String resultToJSONAsString(Map<WellDouble, Double> data) throws JsonProcessingException {  
-          ObjectMapper mapper = new ObjectMapper();
-          return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new ResultListPOJODouble(data));
+          return CodecUtil.writer().writeValueAsString(new ResultListPOJODouble(data));
     }
      
     /**
@@ -1152,8 +1342,9 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   IOException
      */
     public void resultToJSON(List<Map<WellDouble, Double>> data) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new ResultListPOJODouble(data));
+        JSONStreamWriterDouble stream = new JSONStreamWriterDouble(this);
+        stream.writeResults(data);
+        stream.close();
     }
     
     /**
@@ -1163,8 +1354,7 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String resultToJSONAsString(List<Map<WellDouble, Double>> data) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new ResultListPOJODouble(data));
+        return CodecUtil.writer().writeValueAsString(new ResultListPOJODouble(data));
     }
     
     /**
@@ -1174,8 +1364,9 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   IOException
      */
     public void resultToJSON(Map<WellDouble, Double> data, String label) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new ResultListPOJODouble(data, label));
+        JSONStreamWriterDouble stream = new JSONStreamWriterDouble(this);
+        stream.writeResult(data, label);
+        stream.close();
     }
     
     /**
@@ -1185,8 +1376,7 @@ public class PlateWriterDouble extends PrintWriter {
      * @return                              the JSON formatted result
      */
     public String resultToJSONAsString(Map<WellDouble, Double> data, String label) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new ResultListPOJODouble(data, label));
+    	return CodecUtil.writer().writeValueAsString(new ResultListPOJODouble(data, label));
     }
     
     /**
@@ -1197,8 +1387,9 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   IOException
      */
     public void resultToJSON(List<Map<WellDouble, Double>> data, List<String> labels) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new ResultListPOJODouble(data, labels));
+        JSONStreamWriterDouble stream = new JSONStreamWriterDouble(this);
+        stream.writeResults(data, labels);
+        stream.close();
     }
     
     /**
@@ -1210,8 +1401,7 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String resultToJSONAsString(List<Map<WellDouble, Double>> data, List<String> labels) throws JsonProcessingException {
-    	ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new ResultListPOJODouble(data, labels));
+    	return CodecUtil.writer().writeValueAsString(new ResultListPOJODouble(data, labels));
     }
     
     /*--------------------- Methods for Well JSON Output ---------------------*/
@@ -1222,8 +1412,9 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   IOException 
      */
     public void wellToJSON(WellDouble well) throws IOException {   	
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellListPOJODouble(well));
+        JSONStreamWriterDouble stream = new JSONStreamWriterDouble(this);
+        stream.writeWell(well);
+        stream.close();
     }
     
     /**
@@ -1233,8 +1424,7 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws  JsonProcessingException 
      */
     public String wellToJSONAsString(WellDouble well) throws JsonProcessingException {   	
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellListPOJODouble(well));
+        return CodecUtil.writer().writeValueAsString(new WellListPOJODouble(well));
     }
     
     /**
@@ -1243,8 +1433,9 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   IOException 
      */
     public void wellToJSON(Collection<WellDouble> collection) throws IOException {     
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellListPOJODouble(collection));
+        JSONStreamWriterDouble stream = new JSONStreamWriterDouble(this);
+        stream.writeWells(collection);
+        stream.close();
     }
     
     /**
@@ -1254,8 +1445,7 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String wellToJSONAsString(Collection<WellDouble> collection) throws JsonProcessingException {     
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellListPOJODouble(collection));
+        return CodecUtil.writer().writeValueAsString(new WellListPOJODouble(collection));
     }
     
     /**
@@ -1264,8 +1454,9 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   IOException 
      */
     public void wellToJSON(WellDouble[] array) throws   IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellListPOJODouble(array));
+        JSONStreamWriterDouble stream = new JSONStreamWriterDouble(this);
+        stream.writeWells(array);
+        stream.close();
     }
     
     /**
@@ -1275,8 +1466,7 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String wellToJSONAsString(WellDouble[] array) throws   JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellListPOJODouble(array));
+        return CodecUtil.writer().writeValueAsString(new WellListPOJODouble(array));
     }
     
     /*------------------- Methods for Well Set JSON Output -------------------*/
@@ -1287,8 +1477,9 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   IOException 
      */
     public void setToJSON(WellSetDouble set) throws   IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellSetListPOJODouble(set));
+        JSONStreamWriterDouble stream = new JSONStreamWriterDouble(this);
+        stream.writeSet(set);
+        stream.close();
     }
     
     /**
@@ -1298,8 +1489,7 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String setToJSONAsString(WellSetDouble set) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellSetListPOJODouble(set));
+        return CodecUtil.writer().writeValueAsString(new WellSetListPOJODouble(set));
     }
     
     /**
@@ -1308,8 +1498,9 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   IOException 
      */
     public void setToJSON(Collection<WellSetDouble> collection) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellSetListPOJODouble(collection));
+        JSONStreamWriterDouble stream = new JSONStreamWriterDouble(this);
+        stream.writeSets(collection);
+        stream.close();
     }
     
     /**
@@ -1319,8 +1510,7 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   JsonProcessingException 
      */ 
     public String setToJSONAsString(Collection<WellSetDouble> collection) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellSetListPOJODouble(collection));
+        return CodecUtil.writer().writeValueAsString(new WellSetListPOJODouble(collection));
     }
     
     /**
@@ -1329,8 +1519,9 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   IOException 
      */
     public void setToJSON(WellSetDouble[] array) throws   IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellSetListPOJODouble(array));
+        JSONStreamWriterDouble stream = new JSONStreamWriterDouble(this);
+        stream.writeSets(array);
+        stream.close();
     }
     
     /**
@@ -1340,8 +1531,7 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   JsonProcessingException  
      */
     public String setToJSONAsString(WellSetDouble[] array) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper(); 
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellSetListPOJODouble(array));
+        return CodecUtil.writer().writeValueAsString(new WellSetListPOJODouble(array));
     }
     
     /*-------------------- Methods for Plate JSON Output ---------------------*/
@@ -1352,8 +1542,9 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   IOException 
      */
     public void plateToJSON(PlateDouble plate) throws IOException {    
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new PlateListPOJODouble(plate));
+        JSONStreamWriterDouble stream = new JSONStreamWriterDouble(this);
+        stream.writePlate(plate);
+        stream.close();
     }
     
     /**
@@ -1363,8 +1554,7 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String plateToJSONAsString(PlateDouble plate) throws JsonProcessingException {    
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new PlateListPOJODouble(plate));
+        return CodecUtil.writer().writeValueAsString(new PlateListPOJODouble(plate));
     } 
     
     /**
@@ -1373,8 +1563,9 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   IOException 
      */
     public void plateToJSON(Collection<PlateDouble> collection) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new PlateListPOJODouble(collection));
+        JSONStreamWriterDouble stream = new JSONStreamWriterDouble(this);
+        stream.writePlates(collection);
+        stream.close();
     }
     
     /**
@@ -1384,8 +1575,7 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String plateToJSONAsString(Collection<PlateDouble> collection) throws JsonProcessingException {
-    	ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new PlateListPOJODouble(collection));
+    	return CodecUtil.writer().writeValueAsString(new PlateListPOJODouble(collection));
     }
      
     /**
@@ -1394,8 +1584,9 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws IOException 
      */
     public void plateToJSON(PlateDouble[] array) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new PlateListPOJODouble(array));
+        JSONStreamWriterDouble stream = new JSONStreamWriterDouble(this);
+        stream.writePlates(array);
+        stream.close();
     }
     
     /**
@@ -1404,8 +1595,7 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String plateToJSONAsString(PlateDouble[] array) throws JsonProcessingException {
-    	ObjectMapper mapper = new ObjectMapper(); 
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new PlateListPOJODouble(array));
+    	return CodecUtil.writer().writeValueAsString(new PlateListPOJODouble(array));
     }
     
     /*-------------------- Methods for Stack JSON Output ---------------------*/
@@ -1416,8 +1606,9 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   IOException 
      */
     public void stackToJSON(StackDouble stack) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new StackListPOJODouble(stack));
+        JSONStreamWriterDouble stream = new JSONStreamWriterDouble(this);
+        stream.writeStack(stack);
+        stream.close();
     }
     
     /**
@@ -1427,8 +1618,7 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String stackToJSONAsString(StackDouble stack) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new StackListPOJODouble(stack));
+        return CodecUtil.writer().writeValueAsString(new StackListPOJODouble(stack));
     }
     
     /**
@@ -1437,8 +1627,9 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   IOException 
      */
     public void stackToJSON(Collection<StackDouble> collection) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new StackListPOJODouble(collection));
+        JSONStreamWriterDouble stream = new JSONStreamWriterDouble(this);
+        stream.writeStacks(collection);
+        stream.close();
     }
     
     /**
@@ -1448,8 +1639,7 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String stackToJSONAsString(Collection<StackDouble> collection) throws JsonProcessingException {
-    	ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new StackListPOJODouble(collection));
+    	return CodecUtil.writer().writeValueAsString(new StackListPOJODouble(collection));
     }
     
     /**
@@ -1458,8 +1648,9 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws IOException 
      */
     public void stackToJSON(StackDouble[] array) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new StackListPOJODouble(array));
+        JSONStreamWriterDouble stream = new JSONStreamWriterDouble(this);
+        stream.writeStacks(array);
+        stream.close();
     }
     
     /**
@@ -1469,8 +1660,7 @@ public class PlateWriterDouble extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String stackToJSONAsString(StackDouble[] array) throws JsonProcessingException {
-    	ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new StackListPOJODouble(array));
+    	return CodecUtil.writer().writeValueAsString(new StackListPOJODouble(array));
     } 
     
     /*-------------------- Methods for Result XML Output --------------------*/
@@ -1484,8 +1674,9 @@ public class PlateWriterDouble extends PrintWriter {
      */
     public void resultToXML(Map<WellDouble, Double> map) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	ResultListXMLDouble resultList = new ResultListXMLDouble(map);
-    	this.printXMLResult(resultList);
+        XMLStreamWriterDouble stream = new XMLStreamWriterDouble(this);
+        stream.writeResult(map);
+        stream.finish();
     }
     
     /**
@@ -1508,8 +1699,9 @@ public class PlateWriterDouble extends PrintWriter {
      */
     public void resultToXML(Map<WellDouble, Double> map, String label) 
     		throws IOException, ParserConfigurationException, TransformerException {
-    	ResultListXMLDouble resultList = new ResultListXMLDouble(map, label);
-    	this.printXMLResult(resultList);
+        XMLStreamWriterDouble stream = new XMLStreamWriterDouble(this);
+        stream.writeResult(map, label);
+        stream.finish();
     }
     
     /**
@@ -1532,8 +1724,9 @@ public class PlateWriterDouble extends PrintWriter {
      */
     public void resultToXML(Collection<Map<WellDouble, Double>> collection) 
     		throws IOException, TransformerException, ParserConfigurationException {
-    	ResultListXMLDouble resultList = new ResultListXMLDouble(collection);
-    	this.printXMLResult(resultList);
+        XMLStreamWriterDouble stream = new XMLStreamWriterDouble(this);
+        stream.writeResults(collection);
+        stream.finish();
     }
     
     /**
@@ -1556,8 +1749,9 @@ public class PlateWriterDouble extends PrintWriter {
      */
     public void resultToXML(Collection<Map<WellDouble, Double>> collection, List<String> labels) 
     		throws IOException, TransformerException, ParserConfigurationException {
-    	ResultListXMLDouble resultList = new ResultListXMLDouble(collection, labels);
-    	this.printXMLResult(resultList);
+        XMLStreamWriterDouble stream = new XMLStreamWriterDouble(this);
+        stream.writeResults(collection, labels);
+        stream.finish();
     }
     
     /**
@@ -1580,9 +1774,7 @@ public class PlateWriterDouble extends PrintWriter {
     	
     	try {
 
-    		JAXBContext context = JAXBContext.newInstance(ResultListXMLDouble.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(ResultListXMLDouble.class);
 
 			marshaller.marshal(resultList, this);
 			
@@ -1602,9 +1794,7 @@ public class PlateWriterDouble extends PrintWriter {
     	try {
 
     		StringWriter writer = new StringWriter();
-    		JAXBContext context = JAXBContext.newInstance(ResultListXMLDouble.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(ResultListXMLDouble.class);
 
 			marshaller.marshal(resultList, writer);
 			
@@ -1628,8 +1818,9 @@ public class PlateWriterDouble extends PrintWriter {
      */
     public void wellToXML(WellDouble well) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	WellListXMLDouble wellList = new WellListXMLDouble(well);
-    	this.printXMLWell(wellList);
+        XMLStreamWriterDouble stream = new XMLStreamWriterDouble(this);
+        stream.writeWell(well);
+        stream.finish();
     }
     
     /**
@@ -1651,8 +1842,9 @@ public class PlateWriterDouble extends PrintWriter {
      */
     public void wellToXML(Collection<WellDouble> collection) throws IOException, 
     		TransformerException, ParserConfigurationException {
-    	WellListXMLDouble wellList = new WellListXMLDouble(collection);
-    	this.printXMLWell(wellList);
+        XMLStreamWriterDouble stream = new XMLStreamWriterDouble(this);
+        stream.writeWells(collection);
+        stream.finish();
     }
     
     /**
@@ -1675,8 +1867,9 @@ public class PlateWriterDouble extends PrintWriter {
      */
     public void wellToXML(WellDouble[] array) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	WellListXMLDouble wellList = new WellListXMLDouble(array);
-    	this.printXMLWell(wellList);
+        XMLStreamWriterDouble stream = new XMLStreamWriterDouble(this);
+        stream.writeWells(array);
+        stream.finish();
     }
     
     /**
@@ -1699,9 +1892,7 @@ public class PlateWriterDouble extends PrintWriter {
         
     	try {
 
-    		JAXBContext context = JAXBContext.newInstance(WellListXMLDouble.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(WellListXMLDouble.class);
 
 			marshaller.marshal(wellList, this);
 			
@@ -1721,9 +1912,7 @@ public class PlateWriterDouble extends PrintWriter {
     	try {
 
     		StringWriter writer = new StringWriter();
-    		JAXBContext context = JAXBContext.newInstance(WellListXMLDouble.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(WellListXMLDouble.class);
 
 			marshaller.marshal(wellList, writer);
 			
@@ -1748,8 +1937,9 @@ public class PlateWriterDouble extends PrintWriter {
     public void setToXML(WellSetDouble set) throws IOException, 
                                                     ParserConfigurationException, 
                                                     TransformerException {
-    	WellSetListXMLDouble setList = new WellSetListXMLDouble(set);
-    	this.printXMLSet(setList);
+        XMLStreamWriterDouble stream = new XMLStreamWriterDouble(this);
+        stream.writeSet(set);
+        stream.finish();
     }
     
     /**
@@ -1772,8 +1962,9 @@ public class PlateWriterDouble extends PrintWriter {
     public void setToXML(Collection<WellSetDouble> collection) throws IOException, 
                                                                        TransformerException, 
                                                                        ParserConfigurationException {
-    	WellSetListXMLDouble setList = new WellSetListXMLDouble(collection);
-    	this.printXMLSet(setList);
+        XMLStreamWriterDouble stream = new XMLStreamWriterDouble(this);
+        stream.writeSets(collection);
+        stream.finish();
     }
     
     /**
@@ -1796,8 +1987,9 @@ public class PlateWriterDouble extends PrintWriter {
     public void setToXML(WellSetDouble[] array) throws IOException, 
                                                         ParserConfigurationException, 
                                                         TransformerException {
-    	WellSetListXMLDouble setList = new WellSetListXMLDouble(array);
-    	this.printXMLSet(setList);
+        XMLStreamWriterDouble stream = new XMLStreamWriterDouble(this);
+        stream.writeSets(array);
+        stream.finish();
     }
     
     /**
@@ -1819,9 +2011,7 @@ public class PlateWriterDouble extends PrintWriter {
         
     	try {
 
-    		JAXBContext context = JAXBContext.newInstance(WellSetListXMLDouble.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(WellSetListXMLDouble.class);
 
 			marshaller.marshal(setList, this);
 			
@@ -1841,9 +2031,7 @@ public class PlateWriterDouble extends PrintWriter {
     	try {
 
     		StringWriter writer = new StringWriter();
-    		JAXBContext context = JAXBContext.newInstance(WellSetListXMLDouble.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(WellSetListXMLDouble.class);
 
 			marshaller.marshal(setList, writer);
 			
@@ -1867,8 +2055,9 @@ public class PlateWriterDouble extends PrintWriter {
      */
     public void plateToXML(PlateDouble plate) throws IOException, 
     		TransformerException, ParserConfigurationException {
-    	PlateListXMLDouble plateList = new PlateListXMLDouble(plate);
-    	this.printXMLPlate(plateList);
+        XMLStreamWriterDouble stream = new XMLStreamWriterDouble(this);
+        stream.writePlate(plate);
+        stream.finish();
     }
     
     /**
@@ -1890,8 +2079,9 @@ public class PlateWriterDouble extends PrintWriter {
      */
     public void plateToXML(Collection<PlateDouble> collection) throws IOException, 
     		TransformerException, ParserConfigurationException {
-    	PlateListXMLDouble plateList = new PlateListXMLDouble(collection);
-    	this.printXMLPlate(plateList);
+        XMLStreamWriterDouble stream = new XMLStreamWriterDouble(this);
+        stream.writePlates(collection);
+        stream.finish();
     }
     
     /**
@@ -1913,8 +2103,9 @@ public class PlateWriterDouble extends PrintWriter {
      */
     public void plateToXML(PlateDouble[] array) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	PlateListXMLDouble plateList = new PlateListXMLDouble(array);
-    	this.printXMLPlate(plateList);
+        XMLStreamWriterDouble stream = new XMLStreamWriterDouble(this);
+        stream.writePlates(array);
+        stream.finish();
     }
     
     /**
@@ -1936,9 +2127,7 @@ public class PlateWriterDouble extends PrintWriter {
     	
     	try {
 
-    		JAXBContext context = JAXBContext.newInstance(PlateListXMLDouble.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(PlateListXMLDouble.class);
 
 			marshaller.marshal(plateList, this);
 			
@@ -1958,9 +2147,7 @@ public class PlateWriterDouble extends PrintWriter {
     	try {
 
     		StringWriter writer = new StringWriter();
-    		JAXBContext context = JAXBContext.newInstance(PlateListXMLDouble.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(PlateListXMLDouble.class);
 
 			marshaller.marshal(plateList, writer);
 			
@@ -1984,8 +2171,9 @@ public class PlateWriterDouble extends PrintWriter {
      */
     public void stackToXML(StackDouble stack) throws IOException, 
     		TransformerException, ParserConfigurationException {
-    	StackListXMLDouble stackList = new StackListXMLDouble(stack);
-    	this.printXMLStack(stackList);
+        XMLStreamWriterDouble stream = new XMLStreamWriterDouble(this);
+        stream.writeStack(stack);
+        stream.finish();
     }
     
     /**
@@ -2007,8 +2195,9 @@ public class PlateWriterDouble extends PrintWriter {
      */
     public void stackToXML(Collection<StackDouble> collection) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	StackListXMLDouble stackList = new StackListXMLDouble(collection);
-    	this.printXMLStack(stackList);
+        XMLStreamWriterDouble stream = new XMLStreamWriterDouble(this);
+        stream.writeStacks(collection);
+        stream.finish();
     }
     
     /**
@@ -2030,8 +2219,9 @@ public class PlateWriterDouble extends PrintWriter {
      */
     public void stackToXML(StackDouble[] array) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	StackListXMLDouble stackList = new StackListXMLDouble(array);
-    	this.printXMLStack(stackList);
+        XMLStreamWriterDouble stream = new XMLStreamWriterDouble(this);
+        stream.writeStacks(array);
+        stream.finish();
     }
     
     /**
@@ -2055,9 +2245,7 @@ public class PlateWriterDouble extends PrintWriter {
     	
     	try {
 
-    		JAXBContext context = JAXBContext.newInstance(StackListXMLDouble.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(StackListXMLDouble.class);
 
 			marshaller.marshal(stackList, this);
 			
@@ -2077,9 +2265,7 @@ public class PlateWriterDouble extends PrintWriter {
     	try {
 
     		StringWriter writer = new StringWriter();
-    		JAXBContext context = JAXBContext.newInstance(StackListXMLDouble.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(StackListXMLDouble.class);
 
 			marshaller.marshal(stackList, writer);
 			
@@ -576,5 +576,136 @@ public class AdditionDouble extends MathOperationDoubleBinary {
 
 		return result;
 	}
+
+	/**
+	 * Adds the arrays and returns the result using the values between the offsets 
+	 * and the offsets plus the lengths. Missing data points due to uneven 
+	 * array lengths are treated as zeroes.
+	 * @param    double[] array1    the first array
+	 * @param    int offset1        index of the first value in the first array
+	 * @param    int length1        number of values in the first array
+	 * @param    double[] array2    the second array
+	 * @param    int offset2        index of the first value in the second array
+	 * @param    int length2        number of values in the second array
+	 * @return                      the result
+	 * @override
+	 */
+	public double[] calculate(double[] array1, int offset1, int length1, 
+			double[] array2, int offset2, int length2) {
+		
+		double[] largest = array2;
+		double[] smallest = array1;
+		int largestOffset = offset2;
+		int smallestOffset = offset1;
+		int largestLength = length2;
+		int smallestLength = length1;
+		
+		if(length1 > length2) {
+			largest = array1;
+			smallest = array2;
+			largestOffset = offset1;
+			smallestOffset = offset2;
+			largestLength = length1;
+			smallestLength = length2;
+		}
+		
+		double[] result = new double[largestLength];
+		
+		for(int i = 0; i < smallestLength; i++) {
+			result[i] = smallest[smallestOffset + i] + largest[largestOffset + i];
+		}
+		
+		for(int i = smallestLength; i < largestLength; i++) {
+			result[i] = largest[largestOffset + i];
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Adds the arrays and returns the result using the values between the offsets 
+	 * and the offsets plus the lengths. Missing data points due to uneven 
+	 * array lengths are omitted.
+	 * @param    double[] array1    the first array
+	 * @param    int offset1        index of the first value in the first array
+	 * @param    int length1        number of values in the first array
+	 * @param    double[] array2    the second array
+	 * @param    int offset2        index of the first value in the second array
+	 * @param    int length2        number of values in the second array
+	 * @return                      the result
+	 * @override
+	 */
+	public double[] calculateStrict(double[] array1, int offset1, int length1, 
+			double[] array2, int offset2, int length2) {
+		
+		double[] result = new double[Math.min(length1, length2)];
+		
+		for(int i = 0; i < result.length; i++) {
+			result[i] = array1[offset1 + i] + array2[offset2 + i];
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Adds the constant to each value in the array 
+	 * using the values between the offset and the offset plus the length.
+	 * @param    double[] array    the array
+	 * @param    int offset        index of the first value
+	 * @param    int length        number of values
+	 * @param    double constant   the constant value
+	 * @return                     the result
+	 * @override
+	 */
+	public double[] calculate(double[] array, int offset, int length, double constant) {
+		
+		double[] result = new double[length];
+		
+		for(int i = 0; i < length; i++) {
+			result[i] = array[offset + i] + constant;
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Adds the values of the second array to the values of the first array and
+	 * writes the result to the first array using the values between the offsets
+	 * and the offsets plus the lengths. The first array must hold at least as
+	 * many values as the second array.
+	 * @param    double[] array1    the first array
+	 * @param    int offset1        index of the first value in the first array
+	 * @param    int length1        number of values in the first array
+	 * @param    double[] array2    the second array
+	 * @param    int offset2        index of the first value in the second array
+	 * @param    int length2        number of values in the second array
+	 * @override
+	 */
+	public void calculateInPlace(double[] array1, int offset1, int length1, 
+			double[] array2, int offset2, int length2) {
+		
+		if(length1 < length2) {
+			throw new IllegalArgumentException("The first array must hold at least as many values as the second array.");
+		}
+		
+		for(int i = 0; i < length2; i++) {
+			array1[offset1 + i] = array1[offset1 + i] + array2[offset2 + i];
+		}
+	}
+	
+	/**
+	 * Adds the constant to each value in the array and writes the result to the
+	 * array using the values between the offset and the offset plus the length.
+	 * @param    double[] array    the array
+	 * @param    int offset        index of the first value
+	 * @param    int length        number of values
+	 * @param    double constant   the constant value
+	 * @override
+	 */
+	public void calculateInPlace(double[] array, int offset, int length, double constant) {
+		for(int i = offset; i < offset + length; i++) {
+			array[i] = array[i] + constant;
+		}
+	}
     
 }
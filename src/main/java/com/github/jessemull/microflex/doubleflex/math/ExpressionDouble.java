@@ -0,0 +1,548 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.doubleflex.math;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Doubles;
+
+import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
+import com.github.jessemull.microflex.doubleflex.plate.StackDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
+
+/**
+ * This class records a chain of mathematical operations and evaluates the chain
+ * for double plate stacks, plates and well sets in a single pass over the wells.
+ * Chaining the plate methods of the math operations creates a new plate, well set
+ * and well for each operation. An expression applies every operation to a well
+ * before moving to the next well, so only the final result is created:
+ *
+ * <pre>
+ * ExpressionDouble percent = new ExpressionDouble()
+ *         .subtract(background)
+ *         .divide(control)
+ *         .multiply(100);
+ *
+ * StackDouble result = percent.stacks(stack);
+ * </pre>
+ *
+ * Operations take a well set, a plate or a constant as the second argument. The
+ * wells of a well set or plate argument are matched to the input wells using the
+ * row and column and are indexed when the operation is added to the expression.
+ * An expression can be evaluated any number of times and a plate or well set
+ * argument is applied to each plate in a stack. A plate argument must have the
+ * same dimensions as each plate the expression is evaluated for.
+ *
+ * <br><br>
+ *
+ * Expressions follow the standard and strict semantics of the math operations.
+ * Standard functions treat missing data points as zeroes, pass input wells
+ * missing from a well set or plate argument through unchanged and add the wells
+ * found only in the argument to the result. Strict functions omit missing data
+ * points and omit the wells missing from a well set or plate argument. The result
+ * is identical to evaluating the operations one at a time using the sets, plates
+ * or stacks methods, except that the result keeps the label of the input.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class ExpressionDouble {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    /* Operations used by the convenience methods */
+
+    private static final MathOperationDoubleBinary ADDITION = new AdditionDouble();
+    private static final MathOperationDoubleBinary SUBTRACTION = new SubtractionDouble();
+    private static final MathOperationDoubleBinary MULTIPLICATION = new MultiplicationDouble();
+    private static final MathOperationDoubleBinary DIVISION = new DivisionDouble();
+
+    private List<Step> steps = new ArrayList<Step>();    // The operations in order
+
+    /* ---------------------------- Constructors ---------------------------- */
+
+    /**
+     * Creates an empty expression.
+     */
+    public ExpressionDouble() {}
+
+    /* -------------------------- Operation Methods ------------------------- */
+
+    /**
+     * Adds a binary operation using the wells of the well set.
+     * @param    MathOperationDoubleBinary    the operation
+     * @param    WellSetDouble                the well set
+     * @return                                this expression
+     */
+    public ExpressionDouble apply(MathOperationDoubleBinary operation, WellSetDouble set) {
+
+        Preconditions.checkNotNull(set, "The well set cannot be null.");
+
+        this.steps.add(this.step(operation, set));
+
+        return this;
+    }
+
+    /**
+     * Adds a binary operation using the wells of the plate. The well groups of
+     * the plate are added to the plate results.
+     * @param    MathOperationDoubleBinary    the operation
+     * @param    PlateDouble                  the plate
+     * @return                                this expression
+     */
+    public ExpressionDouble apply(MathOperationDoubleBinary operation, PlateDouble plate) {
+
+        Preconditions.checkNotNull(plate, "The plate cannot be null.");
+
+        Step step = this.step(operation, plate);
+        step.plate = plate;
+
+        this.steps.add(step);
+
+        return this;
+    }
+
+    /**
+     * Adds a binary operation using the constant.
+     * @param    MathOperationDoubleBinary    the operation
+     * @param    double                       the constant
+     * @return                                this expression
+     */
+    public ExpressionDouble apply(MathOperationDoubleBinary operation, double constant) {
+
+        Preconditions.checkNotNull(operation, "The operation cannot be null.");
+
+        Step step = new Step();
+        step.binary = operation;
+        step.constant = constant;
+
+        this.steps.add(step);
+
+        return this;
+    }
+
+    /**
+     * Adds a unary operation.
+     * @param    MathOperationDoubleUnary    the operation
+     * @return                               this expression
+     */
+    public ExpressionDouble apply(MathOperationDoubleUnary operation) {
+
+        Preconditions.checkNotNull(operation, "The operation cannot be null.");
+
+        Step step = new Step();
+        step.unary = operation;
+
+        this.steps.add(step);
+
+        return this;
+    }
+
+    /**
+     * Adds the wells of the well set.
+     * @param    WellSetDouble    the well set
+     * @return                    this expression
+     */
+    public ExpressionDouble add(WellSetDouble set) {
+        return this.apply(ADDITION, set);
+    }
+
+    /**
+     * Adds the wells of the plate.
+     * @param    PlateDouble    the plate
+     * @return                  this expression
+     */
+    public ExpressionDouble add(PlateDouble plate) {
+        return this.apply(ADDITION, plate);
+    }
+
+    /**
+     * Adds the constant.
+     * @param    double    the constant
+     * @return             this expression
+     */
+    public ExpressionDouble add(double constant) {
+        return this.apply(ADDITION, constant);
+    }
+
+    /**
+     * Subtracts the wells of the well set.
+     * @param    WellSetDouble    the well set
+     * @return                    this expression
+     */
+    public ExpressionDouble subtract(WellSetDouble set) {
+        return this.apply(SUBTRACTION, set);
+    }
+
+    /**
+     * Subtracts the wells of the plate.
+     * @param    PlateDouble    the plate
+     * @return                  this expression
+     */
+    public ExpressionDouble subtract(PlateDouble plate) {
+        return this.apply(SUBTRACTION, plate);
+    }
+
+    /**
+     * Subtracts the constant.
+     * @param    double    the constant
+     * @return             this expression
+     */
+    public ExpressionDouble subtract(double constant) {
+        return this.apply(SUBTRACTION, constant);
+    }
+
+    /**
+     * Multiplies by the wells of the well set.
+     * @param    WellSetDouble    the well set
+     * @return                    this expression
+     */
+    public ExpressionDouble multiply(WellSetDouble set) {
+        return this.apply(MULTIPLICATION, set);
+    }
+
+    /**
+     * Multiplies by the wells of the plate.
+     * @param    PlateDouble    the plate
+     * @return                  this expression
+     */
+    public ExpressionDouble multiply(PlateDouble plate) {
+        return this.apply(MULTIPLICATION, plate);
+    }
+
+    /**
+     * Multiplies by the constant.
+     * @param    double    the constant
+     * @return             this expression
+     */
+    public ExpressionDouble multiply(double constant) {
+        return this.apply(MULTIPLICATION, constant);
+    }
+
+    /**
+     * Divides by the wells of the well set.
+     * @param    WellSetDouble    the well set
+     * @return                    this expression
+     */
+    public ExpressionDouble divide(WellSetDouble set) {
+        return this.apply(DIVISION, set);
+    }
+
+    /**
+     * Divides by the wells of the plate.
+     * @param    PlateDouble    the plate
+     * @return                  this expression
+     */
+    public ExpressionDouble divide(PlateDouble plate) {
+        return this.apply(DIVISION, plate);
+    }
+
+    /**
+     * Divides by the constant.
+     * @param    double    the constant
+     * @return             this expression
+     */
+    public ExpressionDouble divide(double constant) {
+        return this.apply(DIVISION, constant);
+    }
+
+    /**
+     * Returns the number of operations in the expression.
+     * @return    the number of operations
+     */
+    public int size() {
+        return this.steps.size();
+    }
+
+    /* ---------------------------- Set Methods ----------------------------- */
+
+    /**
+     * Evaluates the expression for each well in the set. Missing data points
+     * are treated as zeroes.
+     * @param    WellSetDouble    the well set
+     * @return                    the result
+     */
+    public WellSetDouble sets(WellSetDouble set) {
+        Preconditions.checkNotNull(set, "The well set cannot be null.");
+        return this.evaluate(set, set.label(), false);
+    }
+
+    /**
+     * Evaluates the expression for each well in the set. Missing data points
+     * and missing wells are omitted.
+     * @param    WellSetDouble    the well set
+     * @return                    the result
+     */
+    public WellSetDouble setsStrict(WellSetDouble set) {
+        Preconditions.checkNotNull(set, "The well set cannot be null.");
+        return this.evaluate(set, set.label(), true);
+    }
+
+    /* --------------------------- Plate Methods ---------------------------- */
+
+    /**
+     * Evaluates the expression for each well in the plate. Missing data points
+     * are treated as zeroes.
+     * @param    PlateDouble    the plate
+     * @return                  the result
+     */
+    public PlateDouble plates(PlateDouble plate) {
+        return this.evaluate(plate, false);
+    }
+
+    /**
+     * Evaluates the expression for each well in the plate. Missing data points
+     * and missing wells are omitted.
+     * @param    PlateDouble    the plate
+     * @return                  the result
+     */
+    public PlateDouble platesStrict(PlateDouble plate) {
+        return this.evaluate(plate, true);
+    }
+
+    /* --------------------------- Stack Methods ---------------------------- */
+
+    /**
+     * Evaluates the expression for each plate in the stack. Missing data points
+     * are treated as zeroes.
+     * @param    StackDouble    the stack
+     * @return                  the result
+     */
+    public StackDouble stacks(StackDouble stack) {
+        return this.evaluate(stack, false);
+    }
+
+    /**
+     * Evaluates the expression for each plate in the stack. Missing data points
+     * and missing wells are omitted.
+     * @param    StackDouble    the stack
+     * @return                  the result
+     */
+    public StackDouble stacksStrict(StackDouble stack) {
+        return this.evaluate(stack, true);
+    }
+
+    /* -------------------------- Private Methods --------------------------- */
+
+    /**
+     * Evaluates the expression for each plate in the stack.
+     * @param    StackDouble    the stack
+     * @param    boolean        true for strict evaluation
+     * @return                  the result
+     */
+    private StackDouble evaluate(StackDouble stack, boolean strict) {
+
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+
+        StackDouble result = new StackDouble(stack.rows(), stack.columns(), stack.label());
+
+        for(PlateDouble plate : stack) {
+            result.add(this.evaluate(plate, strict));
+        }
+
+        return result;
+    }
+
+    /**
+     * Evaluates the expression for each well in the plate. The result holds
+     * the well groups of the input plate and each plate argument.
+     * @param    PlateDouble    the plate
+     * @param    boolean        true for strict evaluation
+     * @return                  the result
+     */
+    private PlateDouble evaluate(PlateDouble plate, boolean strict) {
+
+        Preconditions.checkNotNull(plate, "The plate cannot be null.");
+
+        for(Step step : this.steps) {
+            Preconditions.checkArgument(step.plate == null ||
+                    step.plate.rows() == plate.rows() && step.plate.columns() == plate.columns(),
+                    "Unequal plate dimensions.");
+        }
+
+        PlateDouble result = new PlateDouble(plate.rows(), plate.columns(), plate.label());
+
+        for(WellSetDouble set : plate.allGroups()) {
+            result.addGroups(set.wellList());
+        }
+
+        for(Step step : this.steps) {
+            if(step.plate != null) {
+                for(WellSetDouble set : step.plate.allGroups()) {
+                    result.addGroups(set.wellList());
+                }
+            }
+        }
+
+        result.addWells(this.evaluate(plate, plate.label(), strict));
+
+        return result;
+    }
+
+    /**
+     * Evaluates the expression for each well. Using standard evaluation the 
+     * wells found only in a well set or plate argument join the result at that 
+     * operation and are passed through the remaining operations.
+     * @param    Iterable<WellDouble>    the wells
+     * @param    String                  the result label
+     * @param    boolean                 true for strict evaluation
+     * @return                           the result
+     */
+    private WellSetDouble evaluate(Iterable<WellDouble> wells, String label, boolean strict) {
+
+        WellSetDouble result = new WellSetDouble();
+        result.setLabel(label);
+
+        for(WellDouble well : wells) {
+            this.evaluate(well, 0, strict, result);
+        }
+
+        if(!strict) {
+
+            Set<WellDouble> added = new HashSet<WellDouble>();
+
+            for(WellDouble well : wells) {
+                added.add(well);
+            }
+
+            for(int i = 0; i < this.steps.size(); i++) {
+
+                Map<WellDouble, WellDouble> argument = this.steps.get(i).wells;
+
+                if(argument == null) {
+                    continue;
+                }
+
+                for(WellDouble well : argument.keySet()) {
+                    if(added.add(well)) {
+                        this.evaluate(well, i + 1, false, result);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a binary operation step and indexes the wells of the argument.
+     * @param    MathOperationDoubleBinary    the operation
+     * @param    Iterable<WellDouble>         the wells
+     * @return                                the step
+     */
+    private Step step(MathOperationDoubleBinary operation, Iterable<WellDouble> wells) {
+
+        Preconditions.checkNotNull(operation, "The operation cannot be null.");
+
+        Step step = new Step();
+        step.binary = operation;
+        step.wells = new HashMap<WellDouble, WellDouble>();
+
+        for(WellDouble well : wells) {
+            step.wells.put(well, well);
+        }
+
+        return step;
+    }
+
+    /**
+     * Applies the operations to the well values beginning with the operation at
+     * the index and adds the result to the well set. A well missing from a well
+     * set or plate argument is not added using strict evaluation.
+     * @param    WellDouble       the well
+     * @param    int              index of the first operation
+     * @param    boolean          true for strict evaluation
+     * @param    WellSetDouble    the result
+     */
+    private void evaluate(WellDouble well, int first, boolean strict, WellSetDouble result) {
+
+        double[] values = well.dataArray();
+        int offset = well.dataOffset();
+        int length = well.dataLength();
+
+        for(int i = first; i < this.steps.size(); i++) {
+
+            Step step = this.steps.get(i);
+
+            if(step.unary != null) {
+
+                values = Doubles.toArray(step.unary.calculate(
+                        Doubles.asList(values).subList(offset, offset + length)));
+
+            } else if(step.wells == null) {
+
+                values = step.binary.calculate(values, offset, length, step.constant);
+
+            } else {
+
+                WellDouble operand = step.wells.get(well);
+
+                if(operand == null) {
+
+                    if(strict) {
+                        return;
+                    }
+
+                    continue;
+                }
+
+                values = strict ?
+                        step.binary.calculateStrict(values, offset, length,
+                                operand.dataArray(), operand.dataOffset(), operand.dataLength()) :
+                        step.binary.calculate(values, offset, length,
+                                operand.dataArray(), operand.dataOffset(), operand.dataLength());
+            }
+
+            offset = 0;
+            length = values.length;
+        }
+
+        result.add(new WellDouble(well.row(), well.column(), values, offset, length));
+    }
+
+    /* ---------------------------- Step Class ------------------------------ */
+
+    /**
+     * A single operation and its second argument.
+     */
+    private static class Step {
+
+        private MathOperationDoubleBinary binary;     // Binary operation
+        private MathOperationDoubleUnary unary;       // Unary operation
+        private Map<WellDouble, WellDouble> wells;    // Well set argument
+        private PlateDouble plate;                    // Plate argument
+        private double constant;                      // Constant argument
+
+    }
+
+}
@@ -70,4 +70,18 @@ public class IncrementDouble extends MathOperationDoubleUnary {
         return result;
     }
     
+    /**
+     * Increments the values in the array between the offset and the offset plus 
+     * the length.
+     * @param    double[] array    the array
+     * @param    int offset        index of the first value
+     * @param    int length        number of values
+     * @override
+     */
+    public void calculateInPlace(double[] array, int offset, int length) {
+        for(int i = offset; i < offset + length; i++) {
+            array[i] = array[i] + 1;
+        }
+    }
+    
 }
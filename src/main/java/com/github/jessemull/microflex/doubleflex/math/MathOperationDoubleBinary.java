@@ -23,15 +23,21 @@ package com.github.jessemull.microflex.doubleflex.math;
 
 /* ------------------------------ Dependencies ------------------------------ */
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import com.google.common.collect.Iterators;
+import com.google.common.primitives.Doubles;
 
 import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
 import com.github.jessemull.microflex.doubleflex.plate.StackDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs mathematical operations with two arguments for double 
@@ -226,6 +232,13 @@ import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
  *    </tr>
  * </table>
  * 
+ * In place functions write the result of the operation to the wells of the first
+ * argument instead of returning new wells, well sets, plates and stacks.
+ * 
+ * Setting a fork join pool performs the operation on the wells of plates and
+ * sets and on the plates of stacks in parallel. The results are identical to
+ * those of sequential execution.
+ * 
  * MicroFlex currently supports the following binary mathematical operations 
  * for double values:
  * 
@@ -255,6 +268,10 @@ import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
  */
 public abstract class MathOperationDoubleBinary {
 
+	/* ---------------------------- Private Fields -------------------------- */
+	
+	private ForkJoinPool pool;    // Pool for parallel execution or null
+	
 	/* ---------------------------- Constructors ---------------------------- */
 	
 	/**
@@ -262,6 +279,45 @@ public abstract class MathOperationDoubleBinary {
 	 */
 	public MathOperationDoubleBinary() {}
 
+	/* ------------------------- Parallel Execution ------------------------- */
+	
+	/**
+	 * Sets the fork join pool used to perform the operation on the wells of 
+	 * plates and sets and on the plates of stacks in parallel. Results are 
+	 * identical to those of sequential execution. A null pool restores 
+	 * sequential execution.
+	 * @param    ForkJoinPool    the pool or null
+	 */
+	public void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+	
+	/**
+	 * Returns the fork join pool used for parallel execution or null if the 
+	 * operation is performed sequentially.
+	 * @return    the pool or null
+	 */
+	public ForkJoinPool pool() {
+		return this.pool;
+	}
+	
+	/**
+	 * Enables parallel execution using the shared default pool or restores 
+	 * sequential execution.
+	 * @param    boolean    true for parallel execution
+	 */
+	public void setParallel(boolean parallel) {
+		this.pool = parallel ? ParallelUtil.defaultPool() : null;
+	}
+	
+	/**
+	 * Returns true if the operation is performed in parallel.
+	 * @return    true if parallel execution is enabled
+	 */
+	public boolean isParallel() {
+		return this.pool != null;
+	}
+
 	/* ----------------------------- Well Methods --------------------------- */
 	
     /**
@@ -802,18 +858,19 @@ public abstract class MathOperationDoubleBinary {
         clone1.retain(set2);
         clone2.retain(set1);
         
-        Iterator<WellDouble> iter1 = clone1.iterator();
-        Iterator<WellDouble> iter2 = clone2.iterator();
-        
-    	while(iter1.hasNext()) {
-    		
-    		WellDouble well1 = iter1.next();
-    		WellDouble well2 = iter2.next();
+    	List<WellDouble> wells = ParallelUtil.map(this.pool, clone1, clone2, 
+    			new ParallelUtil.PairTask<WellDouble, WellDouble, WellDouble>() {
     		
-    		List<Double> list = this.calculate(well1.data(), well2.data());
-    		result.add(new WellDouble(well1.row(), well1.column(), list));
-
-    	}
+    		public WellDouble apply(WellDouble well1, WellDouble well2) {
+    			
+    			double[] values = calculate(
+    					well1.dataArray(), well1.dataOffset(), well1.dataLength(), 
+    					well2.dataArray(), well2.dataOffset(), well2.dataLength());
+    			return new WellDouble(well1.row(), well1.column(), values);
+    		}
+    	});
+    	
+    	result.add(wells);
     	
     	result.add(set1Excluded);
     	result.add(set2Excluded);
@@ -902,20 +959,21 @@ public abstract class MathOperationDoubleBinary {
         clone1.retain(set2);
         clone2.retain(set1);
         
-        Iterator<WellDouble> iter1 = clone1.iterator();
-        Iterator<WellDouble> iter2 = clone2.iterator();
-        
-    	while(iter1.hasNext()) {
+    	List<WellDouble> wells = ParallelUtil.map(this.pool, clone1, clone2, 
+    			new ParallelUtil.PairTask<WellDouble, WellDouble, WellDouble>() {
     		
-    		WellDouble well1 = iter1.next();
-    		WellDouble well2 = iter2.next();
-    		
-    		validateArgs(well1, well2);
+    		public WellDouble apply(WellDouble well1, WellDouble well2) {
     			
-    		List<Double> list = this.calculateStrict(well1.data(), well2.data());
-    		result.add(new WellDouble(well1.row(), well1.column(), list));
-
-    	}
+    			validateArgs(well1, well2);
+    			
+    			double[] values = calculateStrict(
+    					well1.dataArray(), well1.dataOffset(), well1.dataLength(), 
+    					well2.dataArray(), well2.dataOffset(), well2.dataLength());
+    			return new WellDouble(well1.row(), well1.column(), values);
+    		}
+    	});
+    	
+    	result.add(wells);
 
     	return result;
     }
@@ -967,17 +1025,22 @@ public abstract class MathOperationDoubleBinary {
      * @param    double           constant for operation
      * @return                    result of the operation
      */
-    public WellSetDouble sets(WellSetDouble set, double constant) {
+    public WellSetDouble sets(WellSetDouble set, final double constant) {
     	
     	this.validateArgs(set);
     	
     	WellSetDouble result = new WellSetDouble();
     	result.setLabel(set.label());
     
-    	for(WellDouble well : set) {
-    		result.add(new WellDouble(well.row(), well.column(), 
-    				this.calculate(well.data(), constant)));
-    	} 
+    	List<WellDouble> wells = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellDouble, WellDouble>() {
+    		
+    		public WellDouble apply(WellDouble well) {
+    			return new WellDouble(well.row(), well.column(), calculate(
+    					well.dataArray(), well.dataOffset(), well.dataLength(), constant));
+    		}
+    	});
+    	
+    	result.add(wells);
     	
     	return result;
     }
@@ -1183,10 +1246,20 @@ public abstract class MathOperationDoubleBinary {
     	Iterator<PlateDouble> iter1 = stack1.iterator();
     	Iterator<PlateDouble> iter2 = stack2.iterator();
     	
-    	while(iter1.hasNext() && iter2.hasNext()) {
-    	    PlateDouble resultPlate = this.plates(iter1.next(), iter2.next());
-    	    result.add(resultPlate);
+    	List<PlateDouble> resultPlates = ParallelUtil.map(this.pool, stack1, stack2, 
+    			new ParallelUtil.PairTask<PlateDouble, PlateDouble, PlateDouble>() {
+    		
+    		public PlateDouble apply(PlateDouble plate1, PlateDouble plate2) {
+    			return plates(plate1, plate2);
+    		}
+    	});
+    	
+    	for(PlateDouble resultPlate : resultPlates) {
+    		result.add(resultPlate);
     	}
+    	
+    	Iterators.advance(iter1, resultPlates.size());
+    	Iterators.advance(iter2, resultPlates.size());
 
     	while(iter1.hasNext()) {
     		result.add(iter1.next());
@@ -1264,9 +1337,16 @@ public abstract class MathOperationDoubleBinary {
     	Iterator<PlateDouble> iter1 = stack1.iterator();
     	Iterator<PlateDouble> iter2 = stack2.iterator();
     	
-    	while(iter1.hasNext() && iter2.hasNext()) {
-    	    PlateDouble resultPlate = this.platesStrict(iter1.next(), iter2.next());
-    	    result.add(resultPlate);
+    	List<PlateDouble> resultPlates = ParallelUtil.map(this.pool, stack1, stack2, 
+    			new ParallelUtil.PairTask<PlateDouble, PlateDouble, PlateDouble>() {
+    		
+    		public PlateDouble apply(PlateDouble plate1, PlateDouble plate2) {
+    			return platesStrict(plate1, plate2);
+    		}
+    	});
+    	
+    	for(PlateDouble resultPlate : resultPlates) {
+    		result.add(resultPlate);
     	}
     	
     	return result;
@@ -1305,17 +1385,21 @@ public abstract class MathOperationDoubleBinary {
      * @param    double         constant for operation
      * @return                  result of the operation
      */
-    public StackDouble stacks(StackDouble stack, double constant) {
+    public StackDouble stacks(StackDouble stack, final double constant) {
         
         this.validateArgs(stack);
     	
     	StackDouble result = new StackDouble(stack.rows(), stack.columns());
     	
-    	Iterator<PlateDouble> iter1 = stack.iterator();
+    	List<PlateDouble> resultPlates = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateDouble, PlateDouble>() {
+    		
+    		public PlateDouble apply(PlateDouble plate) {
+    			return plates(plate, constant);
+    		}
+    	});
     	
-    	while(iter1.hasNext()) {
-    	    PlateDouble resultPlate = this.plates(iter1.next(), constant);
-    	    result.add(resultPlate);
+    	for(PlateDouble resultPlate : resultPlates) {
+    		result.add(resultPlate);
     	}
     	
     	return result;
@@ -1513,6 +1597,279 @@ public abstract class MathOperationDoubleBinary {
     	return result;
     }
     
+    /* --------------------------- In Place Methods ------------------------- */
+    
+    /**
+     * Writes the result of the mathematical operation to the first well. Missing 
+     * data points due to uneven data set lengths are treated as zeroes. The data
+     * array of the first well is reused unless the second well holds more values.
+     * @param    WellDouble    the first well
+     * @param    WellDouble    the second well
+     */
+    public void wellsInPlace(WellDouble well1, WellDouble well2) {
+    	
+    	this.validateArgs(well1, well2);
+    	
+    	int length1 = well1.dataLength();
+    	int length2 = well2.dataLength();
+    	
+    	if(length1 < length2) {
+    		well1.add(well2.dataArray(), well2.dataOffset() + length1, length2 - length1);
+    		length2 = length1;
+    	}
+    	
+    	this.calculateInPlace(well1.dataArray(), well1.dataOffset(), length1, 
+    			well2.dataArray(), well2.dataOffset(), length2);
+    	well1.dataModified();
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the first well. Missing 
+     * data points due to uneven data set lengths are omitted.
+     * @param    WellDouble    the first well
+     * @param    WellDouble    the second well
+     */
+    public void wellsStrictInPlace(WellDouble well1, WellDouble well2) {
+    	
+    	this.validateArgs(well1, well2);
+    	
+    	int length = Math.min(well1.dataLength(), well2.dataLength());
+    	
+    	this.calculateInPlace(well1.dataArray(), well1.dataOffset(), length, 
+    			well2.dataArray(), well2.dataOffset(), length);
+    	well1.dataModified();
+    	
+    	well1.removeRange(length, well1.dataLength());
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the well.
+     * @param    WellDouble    the well
+     * @param    double        constant for the operation
+     */
+    public void wellsInPlace(WellDouble well, double constant) {
+    	this.validateArgs(well);
+    	this.calculateInPlace(well.dataArray(), well.dataOffset(), well.dataLength(), constant);
+    	well.dataModified();
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the first 
+     * set. Missing data points due to uneven data set lengths are treated as 
+     * zeroes. Copies of the wells missing from the first set are added to the
+     * first set.
+     * @param    WellSetDouble    the first set
+     * @param    WellSetDouble    the second set
+     */
+    public void setsInPlace(WellSetDouble set1, WellSetDouble set2) {
+    	
+    	this.validateArgs(set1, set2);
+    	
+    	for(WellDouble well : this.inPlace(set1, set2, false)) {
+    		set1.add(new WellDouble(well));
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the first 
+     * set. Missing data points due to uneven data set lengths are omitted. Wells
+     * missing from the second set are removed from the first set.
+     * @param    WellSetDouble    the first set
+     * @param    WellSetDouble    the second set
+     */
+    public void setsStrictInPlace(WellSetDouble set1, WellSetDouble set2) {
+    	
+    	this.validateArgs(set1, set2);
+    	
+    	for(WellDouble well : this.inPlace(set1, set2, true)) {
+    		set1.remove(well);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the set.
+     * @param    WellSetDouble    the set
+     * @param    double           constant for the operation
+     */
+    public void setsInPlace(WellSetDouble set, double constant) {
+    	
+    	this.validateArgs(set);
+    	
+    	for(WellDouble well : set) {
+    		this.wellsInPlace(well, constant);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the first 
+     * plate. Missing data points due to uneven data set lengths are treated as 
+     * zeroes. Copies of the wells missing from the first plate are added to the
+     * first plate. The well groups of the first plate are unchanged.
+     * @param    PlateDouble    the first plate
+     * @param    PlateDouble    the second plate
+     */
+    public void platesInPlace(PlateDouble plate1, PlateDouble plate2) {
+    	
+    	this.validateArgs(plate1, plate2);
+    	
+    	for(WellDouble well : this.inPlace(plate1, plate2, false)) {
+    		plate1.addWells(well);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the first 
+     * plate. Missing data points due to uneven data set lengths are omitted. 
+     * Wells missing from the second plate are removed from the first plate.
+     * @param    PlateDouble    the first plate
+     * @param    PlateDouble    the second plate
+     */
+    public void platesStrictInPlace(PlateDouble plate1, PlateDouble plate2) {
+    	
+    	this.validateArgs(plate1, plate2);
+    	
+    	for(WellDouble well : this.inPlace(plate1, plate2, true)) {
+    		plate1.removeWells(well);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the plate.
+     * @param    PlateDouble    the plate
+     * @param    double         constant for the operation
+     */
+    public void platesInPlace(PlateDouble plate, double constant) {
+    	
+    	this.validateArgs(plate);
+    	
+    	for(WellDouble well : plate) {
+    		this.wellsInPlace(well, constant);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the plates of the first 
+     * stack. Missing data points due to uneven data set lengths are treated as 
+     * zeroes. Copies of the plates missing from the first stack are added to the
+     * first stack.
+     * @param    StackDouble    the first stack
+     * @param    StackDouble    the second stack
+     */
+    public void stacksInPlace(StackDouble stack1, StackDouble stack2) {
+    	
+    	this.validateArgs(stack1, stack2);
+    	
+    	PlateDouble[] plates1 = stack1.toArray();
+    	PlateDouble[] plates2 = stack2.toArray();
+    	
+    	stack1.clear();
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		if(i < plates2.length) {
+    			this.platesInPlace(plates1[i], plates2[i]);
+    		}
+    		
+    		stack1.add(plates1[i]);
+    	}
+    	
+    	for(int i = plates1.length; i < plates2.length; i++) {
+    		stack1.add(new PlateDouble(plates2[i]));
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the plates of the first 
+     * stack. Missing data points due to uneven data set lengths are omitted. 
+     * Plates missing from the second stack are removed from the first stack.
+     * @param    StackDouble    the first stack
+     * @param    StackDouble    the second stack
+     */
+    public void stacksStrictInPlace(StackDouble stack1, StackDouble stack2) {
+    	
+    	this.validateArgs(stack1, stack2);
+    	
+    	PlateDouble[] plates1 = stack1.toArray();
+    	PlateDouble[] plates2 = stack2.toArray();
+    	
+    	stack1.clear();
+    	
+    	for(int i = 0; i < plates1.length && i < plates2.length; i++) {
+    		this.platesStrictInPlace(plates1[i], plates2[i]);
+    		stack1.add(plates1[i]);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the plates of the stack.
+     * @param    StackDouble    the stack
+     * @param    double         constant for the operation
+     */
+    public void stacksInPlace(StackDouble stack, double constant) {
+    	
+    	this.validateArgs(stack);
+    	
+    	PlateDouble[] plates = stack.toArray();
+    	
+    	stack.clear();
+    	
+    	for(PlateDouble plate : plates) {
+    		this.platesInPlace(plate, constant);
+    		stack.add(plate);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to each well of the first
+     * argument matching a well in the second argument. Both arguments iterate
+     * over the wells in row and column order. Returns the unmatched wells of the
+     * first argument for strict operations and the unmatched wells of the second
+     * argument otherwise.
+     * @param    Iterable<WellDouble>    the first wells
+     * @param    Iterable<WellDouble>    the second wells
+     * @param    boolean                 true for strict operations
+     * @return                           the unmatched wells
+     */
+    private List<WellDouble> inPlace(Iterable<WellDouble> wells1, Iterable<WellDouble> wells2, boolean strict) {
+    	
+    	List<WellDouble> unmatched = new ArrayList<WellDouble>();
+    	
+    	Iterator<WellDouble> iter1 = wells1.iterator();
+    	Iterator<WellDouble> iter2 = wells2.iterator();
+    	
+    	WellDouble well1 = iter1.hasNext() ? iter1.next() : null;
+    	WellDouble well2 = iter2.hasNext() ? iter2.next() : null;
+    	
+    	while(well1 != null || well2 != null) {
+    		
+    		int comparison = well1 == null ? 1 : well2 == null ? -1 : well1.compareTo(well2);
+    		
+    		if(comparison == 0) {
+    			
+    			if(strict) {
+    				this.wellsStrictInPlace(well1, well2);
+    			} else {
+    				this.wellsInPlace(well1, well2);
+    			}
+    			
+    		} else if(comparison < 0 && strict) {
+    			unmatched.add(well1);
+    		} else if(comparison > 0 && !strict) {
+    			unmatched.add(well2);
+    		}
+    		
+    		if(comparison <= 0) {
+    			well1 = iter1.hasNext() ? iter1.next() : null;
+    		}
+    		
+    		if(comparison >= 0) {
+    			well2 = iter2.hasNext() ? iter2.next() : null;
+    		}
+    	}
+    	
+    	return unmatched;
+    }
+    
     /*---------------- Methods for Validating Well Arguments -----------------*/
     
     /**
@@ -1908,4 +2265,103 @@ public abstract class MathOperationDoubleBinary {
      * @return                         result of the mathematical operation
      */
     public abstract List<Double> calculateStrict(List<Double> list, Collection<Double> collection, int begin, int length);
+    
+    /*---------------------- Primitive Operation Methods ---------------------*/
+    
+    /**
+     * Performs the mathematical operation for the values in two primitive arrays.
+     * Well operations use the primitive well data. Subclasses override this 
+     * method to avoid boxing each value. By default the arrays are wrapped in 
+     * lists and the result is calculated using the lists. Missing data points 
+     * due to data sets of unequal length are treated as zero values.
+     * @param    double[]    the first array
+     * @param    int         index of the first value in the first array
+     * @param    int         number of values in the first array
+     * @param    double[]    the second array
+     * @param    int         index of the first value in the second array
+     * @param    int         number of values in the second array
+     * @return               result of the mathematical operation
+     */
+    public double[] calculate(double[] array1, int offset1, int length1, 
+    		double[] array2, int offset2, int length2) {
+    	return Doubles.toArray(this.calculate(
+    			Doubles.asList(array1).subList(offset1, offset1 + length1), 
+    			Doubles.asList(array2).subList(offset2, offset2 + length2)));
+    }
+    
+    /**
+     * Performs the mathematical operation for the values in two primitive arrays.
+     * Subclasses override this method to avoid boxing each value. By default the 
+     * arrays are wrapped in lists and the result is calculated using the lists. 
+     * Missing data points due to data sets of unequal length are omitted.
+     * @param    double[]    the first array
+     * @param    int         index of the first value in the first array
+     * @param    int         number of values in the first array
+     * @param    double[]    the second array
+     * @param    int         index of the first value in the second array
+     * @param    int         number of values in the second array
+     * @return               result of the mathematical operation
+     */
+    public double[] calculateStrict(double[] array1, int offset1, int length1, 
+    		double[] array2, int offset2, int length2) {
+    	return Doubles.toArray(this.calculateStrict(
+    			Doubles.asList(array1).subList(offset1, offset1 + length1), 
+    			Doubles.asList(array2).subList(offset2, offset2 + length2)));
+    }
+    
+    /**
+     * Performs the mathematical operation for the values in a primitive array 
+     * and a constant. Subclasses override this method to avoid boxing each value.
+     * By default the array is wrapped in a list and the result is calculated 
+     * using the list.
+     * @param    double[]    the array
+     * @param    int         index of the first value
+     * @param    int         number of values
+     * @param    double      the constant value
+     * @return               result of the mathematical operation
+     */
+    public double[] calculate(double[] array, int offset, int length, double constant) {
+    	return Doubles.toArray(this.calculate(
+    			Doubles.asList(array).subList(offset, offset + length), constant));
+    }
+    
+    /**
+     * Performs the mathematical operation for the values in two primitive arrays
+     * and writes the result to the first array. The first array must hold at
+     * least as many values as the second array. Subclasses override this method
+     * to avoid creating a result array. By default the result is calculated using
+     * the primitive array operation and copied to the first array. Missing data 
+     * points due to data sets of unequal length are treated as zero values.
+     * @param    double[]    the first array
+     * @param    int         index of the first value in the first array
+     * @param    int         number of values in the first array
+     * @param    double[]    the second array
+     * @param    int         index of the first value in the second array
+     * @param    int         number of values in the second array
+     */
+    public void calculateInPlace(double[] array1, int offset1, int length1, 
+    		double[] array2, int offset2, int length2) {
+    	
+    	if(length1 < length2) {
+    		throw new IllegalArgumentException("The first array must hold at least as many values as the second array.");
+    	}
+    	
+    	double[] result = this.calculate(array1, offset1, length1, array2, offset2, length2);
+    	System.arraycopy(result, 0, array1, offset1, length1);
+    }
+    
+    /**
+     * Performs the mathematical operation for the values in a primitive array
+     * and a constant and writes the result to the array. Subclasses override 
+     * this method to avoid creating a result array. By default the result is
+     * calculated using the primitive array operation and copied to the array.
+     * @param    double[]    the array
+     * @param    int         index of the first value
+     * @param    int         number of values
+     * @param    double      the constant value
+     */
+    public void calculateInPlace(double[] array, int offset, int length, double constant) {
+    	double[] result = this.calculate(array, offset, length, constant);
+    	System.arraycopy(result, 0, array, offset, length);
+    }
 }
@@ -24,11 +24,15 @@ package com.github.jessemull.microflex.doubleflex.math;
 /* ------------------------------ Dependencies ------------------------------ */
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import com.google.common.primitives.Doubles;
 
 import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
 import com.github.jessemull.microflex.doubleflex.plate.StackDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs mathematical operations with a single argument for double 
@@ -50,6 +54,13 @@ import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
  *    </tr>
  * </table>
  * 
+ * In place functions write the result of the operation to the wells of the
+ * argument instead of returning new wells, well sets, plates and stacks.
+ * 
+ * Setting a fork join pool performs the operation on the wells of plates and
+ * sets and on the plates of stacks in parallel. The results are identical to
+ * those of sequential execution.
+ * 
  * @author Jesse L. Mull
  * @update Updated Oct 18, 2016
  * @address http://www.jessemull.com
@@ -57,6 +68,10 @@ import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
  */
 public abstract class MathOperationDoubleUnary {
 
+	/* ---------------------------- Private Fields -------------------------- */
+	
+	private ForkJoinPool pool;    // Pool for parallel execution or null
+	
 	/* ---------------------------- Constructors ---------------------------- */
 	
 	/**
@@ -64,6 +79,45 @@ public abstract class MathOperationDoubleUnary {
 	 */
 	public MathOperationDoubleUnary() {}
 
+	/* ------------------------- Parallel Execution ------------------------- */
+	
+	/**
+	 * Sets the fork join pool used to perform the operation on the wells of 
+	 * plates and sets and on the plates of stacks in parallel. Results are 
+	 * identical to those of sequential execution. A null pool restores 
+	 * sequential execution.
+	 * @param    ForkJoinPool    the pool or null
+	 */
+	public void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+	
+	/**
+	 * Returns the fork join pool used for parallel execution or null if the 
+	 * operation is performed sequentially.
+	 * @return    the pool or null
+	 */
+	public ForkJoinPool pool() {
+		return this.pool;
+	}
+	
+	/**
+	 * Enables parallel execution using the shared default pool or restores 
+	 * sequential execution.
+	 * @param    boolean    true for parallel execution
+	 */
+	public void setParallel(boolean parallel) {
+		this.pool = parallel ? ParallelUtil.defaultPool() : null;
+	}
+	
+	/**
+	 * Returns true if the operation is performed in parallel.
+	 * @return    true if parallel execution is enabled
+	 */
+	public boolean isParallel() {
+		return this.pool != null;
+	}
+
 	/* ----------------------------- Well Methods --------------------------- */
 	
     /**
@@ -112,10 +166,15 @@ public abstract class MathOperationDoubleUnary {
     	
     	PlateDouble result = new PlateDouble(plate.rows(), plate.columns());
     	
-    	for(WellDouble well : plate) {
-    		result.addWells(new WellDouble(well.row(), well.column(), 
-    				this.calculate(well.data())));
-    	}
+    	List<WellDouble> wells = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellDouble, WellDouble>() {
+    		
+    		public WellDouble apply(WellDouble well) {
+    			return new WellDouble(well.row(), well.column(), 
+    					calculate(well.data()));
+    		}
+    	});
+    	
+    	result.addWells(wells);
     	
     	return result;
     }
@@ -159,10 +218,15 @@ public abstract class MathOperationDoubleUnary {
     	
     	WellSetDouble result = new WellSetDouble();
     	
-    	for(WellDouble well : set) {
-    		result.add(new WellDouble(well.row(), well.column(), 
-    				this.calculate(well.data())));
-    	}
+    	List<WellDouble> wells = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellDouble, WellDouble>() {
+    		
+    		public WellDouble apply(WellDouble well) {
+    			return new WellDouble(well.row(), well.column(), 
+    					calculate(well.data()));
+    		}
+    	});
+    	
+    	result.add(wells);
     	
     	return result;
     }
@@ -206,8 +270,15 @@ public abstract class MathOperationDoubleUnary {
     	
     	StackDouble result = new StackDouble(stack.rows(), stack.columns());
     	
-    	for(PlateDouble plate : stack) {
-    		result.add(this.plates(plate));
+    	List<PlateDouble> resultPlates = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateDouble, PlateDouble>() {
+    		
+    		public PlateDouble apply(PlateDouble plate) {
+    			return plates(plate);
+    		}
+    	});
+    	
+    	for(PlateDouble resultPlate : resultPlates) {
+    		result.add(resultPlate);
     	}
     	
     	return result;
@@ -235,6 +306,72 @@ public abstract class MathOperationDoubleUnary {
      	return result;
      } 
      
+    /* --------------------------- In Place Methods ------------------------- */
+    
+    /**
+     * Writes the result of the mathematical operation to the well.
+     * @param    WellDouble    the well
+     */
+    public void wellsInPlace(WellDouble well) {
+    	
+    	if(well == null) {
+    		throw new NullPointerException("Well is null.");
+    	}
+    	
+    	this.calculateInPlace(well.dataArray(), well.dataOffset(), well.dataLength());
+    	well.dataModified();
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the set.
+     * @param    WellSetDouble    the well set
+     */
+    public void setsInPlace(WellSetDouble set) {
+    	
+    	if(set == null) {
+    		throw new NullPointerException("Well set is null.");
+    	}
+    	
+    	for(WellDouble well : set) {
+    		this.wellsInPlace(well);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the plate.
+     * @param    PlateDouble    the plate
+     */
+    public void platesInPlace(PlateDouble plate) {
+    	
+    	if(plate == null) {
+    		throw new NullPointerException("Plate is null.");
+    	}
+    	
+    	for(WellDouble well : plate) {
+    		this.wellsInPlace(well);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the plates of the stack.
+     * @param    StackDouble    the stack
+     */
+    public void stacksInPlace(StackDouble stack) {
+    	
+    	if(stack == null) {
+    		throw new NullPointerException("Stack is null.");
+    	}
+    	
+    	PlateDouble[] plates = stack.toArray();
+    	
+    	stack.clear();
+    	
+    	for(PlateDouble plate : plates) {
+    		this.platesInPlace(plate);
+    		stack.add(plate);
+    	}
+    }
+    
     /*------------------------ List Operation Methods ------------------------*/
     
     /**
@@ -251,4 +388,24 @@ public abstract class MathOperationDoubleUnary {
      * @return                   result of the mathematical operation
      */
     public abstract List<Double> calculate(List<Double> list, int begin, int length);
+    
+    /*---------------------- Primitive Operation Methods ---------------------*/
+    
+    /**
+     * Performs the mathematical operation for the values in a primitive array 
+     * and writes the result to the array. Subclasses override this method to
+     * avoid boxing each value. By default the array is wrapped in a list and 
+     * the result is calculated using the list.
+     * @param    double[]    the array
+     * @param    int         index of the first value
+     * @param    int         number of values
+     */
+    public void calculateInPlace(double[] array, int offset, int length) {
+    	
+    	List<Double> result = this.calculate(Doubles.asList(array).subList(offset, offset + length));
+    	
+    	for(int i = 0; i < length; i++) {
+    		array[offset + i] = result.get(i);
+    	}
+    }
 }
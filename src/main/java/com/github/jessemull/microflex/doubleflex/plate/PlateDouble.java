@@ -28,6 +28,8 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -36,6 +38,7 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
+import com.github.jessemull.microflex.plate.WellCoordinate;
 import com.github.jessemull.microflex.plate.WellIndex;
 import com.github.jessemull.microflex.plate.WellList;
 import com.github.jessemull.microflex.util.ValUtil;
@@ -328,7 +331,9 @@ public class PlateDouble implements Iterable<WellDouble>, Comparable<PlateDouble
     private String label = "PlateDouble";    // Label
     private int type;                        // Plate type as integer
     private String descriptor;               // Plate type as string
-    private Set<WellList> groups;            // Well groups for analysis
+    private TreeSet<WellList> groups;        // Well groups for analysis
+    private Map<String, WellList> labels;    // Group index by label
+    private long relabels;                   // Well list relabel count when the labels were indexed
     private int dataType = PLATE_DOUBLE;     // Data type flag
     private WellSetDouble data;              // Well data
     
@@ -553,6 +558,7 @@ public class PlateDouble implements Iterable<WellDouble>, Comparable<PlateDouble
     		throw new IllegalArgumentException("The group " + list.toString() + " already exists in the group list.");
     	} else {
     		this.groups.add(list);
+    		this.labels = null;
     	}
     }
     
@@ -594,6 +600,7 @@ public class PlateDouble implements Iterable<WellDouble>, Comparable<PlateDouble
     		throw new IllegalArgumentException("The group " + list.toString() + " does not exist.");
     	} else {
     		this.groups.remove(list);
+    		this.labels = null;
     	}
     }
     
@@ -633,6 +640,7 @@ public class PlateDouble implements Iterable<WellDouble>, Comparable<PlateDouble
     	
     	if(toRemove != null) {
     		this.groups.remove(toRemove);
+    		this.labels = null;
     	}
     }
     
@@ -651,6 +659,7 @@ public class PlateDouble implements Iterable<WellDouble>, Comparable<PlateDouble
      */
     public void clearGroups() {
         this.groups.clear();
+        this.labels = null;
     }
     
     /* ----------------------- Group Retrieval Methods ---------------------- */
@@ -664,22 +673,7 @@ public class PlateDouble implements Iterable<WellDouble>, Comparable<PlateDouble
     	Set<WellSetDouble> groups = new TreeSet<WellSetDouble>();
 
     	for(WellList list : this.groups) {    		
-
-    		WellSetDouble set = new WellSetDouble();
-    		
-    		for(WellIndex index : list) {
-
-    			WellDouble well = this.getWells(new WellDouble(index.row(), index.column()));
-    			
-    			if(well == null) {
-    				well = new WellDouble(index.row(), index.column());
-    			}
-    			
-    			set.add(well);
-    		}	
-    		
-    		set.setLabel(list.label());
-    		groups.add(set);
+    		groups.add(this.groupSet(list));
     	}
 
     	return groups;
@@ -692,29 +686,9 @@ public class PlateDouble implements Iterable<WellDouble>, Comparable<PlateDouble
      */
     public WellSetDouble getGroups(String label) {
     	
-    	WellSetDouble set = new WellSetDouble();
-    	
-    	for(WellList list : groups) {
-    		
-    		if(list.label().equals(label)) {
-
-    			for(WellIndex index : list) {
-    				
-    				WellDouble well = this.getWells(new WellDouble(index.row(), index.column()));
-    				
-    				if(well == null) {
-    					well = new WellDouble(index.row(), index.column());
-    				}
-    			
-    				set.add(well);
-    			}
-    			
-    			set.setLabel(list.label());
-    			return set;
-    		}
-    	}
+    	WellList list = this.group(label);
     	
-    	return null;
+    	return list == null ? null : this.groupSet(list);
     }      
     
     /**
@@ -724,29 +698,13 @@ public class PlateDouble implements Iterable<WellDouble>, Comparable<PlateDouble
      */
     public WellSetDouble getGroups(WellList list) {
     	
-    	WellSetDouble set = new WellSetDouble();
+    	WellList group = this.groups.ceiling(list);
     	
-    	for(WellList group : this.groups) {
-    		
-    		if(group.equals(list)) {
-    			
-    			for(WellIndex index : group) {
-    				
-    				WellDouble well = this.getWells(new WellDouble(index.row(), index.column()));
-    				
-    				if(well == null) {
-    					well = new WellDouble(index.row(), index.column());
-    				}
-    				
-    				set.add(well);
-    			}
-    			
-    			set.setLabel(group.label());
-    			return set;
-    		}
+    	if(group == null || !group.equals(list)) {
+    		return null;
     	}
     	
-    	return null;
+    	return this.groupSet(group);
     }
     
     /**
@@ -824,15 +782,7 @@ public class PlateDouble implements Iterable<WellDouble>, Comparable<PlateDouble
      * @return             true on successful lookup
      */
     public boolean containsGroup(String label) {
-    	
-    	for(WellList list : this.groups) {
-    		
-    		if(list.label().equals(label)) {
-    			return true;
-    		}
-    	}
-    	
-    	return false;
+    	return this.group(label) != null;
     }
     
     /**
@@ -895,6 +845,81 @@ public class PlateDouble implements Iterable<WellDouble>, Comparable<PlateDouble
     	return true;
     }
     
+    /* ------------------------- Group Helper Methods ----------------------- */
+    
+    /**
+     * Returns the first group with the label or null if no group exists. The
+     * label index is dropped when groups are added or removed and rebuilt on 
+     * the next lookup. Group labels are mutable, so the index is also rebuilt
+     * when the well list relabel count changed since the groups were indexed.
+     * Hits and misses are otherwise answered by the index.
+     * @param    String    the label
+     * @return             the group
+     */
+    private WellList group(String label) {
+    	
+    	if(this.labels == null || this.relabels != WellList.relabels()) {
+    		this.indexGroups();
+    	}
+    	
+    	return this.labels.get(label);
+    }
+    
+    /**
+     * Indexes the groups using the label. The first group in the group order
+     * is indexed when groups share a label. The relabel count is read before 
+     * the groups are indexed, so a concurrent relabel triggers a rebuild.
+     */
+    private void indexGroups() {
+    	
+    	this.relabels = WellList.relabels();
+    	this.labels = new HashMap<String, WellList>();
+    	
+    	for(WellList list : this.groups) {
+    		if(list.label() != null && !this.labels.containsKey(list.label())) {
+    			this.labels.put(list.label(), list);
+    		}
+    	}
+    }
+    
+    /**
+     * Returns a well set holding the plate wells for the group. The wells are 
+     * not copied. Empty wells are added for indices without plate data. The 
+     * plate wells and the column bits of each group row are both ordered by 
+     * row and column, so the wells are matched in a single pass without 
+     * creating well indices or lookup wells. The pass ends with the last 
+     * group index, so plate wells after it are never visited, and indices 
+     * after the last plate well are added without further comparisons.
+     * @param    WellList    the group
+     * @return               the group wells
+     */
+    private WellSetDouble groupSet(WellList list) {
+    	
+    	WellSetDouble set = new WellSetDouble();
+    	Iterator<WellDouble> iter = this.data.iterator();
+    	WellDouble well = iter.hasNext() ? iter.next() : null;
+    	
+    	for(int row = 0; row < list.rowBound(); row++) {
+    		
+    		for(int column = list.nextColumn(row, 0); column >= 0; column = list.nextColumn(row, column + 1)) {
+    			
+    			while(well != null && WellCoordinate.compare(well.row(), well.column(), row, column) < 0) {
+    				well = iter.hasNext() ? iter.next() : null;
+    			}
+    			
+    			if(well != null && well.row() == row && well.column() == column) {
+    				set.add(well);
+    			} else {
+    				set.add(new WellDouble(row, column));
+    			}
+    		}
+    	}
+    	
+    	set.setLabel(list.label());
+    	
+    	return set;
+    }
+    
     /*---------------------------- TreeSet methods ---------------------------*/
     
     /**
@@ -1181,7 +1206,7 @@ public class PlateDouble implements Iterable<WellDouble>, Comparable<PlateDouble
             
             ValUtil.validateWell(this.rows, this.columns, well);
             
-            boolean add = this.data.add(new WellDouble(well.row(), well.column(), well.data()));
+            boolean add = this.data.add(new WellDouble(well));
             
             if(!add) {
                 throw new IllegalArgumentException("Failed to add well " + 
@@ -1871,13 +1896,7 @@ public class PlateDouble implements Iterable<WellDouble>, Comparable<PlateDouble
     	
     	Preconditions.checkNotNull(well, "Well cannot be null.");
     	
-    	for(WellDouble result : this.data) {
-            if(result.row() == well.row() && result.column() == well.column()) {
-                return result;
-            }
-        }
-    	
-    	return null;
+    	return this.find(well);
     }
     
     /**
@@ -1983,15 +2002,7 @@ public class PlateDouble implements Iterable<WellDouble>, Comparable<PlateDouble
             return null;
         }
         
-        WellDouble input = new WellDouble(well);
-        
-        for(WellDouble toReturn : this.data) {
-            if(input.row() == toReturn.row() && input.column() == toReturn.column()) {
-                return toReturn;
-            }
-        }
-        
-        return null;
+        return this.find(new WellDouble(well));
     }
     
     /**
@@ -2005,13 +2016,7 @@ public class PlateDouble implements Iterable<WellDouble>, Comparable<PlateDouble
             return null;
         }
 
-        for(WellDouble well : this.data) {
-            if(index.row() == well.row() && index.column() == well.column()) {
-                return well;
-            }
-        }
-        
-        return null;
+        return this.find(new WellDouble(index.row(), index.column()));
     }
     
     /**
@@ -2084,6 +2089,24 @@ public class PlateDouble implements Iterable<WellDouble>, Comparable<PlateDouble
         return set.isEmpty() ? null : set;
     }
     
+    /**
+     * Returns the plate well with the same row and column indices as the input
+     * well or null if no such well exists. Wells are ordered by row and column
+     * so the lookup uses the well set ordering rather than a linear scan.
+     * @param    WellDouble    the well
+     * @return                 the plate well or null if the well does not exist
+     */
+    private WellDouble find(WellDouble well) {
+        
+        WellDouble result = this.data.floor(well);
+        
+        if(result != null && result.row() == well.row() && result.column() == well.column()) {
+            return result;
+        }
+        
+        return null;
+    }
+    
     /*------------------------- Methods for Well Lookup ----------------------*/
     
     /**
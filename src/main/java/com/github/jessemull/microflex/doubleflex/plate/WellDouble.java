@@ -25,11 +25,14 @@ package com.github.jessemull.microflex.doubleflex.plate;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
+
+import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflex.plate.Well;
 import com.github.jessemull.microflex.util.DoubleUtil;
@@ -95,6 +98,17 @@ import com.github.jessemull.microflex.util.DoubleUtil;
  * primitive numerical types for input and output as well as two immutable types: 
  * BigDecimal and BigInteger.
  * 
+ * The data set is stored in a growable primitive double array. The list returned
+ * by data() is a live view of the array created on first use. Statistical and
+ * mathematical operations can bypass the view and read the values directly using
+ * the dataArray(), dataOffset() and dataLength() methods.
+ * 
+ * The data version changes whenever values are removed, replaced or rewritten
+ * but not when values are appended. Incremental statistics use the version to
+ * add the appended values to a running summary instead of reading every value.
+ * Writes made directly to the primitive data array must be followed by a call
+ * to dataModified().
+ * 
  * @author Jesse L. Mull
  * @update Updated Oct 18, 2016
  * @address http://www.jessemull.com
@@ -104,7 +118,13 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
     
 	/*---------------------------- Private Fields ----------------------------*/
 	
-    private List<Double> data = new ArrayList<Double>();
+    private static final double[] EMPTY = new double[0];    // Shared empty data array
+    private static final int DEFAULT_CAPACITY = 10;         // Capacity of the first allocated array
+    
+    private double[] values = EMPTY;    // Primitive data set
+    private int size;                   // Number of values in the data set
+    private DataView data;              // List view of the data set created on demand
+    private int version;                // Incremented by changes other than appends
     
     /* ---------------------------- Constructors ---------------------------- */
     
@@ -126,8 +146,9 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      */
     public WellDouble(int row, int column, Collection<Double> data) {
     	super(Well.DOUBLE, row, column);
+    	this.ensureCapacity(data.size());
     	for(Double number : data) {
-    	    this.data.add(DoubleUtil.toDouble(number));
+    	    this.addValue(DoubleUtil.toDouble(number));
     	}
     }
     
@@ -141,7 +162,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
     public WellDouble(int row, int column, Double[] data) {
         super(Well.DOUBLE, row, column);
         for(Double number : data) {
-            this.data.add(DoubleUtil.toDouble(number));
+            this.addValue(DoubleUtil.toDouble(number));
         }
     }
     
@@ -164,8 +185,9 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      */
     public WellDouble(String row, int column, Collection<Double> data) {
         super(Well.DOUBLE, row, column);
+        this.ensureCapacity(data.size());
         for(Double number : data) {
-            this.data.add(DoubleUtil.toDouble(number));
+            this.addValue(DoubleUtil.toDouble(number));
         }
     }
 
@@ -179,7 +201,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
     public WellDouble(String row, int column, Double[] data) {
         super(Well.DOUBLE, row, column);
         for(Double number : data) {
-            this.data.add(DoubleUtil.toDouble(number));
+            this.addValue(DoubleUtil.toDouble(number));
         }
     }
     
@@ -204,8 +226,9 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      */
     public WellDouble(int row, String column, Collection<Double> data) {
         super(Well.DOUBLE, row, column);
+        this.ensureCapacity(data.size());
         for(Double number : data) {
-            this.data.add(DoubleUtil.toDouble(number));
+            this.addValue(DoubleUtil.toDouble(number));
         }
     }
     
@@ -220,7 +243,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
     public WellDouble(int row, String column, Double[] data) {
         super(Well.DOUBLE, row, column);
         for(Double number : data) {
-            this.data.add(DoubleUtil.toDouble(number));
+            this.addValue(DoubleUtil.toDouble(number));
         }
     }
     
@@ -245,8 +268,9 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      */
     public WellDouble(String row, String column, Collection<Double> data) {
         super(Well.DOUBLE, row, column);
+        this.ensureCapacity(data.size());
         for(Double number : data) {
-            this.data.add(DoubleUtil.toDouble(number));
+            this.addValue(DoubleUtil.toDouble(number));
         }
     }
     
@@ -261,7 +285,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
     public WellDouble(String row, String column, Double[] data) {
         super(Well.DOUBLE, row, column);
         for(Double number : data) {
-            this.data.add(DoubleUtil.toDouble(number));
+            this.addValue(DoubleUtil.toDouble(number));
         }
     }
     
@@ -283,8 +307,9 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      */
     public WellDouble(String wellID, Collection<Double> data) {
         super(Well.DOUBLE, wellID);
+        this.ensureCapacity(data.size());
         for(Double number : data) {
-            this.data.add(DoubleUtil.toDouble(number));
+            this.addValue(DoubleUtil.toDouble(number));
         }
     }
     
@@ -298,7 +323,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
     public WellDouble(String wellID, Double[] data) {
         super(Well.DOUBLE, wellID);
         for(Double number : data) {
-            this.data.add(DoubleUtil.toDouble(number));
+            this.addValue(DoubleUtil.toDouble(number));
         }
     }
     
@@ -308,26 +333,108 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      */
     public WellDouble(WellDouble well) {
         super(well);
-        this.data = new ArrayList<Double>(well.data());
+        this.values = Arrays.copyOfRange(well.values, 0, well.size);
+        this.size = well.size;
+    }
+    
+    /**
+     * Creates a new Well object using the row number, column number and a
+     * primitive data set.
+     * @param    int         the well row
+     * @param    int         the well column
+     * @param    double[]    the data set
+     */
+    public WellDouble(int row, int column, double[] data) {
+        super(Well.DOUBLE, row, column);
+        this.values = Arrays.copyOf(data, data.length);
+        this.size = data.length;
+    }
+    
+    /**
+     * Creates a new Well object using the row number, column number and the
+     * values of a primitive array between the offset and the offset plus the
+     * length.
+     * @param    int         the well row
+     * @param    int         the well column
+     * @param    double[]    the array
+     * @param    int         index of the first value
+     * @param    int         number of values
+     */
+    public WellDouble(int row, int column, double[] data, int offset, int length) {
+        super(Well.DOUBLE, row, column);
+        this.values = Arrays.copyOfRange(data, offset, offset + length);
+        this.size = length;
     }
     
     /* -------------------- Methods for data set output --------------------- */
 
     /**
-     * Returns the data set.
+     * Returns the data set. The list is a live view of the primitive data set
+     * and changes to the list are written through to the well.
      * @return    the data set
      */
     public List<Double> data() {
+        
+        if(this.data == null) {
+            this.data = new DataView();
+        }
+        
         return this.data;
     }
     
+    /**
+     * Returns the primitive array holding the well data set. The array is not 
+     * copied and may be longer than the data set. Only the values between the
+     * data offset and the data offset plus the data length belong to the well.
+     * The array is replaced when the data set grows and should not be retained
+     * after the well is modified.
+     * @return    the primitive data array
+     */
+    public double[] dataArray() {
+        return this.values;
+    }
+    
+    /**
+     * Returns the index of the first well value in the primitive data array.
+     * @return    the offset into the data array
+     */
+    public int dataOffset() {
+        return 0;
+    }
+    
+    /**
+     * Returns the number of well values in the primitive data array.
+     * @return    the length of the data set
+     */
+    public int dataLength() {
+        return this.size;
+    }
+    
+    /**
+     * Returns the data version. The version changes whenever values are removed,
+     * replaced or rewritten but not when values are appended to the data set.
+     * @return    the data version
+     */
+    public int dataVersion() {
+        return this.version;
+    }
+    
+    /**
+     * Records a change to the data set. Must be called after values in the 
+     * primitive data array are written directly.
+     */
+    public void dataModified() {
+    	this.version++;
+    	this.modified();
+    }
+    
     /**
      * Returns the well data set as a list of doubles. Overflow results in an
      * arithmetic exception.
      * @return    the data set
      */
     public List<Double> toDouble() {
-    	return this.data;
+    	return this.data();
     }
     
     /**
@@ -336,7 +443,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return    the data set
      */
     public double[] toDoubleArray() {
-        return DoubleUtil.toDoubleArray(this.data);
+        return Arrays.copyOf(this.values, this.size);
     }
     
     /**
@@ -345,7 +452,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return    the data set
      */
     public List<Byte> toByte() {  
-        return DoubleUtil.toByteList(this.data);
+        return DoubleUtil.toByteList(this.data());
     }
     
     /**
@@ -354,7 +461,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return    the data set
      */
     public byte[] toByteArray() {
-    	return DoubleUtil.toByteArray(this.data);
+    	return DoubleUtil.toByteArray(this.data());
     }
     
     /**
@@ -363,7 +470,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return    the data set
      */
     public List<Short> toShort() {
-    	return DoubleUtil.toShortList(this.data);
+    	return DoubleUtil.toShortList(this.data());
     }
     
     /**
@@ -372,7 +479,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return    the data set
      */
     public short[] toShortArray() {
-    	return DoubleUtil.toShortArray(this.data);
+    	return DoubleUtil.toShortArray(this.data());
     }
     
     /**
@@ -381,7 +488,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return    the data set
      */
     public List<Integer> toInt() {
-    	return DoubleUtil.toIntList(this.data);
+    	return DoubleUtil.toIntList(this.data());
     }
     
     /**
@@ -390,7 +497,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return    the data set
      */
     public int[] toIntArray() {
-    	return DoubleUtil.toIntArray(this.data);
+    	return DoubleUtil.toIntArray(this.data());
     }
     
     /**
@@ -399,7 +506,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return    the data set
      */
     public List<Long> toLong() {
-    	return DoubleUtil.toLongList(this.data);
+    	return DoubleUtil.toLongList(this.data());
     }
     
     /**
@@ -408,7 +515,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return    the data set
      */
     public long[] toLongArray() {
-    	return DoubleUtil.toLongArray(this.data);
+    	return DoubleUtil.toLongArray(this.data());
     }
     
     /**
@@ -417,7 +524,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return    the data set
      */
     public List<Float> toFloat() {
-    	return DoubleUtil.toFloatList(this.data);
+    	return DoubleUtil.toFloatList(this.data());
     }
     
     /**
@@ -426,7 +533,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return    the data set
      */
     public float[] toFloatArray() {
-    	return DoubleUtil.toFloatArray(this.data);
+    	return DoubleUtil.toFloatArray(this.data());
     }
    
     /**
@@ -434,7 +541,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return    the data set
      */
     public List<BigDecimal> toBigDecimal() {
-    	return DoubleUtil.toBigDecimalList(this.data);
+    	return DoubleUtil.toBigDecimalList(this.data());
     }
     
     /**
@@ -442,7 +549,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return    the data set
      */
     public BigDecimal[] toBigDecimalArray() {
-    	return DoubleUtil.toBigDecimalArray(this.data);
+    	return DoubleUtil.toBigDecimalArray(this.data());
     }
     
     /**
@@ -450,7 +557,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return    the data set
      */
     public List<BigInteger> toBigInteger() {
-    	return DoubleUtil.toBigIntList(this.data);
+    	return DoubleUtil.toBigIntList(this.data());
     }
     
     /**
@@ -458,7 +565,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return    the data set
      */
     public BigInteger[] toBigIntegerArray() {
-    	return DoubleUtil.toBigIntArray(this.data);
+    	return DoubleUtil.toBigIntArray(this.data());
     }
     
     /* ---------------------- Methods for adding data ----------------------- */
@@ -468,7 +575,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @param    Double    the value to add
      */
     public void add(Double datum) {
-        this.data.add(DoubleUtil.toDouble(datum));
+        this.addValue(DoubleUtil.toDouble(datum));
     }
     
     /**
@@ -476,8 +583,9 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @param    Collection<Double>    the data to add
      */
     public void add(Collection<Double> collection) {
+    	this.ensureCapacity(this.size + collection.size());
     	for(Double number : collection) {
-    		this.data.add(DoubleUtil.toDouble(number));
+    		this.addValue(DoubleUtil.toDouble(number));
     	}
     }
     
@@ -486,19 +594,29 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @param    Double[]    the data to add
      */
     public void add(Double[] array) {
+    	this.ensureCapacity(this.size + array.length);
     	for(Double number : array) {
-    		this.data.add(DoubleUtil.toDouble(number));
+    		this.addValue(DoubleUtil.toDouble(number));
     	}
     }
     
+    /**
+     * Adds the values of a primitive array between the offset and the offset
+     * plus the length to the data set.
+     * @param    double[]    the array
+     * @param    int         index of the first value
+     * @param    int         number of values
+     */
+    public void add(double[] array, int offset, int length) {
+    	this.addValues(array, offset, length);
+    }
+    
     /**
      * Adds the data from another well.
      * @param    Well    the well with data set to add
      */
     public void add(WellDouble well) {
-    	for(Double db : well) {
-    		this.data.add(db);
-    	}
+    	this.addValues(well.values, 0, well.size);
     }
     
     /**
@@ -506,10 +624,8 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @param    WellSet    the well set to add
      */
     public void add(WellSetDouble set) {
-    	for(Well<Double> well : set) {
-    	    for(Object obj : well.data()) {
-    		    this.add(DoubleUtil.toDouble(obj));
-    	    }
+    	for(WellDouble well : set) {
+    		this.addValues(well.values, 0, well.size);
     	}
     }
     
@@ -520,8 +636,8 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @param    Double    replacement datum
      */
     public void replaceData(Double datum) {
-    	this.data.clear();
-        this.data.add(DoubleUtil.toDouble(datum));
+    	this.clear();
+        this.addValue(DoubleUtil.toDouble(datum));
     }
     
     /**
@@ -529,7 +645,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @param    Collection<Double>    replacement data
      */
     public void replaceData(Collection<Double> collection) {
-    	this.data.clear();
+    	this.clear();
     	this.add(collection);
     }
     
@@ -538,7 +654,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @param    Double[]    replacement data
      */
     public void replaceData(Double[] array) {
-    	this.data.clear();
+    	this.clear();
     	this.add(array);
     }
     
@@ -547,7 +663,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @param    Well    well with replacement data
      */
     public void replaceData(WellDouble well) {
-    	this.data.clear();
+    	this.clear();
     	this.add(well);
     }
     
@@ -556,7 +672,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @param    WellSet    set of wells with replacement data
      */
     public void replaceData(WellSetDouble set) {
-    	this.data.clear();
+    	this.clear();
     	this.add(set);
     }
     
@@ -567,9 +683,24 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @param    Double    datum for removal
      */
     public void remove(Double number) {
-    	List<Double> list = new ArrayList<Double>();
-    	list.add(number);
-    	this.data.removeAll(list);
+    	
+    	if(number == null) {
+    		return;
+    	}
+    	
+    	long bits = Double.doubleToLongBits(number);
+    	int index = 0;
+    	
+    	for(int i = 0; i < this.size; i++) {
+    		if(Double.doubleToLongBits(this.values[i]) != bits) {
+    			this.values[index++] = this.values[i];
+    		}
+    	}
+    	
+    	if(index != this.size) {
+    		this.size = index;
+    		this.dataModified();
+    	}
     }
     
     /**
@@ -577,8 +708,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @param    Collection<Double>    data for removal
      */
     public void remove(Collection<Double> collection) {
-    	List<Double> list = new ArrayList<Double>(collection);
-    	this.data.removeAll(list);
+    	this.data().removeAll(collection);
     }
     
     /**
@@ -586,7 +716,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @param    Double[]    data for removal
      */
     public void remove(Double[] array) {
-    	this.data.removeAll(Arrays.asList(array));
+    	this.data().removeAll(Arrays.asList(array));
     }
     
     /**
@@ -594,7 +724,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @param    Well    well with data for removal
      */
     public void removeWell(WellDouble well) {
-    	this.data.removeAll(well.data());
+    	this.data().removeAll(well.data());
     }
     
     /**
@@ -602,8 +732,8 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @param    WellSet    wells with replacement data
      */
     public void removeSet(WellSetDouble set) {
-    	for(Well<Double> well : set) {
-    		this.data.removeAll(well.data());
+    	for(WellDouble well : set) {
+    		this.data().removeAll(well.data());
     	}
     }
     
@@ -622,13 +752,13 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
     		throw new IllegalArgumentException("Indices must be positive values.");
     	}
     	
-    	if(end > this.data().size()) {
+    	if(end > this.size) {
     		throw new IndexOutOfBoundsException("Ending index does not exist.");
     	}
     	
-    	List<Double> removed = new ArrayList<Double>(this.data().subList(0, begin));
-    	removed.addAll(this.data().subList(end, this.size()));
-    	this.data = removed;
+    	System.arraycopy(this.values, end, this.values, begin, this.size - end);
+    	this.size -= end - begin;
+    	this.dataModified();
     }
     
     /* -------------------- Methods for retaining data ---------------------- */
@@ -638,9 +768,9 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @param    Double    datum for retention
      */
     public void retain(Double number) {
-    	if(this.data.contains(number)) {
-    		this.data.clear();
-    		this.data.add(DoubleUtil.toDouble(number));
+    	if(this.indexOf(number) >= 0) {
+    		this.clear();
+    		this.addValue(DoubleUtil.toDouble(number));
     	} else {
     		throw new IllegalArgumentException(number + " does not exist in the well data set.");
     	}
@@ -651,7 +781,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @param    Collection<Double>    data for retention
      */
     public void retain(Collection<Double> collection) {
-    	this.data.retainAll(collection);
+    	this.data().retainAll(collection);
     }
     
     /**
@@ -659,7 +789,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @param    Double[]    data for retention
      */
     public void retain(Double[] array) {
-    	this.data.retainAll(Arrays.asList(array));
+    	this.data().retainAll(Arrays.asList(array));
     }
     
     /**
@@ -667,7 +797,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @param    Well    well with data for retention
      */
     public void retainWell(WellDouble well) {
-    	this.data.retainAll(well.data());
+    	this.data().retainAll(well.data());
     }
     
     /**
@@ -675,8 +805,8 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @param    WellSet    wells with retention data
      */
     public void retainSet(WellSetDouble set) {
-    	for(Well<Double> well : set) {
-    		this.data.retainAll(well.data());
+    	for(WellDouble well : set) {
+    		this.data().retainAll(well.data());
     	}
     }
     
@@ -695,11 +825,13 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
     		throw new IllegalArgumentException("Indices must be positive values.");
     	}
     	
-    	if(end > this.data().size()) {
+    	if(end > this.size) {
     		throw new IndexOutOfBoundsException("Ending index does not exist.");
     	}
 
-    	this.data = this.data.subList(begin, end);
+    	System.arraycopy(this.values, begin, this.values, 0, end - begin);
+    	this.size = end - begin;
+    	this.dataModified();
     }
     
     /* ------------------- Methods for plate parameters --------------------- */
@@ -709,14 +841,15 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return    the number of values in the data set
      */
     public int size() {
-    	return this.data.size();
+    	return this.size;
     }
     
     /**
      * Clears the well data.
      */
     public void clear() {
-    	this.data.clear();
+    	this.size = 0;
+    	this.dataModified();
     }
     
     /**
@@ -724,7 +857,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return    true if the data set is empty
      */
     public boolean isEmpty() {
-    	return this.data.isEmpty();
+    	return this.size == 0;
     }
     
     /**
@@ -734,9 +867,18 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return          the new well
      */
     public WellDouble subList(int begin, int length) {
-    	WellDouble well = new WellDouble(this.row(), this.column());
-    	well.add(this.data().subList(begin, begin + length));
-    	return well;
+    	
+    	if(begin < 0 || begin + length > this.size) {
+    		throw new IndexOutOfBoundsException("Invalid sub list indices: " + 
+    	            begin + " to " + (begin + length) + ".");
+    	}
+    	
+    	if(length < 0) {
+    		throw new IllegalArgumentException("The sub list length must be a positive value.");
+    	}
+    	
+    	return new WellDouble(this.row(), this.column(), 
+    			Arrays.copyOfRange(this.values, begin, begin + length));
     }
     
     /**
@@ -745,7 +887,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return             true if the data set contains the value
      */
     public boolean contains(Double number) {
-    	return this.data.contains(DoubleUtil.toDouble(number));
+    	return this.indexOf(DoubleUtil.toDouble(number)) >= 0;
     }
     
     /**
@@ -755,7 +897,20 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return             the index
      */
     public int indexOf(Double number) {
-    	return this.data.indexOf(number);
+    	
+    	if(number == null) {
+    		return -1;
+    	}
+    	
+    	long bits = Double.doubleToLongBits(number);
+    	
+    	for(int i = 0; i < this.size; i++) {
+    		if(Double.doubleToLongBits(this.values[i]) == bits) {
+    			return i;
+    		}
+    	}
+    	
+    	return -1;
     }
     
     /**
@@ -764,7 +919,8 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return          the value at the index
      */
     public double get(int index) {
-    	return this.data.get(index);
+    	this.checkIndex(index);
+    	return this.values[index];
     }
     
     /**
@@ -774,7 +930,20 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
      * @return          the index of the last occurrence
      */
     public double lastIndexOf(Double number) {
-    	return this.data.lastIndexOf(number);
+    	
+    	if(number == null) {
+    		return -1;
+    	}
+    	
+    	long bits = Double.doubleToLongBits(number);
+    	
+    	for(int i = this.size - 1; i >= 0; i--) {
+    		if(Double.doubleToLongBits(this.values[i]) == bits) {
+    			return i;
+    		}
+    	}
+    	
+    	return -1;
     } 
 
 	/**
@@ -782,7 +951,7 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
 	 * @return    the iterator
 	 */
 	public Iterator<Double> iterator() {
-		return this.data.iterator();
+		return this.data().iterator();
 	}
 
 	/**
@@ -801,10 +970,230 @@ public class WellDouble extends Well<Double> implements Iterable<Double> {
             return true;
         }
         
-        WellDouble well = (WellDouble) object;
-        
-        return this.row() == well.row() && 
-               this.column() == well.column() &&
-               this.alphaBase() == well.alphaBase();    
+        return this.coordinate().equals(((WellDouble) object).coordinate());
+    }
+    
+    /* --------------------- Primitive storage methods ---------------------- */
+    
+    /**
+     * Appends a value to the primitive data set.
+     * @param    double    the value
+     */
+    private void addValue(double value) {
+    	this.ensureCapacity(this.size + 1);
+    	this.values[this.size++] = value;
+    	this.modified();
+    }
+    
+    /**
+     * Appends the values between the indices to the primitive data set.
+     * @param    double[]    the values
+     * @param    int         beginning index of the values
+     * @param    int         number of values to append
+     */
+    private void addValues(double[] array, int offset, int length) {
+    	this.ensureCapacity(this.size + length);
+    	System.arraycopy(array, offset, this.values, this.size, length);
+    	this.size += length;
+    	this.modified();
+    }
+    
+    /**
+     * Inserts a value into the primitive data set.
+     * @param    int       the index
+     * @param    double    the value
+     */
+    private void insertValue(int index, double value) {
+    	
+    	if(index < 0 || index > this.size) {
+    		throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+    	}
+    	
+    	this.ensureCapacity(this.size + 1);
+    	System.arraycopy(this.values, index, this.values, index + 1, this.size - index);
+    	this.values[index] = value;
+    	this.size++;
+    	this.dataModified();
+    }
+    
+    /**
+     * Removes the value at the index from the primitive data set.
+     * @param    int    the index
+     * @return          the removed value
+     */
+    private double removeValue(int index) {
+    	
+    	this.checkIndex(index);
+    	
+    	double removed = this.values[index];
+    	System.arraycopy(this.values, index + 1, this.values, index, this.size - index - 1);
+    	this.size--;
+    	this.dataModified();
+    	
+    	return removed;
+    }
+    
+    /**
+     * Grows the primitive data array to hold at least the minimum number of 
+     * values.
+     * @param    int    the minimum capacity
+     */
+    private void ensureCapacity(int minimum) {
+    	
+    	if(minimum <= this.values.length) {
+    		return;
+    	}
+    	
+    	int capacity = Math.max(this.values.length + (this.values.length >> 1), DEFAULT_CAPACITY);
+    	
+    	if(capacity < minimum) {
+    		capacity = minimum;
+    	}
+    	
+    	this.values = Arrays.copyOf(this.values, capacity);
+    }
+    
+    /**
+     * Throws an index out of bounds exception for indices outside the data set.
+     * @param    int    the index
+     */
+    private void checkIndex(int index) {
+    	if(index < 0 || index >= this.size) {
+    		throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+    	}
+    }
+    
+    /**
+     * Invalidates iterators over the list view after a structural change.
+     */
+    private void modified() {
+    	if(this.data != null) {
+    		this.data.modified();
+    	}
+    }
+    
+    /**
+     * Live list view of the primitive data set.
+     */
+    private class DataView extends AbstractList<Double> implements RandomAccess {
+    	
+    	/**
+    	 * Returns the value at the index.
+    	 * @param    int    the index
+    	 * @return          the value
+    	 */
+    	public Double get(int index) {
+    		return WellDouble.this.get(index);
+    	}
+    	
+    	/**
+    	 * Replaces the value at the index.
+    	 * @param    int       the index
+    	 * @param    Double    the new value
+    	 * @return             the replaced value
+    	 */
+    	public Double set(int index, Double element) {
+    		Preconditions.checkNotNull(element, "The data set cannot contain null values.");
+    		checkIndex(index);
+    		double replaced = values[index];
+    		values[index] = element;
+    		version++;
+    		return replaced;
+    	}
+    	
+    	/**
+    	 * Inserts the value at the index.
+    	 * @param    int       the index
+    	 * @param    Double    the value
+    	 */
+    	public void add(int index, Double element) {
+    		Preconditions.checkNotNull(element, "The data set cannot contain null values.");
+    		insertValue(index, element);
+    	}
+    	
+    	/**
+    	 * Removes the value at the index.
+    	 * @param    int    the index
+    	 * @return          the removed value
+    	 */
+    	public Double remove(int index) {
+    		return removeValue(index);
+    	}
+    	
+    	/**
+    	 * Returns the number of values.
+    	 * @return    the size of the data set
+    	 */
+    	public int size() {
+    		return size;
+    	}
+    	
+    	/**
+    	 * Removes all values from the data set.
+    	 */
+    	public void clear() {
+    		WellDouble.this.clear();
+    	}
+    	
+    	/**
+    	 * Removes the values between the indices.
+    	 * @param    int    beginning index
+    	 * @param    int    ending index
+    	 */
+    	protected void removeRange(int begin, int end) {
+    		WellDouble.this.removeRange(begin, end);
+    	}
+    	
+    	/**
+    	 * Removes all values contained in the collection.
+    	 * @param    Collection<?>    values for removal
+    	 * @return                    true if the data set changed
+    	 */
+    	public boolean removeAll(Collection<?> collection) {
+    		return this.batchRemove(collection, false);
+    	}
+    	
+    	/**
+    	 * Retains all values contained in the collection.
+    	 * @param    Collection<?>    values for retention
+    	 * @return                    true if the data set changed
+    	 */
+    	public boolean retainAll(Collection<?> collection) {
+    		return this.batchRemove(collection, true);
+    	}
+    	
+    	/**
+    	 * Compacts the data set keeping the values that are or are not members 
+    	 * of the collection.
+    	 * @param    Collection<?>    the collection
+    	 * @param    boolean          true to keep members of the collection
+    	 * @return                    true if the data set changed
+    	 */
+    	private boolean batchRemove(Collection<?> collection, boolean retain) {
+    		
+    		int index = 0;
+    		
+    		for(int i = 0; i < size; i++) {
+    			if(collection.contains(values[i]) == retain) {
+    				values[index++] = values[i];
+    			}
+    		}
+    		
+    		if(index == size) {
+    			return false;
+    		}
+    		
+    		size = index;
+    		WellDouble.this.dataModified();
+    		
+    		return true;
+    	}
+    	
+    	/**
+    	 * Records a structural modification for fail fast iterators.
+    	 */
+    	private void modified() {
+    		this.modCount++;
+    	}
     }
 }
@@ -34,6 +34,7 @@ import com.google.common.base.Preconditions;
 import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs weighted statistical operations for double plate stacks, 
@@ -186,15 +187,23 @@ public abstract class DescriptiveStatisticDoubleWeights extends DescriptiveStati
      * @param    double[]       weights for the data set
      * @return                  map of wells and results
      */
-    public Map<WellDouble, Double> plate(PlateDouble plate, double[] weights) {
+    public Map<WellDouble, Double> plate(PlateDouble plate, final double[] weights) {
 
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
     	
     	Map<WellDouble, Double> result = new TreeMap<WellDouble, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool(), plate, new ParallelUtil.Task<WellDouble, Double>() {
+            public Double apply(WellDouble well) {
+                return well(well, weights);
+            }
+        });
+
+        int index = 0;
+
         for (WellDouble well : plate) {
             WellDouble clone = new WellDouble(well);
-            result.put(clone, well(well, weights));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -210,15 +219,23 @@ public abstract class DescriptiveStatisticDoubleWeights extends DescriptiveStati
      * @param    int            length of subset
      * @return                  map of wells and results
      */
-    public Map<WellDouble, Double> plate(PlateDouble plate, double[] weights, int begin, int length) {
+    public Map<WellDouble, Double> plate(PlateDouble plate, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
     	
     	Map<WellDouble, Double> result = new TreeMap<WellDouble, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool(), plate, new ParallelUtil.Task<WellDouble, Double>() {
+            public Double apply(WellDouble well) {
+                return well(well, weights, begin, length);
+            }
+        });
+
+        int index = 0;
+
         for (WellDouble well : plate) {
             WellDouble clone = new WellDouble(well);
-            result.put(clone, well(well, weights, begin, length));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -261,29 +278,35 @@ public abstract class DescriptiveStatisticDoubleWeights extends DescriptiveStati
      * @return                              map of plates and aggregated results
      */
     public Map<PlateDouble, Double> platesAggregated(
-            Collection<PlateDouble> collection, double[] weights) {
+            Collection<PlateDouble> collection, final double[] weights) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateDouble, Double> results = new TreeMap<PlateDouble, Double>();
         
-        for(PlateDouble plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateDouble clone = new PlateDouble(plate);
-            
-            for (WellDouble well : plate) {
-
-            	List<Double> input = well.data();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<Double> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<PlateDouble, Double>() {
+            public Double apply(PlateDouble plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : plate) {
+
+                	List<Double> input = well.data();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : collection) {
+            results.put(new PlateDouble(plate), values.get(index++));
         }
         
         return results;
@@ -297,29 +320,35 @@ public abstract class DescriptiveStatisticDoubleWeights extends DescriptiveStati
      * @return                    map of plates and aggregated results
      */
     public Map<PlateDouble, Double> platesAggregated(
-            PlateDouble[] array, double[] weights) {
+            PlateDouble[] array, final double[] weights) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateDouble, Double> results = new TreeMap<PlateDouble, Double>();
         
-        for(PlateDouble plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateDouble clone = new PlateDouble(plate);
-            
-            for (WellDouble well : plate) {
-
-            	List<Double> input = well.data();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<Double> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<PlateDouble, Double>() {
+            public Double apply(PlateDouble plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : plate) {
+
+                	List<Double> input = well.data();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : array) {
+            results.put(new PlateDouble(plate), values.get(index++));
         }
         
         return results;
@@ -365,29 +394,35 @@ public abstract class DescriptiveStatisticDoubleWeights extends DescriptiveStati
      * @return                              map of plates and aggregated results
      */
     public Map<PlateDouble, Double> platesAggregated(
-            Collection<PlateDouble> collection, double[] weights, int begin, int length) {
+            Collection<PlateDouble> collection, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateDouble, Double> results = new TreeMap<PlateDouble, Double>();
         
-        for(PlateDouble plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateDouble clone = new PlateDouble(plate);
-            
-            for (WellDouble well : plate) {
-
-            	List<Double> input = well.data().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<Double> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<PlateDouble, Double>() {
+            public Double apply(PlateDouble plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : plate) {
+
+                	List<Double> input = well.data().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : collection) {
+            results.put(new PlateDouble(plate), values.get(index++));
         }
         
         return results;
@@ -404,29 +439,35 @@ public abstract class DescriptiveStatisticDoubleWeights extends DescriptiveStati
      * @return                    map of plates and aggregated results
      */
     public Map<PlateDouble, Double> platesAggregated(
-            PlateDouble[] array, double[] weights, int begin, int length) {
+            PlateDouble[] array, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateDouble, Double> results = new TreeMap<PlateDouble, Double>();
         
-        for(PlateDouble plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateDouble clone = new PlateDouble(plate);
-            
-            for (WellDouble well : plate) {
-
-            	List<Double> input = well.data().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<Double> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<PlateDouble, Double>() {
+            public Double apply(PlateDouble plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : plate) {
+
+                	List<Double> input = well.data().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : array) {
+            results.put(new PlateDouble(plate), values.get(index++));
         }
         
         return results;
@@ -441,15 +482,23 @@ public abstract class DescriptiveStatisticDoubleWeights extends DescriptiveStati
      * @param    double[]         weights for the data set
      * @return                    map of wells and results
      */
-    public Map<WellDouble, Double> set(WellSetDouble set, double[] weights) {
+    public Map<WellDouble, Double> set(WellSetDouble set, final double[] weights) {
 
     	Preconditions.checkNotNull(set, "The set cannot be null.");
     	
     	Map<WellDouble, Double> result = new TreeMap<WellDouble, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool(), set, new ParallelUtil.Task<WellDouble, Double>() {
+            public Double apply(WellDouble well) {
+                return well(well, weights);
+            }
+        });
+
+        int index = 0;
+
         for (WellDouble well : set) {
-        	WellDouble clone = new WellDouble(well);
-            result.put(clone,  well(well, weights));
+            WellDouble clone = new WellDouble(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -465,15 +514,23 @@ public abstract class DescriptiveStatisticDoubleWeights extends DescriptiveStati
      * @param    int              length of subset
      * @return                    map of wells and results
      */
-    public Map<WellDouble, Double> set(WellSetDouble set, double[] weights, int begin, int length) {
+    public Map<WellDouble, Double> set(WellSetDouble set, final double[] weights, final int begin, final int length) {
 
         Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellDouble, Double> result = new TreeMap<WellDouble, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool(), set, new ParallelUtil.Task<WellDouble, Double>() {
+            public Double apply(WellDouble well) {
+                return well(well, weights, begin, length);
+            }
+        });
+
+        int index = 0;
+
         for (WellDouble well : set) {
-        	WellDouble clone = new WellDouble(well);
-            result.put(clone,  well(well, weights, begin, length));
+            WellDouble clone = new WellDouble(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -516,29 +573,35 @@ public abstract class DescriptiveStatisticDoubleWeights extends DescriptiveStati
      * @return                                map of well sets and aggregated results
      */
     public Map<WellSetDouble, Double> setsAggregated(
-            Collection<WellSetDouble> collection, double[] weights) {
+            Collection<WellSetDouble> collection, final double[] weights) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetDouble, Double> results = new TreeMap<WellSetDouble, Double>();
         
-        for(WellSetDouble set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetDouble clone = new WellSetDouble(set);
-            
-            for (WellDouble well : set) {
-
-            	List<Double> input = well.data();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<Double> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<WellSetDouble, Double>() {
+            public Double apply(WellSetDouble set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : set) {
+
+                	List<Double> input = well.data();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : collection) {
+            results.put(new WellSetDouble(set), values.get(index++));
         }
         
         return results;
@@ -552,29 +615,35 @@ public abstract class DescriptiveStatisticDoubleWeights extends DescriptiveStati
      * @return                      map of well sets and aggregated results
      */
     public Map<WellSetDouble, Double> setsAggregated(
-            WellSetDouble[] array, double[] weights) {
+            WellSetDouble[] array, final double[] weights) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetDouble, Double> results = new TreeMap<WellSetDouble, Double>();
         
-        for(WellSetDouble set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetDouble clone = new WellSetDouble(set);
-            
-            for (WellDouble well : set) {
-
-            	List<Double> input = well.data();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<Double> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<WellSetDouble, Double>() {
+            public Double apply(WellSetDouble set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : set) {
+
+                	List<Double> input = well.data();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : array) {
+            results.put(new WellSetDouble(set), values.get(index++));
         }
         
         return results;
@@ -620,29 +689,35 @@ public abstract class DescriptiveStatisticDoubleWeights extends DescriptiveStati
      * @return                                map of well sets and aggregated results
      */
     public Map<WellSetDouble, Double> setsAggregated(
-            Collection<WellSetDouble> collection, double[] weights, int begin, int length) {
+            Collection<WellSetDouble> collection, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetDouble, Double> results = new TreeMap<WellSetDouble, Double>();
         
-        for(WellSetDouble set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetDouble clone = new WellSetDouble(set);
-            
-            for (WellDouble well : set) {
-
-            	List<Double> input = well.data().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<Double> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<WellSetDouble, Double>() {
+            public Double apply(WellSetDouble set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : set) {
+
+                	List<Double> input = well.data().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : collection) {
+            results.put(new WellSetDouble(set), values.get(index++));
         }
         
         return results;
@@ -659,29 +734,35 @@ public abstract class DescriptiveStatisticDoubleWeights extends DescriptiveStati
      * @return                      map of well sets and aggregated results
      */
     public Map<WellSetDouble, Double> setsAggregated(
-            WellSetDouble[] array, double[] weights, int begin, int length) {
+            WellSetDouble[] array, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetDouble, Double> results = new TreeMap<WellSetDouble, Double>();
         
-        for(WellSetDouble set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetDouble clone = new WellSetDouble(set);
-            
-            for (WellDouble well : set) {
-
-            	List<Double> input = well.data().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<Double> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<WellSetDouble, Double>() {
+            public Double apply(WellSetDouble set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : set) {
+
+                	List<Double> input = well.data().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : array) {
+            results.put(new WellSetDouble(set), values.get(index++));
         }
         
         return results;
@@ -28,12 +28,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs statistical operations for double plate stacks, plates, 
@@ -186,7 +188,49 @@ import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
  * @email hello@jessemull.com
  */
 public abstract class DescriptiveStatisticListDouble {
+
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private ForkJoinPool pool;    // Pool for parallel execution or null
+    
+    /* ------------------------- Parallel Execution ------------------------- */
+    
+    /**
+     * Sets the fork join pool used to calculate the statistic for the wells, 
+     * plates and sets in parallel. Results are merged in the same order used 
+     * by sequential execution. A null pool restores sequential execution.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    
+    /**
+     * Returns the fork join pool used for parallel execution or null if the 
+     * statistic is calculated sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+    
+    /**
+     * Enables parallel execution using the shared default pool or restores 
+     * sequential execution.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
     
+    /**
+     * Returns true if the statistic is calculated in parallel.
+     * @return    true if parallel execution is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+        
     /* ---------------- Well statistics for all plate wells ----------------- */
     
     /**
@@ -200,9 +244,17 @@ public abstract class DescriptiveStatisticListDouble {
         
         Map<WellDouble, List<Double>> result = new TreeMap<WellDouble, List<Double>>();
         
+        List<List<Double>> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellDouble, List<Double>>() {
+            public List<Double> apply(WellDouble well) {
+                return well(well);
+            }
+        });
+
+        int index = 0;
+
         for (WellDouble well : plate) {
             WellDouble clone = new WellDouble(well);
-            result.put(clone, well(well));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -217,15 +269,23 @@ public abstract class DescriptiveStatisticListDouble {
      * @param    int            length of subset
      * @return                  map of wells and results   
      */
-    public Map<WellDouble, List<Double>> plate(PlateDouble plate, int begin, int length) {
+    public Map<WellDouble, List<Double>> plate(PlateDouble plate, final int begin, final int length) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellDouble, List<Double>> result = new TreeMap<WellDouble, List<Double>>();
         
+        List<List<Double>> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellDouble, List<Double>>() {
+            public List<Double> apply(WellDouble well) {
+                return well(well, begin, length);
+            }
+        });
+
+        int index = 0;
+
         for (WellDouble well : plate) {
             WellDouble clone = new WellDouble(well);
-            result.put(clone, well(well, begin, length));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -264,17 +324,23 @@ public abstract class DescriptiveStatisticListDouble {
 
         Map<PlateDouble, List<Double>> results = new TreeMap<PlateDouble, List<Double>>();
         
-        for(PlateDouble plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateDouble clone = new PlateDouble(plate);
-            
-            for (WellDouble well : plate) {
-                aggregated.addAll(well.data());
+        List<List<Double>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateDouble, List<Double>>() {
+            public List<Double> apply(PlateDouble plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : plate) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : collection) {
+            results.put(new PlateDouble(plate), values.get(index++));
         }
         
         return results;
@@ -291,17 +357,23 @@ public abstract class DescriptiveStatisticListDouble {
 
         Map<PlateDouble, List<Double>> results = new TreeMap<PlateDouble, List<Double>>();
         
-        for(PlateDouble plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateDouble clone = new PlateDouble(plate);
-            
-            for (WellDouble well : plate) {
-                aggregated.addAll(well.data());
+        List<List<Double>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateDouble, List<Double>>() {
+            public List<Double> apply(PlateDouble plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : plate) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : array) {
+            results.put(new PlateDouble(plate), values.get(index++));
         }
         
         return results;
@@ -339,23 +411,29 @@ public abstract class DescriptiveStatisticListDouble {
      * @return                              map of plates and aggregated results
      */
     public Map<PlateDouble, List<Double>> platesAggregated(
-            Collection<PlateDouble> collection, int begin, int length) {
+            Collection<PlateDouble> collection, final int begin, final int length) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateDouble, List<Double>> results = new TreeMap<PlateDouble, List<Double>>();
         
-        for(PlateDouble plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateDouble clone = new PlateDouble(plate);
-            
-            for (WellDouble well : plate) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<List<Double>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateDouble, List<Double>>() {
+            public List<Double> apply(PlateDouble plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : plate) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : collection) {
+            results.put(new PlateDouble(plate), values.get(index++));
         }
         
         return results;
@@ -371,23 +449,29 @@ public abstract class DescriptiveStatisticListDouble {
      * @return                    map of plates and aggregated results
      */
     public Map<PlateDouble, List<Double>> platesAggregated(
-            PlateDouble[] array, int begin, int length) {
+            PlateDouble[] array, final int begin, final int length) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateDouble, List<Double>> results = new TreeMap<PlateDouble, List<Double>>();
         
-        for(PlateDouble plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateDouble clone = new PlateDouble(plate);
-            
-            for (WellDouble well : plate) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<List<Double>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateDouble, List<Double>>() {
+            public List<Double> apply(PlateDouble plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : plate) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : array) {
+            results.put(new PlateDouble(plate), values.get(index++));
         }
         
         return results;
@@ -407,9 +491,17 @@ public abstract class DescriptiveStatisticListDouble {
     	
     	Map<WellDouble, List<Double>> result = new TreeMap<WellDouble, List<Double>>();
         
+        List<List<Double>> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellDouble, List<Double>>() {
+            public List<Double> apply(WellDouble well) {
+                return well(well);
+            }
+        });
+
+        int index = 0;
+
         for (WellDouble well : set) {
             WellDouble clone = new WellDouble(well);
-            result.put(clone, well(well));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -424,15 +516,23 @@ public abstract class DescriptiveStatisticListDouble {
      * @param    int              length of subset
      * @return                    map of wells and results
      */
-    public Map<WellDouble, List<Double>> set(WellSetDouble set, int begin, int length) {
+    public Map<WellDouble, List<Double>> set(WellSetDouble set, final int begin, final int length) {
         
     	Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellDouble, List<Double>> result = new TreeMap<WellDouble, List<Double>>();
         
+        List<List<Double>> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellDouble, List<Double>>() {
+            public List<Double> apply(WellDouble well) {
+                return well(well, begin, length);
+            }
+        });
+
+        int index = 0;
+
         for (WellDouble well : set) {
-        	WellDouble clone = new WellDouble(well);
-            result.put(clone,  well(well, begin, length));
+            WellDouble clone = new WellDouble(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -471,17 +571,23 @@ public abstract class DescriptiveStatisticListDouble {
 
         Map<WellSetDouble, List<Double>> results = new TreeMap<WellSetDouble, List<Double>>();
         
-        for(WellSetDouble set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetDouble clone = new WellSetDouble(set);
-            
-            for (WellDouble well : set) {
-                aggregated.addAll(well.data());
+        List<List<Double>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetDouble, List<Double>>() {
+            public List<Double> apply(WellSetDouble set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : set) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : collection) {
+            results.put(new WellSetDouble(set), values.get(index++));
         }
         
         return results;
@@ -498,17 +604,23 @@ public abstract class DescriptiveStatisticListDouble {
 
         Map<WellSetDouble, List<Double>> results = new TreeMap<WellSetDouble, List<Double>>();
         
-        for(WellSetDouble set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetDouble clone = new WellSetDouble(set);
-            
-            for (WellDouble well : set) {
-                aggregated.addAll(well.data());
+        List<List<Double>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetDouble, List<Double>>() {
+            public List<Double> apply(WellSetDouble set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : set) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : array) {
+            results.put(new WellSetDouble(set), values.get(index++));
         }
         
         return results;
@@ -546,23 +658,29 @@ public abstract class DescriptiveStatisticListDouble {
      * @return                                map of well sets and aggregated results
      */
     public Map<WellSetDouble, List<Double>> setsAggregated(
-            Collection<WellSetDouble> collection, int begin, int length) {
+            Collection<WellSetDouble> collection, final int begin, final int length) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetDouble, List<Double>> results = new TreeMap<WellSetDouble, List<Double>>();
         
-        for(WellSetDouble set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetDouble clone = new WellSetDouble(set);
-            
-            for (WellDouble well : set) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<List<Double>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetDouble, List<Double>>() {
+            public List<Double> apply(WellSetDouble set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : set) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : collection) {
+            results.put(new WellSetDouble(set), values.get(index++));
         }
         
         return results;
@@ -578,23 +696,29 @@ public abstract class DescriptiveStatisticListDouble {
      * @return                      map of well sets and aggregated results
      */
     public Map<WellSetDouble, List<Double>> setsAggregated(
-            WellSetDouble[] array, int begin, int length) {
+            WellSetDouble[] array, final int begin, final int length) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetDouble, List<Double>> results = new TreeMap<WellSetDouble, List<Double>>();
         
-        for(WellSetDouble set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetDouble clone = new WellSetDouble(set);
-            
-            for (WellDouble well : set) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<List<Double>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetDouble, List<Double>>() {
+            public List<Double> apply(WellSetDouble set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : set) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : array) {
+            results.put(new WellSetDouble(set), values.get(index++));
         }
         
         return results;
@@ -34,6 +34,7 @@ import com.google.common.base.Preconditions;
 import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs weighted statistical operations for double plate stacks, 
@@ -187,15 +188,23 @@ public abstract class DescriptiveStatisticListDoubleWeights extends DescriptiveS
      * @param    double[]       weights for the data set
      * @return                  map of wells and results
      */
-    public Map<WellDouble, List<Double>> plate(PlateDouble plate, double[] weights) {
+    public Map<WellDouble, List<Double>> plate(PlateDouble plate, final double[] weights) {
 
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
     	
     	Map<WellDouble, List<Double>> result = new TreeMap<WellDouble, List<Double>>();
         
+        List<List<Double>> values = ParallelUtil.map(this.pool(), plate, new ParallelUtil.Task<WellDouble, List<Double>>() {
+            public List<Double> apply(WellDouble well) {
+                return well(well, weights);
+            }
+        });
+
+        int index = 0;
+
         for (WellDouble well : plate) {
             WellDouble clone = new WellDouble(well);
-            result.put(clone, well(well, weights));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -211,15 +220,23 @@ public abstract class DescriptiveStatisticListDoubleWeights extends DescriptiveS
      * @param    int            length of subset
      * @return                  map of wells and results
      */
-    public Map<WellDouble, List<Double>> plate(PlateDouble plate, double[] weights, int begin, int length) {
+    public Map<WellDouble, List<Double>> plate(PlateDouble plate, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
     	
     	Map<WellDouble, List<Double>> result = new TreeMap<WellDouble, List<Double>>();
         
+        List<List<Double>> values = ParallelUtil.map(this.pool(), plate, new ParallelUtil.Task<WellDouble, List<Double>>() {
+            public List<Double> apply(WellDouble well) {
+                return well(well, weights, begin, length);
+            }
+        });
+
+        int index = 0;
+
         for (WellDouble well : plate) {
             WellDouble clone = new WellDouble(well);
-            result.put(clone, well(well, weights, begin, length));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -262,29 +279,35 @@ public abstract class DescriptiveStatisticListDoubleWeights extends DescriptiveS
      * @return                              map of plates and aggregated results
      */
     public Map<PlateDouble, List<Double>> platesAggregated(
-            Collection<PlateDouble> collection, double[] weights) {
+            Collection<PlateDouble> collection, final double[] weights) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateDouble, List<Double>> results = new TreeMap<PlateDouble, List<Double>>();
         
-        for(PlateDouble plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateDouble clone = new PlateDouble(plate);
-            
-            for (WellDouble well : plate) {
-
-            	List<Double> input = well.data();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<List<Double>> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<PlateDouble, List<Double>>() {
+            public List<Double> apply(PlateDouble plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : plate) {
+
+                	List<Double> input = well.data();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : collection) {
+            results.put(new PlateDouble(plate), values.get(index++));
         }
         
         return results;
@@ -298,29 +321,35 @@ public abstract class DescriptiveStatisticListDoubleWeights extends DescriptiveS
      * @return                    map of plates and aggregated results
      */
     public Map<PlateDouble, List<Double>> platesAggregated(
-            PlateDouble[] array, double[] weights) {
+            PlateDouble[] array, final double[] weights) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateDouble, List<Double>> results = new TreeMap<PlateDouble, List<Double>>();
         
-        for(PlateDouble plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateDouble clone = new PlateDouble(plate);
-            
-            for (WellDouble well : plate) {
-
-            	List<Double> input = well.data();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<List<Double>> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<PlateDouble, List<Double>>() {
+            public List<Double> apply(PlateDouble plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : plate) {
+
+                	List<Double> input = well.data();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : array) {
+            results.put(new PlateDouble(plate), values.get(index++));
         }
         
         return results;
@@ -366,29 +395,35 @@ public abstract class DescriptiveStatisticListDoubleWeights extends DescriptiveS
      * @return                              map of plates and aggregated results
      */
     public Map<PlateDouble, List<Double>> platesAggregated(
-            Collection<PlateDouble> collection, double[] weights, int begin, int length) {
+            Collection<PlateDouble> collection, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateDouble, List<Double>> results = new TreeMap<PlateDouble, List<Double>>();
         
-        for(PlateDouble plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateDouble clone = new PlateDouble(plate);
-            
-            for (WellDouble well : plate) {
-
-            	List<Double> input = well.data().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<List<Double>> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<PlateDouble, List<Double>>() {
+            public List<Double> apply(PlateDouble plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : plate) {
+
+                	List<Double> input = well.data().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : collection) {
+            results.put(new PlateDouble(plate), values.get(index++));
         }
         
         return results;
@@ -405,29 +440,35 @@ public abstract class DescriptiveStatisticListDoubleWeights extends DescriptiveS
      * @return                    map of plates and aggregated results
      */
     public Map<PlateDouble, List<Double>> platesAggregated(
-            PlateDouble[] array, double[] weights, int begin, int length) {
+            PlateDouble[] array, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateDouble, List<Double>> results = new TreeMap<PlateDouble, List<Double>>();
         
-        for(PlateDouble plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateDouble clone = new PlateDouble(plate);
-            
-            for (WellDouble well : plate) {
-
-            	List<Double> input = well.data().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<List<Double>> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<PlateDouble, List<Double>>() {
+            public List<Double> apply(PlateDouble plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : plate) {
+
+                	List<Double> input = well.data().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : array) {
+            results.put(new PlateDouble(plate), values.get(index++));
         }
         
         return results;
@@ -442,15 +483,23 @@ public abstract class DescriptiveStatisticListDoubleWeights extends DescriptiveS
      * @param    double[]         weights for the data set
      * @return                    map of wells and results
      */
-    public Map<WellDouble, List<Double>> set(WellSetDouble set, double[] weights) {
+    public Map<WellDouble, List<Double>> set(WellSetDouble set, final double[] weights) {
 
     	Preconditions.checkNotNull(set, "The set cannot be null.");
     	
     	Map<WellDouble, List<Double>> result = new TreeMap<WellDouble, List<Double>>();
         
+        List<List<Double>> values = ParallelUtil.map(this.pool(), set, new ParallelUtil.Task<WellDouble, List<Double>>() {
+            public List<Double> apply(WellDouble well) {
+                return well(well, weights);
+            }
+        });
+
+        int index = 0;
+
         for (WellDouble well : set) {
-        	WellDouble clone = new WellDouble(well);
-            result.put(clone,  well(well, weights));
+            WellDouble clone = new WellDouble(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -466,15 +515,23 @@ public abstract class DescriptiveStatisticListDoubleWeights extends DescriptiveS
      * @param    int              length of subset
      * @return                    map of wells and results
      */
-    public Map<WellDouble, List<Double>> set(WellSetDouble set, double[] weights, int begin, int length) {
+    public Map<WellDouble, List<Double>> set(WellSetDouble set, final double[] weights, final int begin, final int length) {
 
         Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellDouble, List<Double>> result = new TreeMap<WellDouble, List<Double>>();
         
+        List<List<Double>> values = ParallelUtil.map(this.pool(), set, new ParallelUtil.Task<WellDouble, List<Double>>() {
+            public List<Double> apply(WellDouble well) {
+                return well(well, weights, begin, length);
+            }
+        });
+
+        int index = 0;
+
         for (WellDouble well : set) {
-        	WellDouble clone = new WellDouble(well);
-            result.put(clone,  well(well, weights, begin, length));
+            WellDouble clone = new WellDouble(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -517,29 +574,35 @@ public abstract class DescriptiveStatisticListDoubleWeights extends DescriptiveS
      * @return                                map of well sets and aggregated results
      */
     public Map<WellSetDouble, List<Double>> setsAggregated(
-            Collection<WellSetDouble> collection, double[] weights) {
+            Collection<WellSetDouble> collection, final double[] weights) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetDouble, List<Double>> results = new TreeMap<WellSetDouble, List<Double>>();
         
-        for(WellSetDouble set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetDouble clone = new WellSetDouble(set);
-            
-            for (WellDouble well : set) {
-
-            	List<Double> input = well.data();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<List<Double>> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<WellSetDouble, List<Double>>() {
+            public List<Double> apply(WellSetDouble set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : set) {
+
+                	List<Double> input = well.data();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : collection) {
+            results.put(new WellSetDouble(set), values.get(index++));
         }
         
         return results;
@@ -553,29 +616,35 @@ public abstract class DescriptiveStatisticListDoubleWeights extends DescriptiveS
      * @return                      map of well sets and aggregated results
      */
     public Map<WellSetDouble, List<Double>> setsAggregated(
-            WellSetDouble[] array, double[] weights) {
+            WellSetDouble[] array, final double[] weights) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetDouble, List<Double>> results = new TreeMap<WellSetDouble, List<Double>>();
         
-        for(WellSetDouble set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetDouble clone = new WellSetDouble(set);
-            
-            for (WellDouble well : set) {
-
-            	List<Double> input = well.data();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<List<Double>> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<WellSetDouble, List<Double>>() {
+            public List<Double> apply(WellSetDouble set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : set) {
+
+                	List<Double> input = well.data();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : array) {
+            results.put(new WellSetDouble(set), values.get(index++));
         }
         
         return results;
@@ -621,29 +690,35 @@ public abstract class DescriptiveStatisticListDoubleWeights extends DescriptiveS
      * @return                                map of well sets and aggregated results
      */
     public Map<WellSetDouble, List<Double>> setsAggregated(
-            Collection<WellSetDouble> collection, double[] weights, int begin, int length) {
+            Collection<WellSetDouble> collection, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetDouble, List<Double>> results = new TreeMap<WellSetDouble, List<Double>>();
         
-        for(WellSetDouble set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetDouble clone = new WellSetDouble(set);
-            
-            for (WellDouble well : set) {
-
-            	List<Double> input = well.data().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<List<Double>> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<WellSetDouble, List<Double>>() {
+            public List<Double> apply(WellSetDouble set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : set) {
+
+                	List<Double> input = well.data().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : collection) {
+            results.put(new WellSetDouble(set), values.get(index++));
         }
         
         return results;
@@ -660,29 +735,35 @@ public abstract class DescriptiveStatisticListDoubleWeights extends DescriptiveS
      * @return                      map of well sets and aggregated results
      */
     public Map<WellSetDouble, List<Double>> setsAggregated(
-            WellSetDouble[] array, double[] weights, int begin, int length) {
+            WellSetDouble[] array, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetDouble, List<Double>> results = new TreeMap<WellSetDouble, List<Double>>();
         
-        for(WellSetDouble set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetDouble clone = new WellSetDouble(set);
-            
-            for (WellDouble well : set) {
-
-            	List<Double> input = well.data().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<List<Double>> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<WellSetDouble, List<Double>>() {
+            public List<Double> apply(WellSetDouble set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : set) {
+
+                	List<Double> input = well.data().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : array) {
+            results.put(new WellSetDouble(set), values.get(index++));
         }
         
         return results;
@@ -195,4 +195,21 @@ public class KurtosisDouble extends DescriptiveStatisticDouble {
         return sum / list.size();
     }
     
+    /**
+     * Returns true. The kurtosis is calculated from the moments of a summary of
+     * the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the kurtosis using a summary of the values.
+     * @param    SummaryDouble    the summary
+     * @return                    the result
+     */
+    public double calculate(SummaryDouble summary) {
+        return summary.kurtosis();
+    }
 }
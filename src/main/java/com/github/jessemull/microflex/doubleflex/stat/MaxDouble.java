@@ -25,6 +25,7 @@ package com.github.jessemull.microflex.doubleflex.stat;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * This class returns the maximum value in a data set for double plate stacks, plates, 
@@ -144,5 +145,46 @@ public class MaxDouble extends DescriptiveStatisticDouble {
     public double calculate(List<Double> list, int begin, int length) {
         return Collections.max(list.subList(begin, begin + length));            
     }
-
+    
+    /**
+     * Calculates the maximum of the values in a primitive array between the offset 
+     * and the offset plus the length.
+     * @param    double[]    the array
+     * @param    int         index of the first value
+     * @param    int         number of values
+     * @return               the result
+     */
+    public double calculate(double[] array, int offset, int length) {
+        
+        if(length == 0) {
+            throw new NoSuchElementException();
+        }
+        
+        double max = array[offset];
+        
+        for(int i = offset + 1; i < offset + length; i++) {
+            if(Double.compare(array[i], max) > 0) {
+                max = array[i];
+            }
+        }
+        
+        return max;
+    }
+    
+    /**
+     * Returns true. The maximum is calculated from a summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the maximum using a summary of the values.
+     * @param    SummaryDouble    the summary
+     * @return                    the result
+     */
+    public double calculate(SummaryDouble summary) {
+        return summary.max();
+    }
 }
@@ -204,4 +204,44 @@ public class MeanDouble extends DescriptiveStatisticDoubleWeights {
     public double calculate(List<Double> list, double[] weights, int begin, int length) {
         return calculate(list.subList(begin, begin + length), weights);
     }
+    
+    /**
+     * Calculates the mean of the values in a primitive array between the offset 
+     * and the offset plus the length.
+     * @param    double[]    the array
+     * @param    int         index of the first value
+     * @param    int         number of values
+     * @return               the result
+     */
+    public double calculate(double[] array, int offset, int length) {
+        
+        if(length == 0) {
+            return 0;
+        }
+        
+        double result = 0;
+        
+        for(int i = offset; i < offset + length; i++) {
+            result += array[i];
+        }
+        
+        return result / length;
+    }
+    
+    /**
+     * Returns true. The mean is calculated from a summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the mean using a summary of the values.
+     * @param    SummaryDouble    the summary
+     * @return                    the result
+     */
+    public double calculate(SummaryDouble summary) {
+        return summary.n() == 0 ? 0 : summary.sum() / summary.n();
+    }
 }
@@ -23,9 +23,14 @@ package com.github.jessemull.microflex.doubleflex.stat;
 
 /* ----------------------------- Dependencies ------------------------------ */
 
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Doubles;
+
+import com.github.jessemull.microflex.util.SelectionUtil;
+
 /**
  * This class calculates the median of double plate stacks, plates, 
  * wells and well sets.
@@ -128,12 +133,43 @@ import java.util.List;
  *    </tr>
  * </table>
  * 
+ * Aggregated medians of very large data sets can be approximated by setting
+ * a normalized rank error bound. The approximate median is calculated from a
+ * mergeable quantile sketch built for each plate.
+ * 
  * @author Jesse L. Mull
  * @update Updated Oct 18, 2016
  * @address http://www.jessemull.com
  * @email hello@jessemull.com
  */
 public class MedianDouble extends DescriptiveStatisticDouble {
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private double error;    // Rank error bound for approximate aggregated medians or zero
+    
+    /* ------------------------- Approximate Mode --------------------------- */
+    
+    /**
+     * Sets the normalized rank error bound for aggregated medians. A 
+     * positive error bound calculates aggregated plate, set and stack 
+     * medians from a mergeable quantile sketch instead of sorting every 
+     * value. An error bound of zero restores the exact calculation.
+     * @param    double    the error bound between zero and one
+     */
+    public void setError(double error) {
+        Preconditions.checkArgument(error >= 0 && error < 1, 
+                "The error bound must be between zero and one: %s.", error);
+        this.error = error;
+    }
+    
+    /**
+     * Returns the normalized rank error bound for aggregated medians or zero
+     * if the aggregated medians are exact.
+     * @return    the error bound
+     */
+    public double error() {
+        return this.error;
+    }
     
     /**
      * Calculates the median.
@@ -141,18 +177,7 @@ public class MedianDouble extends DescriptiveStatisticDouble {
      * @return                   the result
      */
     public double calculate(List<Double> list) {
-        
-        Collections.sort(list);
-        
-        if(list.size() == 0) {
-            return 0;
-        }
-
-        int lowQ2 = (int) Math.floor((list.size() - 1.0) / 2.0);
-        int highQ2 = (int) Math.ceil((list.size() - 1.0) / 2.0);
-        double q2 = (list.get(lowQ2) + list.get(highQ2)) / 2;
-        
-        return q2;
+        return SelectionUtil.median(Doubles.toArray(list), 0, list.size());
     }
     
     /**
@@ -166,5 +191,26 @@ public class MedianDouble extends DescriptiveStatisticDouble {
     public double  calculate(List<Double> list, int begin, int length) {
         return calculate(list.subList(begin, begin + length));
     }
-
+    
+    /**
+     * Calculates the median of the values in a primitive array between the offset 
+     * and the offset plus the length. The values are copied to a scratch array
+     * so the order of the input array is preserved.
+     * @param    double[]    the array
+     * @param    int         index of the first value
+     * @param    int         number of values
+     * @return               the result
+     */
+    public double calculate(double[] array, int offset, int length) {
+        return SelectionUtil.median(Arrays.copyOfRange(array, offset, offset + length), 0, length);
+    }
+    
+    /**
+     * Calculates the approximate median using a quantile sketch of the values.
+     * @param    QuantileSketchDouble    the sketch
+     * @return                           the result
+     */
+    public double calculate(QuantileSketchDouble sketch) {
+        return sketch.quantile(0.5);
+    }
 }
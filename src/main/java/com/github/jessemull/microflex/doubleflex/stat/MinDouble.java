@@ -25,6 +25,7 @@ package com.github.jessemull.microflex.doubleflex.stat;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * This class returns the minimum value in a data set for double plate stacks, plates, 
@@ -144,5 +145,46 @@ public class MinDouble extends DescriptiveStatisticDouble {
     public double calculate(List<Double> list, int begin, int length) {
         return Collections.min(list.subList(begin, begin + length));            
     }
-
+    
+    /**
+     * Calculates the minimum of the values in a primitive array between the offset 
+     * and the offset plus the length.
+     * @param    double[]    the array
+     * @param    int         index of the first value
+     * @param    int         number of values
+     * @return               the result
+     */
+    public double calculate(double[] array, int offset, int length) {
+        
+        if(length == 0) {
+            throw new NoSuchElementException();
+        }
+        
+        double min = array[offset];
+        
+        for(int i = offset + 1; i < offset + length; i++) {
+            if(Double.compare(array[i], min) < 0) {
+                min = array[i];
+            }
+        }
+        
+        return min;
+    }
+    
+    /**
+     * Returns true. The minimum is calculated from a summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the minimum using a summary of the values.
+     * @param    SummaryDouble    the summary
+     * @return                    the result
+     */
+    public double calculate(SummaryDouble summary) {
+        return summary.min();
+    }
 }
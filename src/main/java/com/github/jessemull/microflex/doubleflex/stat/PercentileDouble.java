@@ -23,9 +23,13 @@ package com.github.jessemull.microflex.doubleflex.stat;
 
 /* ----------------------------- Dependencies ------------------------------ */
 
-import java.util.Collections;
 import java.util.List;
 
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Doubles;
+
+import com.github.jessemull.microflex.util.SelectionUtil;
+
 /**
  * This class calculates percentiles for double plate stacks, plates, 
  * wells and well sets using the following steps:
@@ -128,6 +132,10 @@ import java.util.List;
  *    </tr>
  * </table>
  * 
+ * Aggregated percentiles of very large data sets can be approximated by setting
+ * a normalized rank error bound. The approximate percentile is calculated from a
+ * mergeable quantile sketch built for each plate.
+ * 
  * @author Jesse L. Mull
  * @update Updated Oct 18, 2016
  * @address http://www.jessemull.com
@@ -135,6 +143,34 @@ import java.util.List;
  */
 public class PercentileDouble extends QuantileStatisticDouble {
 
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private double error;    // Rank error bound for approximate aggregated percentiles or zero
+    
+    /* ------------------------- Approximate Mode --------------------------- */
+    
+    /**
+     * Sets the normalized rank error bound for aggregated percentiles. A 
+     * positive error bound calculates aggregated plate, set and stack 
+     * percentiles from a mergeable quantile sketch instead of sorting every 
+     * value. An error bound of zero restores the exact calculation.
+     * @param    double    the error bound between zero and one
+     */
+    public void setError(double error) {
+        Preconditions.checkArgument(error >= 0 && error < 1, 
+                "The error bound must be between zero and one: %s.", error);
+        this.error = error;
+    }
+    
+    /**
+     * Returns the normalized rank error bound for aggregated percentiles or zero
+     * if the aggregated percentiles are exact.
+     * @return    the error bound
+     */
+    public double error() {
+        return this.error;
+    }
+
     /* -------- Methods for calculating the percentile of a data set -------  */
     
     /**
@@ -144,37 +180,9 @@ public class PercentileDouble extends QuantileStatisticDouble {
      * @return                   the result
      */
     public double calculate(List<Double> list, int p) {
-        
-    	int n = list.size();
-    	
-    	if(n == 1) {
-    		return list.get(0);
-    	}
-    	
-        Collections.sort(list);        
-        double pos = (p * (n + 1)) / 100.0;
-        
-        if(pos < 1) {
-        	return list.get(0);
-        }
-        
-        if(pos >= n) {
-        	return list.get(list.size() - 1);
-        }
-        
-        if(pos == Math.floor(pos) && !Double.isInfinite(pos)) {       
-        	return list.get((int) pos - 1);
-        }
-        	
-        int lowerIndex = (int) Math.floor(pos) - 1;
-        int upperIndex = lowerIndex + 1;
-        
-        double lower = list.get(lowerIndex);
-        double upper = list.get(upperIndex);      
-        double d = pos - 1 - lowerIndex;
-        
-        return (upper - lower) * d + lower;
-    };
+        int n = list.size();
+        return SelectionUtil.quantile(Doubles.toArray(list), 0, n, (p * (n + 1)) / 100.0);
+    }
     
     /**
      * Calculates the percentile of the values between the beginning and ending 
@@ -188,4 +196,15 @@ public class PercentileDouble extends QuantileStatisticDouble {
     public double calculate(List<Double> list, int begin, int length, int p) {
         return this.calculate(list.subList(begin, begin + length), p);
     };
+    
+    /**
+     * Calculates the approximate percentile using a quantile sketch of the 
+     * values.
+     * @param    QuantileSketchDouble    the sketch
+     * @param    int                     the percentile
+     * @return                           the result
+     */
+    public double calculate(QuantileSketchDouble sketch, int p) {
+        return sketch.percentile(p);
+    }
 }
@@ -0,0 +1,441 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package -------------------------------- */
+
+package com.github.jessemull.microflex.doubleflex.stat;
+
+/* ----------------------------- Dependencies ------------------------------ */
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.google.common.base.Preconditions;
+
+import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
+
+/**
+ * This class holds one double result for each well of a plate or well set. The
+ * results are stored in a primitive array indexed by well position using the
+ * same slot layout as the dense plate:
+ *
+ * <br><br>
+ *
+ * slot = row * columns + (column - 1)
+ *
+ * <br><br>
+ *
+ * Rows are indexed from zero and columns are indexed from one. Plates accept row
+ * indices up to and including the plate row number, so the layout reserves one
+ * additional row. A bit set records the slots holding a result. Unoccupied slots
+ * hold NaN.
+ *
+ * <br><br>
+ *
+ * Storing a result does not clone the well or insert an entry into a tree map.
+ * The toMap method returns a read only map view of the results for code using
+ * the map based statistic methods. The map view is created lazily and the well
+ * keys are created while iterating, in the same row and column order used by
+ * the map based methods. The keys do not hold any values.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class PlateResultDouble implements Iterable<Double> {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    private static final int ALPHA_BASE = 26;    // Base for row IDs
+
+    private int rows;                            // Row number
+    private int columns;                         // Column number
+    private String label = "Result";             // Result label
+    private double[] values;                     // Results in slot order
+    private BitSet occupied;                     // Slots holding a result
+    private Map<WellDouble, Double> view;        // Lazy map view
+
+    /* ----------------------------- Constructors --------------------------- */
+
+    /**
+     * Creates an empty result for a plate with the given dimensions.
+     * @param    int    number of rows
+     * @param    int    number of columns
+     */
+    public PlateResultDouble(int rows, int columns) {
+
+        Preconditions.checkArgument(rows > 0, "Invalid row number: %s.", rows);
+        Preconditions.checkArgument(columns > 0, "Invalid column number: %s.", columns);
+
+        int slots = (rows + 1) * columns;
+
+        this.rows = rows;
+        this.columns = columns;
+        this.values = new double[slots];
+        this.occupied = new BitSet(slots);
+
+        Arrays.fill(this.values, Double.NaN);
+    }
+
+    /**
+     * Creates an empty result for a plate with the given dimensions and label.
+     * @param    int       number of rows
+     * @param    int       number of columns
+     * @param    String    the label
+     */
+    public PlateResultDouble(int rows, int columns, String label) {
+        this(rows, columns);
+        this.label = label;
+    }
+
+    /* ------------------------ Slot Index Methods -------------------------- */
+
+    /**
+     * Returns the slot for the row and column indices.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          the slot
+     */
+    public int slot(int row, int column) {
+
+        if(row < 0 || row > this.rows || column < 1 || column > this.columns) {
+            throw new IllegalArgumentException("Invalid well indices for result: "
+                    + "row " + row + ", column " + column + ".");
+        }
+
+        return row * this.columns + column - 1;
+    }
+
+    /**
+     * Returns the row index for the slot.
+     * @param    int    the slot
+     * @return          the row index
+     */
+    public int row(int slot) {
+        return slot / this.columns;
+    }
+
+    /**
+     * Returns the column index for the slot.
+     * @param    int    the slot
+     * @return          the column index
+     */
+    public int column(int slot) {
+        return slot % this.columns + 1;
+    }
+
+    /**
+     * Returns the well index for the slot as a letter(s) number pair.
+     * @param    int    the slot
+     * @return          the well index
+     */
+    public String index(int slot) {
+
+        int row = this.row(slot);
+        String rowString = "";
+
+        while (row >= 0) {
+            rowString = (char) (row % ALPHA_BASE + 65) + rowString;
+            row = (row / ALPHA_BASE) - 1;
+        }
+
+        return rowString + this.column(slot);
+    }
+
+    /**
+     * Returns the first occupied slot at or after the given slot or -1 if there
+     * are no more occupied slots.
+     * @param    int    the slot to start from
+     * @return          the next occupied slot or -1
+     */
+    public int nextSlot(int slot) {
+        return this.occupied.nextSetBit(slot);
+    }
+
+    /**
+     * Returns the number of slots in the layout.
+     * @return    the number of slots
+     */
+    public int slots() {
+        return this.values.length;
+    }
+
+    /* --------------------------- Result Methods --------------------------- */
+
+    /**
+     * Stores the result for the well.
+     * @param    int       the row index
+     * @param    int       the column index
+     * @param    double    the result
+     */
+    public void put(int row, int column, double value) {
+        int slot = this.slot(row, column);
+        this.values[slot] = value;
+        this.occupied.set(slot);
+    }
+
+    /**
+     * Stores the result for the well.
+     * @param    WellDouble    the well
+     * @param    double        the result
+     */
+    public void put(WellDouble well, double value) {
+        Preconditions.checkNotNull(well, "The well cannot be null.");
+        this.put(well.row(), well.column(), value);
+    }
+
+    /**
+     * Returns true if the result holds a value for the well.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          true if the well has a result
+     */
+    public boolean contains(int row, int column) {
+
+        if(row < 0 || row > this.rows || column < 1 || column > this.columns) {
+            return false;
+        }
+
+        return this.occupied.get(row * this.columns + column - 1);
+    }
+
+    /**
+     * Returns the result for the well.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          the result
+     * @throws          NoSuchElementException    if the well has no result
+     */
+    public double get(int row, int column) {
+
+        if(!this.contains(row, column)) {
+            throw new NoSuchElementException("The result does not contain well: "
+                    + "row " + row + ", column " + column + ".");
+        }
+
+        return this.values[row * this.columns + column - 1];
+    }
+
+    /**
+     * Returns the result for the well.
+     * @param    WellDouble    the well
+     * @return                 the result
+     * @throws                 NoSuchElementException    if the well has no result
+     */
+    public double get(WellDouble well) {
+        Preconditions.checkNotNull(well, "The well cannot be null.");
+        return this.get(well.row(), well.column());
+    }
+
+    /**
+     * Returns the primitive array holding the results in slot order. Unoccupied
+     * slots hold NaN. The array is not copied.
+     * @return    the result array
+     */
+    public double[] dataArray() {
+        return this.values;
+    }
+
+    /**
+     * Returns the number of wells holding a result.
+     * @return    the number of results
+     */
+    public int size() {
+        return this.occupied.cardinality();
+    }
+
+    /**
+     * Returns the number of rows.
+     * @return    number of rows
+     */
+    public int rows() {
+        return this.rows;
+    }
+
+    /**
+     * Returns the number of columns.
+     * @return    number of columns
+     */
+    public int columns() {
+        return this.columns;
+    }
+
+    /**
+     * Returns the label.
+     * @return    the label
+     */
+    public String label() {
+        return this.label;
+    }
+
+    /**
+     * Sets the label.
+     * @param    String    the new label
+     */
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Returns an iterator over the results in slot order.
+     * @return    the iterator
+     */
+    public Iterator<Double> iterator() {
+
+        return new Iterator<Double>() {
+
+            private int slot = occupied.nextSetBit(0);
+
+            public boolean hasNext() {
+                return this.slot >= 0;
+            }
+
+            public Double next() {
+
+                if(this.slot < 0) {
+                    throw new NoSuchElementException();
+                }
+
+                double value = values[this.slot];
+                this.slot = occupied.nextSetBit(this.slot + 1);
+
+                return value;
+            }
+
+            public void remove() {
+                throw new UnsupportedOperationException("The result is read only.");
+            }
+        };
+    }
+
+    /* ----------------------------- Map View ------------------------------- */
+
+    /**
+     * Returns a read only map view of the results. Changes to the result are
+     * reflected in the view.
+     * @return    map of wells and results
+     */
+    public Map<WellDouble, Double> toMap() {
+
+        if(this.view == null) {
+            this.view = new MapView();
+        }
+
+        return this.view;
+    }
+
+    /**
+     * Read only map view backed by the result array.
+     */
+    private class MapView extends AbstractMap<WellDouble, Double> {
+
+        /**
+         * Returns the result for the well or null.
+         * @param    Object    the well
+         * @return             the result or null
+         */
+        public Double get(Object key) {
+
+            if(!this.containsKey(key)) {
+                return null;
+            }
+
+            WellDouble well = (WellDouble) key;
+
+            return values[slot(well.row(), well.column())];
+        }
+
+        /**
+         * Returns true if the well holds a result.
+         * @param    Object    the well
+         * @return             true if the well holds a result
+         */
+        public boolean containsKey(Object key) {
+
+            if(!(key instanceof WellDouble)) {
+                return false;
+            }
+
+            WellDouble well = (WellDouble) key;
+
+            return contains(well.row(), well.column());
+        }
+
+        /**
+         * Returns the number of results.
+         * @return    the number of results
+         */
+        public int size() {
+            return occupied.cardinality();
+        }
+
+        /**
+         * Returns the entries in row and column order.
+         * @return    the entry set
+         */
+        public Set<Map.Entry<WellDouble, Double>> entrySet() {
+
+            return new AbstractSet<Map.Entry<WellDouble, Double>>() {
+
+                public int size() {
+                    return occupied.cardinality();
+                }
+
+                public Iterator<Map.Entry<WellDouble, Double>> iterator() {
+
+                    return new Iterator<Map.Entry<WellDouble, Double>>() {
+
+                        private int slot = occupied.nextSetBit(0);
+
+                        public boolean hasNext() {
+                            return this.slot >= 0;
+                        }
+
+                        public Map.Entry<WellDouble, Double> next() {
+
+                            if(this.slot < 0) {
+                                throw new NoSuchElementException();
+                            }
+
+                            WellDouble well = new WellDouble(row(this.slot), column(this.slot));
+                            Map.Entry<WellDouble, Double> entry =
+                                    new AbstractMap.SimpleImmutableEntry<WellDouble, Double>(well, values[this.slot]);
+
+                            this.slot = occupied.nextSetBit(this.slot + 1);
+
+                            return entry;
+                        }
+
+                        public void remove() {
+                            throw new UnsupportedOperationException("The result is read only.");
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+}
@@ -170,5 +170,22 @@ public class PopulationStandardDeviationDouble extends DescriptiveStatisticDoubl
         
         return sum / list.size();
     }
-
+    
+    /**
+     * Returns true. The population standard deviation is calculated from the
+     * moments of a summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the population standard deviation using a summary of the values.
+     * @param    SummaryDouble    the summary
+     * @return                    the result
+     */
+    public double calculate(SummaryDouble summary) {
+        return summary.populationStandardDeviation();
+    }
 }
@@ -204,5 +204,22 @@ public class ProductDouble extends DescriptiveStatisticDoubleWeights {
     public double calculate(List<Double> list, double[] weights, int begin, int length) {
         return calculate(list.subList(begin, begin + length), weights);
     }
+    
+    /**
+     * Returns true. The product is calculated from a summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the product using a summary of the values.
+     * @param    SummaryDouble    the summary
+     * @return                    the result
+     */
+    public double calculate(SummaryDouble summary) {
+        return summary.product();
+    }
 
 }
@@ -23,9 +23,13 @@ package com.github.jessemull.microflex.doubleflex.stat;
 
 /* ----------------------------- Dependencies ------------------------------ */
 
-import java.util.Collections;
 import java.util.List;
 
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Doubles;
+
+import com.github.jessemull.microflex.util.SelectionUtil;
+
 /**
  * This class calculates quantiles for double plate stacks, plates, 
  * wells and well sets using the following steps:
@@ -128,6 +132,10 @@ import java.util.List;
  *    </tr>
  * </table>
  * 
+ * Aggregated quantiles of very large data sets can be approximated by setting
+ * a normalized rank error bound. The approximate quantile is calculated from a
+ * mergeable quantile sketch of the aggregated values.
+ * 
  * @author Jesse L. Mull
  * @update Updated Oct 18, 2016
  * @address http://www.jessemull.com
@@ -135,6 +143,34 @@ import java.util.List;
  */
 public class QuantileDouble extends QuantileStatisticRational {
 
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private double error;    // Rank error bound for approximate aggregated quantiles or zero
+    
+    /* ------------------------- Approximate Mode --------------------------- */
+    
+    /**
+     * Sets the normalized rank error bound for aggregated quantiles. A 
+     * positive error bound calculates aggregated plate and set quantiles 
+     * from a mergeable quantile sketch instead of sorting every value. An 
+     * error bound of zero restores the exact calculation.
+     * @param    double    the error bound between zero and one
+     */
+    public void setError(double error) {
+        Preconditions.checkArgument(error >= 0 && error < 1, 
+                "The error bound must be between zero and one: %s.", error);
+        this.error = error;
+    }
+    
+    /**
+     * Returns the normalized rank error bound for aggregated quantiles or zero
+     * if the aggregated quantiles are exact.
+     * @return    the error bound
+     */
+    public double error() {
+        return this.error;
+    }
+    
     /* --------- Methods for calculating the quantile of a data set --------  */
     
     /**
@@ -144,37 +180,9 @@ public class QuantileDouble extends QuantileStatisticRational {
      * @return                   the result
      */
     public double calculate(List<Double> list, double p) {
-        
-    	int n = list.size();
-    	
-    	if(n == 1) {
-    		return list.get(0);
-    	}
-    	
-        Collections.sort(list);        
-        double pos = (p * (n + 1));
-        
-        if(pos < 1) {
-        	return list.get(0);
-        }
-        
-        if(pos >= n) {
-        	return list.get(list.size() - 1);
-        }
-        
-        if(pos == Math.floor(pos) && !Double.isInfinite(pos)) {       
-        	return list.get((int) pos - 1);
-        }
-        	
-        int lowerIndex = (int) Math.floor(pos) - 1;
-        int upperIndex = lowerIndex + 1;
-        
-        double lower = list.get(lowerIndex);
-        double upper = list.get(upperIndex);      
-        double d = pos - 1 - lowerIndex;
-        
-        return (upper - lower) * d + lower;
-    };
+        int n = list.size();
+        return SelectionUtil.quantile(Doubles.toArray(list), 0, n, p * (n + 1));
+    }
     
     /**
      * Calculates the quantile of the values between the beginning and ending 
@@ -188,5 +196,16 @@ public class QuantileDouble extends QuantileStatisticRational {
     public double calculate(List<Double> list, int begin, int length, double p) {
         return this.calculate(list.subList(begin, begin + length), p);
     };
+    
+    /**
+     * Calculates the approximate quantile using a quantile sketch of the 
+     * values.
+     * @param    QuantileSketchDouble    the sketch
+     * @param    double                  the quantile
+     * @return                           the result
+     */
+    public double calculate(QuantileSketchDouble sketch, double p) {
+        return sketch.quantile(p);
+    }
  
 }
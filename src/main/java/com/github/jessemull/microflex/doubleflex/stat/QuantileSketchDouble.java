@@ -0,0 +1,543 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package -------------------------------- */
+
+package com.github.jessemull.microflex.doubleflex.stat;
+
+/* ----------------------------- Dependencies ------------------------------ */
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+
+import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
+import com.github.jessemull.microflex.doubleflex.plate.StackDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
+import com.github.jessemull.microflex.util.ParallelUtil;
+import com.google.common.base.Preconditions;
+
+/**
+ * This class holds an approximate quantile sketch for a set of double values.
+ * The sketch answers quantile queries using a small sample of the values
+ * instead of the full sorted data set, so the memory required to summarize a
+ * stack of deep replicate plates does not grow with the number of values.
+ *
+ * <br><br>
+ *
+ * The sketch is a KLL sketch as described by Karnin, Lang and Liberty. Values
+ * are added to a hierarchy of compactors. When a compactor is full its values
+ * are sorted and every other value is promoted to the next compactor with twice
+ * the weight. The capacity of each compactor decreases geometrically from the
+ * top of the hierarchy and the number of retained values is proportional to the
+ * inverse of the error bound.
+ *
+ * <br><br>
+ *
+ * The error bound is the normalized rank error. The rank of the value returned
+ * for a quantile is typically within the error bound multiplied by the number
+ * of values of the rank of the exact quantile. The minimum and maximum values
+ * are exact.
+ *
+ * <br><br>
+ *
+ * Sketches are mergeable and serializable. A sketch built for each well or
+ * plate can be merged with the sketches of other wells, plates and stacks in any
+ * order and persisted alongside the results.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class QuantileSketchDouble implements Serializable {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    private static final long serialVersionUID = 1L;
+
+    private static final double DECAY = 2.0 / 3.0;    // Capacity ratio of adjacent compactors
+    private static final int MIN_CAPACITY = 2;        // Minimum compactor capacity
+    private static final int MIN_K = 8;               // Minimum capacity of the top compactor
+
+    private double error;                               // Normalized rank error bound
+    private int k;                                      // Capacity of the top compactor
+    private long n;                                     // Number of values
+    private double min = Double.POSITIVE_INFINITY;      // Minimum value
+    private double max = Double.NEGATIVE_INFINITY;      // Maximum value
+    private double[][] levels = new double[1][];        // Compacted values by level
+    private int[] sizes = new int[1];                   // Number of values in each level
+    private int retained;                               // Number of retained values
+    private int capacity;                               // Total capacity of the levels
+    private boolean odd;                                // Alternates the promoted values
+
+    /* ----------------------------- Constructors --------------------------- */
+
+    /**
+     * Creates an empty sketch with the normalized rank error bound. An error
+     * of 0.005 answers quantiles to about 0.5% of the number of values.
+     * @param    double    the error bound between zero and one
+     */
+    public QuantileSketchDouble(double error) {
+
+        Preconditions.checkArgument(error > 0 && error < 1,
+                "The error bound must be between zero and one: %s.", error);
+
+        this.error = error;
+        this.k = Math.max(MIN_K, (int) Math.ceil(4 / error));
+        this.levels[0] = new double[MIN_K];
+        this.capacity = this.capacity();
+    }
+
+    /* ------------------------- Accumulation Methods ----------------------- */
+
+    /**
+     * Adds a value to the sketch.
+     * @param    double    the value
+     */
+    public void add(double value) {
+
+        this.n++;
+
+        if(value < this.min) {
+            this.min = value;
+        }
+
+        if(value > this.max) {
+            this.max = value;
+        }
+
+        this.append(0, value);
+
+        if(this.retained > this.capacity) {
+            this.compress();
+        }
+    }
+
+    /**
+     * Adds the values in the array between the offset and the offset plus the
+     * length to the sketch.
+     * @param    double[]    the array
+     * @param    int         index of the first value
+     * @param    int         number of values
+     */
+    public void add(double[] array, int offset, int length) {
+
+        Preconditions.checkNotNull(array, "The array cannot be null.");
+        Preconditions.checkPositionIndexes(offset, offset + length, array.length);
+
+        for(int i = offset; i < offset + length; i++) {
+            this.add(array[i]);
+        }
+    }
+
+    /**
+     * Adds the well values to the sketch.
+     * @param    WellDouble    the well
+     */
+    public void add(WellDouble well) {
+        Preconditions.checkNotNull(well, "The well cannot be null.");
+        this.add(well.dataArray(), well.dataOffset(), well.dataLength());
+    }
+
+    /**
+     * Adds the well values between the indices to the sketch.
+     * @param    WellDouble    the well
+     * @param    int           beginning index of subset
+     * @param    int           length of subset
+     */
+    public void add(WellDouble well, int begin, int length) {
+        Preconditions.checkNotNull(well, "The well cannot be null.");
+        Preconditions.checkPositionIndexes(begin, begin + length, well.dataLength());
+        this.add(well.dataArray(), well.dataOffset() + begin, length);
+    }
+
+    /**
+     * Adds the values of each well in the set to the sketch.
+     * @param    WellSetDouble    the well set
+     */
+    public void add(WellSetDouble set) {
+        Preconditions.checkNotNull(set, "The set cannot be null.");
+        for(WellDouble well : set) {
+            this.add(well);
+        }
+    }
+
+    /**
+     * Adds the values of each well in the plate to the sketch.
+     * @param    PlateDouble    the plate
+     */
+    public void add(PlateDouble plate) {
+        Preconditions.checkNotNull(plate, "The plate cannot be null.");
+        for(WellDouble well : plate) {
+            this.add(well);
+        }
+    }
+
+    /**
+     * Adds the values of each well in the stack to the sketch.
+     * @param    StackDouble    the stack
+     */
+    public void add(StackDouble stack) {
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        for(PlateDouble plate : stack) {
+            this.add(plate);
+        }
+    }
+
+    /* ---------------------------- Merge Methods ------------------------- */
+
+    /**
+     * Merges the values of another sketch into this sketch. The values of each
+     * level are appended to the same level of this sketch and the levels are
+     * compacted until the sketch is within capacity. The merged sketch keeps
+     * the error bound of this sketch.
+     * @param    QuantileSketchDouble    the sketch to merge
+     * @return                           this sketch
+     */
+    public QuantileSketchDouble merge(QuantileSketchDouble sketch) {
+
+        Preconditions.checkNotNull(sketch, "The sketch cannot be null.");
+
+        if(sketch.n == 0) {
+            return this;
+        }
+
+        for(int level = 0; level < sketch.levels.length; level++) {
+            for(int i = 0; i < sketch.sizes[level]; i++) {
+                this.append(level, sketch.levels[level][i]);
+            }
+        }
+
+        this.n += sketch.n;
+
+        if(sketch.min < this.min) {
+            this.min = sketch.min;
+        }
+
+        if(sketch.max > this.max) {
+            this.max = sketch.max;
+        }
+
+        while(this.retained > this.capacity) {
+            this.compress();
+        }
+
+        return this;
+    }
+
+    /* ------------------------------ Queries ------------------------------- */
+
+    /**
+     * Returns the approximate quantile.
+     * @param    double    the quantile between zero and one
+     * @return             the value
+     * @throws   NoSuchElementException    if the sketch is empty
+     */
+    public double quantile(double quantile) {
+
+        Preconditions.checkArgument(quantile >= 0 && quantile <= 1,
+                "The quantile must be between zero and one: %s.", quantile);
+        this.checkEmpty();
+
+        if(quantile == 0) {
+            return this.min;
+        }
+
+        if(quantile == 1) {
+            return this.max;
+        }
+
+        double[] values = new double[0];
+        long[] weights = new long[0];
+
+        for(int level = 0; level < this.levels.length; level++) {
+
+            double[] sorted = Arrays.copyOf(this.levels[level], this.sizes[level]);
+            Arrays.sort(sorted);
+
+            long[] weight = new long[sorted.length];
+            Arrays.fill(weight, 1L << level);
+
+            int total = values.length + sorted.length;
+            double[] mergedValues = new double[total];
+            long[] mergedWeights = new long[total];
+
+            for(int i = 0, j = 0, index = 0; index < total; index++) {
+                if(j == sorted.length || (i < values.length && values[i] <= sorted[j])) {
+                    mergedValues[index] = values[i];
+                    mergedWeights[index] = weights[i++];
+                } else {
+                    mergedValues[index] = sorted[j];
+                    mergedWeights[index] = weight[j++];
+                }
+            }
+
+            values = mergedValues;
+            weights = mergedWeights;
+        }
+
+        double target = quantile * this.n;
+        long cumulative = 0;
+
+        for(int i = 0; i < values.length; i++) {
+
+            cumulative += weights[i];
+
+            if(cumulative >= target) {
+                return values[i];
+            }
+        }
+
+        return this.max;
+    }
+
+    /**
+     * Returns the approximate percentile.
+     * @param    int    the percentile between zero and one hundred
+     * @return          the value
+     * @throws   NoSuchElementException    if the sketch is empty
+     */
+    public double percentile(int p) {
+        return this.quantile(p / 100.0);
+    }
+
+    /**
+     * Returns the number of values added to the sketch.
+     * @return    the number of values
+     */
+    public long n() {
+        return this.n;
+    }
+
+    /**
+     * Returns the minimum value.
+     * @return    the minimum
+     * @throws    NoSuchElementException    if the sketch is empty
+     */
+    public double min() {
+        this.checkEmpty();
+        return this.min;
+    }
+
+    /**
+     * Returns the maximum value.
+     * @return    the maximum
+     * @throws    NoSuchElementException    if the sketch is empty
+     */
+    public double max() {
+        this.checkEmpty();
+        return this.max;
+    }
+
+    /**
+     * Returns the normalized rank error bound.
+     * @return    the error bound
+     */
+    public double error() {
+        return this.error;
+    }
+
+    /**
+     * Returns the number of values retained by the sketch.
+     * @return    the number of retained values
+     */
+    public int retained() {
+        return this.retained;
+    }
+
+    /**
+     * Returns the sketch as a string.
+     * @return    the sketch
+     */
+    public String toString() {
+        return "N: " + this.n + " Error: " + this.error + " Retained: " + this.retained +
+               " Min: " + (this.n == 0 ? "NA" : this.min) +
+               " Max: " + (this.n == 0 ? "NA" : this.max);
+    }
+
+    /* ------------------------- Aggregation helpers ------------------------ */
+
+    /**
+     * Returns a sketch of the values in the wells. A negative length uses all
+     * the values of each well.
+     * @param    Iterable<WellDouble>    the wells
+     * @param    int                     beginning index of subset
+     * @param    int                     length of subset or -1
+     * @param    double                  the error bound
+     * @return                           the sketch
+     */
+    static QuantileSketchDouble sketch(Iterable<WellDouble> wells, int begin, int length, double error) {
+
+        QuantileSketchDouble sketch = new QuantileSketchDouble(error);
+
+        for(WellDouble well : wells) {
+            if(length < 0) {
+                sketch.add(well);
+            } else {
+                sketch.add(well, begin, length);
+            }
+        }
+
+        return sketch;
+    }
+
+    /**
+     * Returns a sketch of the values in the stack. A sketch is built for each
+     * plate, in parallel when a pool is set, and the plate sketches are merged.
+     * A negative length uses all the values of each well.
+     * @param    ForkJoinPool    the pool or null
+     * @param    StackDouble     the stack
+     * @param    int             beginning index of subset
+     * @param    int             length of subset or -1
+     * @param    double          the error bound
+     * @return                   the sketch
+     */
+    static QuantileSketchDouble sketch(ForkJoinPool pool, StackDouble stack,
+            final int begin, final int length, final double error) {
+
+        List<QuantileSketchDouble> partials = ParallelUtil.map(pool, stack, new ParallelUtil.Task<PlateDouble, QuantileSketchDouble>() {
+            public QuantileSketchDouble apply(PlateDouble plate) {
+                return sketch(plate, begin, length, error);
+            }
+        });
+
+        QuantileSketchDouble sketch = new QuantileSketchDouble(error);
+
+        for(QuantileSketchDouble partial : partials) {
+            sketch.merge(partial);
+        }
+
+        return sketch;
+    }
+
+    /* --------------------------- Private Methods -------------------------- */
+
+    /**
+     * Appends a value to the level.
+     * @param    int       the level
+     * @param    double    the value
+     */
+    private void append(int level, double value) {
+
+        if(level >= this.levels.length) {
+
+            int length = this.levels.length;
+
+            this.levels = Arrays.copyOf(this.levels, level + 1);
+            this.sizes = Arrays.copyOf(this.sizes, level + 1);
+
+            for(int i = length; i <= level; i++) {
+                this.levels[i] = new double[MIN_K];
+            }
+
+            this.capacity = this.capacity();
+        }
+
+        double[] values = this.levels[level];
+
+        if(this.sizes[level] == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+            this.levels[level] = values;
+        }
+
+        values[this.sizes[level]++] = value;
+        this.retained++;
+    }
+
+    /**
+     * Returns the capacity of the level.
+     * @param    int    the level
+     * @return          the capacity
+     */
+    private int capacity(int level) {
+        int depth = this.levels.length - level - 1;
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(this.k * Math.pow(DECAY, depth)));
+    }
+
+    /**
+     * Returns the total capacity of the levels.
+     * @return    the capacity
+     */
+    private int capacity() {
+
+        int capacity = 0;
+
+        for(int level = 0; level < this.levels.length; level++) {
+            capacity += this.capacity(level);
+        }
+
+        return capacity;
+    }
+
+    /**
+     * Compacts the lowest level at or above capacity.
+     */
+    private void compress() {
+        for(int level = 0; level < this.levels.length; level++) {
+            if(this.sizes[level] >= this.capacity(level)) {
+                this.compact(level);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sorts the values of the level and promotes every other value to the next
+     * level. The largest value of a level holding an odd number of values stays
+     * on the level.
+     * @param    int    the level
+     */
+    private void compact(int level) {
+
+        double[] values = this.levels[level];
+        int size = this.sizes[level];
+        int pairs = size - size % 2;
+
+        Arrays.sort(values, 0, size);
+
+        this.sizes[level] = 0;
+        this.retained -= size;
+
+        for(int i = this.odd ? 1 : 0; i < pairs; i += 2) {
+            this.append(level + 1, values[i]);
+        }
+
+        if(pairs < size) {
+            this.levels[level][0] = values[pairs];
+            this.sizes[level] = 1;
+            this.retained++;
+        }
+
+        this.odd = !this.odd;
+    }
+
+    /**
+     * Throws an exception if the sketch holds no values.
+     */
+    private void checkEmpty() {
+        if(this.n == 0) {
+            throw new NoSuchElementException("The sketch is empty.");
+        }
+    }
+
+}
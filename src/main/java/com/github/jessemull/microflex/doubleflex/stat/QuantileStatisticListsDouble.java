@@ -28,12 +28,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class calculates descriptive statistics with calculate functions that take
@@ -131,7 +133,49 @@ import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
  * @email hello@jessemull.com
  */
 public abstract class QuantileStatisticListsDouble {
+
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private ForkJoinPool pool;    // Pool for parallel execution or null
+    
+    /* ------------------------- Parallel Execution ------------------------- */
+    
+    /**
+     * Sets the fork join pool used to calculate the statistic for the wells, 
+     * plates and sets in parallel. Results are merged in the same order used 
+     * by sequential execution. A null pool restores sequential execution.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    
+    /**
+     * Returns the fork join pool used for parallel execution or null if the 
+     * statistic is calculated sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+    
+    /**
+     * Enables parallel execution using the shared default pool or restores 
+     * sequential execution.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
     
+    /**
+     * Returns true if the statistic is calculated in parallel.
+     * @return    true if parallel execution is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+        
     /* --------------- Well statistics for all plate wells ----------------- */
     
     /**
@@ -140,15 +184,23 @@ public abstract class QuantileStatisticListsDouble {
      * @param    List<Double>    the input list
      * @return                   map of wells and results
      */
-    public Map<WellDouble, List<List<Double>>> plate(PlateDouble plate, List<Double> list) {
+    public Map<WellDouble, List<List<Double>>> plate(PlateDouble plate, final List<Double> list) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellDouble, List<List<Double>>> result = new TreeMap<WellDouble, List<List<Double>>>();
         
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellDouble, List<List<Double>>>() {
+            public List<List<Double>> apply(WellDouble well) {
+                return well(well, list);
+            }
+        });
+
+        int index = 0;
+
         for (WellDouble well : plate) {
             WellDouble clone = new WellDouble(well);
-            result.put(clone, well(well, list));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -164,15 +216,23 @@ public abstract class QuantileStatisticListsDouble {
      * @param    List<Double>    the input list
      * @return                   map of wells and results   
      */
-    public Map<WellDouble, List<List<Double>>> plate(PlateDouble plate, int begin, int length, List<Double> list) {
+    public Map<WellDouble, List<List<Double>>> plate(PlateDouble plate, final int begin, final int length, final List<Double> list) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellDouble, List<List<Double>>> result = new TreeMap<WellDouble, List<List<Double>>>();
         
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellDouble, List<List<Double>>>() {
+            public List<List<Double>> apply(WellDouble well) {
+                return well(well, begin, length, list);
+            }
+        });
+
+        int index = 0;
+
         for (WellDouble well : plate) {
             WellDouble clone = new WellDouble(well);
-            result.put(clone, well(well, begin, length, list));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -207,23 +267,29 @@ public abstract class QuantileStatisticListsDouble {
      * @param    List<Double>               the input list
      * @return                              map of plates and aggregated results
      */
-    public Map<PlateDouble, List<List<Double>>> platesAggregated(Collection<PlateDouble> collection, List<Double> list) {
+    public Map<PlateDouble, List<List<Double>>> platesAggregated(Collection<PlateDouble> collection, final List<Double> list) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
 
         Map<PlateDouble, List<List<Double>>> results = new TreeMap<PlateDouble, List<List<Double>>>();
         
-        for(PlateDouble plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateDouble clone = new PlateDouble(plate);
-            
-            for (WellDouble well : plate) {
-                aggregated.addAll(well.data());
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateDouble, List<List<Double>>>() {
+            public List<List<Double>> apply(PlateDouble plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : plate) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated, list);
             }
-      
-            results.put(clone, calculate(aggregated, list));
-        
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : collection) {
+            results.put(new PlateDouble(plate), values.get(index++));
         }
         
         return results;
@@ -235,23 +301,29 @@ public abstract class QuantileStatisticListsDouble {
      * @param    List<Double>     the input list
      * @return                    map of plates and aggregated result
      */
-    public Map<PlateDouble, List<List<Double>>> platesAggregated(PlateDouble[] array, List<Double> list) {
+    public Map<PlateDouble, List<List<Double>>> platesAggregated(PlateDouble[] array, final List<Double> list) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
 
         Map<PlateDouble, List<List<Double>>> results = new TreeMap<PlateDouble, List<List<Double>>>();
         
-        for(PlateDouble plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateDouble clone = new PlateDouble(plate);
-            
-            for (WellDouble well : plate) {
-                aggregated.addAll(well.data());
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateDouble, List<List<Double>>>() {
+            public List<List<Double>> apply(PlateDouble plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : plate) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated, list);
             }
-      
-            results.put(clone, calculate(aggregated, list));
-        
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : array) {
+            results.put(new PlateDouble(plate), values.get(index++));
         }
         
         return results;
@@ -291,23 +363,29 @@ public abstract class QuantileStatisticListsDouble {
      * @return                              map of plates and aggregated results
      */
     public Map<PlateDouble, List<List<Double>>> platesAggregated(
-            Collection<PlateDouble> collection, int begin, int length, List<Double> list) {
+            Collection<PlateDouble> collection, final int begin, final int length, final List<Double> list) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateDouble, List<List<Double>>> results = new TreeMap<PlateDouble, List<List<Double>>>();
         
-        for(PlateDouble plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateDouble clone = new PlateDouble(plate);
-            
-            for (WellDouble well : plate) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateDouble, List<List<Double>>>() {
+            public List<List<Double>> apply(PlateDouble plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : plate) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, list);
             }
-      
-            results.put(clone, calculate(aggregated, list));
-        
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : collection) {
+            results.put(new PlateDouble(plate), values.get(index++));
         }
         
         return results;
@@ -324,23 +402,29 @@ public abstract class QuantileStatisticListsDouble {
      * @return                    map of plates and aggregated results
      */
     public Map<PlateDouble, List<List<Double>>> platesAggregated(
-            PlateDouble[] array, int begin, int length, List<Double> list) {
+            PlateDouble[] array, final int begin, final int length, final List<Double> list) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateDouble, List<List<Double>>> results = new TreeMap<PlateDouble, List<List<Double>>>();
         
-        for(PlateDouble plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateDouble clone = new PlateDouble(plate);
-            
-            for (WellDouble well : plate) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateDouble, List<List<Double>>>() {
+            public List<List<Double>> apply(PlateDouble plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : plate) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, list);
             }
-      
-            results.put(clone, calculate(aggregated, list));
-        
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : array) {
+            results.put(new PlateDouble(plate), values.get(index++));
         }
         
         return results;
@@ -355,15 +439,23 @@ public abstract class QuantileStatisticListsDouble {
      * @param    List<Double>     the input list
      * @return                    map of wells and results
      */
-    public Map<WellDouble, List<List<Double>>> set(WellSetDouble set, List<Double> list) {
+    public Map<WellDouble, List<List<Double>>> set(WellSetDouble set, final List<Double> list) {
     	
         Preconditions.checkNotNull(set, "The set cannot be null.");
     	
     	Map<WellDouble, List<List<Double>>> result = new TreeMap<WellDouble, List<List<Double>>>();
         
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellDouble, List<List<Double>>>() {
+            public List<List<Double>> apply(WellDouble well) {
+                return well(well, list);
+            }
+        });
+
+        int index = 0;
+
         for (WellDouble well : set) {
             WellDouble clone = new WellDouble(well);
-            result.put(clone, well(well, list));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -379,15 +471,23 @@ public abstract class QuantileStatisticListsDouble {
      * @param    List<Double>     the input list
      * @return                    map of wells and results
      */
-    public Map<WellDouble, List<List<Double>>> set(WellSetDouble set, int begin, int length, List<Double> list) {
+    public Map<WellDouble, List<List<Double>>> set(WellSetDouble set, final int begin, final int length, final List<Double> list) {
         
     	Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellDouble, List<List<Double>>> result = new TreeMap<WellDouble, List<List<Double>>>();
         
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellDouble, List<List<Double>>>() {
+            public List<List<Double>> apply(WellDouble well) {
+                return well(well, begin, length, list);
+            }
+        });
+
+        int index = 0;
+
         for (WellDouble well : set) {
-        	WellDouble clone = new WellDouble(well);
-            result.put(clone,  well(well, begin, length, list));
+            WellDouble clone = new WellDouble(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -422,23 +522,29 @@ public abstract class QuantileStatisticListsDouble {
      * @param    List<Double>                 the input list
      * @return                                map of well sets and aggregated results
      */
-    public Map<WellSetDouble, List<List<Double>>> setsAggregated(Collection<WellSetDouble> collection, List<Double> list) {
+    public Map<WellSetDouble, List<List<Double>>> setsAggregated(Collection<WellSetDouble> collection, final List<Double> list) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
 
         Map<WellSetDouble, List<List<Double>>> results = new TreeMap<WellSetDouble, List<List<Double>>>();
         
-        for(WellSetDouble set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetDouble clone = new WellSetDouble(set);
-            
-            for (WellDouble well : set) {
-                aggregated.addAll(well.data());
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetDouble, List<List<Double>>>() {
+            public List<List<Double>> apply(WellSetDouble set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : set) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated, list);
             }
-      
-            results.put(clone, calculate(aggregated, list));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : collection) {
+            results.put(new WellSetDouble(set), values.get(index++));
         }
         
         return results;
@@ -450,23 +556,29 @@ public abstract class QuantileStatisticListsDouble {
      * @param    List<Double>       the input list
      * @return                      map of well sets and aggregated results
      */
-    public Map<WellSetDouble, List<List<Double>>> setsAggregated(WellSetDouble[] array, List<Double> list) {
+    public Map<WellSetDouble, List<List<Double>>> setsAggregated(WellSetDouble[] array, final List<Double> list) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
 
         Map<WellSetDouble, List<List<Double>>> results = new TreeMap<WellSetDouble, List<List<Double>>>();
         
-        for(WellSetDouble set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetDouble clone = new WellSetDouble(set);
-            
-            for (WellDouble well : set) {
-                aggregated.addAll(well.data());
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetDouble, List<List<Double>>>() {
+            public List<List<Double>> apply(WellSetDouble set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : set) {
+                    aggregated.addAll(well.data());
+                }
+
+                return calculate(aggregated, list);
             }
-      
-            results.put(clone, calculate(aggregated, list));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : array) {
+            results.put(new WellSetDouble(set), values.get(index++));
         }
         
         return results;
@@ -506,23 +618,29 @@ public abstract class QuantileStatisticListsDouble {
      * @return                                map of well sets and aggregated results
      */
     public Map<WellSetDouble, List<List<Double>>> setsAggregated(
-            Collection<WellSetDouble> collection, int begin, int length, List<Double> list) {
+            Collection<WellSetDouble> collection, final int begin, final int length, final List<Double> list) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetDouble, List<List<Double>>> results = new TreeMap<WellSetDouble, List<List<Double>>>();
         
-        for(WellSetDouble set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetDouble clone = new WellSetDouble(set);
-            
-            for (WellDouble well : set) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetDouble, List<List<Double>>>() {
+            public List<List<Double>> apply(WellSetDouble set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : set) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, list);
             }
-      
-            results.put(clone, calculate(aggregated, list));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : collection) {
+            results.put(new WellSetDouble(set), values.get(index++));
         }
         
         return results;
@@ -539,23 +657,29 @@ public abstract class QuantileStatisticListsDouble {
      * @return                      map of well sets and aggregated results
      */
     public Map<WellSetDouble, List<List<Double>>> setsAggregated(
-            WellSetDouble[] array, int begin, int length, List<Double> list) {
+            WellSetDouble[] array, final int begin, final int length, final List<Double> list) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetDouble, List<List<Double>>> results = new TreeMap<WellSetDouble, List<List<Double>>>();
         
-        for(WellSetDouble set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetDouble clone = new WellSetDouble(set);
-            
-            for (WellDouble well : set) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetDouble, List<List<Double>>>() {
+            public List<List<Double>> apply(WellSetDouble set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellDouble well : set) {
+                    aggregated.addAll(well.data().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, list);
             }
-      
-            results.put(clone, calculate(aggregated, list));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : array) {
+            results.put(new WellSetDouble(set), values.get(index++));
         }
         
         return results;
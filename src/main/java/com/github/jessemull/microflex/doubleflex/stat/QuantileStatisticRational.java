@@ -28,12 +28,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class calculates descriptive statistics with list and double inputs to
@@ -131,7 +133,49 @@ import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
  * @email hello@jessemull.com
  */
 public abstract class QuantileStatisticRational {
+
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private ForkJoinPool pool;    // Pool for parallel execution or null
+    
+    /* ------------------------- Parallel Execution ------------------------- */
+    
+    /**
+     * Sets the fork join pool used to calculate the statistic for the wells, 
+     * plates and sets in parallel. Results are merged in the same order used 
+     * by sequential execution. A null pool restores sequential execution.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
     
+    /**
+     * Returns the fork join pool used for parallel execution or null if the 
+     * statistic is calculated sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+    
+    /**
+     * Enables parallel execution using the shared default pool or restores 
+     * sequential execution.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
+    
+    /**
+     * Returns true if the statistic is calculated in parallel.
+     * @return    true if parallel execution is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+        
     /* --------------- Well statistics for all plate wells ----------------- */
     
     /**
@@ -140,15 +184,23 @@ public abstract class QuantileStatisticRational {
      * @param    double         the double value
      * @return                  map of wells and results
      */
-    public Map<WellDouble, Double> plate(PlateDouble plate, double p) {
+    public Map<WellDouble, Double> plate(PlateDouble plate, final double p) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellDouble, Double> result = new TreeMap<WellDouble, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellDouble, Double>() {
+            public Double apply(WellDouble well) {
+                return well(well, p);
+            }
+        });
+
+        int index = 0;
+
         for (WellDouble well : plate) {
             WellDouble clone = new WellDouble(well);
-            result.put(clone, well(well, p));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -164,21 +216,73 @@ public abstract class QuantileStatisticRational {
      * @param    double         the double value
      * @return                  map of wells and results   
      */
-    public Map<WellDouble, Double> plate(PlateDouble plate, int begin, int length, double p) {
+    public Map<WellDouble, Double> plate(PlateDouble plate, final int begin, final int length, final double p) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellDouble, Double> result = new TreeMap<WellDouble, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellDouble, Double>() {
+            public Double apply(WellDouble well) {
+                return well(well, begin, length, p);
+            }
+        });
+
+        int index = 0;
+
         for (WellDouble well : plate) {
             WellDouble clone = new WellDouble(well);
-            result.put(clone, well(well, begin, length, p));
+            result.put(clone, values.get(index++));
         }
         
         return result;
         
     }
 
+    /* ------------- Well statistics for all plate wells as results -------- */
+    
+    /**
+     * Returns the statistic for each plate well as a compact result indexed by
+     * well position. The wells are not cloned.
+     * @param    PlateDouble    the plate
+     * @param    double         the double value
+     * @return                  the plate result
+     */
+    public PlateResultDouble plateResult(PlateDouble plate, final double p) {
+        
+        Preconditions.checkNotNull(plate, "The plate value cannot be null.");
+        
+        List<Double> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellDouble, Double>() {
+            public Double apply(WellDouble well) {
+                return well(well, p);
+            }
+        });
+        
+        return this.result(new PlateResultDouble(plate.rows(), plate.columns(), plate.label()), plate, values);
+    }
+    
+    /**
+     * Returns the statistic for each plate well as a compact result indexed by
+     * well position using the values between the beginning and ending indices.
+     * @param    PlateDouble    the plate
+     * @param    int            beginning index of subset
+     * @param    int            length of subset
+     * @param    double         the double value
+     * @return                  the plate result
+     */
+    public PlateResultDouble plateResult(PlateDouble plate, final int begin, final int length, final double p) {
+        
+        Preconditions.checkNotNull(plate, "The plate value cannot be null.");
+        
+        List<Double> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellDouble, Double>() {
+            public Double apply(WellDouble well) {
+                return well(well, begin, length, p);
+            }
+        });
+        
+        return this.result(new PlateResultDouble(plate.rows(), plate.columns(), plate.label()), plate, values);
+    }
+
     /* --------------------- Aggregated plate statistics -------------------  */
     
     /**
@@ -191,13 +295,7 @@ public abstract class QuantileStatisticRational {
         
         Preconditions.checkNotNull(plate, "The plate cannot be null.");
 
-        List<Double> aggregated = new ArrayList<Double>();
-            
-        for (WellDouble well : plate) {
-            aggregated.addAll(well.data());
-        }
-      
-        return calculate(aggregated, p);
+        return aggregate(plate, 0, -1, p);
         
     }
     
@@ -207,23 +305,23 @@ public abstract class QuantileStatisticRational {
      * @param    double                     the double value
      * @return                              map of plates and aggregated results
      */
-    public Map<PlateDouble, Double> platesAggregated(Collection<PlateDouble> collection, double p) {
+    public Map<PlateDouble, Double> platesAggregated(Collection<PlateDouble> collection, final double p) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
 
         Map<PlateDouble, Double> results = new TreeMap<PlateDouble, Double>();
         
-        for(PlateDouble plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateDouble clone = new PlateDouble(plate);
-            
-            for (WellDouble well : plate) {
-                aggregated.addAll(well.data());
+        List<Double> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateDouble, Double>() {
+            public Double apply(PlateDouble plate) {
+
+                return aggregate(plate, 0, -1, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : collection) {
+            results.put(new PlateDouble(plate), values.get(index++));
         }
         
         return results;
@@ -235,23 +333,23 @@ public abstract class QuantileStatisticRational {
      * @param    double           the double value
      * @return                    map of plates and aggregated result
      */
-    public Map<PlateDouble, Double> platesAggregated(PlateDouble[] array, double p) {
+    public Map<PlateDouble, Double> platesAggregated(PlateDouble[] array, final double p) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
 
         Map<PlateDouble, Double> results = new TreeMap<PlateDouble, Double>();
         
-        for(PlateDouble plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateDouble clone = new PlateDouble(plate);
-            
-            for (WellDouble well : plate) {
-                aggregated.addAll(well.data());
+        List<Double> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateDouble, Double>() {
+            public Double apply(PlateDouble plate) {
+
+                return aggregate(plate, 0, -1, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : array) {
+            results.put(new PlateDouble(plate), values.get(index++));
         }
         
         return results;
@@ -271,13 +369,7 @@ public abstract class QuantileStatisticRational {
 
         Preconditions.checkNotNull(plate, "The plate cannot be null.");
 
-        List<Double> aggregated = new ArrayList<Double>();
-            
-        for (WellDouble well : plate) {
-            aggregated.addAll(well.data().subList(begin, begin + length));
-        }
-      
-        return calculate(aggregated, p);
+        return aggregate(plate, begin, length, p);
         
     }
     
@@ -291,23 +383,23 @@ public abstract class QuantileStatisticRational {
      * @return                              map of plates and aggregated results
      */
     public Map<PlateDouble, Double> platesAggregated(
-            Collection<PlateDouble> collection, int begin, int length, double p) {
+            Collection<PlateDouble> collection, final int begin, final int length, final double p) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateDouble, Double> results = new TreeMap<PlateDouble, Double>();
         
-        for(PlateDouble plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateDouble clone = new PlateDouble(plate);
-            
-            for (WellDouble well : plate) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<Double> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateDouble, Double>() {
+            public Double apply(PlateDouble plate) {
+
+                return aggregate(plate, begin, length, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : collection) {
+            results.put(new PlateDouble(plate), values.get(index++));
         }
         
         return results;
@@ -324,23 +416,23 @@ public abstract class QuantileStatisticRational {
      * @return                    map of plates and aggregated results
      */
     public Map<PlateDouble, Double> platesAggregated(
-            PlateDouble[] array, int begin, int length, double p) {
+            PlateDouble[] array, final int begin, final int length, final double p) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateDouble, Double> results = new TreeMap<PlateDouble, Double>();
         
-        for(PlateDouble plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateDouble clone = new PlateDouble(plate);
-            
-            for (WellDouble well : plate) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<Double> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateDouble, Double>() {
+            public Double apply(PlateDouble plate) {
+
+                return aggregate(plate, begin, length, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : array) {
+            results.put(new PlateDouble(plate), values.get(index++));
         }
         
         return results;
@@ -355,15 +447,23 @@ public abstract class QuantileStatisticRational {
      * @param    double           the double value
      * @return                    map of wells and results
      */
-    public Map<WellDouble, Double> set(WellSetDouble set, double p) {
+    public Map<WellDouble, Double> set(WellSetDouble set, final double p) {
     	
         Preconditions.checkNotNull(set, "The set cannot be null.");
     	
     	Map<WellDouble, Double> result = new TreeMap<WellDouble, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellDouble, Double>() {
+            public Double apply(WellDouble well) {
+                return well(well, p);
+            }
+        });
+
+        int index = 0;
+
         for (WellDouble well : set) {
             WellDouble clone = new WellDouble(well);
-            result.put(clone, well(well, p));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -379,21 +479,74 @@ public abstract class QuantileStatisticRational {
      * @param    double           the double value
      * @return                    map of wells and results
      */
-    public Map<WellDouble, Double> set(WellSetDouble set, int begin, int length, double p) {
+    public Map<WellDouble, Double> set(WellSetDouble set, final int begin, final int length, final double p) {
         
     	Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellDouble, Double> result = new TreeMap<WellDouble, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellDouble, Double>() {
+            public Double apply(WellDouble well) {
+                return well(well, begin, length, p);
+            }
+        });
+
+        int index = 0;
+
         for (WellDouble well : set) {
-        	WellDouble clone = new WellDouble(well);
-            result.put(clone,  well(well, begin, length, p));
+            WellDouble clone = new WellDouble(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
         
     }
 
+    /* ------------ Well statistics for all wells in a set as results ------ */
+    
+    /**
+     * Returns the statistic of each well in the well set as a compact result 
+     * indexed by well position. The result dimensions span the set wells.
+     * @param    WellSetDouble    the well set
+     * @param    double           the double value
+     * @return                    the set result
+     */
+    public PlateResultDouble setResult(WellSetDouble set, final double p) {
+        
+        Preconditions.checkNotNull(set, "The set cannot be null.");
+        
+        List<Double> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellDouble, Double>() {
+            public Double apply(WellDouble well) {
+                return well(well, p);
+            }
+        });
+        
+        return this.result(this.setLayout(set), set, values);
+    }
+    
+    /**
+     * Returns the statistic of each well in the well set as a compact result 
+     * indexed by well position using the values between the beginning and 
+     * ending indices. The result dimensions span the set wells.
+     * @param    WellSetDouble    the well set
+     * @param    int              beginning index of subset
+     * @param    int              length of subset
+     * @param    double           the double value
+     * @return                    the set result
+     */
+    public PlateResultDouble setResult(WellSetDouble set, final int begin, final int length, final double p) {
+        
+        Preconditions.checkNotNull(set, "The well set cannot be null.");
+        
+        List<Double> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellDouble, Double>() {
+            public Double apply(WellDouble well) {
+                return well(well, begin, length, p);
+            }
+        });
+        
+        return this.result(this.setLayout(set), set, values);
+    }
+
     /* --------------------- Aggregated set statistics ---------------------  */
     
     /**
@@ -406,13 +559,7 @@ public abstract class QuantileStatisticRational {
         
         Preconditions.checkNotNull(set, "The well set cannot be null.");
 
-        List<Double> aggregated = new ArrayList<Double>();
-        	
-        for (WellDouble well : set) {
-            aggregated.addAll(well.data());
-        }
-      
-        return calculate(aggregated, p);
+        return aggregate(set, 0, -1, p);
         
     }
     
@@ -422,23 +569,23 @@ public abstract class QuantileStatisticRational {
      * @param    double                       the double value
      * @return                                map of well sets and aggregated results
      */
-    public Map<WellSetDouble, Double> setsAggregated(Collection<WellSetDouble> collection, double p) {
+    public Map<WellSetDouble, Double> setsAggregated(Collection<WellSetDouble> collection, final double p) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
 
         Map<WellSetDouble, Double> results = new TreeMap<WellSetDouble, Double>();
         
-        for(WellSetDouble set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetDouble clone = new WellSetDouble(set);
-            
-            for (WellDouble well : set) {
-                aggregated.addAll(well.data());
+        List<Double> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetDouble, Double>() {
+            public Double apply(WellSetDouble set) {
+
+                return aggregate(set, 0, -1, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : collection) {
+            results.put(new WellSetDouble(set), values.get(index++));
         }
         
         return results;
@@ -450,23 +597,23 @@ public abstract class QuantileStatisticRational {
      * @param    double             the double value
      * @return                      map of well sets and aggregated results
      */
-    public Map<WellSetDouble, Double> setsAggregated(WellSetDouble[] array, double p) {
+    public Map<WellSetDouble, Double> setsAggregated(WellSetDouble[] array, final double p) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
 
         Map<WellSetDouble, Double> results = new TreeMap<WellSetDouble, Double>();
         
-        for(WellSetDouble set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetDouble clone = new WellSetDouble(set);
-            
-            for (WellDouble well : set) {
-                aggregated.addAll(well.data());
+        List<Double> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetDouble, Double>() {
+            public Double apply(WellSetDouble set) {
+
+                return aggregate(set, 0, -1, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : array) {
+            results.put(new WellSetDouble(set), values.get(index++));
         }
         
         return results;
@@ -486,13 +633,7 @@ public abstract class QuantileStatisticRational {
 
         Preconditions.checkNotNull(set, "The well set cannot be null.");
 
-        List<Double> aggregated = new ArrayList<Double>();
-            
-        for (WellDouble well : set) {
-            aggregated.addAll(well.data().subList(begin, begin + length));
-        }
-      
-        return calculate(aggregated, p);
+        return aggregate(set, begin, length, p);
         
     }
     
@@ -506,23 +647,23 @@ public abstract class QuantileStatisticRational {
      * @return                                map of well sets and aggregated results
      */
     public Map<WellSetDouble, Double> setsAggregated(
-            Collection<WellSetDouble> collection, int begin, int length, double p) {
+            Collection<WellSetDouble> collection, final int begin, final int length, final double p) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetDouble, Double> results = new TreeMap<WellSetDouble, Double>();
         
-        for(WellSetDouble set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetDouble clone = new WellSetDouble(set);
-            
-            for (WellDouble well : set) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<Double> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetDouble, Double>() {
+            public Double apply(WellSetDouble set) {
+
+                return aggregate(set, begin, length, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : collection) {
+            results.put(new WellSetDouble(set), values.get(index++));
         }
         
         return results;
@@ -539,23 +680,23 @@ public abstract class QuantileStatisticRational {
      * @return                      map of well sets and aggregated results
      */
     public Map<WellSetDouble, Double> setsAggregated(
-            WellSetDouble[] array, int begin, int length, double p) {
+            WellSetDouble[] array, final int begin, final int length, final double p) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetDouble, Double> results = new TreeMap<WellSetDouble, Double>();
         
-        for(WellSetDouble set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetDouble clone = new WellSetDouble(set);
-            
-            for (WellDouble well : set) {
-                aggregated.addAll(well.data().subList(begin, begin + length));
+        List<Double> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetDouble, Double>() {
+            public Double apply(WellSetDouble set) {
+
+                return aggregate(set, begin, length, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : array) {
+            results.put(new WellSetDouble(set), values.get(index++));
         }
         
         return results;
@@ -613,4 +754,97 @@ public abstract class QuantileStatisticRational {
      * @return                   the result
      */
     public abstract double calculate(List<Double> list, int begin, int length, double p);
+    
+    /* ---------- Methods for calculating the statistic of a sketch --------  */
+    
+    /**
+     * Returns the normalized rank error bound for approximate aggregated 
+     * statistics or zero if the aggregated statistics are exact. Aggregated 
+     * plate and set statistics with a positive error bound are calculated 
+     * from a mergeable quantile sketch instead of a list holding the values of
+     * every well. Statistics supporting an approximate mode override this 
+     * method and the sketch calculate method.
+     * @return    the error bound
+     */
+    public double error() {
+        return 0;
+    }
+    
+    /**
+     * Calculates the statistic using a quantile sketch of the values. 
+     * Statistics supporting an approximate mode override this method.
+     * @param    QuantileSketchDouble    the sketch
+     * @param    double                  the double value
+     * @return                           the result
+     * @throws    UnsupportedOperationException    if the statistic cannot be approximated
+     */
+    public double calculate(QuantileSketchDouble sketch, double p) {
+        throw new UnsupportedOperationException("The statistic cannot be calculated from a sketch.");
+    }
+    
+    /* --------------------- Compact result helpers ------------------------ */
+    
+    /**
+     * Stores the values in the result in well iteration order.
+     * @param    PlateResultDouble       the result
+     * @param    Iterable<WellDouble>    the wells
+     * @param    List<Double>            the values in well iteration order
+     * @return                           the result
+     */
+    private PlateResultDouble result(PlateResultDouble result, Iterable<WellDouble> wells, List<Double> values) {
+        
+        int index = 0;
+        
+        for (WellDouble well : wells) {
+            result.put(well.row(), well.column(), values.get(index++));
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Returns an empty result spanning the wells in the set.
+     * @param    WellSetDouble    the well set
+     * @return                    the empty result
+     */
+    private PlateResultDouble setLayout(WellSetDouble set) {
+        
+        int rows = 1;
+        int columns = 1;
+        
+        for (WellDouble well : set) {
+            rows = Math.max(rows, well.row() + 1);
+            columns = Math.max(columns, well.column());
+        }
+        
+        return new PlateResultDouble(rows, columns, set.label());
+    }
+    
+    /* ------------------------ Aggregation helpers ------------------------  */
+    
+    /**
+     * Returns the aggregated statistic for the wells. The statistic is 
+     * calculated from a quantile sketch when the error bound is positive and 
+     * from a list holding the values of every well otherwise. A negative 
+     * length uses all the values of each well.
+     * @param    Iterable<WellDouble>    the wells
+     * @param    int                     beginning index of subset
+     * @param    int                     length of subset or -1
+     * @param    double                  the double value
+     * @return                           the aggregated result
+     */
+    private double aggregate(Iterable<WellDouble> wells, int begin, int length, double p) {
+        
+        if(this.error() > 0) {
+            return calculate(QuantileSketchDouble.sketch(wells, begin, length, this.error()), p);
+        }
+        
+        List<Double> aggregated = new ArrayList<Double>();
+        
+        for(WellDouble well : wells) {
+            aggregated.addAll(length < 0 ? well.data() : well.data().subList(begin, begin + length));
+        }
+        
+        return calculate(aggregated, p);
+    }
 }
@@ -23,9 +23,14 @@ package com.github.jessemull.microflex.doubleflex.stat;
 
 /* ----------------------------- Dependencies ------------------------------ */
 
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Doubles;
+
+import com.github.jessemull.microflex.util.SelectionUtil;
+
 /**
  * This class calculates the quartile deviation of double plate stacks, plates, 
  * wells and well sets.
@@ -118,6 +123,11 @@ import java.util.List;
  *    </tr>
  * </table>
  * 
+ * Aggregated quartile deviations of very large data sets can be approximated by
+ * setting a normalized rank error bound. The approximate first and third
+ * quartiles are calculated from a mergeable quantile sketch built for each
+ * plate.
+ * 
  * @author Jesse L. Mull
  * @update Updated Oct 18, 2016
  * @address http://www.jessemull.com
@@ -125,36 +135,48 @@ import java.util.List;
  */
 public class QuartileDeviationDouble extends DescriptiveStatisticDouble {
     
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private double error;    // Rank error bound for approximate aggregates or zero
+    
+    /* ------------------------- Approximate Mode --------------------------- */
+    
+    /**
+     * Sets the normalized rank error bound for aggregated quartile deviations. A
+     * positive error bound calculates aggregated plate, set and stack
+     * quartile deviations from a mergeable quantile sketch instead of sorting
+     * every value. An error bound of zero restores the exact calculation.
+     * @param    double    the error bound between zero and one
+     */
+    public void setError(double error) {
+        Preconditions.checkArgument(error >= 0 && error < 1, 
+                "The error bound must be between zero and one: %s.", error);
+        this.error = error;
+    }
+    
+    /**
+     * Returns the normalized rank error bound for aggregated quartile deviations
+     * or zero if the aggregated quartile deviations are exact.
+     * @return    the error bound
+     */
+    public double error() {
+        return this.error;
+    }
+    
     /**
      * Calculates the quartile deviation.
      * @param    List<Double>    the list
      * @return                   the result
      */
     public double calculate(List<Double> list) {
-        
-    	Collections.sort(list);
-        
+    	
         if(list.size() < 2) {
             return 0;
         }
         
-        int index = list.size() / 2;
-        
-        List<Double> listQ1 = list.subList(0, index);
-        int lowQ1 = (int) Math.floor((listQ1.size() - 1.0) / 2.0);
-        int highQ1 = (int) Math.ceil((listQ1.size() - 1.0) / 2.0);
-        double q1 = (listQ1.get(lowQ1) + listQ1.get(highQ1)) / 2;
-        
-        if(list.size() % 2 != 0) {
-        	index++;
-        }
+        double[] quartiles = SelectionUtil.quartiles(Doubles.toArray(list), 0, list.size());
         
-        List<Double> listQ3 = list.subList(index, list.size());
-        int lowQ3 = (int) Math.floor((listQ3.size() - 1.0) / 2.0);
-        int highQ3 = (int) Math.ceil((listQ3.size() - 1.0) / 2.0);
-        double q3 = (listQ3.get(lowQ3) + listQ3.get(highQ3)) / 2;
-
-        return (q3 - q1) / 2;
+        return (quartiles[2] - quartiles[0]) / 2;
     }
     
     /**
@@ -168,5 +190,41 @@ public class QuartileDeviationDouble extends DescriptiveStatisticDouble {
     public double  calculate(List<Double> list, int begin, int length) {
         return calculate(list.subList(begin, begin + length));
     }
+    
+    /**
+     * Calculates the quartile deviation of the values in a primitive array between the offset 
+     * and the offset plus the length. The values are copied to a scratch array
+     * so the order of the input array is preserved.
+     * @param    double[]    the array
+     * @param    int         index of the first value
+     * @param    int         number of values
+     * @return               the result
+     */
+    public double calculate(double[] array, int offset, int length) {
+        
+        if(length < 2) {
+            return 0;
+        }
+        
+        double[] quartiles = SelectionUtil.quartiles(
+                Arrays.copyOfRange(array, offset, offset + length), 0, length);
+        
+        return (quartiles[2] - quartiles[0]) / 2;
+    }
+    
+    /**
+     * Calculates the approximate quartile deviation using a quantile sketch of
+     * the values.
+     * @param    QuantileSketchDouble    the sketch
+     * @return                           the result
+     */
+    public double calculate(QuantileSketchDouble sketch) {
+        
+        if(sketch.n() < 2) {
+            return 0;
+        }
+        
+        return (sketch.quantile(0.75) - sketch.quantile(0.25)) / 2;
+    }
 
 }
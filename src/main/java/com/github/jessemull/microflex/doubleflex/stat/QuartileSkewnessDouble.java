@@ -23,9 +23,13 @@ package com.github.jessemull.microflex.doubleflex.stat;
 
 /* ----------------------------- Dependencies ------------------------------ */
 
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 
+import com.google.common.primitives.Doubles;
+
+import com.github.jessemull.microflex.util.SelectionUtil;
+
 /**
  * This class calculates the quartile skewness of double plate stacks, plates, wells and 
  * well sets.
@@ -131,34 +135,14 @@ public class QuartileSkewnessDouble extends DescriptiveStatisticDouble {
      * @return                   the result
      */
     public double calculate(List<Double> list) {
-        
-    	Collections.sort(list);
-        
+    	
         if(list.size() < 2) {
             return 0;
         }
         
-        int index = list.size() / 2;
-        
-        int lowQ2 = (int) Math.floor((list.size() - 1.0) / 2.0);
-        int highQ2 = (int) Math.ceil((list.size() - 1.0) / 2.0);
-        double q2 = (list.get(lowQ2) + list.get(highQ2)) / 2;
-        
-        List<Double> listQ1 = list.subList(0, index);
-        int lowQ1 = (int) Math.floor((listQ1.size() - 1.0) / 2.0);
-        int highQ1 = (int) Math.ceil((listQ1.size() - 1.0) / 2.0);
-        double q1 = (listQ1.get(lowQ1) + listQ1.get(highQ1)) / 2;
-        
-        if(list.size() % 2 != 0) {
-        	index++;
-        }
-        
-        List<Double> listQ3 = list.subList(index, list.size());
-        int lowQ3 = (int) Math.floor((listQ3.size() - 1.0) / 2.0);
-        int highQ3 = (int) Math.ceil((listQ3.size() - 1.0) / 2.0);
-        double q3 = (listQ3.get(lowQ3) + listQ3.get(highQ3)) / 2;
+        double[] quartiles = SelectionUtil.quartiles(Doubles.toArray(list), 0, list.size());
         
-        return (q1 - 2 * q2 + q3) / (q3 - q1);
+        return (quartiles[0] - 2 * quartiles[1] + quartiles[2]) / (quartiles[2] - quartiles[0]);
     }
     
     /**
@@ -172,5 +156,26 @@ public class QuartileSkewnessDouble extends DescriptiveStatisticDouble {
     public double  calculate(List<Double> list, int begin, int length) {
         return calculate(list.subList(begin, begin + length));
     }
+    
+    /**
+     * Calculates the quartile skewness of the values in a primitive array between the offset 
+     * and the offset plus the length. The values are copied to a scratch array
+     * so the order of the input array is preserved.
+     * @param    double[]    the array
+     * @param    int         index of the first value
+     * @param    int         number of values
+     * @return               the result
+     */
+    public double calculate(double[] array, int offset, int length) {
+        
+        if(length < 2) {
+            return 0;
+        }
+        
+        double[] quartiles = SelectionUtil.quartiles(
+                Arrays.copyOfRange(array, offset, offset + length), 0, length);
+        
+        return (quartiles[0] - 2 * quartiles[1] + quartiles[2]) / (quartiles[2] - quartiles[0]);
+    }
 
 }
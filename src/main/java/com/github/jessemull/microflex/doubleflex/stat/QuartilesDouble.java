@@ -24,9 +24,12 @@ package com.github.jessemull.microflex.doubleflex.stat;
 /* ------------------------------ Dependencies ------------------------------ */
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
+import com.google.common.primitives.Doubles;
+
+import com.github.jessemull.microflex.util.SelectionUtil;
+
 /**
  * This class returns the quartiles for double plate stacks, plates, wells and 
  * well sets.
@@ -133,11 +136,14 @@ public class QuartilesDouble extends DescriptiveStatisticListDouble {
      */
 	public List<Double> calculate(List<Double> list) {
 		
+		double[] values = Doubles.toArray(list);
+		int n = values.length;
+		
 		List<Double> result = new ArrayList<Double>();
 		
-		result.add(this.percentile(list, 25));
-		result.add(this.percentile(list, 50));
-		result.add(this.percentile(list, 75));
+		result.add(SelectionUtil.quantile(values, 0, n, (25 * (n + 1)) / 100.0));
+		result.add(SelectionUtil.quantile(values, 0, n, (50 * (n + 1)) / 100.0));
+		result.add(SelectionUtil.quantile(values, 0, n, (75 * (n + 1)) / 100.0));
 		
 		return result;
     }
@@ -152,44 +158,6 @@ public class QuartilesDouble extends DescriptiveStatisticListDouble {
     public List<Double> calculate(List<Double> list, int begin, int length) {
     	return calculate(list.subList(begin, begin + length));
     }
-    
-    /**
-     * Returns the percentile for the data set.
-     * @param    List<Double> list    the input list
-     * @param    int				  the percentile
-     * @return                        the result
-     */
-    private double percentile(List<Double> list, int p) {
-    	
-        int n = list.size();
-    	
-    	if(n == 1) {
-    		return list.get(0);
-    	}
-    	
-        Collections.sort(list);        
-        double pos = (p * (n + 1)) / 100.0;
-        
-        if(pos < 1) {
-        	return list.get(0);
-        }
-        
-        if(pos >= n) {
-        	return list.get(list.size() - 1);
-        }
-        
-        if(pos == Math.floor(pos) && !Double.isInfinite(pos)) {       
-        	return list.get((int) pos - 1);
-        }
-        	
-        int lowerIndex = (int) Math.floor(pos) - 1;
-        int upperIndex = lowerIndex + 1;
-        
-        double lower = list.get(lowerIndex);
-        double upper = list.get(upperIndex);      
-        double d = pos - 1 - lowerIndex;
-        
-        return (upper - lower) * d + lower;
-    }
+
     
 }
@@ -226,4 +226,48 @@ public class SampleVarianceDouble extends DescriptiveStatisticDoubleWeights {
         
     }
     
+    /**
+     * Calculates the sample variance of the values in a primitive array between the offset 
+     * and the offset plus the length.
+     * @param    double[]    the array
+     * @param    int         index of the first value
+     * @param    int         number of values
+     * @return               the result
+     */
+    public double calculate(double[] array, int offset, int length) {
+        
+        double mean = 0;
+        
+        for(int i = offset; i < offset + length; i++) {
+            mean += array[i];
+        }
+        
+        mean /= length;
+        
+        double sum = 0;
+        
+        for(int i = offset; i < offset + length; i++) {
+            sum += Math.pow(array[i] - mean, 2);
+        }
+        
+        return sum / (length - 1);
+    }
+    
+    /**
+     * Returns true. The sample variance is calculated from the moments of a
+     * summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the sample variance using a summary of the values.
+     * @param    SummaryDouble    the summary
+     * @return                    the result
+     */
+    public double calculate(SummaryDouble summary) {
+        return summary.sampleVariance();
+    }
 }
@@ -205,4 +205,22 @@ public class SkewnessDouble extends DescriptiveStatisticDouble {
 
     	return sum;
     }
+    
+    /**
+     * Returns true. The skewness is calculated from the moments of a summary of
+     * the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the skewness using a summary of the values.
+     * @param    SummaryDouble    the summary
+     * @return                    the result
+     */
+    public double calculate(SummaryDouble summary) {
+        return summary.skewness();
+    }
 }
@@ -170,5 +170,22 @@ public class StandardErrorDouble extends DescriptiveStatisticDouble {
         
         return sum / list.size();
     }
-
+    
+    /**
+     * Returns true. The standard error is calculated from the moments of a
+     * summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the standard error using a summary of the values.
+     * @param    SummaryDouble    the summary
+     * @return                    the result
+     */
+    public double calculate(SummaryDouble summary) {
+        return summary.populationStandardDeviation() / Math.sqrt(summary.n());
+    }
 }
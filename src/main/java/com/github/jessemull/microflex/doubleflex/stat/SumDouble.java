@@ -197,4 +197,40 @@ public class SumDouble extends DescriptiveStatisticDoubleWeights {
     public double calculate(List<Double> list, double[] weights, int begin, int length) {
         return calculate(list.subList(begin, begin + length), weights);
     }
+    
+    /**
+     * Calculates the sum of the values in a primitive array between the offset 
+     * and the offset plus the length.
+     * @param    double[]    the array
+     * @param    int         index of the first value
+     * @param    int         number of values
+     * @return               the result
+     */
+    public double calculate(double[] array, int offset, int length) {
+        
+        double sum = 0;
+        
+        for(int i = offset; i < offset + length; i++) {
+            sum += array[i];
+        }
+        
+        return sum;
+    }
+    
+    /**
+     * Returns true. The sum is calculated from a summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the sum using a summary of the values.
+     * @param    SummaryDouble    the summary
+     * @return                    the result
+     */
+    public double calculate(SummaryDouble summary) {
+        return summary.sum();
+    }
 }
@@ -197,4 +197,23 @@ public class SumOfSquaresDouble extends DescriptiveStatisticDoubleWeights {
     public double calculate(List<Double> list, double[] weights, int begin, int length) {
         return calculate(list.subList(begin, begin + length), weights);
     }
+    
+    /**
+     * Calculates the sum of squares of the values in a primitive array between the offset 
+     * and the offset plus the length.
+     * @param    double[]    the array
+     * @param    int         index of the first value
+     * @param    int         number of values
+     * @return               the result
+     */
+    public double calculate(double[] array, int offset, int length) {
+        
+        double sum = 0;
+        
+        for(int i = offset; i < offset + length; i++) {
+            sum += Math.pow(array[i], 2);
+        }
+        
+        return sum;
+    }
 }
@@ -0,0 +1,486 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package -------------------------------- */
+
+package com.github.jessemull.microflex.doubleflex.stat;
+
+/* ----------------------------- Dependencies ------------------------------ */
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+
+import com.google.common.base.Preconditions;
+
+import com.github.jessemull.microflex.doubleflex.plate.DensePlateDouble;
+import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
+import com.github.jessemull.microflex.doubleflex.plate.StackDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
+import com.github.jessemull.microflex.util.ParallelUtil;
+
+/**
+ * This class calculates the moment based summary statistics for double plates,
+ * wells and well sets using a single pass over the values of each well. The
+ * count, sum, minimum, maximum, mean, variance, standard deviation, standard
+ * error, skewness and kurtosis are returned together in a summary object.
+ * Calculating several statistics for each well with the summary statistics
+ * object is faster than using the individual statistic objects, which each
+ * traverse the well values.
+ *
+ * <br><br>
+ *
+ * Summaries can be calculated on plates, sets and wells using standard or
+ * aggregated functions. Standard functions calculate the summary for each well
+ * in the plate or set. Aggregated functions calculate a single summary using the
+ * values from all the wells in the plate, set or stack. The values are never 
+ * copied into an aggregated list. Stack summaries merge a partial summary for 
+ * each plate, and the plates, sets and stacks in collections and arrays are 
+ * summarized in parallel when a fork join pool is set.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class SummaryStatisticsDouble {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    private ForkJoinPool pool;    // Pool for parallel execution or null
+
+    /* ------------------------- Parallel Execution ------------------------- */
+
+    /**
+     * Sets the fork join pool used to calculate the summaries of the plates, 
+     * sets and stacks in parallel. The partial summaries are merged in the same
+     * order used by sequential execution. A null pool restores sequential 
+     * execution.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the fork join pool used for parallel execution or null if the 
+     * summaries are calculated sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+
+    /**
+     * Enables parallel execution using the shared default pool or restores 
+     * sequential execution.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
+
+    /**
+     * Returns true if the summaries are calculated in parallel.
+     * @return    true if parallel execution is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+
+    /* ---------------- Well summaries for all plate wells ------------------ */
+
+    /**
+     * Returns the summary for each plate well.
+     * @param    PlateDouble    the plate
+     * @return                  map of wells and summaries
+     */
+    public Map<WellDouble, SummaryDouble> plate(PlateDouble plate) {
+
+        Preconditions.checkNotNull(plate, "The plate value cannot be null.");
+
+        Map<WellDouble, SummaryDouble> result = new TreeMap<WellDouble, SummaryDouble>();
+
+        for (WellDouble well : plate) {
+            result.put(new WellDouble(well), well(well));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the summary for each plate well using the values between the
+     * beginning and ending indices.
+     * @param    PlateDouble    the plate
+     * @param    int            beginning index of subset
+     * @param    int            length of subset
+     * @return                  map of wells and summaries
+     */
+    public Map<WellDouble, SummaryDouble> plate(PlateDouble plate, int begin, int length) {
+
+        Preconditions.checkNotNull(plate, "The plate value cannot be null.");
+
+        Map<WellDouble, SummaryDouble> result = new TreeMap<WellDouble, SummaryDouble>();
+
+        for (WellDouble well : plate) {
+            result.put(new WellDouble(well), well(well, begin, length));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the summary for each well in a dense plate. The summaries are
+     * calculated directly from the contiguous plate value array.
+     * @param    DensePlateDouble    the dense plate
+     * @return                       map of wells and summaries
+     */
+    public Map<WellDouble, SummaryDouble> plate(DensePlateDouble plate) {
+
+        Preconditions.checkNotNull(plate, "The plate value cannot be null.");
+
+        Map<WellDouble, SummaryDouble> result = new TreeMap<WellDouble, SummaryDouble>();
+        double[] values = plate.dataArray();
+
+        for (WellDouble well : plate) {
+            result.put(well, calculate(values,
+                    plate.dataOffset(well.row(), well.column()),
+                    plate.dataLength(well.row(), well.column())));
+        }
+
+        return result;
+    }
+
+    /* --------------------- Aggregated plate summaries --------------------- */
+
+    /**
+     * Returns the aggregated summary for the plate.
+     * @param    PlateDouble    the plate
+     * @return                  the aggregated summary
+     */
+    public SummaryDouble platesAggregated(PlateDouble plate) {
+
+        Preconditions.checkNotNull(plate, "The plate cannot be null.");
+
+        SummaryDouble summary = new SummaryDouble();
+
+        for (WellDouble well : plate) {
+            summary.add(well.dataArray(), well.dataOffset(), well.dataLength());
+        }
+
+        return summary;
+    }
+
+    /**
+     * Returns the aggregated summary for a dense plate.
+     * @param    DensePlateDouble    the dense plate
+     * @return                       the aggregated summary
+     */
+    public SummaryDouble platesAggregated(DensePlateDouble plate) {
+        Preconditions.checkNotNull(plate, "The plate cannot be null.");
+        return calculate(plate.dataArray(), 0, plate.valueCount());
+    }
+
+    /**
+     * Returns the aggregated summary for each plate. The plates are summarized
+     * in parallel when a pool is set.
+     * @param    Collection<PlateDouble>    collection of plates
+     * @return                              map of plates and aggregated summaries
+     */
+    public Map<PlateDouble, SummaryDouble> platesAggregated(Collection<PlateDouble> collection) {
+
+        Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
+
+        Map<PlateDouble, SummaryDouble> results = new TreeMap<PlateDouble, SummaryDouble>();
+
+        List<SummaryDouble> summaries = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateDouble, SummaryDouble>() {
+            public SummaryDouble apply(PlateDouble plate) {
+                return platesAggregated(plate);
+            }
+        });
+
+        int index = 0;
+
+        for(PlateDouble plate : collection) {
+            results.put(new PlateDouble(plate), summaries.get(index++));
+        }
+
+        return results;
+    }
+
+    /**
+     * Returns the aggregated summary for each plate. The plates are summarized
+     * in parallel when a pool is set.
+     * @param    PlateDouble[]    array of plates
+     * @return                    map of plates and aggregated summaries
+     */
+    public Map<PlateDouble, SummaryDouble> platesAggregated(PlateDouble[] array) {
+        Preconditions.checkNotNull(array, "The plate array cannot be null.");
+        return this.platesAggregated(Arrays.asList(array));
+    }
+
+    /* ---------------- Well summaries for all wells in a set --------------- */
+
+    /**
+     * Returns the summary of each well in the well set.
+     * @param    WellSetDouble    the well set
+     * @return                    map of wells and summaries
+     */
+    public Map<WellDouble, SummaryDouble> set(WellSetDouble set) {
+
+        Preconditions.checkNotNull(set, "The set cannot be null.");
+
+        Map<WellDouble, SummaryDouble> result = new TreeMap<WellDouble, SummaryDouble>();
+
+        for (WellDouble well : set) {
+            result.put(new WellDouble(well), well(well));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the summary of each well in the well set using the values between
+     * the beginning and ending indices.
+     * @param    WellSetDouble    the well set
+     * @param    int              beginning index of subset
+     * @param    int              length of subset
+     * @return                    map of wells and summaries
+     */
+    public Map<WellDouble, SummaryDouble> set(WellSetDouble set, int begin, int length) {
+
+        Preconditions.checkNotNull(set, "The well set cannot be null.");
+
+        Map<WellDouble, SummaryDouble> result = new TreeMap<WellDouble, SummaryDouble>();
+
+        for (WellDouble well : set) {
+            result.put(new WellDouble(well), well(well, begin, length));
+        }
+
+        return result;
+    }
+
+    /* ---------------------- Aggregated set summaries ---------------------- */
+
+    /**
+     * Returns the aggregated summary for the well set.
+     * @param    WellSetDouble    the well set
+     * @return                    the aggregated summary
+     */
+    public SummaryDouble setsAggregated(WellSetDouble set) {
+
+        Preconditions.checkNotNull(set, "The well set cannot be null.");
+
+        SummaryDouble summary = new SummaryDouble();
+
+        for (WellDouble well : set) {
+            summary.add(well.dataArray(), well.dataOffset(), well.dataLength());
+        }
+
+        return summary;
+    }
+
+    /**
+     * Returns the aggregated summary for each well set. The sets are summarized
+     * in parallel when a pool is set.
+     * @param    Collection<WellSetDouble>    collection of well sets
+     * @return                                map of well sets and aggregated summaries
+     */
+    public Map<WellSetDouble, SummaryDouble> setsAggregated(Collection<WellSetDouble> collection) {
+
+        Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
+
+        Map<WellSetDouble, SummaryDouble> results = new TreeMap<WellSetDouble, SummaryDouble>();
+
+        List<SummaryDouble> summaries = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetDouble, SummaryDouble>() {
+            public SummaryDouble apply(WellSetDouble set) {
+                return setsAggregated(set);
+            }
+        });
+
+        int index = 0;
+
+        for(WellSetDouble set : collection) {
+            results.put(new WellSetDouble(set), summaries.get(index++));
+        }
+
+        return results;
+    }
+
+    /**
+     * Returns the aggregated summary for each well set. The sets are summarized
+     * in parallel when a pool is set.
+     * @param    WellSetDouble[]    array of well sets
+     * @return                      map of well sets and aggregated summaries
+     */
+    public Map<WellSetDouble, SummaryDouble> setsAggregated(WellSetDouble[] array) {
+        Preconditions.checkNotNull(array, "The well set array cannot be null.");
+        return this.setsAggregated(Arrays.asList(array));
+    }
+
+    /* --------------------- Aggregated stack summaries --------------------- */
+
+    /**
+     * Returns the aggregated summary for the stack. A partial summary is
+     * calculated for each plate, in parallel when a pool is set, and the
+     * partial summaries are merged. The values are never copied into an 
+     * aggregated list.
+     * @param    StackDouble    the stack
+     * @return                  the aggregated summary
+     */
+    public SummaryDouble stacksAggregated(StackDouble stack) {
+
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+
+        List<SummaryDouble> partials = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateDouble, SummaryDouble>() {
+            public SummaryDouble apply(PlateDouble plate) {
+                return platesAggregated(plate);
+            }
+        });
+
+        SummaryDouble summary = new SummaryDouble();
+
+        for(SummaryDouble partial : partials) {
+            summary.merge(partial);
+        }
+
+        return summary;
+    }
+
+    /**
+     * Returns the aggregated summary for each stack. The stacks are summarized
+     * in parallel when a pool is set.
+     * @param    Collection<StackDouble>    collection of stacks
+     * @return                              map of stacks and aggregated summaries
+     */
+    public Map<StackDouble, SummaryDouble> stacksAggregated(Collection<StackDouble> collection) {
+
+        Preconditions.checkNotNull(collection, "The stack collection cannot be null.");
+
+        Map<StackDouble, SummaryDouble> results = new LinkedHashMap<StackDouble, SummaryDouble>();
+
+        List<SummaryDouble> summaries = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<StackDouble, SummaryDouble>() {
+            public SummaryDouble apply(StackDouble stack) {
+                return stacksAggregated(stack);
+            }
+        });
+
+        int index = 0;
+
+        for(StackDouble stack : collection) {
+            results.put(new StackDouble(stack), summaries.get(index++));
+        }
+
+        return results;
+    }
+
+    /**
+     * Returns the aggregated summary for each stack. The stacks are summarized
+     * in parallel when a pool is set.
+     * @param    StackDouble[]    array of stacks
+     * @return                    map of stacks and aggregated summaries
+     */
+    public Map<StackDouble, SummaryDouble> stacksAggregated(StackDouble[] array) {
+        Preconditions.checkNotNull(array, "The stack array cannot be null.");
+        return this.stacksAggregated(Arrays.asList(array));
+    }
+
+    /* --------------------------- Well summaries --------------------------- */
+
+    /**
+     * Returns the well summary.
+     * @param    WellDouble    the well
+     * @return                 the summary
+     */
+    public SummaryDouble well(WellDouble well) {
+        Preconditions.checkNotNull(well, "The well cannot be null.");
+        return calculate(well.dataArray(), well.dataOffset(), well.dataLength());
+    }
+
+    /**
+     * Returns the well summary for the values between the beginning and ending
+     * indices.
+     * @param    WellDouble    the well
+     * @param    int           beginning index of subset
+     * @param    int           length of the subset
+     * @return                 the summary
+     */
+    public SummaryDouble well(WellDouble well, int begin, int length) {
+        Preconditions.checkNotNull(well, "The well cannot be null.");
+        Preconditions.checkArgument(begin <= well.dataLength() &&
+                                    begin >= 0 &&
+                                    begin + length <= well.dataLength());
+        return calculate(well.dataArray(), well.dataOffset() + begin, length);
+    }
+
+    /* --------- Methods for calculating the summary of a data set ---------- */
+
+    /**
+     * Calculates the summary.
+     * @param    List<Double>    the list
+     * @return                   the summary
+     */
+    public SummaryDouble calculate(List<Double> list) {
+
+        Preconditions.checkNotNull(list, "The list cannot be null.");
+
+        SummaryDouble summary = new SummaryDouble();
+
+        for(double db : list) {
+            summary.add(db);
+        }
+
+        return summary;
+    }
+
+    /**
+     * Calculates the summary of the values between the beginning and ending indices.
+     * @param    List<Double>    the list
+     * @param    int             beginning index of subset
+     * @param    int             length of subset
+     * @return                   the summary
+     */
+    public SummaryDouble calculate(List<Double> list, int begin, int length) {
+        return calculate(list.subList(begin, begin + length));
+    }
+
+    /**
+     * Calculates the summary of the values in a primitive array between the
+     * offset and the offset plus the length.
+     * @param    double[]    the array
+     * @param    int         index of the first value
+     * @param    int         number of values
+     * @return               the summary
+     */
+    public SummaryDouble calculate(double[] array, int offset, int length) {
+
+        Preconditions.checkNotNull(array, "The array cannot be null.");
+
+        SummaryDouble summary = new SummaryDouble();
+        summary.add(array, offset, length);
+
+        return summary;
+    }
+
+}
@@ -0,0 +1,156 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/*--------------------------- Package Declaration ----------------------------*/
+
+package com.github.jessemull.microflex.integerflex.io;
+
+/*------------------------------- Dependencies -------------------------------*/
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.StackInteger;
+
+/**
+ * The outcome of reading a single file with the batch reader. Holds the plates
+ * and stacks read from the file, the detected file format, the time spent
+ * reading the file and the exception thrown while reading the file, if any.
+ * A file that could not be read holds no plates or stacks.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class BatchFileInteger {
+
+    /*---------------------------- Private Fields ----------------------------*/
+
+    private final File file;                   // The file
+    private final int format;                  // The detected format
+    private final List<PlateInteger> plates;    // Plates read from the file
+    private final List<StackInteger> stacks;    // Stacks read from the file
+    private final long nanos;                  // Time spent reading the file
+    private final Exception error;             // The read error or null
+
+    /*----------------------------- Constructors -----------------------------*/
+
+    /**
+     * Creates the outcome for a file.
+     * @param    File                 the file
+     * @param    int                  the detected format
+     * @param    List<PlateInteger>    the plates
+     * @param    List<StackInteger>    the stacks
+     * @param    long                 the read time in nanoseconds
+     * @param    Exception            the read error or null
+     */
+    BatchFileInteger(File file, int format, List<PlateInteger> plates,
+            List<StackInteger> stacks, long nanos, Exception error) {
+        this.file = file;
+        this.format = format;
+        this.plates = Collections.unmodifiableList(plates);
+        this.stacks = Collections.unmodifiableList(stacks);
+        this.nanos = nanos;
+        this.error = error;
+    }
+
+    /*---------------------------- Getter Methods ----------------------------*/
+
+    /**
+     * Returns the file.
+     * @return    the file
+     */
+    public File file() {
+        return this.file;
+    }
+
+    /**
+     * Returns the detected file format. The formats are defined by the batch
+     * reader. The format is unknown if the file could not be opened.
+     * @return    the file format
+     */
+    public int format() {
+        return this.format;
+    }
+
+    /**
+     * Returns the plates read from the file.
+     * @return    the plates
+     */
+    public List<PlateInteger> plates() {
+        return this.plates;
+    }
+
+    /**
+     * Returns the stacks read from the file.
+     * @return    the stacks
+     */
+    public List<StackInteger> stacks() {
+        return this.stacks;
+    }
+
+    /**
+     * Returns the time spent reading the file in nanoseconds.
+     * @return    the read time
+     */
+    public long nanos() {
+        return this.nanos;
+    }
+
+    /**
+     * Returns the time spent reading the file in milliseconds.
+     * @return    the read time
+     */
+    public long millis() {
+        return TimeUnit.NANOSECONDS.toMillis(this.nanos);
+    }
+
+    /**
+     * Returns the exception thrown while reading the file or null.
+     * @return    the error or null
+     */
+    public Exception error() {
+        return this.error;
+    }
+
+    /**
+     * Returns true if the file was read without error.
+     * @return    true on success
+     */
+    public boolean succeeded() {
+        return this.error == null;
+    }
+
+    /**
+     * Returns the file name, format, number of plates and stacks, read time and
+     * error.
+     * @return    the string
+     */
+    public String toString() {
+        return "File: " + this.file + " Format: " + this.format +
+               " Plates: " + this.plates.size() + " Stacks: " + this.stacks.size() +
+               " Time: " + this.millis() + " ms" +
+               (this.error == null ? "" : " Error: " + this.error);
+    }
+
+}
@@ -43,23 +43,19 @@ import java.util.NoSuchElementException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
-import com.github.fge.jackson.JsonLoader;
 import com.github.fge.jsonschema.core.exceptions.ProcessingException;
-import com.github.fge.jsonschema.main.JsonSchema;
-import com.github.fge.jsonschema.main.JsonSchemaFactory;
 import com.google.common.io.CharStreams;
 
 import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
 import com.github.jessemull.microflex.integerflex.plate.StackInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.github.jessemull.microflex.util.CodecUtil;
+import com.github.jessemull.microflex.util.DelimitedScanner;
 
 /**
  * Parses an input stream containing integer stacks, plates, well sets, 
@@ -81,6 +77,13 @@ import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
  *    </tr>
  * </table>
  * 
+ * The source is read once. The format is detected from the first characters of
+ * the input when the reader is created. JSON and XML input is parsed on the first
+ * call to a JSON or XML method, and delimited plate maps and tables are never
+ * validated against the JSON schemas or unmarshalled.
+ * 
+ * <br><br>
+ * 
  * Result tables and maps must be separated using a user defined delimiter or the
  * default tab delimiter. Input must be formatted as follows:
  * 
@@ -445,7 +448,6 @@ public class PlateReaderInteger extends BufferedReader {
 
     /*---------------------------- Private Fields ----------------------------*/
     
-    private int ALPHA_BASE = 26;        // The number of possible characters for row indices
     private String delimiter = "\t";    // The delimiter
     
     private ResultListPOJOInteger resultsJSON;  // Result list POJO for JSON input
@@ -473,17 +475,14 @@ public class PlateReaderInteger extends BufferedReader {
     private int indexStacksXML = -1;      // Current index into the XML stack list
     
 	private String labelRegex = "^\\s*[^ ]+\\s*$";              // Regex for matching plate map labels
-	private String letters = "^[A-Z]+";                         // Regex for matching row index letters
-	   
-	/* Regex for matching JSON objects */
-
-	private String columnHeadersRegex;    // Regex for matching plate map column headers
-	private String tableHeaderRegex;      // Regex for matching table headers
 	
     private Pattern labelPattern = Pattern.compile(labelRegex);            // Pattern for matching plate map labels
-    private Pattern lettersPattern = Pattern.compile(letters);             // Pattern for matching row index letters
-    private Pattern columnHeadersPattern;                                  // Pattern for matching plate map column headers
-    private Pattern tableHeaderPattern;                                    // Pattern for matching table headers
+    
+    /* Scans plate map and table rows */
+    
+    private DelimitedScanner scanner = new DelimitedScanner(delimiter);    // Row scanner
+    private int scannedRow;                                                // Row index of the last scanned row
+    private int scannedColumn;                                             // Column index of the last scanned table row
     
     /* Paths to well, well set, plate and stack JSON/XML schemas */
     
@@ -493,6 +492,16 @@ public class PlateReaderInteger extends BufferedReader {
     private final String JSON_PLATE_SCHEMA = "json_plate_schema.json";
     private final String JSON_STACK_SCHEMA = "json_stack_schema.json";
     
+    /* Source formats detected from the first characters of the input */
+    
+    private static final int FORMAT_TEXT = 0;    // Delimited plate maps and tables
+    private static final int FORMAT_JSON = 1;    // JSON object
+    private static final int FORMAT_XML = 2;     // XML document
+    private static final int SNIFF_LIMIT = 1024; // Characters examined to detect the format
+    
+    private int format = FORMAT_TEXT;    // The detected source format
+    private boolean loaded;              // True once JSON or XML input has been parsed
+    
     /* Default buffer size for a buffered reader is 8192 bytes/chars */
     
     int readAheadLimit = 8192 * 10000;
@@ -508,18 +517,8 @@ public class PlateReaderInteger extends BufferedReader {
         
     	super(source);
         
-		try {
-			
-			this.setDelimiter(this.delimiter);
-	        
-	        String input = CharStreams.toString(source);
-	        
-			this.validateJSON(input);
-			this.validateXML(input);
-		
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
 
     }
     
@@ -535,18 +534,8 @@ public class PlateReaderInteger extends BufferedReader {
         
         super(source, size);
        
-        try {
-        	
-            this.setDelimiter(this.delimiter);
-
-            String input = CharStreams.toString(source);
-     
-			this.validateJSON(input);
-		    this.validateXML(input);
-		    
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
    
     }
 
@@ -559,18 +548,8 @@ public class PlateReaderInteger extends BufferedReader {
         
         super(new InputStreamReader(source));
 
-	    try {
-	    	
-	        this.setDelimiter(this.delimiter);
-	        
-		    String input = CharStreams.toString(new InputStreamReader(source));
-		    
-			this.validateJSON(input);
-	        this.validateXML(input);
-		
-	    } catch (Exception e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
 
     }
     
@@ -584,18 +563,8 @@ public class PlateReaderInteger extends BufferedReader {
         
         super(new InputStreamReader(source), size);
         
-        try {
-        	
-        	this.setDelimiter(this.delimiter);
-            
-            String input = CharStreams.toString(new InputStreamReader(source));
-
-			this.validateJSON(input);        
-	        this.validateXML(input);
-	        
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
     }
 
     /**
@@ -608,18 +577,8 @@ public class PlateReaderInteger extends BufferedReader {
         
         super(new BufferedReader(new InputStreamReader(source, set)));        
         
-        try {
-        	
-        	this.setDelimiter(this.delimiter);
-            
-            String input = CharStreams.toString(new InputStreamReader(source, set));
-
-			this.validateJSON(input);
-	        this.validateXML(input);
-
-        } catch(Exception e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
         
     }
     
@@ -635,18 +594,8 @@ public class PlateReaderInteger extends BufferedReader {
         
         super(new BufferedReader(new InputStreamReader(source, charsetName), size));        
         
-        try {
-        	
-        	this.setDelimiter(this.delimiter);
-            
-            String input = CharStreams.toString(new InputStreamReader(source, charsetName));
-
-			this.validateJSON(input);
-	        this.validateXML(input);
-	        
-		} catch(Exception e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
 
     }
 
@@ -660,18 +609,8 @@ public class PlateReaderInteger extends BufferedReader {
         
         super(new InputStreamReader(source, decoder));        
         
-        try {
-
-        	this.setDelimiter(this.delimiter);
-            
-            String input = CharStreams.toString(new InputStreamReader(source, decoder));
-
-			this.validateJSON(input);
-			this.validateXML(input);
-		
-        } catch(Exception e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
         
     }
     
@@ -686,18 +625,8 @@ public class PlateReaderInteger extends BufferedReader {
         
         super(new InputStreamReader(source, decoder), size);        
         
-        try {
-
-        	this.setDelimiter(this.delimiter);
-            
-            String input = CharStreams.toString(new InputStreamReader(source, decoder));
-
-			this.validateJSON(input);
-			this.validateXML(input);
-			
-		} catch(Exception e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
         
     }
     
@@ -712,18 +641,8 @@ public class PlateReaderInteger extends BufferedReader {
 
         super(new BufferedReader(new FileReader(source)));
 
-        try {
-        	
-            this.setDelimiter(this.delimiter);
-            
-            String input = CharStreams.toString(new FileReader(source));
-	        
-            this.validateJSON(input);
-	        this.validateXML(input);
-	      
-		} catch(ProcessingException e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
 
     }
     
@@ -738,17 +657,8 @@ public class PlateReaderInteger extends BufferedReader {
         
         super(new FileReader(source), size);
         
-        try {
-	        this.setDelimiter(this.delimiter);
-	
-	        String input = CharStreams.toString(new FileReader(source));
-	        
-	        this.validateJSON(input);
-	        this.validateXML(input);
-	        
-        } catch(Exception e) {
-        	e.printStackTrace();
-        }
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
     }
 
     /**
@@ -761,18 +671,8 @@ public class PlateReaderInteger extends BufferedReader {
         
         super(new FileReader(new File(fileName)));
         
-        try {
-
-			this.setDelimiter(this.delimiter);
-	        
-	        String input = CharStreams.toString(new FileReader(new File(fileName)));
-	        
-			this.validateJSON(input);
-	        this.validateXML(input);
-	        
-		} catch(Exception e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
 
     }
     
@@ -789,18 +689,8 @@ public class PlateReaderInteger extends BufferedReader {
         
         super(new FileReader(new File(fileName)), size);
         
-        try {
-        	
-        	this.setDelimiter(this.delimiter);
-            
-            String input = CharStreams.toString(new FileReader(new File(fileName)));
-
-			this.validateJSON(input);
-	        this.validateXML(input);
-	        
-		} catch(Exception e) {
-			e.printStackTrace();
-		}
+        this.setDelimiter(this.delimiter);
+        this.detectFormat();
 
     }
 
@@ -834,6 +724,7 @@ public class PlateReaderInteger extends BufferedReader {
     	    while(label.trim().isEmpty()) {
     	    	
     	    	if(!this.hasNextLine()) {
+    	    		this.reset();
     	    		return false;
     	    	}
     	    	
@@ -845,60 +736,46 @@ public class PlateReaderInteger extends BufferedReader {
     	    Matcher labelMatcher = labelPattern.matcher(label);
 
     	    if(!labelMatcher.matches()) {	        
+    		    this.reset();
     		    return false;
          	}
       
     	    /* Check for valid column headers */
 
-    	    String headers = this.nextLine();
-
-    	    Matcher headersMatcher = columnHeadersPattern.matcher(headers);
-    	    int columnNumber = 0;
+    	    int columnNumber = this.scanColumnHeaders(this.nextLine());
     	
-    	    if(!headersMatcher.matches()) {   	              		    
+    	    if(columnNumber < 0) {   	              		    
+    	    	this.reset();
     	    	return false;       		    
-          	} else {
-    	    
-    	    	String[] splitHeaders = headers.trim().split(delimiter);
-    		
-    		    for(int i = 0; i < splitHeaders.length; i++) {
-    			    if(Integer.parseInt(splitHeaders[i]) != i + 1) {			        
-    				    throw new IllegalArgumentException("Invalid column index.");
-    			    }
-    		    }
-    		
-    		    columnNumber = splitHeaders.length;	
-    	    }
+          	}
 
     	    /* Validate the rows and row indices */
     	
     	    int currentIndex = 0;
     	    String row = null;
         	
-    	    while((row = this.nextLine().trim()) != null && !row.trim().isEmpty()) {
+    	    while((row = this.readLine()) != null && !row.trim().isEmpty()) {
 
-        	    String regex = "^\\s*[A-Za-z]+" + this.delimiter + "(\\s*(\\d+\\.?\\d+|Null)\\s*" + this.delimiter + "|\\s*(\\d+\\.?\\d*|Null))+\\s*\\n?$";
-            	Pattern pattern = Pattern.compile(regex);
-            	Matcher rowMatcher = pattern.matcher(row);
+    	    	int rowLength = this.scanMapRow(row, null);
 
-    		    if(!rowMatcher.lookingAt()) {
+    		    if(rowLength < 0) {
     		    	
     		    	if(currentIndex == 0) {
+    		    		this.reset();
     		    		return false;
     		    	}
     		    	
     		    	break;
     		    	
     	        } else {
-    	        
-    	            String[] rowSplit = row.split(delimiter);
-    	    	    int numValue = this.parseRow(rowSplit[0].trim());
     	    	
-    	    	    if(numValue != currentIndex) {   
+    	    	    if(this.scannedRow != currentIndex) {   
+    	    	    	this.reset();
     	    	    	return false;
     	    	    } 
 
-    	    	    if(rowSplit.length - 1 != columnNumber) {
+    	    	    if(rowLength != columnNumber) {
+    	    	    	this.reset();
     	    	    	return false;
     	    	    }
     	    	
@@ -932,8 +809,8 @@ public class PlateReaderInteger extends BufferedReader {
     
     /**
      * Scans the next token of the input as a plate map. If the next token 
-     * matches the plate map regular expression defined above then the token is 
-     * converted into a plate object.
+     * matches the plate map format defined above then the token is converted 
+     * into a plate object.
      * @return    plate containing the data from the map
      */
     public PlateInteger nextMap() {
@@ -970,25 +847,10 @@ public class PlateReaderInteger extends BufferedReader {
       
             /* Check for valid column headers */
         
-            String headers = this.nextLine();
-            Matcher headersMatcher = columnHeadersPattern.matcher(headers);
-            int columnNumber = 0;
+            int columnNumber = this.scanColumnHeaders(this.nextLine());
         
-            if(!headersMatcher.matches()) {
-            
+            if(columnNumber < 0) {
                 throw new InputMismatchException("Invalid plate map column headers.");
-            
-            } else {
-            
-                String[] splitHeaders = headers.trim().split(delimiter);
-            
-                for(int i = 0; i < splitHeaders.length; i++) {
-                    if(Integer.parseInt(splitHeaders[i]) != i + 1) {
-                        throw new InputMismatchException("Invalid plate map column headers.");
-                    }
-                }
-            
-                columnNumber = splitHeaders.length; 
             }
 
             /* Validate the rows and row indices */
@@ -997,41 +859,28 @@ public class PlateReaderInteger extends BufferedReader {
             List<WellInteger> wells = new ArrayList<WellInteger>();
             String row = null;
         
-            while((row = this.nextLine()) != null && !row.trim().isEmpty()) {
+            while((row = this.readLine()) != null && !row.trim().isEmpty()) {
                 
-            	String regex = "^\\s*[A-Za-z]+" + this.delimiter + "(\\s*(\\d+\\.?\\d+|Null)\\s*" + this.delimiter + "|\\s*(\\d+\\.?\\d*|Null))+\\s*\\n?$";
-            	Pattern pattern = Pattern.compile(regex);
-            	Matcher rowMatcher = pattern.matcher(row);
+                int rowLength = this.scanMapRow(row, wells);
                 
-                if(!rowMatcher.matches()) {
+                if(rowLength < 0) {
                 	
+                    if(currentIndex == 0) {
+                        throw new InputMismatchException("Invalid plate map row.");
+                    }
+                    
                     break;
                 
                 } else {
                 
-                    String[] rowSplit = row.split(delimiter);
-                    int numValue = this.parseRow(rowSplit[0].trim());
-                
-                    if(numValue != currentIndex) {   
+                    if(this.scannedRow != currentIndex) {   
                         throw new InputMismatchException("Invalid plate map row index.");
                     } 
 
-                    if(rowSplit.length - 1 != columnNumber) {
+                    if(rowLength != columnNumber) {
                         throw new InputMismatchException("Invalid plate map row length.");
                     }
                 
-                    for(int i = 1; i < rowSplit.length; i++) {
-                    	
-                    	if(!rowSplit[i].equals("Null")) {
-
-                    		WellInteger well = new WellInteger(numValue, i);
-                            int toAdd = Integer.parseInt(rowSplit[i].trim());
-                            
-                            well.add(toAdd);
-                            wells.add(well);
-                    	}
-                    }
-                
                     currentIndex++;             
                 }
             }
@@ -1089,6 +938,7 @@ public class PlateReaderInteger extends BufferedReader {
             while(label.trim().isEmpty()) {
             	
             	if(!this.hasNextLine()) {
+            		this.reset();
             		return false;
             	}
             	
@@ -1100,6 +950,7 @@ public class PlateReaderInteger extends BufferedReader {
     	    Matcher labelMatcher = labelPattern.matcher(label);
     	    
     	    if(!labelMatcher.matches()) {	        
+    		    this.reset();
     		    return false;
          	}
     	    
@@ -1112,26 +963,20 @@ public class PlateReaderInteger extends BufferedReader {
     	    }
 
     	    /* Check for valid table headers */
-    	    
-    	    this.tableHeaderPattern = Pattern.compile(this.tableHeaderRegex);
-    	    Matcher tableHeaderMatcher = tableHeaderPattern.matcher(headers);
 
-    	    if(!tableHeaderMatcher.matches()) {
+    	    if(!this.scanTableHeaders(headers)) {
+    	        this.reset();
     	        return false;    	
     	    }
 
     	    String row = null;
     	    int index  = 0;
-    	    while((row = this.nextLine()) != null && !row.trim().isEmpty()) {
+    	    while((row = this.readLine()) != null && !row.trim().isEmpty()) {
 
-    	    	String regex = "^\\s*[A-Za-z]+\\d+\\s*" + this.delimiter + "\\s*\\d+\\.?\\d+\\s*$";
-    	    	Pattern pattern = Pattern.compile(regex);
-    	    	
-    	    	Matcher tableRowMatcher = pattern.matcher(row);
-
-    	    	if(!tableRowMatcher.matches()) {
+    	    	if(!this.scanTableRow(row)) {
     	    		
     	    		if(index == 0) {
+    	    			this.reset();
     	    			return false;
     	    		}
     	    		
@@ -1164,8 +1009,8 @@ public class PlateReaderInteger extends BufferedReader {
     
     /**
      * Scans the next token of the input as a table of wells. If the next token 
-     * matches the table regular expression defined above then the token is 
-     * converted into a well set.
+     * matches the table format defined above then the token is converted into 
+     * a well set.
      * @return    the converted table of wells  
      */
     public WellSetInteger nextTable() {
@@ -1202,32 +1047,27 @@ public class PlateReaderInteger extends BufferedReader {
     	    
     	    /* Check for valid table headers */
 
-    	    Matcher tableHeaderMatcher = tableHeaderPattern.matcher(headers);
-
-    	    if(!tableHeaderMatcher.matches()) {
+    	    if(!this.scanTableHeaders(headers)) {
     	        throw new IllegalArgumentException("Invalid table headers.");    	
     	    }
     	    
     	    List<WellInteger> wells = new ArrayList<WellInteger>();
     	    String row = null;
     	    
-    	    while((row = this.nextLine()) != null && !row.trim().isEmpty()) {
-    	    	
-    	    	String regex = "^\\s*[A-Za-z]+\\d+\\s*" + this.delimiter + "\\s*\\d+\\.?\\d+\\s*$";
-    	    	Pattern pattern = Pattern.compile(regex);
-    	    	
-    	    	Matcher tableRowMatcher = pattern.matcher(row);
-    	    	String[] split = row.split(this.delimiter);
+    	    while((row = this.readLine()) != null && !row.trim().isEmpty()) {
 
-    	    	if(!tableRowMatcher.matches()) {
+    	    	if(!this.scanTableRow(row)) {
+    	    		
+    	    		if(wells.isEmpty()) {
+    	    			throw new IllegalArgumentException("Invalid table row.");
+    	    		}
+    	    		
     	    		break;
     	    	} else {
     	    		
-    	    		WellInteger well = new WellInteger(split[0].trim());
+    	    		WellInteger well = new WellInteger(this.scannedRow, this.scannedColumn);
     	            
-    	    		int toAdd = Integer.parseInt(split[1].trim());
-    	    		
-    	            well.add(toAdd);    	    		
+    	            well.add(this.scanner.intValue());    	    		
     	    		wells.add(well);
     	    	}
     	    	
@@ -1261,6 +1101,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasNextJSONResult() {    
+        this.load();
         return this.indexResultsJSON >= 0 && this.indexResultsJSON < this.resultsJSON.size();
     }
     
@@ -1271,6 +1112,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasPreviousJSONResult() {    
+        this.load();
         return this.indexResultsJSON > 0;
     }
     
@@ -1280,6 +1122,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    the converted result object  
      */
     public WellSetInteger nextJSONResult() {
+        this.load();
 
     	if(this.hasNextJSONResult()) {
     		
@@ -1313,6 +1156,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    the converted result object  
      */
     public WellSetInteger previousJSONResult() {
+        this.load();
 
     	if(this.hasPreviousJSONResult()) {
     		
@@ -1346,6 +1190,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of converted result objects
      */
     public List<WellSetInteger> remainingJSONResults() {
+        this.load();
         
         if(!this.hasNextJSONResult()) {
             return null;
@@ -1366,6 +1211,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of converted result objects
      */
     public List<WellSetInteger> spentJSONResults() {
+        this.load();
         
         if(!this.hasPreviousJSONResult()) {
             return null;
@@ -1385,6 +1231,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of all result objects
      */
     public List<WellSetInteger> allJSONResults() {
+        this.load();
 
         List<WellSetInteger> allResults = new ArrayList<WellSetInteger>();
         
@@ -1419,6 +1266,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasNextXMLResult() {    
+        this.load();
         return this.indexResultsXML >= 0 && this.indexResultsXML < this.resultsXML.size();
     }
     
@@ -1429,6 +1277,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasPreviousXMLResult() {    
+        this.load();
         return this.indexResultsXML > 0;
     }
     
@@ -1438,6 +1287,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    the converted result object  
      */
     public WellSetInteger nextXMLResult() {
+        this.load();
         return this.hasNextXMLResult() ? 
                 this.resultsXML.get(indexResultsXML++).toWellSetObject() : null;
     }
@@ -1448,6 +1298,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    the converted result object  
      */
     public WellSetInteger previousXMLResult() {
+        this.load();
         return this.hasPreviousXMLResult() ? 
                 this.resultsXML.get(--indexResultsXML).toWellSetObject() : null;
     }
@@ -1458,6 +1309,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of converted result objects
      */
     public List<WellSetInteger> remainingXMLResults() {
+        this.load();
         
         if(!this.hasNextXMLResult()) {
             return null;
@@ -1478,6 +1330,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of converted result objects
      */
     public List<WellSetInteger> spentXMLResults() {
+        this.load();
         
         if(!this.hasPreviousXMLResult()) {
             return null;
@@ -1497,6 +1350,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of all converted result objects
      */
     public List<WellSetInteger> allXMLResults() {
+        this.load();
 
         List<WellSetInteger> allWellResults = new ArrayList<WellSetInteger>();
         
@@ -1516,6 +1370,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasNextJSONWell() {    
+        this.load();
         return this.indexWellsJSON >= 0 && this.indexWellsJSON < this.wellsJSON.size();
     }
     
@@ -1526,6 +1381,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasPreviousJSONWell() {    
+        this.load();
         return this.indexWellsJSON > 0;
     }
     
@@ -1535,6 +1391,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    the converted well object  
      */
     public WellInteger nextJSONWell() {
+        this.load();
         return this.hasNextJSONWell() ? 
                 this.wellsJSON.get(indexWellsJSON++).toWellObject() : null;
     }
@@ -1545,6 +1402,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    the converted well object  
      */
     public WellInteger previousJSONWell() {
+        this.load();
         return this.hasPreviousJSONWell() ? 
                 this.wellsJSON.get(--indexWellsJSON).toWellObject() : null;
     }
@@ -1555,6 +1413,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of converted well objects
      */
     public List<WellInteger> remainingJSONWells() {
+        this.load();
         
         if(!this.hasNextJSONWell()) {
             return null;
@@ -1575,6 +1434,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of converted well objects
      */
     public List<WellInteger> spentJSONWells() {
+        this.load();
         
         if(!this.hasPreviousJSONWell()) {
             return null;
@@ -1594,6 +1454,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of all well objects
      */
     public List<WellInteger> allJSONWells() {
+        this.load();
 
         List<WellInteger> allWells = new ArrayList<WellInteger>();
         
@@ -1613,6 +1474,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasNextXMLWell() {    
+        this.load();
         return this.indexWellsXML >= 0 && this.indexWellsXML < this.wellsXML.size();
     }
     
@@ -1623,6 +1485,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasPreviousXMLWell() {    
+        this.load();
         return this.indexWellsXML > 0;
     }
     
@@ -1632,6 +1495,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    the converted well object  
      */
     public WellInteger nextXMLWell() {
+        this.load();
         return this.hasNextXMLWell() ? 
                 this.wellsXML.get(indexWellsXML++).toWellObject() : null;
     }
@@ -1642,6 +1506,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    the converted well object  
      */
     public WellInteger previousXMLWell() {
+        this.load();
         return this.hasPreviousXMLWell() ? 
                 this.wellsXML.get(--indexWellsXML).toWellObject() : null;
     }
@@ -1652,6 +1517,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of converted well objects
      */
     public List<WellInteger> remainingXMLWells() {
+        this.load();
         
         if(!this.hasNextXMLWell()) {
             return null;
@@ -1672,6 +1538,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of converted well objects
      */
     public List<WellInteger> spentXMLWells() {
+        this.load();
         
         if(!this.hasPreviousXMLWell()) {
             return null;
@@ -1691,6 +1558,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of all well objects
      */
     public List<WellInteger> allXMLWells() {
+        this.load();
 
         List<WellInteger> allWells = new ArrayList<WellInteger>();
         
@@ -1710,6 +1578,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasNextJSONSet() {   
+        this.load();
         return this.indexSetsJSON >= 0 && this.indexSetsJSON < this.setsJSON.size();
     }
     
@@ -1720,6 +1589,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasPreviousJSONSet() {    
+        this.load();
         return this.indexSetsJSON > 0;
     }
     
@@ -1729,6 +1599,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    the converted well set object  
      */
     public WellSetInteger nextJSONSet() {
+        this.load();
         return this.hasNextJSONSet() ? 
                 this.setsJSON.get(indexSetsJSON++).toWellSetObject() : null;
     }
@@ -1739,6 +1610,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    the converted well set object  
      */
     public WellSetInteger previousJSONSet() {
+        this.load();
         return this.hasPreviousJSONSet() ? 
                 this.setsJSON.get(--indexSetsJSON).toWellSetObject() : null;
     }
@@ -1749,6 +1621,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of converted set objects
      */
     public List<WellSetInteger> remainingJSONSets() {
+        this.load();
         
         if(!this.hasNextJSONSet()) {
             return null;
@@ -1769,6 +1642,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of converted set objects
      */
     public List<WellSetInteger> spentJSONSets() {
+        this.load();
         
         if(!this.hasPreviousJSONSet()) {
             return null;
@@ -1788,6 +1662,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of all set objects
      */
     public List<WellSetInteger> allJSONSets() {
+        this.load();
 
         List<WellSetInteger> allSets = new ArrayList<WellSetInteger>();
         
@@ -1807,6 +1682,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasNextXMLSet() {    
+        this.load();
         return this.indexSetsXML >= 0 && this.indexSetsXML < this.setsXML.size();
     }
     
@@ -1817,6 +1693,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasPreviousXMLSet() {    
+        this.load();
         return this.indexSetsXML > 0;
     }
     
@@ -1826,6 +1703,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    the converted well set object  
      */
     public WellSetInteger nextXMLSet() {
+        this.load();
         return this.hasNextXMLSet() ? 
                 this.setsXML.get(indexSetsXML++).toWellSetObject() : null;
     }
@@ -1836,6 +1714,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    the converted well set object  
      */
     public WellSetInteger previousXMLSet() {
+        this.load();
         return this.hasPreviousXMLSet() ? 
                 this.setsXML.get(--indexSetsXML).toWellSetObject() : null;
     }
@@ -1846,6 +1725,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of converted well set objects
      */
     public List<WellSetInteger> remainingXMLSets() {
+        this.load();
         
         if(!this.hasNextXMLSet()) {
             return null;
@@ -1866,6 +1746,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of converted well set objects
      */
     public List<WellSetInteger> spentXMLSets() {
+        this.load();
         
         if(!this.hasPreviousXMLSet()) {
             return null;
@@ -1885,6 +1766,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of all well set objects
      */
     public List<WellSetInteger> allXMLSets() {
+        this.load();
 
         List<WellSetInteger> allWellSets = new ArrayList<WellSetInteger>();
         
@@ -1904,6 +1786,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasNextJSONPlate() {    
+        this.load();
         return this.indexPlatesJSON >= 0 && this.indexPlatesJSON < this.platesJSON.size();
     }
     
@@ -1914,6 +1797,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasPreviousJSONPlate() {    
+        this.load();
         return this.indexPlatesJSON > 0;
     }
     
@@ -1923,6 +1807,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    the converted plate object  
      */
     public PlateInteger nextJSONPlate() {
+        this.load();
         return this.hasNextJSONPlate() ? 
                 this.platesJSON.get(indexPlatesJSON++).toPlateObject() : null;
     }
@@ -1933,6 +1818,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    the converted plate object  
      */
     public PlateInteger previousJSONPlate() {
+        this.load();
         return this.hasPreviousJSONPlate() ? 
                 this.platesJSON.get(--indexPlatesJSON).toPlateObject() : null;
     }
@@ -1943,6 +1829,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of converted plate objects
      */
     public List<PlateInteger> remainingJSONPlates() {
+        this.load();
         
         if(!this.hasNextJSONPlate()) {
             return null;
@@ -1963,6 +1850,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of converted plate objects
      */
     public List<PlateInteger> spentJSONPlates() {
+        this.load();
         
         if(!this.hasPreviousJSONPlate()) {
             return null;
@@ -1982,6 +1870,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of all plate objects
      */
     public List<PlateInteger> allJSONPlates() {
+        this.load();
 
         List<PlateInteger> allPlates = new ArrayList<PlateInteger>();
         
@@ -2001,6 +1890,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasNextXMLPlate() {    
+        this.load();
         return this.indexPlatesXML >= 0 && this.indexPlatesXML < this.platesXML.size();
     }
     
@@ -2011,6 +1901,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasPreviousXMLPlate() {    
+        this.load();
         return this.indexPlatesXML > 0;
     }
     
@@ -2020,6 +1911,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    the converted plate object  
      */
     public PlateInteger nextXMLPlate() {
+        this.load();
         return this.hasNextXMLPlate() ? 
                 this.platesXML.get(indexPlatesXML++).toPlateObject() : null;
     }
@@ -2030,6 +1922,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    the converted plate object  
      */
     public PlateInteger previousXMLPlate() {
+        this.load();
         return this.hasPreviousXMLPlate() ? 
                 this.platesXML.get(--indexPlatesXML).toPlateObject() : null;
     }
@@ -2040,6 +1933,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of converted plate objects
      */
     public List<PlateInteger> remainingXMLPlates() {
+        this.load();
         
         if(!this.hasNextXMLPlate()) {
             return null;
@@ -2060,6 +1954,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of converted plate objects
      */
     public List<PlateInteger> spentXMLPlates() {
+        this.load();
         
         if(!this.hasPreviousXMLPlate()) {
             return null;
@@ -2079,6 +1974,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of all plate objects
      */
     public List<PlateInteger> allXMLPlates() {
+        this.load();
 
         List<PlateInteger> allPlates = new ArrayList<PlateInteger>();
         
@@ -2098,6 +1994,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasNextJSONStack() {    
+        this.load();
         return this.indexStacksJSON >= 0 && this.indexStacksJSON < this.stacksJSON.size();
     }
     
@@ -2108,6 +2005,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasPreviousJSONStack() {    
+        this.load();
         return this.indexStacksJSON > 0;
     }
     
@@ -2117,6 +2015,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    the converted stack object  
      */
     public StackInteger nextJSONStack() {
+        this.load();
         return this.hasNextJSONStack() ? 
                 this.stacksJSON.get(indexStacksJSON++).toStackObject() : null;
     }
@@ -2127,6 +2026,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    the converted stack object  
      */
     public StackInteger previousJSONStack() {
+        this.load();
         return this.hasPreviousJSONStack() ? 
                 this.stacksJSON.get(--indexStacksJSON).toStackObject() : null;
     }
@@ -2137,6 +2037,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of converted stack objects
      */
     public List<StackInteger> remainingJSONStacks() {
+        this.load();
         
         if(!this.hasNextJSONStack()) {
             return null;
@@ -2157,6 +2058,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of converted stack objects
      */
     public List<StackInteger> spentJSONStacks() {
+        this.load();
         
         if(!this.hasPreviousJSONStack()) {
             return null;
@@ -2176,6 +2078,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of all stack objects
      */
     public List<StackInteger> allJSONStacks() {
+        this.load();
 
         List<StackInteger> allStacks = new ArrayList<StackInteger>();
         
@@ -2195,6 +2098,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasNextXMLStack() {    
+        this.load();
         return this.indexStacksXML >= 0 && this.indexStacksXML < this.stacksXML.size();
     }
     
@@ -2205,6 +2109,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @throws    ProcessingException 
      */
     public boolean hasPreviousXMLStack() {    
+        this.load();
         return this.indexStacksXML > 0;
     }
     
@@ -2214,6 +2119,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    the converted stack object  
      */
     public StackInteger nextXMLStack() {
+        this.load();
         return this.hasNextXMLStack() ? 
                 this.stacksXML.get(indexStacksXML++).toStackObject() : null;
     }
@@ -2224,6 +2130,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    the converted stack object  
      */
     public StackInteger previousXMLStack() {
+        this.load();
         return this.hasPreviousXMLStack() ? 
                 this.stacksXML.get(--indexStacksXML).toStackObject() : null;
     }
@@ -2234,6 +2141,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of converted stack objects
      */
     public List<StackInteger> remainingXMLStacks() {
+        this.load();
         
         if(!this.hasNextXMLStack()) {
             return null;
@@ -2254,6 +2162,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of converted stack objects
      */
     public List<StackInteger> spentXMLStacks() {
+        this.load();
         
         if(!this.hasPreviousXMLStack()) {
             return null;
@@ -2273,6 +2182,7 @@ public class PlateReaderInteger extends BufferedReader {
      * @return    list of all stack objects
      */
     public List<StackInteger> allXMLStacks() {
+        this.load();
 
         List<StackInteger> allStacks = new ArrayList<StackInteger>();
         
@@ -2293,17 +2203,13 @@ public class PlateReaderInteger extends BufferedReader {
 
     	try {
 
+	    	this.scanner.setDelimiter(delim);
 	    	this.delimiter = delim;
-	     
-	        this.columnHeadersRegex = "^\\s*" + this.delimiter + "?\\s*(\\s*\\d+)\\s*(" + this.delimiter + "\\s*\\d+\\s*)*$";
-	    	this.tableHeaderRegex = "^\\s*Index\\s*" + this.delimiter + "\\s*Value\\s*$";
-
-	        this.columnHeadersPattern = Pattern.compile(columnHeadersRegex); 
-	        this.tableHeaderPattern = Pattern.compile(tableHeaderRegex);
 	        
     	} catch(Exception e) {
     		
     		this.delimiter = "\t";
+    		this.scanner.setDelimiter(this.delimiter);
     		throw new IllegalArgumentException("Invalid delimiter.");
     	
     	}
@@ -2319,158 +2225,383 @@ public class PlateReaderInteger extends BufferedReader {
     }
     
     /**
-     * Converts a row ID to an integer value.
-     * @param    String    the row as a string
-     * @return             the row as an integer value
+     * Scans the plate map column headers. The headers must be the column 
+     * indices in ascending order beginning with one. A leading and trailing
+     * delimiter are allowed.
+     * @param    String    the column headers
+     * @return             the number of columns or -1 if the headers are invalid
      */
-    private int parseRow(String rowString) {
+    private int scanColumnHeaders(String headers) {
         
-        int rowInt = 0;
-        int baseIndex = 0;
+        this.scanner.load(headers);
+        this.scanner.skipWhitespace();
+        this.scanner.nextDelimiter();
         
-        String upper = rowString.toUpperCase().trim();
-        Matcher lettersMatcher = lettersPattern.matcher(upper);
+        int columns = 0;
         
-        if(lettersMatcher.find()) {
+        do {
             
-            String letters = lettersMatcher.group(0);
-            rowInt = letters.charAt(letters.length() - 1) - 65;
+            this.scanner.skipWhitespace();
             
-            for(int i = letters.length() - 1; i >= 0; i--) {
-                rowInt += (baseIndex++ * (letters.charAt(i) - 65 + 1) * ALPHA_BASE);                
+            if(this.scanner.nextColumn() != ++columns) {
+                return -1;
             }
             
-            return rowInt;
+            this.scanner.skipWhitespace();
+            
+            /* A trailing delimiter ends the headers */
             
-        } else {           
-            throw new IllegalArgumentException("Invalid row ID: " + rowString);
+            if(!this.scanner.nextDelimiter()) {
+                break;
+            }
+            
+            this.scanner.skipWhitespace();
+            
+        } while(!this.scanner.atEnd());
+        
+        return this.scanner.atEnd() ? columns : -1;
+    }
+    
+    /**
+     * Scans a plate map row. The row index is held in the scanned row field. 
+     * When the well list is not null a well is added to the list for each 
+     * value. The list is unchanged if the row is invalid.
+     * @param    String              the row
+     * @param    List<WellInteger>    the list of wells or null
+     * @return                       the number of values including empty 
+     *                               wells or -1 if the row is invalid
+     */
+    private int scanMapRow(String row, List<WellInteger> wells) {
+        
+        int size = wells == null ? 0 : wells.size();
+        
+        this.scanner.load(row);
+        this.scanner.skipWhitespace();
+        
+        this.scannedRow = this.scanner.nextRow();
+        
+        if(this.scannedRow < 0 || !this.scanner.nextDelimiter()) {
+            return -1;
+        }
+        
+        int column = 0;
+        boolean valid = true;
+        
+        while(true) {
+            
+            this.scanner.skipWhitespace();
+            column++;
+            
+            if(!this.scanner.nextNull()) {
+                
+                if(!this.scanner.nextNumber()) {
+                    valid = false;
+                    break;
+                }
+                
+                if(wells != null) {
+                    WellInteger well = new WellInteger(this.scannedRow, column);
+                    well.add(this.scanner.intValue());
+                    wells.add(well);
+                }
+            }
+            
+            this.scanner.skipWhitespace();
+            
+            /* A trailing delimiter ends the row */
+            
+            if(!this.scanner.nextDelimiter()) {
+                break;
+            }
+            
+            this.scanner.skipWhitespace();
+            
+            if(this.scanner.atEnd()) {
+                break;
+            }
         }
         
+        if(!valid || !this.scanner.atEnd()) {
+            
+            if(wells != null) {
+                wells.subList(size, wells.size()).clear();
+            }
+            
+            return -1;
+        }
+        
+        return column;
     }
     
     /**
-     * Validates a string against a JSON schema.
-     * @param    String    file path to the JSON schema
-     * @param    String    string to validate
-     * @return             true when string is a valid JSON object
+     * Scans the table headers.
+     * @param    String    the table headers
+     * @return             true if the headers are valid
      */
-    private boolean validateSchema(String schemaPath, String input) {
+    private boolean scanTableHeaders(String headers) {
+        
+        this.scanner.load(headers);
+        this.scanner.skipWhitespace();
+        
+        if(!this.scanner.next("Index")) {
+            return false;
+        }
+        
+        this.scanner.skipWhitespace();
+        
+        if(!this.scanner.nextDelimiter()) {
+            return false;
+        }
+        
+        this.scanner.skipWhitespace();
+        
+        if(!this.scanner.next("Value")) {
+            return false;
+        }
+        
+        this.scanner.skipWhitespace();
+        
+        return this.scanner.atEnd();
+    }
+    
+    /**
+     * Scans a table row. The well indices are held in the scanned row and 
+     * column fields and the value is held by the scanner.
+     * @param    String    the row
+     * @return             true if the row is valid
+     */
+    private boolean scanTableRow(String row) {
+        
+        this.scanner.load(row);
+        this.scanner.skipWhitespace();
+        
+        this.scannedRow = this.scanner.nextRow();
+        this.scannedColumn = this.scanner.nextColumn();
+        
+        if(this.scannedRow < 0 || this.scannedColumn < 0) {
+            return false;
+        }
+        
+        this.scanner.skipWhitespace();
+        
+        if(!this.scanner.nextDelimiter()) {
+            return false;
+        }
+        
+        this.scanner.skipWhitespace();
+        
+        if(!this.scanner.nextNumber()) {
+            return false;
+        }
+        
+        this.scanner.skipWhitespace();
+        
+        return this.scanner.atEnd();
+    }
+    
+    /**
+     * Detects the source format from the first non whitespace character. JSON
+     * input begins with an opening brace and XML input begins with an opening
+     * angle bracket. All other input is treated as delimited plate maps and 
+     * tables. The reader is reset to the beginning of the input.
+     */
+    private void detectFormat() {
         
         try {
-        	
-        	ClassLoader classLoader = getClass().getClassLoader();
-        	File schemaFile = new File(classLoader.getResource(schemaPath).getFile());
-
-        	/* Convert the string to a JSON node */
-
-            JsonNode rootNode = JsonLoader.fromString(input);
-
-            /* Get the schema */
-
-            JsonNode schemaNode = JsonLoader.fromFile(schemaFile);
             
-            JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
-            JsonSchema schema = factory.getJsonSchema(schemaNode);
-
-            return schema.validInstance(rootNode);
+            this.mark(SNIFF_LIMIT);
             
-        } catch (Exception e) {
+            int next = this.read();
+            int count = 1;
+            
+            while(next != -1 && count < SNIFF_LIMIT && 
+                 (Character.isWhitespace(next) || next == '\uFEFF')) {
+                next = this.read();
+                count++;
+            }
+            
+            this.reset();
             
+            if(next == '{') {
+                this.format = FORMAT_JSON;
+            } else if(next == '<') {
+                this.format = FORMAT_XML;
+            } else {
+                this.format = FORMAT_TEXT;
+            }
+            
+        } catch(IOException e) {
+            e.printStackTrace();
+        }
+    }
+    
+    /**
+     * Parses JSON or XML input on first use. The input is read once from this
+     * reader. Delimited input is never parsed here.
+     */
+    private void load() {
+        
+        if(this.loaded) {
+            return;
+        }
+        
+        this.loaded = true;
+        
+        if(this.format == FORMAT_TEXT) {
+            return;
+        }
+        
+        try {
+            
+            String input = CharStreams.toString(this);
+            
+            if(this.format == FORMAT_JSON) {
+                this.validateJSON(input);
+            } else {
+                this.validateXML(input);
+            }
+            
+        } catch(Exception e) {
+            e.printStackTrace();
+        }
+    }
+    
+    /**
+     * Validates a JSON node against a JSON schema.
+     * @param    String      file path to the JSON schema
+     * @param    JsonNode    node to validate
+     * @return               true when node is a valid JSON object
+     */
+    private boolean validateSchema(String schemaPath, JsonNode rootNode) {
+        
+        try {
+        	
+            return CodecUtil.schema(schemaPath).validInstance(rootNode);
+            
+        } catch (Exception e) {
+            e.printStackTrace();
             return false;
             
         }
     }
     
     /**
-     * Sets the boolean values for JSON schema validation.
+     * Parses the JSON input. The input is parsed into a tree once, reading
+     * floating point numbers as exact big decimals, and the tree is validated
+     * against the schema matching the root field and bound without reparsing.
      * @param    String    string to validate
-     * @throws IOException 
-     * @throws JsonProcessingException 
+     * @throws   IOException 
      */
     private void validateJSON(String input) throws ProcessingException, IOException {
 
-    	if(this.validateSchema(this.JSON_RESULT_SCHEMA, input)) {
-    		ObjectMapper mapper = new ObjectMapper();
-    		this.resultsJSON = mapper.readValue(this, ResultListPOJOInteger.class);
+        JsonNode rootNode = CodecUtil.decimalMapper().readTree(input);
+        
+    	if(rootNode.has("results") && this.validateSchema(this.JSON_RESULT_SCHEMA, rootNode)) {
+    		this.resultsJSON = CodecUtil.reader(ResultListPOJOInteger.class).readValue(rootNode);
     		this.indexResultsJSON = 0;
     		return;
     	}
     	
-    	if(this.validateSchema(this.JSON_WELL_SCHEMA, input)) {
-    		ObjectMapper mapper = new ObjectMapper();
-    		this.wellsJSON = mapper.readValue(this, WellListPOJOInteger.class);
+    	if(rootNode.has("wells") && this.validateSchema(this.JSON_WELL_SCHEMA, rootNode)) {
+    		this.wellsJSON = CodecUtil.reader(WellListPOJOInteger.class).readValue(rootNode);
     		this.indexWellsJSON = 0;
     		return;
     	}
 
-    	if(this.validateSchema(this.JSON_WELLSET_SCHEMA, input)) {
-    		ObjectMapper mapper = new ObjectMapper();
-    		this.setsJSON = mapper.readValue(this, WellSetListPOJOInteger.class);
+    	if(rootNode.has("wellsets") && this.validateSchema(this.JSON_WELLSET_SCHEMA, rootNode)) {
+    		this.setsJSON = CodecUtil.reader(WellSetListPOJOInteger.class).readValue(rootNode);
     		this.indexSetsJSON = 0;
     		return;
     	}
 
-    	if(this.validateSchema(this.JSON_PLATE_SCHEMA, input)) {
-    		ObjectMapper mapper = new ObjectMapper();
-    		this.platesJSON = mapper.readValue(this, PlateListPOJOInteger.class);
+    	if(rootNode.has("plates") && this.validateSchema(this.JSON_PLATE_SCHEMA, rootNode)) {
+    		this.platesJSON = CodecUtil.reader(PlateListPOJOInteger.class).readValue(rootNode);
     		this.indexPlatesJSON = 0;
     		return;
     	}
 
-    	if(this.validateSchema(this.JSON_STACK_SCHEMA, input)) {
-    		ObjectMapper mapper = new ObjectMapper();
-    		this.stacksJSON = mapper.readValue(this, StackListPOJOInteger.class);
+    	if(rootNode.has("stacks") && this.validateSchema(this.JSON_STACK_SCHEMA, rootNode)) {
+    		this.stacksJSON = CodecUtil.reader(StackListPOJOInteger.class).readValue(rootNode);
     		this.indexStacksJSON = 0;
     		return;
     	}
     }
     
     /**
-     * Sets the boolean values for XML schema validation.
+     * Parses the XML input. Only the list type matching the root element is 
+     * unmarshalled.
      * @param    String    string to validate
      * @throws   JAXBException 
      */
     private void validateXML(String input) throws JAXBException {
         
-    	try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(ResultListXMLInteger.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            StringReader reader = new StringReader(input);
-            this.resultsXML = (ResultListXMLInteger) unmarshaller.unmarshal(reader);
-            this.indexResultsXML = 0;
-        } catch(Exception e) {}
-    	
-        try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(WellListXMLInteger.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            StringReader reader = new StringReader(input);
-            this.wellsXML = (WellListXMLInteger) unmarshaller.unmarshal(reader);
-            this.indexWellsXML = 0;
-        } catch(Exception e) {}
+        String root = this.xmlRoot(input);
         
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(WellSetListXMLInteger.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            StringReader reader = new StringReader(input);
-            this.setsXML = (WellSetListXMLInteger) unmarshaller.unmarshal(reader);
-            this.indexSetsXML = 0;
+            
+            if("results".equals(root)) {
+                this.resultsXML = (ResultListXMLInteger) this.unmarshal(ResultListXMLInteger.class, input);
+                this.indexResultsXML = 0;
+            } else if("wells".equals(root)) {
+                this.wellsXML = (WellListXMLInteger) this.unmarshal(WellListXMLInteger.class, input);
+                this.indexWellsXML = 0;
+            } else if("wellsets".equals(root)) {
+                this.setsXML = (WellSetListXMLInteger) this.unmarshal(WellSetListXMLInteger.class, input);
+                this.indexSetsXML = 0;
+            } else if("plates".equals(root)) {
+                this.platesXML = (PlateListXMLInteger) this.unmarshal(PlateListXMLInteger.class, input);
+                this.indexPlatesXML = 0;
+            } else if("stacks".equals(root)) {
+                this.stacksXML = (StackListXMLInteger) this.unmarshal(StackListXMLInteger.class, input);
+                this.indexStacksXML = 0;
+            }
+            
         } catch(Exception e) {}
+    }
+    
+    /**
+     * Unmarshals the XML input using a context for the list class.
+     * @param    Class<?>    the list class
+     * @param    String      the XML input
+     * @return               the unmarshalled list
+     * @throws   JAXBException 
+     */
+    private Object unmarshal(Class<?> type, String input) throws JAXBException {
+        return CodecUtil.unmarshaller(type).unmarshal(new StringReader(input));
+    }
+    
+    /**
+     * Returns the name of the root element of an XML document. Declarations,
+     * comments and processing instructions are skipped.
+     * @param    String    the XML input
+     * @return             the root element name or an empty string
+     */
+    private String xmlRoot(String input) {
         
-        try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(PlateListXMLInteger.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            StringReader reader = new StringReader(input);
-            this.platesXML = (PlateListXMLInteger) unmarshaller.unmarshal(reader);
-            this.indexPlatesXML = 0;
-        } catch(Exception e) {}
+        int index = input.indexOf('<');
         
-        try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(StackListXMLInteger.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            StringReader reader = new StringReader(input);
-            this.stacksXML = (StackListXMLInteger) unmarshaller.unmarshal(reader);
-            this.indexStacksXML = 0;
-        } catch(Exception e) {}
+        while(index >= 0 && index + 1 < input.length()) {
+            
+            char next = input.charAt(index + 1);
+            
+            if(next != '?' && next != '!') {
+                
+                int end = index + 1;
+                
+                while(end < input.length() && 
+                      !Character.isWhitespace(input.charAt(end)) && 
+                      input.charAt(end) != '>' && 
+                      input.charAt(end) != '/') {
+                    end++;
+                }
+                
+                return input.substring(index + 1, end);
+            }
+            
+            index = input.indexOf('<', index + 1);
+        }
+        
+        return "";
     }
     
     /**
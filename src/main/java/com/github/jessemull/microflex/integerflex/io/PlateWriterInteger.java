@@ -36,19 +36,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.TransformerException;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
 import com.github.jessemull.microflex.integerflex.plate.StackInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.github.jessemull.microflex.util.CodecUtil;
 
 /**
  * Formats and writes stacks, plates, well sets and wells to an output stream or 
@@ -1131,8 +1130,9 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   IOException
      */
     public void resultToJSON(Map<WellInteger, Integer> data) throws IOException {  
-          ObjectMapper mapper = new ObjectMapper();
-          mapper.writerWithDefaultPrettyPrinter().writeValue(this, new ResultListPOJOInteger(data));
+        JSONStreamWriterInteger stream = new JSONStreamWriterInteger(this);
+        stream.writeResult(data);
+        stream.close();
     }
     
     /**
@@ -1142,8 +1142,7 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String resultToJSONAsString(Map<WellInteger, Integer> data) throws JsonProcessingException {  
-          ObjectMapper mapper = new ObjectMapper();
-          return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new ResultListPOJOInteger(data));
+          return CodecUtil.writer().writeValueAsString(new ResultListPOJOInteger(data));
     }
      
     /**
@@ -1152,8 +1151,9 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   IOException
      */
     public void resultToJSON(List<Map<WellInteger, Integer>> data) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new ResultListPOJOInteger(data));
+        JSONStreamWriterInteger stream = new JSONStreamWriterInteger(this);
+        stream.writeResults(data);
+        stream.close();
     }
     
     /**
@@ -1163,8 +1163,7 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String resultToJSONAsString(List<Map<WellInteger, Integer>> data) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new ResultListPOJOInteger(data));
+        return CodecUtil.writer().writeValueAsString(new ResultListPOJOInteger(data));
     }
     
     /**
@@ -1174,8 +1173,9 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   IOException
      */
     public void resultToJSON(Map<WellInteger, Integer> data, String label) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new ResultListPOJOInteger(data, label));
+        JSONStreamWriterInteger stream = new JSONStreamWriterInteger(this);
+        stream.writeResult(data, label);
+        stream.close();
     }
     
     /**
@@ -1185,8 +1185,7 @@ public class PlateWriterInteger extends PrintWriter {
      * @return                                the JSON formatted result
      */
     public String resultToJSONAsString(Map<WellInteger, Integer> data, String label) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new ResultListPOJOInteger(data, label));
+    	return CodecUtil.writer().writeValueAsString(new ResultListPOJOInteger(data, label));
     }
     
     /**
@@ -1197,8 +1196,9 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   IOException
      */
     public void resultToJSON(List<Map<WellInteger, Integer>> data, List<String> labels) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new ResultListPOJOInteger(data, labels));
+        JSONStreamWriterInteger stream = new JSONStreamWriterInteger(this);
+        stream.writeResults(data, labels);
+        stream.close();
     }
     
     /**
@@ -1210,8 +1210,7 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String resultToJSONAsString(List<Map<WellInteger, Integer>> data, List<String> labels) throws JsonProcessingException {
-    	ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new ResultListPOJOInteger(data, labels));
+    	return CodecUtil.writer().writeValueAsString(new ResultListPOJOInteger(data, labels));
     }
     
     /*--------------------- Methods for Well JSON Output ---------------------*/
@@ -1222,8 +1221,9 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   IOException 
      */
     public void wellToJSON(WellInteger well) throws IOException {   	
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellListPOJOInteger(well));
+        JSONStreamWriterInteger stream = new JSONStreamWriterInteger(this);
+        stream.writeWell(well);
+        stream.close();
     }
     
     /**
@@ -1233,8 +1233,7 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws  JsonProcessingException 
      */
     public String wellToJSONAsString(WellInteger well) throws JsonProcessingException {   	
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellListPOJOInteger(well));
+        return CodecUtil.writer().writeValueAsString(new WellListPOJOInteger(well));
     }
     
     /**
@@ -1243,8 +1242,9 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   IOException 
      */
     public void wellToJSON(Collection<WellInteger> collection) throws IOException {     
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellListPOJOInteger(collection));
+        JSONStreamWriterInteger stream = new JSONStreamWriterInteger(this);
+        stream.writeWells(collection);
+        stream.close();
     }
     
     /**
@@ -1254,8 +1254,7 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String wellToJSONAsString(Collection<WellInteger> collection) throws JsonProcessingException {     
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellListPOJOInteger(collection));
+        return CodecUtil.writer().writeValueAsString(new WellListPOJOInteger(collection));
     }
     
     /**
@@ -1264,8 +1263,9 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   IOException 
      */
     public void wellToJSON(WellInteger[] array) throws   IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellListPOJOInteger(array));
+        JSONStreamWriterInteger stream = new JSONStreamWriterInteger(this);
+        stream.writeWells(array);
+        stream.close();
     }
     
     /**
@@ -1275,8 +1275,7 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String wellToJSONAsString(WellInteger[] array) throws   JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellListPOJOInteger(array));
+        return CodecUtil.writer().writeValueAsString(new WellListPOJOInteger(array));
     }
     
     /*------------------- Methods for Well Set JSON Output -------------------*/
@@ -1287,8 +1286,9 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   IOException 
      */
     public void setToJSON(WellSetInteger set) throws   IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellSetListPOJOInteger(set));
+        JSONStreamWriterInteger stream = new JSONStreamWriterInteger(this);
+        stream.writeSet(set);
+        stream.close();
     }
     
     /**
@@ -1298,8 +1298,7 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String setToJSONAsString(WellSetInteger set) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellSetListPOJOInteger(set));
+        return CodecUtil.writer().writeValueAsString(new WellSetListPOJOInteger(set));
     }
     
     /**
@@ -1308,8 +1307,9 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   IOException 
      */
     public void setToJSON(Collection<WellSetInteger> collection) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellSetListPOJOInteger(collection));
+        JSONStreamWriterInteger stream = new JSONStreamWriterInteger(this);
+        stream.writeSets(collection);
+        stream.close();
     }
     
     /**
@@ -1319,8 +1319,7 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */ 
     public String setToJSONAsString(Collection<WellSetInteger> collection) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellSetListPOJOInteger(collection));
+        return CodecUtil.writer().writeValueAsString(new WellSetListPOJOInteger(collection));
     }
     
     /**
@@ -1329,8 +1328,9 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   IOException 
      */
     public void setToJSON(WellSetInteger[] array) throws   IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new WellSetListPOJOInteger(array));
+        JSONStreamWriterInteger stream = new JSONStreamWriterInteger(this);
+        stream.writeSets(array);
+        stream.close();
     }
     
     /**
@@ -1340,8 +1340,7 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   JsonProcessingException  
      */
     public String setToJSONAsString(WellSetInteger[] array) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper(); 
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new WellSetListPOJOInteger(array));
+        return CodecUtil.writer().writeValueAsString(new WellSetListPOJOInteger(array));
     }
     
     /*-------------------- Methods for Plate JSON Output ---------------------*/
@@ -1352,8 +1351,9 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   IOException 
      */
     public void plateToJSON(PlateInteger plate) throws IOException {    
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new PlateListPOJOInteger(plate));
+        JSONStreamWriterInteger stream = new JSONStreamWriterInteger(this);
+        stream.writePlate(plate);
+        stream.close();
     }
     
     /**
@@ -1363,8 +1363,7 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String plateToJSONAsString(PlateInteger plate) throws JsonProcessingException {    
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new PlateListPOJOInteger(plate));
+        return CodecUtil.writer().writeValueAsString(new PlateListPOJOInteger(plate));
     } 
     
     /**
@@ -1373,8 +1372,9 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   IOException 
      */
     public void plateToJSON(Collection<PlateInteger> collection) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new PlateListPOJOInteger(collection));
+        JSONStreamWriterInteger stream = new JSONStreamWriterInteger(this);
+        stream.writePlates(collection);
+        stream.close();
     }
     
     /**
@@ -1384,8 +1384,7 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String plateToJSONAsString(Collection<PlateInteger> collection) throws JsonProcessingException {
-    	ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new PlateListPOJOInteger(collection));
+    	return CodecUtil.writer().writeValueAsString(new PlateListPOJOInteger(collection));
     }
      
     /**
@@ -1394,8 +1393,9 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws IOException 
      */
     public void plateToJSON(PlateInteger[] array) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new PlateListPOJOInteger(array));
+        JSONStreamWriterInteger stream = new JSONStreamWriterInteger(this);
+        stream.writePlates(array);
+        stream.close();
     }
     
     /**
@@ -1404,8 +1404,7 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String plateToJSONAsString(PlateInteger[] array) throws JsonProcessingException {
-    	ObjectMapper mapper = new ObjectMapper(); 
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new PlateListPOJOInteger(array));
+    	return CodecUtil.writer().writeValueAsString(new PlateListPOJOInteger(array));
     }
     
     /*-------------------- Methods for Stack JSON Output ---------------------*/
@@ -1416,8 +1415,9 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   IOException 
      */
     public void stackToJSON(StackInteger stack) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new StackListPOJOInteger(stack));
+        JSONStreamWriterInteger stream = new JSONStreamWriterInteger(this);
+        stream.writeStack(stack);
+        stream.close();
     }
     
     /**
@@ -1427,8 +1427,7 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String stackToJSONAsString(StackInteger stack) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new StackListPOJOInteger(stack));
+        return CodecUtil.writer().writeValueAsString(new StackListPOJOInteger(stack));
     }
     
     /**
@@ -1437,8 +1436,9 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   IOException 
      */
     public void stackToJSON(Collection<StackInteger> collection) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new StackListPOJOInteger(collection));
+        JSONStreamWriterInteger stream = new JSONStreamWriterInteger(this);
+        stream.writeStacks(collection);
+        stream.close();
     }
     
     /**
@@ -1448,8 +1448,7 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String stackToJSONAsString(Collection<StackInteger> collection) throws JsonProcessingException {
-    	ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new StackListPOJOInteger(collection));
+    	return CodecUtil.writer().writeValueAsString(new StackListPOJOInteger(collection));
     }
     
     /**
@@ -1458,8 +1457,9 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws IOException 
      */
     public void stackToJSON(StackInteger[] array) throws IOException {
-    	ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(this, new StackListPOJOInteger(array));
+        JSONStreamWriterInteger stream = new JSONStreamWriterInteger(this);
+        stream.writeStacks(array);
+        stream.close();
     }
     
     /**
@@ -1469,8 +1469,7 @@ public class PlateWriterInteger extends PrintWriter {
      * @throws   JsonProcessingException 
      */
     public String stackToJSONAsString(StackInteger[] array) throws JsonProcessingException {
-    	ObjectMapper mapper = new ObjectMapper();
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(new StackListPOJOInteger(array));
+    	return CodecUtil.writer().writeValueAsString(new StackListPOJOInteger(array));
     } 
     
     /*-------------------- Methods for Result XML Output --------------------*/
@@ -1484,8 +1483,9 @@ public class PlateWriterInteger extends PrintWriter {
      */
     public void resultToXML(Map<WellInteger, Integer> map) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	ResultListXMLInteger resultList = new ResultListXMLInteger(map);
-    	this.printXMLResult(resultList);
+        XMLStreamWriterInteger stream = new XMLStreamWriterInteger(this);
+        stream.writeResult(map);
+        stream.finish();
     }
     
     /**
@@ -1508,8 +1508,9 @@ public class PlateWriterInteger extends PrintWriter {
      */
     public void resultToXML(Map<WellInteger, Integer> map, String label) 
     		throws IOException, ParserConfigurationException, TransformerException {
-    	ResultListXMLInteger resultList = new ResultListXMLInteger(map, label);
-    	this.printXMLResult(resultList);
+        XMLStreamWriterInteger stream = new XMLStreamWriterInteger(this);
+        stream.writeResult(map, label);
+        stream.finish();
     }
     
     /**
@@ -1532,8 +1533,9 @@ public class PlateWriterInteger extends PrintWriter {
      */
     public void resultToXML(Collection<Map<WellInteger, Integer>> collection) 
     		throws IOException, TransformerException, ParserConfigurationException {
-    	ResultListXMLInteger resultList = new ResultListXMLInteger(collection);
-    	this.printXMLResult(resultList);
+        XMLStreamWriterInteger stream = new XMLStreamWriterInteger(this);
+        stream.writeResults(collection);
+        stream.finish();
     }
     
     /**
@@ -1556,8 +1558,9 @@ public class PlateWriterInteger extends PrintWriter {
      */
     public void resultToXML(Collection<Map<WellInteger, Integer>> collection, List<String> labels) 
     		throws IOException, TransformerException, ParserConfigurationException {
-    	ResultListXMLInteger resultList = new ResultListXMLInteger(collection, labels);
-    	this.printXMLResult(resultList);
+        XMLStreamWriterInteger stream = new XMLStreamWriterInteger(this);
+        stream.writeResults(collection, labels);
+        stream.finish();
     }
     
     /**
@@ -1580,9 +1583,7 @@ public class PlateWriterInteger extends PrintWriter {
     	
     	try {
 
-    		JAXBContext context = JAXBContext.newInstance(ResultListXMLInteger.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(ResultListXMLInteger.class);
 
 			marshaller.marshal(resultList, this);
 			
@@ -1602,9 +1603,7 @@ public class PlateWriterInteger extends PrintWriter {
     	try {
 
     		StringWriter writer = new StringWriter();
-    		JAXBContext context = JAXBContext.newInstance(ResultListXMLInteger.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(ResultListXMLInteger.class);
 
 			marshaller.marshal(resultList, writer);
 			
@@ -1628,8 +1627,9 @@ public class PlateWriterInteger extends PrintWriter {
      */
     public void wellToXML(WellInteger well) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	WellListXMLInteger wellList = new WellListXMLInteger(well);
-    	this.printXMLWell(wellList);
+        XMLStreamWriterInteger stream = new XMLStreamWriterInteger(this);
+        stream.writeWell(well);
+        stream.finish();
     }
     
     /**
@@ -1651,8 +1651,9 @@ public class PlateWriterInteger extends PrintWriter {
      */
     public void wellToXML(Collection<WellInteger> collection) throws IOException, 
     		TransformerException, ParserConfigurationException {
-    	WellListXMLInteger wellList = new WellListXMLInteger(collection);
-    	this.printXMLWell(wellList);
+        XMLStreamWriterInteger stream = new XMLStreamWriterInteger(this);
+        stream.writeWells(collection);
+        stream.finish();
     }
     
     /**
@@ -1675,8 +1676,9 @@ public class PlateWriterInteger extends PrintWriter {
      */
     public void wellToXML(WellInteger[] array) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	WellListXMLInteger wellList = new WellListXMLInteger(array);
-    	this.printXMLWell(wellList);
+        XMLStreamWriterInteger stream = new XMLStreamWriterInteger(this);
+        stream.writeWells(array);
+        stream.finish();
     }
     
     /**
@@ -1699,9 +1701,7 @@ public class PlateWriterInteger extends PrintWriter {
         
     	try {
 
-    		JAXBContext context = JAXBContext.newInstance(WellListXMLInteger.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(WellListXMLInteger.class);
 
 			marshaller.marshal(wellList, this);
 			
@@ -1721,9 +1721,7 @@ public class PlateWriterInteger extends PrintWriter {
     	try {
 
     		StringWriter writer = new StringWriter();
-    		JAXBContext context = JAXBContext.newInstance(WellListXMLInteger.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(WellListXMLInteger.class);
 
 			marshaller.marshal(wellList, writer);
 			
@@ -1748,8 +1746,9 @@ public class PlateWriterInteger extends PrintWriter {
     public void setToXML(WellSetInteger set) throws IOException, 
                                                     ParserConfigurationException, 
                                                     TransformerException {
-    	WellSetListXMLInteger setList = new WellSetListXMLInteger(set);
-    	this.printXMLSet(setList);
+        XMLStreamWriterInteger stream = new XMLStreamWriterInteger(this);
+        stream.writeSet(set);
+        stream.finish();
     }
     
     /**
@@ -1772,8 +1771,9 @@ public class PlateWriterInteger extends PrintWriter {
     public void setToXML(Collection<WellSetInteger> collection) throws IOException, 
                                                                        TransformerException, 
                                                                        ParserConfigurationException {
-    	WellSetListXMLInteger setList = new WellSetListXMLInteger(collection);
-    	this.printXMLSet(setList);
+        XMLStreamWriterInteger stream = new XMLStreamWriterInteger(this);
+        stream.writeSets(collection);
+        stream.finish();
     }
     
     /**
@@ -1796,8 +1796,9 @@ public class PlateWriterInteger extends PrintWriter {
     public void setToXML(WellSetInteger[] array) throws IOException, 
                                                         ParserConfigurationException, 
                                                         TransformerException {
-    	WellSetListXMLInteger setList = new WellSetListXMLInteger(array);
-    	this.printXMLSet(setList);
+        XMLStreamWriterInteger stream = new XMLStreamWriterInteger(this);
+        stream.writeSets(array);
+        stream.finish();
     }
     
     /**
@@ -1819,9 +1820,7 @@ public class PlateWriterInteger extends PrintWriter {
         
     	try {
 
-    		JAXBContext context = JAXBContext.newInstance(WellSetListXMLInteger.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(WellSetListXMLInteger.class);
 
 			marshaller.marshal(setList, this);
 			
@@ -1841,9 +1840,7 @@ public class PlateWriterInteger extends PrintWriter {
     	try {
 
     		StringWriter writer = new StringWriter();
-    		JAXBContext context = JAXBContext.newInstance(WellSetListXMLInteger.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(WellSetListXMLInteger.class);
 
 			marshaller.marshal(setList, writer);
 			
@@ -1867,8 +1864,9 @@ public class PlateWriterInteger extends PrintWriter {
      */
     public void plateToXML(PlateInteger plate) throws IOException, 
     		TransformerException, ParserConfigurationException {
-    	PlateListXMLInteger plateList = new PlateListXMLInteger(plate);
-    	this.printXMLPlate(plateList);
+        XMLStreamWriterInteger stream = new XMLStreamWriterInteger(this);
+        stream.writePlate(plate);
+        stream.finish();
     }
     
     /**
@@ -1890,8 +1888,9 @@ public class PlateWriterInteger extends PrintWriter {
      */
     public void plateToXML(Collection<PlateInteger> collection) throws IOException, 
     		TransformerException, ParserConfigurationException {
-    	PlateListXMLInteger plateList = new PlateListXMLInteger(collection);
-    	this.printXMLPlate(plateList);
+        XMLStreamWriterInteger stream = new XMLStreamWriterInteger(this);
+        stream.writePlates(collection);
+        stream.finish();
     }
     
     /**
@@ -1913,8 +1912,9 @@ public class PlateWriterInteger extends PrintWriter {
      */
     public void plateToXML(PlateInteger[] array) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	PlateListXMLInteger plateList = new PlateListXMLInteger(array);
-    	this.printXMLPlate(plateList);
+        XMLStreamWriterInteger stream = new XMLStreamWriterInteger(this);
+        stream.writePlates(array);
+        stream.finish();
     }
     
     /**
@@ -1936,9 +1936,7 @@ public class PlateWriterInteger extends PrintWriter {
     	
     	try {
 
-    		JAXBContext context = JAXBContext.newInstance(PlateListXMLInteger.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(PlateListXMLInteger.class);
 
 			marshaller.marshal(plateList, this);
 			
@@ -1958,9 +1956,7 @@ public class PlateWriterInteger extends PrintWriter {
     	try {
 
     		StringWriter writer = new StringWriter();
-    		JAXBContext context = JAXBContext.newInstance(PlateListXMLInteger.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(PlateListXMLInteger.class);
 
 			marshaller.marshal(plateList, writer);
 			
@@ -1984,8 +1980,9 @@ public class PlateWriterInteger extends PrintWriter {
      */
     public void stackToXML(StackInteger stack) throws IOException, 
     		TransformerException, ParserConfigurationException {
-    	StackListXMLInteger stackList = new StackListXMLInteger(stack);
-    	this.printXMLStack(stackList);
+        XMLStreamWriterInteger stream = new XMLStreamWriterInteger(this);
+        stream.writeStack(stack);
+        stream.finish();
     }
     
     /**
@@ -2007,8 +2004,9 @@ public class PlateWriterInteger extends PrintWriter {
      */
     public void stackToXML(Collection<StackInteger> collection) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	StackListXMLInteger stackList = new StackListXMLInteger(collection);
-    	this.printXMLStack(stackList);
+        XMLStreamWriterInteger stream = new XMLStreamWriterInteger(this);
+        stream.writeStacks(collection);
+        stream.finish();
     }
     
     /**
@@ -2030,8 +2028,9 @@ public class PlateWriterInteger extends PrintWriter {
      */
     public void stackToXML(StackInteger[] array) throws IOException, 
     		ParserConfigurationException, TransformerException {
-    	StackListXMLInteger stackList = new StackListXMLInteger(array);
-    	this.printXMLStack(stackList);
+        XMLStreamWriterInteger stream = new XMLStreamWriterInteger(this);
+        stream.writeStacks(array);
+        stream.finish();
     }
     
     /**
@@ -2055,9 +2054,7 @@ public class PlateWriterInteger extends PrintWriter {
     	
     	try {
 
-    		JAXBContext context = JAXBContext.newInstance(StackListXMLInteger.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(StackListXMLInteger.class);
 
 			marshaller.marshal(stackList, this);
 			
@@ -2077,9 +2074,7 @@ public class PlateWriterInteger extends PrintWriter {
     	try {
 
     		StringWriter writer = new StringWriter();
-    		JAXBContext context = JAXBContext.newInstance(StackListXMLInteger.class);
-    		Marshaller marshaller = context.createMarshaller();
-    		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    		Marshaller marshaller = CodecUtil.marshaller(StackListXMLInteger.class);
 
 			marshaller.marshal(stackList, writer);
 			
@@ -0,0 +1,771 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/*--------------------------- Package Declaration ----------------------------*/
+
+package com.github.jessemull.microflex.integerflex.io;
+
+/*------------------------------- Dependencies -------------------------------*/
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.bind.DatatypeConverter;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+
+import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.StackInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.github.jessemull.microflex.util.CodecUtil;
+
+/**
+ * Writes XML encoded results, wells, well sets, plates and stacks one element at
+ * a time using a StAX stream writer. The plate writer converts the elements to a
+ * tree of JAXB objects before the first character is written. The stream writer
+ * writes each element directly to the target as it is passed to a write method,
+ * so no copy of the data is held in memory.
+ *
+ * <br><br>
+ *
+ * The output is identical to the formatted output of the plate writer and can be
+ * read by the plate reader. The first element written opens the root element and
+ * determines the root element name. All following elements must be of the same
+ * type, otherwise an illegal state exception is thrown. The document is completed
+ * by calling finish or close. Finish flushes the completed document and leaves
+ * the target open. Close also closes the target.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class XMLStreamWriterInteger implements Closeable, Flushable {
+
+    /*---------------------------- Private Fields ----------------------------*/
+
+    /* Root and element names */
+
+    private static final String RESULTS = "results";
+    private static final String WELLS = "wells";
+    private static final String WELLSETS = "wellsets";
+    private static final String PLATES = "plates";
+    private static final String STACKS = "stacks";
+
+    private static final String RESULT = "result";
+    private static final String WELL = "well";
+    private static final String WELLSET = "wellset";
+    private static final String PLATE = "plate";
+    private static final String STACK = "stack";
+
+    /* Default result label */
+
+    private static final String RESULT_LABEL = "Result";
+
+    /* XML declaration and indentation used by the JAXB formatted output */
+
+    private static final String DECLARATION =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+    private static final String INDENT = "    ";
+
+    private Writer target;          // The target
+    private XMLStreamWriter xml;    // The stream writer
+    private String root;            // Root element name
+    private boolean finished;       // The document is complete
+    private int depth;              // Depth of the current element
+    private int count;              // Number of elements written
+
+    /*----------------------------- Constructors -----------------------------*/
+
+    /**
+     * Creates a stream writer for the writer target.
+     * @param    Writer    the target
+     * @throws   IOException
+     */
+    public XMLStreamWriterInteger(Writer target) throws IOException {
+
+        Preconditions.checkNotNull(target, "The target cannot be null.");
+
+        try {
+            this.target = target;
+            this.xml = CodecUtil.xmlOutputFactory().createXMLStreamWriter(target);
+        } catch(XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Creates a stream writer for the output stream target. The output is UTF-8
+     * encoded.
+     * @param    OutputStream    the target
+     * @throws   IOException
+     */
+    public XMLStreamWriterInteger(OutputStream target) throws IOException {
+        this(new BufferedWriter(new OutputStreamWriter(target, Charsets.UTF_8)));
+    }
+
+    /**
+     * Creates a stream writer for the file.
+     * @param    File    the file
+     * @throws   IOException
+     */
+    public XMLStreamWriterInteger(File target) throws IOException {
+        this(new FileOutputStream(target));
+    }
+
+    /**
+     * Creates a stream writer for the file.
+     * @param    String    the file name
+     * @throws   IOException
+     */
+    public XMLStreamWriterInteger(String fileName) throws IOException {
+        this(new File(fileName));
+    }
+
+    /*---------------------------- Stream Methods ----------------------------*/
+
+    /**
+     * Returns the root element name or null if no element has been written.
+     * @return    the root element name
+     */
+    public String root() {
+        return this.root;
+    }
+
+    /**
+     * Returns the number of elements written.
+     * @return    the number of elements written
+     */
+    public int count() {
+        return this.count;
+    }
+
+    /**
+     * Completes the document and flushes the target. The target remains open.
+     * Calling finish on a completed document has no effect.
+     * @throws    IOException
+     */
+    public void finish() throws IOException {
+
+        try {
+
+            if(this.root != null && !this.finished) {
+
+                if(this.depth == 0) {
+                    this.emptyElement(this.root);
+                } else {
+                    this.endElement();
+                }
+
+                this.xml.writeCharacters("\n");
+                this.xml.writeEndDocument();
+            }
+
+            this.finished = true;
+            this.flush();
+
+        } catch(XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Flushes the stream writer and the target.
+     * @throws    IOException
+     */
+    public void flush() throws IOException {
+
+        try {
+            this.xml.flush();
+            this.target.flush();
+        } catch(XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Completes the document and closes the stream writer and the target.
+     * @throws    IOException
+     */
+    public void close() throws IOException {
+
+        this.finish();
+
+        try {
+            this.xml.close();
+            this.target.close();
+        } catch(XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /*--------------------- Methods for XML Result Output --------------------*/
+
+    /**
+     * Writes the well value pairs using the default result label.
+     * @param    Map<WellInteger, Integer>    the result
+     * @throws   IOException
+     */
+    public void writeResult(Map<WellInteger, Integer> result) throws IOException {
+        this.writeResult(result, RESULT_LABEL);
+    }
+
+    /**
+     * Writes the well value pairs. The pairs are written in map order.
+     * @param    Map<WellInteger, Integer>    the result
+     * @param    String                     the result label
+     * @throws   IOException
+     */
+    public void writeResult(Map<WellInteger, Integer> result, String label) throws IOException {
+
+        Preconditions.checkNotNull(result, "The result cannot be null.");
+
+        try {
+
+            this.start(RESULTS);
+
+            this.startElement(RESULT);
+            this.element("type", "Integer");
+            this.element("label", label);
+            this.element("size", Integer.toString(result.size()));
+
+            if(result.isEmpty()) {
+                this.emptyElement(WELLS);
+            } else {
+
+                this.startElement(WELLS);
+
+                for(Map.Entry<WellInteger, Integer> entry : result.entrySet()) {
+                    this.startElement(WELL);
+                    this.element("index", entry.getKey().index());
+                    this.element("value", DatatypeConverter.printInt(entry.getValue()));
+                    this.endElement();
+                }
+
+                this.endElement();
+            }
+
+            this.endElement();
+
+            this.count++;
+
+        } catch(XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Writes each result. The results are labeled Result1, Result2 and so on.
+     * @param    Collection<Map<WellInteger, Integer>>    the results
+     * @throws   IOException
+     */
+    public void writeResults(Collection<Map<WellInteger, Integer>> results) throws IOException {
+
+        Preconditions.checkNotNull(results, "The result collection cannot be null.");
+
+        this.begin(RESULTS);
+
+        int index = 1;
+
+        for(Map<WellInteger, Integer> result : results) {
+            this.writeResult(result, RESULT_LABEL + index++);
+        }
+    }
+
+    /**
+     * Writes each result using the label at the same index.
+     * @param    Collection<Map<WellInteger, Integer>>    the results
+     * @param    List<String>                           the result labels
+     * @throws   IOException
+     */
+    public void writeResults(Collection<Map<WellInteger, Integer>> results,
+            List<String> labels) throws IOException {
+
+        Preconditions.checkNotNull(results, "The result collection cannot be null.");
+        Preconditions.checkNotNull(labels, "The label list cannot be null.");
+
+        this.begin(RESULTS);
+
+        int index = 0;
+
+        for(Map<WellInteger, Integer> result : results) {
+            this.writeResult(result, labels.get(index++));
+        }
+    }
+
+    /*---------------------- Methods for XML Well Output ---------------------*/
+
+    /**
+     * Writes the well.
+     * @param    WellInteger    the well
+     * @throws   IOException
+     */
+    public void writeWell(WellInteger well) throws IOException {
+
+        Preconditions.checkNotNull(well, "The well cannot be null.");
+
+        try {
+
+            this.start(WELLS);
+
+            this.startElement(WELL);
+            this.element("type", well.typeString());
+            this.element("index", well.index());
+            this.element("size", Integer.toString(well.size()));
+            this.writeValues(well);
+            this.endElement();
+
+            this.count++;
+
+        } catch(XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Writes each well in the collection.
+     * @param    Collection<WellInteger>    the wells
+     * @throws   IOException
+     */
+    public void writeWells(Collection<WellInteger> wells) throws IOException {
+
+        Preconditions.checkNotNull(wells, "The well collection cannot be null.");
+
+        this.begin(WELLS);
+
+        for(WellInteger well : wells) {
+            this.writeWell(well);
+        }
+    }
+
+    /**
+     * Writes each well in the array.
+     * @param    WellInteger[]    the wells
+     * @throws   IOException
+     */
+    public void writeWells(WellInteger[] wells) throws IOException {
+        Preconditions.checkNotNull(wells, "The well array cannot be null.");
+        this.writeWells(Arrays.asList(wells));
+    }
+
+    /*----------------------- Methods for XML Set Output ---------------------*/
+
+    /**
+     * Writes the well set.
+     * @param    WellSetInteger    the well set
+     * @throws   IOException
+     */
+    public void writeSet(WellSetInteger set) throws IOException {
+
+        Preconditions.checkNotNull(set, "The well set cannot be null.");
+
+        try {
+
+            this.start(WELLSETS);
+
+            this.startElement(WELLSET);
+            this.element("type", "Integer");
+            this.element("label", set.label());
+            this.element("size", Integer.toString(set.size()));
+
+            if(set.size() == 0) {
+                this.emptyElement(WELLS);
+            } else {
+
+                this.startElement(WELLS);
+
+                for(WellInteger well : set) {
+                    this.writeSimpleWell(well);
+                }
+
+                this.endElement();
+            }
+
+            this.endElement();
+
+            this.count++;
+
+        } catch(XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Writes each well set in the collection.
+     * @param    Collection<WellSetInteger>    the well sets
+     * @throws   IOException
+     */
+    public void writeSets(Collection<WellSetInteger> sets) throws IOException {
+
+        Preconditions.checkNotNull(sets, "The well set collection cannot be null.");
+
+        this.begin(WELLSETS);
+
+        for(WellSetInteger set : sets) {
+            this.writeSet(set);
+        }
+    }
+
+    /**
+     * Writes each well set in the array.
+     * @param    WellSetInteger[]    the well sets
+     * @throws   IOException
+     */
+    public void writeSets(WellSetInteger[] sets) throws IOException {
+        Preconditions.checkNotNull(sets, "The well set array cannot be null.");
+        this.writeSets(Arrays.asList(sets));
+    }
+
+    /*---------------------- Methods for XML Plate Output --------------------*/
+
+    /**
+     * Writes the plate.
+     * @param    PlateInteger    the plate
+     * @throws   IOException
+     */
+    public void writePlate(PlateInteger plate) throws IOException {
+
+        Preconditions.checkNotNull(plate, "The plate cannot be null.");
+
+        try {
+            this.start(PLATES);
+            this.writePlateElement(plate);
+            this.count++;
+        } catch(XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Writes each plate in the collection.
+     * @param    Collection<PlateInteger>    the plates
+     * @throws   IOException
+     */
+    public void writePlates(Collection<PlateInteger> plates) throws IOException {
+
+        Preconditions.checkNotNull(plates, "The plate collection cannot be null.");
+
+        this.begin(PLATES);
+
+        for(PlateInteger plate : plates) {
+            this.writePlate(plate);
+        }
+    }
+
+    /**
+     * Writes each plate in the array.
+     * @param    PlateInteger[]    the plates
+     * @throws   IOException
+     */
+    public void writePlates(PlateInteger[] plates) throws IOException {
+        Preconditions.checkNotNull(plates, "The plate array cannot be null.");
+        this.writePlates(Arrays.asList(plates));
+    }
+
+    /*---------------------- Methods for XML Stack Output --------------------*/
+
+    /**
+     * Writes the stack. Each plate is written as it is reached by the stack
+     * iterator.
+     * @param    StackInteger    the stack
+     * @throws   IOException
+     */
+    public void writeStack(StackInteger stack) throws IOException {
+
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+
+        try {
+
+            this.start(STACKS);
+
+            this.startElement(STACK);
+            this.element("type", "Integer");
+            this.element("label", stack.label());
+            this.element("rows", Integer.toString(stack.rows()));
+            this.element("columns", Integer.toString(stack.columns()));
+            this.element("size", Integer.toString(stack.size()));
+
+            if(stack.size() == 0) {
+                this.emptyElement(PLATES);
+            } else {
+
+                this.startElement(PLATES);
+
+                for(PlateInteger plate : stack) {
+                    this.writePlateElement(plate);
+                }
+
+                this.endElement();
+            }
+
+            this.endElement();
+
+            this.count++;
+
+        } catch(XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Writes each stack in the collection.
+     * @param    Collection<StackInteger>    the stacks
+     * @throws   IOException
+     */
+    public void writeStacks(Collection<StackInteger> stacks) throws IOException {
+
+        Preconditions.checkNotNull(stacks, "The stack collection cannot be null.");
+
+        this.begin(STACKS);
+
+        for(StackInteger stack : stacks) {
+            this.writeStack(stack);
+        }
+    }
+
+    /**
+     * Writes each stack in the array.
+     * @param    StackInteger[]    the stacks
+     * @throws   IOException
+     */
+    public void writeStacks(StackInteger[] stacks) throws IOException {
+        Preconditions.checkNotNull(stacks, "The stack array cannot be null.");
+        this.writeStacks(Arrays.asList(stacks));
+    }
+
+    /*---------------------------- Private Methods ---------------------------*/
+
+    /**
+     * Writes the XML declaration on the first call and opens the root element
+     * if it is not open. Later calls check that the element type matches the
+     * root element.
+     * @param    String    the root element name
+     * @throws   XMLStreamException
+     * @throws   IOException
+     */
+    private void start(String name) throws XMLStreamException, IOException {
+
+        this.begin(name);
+
+        if(this.depth == 0) {
+            this.startElement(this.root);
+        }
+    }
+
+    /**
+     * Writes the XML declaration on the first call without opening the root
+     * element, so that a document without elements is written as an empty root
+     * element. Later calls check that the element type matches the root element.
+     * @param    String    the root element name
+     * @throws   IOException
+     */
+    private void begin(String name) throws IOException {
+
+        if(this.finished) {
+            throw new IllegalStateException("The XML document is complete.");
+        }
+
+        if(this.root == null) {
+            this.target.write(DECLARATION);
+            this.root = name;
+            return;
+        }
+
+        if(!this.root.equals(name)) {
+            throw new IllegalStateException("Cannot write " + name +
+                    " to a document holding " + this.root + ".");
+        }
+    }
+
+    /**
+     * Writes a plate element, including the well sets and wells.
+     * @param    PlateInteger    the plate
+     * @throws   XMLStreamException
+     */
+    private void writePlateElement(PlateInteger plate) throws XMLStreamException {
+
+        this.startElement(PLATE);
+        this.element("type", "Integer");
+        this.element("label", plate.label());
+        this.element("descriptor", plate.descriptor());
+        this.element("rows", Integer.toString(plate.rows()));
+        this.element("columns", Integer.toString(plate.columns()));
+        this.element("size", Integer.toString(plate.size()));
+
+        Set<WellSetInteger> groups = plate.allGroups();
+
+        if(groups.isEmpty()) {
+            this.emptyElement(WELLSETS);
+        } else {
+
+            this.startElement(WELLSETS);
+
+            for(WellSetInteger set : groups) {
+
+                this.startElement(WELLSET);
+                this.element("label", set.label());
+                this.element("size", Integer.toString(set.size()));
+
+                if(set.size() == 0) {
+                    this.emptyElement(WELLS);
+                } else {
+
+                    this.startElement(WELLS);
+
+                    for(WellInteger well : set) {
+                        this.element(WELL, well.index());
+                    }
+
+                    this.endElement();
+                }
+
+                this.endElement();
+            }
+
+            this.endElement();
+        }
+
+        if(plate.size() == 0) {
+            this.emptyElement(WELLS);
+        } else {
+
+            this.startElement(WELLS);
+
+            for(WellInteger well : plate) {
+                this.writeSimpleWell(well);
+            }
+
+            this.endElement();
+        }
+
+        this.endElement();
+    }
+
+    /**
+     * Writes the index and values of a well.
+     * @param    WellInteger    the well
+     * @throws   XMLStreamException
+     */
+    private void writeSimpleWell(WellInteger well) throws XMLStreamException {
+        this.startElement(WELL);
+        this.element("index", well.index());
+        this.writeValues(well);
+        this.endElement();
+    }
+
+    /**
+     * Writes the values element of a well.
+     * @param    WellInteger    the well
+     * @throws   XMLStreamException
+     */
+    private void writeValues(WellInteger well) throws XMLStreamException {
+
+        if(well.size() == 0) {
+            this.emptyElement("values");
+            return;
+        }
+
+        this.startElement("values");
+
+        for(Integer value : well.data()) {
+            this.element("value", DatatypeConverter.printInt(value));
+        }
+
+        this.endElement();
+    }
+
+    /**
+     * Opens an element holding child elements.
+     * @param    String    the element name
+     * @throws   XMLStreamException
+     */
+    private void startElement(String name) throws XMLStreamException {
+        this.newline();
+        this.xml.writeStartElement(name);
+        this.depth++;
+    }
+
+    /**
+     * Closes an element holding child elements.
+     * @throws   XMLStreamException
+     */
+    private void endElement() throws XMLStreamException {
+        this.depth--;
+        this.newline();
+        this.xml.writeEndElement();
+    }
+
+    /**
+     * Writes an element holding text. Null values are omitted.
+     * @param    String    the element name
+     * @param    String    the text
+     * @throws   XMLStreamException
+     */
+    private void element(String name, String text) throws XMLStreamException {
+
+        if(text == null) {
+            return;
+        }
+
+        this.newline();
+        this.xml.writeStartElement(name);
+        this.xml.writeCharacters(text);
+        this.xml.writeEndElement();
+    }
+
+    /**
+     * Writes an empty element.
+     * @param    String    the element name
+     * @throws   XMLStreamException
+     */
+    private void emptyElement(String name) throws XMLStreamException {
+        this.newline();
+        this.xml.writeEmptyElement(name);
+    }
+
+    /**
+     * Starts a new line indented to the current depth.
+     * @throws   XMLStreamException
+     */
+    private void newline() throws XMLStreamException {
+
+        this.xml.writeCharacters("\n");
+
+        for(int i = 0; i < this.depth; i++) {
+            this.xml.writeCharacters(INDENT);
+        }
+    }
+
+}
@@ -25,6 +25,7 @@ package com.github.jessemull.microflex.integerflex.math;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * This class performs decrement operations with a single argument for integer 
@@ -70,4 +71,18 @@ public class DecrementInteger extends MathOperationIntegerUnary {
         return result;
     }
     
+    /**
+     * Decrements the values in the list and writes the result to the list.
+     * @param    List<Integer>    the list
+     * @override
+     */
+    public void calculateInPlace(List<Integer> list) {
+        
+        ListIterator<Integer> iter = list.listIterator();
+        
+        while(iter.hasNext()) {
+            iter.set(iter.next() - 1);
+        }
+    }
+    
 }
@@ -0,0 +1,564 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.integerflex.math;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.base.Preconditions;
+
+import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.StackInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+
+/**
+ * This class records a chain of mathematical operations and evaluates the chain
+ * for integer plate stacks, plates and well sets in a single pass over the wells.
+ * Chaining the plate methods of the math operations creates a new plate, well set
+ * and well for each operation. An expression applies every operation to a well
+ * before moving to the next well, so only the final result is created:
+ *
+ * <pre>
+ * ExpressionInteger percent = new ExpressionInteger()
+ *         .subtract(background)
+ *         .divide(control)
+ *         .multiply(100);
+ *
+ * StackInteger result = percent.stacks(stack);
+ * </pre>
+ *
+ * Operations take a well set, a plate or a constant as the second argument. The
+ * wells of a well set or plate argument are matched to the input wells using the
+ * row and column and are indexed when the operation is added to the expression.
+ * An expression can be evaluated any number of times and a plate or well set
+ * argument is applied to each plate in a stack. A plate argument must have the
+ * same dimensions as each plate the expression is evaluated for.
+ *
+ * <br><br>
+ *
+ * Expressions follow the standard and strict semantics of the math operations.
+ * Standard functions treat missing data points as zeroes, pass input wells
+ * missing from a well set or plate argument through unchanged and add the wells
+ * found only in the argument to the result. Strict functions omit missing data
+ * points and omit the wells missing from a well set or plate argument. The result
+ * is identical to evaluating the operations one at a time using the sets, plates
+ * or stacks methods, except that the result keeps the label of the input.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class ExpressionInteger {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    /* Operations used by the convenience methods */
+
+    private static final MathOperationIntegerBinary ADDITION = new AdditionInteger();
+    private static final MathOperationIntegerBinary SUBTRACTION = new SubtractionInteger();
+    private static final MathOperationIntegerBinary MULTIPLICATION = new MultiplicationInteger();
+    private static final MathOperationIntegerBinary DIVISION = new DivisionInteger();
+
+    private List<Step> steps = new ArrayList<Step>();    // The operations in order
+
+    /* ---------------------------- Constructors ---------------------------- */
+
+    /**
+     * Creates an empty expression.
+     */
+    public ExpressionInteger() {}
+
+    /* -------------------------- Operation Methods ------------------------- */
+
+    /**
+     * Adds a binary operation using the wells of the well set.
+     * @param    MathOperationIntegerBinary    the operation
+     * @param    WellSetInteger                the well set
+     * @return                                 this expression
+     */
+    public ExpressionInteger apply(MathOperationIntegerBinary operation, WellSetInteger set) {
+
+        Preconditions.checkNotNull(set, "The well set cannot be null.");
+
+        this.steps.add(this.step(operation, set));
+
+        return this;
+    }
+
+    /**
+     * Adds a binary operation using the wells of the plate. The well groups of
+     * the plate are added to the plate results.
+     * @param    MathOperationIntegerBinary    the operation
+     * @param    PlateInteger                  the plate
+     * @return                                 this expression
+     */
+    public ExpressionInteger apply(MathOperationIntegerBinary operation, PlateInteger plate) {
+
+        Preconditions.checkNotNull(plate, "The plate cannot be null.");
+
+        Step step = this.step(operation, plate);
+        step.plate = plate;
+
+        this.steps.add(step);
+
+        return this;
+    }
+
+    /**
+     * Adds a binary operation using the constant.
+     * @param    MathOperationIntegerBinary    the operation
+     * @param    int                           the constant
+     * @return                                 this expression
+     */
+    public ExpressionInteger apply(MathOperationIntegerBinary operation, int constant) {
+
+        Preconditions.checkNotNull(operation, "The operation cannot be null.");
+
+        Step step = new Step();
+        step.binary = operation;
+        step.constant = constant;
+
+        this.steps.add(step);
+
+        return this;
+    }
+
+    /**
+     * Adds a unary operation.
+     * @param    MathOperationIntegerUnary    the operation
+     * @return                                this expression
+     */
+    public ExpressionInteger apply(MathOperationIntegerUnary operation) {
+
+        Preconditions.checkNotNull(operation, "The operation cannot be null.");
+
+        Step step = new Step();
+        step.unary = operation;
+
+        this.steps.add(step);
+
+        return this;
+    }
+
+    /**
+     * Adds a shift operation.
+     * @param    MathOperationIntegerShift    the operation
+     * @param    int                          the number of bits to shift
+     * @return                                this expression
+     */
+    public ExpressionInteger apply(MathOperationIntegerShift operation, int n) {
+
+        Preconditions.checkNotNull(operation, "The operation cannot be null.");
+
+        Step step = new Step();
+        step.shift = operation;
+        step.n = n;
+
+        this.steps.add(step);
+
+        return this;
+    }
+
+    /**
+     * Adds the wells of the well set.
+     * @param    WellSetInteger    the well set
+     * @return                     this expression
+     */
+    public ExpressionInteger add(WellSetInteger set) {
+        return this.apply(ADDITION, set);
+    }
+
+    /**
+     * Adds the wells of the plate.
+     * @param    PlateInteger    the plate
+     * @return                   this expression
+     */
+    public ExpressionInteger add(PlateInteger plate) {
+        return this.apply(ADDITION, plate);
+    }
+
+    /**
+     * Adds the constant.
+     * @param    int    the constant
+     * @return          this expression
+     */
+    public ExpressionInteger add(int constant) {
+        return this.apply(ADDITION, constant);
+    }
+
+    /**
+     * Subtracts the wells of the well set.
+     * @param    WellSetInteger    the well set
+     * @return                     this expression
+     */
+    public ExpressionInteger subtract(WellSetInteger set) {
+        return this.apply(SUBTRACTION, set);
+    }
+
+    /**
+     * Subtracts the wells of the plate.
+     * @param    PlateInteger    the plate
+     * @return                   this expression
+     */
+    public ExpressionInteger subtract(PlateInteger plate) {
+        return this.apply(SUBTRACTION, plate);
+    }
+
+    /**
+     * Subtracts the constant.
+     * @param    int    the constant
+     * @return          this expression
+     */
+    public ExpressionInteger subtract(int constant) {
+        return this.apply(SUBTRACTION, constant);
+    }
+
+    /**
+     * Multiplies by the wells of the well set.
+     * @param    WellSetInteger    the well set
+     * @return                     this expression
+     */
+    public ExpressionInteger multiply(WellSetInteger set) {
+        return this.apply(MULTIPLICATION, set);
+    }
+
+    /**
+     * Multiplies by the wells of the plate.
+     * @param    PlateInteger    the plate
+     * @return                   this expression
+     */
+    public ExpressionInteger multiply(PlateInteger plate) {
+        return this.apply(MULTIPLICATION, plate);
+    }
+
+    /**
+     * Multiplies by the constant.
+     * @param    int    the constant
+     * @return          this expression
+     */
+    public ExpressionInteger multiply(int constant) {
+        return this.apply(MULTIPLICATION, constant);
+    }
+
+    /**
+     * Divides by the wells of the well set.
+     * @param    WellSetInteger    the well set
+     * @return                     this expression
+     */
+    public ExpressionInteger divide(WellSetInteger set) {
+        return this.apply(DIVISION, set);
+    }
+
+    /**
+     * Divides by the wells of the plate.
+     * @param    PlateInteger    the plate
+     * @return                   this expression
+     */
+    public ExpressionInteger divide(PlateInteger plate) {
+        return this.apply(DIVISION, plate);
+    }
+
+    /**
+     * Divides by the constant.
+     * @param    int    the constant
+     * @return          this expression
+     */
+    public ExpressionInteger divide(int constant) {
+        return this.apply(DIVISION, constant);
+    }
+
+    /**
+     * Returns the number of operations in the expression.
+     * @return    the number of operations
+     */
+    public int size() {
+        return this.steps.size();
+    }
+
+    /* ---------------------------- Set Methods ----------------------------- */
+
+    /**
+     * Evaluates the expression for each well in the set. Missing data points
+     * are treated as zeroes.
+     * @param    WellSetInteger    the well set
+     * @return                     the result
+     */
+    public WellSetInteger sets(WellSetInteger set) {
+        Preconditions.checkNotNull(set, "The well set cannot be null.");
+        return this.evaluate(set, set.label(), false);
+    }
+
+    /**
+     * Evaluates the expression for each well in the set. Missing data points
+     * and missing wells are omitted.
+     * @param    WellSetInteger    the well set
+     * @return                     the result
+     */
+    public WellSetInteger setsStrict(WellSetInteger set) {
+        Preconditions.checkNotNull(set, "The well set cannot be null.");
+        return this.evaluate(set, set.label(), true);
+    }
+
+    /* --------------------------- Plate Methods ---------------------------- */
+
+    /**
+     * Evaluates the expression for each well in the plate. Missing data points
+     * are treated as zeroes.
+     * @param    PlateInteger    the plate
+     * @return                   the result
+     */
+    public PlateInteger plates(PlateInteger plate) {
+        return this.evaluate(plate, false);
+    }
+
+    /**
+     * Evaluates the expression for each well in the plate. Missing data points
+     * and missing wells are omitted.
+     * @param    PlateInteger    the plate
+     * @return                   the result
+     */
+    public PlateInteger platesStrict(PlateInteger plate) {
+        return this.evaluate(plate, true);
+    }
+
+    /* --------------------------- Stack Methods ---------------------------- */
+
+    /**
+     * Evaluates the expression for each plate in the stack. Missing data points
+     * are treated as zeroes.
+     * @param    StackInteger    the stack
+     * @return                   the result
+     */
+    public StackInteger stacks(StackInteger stack) {
+        return this.evaluate(stack, false);
+    }
+
+    /**
+     * Evaluates the expression for each plate in the stack. Missing data points
+     * and missing wells are omitted.
+     * @param    StackInteger    the stack
+     * @return                   the result
+     */
+    public StackInteger stacksStrict(StackInteger stack) {
+        return this.evaluate(stack, true);
+    }
+
+    /* -------------------------- Private Methods --------------------------- */
+
+    /**
+     * Evaluates the expression for each plate in the stack.
+     * @param    StackInteger    the stack
+     * @param    boolean         true for strict evaluation
+     * @return                   the result
+     */
+    private StackInteger evaluate(StackInteger stack, boolean strict) {
+
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+
+        StackInteger result = new StackInteger(stack.rows(), stack.columns(), stack.label());
+
+        for(PlateInteger plate : stack) {
+            result.add(this.evaluate(plate, strict));
+        }
+
+        return result;
+    }
+
+    /**
+     * Evaluates the expression for each well in the plate. The result holds
+     * the well groups of the input plate and each plate argument.
+     * @param    PlateInteger    the plate
+     * @param    boolean         true for strict evaluation
+     * @return                   the result
+     */
+    private PlateInteger evaluate(PlateInteger plate, boolean strict) {
+
+        Preconditions.checkNotNull(plate, "The plate cannot be null.");
+
+        for(Step step : this.steps) {
+            Preconditions.checkArgument(step.plate == null ||
+                    step.plate.rows() == plate.rows() && step.plate.columns() == plate.columns(),
+                    "Unequal plate dimensions.");
+        }
+
+        PlateInteger result = new PlateInteger(plate.rows(), plate.columns(), plate.label());
+
+        for(WellSetInteger set : plate.allGroups()) {
+            result.addGroups(set.wellList());
+        }
+
+        for(Step step : this.steps) {
+            if(step.plate != null) {
+                for(WellSetInteger set : step.plate.allGroups()) {
+                    result.addGroups(set.wellList());
+                }
+            }
+        }
+
+        result.addWells(this.evaluate(plate, plate.label(), strict));
+
+        return result;
+    }
+
+    /**
+     * Evaluates the expression for each well. Using standard evaluation the 
+     * wells found only in a well set or plate argument join the result at that 
+     * operation and are passed through the remaining operations.
+     * @param    Iterable<WellInteger>    the wells
+     * @param    String                   the result label
+     * @param    boolean                  true for strict evaluation
+     * @return                            the result
+     */
+    private WellSetInteger evaluate(Iterable<WellInteger> wells, String label, boolean strict) {
+
+        WellSetInteger result = new WellSetInteger();
+        result.setLabel(label);
+
+        for(WellInteger well : wells) {
+            this.evaluate(well, 0, strict, result);
+        }
+
+        if(!strict) {
+
+            Set<WellInteger> added = new HashSet<WellInteger>();
+
+            for(WellInteger well : wells) {
+                added.add(well);
+            }
+
+            for(int i = 0; i < this.steps.size(); i++) {
+
+                Map<WellInteger, WellInteger> argument = this.steps.get(i).wells;
+
+                if(argument == null) {
+                    continue;
+                }
+
+                for(WellInteger well : argument.keySet()) {
+                    if(added.add(well)) {
+                        this.evaluate(well, i + 1, false, result);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a binary operation step and indexes the wells of the argument.
+     * @param    MathOperationIntegerBinary    the operation
+     * @param    Iterable<WellInteger>         the wells
+     * @return                                 the step
+     */
+    private Step step(MathOperationIntegerBinary operation, Iterable<WellInteger> wells) {
+
+        Preconditions.checkNotNull(operation, "The operation cannot be null.");
+
+        Step step = new Step();
+        step.binary = operation;
+        step.wells = new HashMap<WellInteger, WellInteger>();
+
+        for(WellInteger well : wells) {
+            step.wells.put(well, well);
+        }
+
+        return step;
+    }
+
+    /**
+     * Applies the operations to the well values beginning with the operation at
+     * the index and adds the result to the well set. A well missing from a well
+     * set or plate argument is not added using strict evaluation.
+     * @param    WellInteger       the well
+     * @param    int               index of the first operation
+     * @param    boolean           true for strict evaluation
+     * @param    WellSetInteger    the result
+     */
+    private void evaluate(WellInteger well, int first, boolean strict, WellSetInteger result) {
+
+        List<Integer> values = well.data();
+
+        for(int i = first; i < this.steps.size(); i++) {
+
+            Step step = this.steps.get(i);
+
+            if(step.unary != null) {
+
+                values = step.unary.calculate(values);
+
+            } else if(step.shift != null) {
+
+                values = step.shift.calculate(values, step.n);
+
+            } else if(step.wells == null) {
+
+                values = step.binary.calculate(values, step.constant);
+
+            } else {
+
+                WellInteger operand = step.wells.get(well);
+
+                if(operand == null) {
+
+                    if(strict) {
+                        return;
+                    }
+
+                    continue;
+                }
+
+                values = strict ?
+                        step.binary.calculateStrict(values, operand.data()) :
+                        step.binary.calculate(values, operand.data());
+            }
+        }
+
+        result.add(new WellInteger(well.row(), well.column(), values));
+    }
+
+    /* ---------------------------- Step Class ------------------------------ */
+
+    /**
+     * A single operation and its second argument.
+     */
+    private static class Step {
+
+        private MathOperationIntegerBinary binary;      // Binary operation
+        private MathOperationIntegerUnary unary;        // Unary operation
+        private MathOperationIntegerShift shift;        // Shift operation
+        private Map<WellInteger, WellInteger> wells;    // Well set argument
+        private PlateInteger plate;                     // Plate argument
+        private int constant;                           // Constant argument
+        private int n;                                  // Bits to shift
+
+    }
+
+}
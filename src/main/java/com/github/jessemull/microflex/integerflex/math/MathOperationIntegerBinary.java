@@ -23,15 +23,21 @@ package com.github.jessemull.microflex.integerflex.math;
 
 /* ------------------------------ Dependencies ------------------------------ */
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import com.google.common.collect.Iterators;
 
 import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
 import com.github.jessemull.microflex.integerflex.plate.StackInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs mathematical operations with two arguments for integer 
@@ -226,6 +232,13 @@ import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
  *    </tr>
  * </table>
  * 
+ * In place functions write the result of the operation to the wells of the first
+ * argument instead of returning new wells, well sets, plates and stacks.
+ * 
+ * Setting a fork join pool performs the operation on the wells of plates and
+ * sets and on the plates of stacks in parallel. The results are identical to
+ * those of sequential execution.
+ * 
  * MicroFlex currently supports the following binary mathematical operations 
  * for integer values:
  * 
@@ -264,6 +277,10 @@ import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
  */
 public abstract class MathOperationIntegerBinary {
 
+	/* ---------------------------- Private Fields -------------------------- */
+	
+	private ForkJoinPool pool;    // Pool for parallel execution or null
+	
 	/* ---------------------------- Constructors ---------------------------- */
 	
 	/**
@@ -271,6 +288,45 @@ public abstract class MathOperationIntegerBinary {
 	 */
 	public MathOperationIntegerBinary() {}
 
+	/* ------------------------- Parallel Execution ------------------------- */
+	
+	/**
+	 * Sets the fork join pool used to perform the operation on the wells of 
+	 * plates and sets and on the plates of stacks in parallel. Results are 
+	 * identical to those of sequential execution. A null pool restores 
+	 * sequential execution.
+	 * @param    ForkJoinPool    the pool or null
+	 */
+	public void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+	
+	/**
+	 * Returns the fork join pool used for parallel execution or null if the 
+	 * operation is performed sequentially.
+	 * @return    the pool or null
+	 */
+	public ForkJoinPool pool() {
+		return this.pool;
+	}
+	
+	/**
+	 * Enables parallel execution using the shared default pool or restores 
+	 * sequential execution.
+	 * @param    boolean    true for parallel execution
+	 */
+	public void setParallel(boolean parallel) {
+		this.pool = parallel ? ParallelUtil.defaultPool() : null;
+	}
+	
+	/**
+	 * Returns true if the operation is performed in parallel.
+	 * @return    true if parallel execution is enabled
+	 */
+	public boolean isParallel() {
+		return this.pool != null;
+	}
+
 	/* ----------------------------- Well Methods --------------------------- */
 	
     /**
@@ -811,18 +867,17 @@ public abstract class MathOperationIntegerBinary {
         clone1.retain(set2);
         clone2.retain(set1);
         
-        Iterator<WellInteger> iter1 = clone1.iterator();
-        Iterator<WellInteger> iter2 = clone2.iterator();
-        
-    	while(iter1.hasNext()) {
+    	List<WellInteger> wells = ParallelUtil.map(this.pool, clone1, clone2, 
+    			new ParallelUtil.PairTask<WellInteger, WellInteger, WellInteger>() {
     		
-    		WellInteger well1 = iter1.next();
-    		WellInteger well2 = iter2.next();
-    		
-    		List<Integer> list = this.calculate(well1.data(), well2.data());
-    		result.add(new WellInteger(well1.row(), well1.column(), list));
-
-    	}
+    		public WellInteger apply(WellInteger well1, WellInteger well2) {
+    			
+    			List<Integer> list = calculate(well1.data(), well2.data());
+    			return new WellInteger(well1.row(), well1.column(), list);
+    		}
+    	});
+    	
+    	result.add(wells);
     	
     	result.add(set1Excluded);
     	result.add(set2Excluded);
@@ -911,20 +966,19 @@ public abstract class MathOperationIntegerBinary {
         clone1.retain(set2);
         clone2.retain(set1);
         
-        Iterator<WellInteger> iter1 = clone1.iterator();
-        Iterator<WellInteger> iter2 = clone2.iterator();
-        
-    	while(iter1.hasNext()) {
-    		
-    		WellInteger well1 = iter1.next();
-    		WellInteger well2 = iter2.next();
+    	List<WellInteger> wells = ParallelUtil.map(this.pool, clone1, clone2, 
+    			new ParallelUtil.PairTask<WellInteger, WellInteger, WellInteger>() {
     		
-    		validateArgs(well1, well2);
+    		public WellInteger apply(WellInteger well1, WellInteger well2) {
     			
-    		List<Integer> list = this.calculateStrict(well1.data(), well2.data());
-    		result.add(new WellInteger(well1.row(), well1.column(), list));
-
-    	}
+    			validateArgs(well1, well2);
+    			
+    			List<Integer> list = calculateStrict(well1.data(), well2.data());
+    			return new WellInteger(well1.row(), well1.column(), list);
+    		}
+    	});
+    	
+    	result.add(wells);
 
     	return result;
     }
@@ -976,17 +1030,22 @@ public abstract class MathOperationIntegerBinary {
      * @param    int               constant for operation
      * @return                     result of the operation
      */
-    public WellSetInteger sets(WellSetInteger set, int constant) {
+    public WellSetInteger sets(WellSetInteger set, final int constant) {
     	
     	this.validateArgs(set);
     	
     	WellSetInteger result = new WellSetInteger();
     	result.setLabel(set.label());
     
-    	for(WellInteger well : set) {
-    		result.add(new WellInteger(well.row(), well.column(), 
-    				this.calculate(well.data(), constant)));
-    	} 
+    	List<WellInteger> wells = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellInteger, WellInteger>() {
+    		
+    		public WellInteger apply(WellInteger well) {
+    			return new WellInteger(well.row(), well.column(), 
+    					calculate(well.data(), constant));
+    		}
+    	});
+    	
+    	result.add(wells);
     	
     	return result;
     }
@@ -1192,10 +1251,20 @@ public abstract class MathOperationIntegerBinary {
     	Iterator<PlateInteger> iter1 = stack1.iterator();
     	Iterator<PlateInteger> iter2 = stack2.iterator();
     	
-    	while(iter1.hasNext() && iter2.hasNext()) {
-    	    PlateInteger resultPlate = this.plates(iter1.next(), iter2.next());
-    	    result.add(resultPlate);
+    	List<PlateInteger> resultPlates = ParallelUtil.map(this.pool, stack1, stack2, 
+    			new ParallelUtil.PairTask<PlateInteger, PlateInteger, PlateInteger>() {
+    		
+    		public PlateInteger apply(PlateInteger plate1, PlateInteger plate2) {
+    			return plates(plate1, plate2);
+    		}
+    	});
+    	
+    	for(PlateInteger resultPlate : resultPlates) {
+    		result.add(resultPlate);
     	}
+    	
+    	Iterators.advance(iter1, resultPlates.size());
+    	Iterators.advance(iter2, resultPlates.size());
 
     	while(iter1.hasNext()) {
     		result.add(iter1.next());
@@ -1273,9 +1342,16 @@ public abstract class MathOperationIntegerBinary {
     	Iterator<PlateInteger> iter1 = stack1.iterator();
     	Iterator<PlateInteger> iter2 = stack2.iterator();
     	
-    	while(iter1.hasNext() && iter2.hasNext()) {
-    	    PlateInteger resultPlate = this.platesStrict(iter1.next(), iter2.next());
-    	    result.add(resultPlate);
+    	List<PlateInteger> resultPlates = ParallelUtil.map(this.pool, stack1, stack2, 
+    			new ParallelUtil.PairTask<PlateInteger, PlateInteger, PlateInteger>() {
+    		
+    		public PlateInteger apply(PlateInteger plate1, PlateInteger plate2) {
+    			return platesStrict(plate1, plate2);
+    		}
+    	});
+    	
+    	for(PlateInteger resultPlate : resultPlates) {
+    		result.add(resultPlate);
     	}
     	
     	return result;
@@ -1314,17 +1390,21 @@ public abstract class MathOperationIntegerBinary {
      * @param    int             constant for operation
      * @return                   result of the operation
      */
-    public StackInteger stacks(StackInteger stack, int constant) {
+    public StackInteger stacks(StackInteger stack, final int constant) {
         
         this.validateArgs(stack);
     	
     	StackInteger result = new StackInteger(stack.rows(), stack.columns());
     	
-    	Iterator<PlateInteger> iter1 = stack.iterator();
+    	List<PlateInteger> resultPlates = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateInteger, PlateInteger>() {
+    		
+    		public PlateInteger apply(PlateInteger plate) {
+    			return plates(plate, constant);
+    		}
+    	});
     	
-    	while(iter1.hasNext()) {
-    	    PlateInteger resultPlate = this.plates(iter1.next(), constant);
-    	    result.add(resultPlate);
+    	for(PlateInteger resultPlate : resultPlates) {
+    		result.add(resultPlate);
     	}
     	
     	return result;
@@ -1522,6 +1602,282 @@ public abstract class MathOperationIntegerBinary {
     	return result;
     }
     
+    /* --------------------------- In Place Methods ------------------------- */
+    
+    /**
+     * Writes the result of the mathematical operation to the first well. Missing 
+     * data points due to uneven data set lengths are treated as zeroes.
+     * @param    WellInteger    the first well
+     * @param    WellInteger    the second well
+     */
+    public void wellsInPlace(WellInteger well1, WellInteger well2) {
+    	
+    	this.validateArgs(well1, well2);
+    	
+    	List<Integer> data1 = well1.data();
+    	List<Integer> data2 = well2.data();
+    	
+    	int length1 = data1.size();
+    	int length2 = data2.size();
+    	
+    	if(length1 < length2) {
+    		data1.addAll(data2.subList(length1, length2));
+    		this.calculateInPlace(data1.subList(0, length1), data2.subList(0, length1));
+    	} else {
+    		this.calculateInPlace(data1, data2);
+    	}
+    	
+    	well1.dataModified();
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the first well. Missing 
+     * data points due to uneven data set lengths are omitted.
+     * @param    WellInteger    the first well
+     * @param    WellInteger    the second well
+     */
+    public void wellsStrictInPlace(WellInteger well1, WellInteger well2) {
+    	
+    	this.validateArgs(well1, well2);
+    	
+    	List<Integer> data1 = well1.data();
+    	List<Integer> data2 = well2.data();
+    	
+    	int length = Math.min(data1.size(), data2.size());
+    	
+    	this.calculateInPlace(data1.subList(0, length), data2.subList(0, length));
+    	data1.subList(length, data1.size()).clear();
+    	well1.dataModified();
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the well.
+     * @param    WellInteger    the well
+     * @param    int            constant for the operation
+     */
+    public void wellsInPlace(WellInteger well, int constant) {
+    	this.validateArgs(well);
+    	this.calculateInPlace(well.data(), constant);
+    	well.dataModified();
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the first 
+     * set. Missing data points due to uneven data set lengths are treated as 
+     * zeroes. Copies of the wells missing from the first set are added to the
+     * first set.
+     * @param    WellSetInteger    the first set
+     * @param    WellSetInteger    the second set
+     */
+    public void setsInPlace(WellSetInteger set1, WellSetInteger set2) {
+    	
+    	this.validateArgs(set1, set2);
+    	
+    	for(WellInteger well : this.inPlace(set1, set2, false)) {
+    		set1.add(new WellInteger(well));
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the first 
+     * set. Missing data points due to uneven data set lengths are omitted. Wells
+     * missing from the second set are removed from the first set.
+     * @param    WellSetInteger    the first set
+     * @param    WellSetInteger    the second set
+     */
+    public void setsStrictInPlace(WellSetInteger set1, WellSetInteger set2) {
+    	
+    	this.validateArgs(set1, set2);
+    	
+    	for(WellInteger well : this.inPlace(set1, set2, true)) {
+    		set1.remove(well);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the set.
+     * @param    WellSetInteger    the set
+     * @param    int               constant for the operation
+     */
+    public void setsInPlace(WellSetInteger set, int constant) {
+    	
+    	this.validateArgs(set);
+    	
+    	for(WellInteger well : set) {
+    		this.wellsInPlace(well, constant);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the first 
+     * plate. Missing data points due to uneven data set lengths are treated as 
+     * zeroes. Copies of the wells missing from the first plate are added to the
+     * first plate. The well groups of the first plate are unchanged.
+     * @param    PlateInteger    the first plate
+     * @param    PlateInteger    the second plate
+     */
+    public void platesInPlace(PlateInteger plate1, PlateInteger plate2) {
+    	
+    	this.validateArgs(plate1, plate2);
+    	
+    	for(WellInteger well : this.inPlace(plate1, plate2, false)) {
+    		plate1.addWells(well);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the first 
+     * plate. Missing data points due to uneven data set lengths are omitted. 
+     * Wells missing from the second plate are removed from the first plate.
+     * @param    PlateInteger    the first plate
+     * @param    PlateInteger    the second plate
+     */
+    public void platesStrictInPlace(PlateInteger plate1, PlateInteger plate2) {
+    	
+    	this.validateArgs(plate1, plate2);
+    	
+    	for(WellInteger well : this.inPlace(plate1, plate2, true)) {
+    		plate1.removeWells(well);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the plate.
+     * @param    PlateInteger    the plate
+     * @param    int             constant for the operation
+     */
+    public void platesInPlace(PlateInteger plate, int constant) {
+    	
+    	this.validateArgs(plate);
+    	
+    	for(WellInteger well : plate) {
+    		this.wellsInPlace(well, constant);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the plates of the first 
+     * stack. Missing data points due to uneven data set lengths are treated as 
+     * zeroes. Copies of the plates missing from the first stack are added to the
+     * first stack.
+     * @param    StackInteger    the first stack
+     * @param    StackInteger    the second stack
+     */
+    public void stacksInPlace(StackInteger stack1, StackInteger stack2) {
+    	
+    	this.validateArgs(stack1, stack2);
+    	
+    	PlateInteger[] plates1 = stack1.toArray();
+    	PlateInteger[] plates2 = stack2.toArray();
+    	
+    	stack1.clear();
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		if(i < plates2.length) {
+    			this.platesInPlace(plates1[i], plates2[i]);
+    		}
+    		
+    		stack1.add(plates1[i]);
+    	}
+    	
+    	for(int i = plates1.length; i < plates2.length; i++) {
+    		stack1.add(new PlateInteger(plates2[i]));
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the plates of the first 
+     * stack. Missing data points due to uneven data set lengths are omitted. 
+     * Plates missing from the second stack are removed from the first stack.
+     * @param    StackInteger    the first stack
+     * @param    StackInteger    the second stack
+     */
+    public void stacksStrictInPlace(StackInteger stack1, StackInteger stack2) {
+    	
+    	this.validateArgs(stack1, stack2);
+    	
+    	PlateInteger[] plates1 = stack1.toArray();
+    	PlateInteger[] plates2 = stack2.toArray();
+    	
+    	stack1.clear();
+    	
+    	for(int i = 0; i < plates1.length && i < plates2.length; i++) {
+    		this.platesStrictInPlace(plates1[i], plates2[i]);
+    		stack1.add(plates1[i]);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the plates of the stack.
+     * @param    StackInteger    the stack
+     * @param    int             constant for the operation
+     */
+    public void stacksInPlace(StackInteger stack, int constant) {
+    	
+    	this.validateArgs(stack);
+    	
+    	PlateInteger[] plates = stack.toArray();
+    	
+    	stack.clear();
+    	
+    	for(PlateInteger plate : plates) {
+    		this.platesInPlace(plate, constant);
+    		stack.add(plate);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to each well of the first
+     * argument matching a well in the second argument. Both arguments iterate
+     * over the wells in row and column order. Returns the unmatched wells of the
+     * first argument for strict operations and the unmatched wells of the second
+     * argument otherwise.
+     * @param    Iterable<WellInteger>    the first wells
+     * @param    Iterable<WellInteger>    the second wells
+     * @param    boolean                  true for strict operations
+     * @return                            the unmatched wells
+     */
+    private List<WellInteger> inPlace(Iterable<WellInteger> wells1, Iterable<WellInteger> wells2, boolean strict) {
+    	
+    	List<WellInteger> unmatched = new ArrayList<WellInteger>();
+    	
+    	Iterator<WellInteger> iter1 = wells1.iterator();
+    	Iterator<WellInteger> iter2 = wells2.iterator();
+    	
+    	WellInteger well1 = iter1.hasNext() ? iter1.next() : null;
+    	WellInteger well2 = iter2.hasNext() ? iter2.next() : null;
+    	
+    	while(well1 != null || well2 != null) {
+    		
+    		int comparison = well1 == null ? 1 : well2 == null ? -1 : well1.compareTo(well2);
+    		
+    		if(comparison == 0) {
+    			
+    			if(strict) {
+    				this.wellsStrictInPlace(well1, well2);
+    			} else {
+    				this.wellsInPlace(well1, well2);
+    			}
+    			
+    		} else if(comparison < 0 && strict) {
+    			unmatched.add(well1);
+    		} else if(comparison > 0 && !strict) {
+    			unmatched.add(well2);
+    		}
+    		
+    		if(comparison <= 0) {
+    			well1 = iter1.hasNext() ? iter1.next() : null;
+    		}
+    		
+    		if(comparison >= 0) {
+    			well2 = iter2.hasNext() ? iter2.next() : null;
+    		}
+    	}
+    	
+    	return unmatched;
+    }
+    
     /*---------------- Methods for Validating Well Arguments -----------------*/
     
     /**
@@ -1917,4 +2273,50 @@ public abstract class MathOperationIntegerBinary {
      * @return                          result of the mathematical operation
      */
     public abstract List<Integer> calculateStrict(List<Integer> list, Collection<Integer> collection, int begin, int length);
+    
+    /**
+     * Performs the mathematical operation for the two lists and writes the
+     * result to the first list. The first list must hold at least as many 
+     * values as the second list. Subclasses override this method to avoid 
+     * creating a result list. By default the result is calculated using the 
+     * list operation and set in the first list. Missing data points due to 
+     * lists of unequal length are treated as zero values.
+     * @param    List<Integer>    the first list
+     * @param    List<Integer>    the second list
+     */
+    public void calculateInPlace(List<Integer> list1, List<Integer> list2) {
+    	
+    	if(list1.size() < list2.size()) {
+    		throw new IllegalArgumentException("The first list must hold at least as many values as the second list.");
+    	}
+    	
+    	this.set(list1, this.calculate(list1, list2));
+    }
+    
+    /**
+     * Performs the mathematical operation for the list and a constant and
+     * writes the result to the list. Subclasses override this method to avoid
+     * creating a result list. By default the result is calculated using the
+     * list operation and set in the list.
+     * @param    List<Integer>    the list
+     * @param    int              the constant value
+     */
+    public void calculateInPlace(List<Integer> list, int constant) {
+    	this.set(list, this.calculate(list, constant));
+    }
+    
+    /**
+     * Replaces the values in the list with the values in the result.
+     * @param    List<Integer>    the list
+     * @param    List<Integer>    the result
+     */
+    private void set(List<Integer> list, List<Integer> result) {
+    	
+    	ListIterator<Integer> iter = list.listIterator();
+    	
+    	for(Integer value : result) {
+    		iter.next();
+    		iter.set(value);
+    	}
+    }
 }
@@ -24,11 +24,14 @@ package com.github.jessemull.microflex.integerflex.math;
 /* ------------------------------ Dependencies ------------------------------ */
 
 import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
 
 import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
 import com.github.jessemull.microflex.integerflex.plate.StackInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs mathematical shift operations for integer plate stacks, 
@@ -53,6 +56,13 @@ import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
  *    </tr>
  * </table>
  * 
+ * In place functions write the result of the operation to the wells of the
+ * argument instead of returning new wells, well sets, plates and stacks.
+ * 
+ * Setting a fork join pool performs the operation on the wells of plates and
+ * sets and on the plates of stacks in parallel. The results are identical to
+ * those of sequential execution.
+ * 
  * @author Jesse L. Mull
  * @update Updated Oct 18, 2016
  * @address http://www.jessemull.com
@@ -60,6 +70,10 @@ import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
  */
 public abstract class MathOperationIntegerShift {
 
+	/* ---------------------------- Private Fields -------------------------- */
+	
+	private ForkJoinPool pool;    // Pool for parallel execution or null
+	
 	/* ---------------------------- Constructors ---------------------------- */
 	
 	/**
@@ -67,6 +81,45 @@ public abstract class MathOperationIntegerShift {
 	 */
 	public MathOperationIntegerShift() {}
 
+	/* ------------------------- Parallel Execution ------------------------- */
+	
+	/**
+	 * Sets the fork join pool used to perform the operation on the wells of 
+	 * plates and sets and on the plates of stacks in parallel. Results are 
+	 * identical to those of sequential execution. A null pool restores 
+	 * sequential execution.
+	 * @param    ForkJoinPool    the pool or null
+	 */
+	public void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+	
+	/**
+	 * Returns the fork join pool used for parallel execution or null if the 
+	 * operation is performed sequentially.
+	 * @return    the pool or null
+	 */
+	public ForkJoinPool pool() {
+		return this.pool;
+	}
+	
+	/**
+	 * Enables parallel execution using the shared default pool or restores 
+	 * sequential execution.
+	 * @param    boolean    true for parallel execution
+	 */
+	public void setParallel(boolean parallel) {
+		this.pool = parallel ? ParallelUtil.defaultPool() : null;
+	}
+	
+	/**
+	 * Returns true if the operation is performed in parallel.
+	 * @return    true if parallel execution is enabled
+	 */
+	public boolean isParallel() {
+		return this.pool != null;
+	}
+
 	/* ----------------------------- Well Methods --------------------------- */
 	
     /**
@@ -110,7 +163,7 @@ public abstract class MathOperationIntegerShift {
      * @param    int             number of bits to shift
      * @return                   result of the operation
      */
-    public PlateInteger plates(PlateInteger plate, int n) {
+    public PlateInteger plates(PlateInteger plate, final int n) {
     	
     	if(plate == null) {
     		throw new NullPointerException("Plate is null.");
@@ -118,10 +171,15 @@ public abstract class MathOperationIntegerShift {
     	
     	PlateInteger result = new PlateInteger(plate.rows(), plate.columns());
     	
-    	for(WellInteger well : plate) {
-    		result.addWells(new WellInteger(well.row(), well.column(), 
-    				this.calculate(well.data(), n)));
-    	}
+    	List<WellInteger> wells = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellInteger, WellInteger>() {
+    		
+    		public WellInteger apply(WellInteger well) {
+    			return new WellInteger(well.row(), well.column(), 
+    					calculate(well.data(), n));
+    		}
+    	});
+    	
+    	result.addWells(wells);
     	
     	return result;
     }
@@ -159,7 +217,7 @@ public abstract class MathOperationIntegerShift {
      * @param    int                    number of bits to shift
      * @return                          result of the operation
      */
-    public WellSetInteger sets(WellSetInteger set, int n) {
+    public WellSetInteger sets(WellSetInteger set, final int n) {
     	
     	if(set == null) {
     		throw new NullPointerException("Well set is null.");
@@ -167,10 +225,15 @@ public abstract class MathOperationIntegerShift {
     	
     	WellSetInteger result = new WellSetInteger();
     	
-    	for(WellInteger well : set) {
-    		result.add(new WellInteger(well.row(), well.column(), 
-    				this.calculate(well.data(), n)));
-    	}
+    	List<WellInteger> wells = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellInteger, WellInteger>() {
+    		
+    		public WellInteger apply(WellInteger well) {
+    			return new WellInteger(well.row(), well.column(), 
+    					calculate(well.data(), n));
+    		}
+    	});
+    	
+    	result.add(wells);
     	
     	return result;
     }
@@ -208,7 +271,7 @@ public abstract class MathOperationIntegerShift {
      * @param    int             number of bits to shift
      * @return                   the result of the operation
      */
-     public StackInteger stacks(StackInteger stack, int n) {
+     public StackInteger stacks(StackInteger stack, final int n) {
     	
     	if(stack == null) {
     		throw new NullPointerException("Stack is null.");
@@ -216,8 +279,15 @@ public abstract class MathOperationIntegerShift {
     	
     	StackInteger result = new StackInteger(stack.rows(), stack.columns());
     	
-    	for(PlateInteger plate : stack) {
-    		result.add(this.plates(plate, n));
+    	List<PlateInteger> resultPlates = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateInteger, PlateInteger>() {
+    		
+    		public PlateInteger apply(PlateInteger plate) {
+    			return plates(plate, n);
+    		}
+    	});
+    	
+    	for(PlateInteger resultPlate : resultPlates) {
+    		result.add(resultPlate);
     	}
     	
     	return result;
@@ -246,6 +316,76 @@ public abstract class MathOperationIntegerShift {
      	return result;
      } 
      
+    /* --------------------------- In Place Methods ------------------------- */
+    
+    /**
+     * Writes the result of the mathematical operation to the well.
+     * @param    WellInteger    the well
+     * @param    int            number of bits to shift
+     */
+    public void wellsInPlace(WellInteger well, int n) {
+    	
+    	if(well == null) {
+    		throw new NullPointerException("Well is null.");
+    	}
+    	
+    	this.calculateInPlace(well.data(), n);
+    	well.dataModified();
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the set.
+     * @param    WellSetInteger    the well set
+     * @param    int               number of bits to shift
+     */
+    public void setsInPlace(WellSetInteger set, int n) {
+    	
+    	if(set == null) {
+    		throw new NullPointerException("Well set is null.");
+    	}
+    	
+    	for(WellInteger well : set) {
+    		this.wellsInPlace(well, n);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the plate.
+     * @param    PlateInteger    the plate
+     * @param    int             number of bits to shift
+     */
+    public void platesInPlace(PlateInteger plate, int n) {
+    	
+    	if(plate == null) {
+    		throw new NullPointerException("Plate is null.");
+    	}
+    	
+    	for(WellInteger well : plate) {
+    		this.wellsInPlace(well, n);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the plates of the stack.
+     * @param    StackInteger    the stack
+     * @param    int             number of bits to shift
+     */
+    public void stacksInPlace(StackInteger stack, int n) {
+    	
+    	if(stack == null) {
+    		throw new NullPointerException("Stack is null.");
+    	}
+    	
+    	PlateInteger[] plates = stack.toArray();
+    	
+    	stack.clear();
+    	
+    	for(PlateInteger plate : plates) {
+    		this.platesInPlace(plate, n);
+    		stack.add(plate);
+    	}
+    }
+    
     /*------------------------ List Operation Methods ------------------------*/
     
     /**
@@ -264,4 +404,22 @@ public abstract class MathOperationIntegerShift {
      * @return                    result of the mathematical operation
      */
     public abstract List<Integer> calculate(List<Integer> list, int n, int begin, int length);
+    
+    /**
+     * Performs the mathematical operation for the list and writes the result
+     * to the list. Subclasses override this method to avoid creating a result
+     * list. By default the result is calculated using the list operation and
+     * set in the list.
+     * @param    List<Integer>    the list
+     * @param    int              number of bits to shift
+     */
+    public void calculateInPlace(List<Integer> list, int n) {
+    	
+    	ListIterator<Integer> iter = list.listIterator();
+    	
+    	for(Integer value : this.calculate(list, n)) {
+    		iter.next();
+    		iter.set(value);
+    	}
+    }
 }
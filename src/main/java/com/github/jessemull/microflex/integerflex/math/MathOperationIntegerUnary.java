@@ -24,11 +24,14 @@ package com.github.jessemull.microflex.integerflex.math;
 /* ------------------------------ Dependencies ------------------------------ */
 
 import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
 
 import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
 import com.github.jessemull.microflex.integerflex.plate.StackInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs mathematical operations with a single argument for integer 
@@ -53,6 +56,13 @@ import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
  *    </tr>
  * </table>
  * 
+ * In place functions write the result of the operation to the wells of the
+ * argument instead of returning new wells, well sets, plates and stacks.
+ * 
+ * Setting a fork join pool performs the operation on the wells of plates and
+ * sets and on the plates of stacks in parallel. The results are identical to
+ * those of sequential execution.
+ * 
  * @author Jesse L. Mull
  * @update Updated Oct 18, 2016
  * @address http://www.jessemull.com
@@ -60,6 +70,10 @@ import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
  */
 public abstract class MathOperationIntegerUnary {
 
+	/* ---------------------------- Private Fields -------------------------- */
+	
+	private ForkJoinPool pool;    // Pool for parallel execution or null
+	
 	/* ---------------------------- Constructors ---------------------------- */
 	
 	/**
@@ -67,6 +81,45 @@ public abstract class MathOperationIntegerUnary {
 	 */
 	public MathOperationIntegerUnary() {}
 
+	/* ------------------------- Parallel Execution ------------------------- */
+	
+	/**
+	 * Sets the fork join pool used to perform the operation on the wells of 
+	 * plates and sets and on the plates of stacks in parallel. Results are 
+	 * identical to those of sequential execution. A null pool restores 
+	 * sequential execution.
+	 * @param    ForkJoinPool    the pool or null
+	 */
+	public void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+	
+	/**
+	 * Returns the fork join pool used for parallel execution or null if the 
+	 * operation is performed sequentially.
+	 * @return    the pool or null
+	 */
+	public ForkJoinPool pool() {
+		return this.pool;
+	}
+	
+	/**
+	 * Enables parallel execution using the shared default pool or restores 
+	 * sequential execution.
+	 * @param    boolean    true for parallel execution
+	 */
+	public void setParallel(boolean parallel) {
+		this.pool = parallel ? ParallelUtil.defaultPool() : null;
+	}
+	
+	/**
+	 * Returns true if the operation is performed in parallel.
+	 * @return    true if parallel execution is enabled
+	 */
+	public boolean isParallel() {
+		return this.pool != null;
+	}
+
 	/* ----------------------------- Well Methods --------------------------- */
 	
     /**
@@ -115,10 +168,15 @@ public abstract class MathOperationIntegerUnary {
     	
     	PlateInteger result = new PlateInteger(plate.rows(), plate.columns());
     	
-    	for(WellInteger well : plate) {
-    		result.addWells(new WellInteger(well.row(), well.column(), 
-    				this.calculate(well.data())));
-    	}
+    	List<WellInteger> wells = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellInteger, WellInteger>() {
+    		
+    		public WellInteger apply(WellInteger well) {
+    			return new WellInteger(well.row(), well.column(), 
+    					calculate(well.data()));
+    		}
+    	});
+    	
+    	result.addWells(wells);
     	
     	return result;
     }
@@ -162,10 +220,15 @@ public abstract class MathOperationIntegerUnary {
     	
     	WellSetInteger result = new WellSetInteger();
     	
-    	for(WellInteger well : set) {
-    		result.add(new WellInteger(well.row(), well.column(), 
-    				this.calculate(well.data())));
-    	}
+    	List<WellInteger> wells = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellInteger, WellInteger>() {
+    		
+    		public WellInteger apply(WellInteger well) {
+    			return new WellInteger(well.row(), well.column(), 
+    					calculate(well.data()));
+    		}
+    	});
+    	
+    	result.add(wells);
     	
     	return result;
     }
@@ -209,8 +272,15 @@ public abstract class MathOperationIntegerUnary {
     	
     	StackInteger result = new StackInteger(stack.rows(), stack.columns());
     	
-    	for(PlateInteger plate : stack) {
-    		result.add(this.plates(plate));
+    	List<PlateInteger> resultPlates = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateInteger, PlateInteger>() {
+    		
+    		public PlateInteger apply(PlateInteger plate) {
+    			return plates(plate);
+    		}
+    	});
+    	
+    	for(PlateInteger resultPlate : resultPlates) {
+    		result.add(resultPlate);
     	}
     	
     	return result;
@@ -238,6 +308,72 @@ public abstract class MathOperationIntegerUnary {
      	return result;
      } 
      
+    /* --------------------------- In Place Methods ------------------------- */
+    
+    /**
+     * Writes the result of the mathematical operation to the well.
+     * @param    WellInteger    the well
+     */
+    public void wellsInPlace(WellInteger well) {
+    	
+    	if(well == null) {
+    		throw new NullPointerException("Well is null.");
+    	}
+    	
+    	this.calculateInPlace(well.data());
+    	well.dataModified();
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the set.
+     * @param    WellSetInteger    the well set
+     */
+    public void setsInPlace(WellSetInteger set) {
+    	
+    	if(set == null) {
+    		throw new NullPointerException("Well set is null.");
+    	}
+    	
+    	for(WellInteger well : set) {
+    		this.wellsInPlace(well);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the wells of the plate.
+     * @param    PlateInteger    the plate
+     */
+    public void platesInPlace(PlateInteger plate) {
+    	
+    	if(plate == null) {
+    		throw new NullPointerException("Plate is null.");
+    	}
+    	
+    	for(WellInteger well : plate) {
+    		this.wellsInPlace(well);
+    	}
+    }
+    
+    /**
+     * Writes the result of the mathematical operation to the plates of the stack.
+     * @param    StackInteger    the stack
+     */
+    public void stacksInPlace(StackInteger stack) {
+    	
+    	if(stack == null) {
+    		throw new NullPointerException("Stack is null.");
+    	}
+    	
+    	PlateInteger[] plates = stack.toArray();
+    	
+    	stack.clear();
+    	
+    	for(PlateInteger plate : plates) {
+    		this.platesInPlace(plate);
+    		stack.add(plate);
+    	}
+    }
+    
     /*------------------------ List Operation Methods ------------------------*/
     
     /**
@@ -254,4 +390,21 @@ public abstract class MathOperationIntegerUnary {
      * @return                    result of the mathematical operation
      */
     public abstract List<Integer> calculate(List<Integer> list, int begin, int length);
+    
+    /**
+     * Performs the mathematical operation for the list and writes the result
+     * to the list. Subclasses override this method to avoid creating a result
+     * list. By default the result is calculated using the list operation and
+     * set in the list.
+     * @param    List<Integer>    the list
+     */
+    public void calculateInPlace(List<Integer> list) {
+    	
+    	ListIterator<Integer> iter = list.listIterator();
+    	
+    	for(Integer value : this.calculate(list)) {
+    		iter.next();
+    		iter.set(value);
+    	}
+    }
 }
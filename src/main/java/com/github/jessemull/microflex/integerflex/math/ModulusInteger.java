@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * This class performs modulus operations with two arguments for integer 
@@ -583,5 +584,48 @@ public class ModulusInteger extends MathOperationIntegerBinary {
 
 		return result;
 	}
-    
+	
+	/**
+	 * Calculates the remainder of the values in the first list divided by the
+	 * values in the second list and writes the result to the first list. The
+	 * first list must hold at least as many values as the second list.
+	 * @param    List<Integer> list1    the first list
+	 * @param    List<Integer> list2    the second list
+	 * @override
+	 */
+	public void calculateInPlace(List<Integer> list1, List<Integer> list2) {
+		
+		if(list1.size() < list2.size()) {
+			throw new IllegalArgumentException("The first list must hold at least as many values as the second list.");
+		}
+		
+		ListIterator<Integer> iter = list1.listIterator();
+		
+		if(list1.size() > list2.size()) {
+			for(int value : list2) {
+				iter.set(value % iter.next());
+			}
+		} else {
+			for(int value : list2) {
+				iter.set(iter.next() % value);
+			}
+		}
+	}
+	
+	/**
+	 * Calculates the remainder of each value in the list divided by the
+	 * constant and writes the result to the list.
+	 * @param    List<Integer> list    the list
+	 * @param    int constant          the constant value
+	 * @override
+	 */
+	public void calculateInPlace(List<Integer> list, int constant) {
+		
+		ListIterator<Integer> iter = list.listIterator();
+		
+		while(iter.hasNext()) {
+			iter.set(iter.next() % constant);
+		}
+	}
+	
 }
@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * This class performs multiplication operations with two arguments for integer 
@@ -577,5 +578,42 @@ public class MultiplicationInteger extends MathOperationIntegerBinary {
 
 		return result;
 	}
-    
+	
+	/**
+	 * Multiplies the values in the first list by the values in the second list
+	 * and writes the result to the first list. The first list must hold at
+	 * least as many values as the second list.
+	 * @param    List<Integer> list1    the first list
+	 * @param    List<Integer> list2    the second list
+	 * @override
+	 */
+	public void calculateInPlace(List<Integer> list1, List<Integer> list2) {
+		
+		if(list1.size() < list2.size()) {
+			throw new IllegalArgumentException("The first list must hold at least as many values as the second list.");
+		}
+		
+		ListIterator<Integer> iter = list1.listIterator();
+		
+		for(int value : list2) {
+			iter.set(iter.next() * value);
+		}
+	}
+	
+	/**
+	 * Multiplies each value in the list by the constant and writes the result
+	 * to the list.
+	 * @param    List<Integer> list    the list
+	 * @param    int constant          the constant value
+	 * @override
+	 */
+	public void calculateInPlace(List<Integer> list, int constant) {
+		
+		ListIterator<Integer> iter = list.listIterator();
+		
+		while(iter.hasNext()) {
+			iter.set(iter.next() * constant);
+		}
+	}
+	
 }
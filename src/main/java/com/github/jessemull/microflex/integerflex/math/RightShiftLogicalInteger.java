@@ -25,6 +25,7 @@ package com.github.jessemull.microflex.integerflex.math;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * This class performs a right signed/logical shift operations for integer 
@@ -75,4 +76,20 @@ public class RightShiftLogicalInteger extends MathOperationIntegerShift {
         return result;
     }
     
+    /**
+     * Shifts the values in the list n bits to the right using zero extension
+     * and writes the result to the list.
+     * @param    List<Integer>    the list
+     * @param    int              number of bits to shift
+     * @override
+     */
+    public void calculateInPlace(List<Integer> list, int n) {
+        
+        ListIterator<Integer> iter = list.listIterator();
+        
+        while(iter.hasNext()) {
+            iter.set(iter.next() >>> n);
+        }
+    }
+    
 }
@@ -0,0 +1,476 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.integerflex.plate;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Ints;
+
+import com.github.jessemull.microflex.plate.WellIndex;
+import com.github.jessemull.microflex.plate.WellList;
+
+/**
+ * This class stores the wells of an integer plate using a dense, flat layout.
+ * Each well position is assigned a slot using the row and column indices:
+ *
+ * <br><br>
+ *
+ * slot = row * columns + (column - 1)
+ *
+ * <br><br>
+ *
+ * Rows are indexed from zero and columns are indexed from one. The values for 
+ * all the wells are stored in a single contiguous primitive array in slot order, 
+ * which is the same order used by the plate iterator. Each slot holds the offset
+ * and the length of the well values within the array. Plates accept row indices
+ * up to and including the plate row number, so the layout reserves one
+ * additional row.
+ *
+ * <br><br>
+ *
+ * Well lookup is a constant time operation and scanning the plate values is a
+ * linear sweep over one array. The dense plate is a snapshot of the plate it
+ * was created from. Changes to the source plate are not reflected in the dense
+ * plate and the dense plate cannot be structurally modified. Use the toPlate
+ * method to return to the standard plate representation.
+ * *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class DensePlateInteger implements Iterable<WellInteger> {
+
+    /* -------------------------- Private Fields ---------------------------- */
+
+    private int rows;                 // Row number
+    private int columns;              // Column number
+    private String label;             // Label
+    private Set<WellList> groups;     // Well groups for analysis
+    private int[] values;          // Values for all wells in slot order
+    private int[] offsets;            // Offset of the first value for each slot
+    private int[] lengths;            // Number of values for each slot
+    private BitSet occupied;          // Slots holding a well
+
+    /*----------------------------- Constructors -----------------------------*/
+
+    /**
+     * Creates a dense plate from an integer plate.
+     * @param    PlateInteger    the plate
+     */
+    public DensePlateInteger(PlateInteger plate) {
+
+        Preconditions.checkNotNull(plate, "The plate cannot be null.");
+
+        this.rows = plate.rows();
+        this.columns = plate.columns();
+        this.label = plate.label();
+        this.groups = new TreeSet<WellList>();
+
+        for(WellSetInteger set : plate.allGroups()) {
+            this.groups.add(new WellList(set.wellList()));
+        }
+
+        int slots = (plate.rows() + 1) * plate.columns();
+        int total = 0;
+
+        this.offsets = new int[slots];
+        this.lengths = new int[slots];
+        this.occupied = new BitSet(slots);
+
+        for(WellInteger well : plate) {
+            int slot = this.slot(well.row(), well.column());
+            this.occupied.set(slot);
+            this.lengths[slot] = well.size();
+            total += well.size();
+        }
+
+        this.values = new int[total];
+
+        int offset = 0;
+
+        for(WellInteger well : plate) {
+            int slot = this.slot(well.row(), well.column());
+            int[] data = well.toIntArray();
+            System.arraycopy(data, 0, this.values, offset, data.length);
+            this.offsets[slot] = offset;
+            offset += data.length;
+        }
+    }
+
+    /* ------------------------ Slot Index Methods -------------------------- */
+
+    /**
+     * Returns the slot for the row and column indices.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          the slot
+     */
+    public int slot(int row, int column) {
+
+        if(row < 0 || row > this.rows || column < 1 || column > this.columns) {
+            throw new IllegalArgumentException("Invalid well indices for plate: "
+                    + "row " + row + ", column " + column + ".");
+        }
+
+        return row * this.columns + column - 1;
+    }
+
+    /**
+     * Returns the row index for the slot.
+     * @param    int    the slot
+     * @return          the row index
+     */
+    public int row(int slot) {
+        return slot / this.columns;
+    }
+
+    /**
+     * Returns the column index for the slot.
+     * @param    int    the slot
+     * @return          the column index
+     */
+    public int column(int slot) {
+        return slot % this.columns + 1;
+    }
+
+    /**
+     * Returns the number of slots in the layout.
+     * @return    the number of slots
+     */
+    public int slots() {
+        return this.offsets.length;
+    }
+
+    /* ------------------------- Primitive Data Access ---------------------- */
+
+    /**
+     * Returns the primitive array holding the values for all the wells in slot
+     * order. The array is not copied.
+     * @return    the value array
+     */
+    public int[] dataArray() {
+        return this.values;
+    }
+
+    /**
+     * Returns the index of the first value of the well in the value array.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          the offset into the value array
+     */
+    public int dataOffset(int row, int column) {
+        return this.offsets[this.occupiedSlot(row, column)];
+    }
+
+    /**
+     * Returns the number of values held by the well.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          the number of well values
+     */
+    public int dataLength(int row, int column) {
+        return this.lengths[this.occupiedSlot(row, column)];
+    }
+
+    /**
+     * Returns the value at the index for the well.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @param    int    the index of the value
+     * @return          the value
+     */
+    public int get(int row, int column, int index) {
+
+        int slot = this.occupiedSlot(row, column);
+
+        if(index < 0 || index >= this.lengths[slot]) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.lengths[slot]);
+        }
+
+        return this.values[this.offsets[slot] + index];
+    }
+
+    /* ----------------------- Methods for Well Lookup ---------------------- */
+
+    /**
+     * Returns true if the plate contains a well at the row and column indices.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          true if the well exists
+     */
+    public boolean contains(int row, int column) {
+
+        if(row < 0 || row > this.rows || column < 1 || column > this.columns) {
+            return false;
+        }
+
+        return this.occupied.get(row * this.columns + column - 1);
+    }
+
+    /**
+     * Returns true if the plate contains the well.
+     * @param    WellInteger    the well
+     * @return                 true if the well exists
+     */
+    public boolean contains(WellInteger well) {
+        return well != null && this.contains(well.row(), well.column());
+    }
+
+    /**
+     * Returns true if the plate contains the well.
+     * @param    WellIndex    the well index
+     * @return                true if the well exists
+     */
+    public boolean contains(WellIndex index) {
+        return index != null && this.contains(index.row(), index.column());
+    }
+
+    /**
+     * Returns a copy of the well at the row and column indices or null if no
+     * such well exists.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          the well or null if the well does not exist
+     */
+    public WellInteger getWells(int row, int column) {
+
+        if(!this.contains(row, column)) {
+            return null;
+        }
+
+        return this.wellAt(row * this.columns + column - 1);
+    }
+
+    /**
+     * Returns a copy of the well or null if no such well exists.
+     * @param    WellInteger    the well
+     * @return                 the plate well or null if the well does not exist
+     */
+    public WellInteger getWells(WellInteger well) {
+        Preconditions.checkNotNull(well, "The well cannot be null.");
+        return this.getWells(well.row(), well.column());
+    }
+
+    /**
+     * Returns a copy of the well or null if no such well exists.
+     * @param    WellIndex    the well index
+     * @return                the plate well or null if the well does not exist
+     */
+    public WellInteger getWells(WellIndex index) {
+
+        if(index == null) {
+            return null;
+        }
+
+        return this.getWells(index.row(), index.column());
+    }
+
+    /**
+     * Returns all wells with the matching row index or null if the row holds no
+     * wells.
+     * @param    int    the row index
+     * @return          wells with matching row index
+     */
+    public WellSetInteger getRow(int row) {
+
+        if(row < 0 || row > this.rows) {
+            return null;
+        }
+
+        WellSetInteger set = new WellSetInteger();
+        int end = (row + 1) * this.columns;
+
+        for(int slot = this.occupied.nextSetBit(row * this.columns);
+                slot >= 0 && slot < end; slot = this.occupied.nextSetBit(slot + 1)) {
+            set.add(this.wellAt(slot));
+        }
+
+        return set.isEmpty() ? null : set;
+    }
+
+    /**
+     * Returns all wells with the matching column index or null if the column
+     * holds no wells.
+     * @param    int    the column index
+     * @return          wells with the matching column index
+     */
+    public WellSetInteger getColumn(int column) {
+
+        if(column < 1 || column > this.columns) {
+            return null;
+        }
+
+        WellSetInteger set = new WellSetInteger();
+
+        for(int slot = column - 1; slot < this.offsets.length; slot += this.columns) {
+            if(this.occupied.get(slot)) {
+                set.add(this.wellAt(slot));
+            }
+        }
+
+        return set.isEmpty() ? null : set;
+    }
+
+    /* ------------------------ Plate Parameter Methods --------------------- */
+
+    /**
+     * Returns the number of plate rows.
+     * @return    the number of rows
+     */
+    public int rows() {
+        return this.rows;
+    }
+
+    /**
+     * Returns the number of plate columns.
+     * @return    the number of columns
+     */
+    public int columns() {
+        return this.columns;
+    }
+
+    /**
+     * Returns the plate label.
+     * @return    the label
+     */
+    public String label() {
+        return this.label;
+    }
+
+    /**
+     * Returns the number of wells in the plate.
+     * @return    the number of wells
+     */
+    public int size() {
+        return this.occupied.cardinality();
+    }
+
+    /**
+     * Returns true if the plate contains no wells.
+     * @return    true if the plate is empty
+     */
+    public boolean isEmpty() {
+        return this.occupied.isEmpty();
+    }
+
+    /**
+     * Returns the total number of values held by the plate wells.
+     * @return    the number of values
+     */
+    public int valueCount() {
+        return this.values.length;
+    }
+
+    /* ------------------------- Conversion Methods ------------------------- */
+
+    /**
+     * Returns a standard integer plate holding copies of the wells and groups.
+     * @return    the integer plate
+     */
+    public PlateInteger toPlate() {
+
+        PlateInteger plate = new PlateInteger(this.rows, this.columns, this.label);
+
+        for(WellList list : this.groups) {
+            plate.addGroups(new WellList(list));
+        }
+
+        for(WellInteger well : this) {
+            plate.addWells(well);
+        }
+
+        return plate;
+    }
+
+    /**
+     * Returns an iterator over copies of the plate wells in slot order.
+     * @return    the iterator
+     */
+    public Iterator<WellInteger> iterator() {
+
+        return new Iterator<WellInteger>() {
+
+            private int slot = occupied.nextSetBit(0);
+
+            public boolean hasNext() {
+                return this.slot >= 0;
+            }
+
+            public WellInteger next() {
+
+                if(this.slot < 0) {
+                    throw new NoSuchElementException();
+                }
+
+                WellInteger well = wellAt(this.slot);
+                this.slot = occupied.nextSetBit(this.slot + 1);
+
+                return well;
+            }
+
+            public void remove() {
+                throw new UnsupportedOperationException("Dense plates cannot be modified.");
+            }
+        };
+    }
+
+    /* --------------------------- Private Methods -------------------------- */
+
+    /**
+     * Returns the slot for the well or throws an exception if no well exists at
+     * the row and column indices.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          the slot
+     */
+    private int occupiedSlot(int row, int column) {
+
+        int slot = this.slot(row, column);
+
+        if(!this.occupied.get(slot)) {
+            throw new NoSuchElementException("No well exists at row " + row
+                    + ", column " + column + ".");
+        }
+
+        return slot;
+    }
+
+    /**
+     * Returns a copy of the well stored in the slot.
+     * @param    int    the slot
+     * @return          the well
+     */
+    private WellInteger wellAt(int slot) {
+        int offset = this.offsets[slot];
+        return new WellInteger(this.row(slot), this.column(slot),
+                Ints.asList(Arrays.copyOfRange(this.values, offset, offset + this.lengths[slot])));
+    }
+}
@@ -162,5 +162,34 @@ public class CentralMomentInteger extends QuantileStatisticInteger {
     public double calculate(List<Double> list, int begin, int length, int p) {
         return this.calculate(list.subList(begin, begin + length), p);
     };
+    
+    /**
+     * Calculates the pth central moment of the values in a primitive array
+     * between the offset and the offset plus the length. The values are summed
+     * in the same order as the list, so the result matches the list result.
+     * @param    int[]    the array
+     * @param    int      index of the first value
+     * @param    int      number of values
+     * @param    int      pth central moment
+     * @return            the result
+     */
+    public double calculate(int[] array, int offset, int length, int p) {
+        
+        double mean = 0.0;
+        
+        for(int i = offset; i < offset + length; i++) {
+            mean += array[i];
+        }
+        
+        mean = mean / length;
+        
+        double result = 0;
+        
+        for(int i = offset; i < offset + length; i++) {
+            result += Math.pow(array[i] - mean, p);
+        }
+        
+        return result / length;
+    }
 
 }
@@ -201,5 +201,35 @@ public class CumulativeSumInteger extends DescriptiveStatisticListIntegerWeights
     public List<Double> calculate(List<Double> list, double[] weights, int begin, int length) {
         return calculate(list.subList(begin, begin + length), weights);
     }
+    
+    /**
+     * Calculates the cumulative sum of the values in a primitive array between 
+     * the offset and the offset plus the length. The running sum is held exactly 
+     * using a long.
+     * @param    int[]    the array
+     * @param    int      index of the first value
+     * @param    int      number of values
+     * @return            the result
+     */
+    public List<Double> calculate(int[] array, int offset, int length) {
+        
+        long sum = 0;
+        List<Double> result = new ArrayList<Double>(length);
+        
+        for(int i = offset; i < offset + length; i++) {
+            sum += array[i];
+            result.add((double) sum);
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Returns true. The cumulative sum is calculated from the integer well data.
+     * @return    true
+     */
+    public boolean isPrimitive() {
+        return true;
+    }
 
 }
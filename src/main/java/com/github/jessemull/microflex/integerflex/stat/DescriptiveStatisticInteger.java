@@ -24,16 +24,22 @@ package com.github.jessemull.microflex.integerflex.stat;
 /* ----------------------------- Dependencies ------------------------------ */
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.StackInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.github.jessemull.microflex.util.IntegerUtil;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs statistical operations for integer plate stacks, plates, 
@@ -185,7 +191,49 @@ import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
  * @email hello@jessemull.com
  */
 public abstract class DescriptiveStatisticInteger {
+
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private ForkJoinPool pool;    // Pool for parallel execution or null
+    
+    /* ------------------------- Parallel Execution ------------------------- */
+    
+    /**
+     * Sets the fork join pool used to calculate the statistic for the wells, 
+     * plates and sets in parallel. Results are merged in the same order used 
+     * by sequential execution. A null pool restores sequential execution.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    
+    /**
+     * Returns the fork join pool used for parallel execution or null if the 
+     * statistic is calculated sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
     
+    /**
+     * Enables parallel execution using the shared default pool or restores 
+     * sequential execution.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
+    
+    /**
+     * Returns true if the statistic is calculated in parallel.
+     * @return    true if parallel execution is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+        
     /* ---------------- Well statistics for all plate wells ----------------- */
     
     /**
@@ -199,9 +247,17 @@ public abstract class DescriptiveStatisticInteger {
         
         Map<WellInteger, Double> result = new TreeMap<WellInteger, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellInteger, Double>() {
+            public Double apply(WellInteger well) {
+                return well(well);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : plate) {
             WellInteger clone = new WellInteger(well);
-            result.put(clone, well(well));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -216,15 +272,23 @@ public abstract class DescriptiveStatisticInteger {
      * @param    int             length of subset
      * @return                   map of wells and results   
      */
-    public Map<WellInteger, Double> plate(PlateInteger plate, int begin, int length) {
+    public Map<WellInteger, Double> plate(PlateInteger plate, final int begin, final int length) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellInteger, Double> result = new TreeMap<WellInteger, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellInteger, Double>() {
+            public Double apply(WellInteger well) {
+                return well(well, begin, length);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : plate) {
             WellInteger clone = new WellInteger(well);
-            result.put(clone, well(well, begin, length));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -241,15 +305,7 @@ public abstract class DescriptiveStatisticInteger {
     public double platesAggregated(PlateInteger plate) {
         
         Preconditions.checkNotNull(plate, "The plate cannot be null.");
-
-        List<Double> aggregated = new ArrayList<Double>();
-            
-        for (WellInteger well : plate) {
-            aggregated.addAll(well.toDouble());
-        }
-      
-        return calculate(aggregated);
-        
+        return aggregate(plate, 0, -1);
     }
     
     /**
@@ -263,17 +319,16 @@ public abstract class DescriptiveStatisticInteger {
 
         Map<PlateInteger, Double> results = new TreeMap<PlateInteger, Double>();
         
-        for(PlateInteger plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-                aggregated.addAll(well.toDouble());
+        List<Double> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateInteger, Double>() {
+            public Double apply(PlateInteger plate) {
+                return aggregate(plate, 0, -1);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : collection) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -290,17 +345,16 @@ public abstract class DescriptiveStatisticInteger {
 
         Map<PlateInteger, Double> results = new TreeMap<PlateInteger, Double>();
         
-        for(PlateInteger plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-                aggregated.addAll(well.toDouble());
+        List<Double> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateInteger, Double>() {
+            public Double apply(PlateInteger plate) {
+                return aggregate(plate, 0, -1);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : array) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -318,15 +372,7 @@ public abstract class DescriptiveStatisticInteger {
             PlateInteger plate, int begin, int length) {
 
         Preconditions.checkNotNull(plate, "The plate cannot be null.");
-
-        List<Double> aggregated = new ArrayList<Double>();
-            
-        for (WellInteger well : plate) {
-            aggregated.addAll(well.toDouble().subList(begin, begin + length));
-        }
-
-        return calculate(aggregated);
-        
+        return aggregate(plate, begin, length);
     }
     
     /**
@@ -338,23 +384,22 @@ public abstract class DescriptiveStatisticInteger {
      * @return                               map of plates and aggregated results
      */
     public Map<PlateInteger, Double> platesAggregated(
-            Collection<PlateInteger> collection, int begin, int length) {
+            Collection<PlateInteger> collection, final int begin, final int length) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateInteger, Double> results = new TreeMap<PlateInteger, Double>();
         
-        for(PlateInteger plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-                aggregated.addAll(well.toDouble().subList(begin, begin + length));
+        List<Double> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateInteger, Double>() {
+            public Double apply(PlateInteger plate) {
+                return aggregate(plate, begin, length);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : collection) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -370,23 +415,22 @@ public abstract class DescriptiveStatisticInteger {
      * @return                     map of plates and aggregated results
      */
     public Map<PlateInteger, Double> platesAggregated(
-            PlateInteger[] array, int begin, int length) {
+            PlateInteger[] array, final int begin, final int length) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateInteger, Double> results = new TreeMap<PlateInteger, Double>();
         
-        for(PlateInteger plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-                aggregated.addAll(well.toDouble().subList(begin, begin + length));
+        List<Double> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateInteger, Double>() {
+            public Double apply(PlateInteger plate) {
+                return aggregate(plate, begin, length);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : array) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -406,9 +450,17 @@ public abstract class DescriptiveStatisticInteger {
     	
     	Map<WellInteger, Double> result = new TreeMap<WellInteger, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellInteger, Double>() {
+            public Double apply(WellInteger well) {
+                return well(well);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : set) {
             WellInteger clone = new WellInteger(well);
-            result.put(clone, well(well));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -423,15 +475,23 @@ public abstract class DescriptiveStatisticInteger {
      * @param    int               length of subset
      * @return                     map of wells and results
      */
-    public Map<WellInteger, Double> set(WellSetInteger set, int begin, int length) {
+    public Map<WellInteger, Double> set(WellSetInteger set, final int begin, final int length) {
         
     	Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellInteger, Double> result = new TreeMap<WellInteger, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellInteger, Double>() {
+            public Double apply(WellInteger well) {
+                return well(well, begin, length);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : set) {
-        	WellInteger clone = new WellInteger(well);
-            result.put(clone,  well(well, begin, length));
+            WellInteger clone = new WellInteger(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -448,15 +508,7 @@ public abstract class DescriptiveStatisticInteger {
     public double setsAggregated(WellSetInteger set) {
         
         Preconditions.checkNotNull(set, "The well set cannot be null.");
-
-        List<Double> aggregated = new ArrayList<Double>();
-        	
-        for (WellInteger well : set) {
-            aggregated.addAll(well.toDouble());
-        }
-      
-        return calculate(aggregated);
-        
+        return aggregate(set, 0, -1);
     }
     
     /**
@@ -470,17 +522,16 @@ public abstract class DescriptiveStatisticInteger {
 
         Map<WellSetInteger, Double> results = new TreeMap<WellSetInteger, Double>();
         
-        for(WellSetInteger set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-                aggregated.addAll(well.toDouble());
+        List<Double> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetInteger, Double>() {
+            public Double apply(WellSetInteger set) {
+                return aggregate(set, 0, -1);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : collection) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -497,17 +548,16 @@ public abstract class DescriptiveStatisticInteger {
 
         Map<WellSetInteger, Double> results = new TreeMap<WellSetInteger, Double>();
         
-        for(WellSetInteger set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-                aggregated.addAll(well.toDouble());
+        List<Double> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetInteger, Double>() {
+            public Double apply(WellSetInteger set) {
+                return aggregate(set, 0, -1);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : array) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -525,15 +575,7 @@ public abstract class DescriptiveStatisticInteger {
             WellSetInteger set, int begin, int length) {
 
         Preconditions.checkNotNull(set, "The well set cannot be null.");
-
-        List<Double> aggregated = new ArrayList<Double>();
-            
-        for (WellInteger well : set) {
-            aggregated.addAll(well.toDouble().subList(begin, begin + length));
-        }
-      
-        return calculate(aggregated);
-        
+        return aggregate(set, begin, length);
     }
     
     /**
@@ -545,23 +587,22 @@ public abstract class DescriptiveStatisticInteger {
      * @return                                 map of well sets and aggregated results
      */
     public Map<WellSetInteger, Double> setsAggregated(
-            Collection<WellSetInteger> collection, int begin, int length) {
+            Collection<WellSetInteger> collection, final int begin, final int length) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetInteger, Double> results = new TreeMap<WellSetInteger, Double>();
         
-        for(WellSetInteger set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-                aggregated.addAll(well.toDouble().subList(begin, begin + length));
+        List<Double> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetInteger, Double>() {
+            public Double apply(WellSetInteger set) {
+                return aggregate(set, begin, length);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : collection) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -577,27 +618,259 @@ public abstract class DescriptiveStatisticInteger {
      * @return                       map of well sets and aggregated results
      */
     public Map<WellSetInteger, Double> setsAggregated(
-            WellSetInteger[] array, int begin, int length) {
+            WellSetInteger[] array, final int begin, final int length) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetInteger, Double> results = new TreeMap<WellSetInteger, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetInteger, Double>() {
+            public Double apply(WellSetInteger set) {
+                return aggregate(set, begin, length);
+            }
+        });
+
+        int index = 0;
+
         for(WellSetInteger set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-                aggregated.addAll(well.toDouble().subList(begin, begin + length));
+            results.put(new WellSetInteger(set), values.get(index++));
+        }
+        
+        return results;
+        
+    }
+    
+    /* ------------------------- Stack statistics --------------------------  */
+    
+    /**
+     * Returns the statistic for each well of each plate in the stack. The plates 
+     * are processed in parallel when a pool is set.
+     * @param    StackInteger    the stack
+     * @return                   map of plates and well results
+     */
+    public Map<PlateInteger, Map<WellInteger, Double>> stack(StackInteger stack) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        
+        Map<PlateInteger, Map<WellInteger, Double>> results = new TreeMap<PlateInteger, Map<WellInteger, Double>>();
+        
+        List<Map<WellInteger, Double>> values = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateInteger, Map<WellInteger, Double>>() {
+            public Map<WellInteger, Double> apply(PlateInteger plate) {
+                return plate(plate);
             }
-      
-            results.put(clone, calculate(aggregated));
+        });
+        
+        int index = 0;
         
+        for(PlateInteger plate : stack) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
+    }
+    
+    /**
+     * Returns the statistic for each well of each plate in the stack using the 
+     * values between the indices. The plates are processed in parallel when a 
+     * pool is set.
+     * @param    StackInteger    the stack
+     * @param    int             beginning index of subset
+     * @param    int             length of subset
+     * @return                   map of plates and well results
+     */
+    public Map<PlateInteger, Map<WellInteger, Double>> stack(StackInteger stack, final int begin, final int length) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        
+        Map<PlateInteger, Map<WellInteger, Double>> results = new TreeMap<PlateInteger, Map<WellInteger, Double>>();
         
+        List<Map<WellInteger, Double>> values = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateInteger, Map<WellInteger, Double>>() {
+            public Map<WellInteger, Double> apply(PlateInteger plate) {
+                return plate(plate, begin, length);
+            }
+        });
+        
+        int index = 0;
+        
+        for(PlateInteger plate : stack) {
+            results.put(new PlateInteger(plate), values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /* ------------- Well statistics across the plates of a stack ----------  */
+    
+    /**
+     * Returns the statistic for each well position using the values of the well 
+     * in every plate of the stack. For example, the median of well A1 across the 
+     * replicate plates. The stack is read in a single sweep and the results are
+     * mapped to wells holding the values of each position.
+     * @param    StackInteger    the stack
+     * @return                   map of wells and results
+     */
+    public Map<WellInteger, Double> stackWells(StackInteger stack) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        
+        Collection<WellInteger> positions = this.positions(stack, 0, -1);
+        
+        Map<WellInteger, Double> results = new TreeMap<WellInteger, Double>();
+        
+        List<Double> values = ParallelUtil.map(this.pool, positions, new ParallelUtil.Task<WellInteger, Double>() {
+            public Double apply(WellInteger well) {
+                return well(well);
+            }
+        });
+        
+        int index = 0;
+        
+        for(WellInteger well : positions) {
+            results.put(well, values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Returns the statistic for each well position using the values between the
+     * indices of the well in every plate of the stack.
+     * @param    StackInteger    the stack
+     * @param    int             beginning index of subset
+     * @param    int             length of subset
+     * @return                   map of wells and results
+     */
+    public Map<WellInteger, Double> stackWells(StackInteger stack, int begin, int length) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        Preconditions.checkArgument(begin >= 0 && length >= 0, "Invalid subset.");
+        
+        Collection<WellInteger> positions = this.positions(stack, begin, length);
+        
+        Map<WellInteger, Double> results = new TreeMap<WellInteger, Double>();
+        
+        List<Double> values = ParallelUtil.map(this.pool, positions, new ParallelUtil.Task<WellInteger, Double>() {
+            public Double apply(WellInteger well) {
+                return well(well);
+            }
+        });
+        
+        int index = 0;
+        
+        for(WellInteger well : positions) {
+            results.put(well, values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /* --------------------- Aggregated stack statistics -------------------  */
+    
+    /**
+     * Returns the aggregated statistic for the stack.
+     * @param    StackInteger    the stack
+     * @return                   the aggregated result
+     */
+    public double stacksAggregated(StackInteger stack) {
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        return this.aggregate(stack, 0, -1);
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack. The stacks are processed
+     * in parallel when a pool is set.
+     * @param    Collection<StackInteger>    collection of stacks
+     * @return                               map of stacks and aggregated results
+     */
+    public Map<StackInteger, Double> stacksAggregated(Collection<StackInteger> collection) {
+        
+        Preconditions.checkNotNull(collection, "The stack collection cannot be null.");
+        
+        Map<StackInteger, Double> results = new LinkedHashMap<StackInteger, Double>();
+        
+        List<Double> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<StackInteger, Double>() {
+            public Double apply(StackInteger stack) {
+                return aggregate(stack, 0, -1);
+            }
+        });
+        
+        int index = 0;
+        
+        for(StackInteger stack : collection) {
+            results.put(new StackInteger(stack), values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack. The stacks are processed
+     * in parallel when a pool is set.
+     * @param    StackInteger[]    array of stacks
+     * @return                     map of stacks and aggregated results
+     */
+    public Map<StackInteger, Double> stacksAggregated(StackInteger[] array) {
+        Preconditions.checkNotNull(array, "The stack array cannot be null.");
+        return this.stacksAggregated(Arrays.asList(array));
+    }
+    
+    /**
+     * Returns the aggregated statistic for the stack using the values between 
+     * the indices.
+     * @param    StackInteger    the stack
+     * @param    int             beginning index of subset
+     * @param    int             length of subset
+     * @return                   the aggregated result
+     */
+    public double stacksAggregated(StackInteger stack, int begin, int length) {
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        Preconditions.checkArgument(begin >= 0 && length >= 0, "Invalid subset.");
+        return this.aggregate(stack, begin, length);
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack using the values between 
+     * the indices. The stacks are processed in parallel when a pool is set.
+     * @param    Collection<StackInteger>    collection of stacks
+     * @param    int                         beginning index of subset
+     * @param    int                         length of subset
+     * @return                               map of stacks and aggregated results
+     */
+    public Map<StackInteger, Double> stacksAggregated(
+            Collection<StackInteger> collection, final int begin, final int length) {
+        
+        Preconditions.checkNotNull(collection, "The stack collection cannot be null.");
+        Preconditions.checkArgument(begin >= 0 && length >= 0, "Invalid subset.");
+        
+        Map<StackInteger, Double> results = new LinkedHashMap<StackInteger, Double>();
+        
+        List<Double> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<StackInteger, Double>() {
+            public Double apply(StackInteger stack) {
+                return aggregate(stack, begin, length);
+            }
+        });
+        
+        int index = 0;
+        
+        for(StackInteger stack : collection) {
+            results.put(new StackInteger(stack), values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack using the values between 
+     * the indices. The stacks are processed in parallel when a pool is set.
+     * @param    StackInteger[]    array of stacks
+     * @param    int               beginning index of subset
+     * @param    int               length of subset
+     * @return                     map of stacks and aggregated results
+     */
+    public Map<StackInteger, Double> stacksAggregated(
+            StackInteger[] array, int begin, int length) {
+        Preconditions.checkNotNull(array, "The stack array cannot be null.");
+        return this.stacksAggregated(Arrays.asList(array), begin, length);
     }
     
     /* -------------------------- Well statistics --------------------------  */
@@ -609,6 +882,11 @@ public abstract class DescriptiveStatisticInteger {
      */
     public double well(WellInteger well) {
         Preconditions.checkNotNull(well, "The well cannot be null.");
+        
+        if(this.isPrimitive()) {
+            return calculate(well.toIntArray(), 0, well.size());
+        }
+        
         return calculate(well.toDouble());      
     }
     
@@ -622,9 +900,14 @@ public abstract class DescriptiveStatisticInteger {
      */
     public double well(WellInteger well, int begin, int length) {
         Preconditions.checkNotNull(well, "The well cannot be null.");
-        Preconditions.checkArgument(begin <= well.toDouble().size() &&
+        Preconditions.checkArgument(begin <= well.size() &&
                                     begin >= 0 &&
-                                    begin + length <= well.toDouble().size());   
+                                    begin + length <= well.size());   
+        
+        if(this.isPrimitive()) {
+            return calculate(well.toIntArray(), begin, length);
+        }
+        
         return calculate(well.toDouble(), begin, length);
         
     }
@@ -646,4 +929,218 @@ public abstract class DescriptiveStatisticInteger {
      * @return                   the result
      */
     public abstract double calculate(List<Double> list, int begin, int length);
+    
+    /* ----- Methods for calculating the statistic of a primitive array ----  */
+    
+    /**
+     * Returns true if well statistics are calculated from the integer well data
+     * using the primitive array calculate method. Mergeable statistics are 
+     * primitive by default. Statistics overriding the primitive array calculate 
+     * method with an integer kernel override this method. Other statistics 
+     * calculate well statistics using a list of doubles, which avoids copying 
+     * the well data twice.
+     * @return    true if the statistic is primitive
+     */
+    public boolean isPrimitive() {
+        return this.isMergeable();
+    }
+    
+    /**
+     * Calculates the statistic of the values in a primitive array between the 
+     * offset and the offset plus the length. Mergeable statistics are 
+     * calculated using a summary of the values. By default other statistics 
+     * convert the values to a list of doubles and calculate the statistic using 
+     * the list.
+     * @param    int[]    the array
+     * @param    int      index of the first value
+     * @param    int      number of values
+     * @return            the result
+     */
+    public double calculate(int[] array, int offset, int length) {
+        
+        if(this.isMergeable()) {
+            SummaryInteger summary = new SummaryInteger();
+            summary.add(array, offset, length);
+            return calculate(summary);
+        }
+        
+        return calculate(IntegerUtil.toDoubleList(array, offset, length));
+    }
+    
+    /* --------- Methods for calculating the statistic of a summary --------  */
+    
+    /**
+     * Returns true if the statistic can be calculated from a summary of the 
+     * values. Aggregated plate, set and stack statistics for mergeable statistics
+     * merge the summaries of the wells and plates instead of copying the values 
+     * of every well into a list. Statistics calculated from the count, sum, 
+     * product, extrema or moments of the values override this method and the 
+     * summary calculate method.
+     * @return    true if the statistic is mergeable
+     */
+    public boolean isMergeable() {
+        return false;
+    }
+    
+    /**
+     * Calculates the statistic using a summary of the values. Mergeable 
+     * statistics override this method.
+     * @param    SummaryInteger    the summary
+     * @return                     the result
+     * @throws    UnsupportedOperationException    if the statistic is not mergeable
+     */
+    public double calculate(SummaryInteger summary) {
+        throw new UnsupportedOperationException("The statistic cannot be calculated from a summary.");
+    }
+    
+    /* ------------------------ Aggregation helpers ------------------------  */
+    
+    /**
+     * Returns the aggregated statistic for the wells. Mergeable statistics are
+     * calculated from a summary of the values and other statistics using a list
+     * holding the values of every well. A negative length uses all the values 
+     * of each well.
+     * @param    Iterable<WellInteger>    the wells
+     * @param    int                      beginning index of subset
+     * @param    int                      length of subset or -1
+     * @return                            the aggregated result
+     */
+    private double aggregate(Iterable<WellInteger> wells, int begin, int length) {
+        
+        if(this.isMergeable()) {
+            return calculate(this.summary(wells, begin, length));
+        }
+        
+        List<Double> aggregated = new ArrayList<Double>();
+        
+        for(WellInteger well : wells) {
+            aggregated.addAll(length < 0 ? well.toDouble() : well.toDouble().subList(begin, begin + length));
+        }
+        
+        return calculate(aggregated);
+    }
+    
+    /**
+     * Returns the aggregated statistic for the stack. A negative length uses 
+     * all the values of each well.
+     * @param    StackInteger    the stack
+     * @param    int             beginning index of subset
+     * @param    int             length of subset or -1
+     * @return                   the aggregated result
+     */
+    private double aggregate(StackInteger stack, int begin, int length) {
+        
+        if(this.isMergeable()) {
+            return calculate(this.summary(stack, begin, length));
+        }
+        
+        return calculate(this.aggregated(stack, begin, length));
+    }
+    
+    /**
+     * Returns the summary of the values in the wells. A negative length uses 
+     * all the values of each well.
+     * @param    Iterable<WellInteger>    the wells
+     * @param    int                      beginning index of subset
+     * @param    int                      length of subset or -1
+     * @return                            the summary
+     */
+    private SummaryInteger summary(Iterable<WellInteger> wells, int begin, int length) {
+        
+        SummaryInteger summary = new SummaryInteger();
+        
+        for(WellInteger well : wells) {
+            int[] values = well.toIntArray();
+            
+            if(length < 0) {
+                summary.add(values, 0, values.length);
+            } else {
+                Preconditions.checkPositionIndexes(begin, begin + length, values.length);
+                summary.add(values, begin, length);
+            }
+        }
+        
+        return summary;
+    }
+    
+    /**
+     * Returns the summary of the values in the stack. A partial summary is 
+     * calculated for each plate, in parallel when a pool is set, and the 
+     * partial summaries are merged.
+     * @param    StackInteger    the stack
+     * @param    int             beginning index of subset
+     * @param    int             length of subset or -1
+     * @return                   the summary
+     */
+    private SummaryInteger summary(StackInteger stack, final int begin, final int length) {
+        
+        List<SummaryInteger> partials = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateInteger, SummaryInteger>() {
+            public SummaryInteger apply(PlateInteger plate) {
+                return summary(plate, begin, length);
+            }
+        });
+        
+        SummaryInteger summary = new SummaryInteger();
+        
+        for(SummaryInteger partial : partials) {
+            summary.merge(partial);
+        }
+        
+        return summary;
+    }
+    
+    /* ---------------------- Stack sweep helpers --------------------------  */
+    
+    /**
+     * Returns the values of every well in the stack. A negative length adds all 
+     * the values of each well.
+     * @param    StackInteger    the stack
+     * @param    int             beginning index of subset
+     * @param    int             length of subset or -1
+     * @return                   the values
+     */
+    private List<Double> aggregated(StackInteger stack, int begin, int length) {
+        
+        List<Double> aggregated = new ArrayList<Double>();
+        
+        for(PlateInteger plate : stack) {
+            for(WellInteger well : plate) {
+                aggregated.addAll(length < 0 ? well.toDouble() : well.toDouble().subList(begin, begin + length));
+            }
+        }
+        
+        return aggregated;
+    }
+    
+    /**
+     * Sweeps the stack once and returns a well for each well position holding 
+     * the values of the position from every plate. A negative length adds all
+     * the values of each well.
+     * @param    StackInteger    the stack
+     * @param    int             beginning index of subset
+     * @param    int             length of subset or -1
+     * @return                   the wells in row and column order
+     */
+    private Collection<WellInteger> positions(StackInteger stack, int begin, int length) {
+        
+        Map<WellInteger, WellInteger> positions = new TreeMap<WellInteger, WellInteger>();
+        
+        for(PlateInteger plate : stack) {
+            
+            for(WellInteger well : plate) {
+                
+                WellInteger position = positions.get(well);
+                
+                if(position == null) {
+                    position = new WellInteger(well.row(), well.column());
+                    positions.put(position, position);
+                }
+                
+                position.add(length < 0 ? well.data() : well.data().subList(begin, begin + length));
+            }
+        }
+        
+        return positions.values();
+    }
+    
 }
@@ -28,12 +28,15 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.github.jessemull.microflex.util.IntegerUtil;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs statistical operations for integer plate stacks, plates, 
@@ -186,7 +189,49 @@ import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
  * @email hello@jessemull.com
  */
 public abstract class DescriptiveStatisticListInteger {
+
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private ForkJoinPool pool;    // Pool for parallel execution or null
+    
+    /* ------------------------- Parallel Execution ------------------------- */
     
+    /**
+     * Sets the fork join pool used to calculate the statistic for the wells, 
+     * plates and sets in parallel. Results are merged in the same order used 
+     * by sequential execution. A null pool restores sequential execution.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    
+    /**
+     * Returns the fork join pool used for parallel execution or null if the 
+     * statistic is calculated sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+    
+    /**
+     * Enables parallel execution using the shared default pool or restores 
+     * sequential execution.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
+    
+    /**
+     * Returns true if the statistic is calculated in parallel.
+     * @return    true if parallel execution is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+        
     /* ---------------- Well statistics for all plate wells ----------------- */
     
     /**
@@ -200,9 +245,17 @@ public abstract class DescriptiveStatisticListInteger {
         
         Map<WellInteger, List<Double>> result = new TreeMap<WellInteger, List<Double>>();
         
+        List<List<Double>> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellInteger, List<Double>>() {
+            public List<Double> apply(WellInteger well) {
+                return well(well);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : plate) {
             WellInteger clone = new WellInteger(well);
-            result.put(clone, well(well));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -217,15 +270,23 @@ public abstract class DescriptiveStatisticListInteger {
      * @param    int             length of subset
      * @return                   map of wells and results   
      */
-    public Map<WellInteger, List<Double>> plate(PlateInteger plate, int begin, int length) {
+    public Map<WellInteger, List<Double>> plate(PlateInteger plate, final int begin, final int length) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellInteger, List<Double>> result = new TreeMap<WellInteger, List<Double>>();
         
+        List<List<Double>> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellInteger, List<Double>>() {
+            public List<Double> apply(WellInteger well) {
+                return well(well, begin, length);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : plate) {
             WellInteger clone = new WellInteger(well);
-            result.put(clone, well(well, begin, length));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -264,17 +325,23 @@ public abstract class DescriptiveStatisticListInteger {
 
         Map<PlateInteger, List<Double>> results = new TreeMap<PlateInteger, List<Double>>();
         
-        for(PlateInteger plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-                aggregated.addAll(well.toDouble());
+        List<List<Double>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateInteger, List<Double>>() {
+            public List<Double> apply(PlateInteger plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : plate) {
+                    aggregated.addAll(well.toDouble());
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : collection) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -291,17 +358,23 @@ public abstract class DescriptiveStatisticListInteger {
 
         Map<PlateInteger, List<Double>> results = new TreeMap<PlateInteger, List<Double>>();
         
-        for(PlateInteger plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-                aggregated.addAll(well.toDouble());
+        List<List<Double>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateInteger, List<Double>>() {
+            public List<Double> apply(PlateInteger plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : plate) {
+                    aggregated.addAll(well.toDouble());
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : array) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -339,23 +412,29 @@ public abstract class DescriptiveStatisticListInteger {
      * @return                               map of plates and aggregated results
      */
     public Map<PlateInteger, List<Double>> platesAggregated(
-            Collection<PlateInteger> collection, int begin, int length) {
+            Collection<PlateInteger> collection, final int begin, final int length) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateInteger, List<Double>> results = new TreeMap<PlateInteger, List<Double>>();
         
-        for(PlateInteger plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-                aggregated.addAll(well.toDouble().subList(begin, begin + length));
+        List<List<Double>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateInteger, List<Double>>() {
+            public List<Double> apply(PlateInteger plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : plate) {
+                    aggregated.addAll(well.toDouble().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : collection) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -371,23 +450,29 @@ public abstract class DescriptiveStatisticListInteger {
      * @return                     map of plates and aggregated results
      */
     public Map<PlateInteger, List<Double>> platesAggregated(
-            PlateInteger[] array, int begin, int length) {
+            PlateInteger[] array, final int begin, final int length) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateInteger, List<Double>> results = new TreeMap<PlateInteger, List<Double>>();
         
-        for(PlateInteger plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-                aggregated.addAll(well.toDouble().subList(begin, begin + length));
+        List<List<Double>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateInteger, List<Double>>() {
+            public List<Double> apply(PlateInteger plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : plate) {
+                    aggregated.addAll(well.toDouble().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : array) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -407,9 +492,17 @@ public abstract class DescriptiveStatisticListInteger {
     	
     	Map<WellInteger, List<Double>> result = new TreeMap<WellInteger, List<Double>>();
         
+        List<List<Double>> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellInteger, List<Double>>() {
+            public List<Double> apply(WellInteger well) {
+                return well(well);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : set) {
             WellInteger clone = new WellInteger(well);
-            result.put(clone, well(well));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -424,15 +517,23 @@ public abstract class DescriptiveStatisticListInteger {
      * @param    int               length of subset
      * @return                     map of wells and results
      */
-    public Map<WellInteger, List<Double>> set(WellSetInteger set, int begin, int length) {
+    public Map<WellInteger, List<Double>> set(WellSetInteger set, final int begin, final int length) {
         
     	Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellInteger, List<Double>> result = new TreeMap<WellInteger, List<Double>>();
         
+        List<List<Double>> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellInteger, List<Double>>() {
+            public List<Double> apply(WellInteger well) {
+                return well(well, begin, length);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : set) {
-        	WellInteger clone = new WellInteger(well);
-            result.put(clone,  well(well, begin, length));
+            WellInteger clone = new WellInteger(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -471,17 +572,23 @@ public abstract class DescriptiveStatisticListInteger {
 
         Map<WellSetInteger, List<Double>> results = new TreeMap<WellSetInteger, List<Double>>();
         
-        for(WellSetInteger set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-                aggregated.addAll(well.toDouble());
+        List<List<Double>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetInteger, List<Double>>() {
+            public List<Double> apply(WellSetInteger set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : set) {
+                    aggregated.addAll(well.toDouble());
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : collection) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -498,17 +605,23 @@ public abstract class DescriptiveStatisticListInteger {
 
         Map<WellSetInteger, List<Double>> results = new TreeMap<WellSetInteger, List<Double>>();
         
-        for(WellSetInteger set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-                aggregated.addAll(well.toDouble());
+        List<List<Double>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetInteger, List<Double>>() {
+            public List<Double> apply(WellSetInteger set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : set) {
+                    aggregated.addAll(well.toDouble());
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : array) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -546,23 +659,29 @@ public abstract class DescriptiveStatisticListInteger {
      * @return                                 map of well sets and aggregated results
      */
     public Map<WellSetInteger, List<Double>> setsAggregated(
-            Collection<WellSetInteger> collection, int begin, int length) {
+            Collection<WellSetInteger> collection, final int begin, final int length) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetInteger, List<Double>> results = new TreeMap<WellSetInteger, List<Double>>();
         
-        for(WellSetInteger set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-                aggregated.addAll(well.toDouble().subList(begin, begin + length));
+        List<List<Double>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetInteger, List<Double>>() {
+            public List<Double> apply(WellSetInteger set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : set) {
+                    aggregated.addAll(well.toDouble().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : collection) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -578,23 +697,29 @@ public abstract class DescriptiveStatisticListInteger {
      * @return                       map of well sets and aggregated results
      */
     public Map<WellSetInteger, List<Double>> setsAggregated(
-            WellSetInteger[] array, int begin, int length) {
+            WellSetInteger[] array, final int begin, final int length) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetInteger, List<Double>> results = new TreeMap<WellSetInteger, List<Double>>();
         
-        for(WellSetInteger set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-                aggregated.addAll(well.toDouble().subList(begin, begin + length));
+        List<List<Double>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetInteger, List<Double>>() {
+            public List<Double> apply(WellSetInteger set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : set) {
+                    aggregated.addAll(well.toDouble().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : array) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -610,6 +735,11 @@ public abstract class DescriptiveStatisticListInteger {
      */
     public List<Double> well(WellInteger well) {
         Preconditions.checkNotNull(well, "The well cannot be null.");
+        
+        if(this.isPrimitive()) {
+            return calculate(well.toIntArray(), 0, well.size());
+        }
+        
         return calculate(well.toDouble());      
     }
     
@@ -623,9 +753,14 @@ public abstract class DescriptiveStatisticListInteger {
      */
     public List<Double> well(WellInteger well, int begin, int length) {
         Preconditions.checkNotNull(well, "The well cannot be null.");
-        Preconditions.checkArgument(begin <= well.data().size() &&
+        Preconditions.checkArgument(begin <= well.size() &&
                                     begin >= 0 &&
-                                    begin + length <= well.data().size());   
+                                    begin + length <= well.size());   
+        
+        if(this.isPrimitive()) {
+            return calculate(well.toIntArray(), begin, length);
+        }
+        
         return calculate(well.toDouble(), begin, length);
         
     }
@@ -647,4 +782,32 @@ public abstract class DescriptiveStatisticListInteger {
      * @return                   the result
      */
     public abstract List<Double> calculate(List<Double> list, int begin, int length);
+    
+    /* ----- Methods for calculating the statistic of a primitive array ----  */
+    
+    /**
+     * Returns true if well statistics are calculated from the integer well data
+     * using the primitive array calculate method. Statistics overriding the 
+     * primitive array calculate method with an integer kernel override this 
+     * method. Other statistics calculate well statistics using a list of 
+     * doubles, which avoids copying the well data twice.
+     * @return    true if the statistic is primitive
+     */
+    public boolean isPrimitive() {
+        return false;
+    }
+    
+    /**
+     * Calculates the statistic of the values in a primitive array between the 
+     * offset and the offset plus the length. By default the values are 
+     * converted to a list of doubles and the statistic is calculated using the
+     * list.
+     * @param    int[]    the array
+     * @param    int      index of the first value
+     * @param    int      number of values
+     * @return            the result
+     */
+    public List<Double> calculate(int[] array, int offset, int length) {
+        return calculate(IntegerUtil.toDoubleList(array, offset, length));
+    }
 }
@@ -34,6 +34,7 @@ import com.google.common.base.Preconditions;
 import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class performs weighted statistical operations for integer plate stacks, 
@@ -187,15 +188,23 @@ public abstract class DescriptiveStatisticListIntegerWeights extends Descriptive
      * @param    double[]        weights for the data set
      * @return                   map of wells and results
      */
-    public Map<WellInteger, List<Double>> plate(PlateInteger plate, double[] weights) {
+    public Map<WellInteger, List<Double>> plate(PlateInteger plate, final double[] weights) {
 
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
     	
     	Map<WellInteger, List<Double>> result = new TreeMap<WellInteger, List<Double>>();
         
+        List<List<Double>> values = ParallelUtil.map(this.pool(), plate, new ParallelUtil.Task<WellInteger, List<Double>>() {
+            public List<Double> apply(WellInteger well) {
+                return well(well, weights);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : plate) {
             WellInteger clone = new WellInteger(well);
-            result.put(clone, well(well, weights));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -211,15 +220,23 @@ public abstract class DescriptiveStatisticListIntegerWeights extends Descriptive
      * @param    int             length of subset
      * @return                   map of wells and results
      */
-    public Map<WellInteger, List<Double>> plate(PlateInteger plate, double[] weights, int begin, int length) {
+    public Map<WellInteger, List<Double>> plate(PlateInteger plate, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
     	
     	Map<WellInteger, List<Double>> result = new TreeMap<WellInteger, List<Double>>();
         
+        List<List<Double>> values = ParallelUtil.map(this.pool(), plate, new ParallelUtil.Task<WellInteger, List<Double>>() {
+            public List<Double> apply(WellInteger well) {
+                return well(well, weights, begin, length);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : plate) {
             WellInteger clone = new WellInteger(well);
-            result.put(clone, well(well, weights, begin, length));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -262,29 +279,35 @@ public abstract class DescriptiveStatisticListIntegerWeights extends Descriptive
      * @return                               map of plates and aggregated results
      */
     public Map<PlateInteger, List<Double>> platesAggregated(
-            Collection<PlateInteger> collection, double[] weights) {
+            Collection<PlateInteger> collection, final double[] weights) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateInteger, List<Double>> results = new TreeMap<PlateInteger, List<Double>>();
         
-        for(PlateInteger plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-
-            	List<Double> input = well.toDouble();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<List<Double>> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<PlateInteger, List<Double>>() {
+            public List<Double> apply(PlateInteger plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : plate) {
+
+                	List<Double> input = well.toDouble();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : collection) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -298,29 +321,35 @@ public abstract class DescriptiveStatisticListIntegerWeights extends Descriptive
      * @return                     map of plates and aggregated results
      */
     public Map<PlateInteger, List<Double>> platesAggregated(
-            PlateInteger[] array, double[] weights) {
+            PlateInteger[] array, final double[] weights) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateInteger, List<Double>> results = new TreeMap<PlateInteger, List<Double>>();
         
-        for(PlateInteger plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-
-            	List<Double> input = well.toDouble();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<List<Double>> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<PlateInteger, List<Double>>() {
+            public List<Double> apply(PlateInteger plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : plate) {
+
+                	List<Double> input = well.toDouble();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : array) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -366,29 +395,35 @@ public abstract class DescriptiveStatisticListIntegerWeights extends Descriptive
      * @return                               map of plates and aggregated results
      */
     public Map<PlateInteger, List<Double>> platesAggregated(
-            Collection<PlateInteger> collection, double[] weights, int begin, int length) {
+            Collection<PlateInteger> collection, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateInteger, List<Double>> results = new TreeMap<PlateInteger, List<Double>>();
         
-        for(PlateInteger plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-
-            	List<Double> input = well.toDouble().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<List<Double>> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<PlateInteger, List<Double>>() {
+            public List<Double> apply(PlateInteger plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : plate) {
+
+                	List<Double> input = well.toDouble().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : collection) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -405,29 +440,35 @@ public abstract class DescriptiveStatisticListIntegerWeights extends Descriptive
      * @return                     map of plates and aggregated results
      */
     public Map<PlateInteger, List<Double>> platesAggregated(
-            PlateInteger[] array, double[] weights, int begin, int length) {
+            PlateInteger[] array, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateInteger, List<Double>> results = new TreeMap<PlateInteger, List<Double>>();
         
-        for(PlateInteger plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-
-            	List<Double> input = well.toDouble().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<List<Double>> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<PlateInteger, List<Double>>() {
+            public List<Double> apply(PlateInteger plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : plate) {
+
+                	List<Double> input = well.toDouble().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : array) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -442,15 +483,23 @@ public abstract class DescriptiveStatisticListIntegerWeights extends Descriptive
      * @param    double[]          weights for the data set
      * @return                     map of wells and results
      */
-    public Map<WellInteger, List<Double>> set(WellSetInteger set, double[] weights) {
+    public Map<WellInteger, List<Double>> set(WellSetInteger set, final double[] weights) {
 
     	Preconditions.checkNotNull(set, "The set cannot be null.");
     	
     	Map<WellInteger, List<Double>> result = new TreeMap<WellInteger, List<Double>>();
         
+        List<List<Double>> values = ParallelUtil.map(this.pool(), set, new ParallelUtil.Task<WellInteger, List<Double>>() {
+            public List<Double> apply(WellInteger well) {
+                return well(well, weights);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : set) {
-        	WellInteger clone = new WellInteger(well);
-            result.put(clone,  well(well, weights));
+            WellInteger clone = new WellInteger(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -466,15 +515,23 @@ public abstract class DescriptiveStatisticListIntegerWeights extends Descriptive
      * @param    int               length of subset
      * @return                     map of wells and results
      */
-    public Map<WellInteger, List<Double>> set(WellSetInteger set, double[] weights, int begin, int length) {
+    public Map<WellInteger, List<Double>> set(WellSetInteger set, final double[] weights, final int begin, final int length) {
 
         Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellInteger, List<Double>> result = new TreeMap<WellInteger, List<Double>>();
         
+        List<List<Double>> values = ParallelUtil.map(this.pool(), set, new ParallelUtil.Task<WellInteger, List<Double>>() {
+            public List<Double> apply(WellInteger well) {
+                return well(well, weights, begin, length);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : set) {
-        	WellInteger clone = new WellInteger(well);
-            result.put(clone,  well(well, weights, begin, length));
+            WellInteger clone = new WellInteger(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -517,29 +574,35 @@ public abstract class DescriptiveStatisticListIntegerWeights extends Descriptive
      * @return                                 map of well sets and aggregated results
      */
     public Map<WellSetInteger, List<Double>> setsAggregated(
-            Collection<WellSetInteger> collection, double[] weights) {
+            Collection<WellSetInteger> collection, final double[] weights) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetInteger, List<Double>> results = new TreeMap<WellSetInteger, List<Double>>();
         
-        for(WellSetInteger set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-
-            	List<Double> input = well.toDouble();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<List<Double>> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<WellSetInteger, List<Double>>() {
+            public List<Double> apply(WellSetInteger set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : set) {
+
+                	List<Double> input = well.toDouble();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : collection) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -553,29 +616,35 @@ public abstract class DescriptiveStatisticListIntegerWeights extends Descriptive
      * @return                       map of well sets and aggregated results
      */
     public Map<WellSetInteger, List<Double>> setsAggregated(
-            WellSetInteger[] array, double[] weights) {
+            WellSetInteger[] array, final double[] weights) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetInteger, List<Double>> results = new TreeMap<WellSetInteger, List<Double>>();
         
-        for(WellSetInteger set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-
-            	List<Double> input = well.toDouble();
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<List<Double>> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<WellSetInteger, List<Double>>() {
+            public List<Double> apply(WellSetInteger set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : set) {
+
+                	List<Double> input = well.toDouble();
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : array) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -621,29 +690,35 @@ public abstract class DescriptiveStatisticListIntegerWeights extends Descriptive
      * @return                                 map of well sets and aggregated results
      */
     public Map<WellSetInteger, List<Double>> setsAggregated(
-            Collection<WellSetInteger> collection, double[] weights, int begin, int length) {
+            Collection<WellSetInteger> collection, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetInteger, List<Double>> results = new TreeMap<WellSetInteger, List<Double>>();
         
-        for(WellSetInteger set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-
-            	List<Double> input = well.toDouble().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<List<Double>> values = ParallelUtil.map(this.pool(), collection, new ParallelUtil.Task<WellSetInteger, List<Double>>() {
+            public List<Double> apply(WellSetInteger set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : set) {
+
+                	List<Double> input = well.toDouble().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : collection) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -660,29 +735,35 @@ public abstract class DescriptiveStatisticListIntegerWeights extends Descriptive
      * @return                       map of well sets and aggregated results
      */
     public Map<WellSetInteger, List<Double>> setsAggregated(
-            WellSetInteger[] array, double[] weights, int begin, int length) {
+            WellSetInteger[] array, final double[] weights, final int begin, final int length) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetInteger, List<Double>> results = new TreeMap<WellSetInteger, List<Double>>();
         
-        for(WellSetInteger set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-
-            	List<Double> input = well.toDouble().subList(begin, begin + length);
-            	
-            	for(int i = 0; i < input.size(); i++) {
-            		aggregated.add(input.get(i) * weights[i]);
-            	}
-            	
+        List<List<Double>> values = ParallelUtil.map(this.pool(), array, new ParallelUtil.Task<WellSetInteger, List<Double>>() {
+            public List<Double> apply(WellSetInteger set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : set) {
+
+                	List<Double> input = well.toDouble().subList(begin, begin + length);
+
+                	for(int i = 0; i < input.size(); i++) {
+                		aggregated.add(input.get(i) * weights[i]);
+                	}
+
+                }
+
+                return calculate(aggregated);
             }
-      
-            results.put(clone, calculate(aggregated));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : array) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -195,4 +195,21 @@ public class KurtosisInteger extends DescriptiveStatisticInteger {
         return sum / list.size();
     }
     
+    /**
+     * Returns true. The kurtosis is calculated from the moments of a summary of
+     * the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the kurtosis using a summary of the values.
+     * @param    SummaryInteger    the summary
+     * @return                     the result
+     */
+    public double calculate(SummaryInteger summary) {
+        return summary.kurtosis();
+    }
 }
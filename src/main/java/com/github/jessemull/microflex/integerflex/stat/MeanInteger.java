@@ -204,4 +204,44 @@ public class MeanInteger extends DescriptiveStatisticIntegerWeights {
     public double calculate(List<Double> list, double[] weights, int begin, int length) {
         return calculate(list.subList(begin, begin + length), weights);
     }
+    
+    /**
+     * Calculates the mean of the values in a primitive array between the offset 
+     * and the offset plus the length. The values are summed exactly using a long.
+     * @param    int[]    the array
+     * @param    int      index of the first value
+     * @param    int      number of values
+     * @return            the result
+     */
+    public double calculate(int[] array, int offset, int length) {
+        
+        if(length == 0) {
+            return 0;
+        }
+        
+        long sum = 0;
+        
+        for(int i = offset; i < offset + length; i++) {
+            sum += array[i];
+        }
+        
+        return (double) sum / length;
+    }
+    
+    /**
+     * Returns true. The mean is calculated from a summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the mean using a summary of the values.
+     * @param    SummaryInteger    the summary
+     * @return                     the result
+     */
+    public double calculate(SummaryInteger summary) {
+        return summary.n() == 0 ? 0 : summary.sum() / summary.n();
+    }
 }
@@ -23,11 +23,13 @@ package com.github.jessemull.microflex.integerflex.stat;
 
 /* ----------------------------- Dependencies ------------------------------ */
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
+import com.google.common.primitives.Doubles;
+
 import com.github.jessemull.microflex.integerflex.stat.DescriptiveStatisticInteger;
+import com.github.jessemull.microflex.util.IntegerUtil;
+import com.github.jessemull.microflex.util.SelectionUtil;
 
 /**
  * This class calculates the median deviation of integer plate stacks, plates, 
@@ -134,30 +136,7 @@ public class MedianDeviationInteger extends DescriptiveStatisticInteger {
      * @return                   the result
      */
     public double calculate(List<Double> list) {
-        
-        Collections.sort(list);
-        
-        if(list.size() < 2) {
-            return 0;
-        }
-
-        int lowQ2 = (int) Math.floor((list.size() - 1.0) / 2.0);
-        int highQ2 = (int) Math.ceil((list.size() - 1.0) / 2.0);
-        double q2 = (list.get(lowQ2) + list.get(highQ2)) / 2;
-        
-        List<Double> differences = new ArrayList<Double>();
-        
-        for(double value : list) {
-        	differences.add(Math.abs(value - q2));
-        }
-        
-        Collections.sort(differences);
-        
-        int lowDiff = (int) Math.floor((differences.size() - 1.0) / 2.0);
-        int highDiff = (int) Math.ceil((differences.size() - 1.0) / 2.0);
-        double qDiff = (differences.get(lowDiff) + differences.get(highDiff)) / 2;
-        
-        return qDiff;
+        return this.deviation(Doubles.toArray(list));
     }
     
     /**
@@ -171,5 +150,48 @@ public class MedianDeviationInteger extends DescriptiveStatisticInteger {
     public double  calculate(List<Double> list, int begin, int length) {
         return calculate(list.subList(begin, begin + length));
     }
+    
+    /**
+     * Calculates the median absolute deviation using a scratch array. The
+     * values in the array are overwritten.
+     * @param    double[]    the scratch array
+     * @return               the result
+     */
+    private double deviation(double[] values) {
+        
+        if(values.length < 2) {
+            return 0;
+        }
+        
+        double q2 = SelectionUtil.median(values, 0, values.length);
+        
+        for(int i = 0; i < values.length; i++) {
+        	values[i] = Math.abs(values[i] - q2);
+        }
+        
+        return SelectionUtil.median(values, 0, values.length);
+    }
+    
+    /**
+     * Returns true. The median deviation is calculated from the integer well
+     * data.
+     * @return    true
+     */
+    public boolean isPrimitive() {
+        return true;
+    }
+    
+    /**
+     * Calculates the median deviation of the values in a primitive array between
+     * the offset and the offset plus the length. The values are copied to a
+     * scratch array of doubles.
+     * @param    int[]    the array
+     * @param    int      index of the first value
+     * @param    int      number of values
+     * @return            the result
+     */
+    public double calculate(int[] array, int offset, int length) {
+        return this.deviation(IntegerUtil.toDoubleArray(array, offset, length));
+    }
 
 }
@@ -23,10 +23,13 @@ package com.github.jessemull.microflex.integerflex.stat;
 
 /* ----------------------------- Dependencies ------------------------------ */
 
-import java.util.Collections;
 import java.util.List;
 
+import com.google.common.primitives.Doubles;
+
 import com.github.jessemull.microflex.integerflex.stat.DescriptiveStatisticInteger;
+import com.github.jessemull.microflex.util.IntegerUtil;
+import com.github.jessemull.microflex.util.SelectionUtil;
 
 /**
  * This class calculates the median of integer plate stacks, plates, 
@@ -133,18 +136,7 @@ public class MedianInteger extends DescriptiveStatisticInteger {
      * @return                   the result
      */
     public double calculate(List<Double> list) {
-        
-        Collections.sort(list);
-        
-        if(list.size() == 0) {
-            return 0;
-        }
-
-        int lowQ2 = (int) Math.floor((list.size() - 1.0) / 2.0);
-        int highQ2 = (int) Math.ceil((list.size() - 1.0) / 2.0);
-        double q2 = (list.get(lowQ2) + list.get(highQ2)) / 2;
-        
-        return q2;
+        return SelectionUtil.median(Doubles.toArray(list), 0, list.size());
     }
     
     /**
@@ -158,5 +150,26 @@ public class MedianInteger extends DescriptiveStatisticInteger {
     public double  calculate(List<Double> list, int begin, int length) {
         return calculate(list.subList(begin, begin + length));
     }
+    
+    /**
+     * Returns true. The median is calculated from the integer well data.
+     * @return    true
+     */
+    public boolean isPrimitive() {
+        return true;
+    }
+    
+    /**
+     * Calculates the median of the values in a primitive array between the
+     * offset and the offset plus the length. The values are copied to an array
+     * of doubles and the median is selected from the copy.
+     * @param    int[]    the array
+     * @param    int      index of the first value
+     * @param    int      number of values
+     * @return            the result
+     */
+    public double calculate(int[] array, int offset, int length) {
+        return SelectionUtil.median(IntegerUtil.toDoubleArray(array, offset, length), 0, length);
+    }
 
 }
@@ -23,8 +23,10 @@ package com.github.jessemull.microflex.integerflex.stat;
 
 /* ------------------------------ Dependencies ------------------------------ */
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * This class returns the mode in a data set for integer plate stacks, plates, 
@@ -180,4 +182,48 @@ public class ModeInteger extends DescriptiveStatisticInteger {
     	return calculate(list.subList(begin, begin + length));           
     }
     
+    /**
+     * Calculates the mode of the values in a primitive array between the offset 
+     * and the offset plus the length. The values are copied and sorted, and the 
+     * mode is the value with the longest run. Ties are broken by the smallest 
+     * value.
+     * @param    int[]    the array
+     * @param    int      index of the first value
+     * @param    int      number of values
+     * @return            the result
+     */
+    public double calculate(int[] array, int offset, int length) {
+        
+        if(length == 0) {
+            throw new NoSuchElementException();
+        }
+        
+        int[] sorted = Arrays.copyOfRange(array, offset, offset + length);
+        Arrays.sort(sorted);
+        
+        int mode = sorted[0];
+        int max = 0;
+        int run = 0;
+        
+        for(int i = 0; i < sorted.length; i++) {
+            
+            run = i > 0 && sorted[i] == sorted[i - 1] ? run + 1 : 1;
+            
+            if(run > max) {
+                max = run;
+                mode = sorted[i];
+            }
+        }
+        
+        return mode;
+    }
+    
+    /**
+     * Returns true. The mode is calculated from the integer well data.
+     * @return    true
+     */
+    public boolean isPrimitive() {
+        return true;
+    }
+
 }
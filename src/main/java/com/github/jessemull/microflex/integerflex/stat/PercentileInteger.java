@@ -25,16 +25,17 @@ package com.github.jessemull.microflex.integerflex.stat;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
 import com.google.common.base.Preconditions;
+import com.google.common.primitives.Doubles;
 
 import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.github.jessemull.microflex.util.SelectionUtil;
 
 /**
  * This class calculates percentiles for integer plate stacks, plates, 
@@ -618,37 +619,9 @@ public class PercentileInteger {
      * @return                   the result
      */
     public double calculate(List<Double> list, int p) {
-        
-    	int n = list.size();
-    	
-    	if(n == 1) {
-    		return list.get(0);
-    	}
-    	
-        Collections.sort(list);        
-        double pos = (p * (n + 1)) / 100.0;
-        
-        if(pos < 1) {
-        	return list.get(0);
-        }
-        
-        if(pos >= n) {
-        	return list.get(list.size() - 1);
-        }
-        
-        if(pos == Math.floor(pos) && !Double.isInfinite(pos)) {       
-        	return list.get((int) pos - 1);
-        }
-        	
-        int lowerIndex = (int) Math.floor(pos) - 1;
-        int upperIndex = lowerIndex + 1;
-        
-        double lower = list.get(lowerIndex);
-        double upper = list.get(upperIndex);      
-        double d = pos - 1 - lowerIndex;
-        
-        return (upper - lower) * d + lower;
-    };
+        int n = list.size();
+        return SelectionUtil.quantile(Doubles.toArray(list), 0, n, (p * (n + 1)) / 100.0);
+    }
     
     /**
      * Calculates the percentile of the values between the beginning and ending 
@@ -224,4 +224,21 @@ public class PopulationVarianceInteger extends DescriptiveStatisticIntegerWeight
         return sum / list.size();       
     }
     
+    /**
+     * Returns true. The population variance is calculated from the moments of a
+     * summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the population variance using a summary of the values.
+     * @param    SummaryInteger    the summary
+     * @return                     the result
+     */
+    public double calculate(SummaryInteger summary) {
+        return summary.populationVariance();
+    }
 }
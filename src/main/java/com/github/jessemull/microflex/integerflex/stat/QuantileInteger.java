@@ -23,9 +23,12 @@ package com.github.jessemull.microflex.integerflex.stat;
 
 /* ----------------------------- Dependencies ------------------------------ */
 
-import java.util.Collections;
 import java.util.List;
 
+import com.google.common.primitives.Doubles;
+
+import com.github.jessemull.microflex.util.SelectionUtil;
+
 /**
  * This class calculates quantiles for integer plate stacks, plates, 
  * wells and well sets using the following steps:
@@ -144,37 +147,9 @@ public class QuantileInteger extends QuantileStatisticRational {
      * @return                   the result
      */
     public double calculate(List<Double> list, double p) {
-        
-    	int n = list.size();
-    	
-    	if(n == 1) {
-    		return list.get(0);
-    	}
-    	
-        Collections.sort(list);        
-        double pos = (p * (n + 1));
-        
-        if(pos < 1) {
-        	return list.get(0);
-        }
-        
-        if(pos >= n) {
-        	return list.get(list.size() - 1);
-        }
-        
-        if(pos == Math.floor(pos) && !Double.isInfinite(pos)) {       
-        	return list.get((int) pos - 1);
-        }
-        	
-        int lowerIndex = (int) Math.floor(pos) - 1;
-        int upperIndex = lowerIndex + 1;
-        
-        double lower = list.get(lowerIndex);
-        double upper = list.get(upperIndex);      
-        double d = pos - 1 - lowerIndex;
-        
-        return (upper - lower) * d + lower;
-    };
+        int n = list.size();
+        return SelectionUtil.quantile(Doubles.toArray(list), 0, n, p * (n + 1));
+    }
     
     /**
      * Calculates the quantile of the values between the beginning and ending 
@@ -24,16 +24,22 @@ package com.github.jessemull.microflex.integerflex.stat;
 /* ----------------------------- Dependencies ------------------------------ */
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.StackInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.github.jessemull.microflex.util.IntegerUtil;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class calculates descriptive statistics with list and integer inputs to
@@ -131,7 +137,49 @@ import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
  * @email hello@jessemull.com
  */
 public abstract class QuantileStatisticInteger {
+
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private ForkJoinPool pool;    // Pool for parallel execution or null
+    
+    /* ------------------------- Parallel Execution ------------------------- */
     
+    /**
+     * Sets the fork join pool used to calculate the statistic for the wells, 
+     * plates and sets in parallel. Results are merged in the same order used 
+     * by sequential execution. A null pool restores sequential execution.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    
+    /**
+     * Returns the fork join pool used for parallel execution or null if the 
+     * statistic is calculated sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+    
+    /**
+     * Enables parallel execution using the shared default pool or restores 
+     * sequential execution.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
+    
+    /**
+     * Returns true if the statistic is calculated in parallel.
+     * @return    true if parallel execution is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+        
     /* --------------- Well statistics for all plate wells ----------------- */
     
     /**
@@ -140,15 +188,23 @@ public abstract class QuantileStatisticInteger {
      * @param    int             the integer value
      * @return                   map of wells and results
      */
-    public Map<WellInteger, Double> plate(PlateInteger plate, int p) {
+    public Map<WellInteger, Double> plate(PlateInteger plate, final int p) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellInteger, Double> result = new TreeMap<WellInteger, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellInteger, Double>() {
+            public Double apply(WellInteger well) {
+                return well(well, p);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : plate) {
             WellInteger clone = new WellInteger(well);
-            result.put(clone, well(well, p));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -164,15 +220,23 @@ public abstract class QuantileStatisticInteger {
      * @param    int             the integer value
      * @return                   map of wells and results   
      */
-    public Map<WellInteger, Double> plate(PlateInteger plate, int begin, int length, int p) {
+    public Map<WellInteger, Double> plate(PlateInteger plate, final int begin, final int length, final int p) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellInteger, Double> result = new TreeMap<WellInteger, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellInteger, Double>() {
+            public Double apply(WellInteger well) {
+                return well(well, begin, length, p);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : plate) {
             WellInteger clone = new WellInteger(well);
-            result.put(clone, well(well, begin, length, p));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -207,23 +271,29 @@ public abstract class QuantileStatisticInteger {
      * @param    int                         the integer value
      * @return                               map of plates and aggregated results
      */
-    public Map<PlateInteger, Double> platesAggregated(Collection<PlateInteger> collection, int p) {
+    public Map<PlateInteger, Double> platesAggregated(Collection<PlateInteger> collection, final int p) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
 
         Map<PlateInteger, Double> results = new TreeMap<PlateInteger, Double>();
         
-        for(PlateInteger plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-                aggregated.addAll(well.toDouble());
+        List<Double> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateInteger, Double>() {
+            public Double apply(PlateInteger plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : plate) {
+                    aggregated.addAll(well.toDouble());
+                }
+
+                return calculate(aggregated, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : collection) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -235,23 +305,29 @@ public abstract class QuantileStatisticInteger {
      * @param    int               the integer value
      * @return                     map of plates and aggregated result
      */
-    public Map<PlateInteger, Double> platesAggregated(PlateInteger[] array, int p) {
+    public Map<PlateInteger, Double> platesAggregated(PlateInteger[] array, final int p) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
 
         Map<PlateInteger, Double> results = new TreeMap<PlateInteger, Double>();
         
-        for(PlateInteger plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-                aggregated.addAll(well.toDouble());
+        List<Double> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateInteger, Double>() {
+            public Double apply(PlateInteger plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : plate) {
+                    aggregated.addAll(well.toDouble());
+                }
+
+                return calculate(aggregated, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : array) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -291,23 +367,29 @@ public abstract class QuantileStatisticInteger {
      * @return                               map of plates and aggregated results
      */
     public Map<PlateInteger, Double> platesAggregated(
-            Collection<PlateInteger> collection, int begin, int length, int p) {
+            Collection<PlateInteger> collection, final int begin, final int length, final int p) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateInteger, Double> results = new TreeMap<PlateInteger, Double>();
         
-        for(PlateInteger plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-                aggregated.addAll(well.toDouble().subList(begin, begin + length));
+        List<Double> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateInteger, Double>() {
+            public Double apply(PlateInteger plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : plate) {
+                    aggregated.addAll(well.toDouble().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : collection) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -324,23 +406,29 @@ public abstract class QuantileStatisticInteger {
      * @return                     map of plates and aggregated results
      */
     public Map<PlateInteger, Double> platesAggregated(
-            PlateInteger[] array, int begin, int length, int p) {
+            PlateInteger[] array, final int begin, final int length, final int p) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateInteger, Double> results = new TreeMap<PlateInteger, Double>();
         
-        for(PlateInteger plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-                aggregated.addAll(well.toDouble().subList(begin, begin + length));
+        List<Double> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateInteger, Double>() {
+            public Double apply(PlateInteger plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : plate) {
+                    aggregated.addAll(well.toDouble().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : array) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -355,15 +443,23 @@ public abstract class QuantileStatisticInteger {
      * @param    int               the integer value
      * @return                     map of wells and results
      */
-    public Map<WellInteger, Double> set(WellSetInteger set, int p) {
+    public Map<WellInteger, Double> set(WellSetInteger set, final int p) {
     	
         Preconditions.checkNotNull(set, "The set cannot be null.");
     	
     	Map<WellInteger, Double> result = new TreeMap<WellInteger, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellInteger, Double>() {
+            public Double apply(WellInteger well) {
+                return well(well, p);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : set) {
             WellInteger clone = new WellInteger(well);
-            result.put(clone, well(well, p));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -379,15 +475,23 @@ public abstract class QuantileStatisticInteger {
      * @param    int               the integer value
      * @return                     map of wells and results
      */
-    public Map<WellInteger, Double> set(WellSetInteger set, int begin, int length, int p) {
+    public Map<WellInteger, Double> set(WellSetInteger set, final int begin, final int length, final int p) {
         
     	Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellInteger, Double> result = new TreeMap<WellInteger, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellInteger, Double>() {
+            public Double apply(WellInteger well) {
+                return well(well, begin, length, p);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : set) {
-        	WellInteger clone = new WellInteger(well);
-            result.put(clone,  well(well, begin, length, p));
+            WellInteger clone = new WellInteger(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -422,23 +526,29 @@ public abstract class QuantileStatisticInteger {
      * @param    int                           the integer value
      * @return                                 map of well sets and aggregated results
      */
-    public Map<WellSetInteger, Double> setsAggregated(Collection<WellSetInteger> collection, int p) {
+    public Map<WellSetInteger, Double> setsAggregated(Collection<WellSetInteger> collection, final int p) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
 
         Map<WellSetInteger, Double> results = new TreeMap<WellSetInteger, Double>();
         
-        for(WellSetInteger set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-                aggregated.addAll(well.toDouble());
+        List<Double> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetInteger, Double>() {
+            public Double apply(WellSetInteger set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : set) {
+                    aggregated.addAll(well.toDouble());
+                }
+
+                return calculate(aggregated, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : collection) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -450,23 +560,29 @@ public abstract class QuantileStatisticInteger {
      * @param    int                 the integer value
      * @return                       map of well sets and aggregated results
      */
-    public Map<WellSetInteger, Double> setsAggregated(WellSetInteger[] array, int p) {
+    public Map<WellSetInteger, Double> setsAggregated(WellSetInteger[] array, final int p) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
 
         Map<WellSetInteger, Double> results = new TreeMap<WellSetInteger, Double>();
         
-        for(WellSetInteger set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-                aggregated.addAll(well.toDouble());
+        List<Double> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetInteger, Double>() {
+            public Double apply(WellSetInteger set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : set) {
+                    aggregated.addAll(well.toDouble());
+                }
+
+                return calculate(aggregated, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : array) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -506,23 +622,29 @@ public abstract class QuantileStatisticInteger {
      * @return                                 map of well sets and aggregated results
      */
     public Map<WellSetInteger, Double> setsAggregated(
-            Collection<WellSetInteger> collection, int begin, int length, int p) {
+            Collection<WellSetInteger> collection, final int begin, final int length, final int p) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetInteger, Double> results = new TreeMap<WellSetInteger, Double>();
         
-        for(WellSetInteger set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-                aggregated.addAll(well.toDouble().subList(begin, begin + length));
+        List<Double> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetInteger, Double>() {
+            public Double apply(WellSetInteger set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : set) {
+                    aggregated.addAll(well.toDouble().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : collection) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -539,27 +661,276 @@ public abstract class QuantileStatisticInteger {
      * @return                       map of well sets and aggregated results
      */
     public Map<WellSetInteger, Double> setsAggregated(
-            WellSetInteger[] array, int begin, int length, int p) {
+            WellSetInteger[] array, final int begin, final int length, final int p) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetInteger, Double> results = new TreeMap<WellSetInteger, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetInteger, Double>() {
+            public Double apply(WellSetInteger set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : set) {
+                    aggregated.addAll(well.toDouble().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, p);
+            }
+        });
+
+        int index = 0;
+
         for(WellSetInteger set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-                aggregated.addAll(well.toDouble().subList(begin, begin + length));
+            results.put(new WellSetInteger(set), values.get(index++));
+        }
+        
+        return results;
+        
+    }
+    
+    /* ------------------------- Stack statistics --------------------------  */
+    
+    /**
+     * Returns the statistic for each well of each plate in the stack. The plates 
+     * are processed in parallel when a pool is set.
+     * @param    StackInteger    the stack
+     * @param    int             the integer value
+     * @return                   map of plates and well results
+     */
+    public Map<PlateInteger, Map<WellInteger, Double>> stack(StackInteger stack, final int p) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        
+        Map<PlateInteger, Map<WellInteger, Double>> results = new TreeMap<PlateInteger, Map<WellInteger, Double>>();
+        
+        List<Map<WellInteger, Double>> values = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateInteger, Map<WellInteger, Double>>() {
+            public Map<WellInteger, Double> apply(PlateInteger plate) {
+                return plate(plate, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
+        });
+        
+        int index = 0;
+        
+        for(PlateInteger plate : stack) {
+            results.put(new PlateInteger(plate), values.get(index++));
+        }
         
+        return results;
+    }
+    
+    /**
+     * Returns the statistic for each well of each plate in the stack using the 
+     * values between the indices. The plates are processed in parallel when a 
+     * pool is set.
+     * @param    StackInteger    the stack
+     * @param    int             beginning index of subset
+     * @param    int             length of subset
+     * @param    int             the integer value
+     * @return                   map of plates and well results
+     */
+    public Map<PlateInteger, Map<WellInteger, Double>> stack(StackInteger stack, final int begin, final int length, final int p) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        
+        Map<PlateInteger, Map<WellInteger, Double>> results = new TreeMap<PlateInteger, Map<WellInteger, Double>>();
+        
+        List<Map<WellInteger, Double>> values = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateInteger, Map<WellInteger, Double>>() {
+            public Map<WellInteger, Double> apply(PlateInteger plate) {
+                return plate(plate, begin, length, p);
+            }
+        });
+        
+        int index = 0;
+        
+        for(PlateInteger plate : stack) {
+            results.put(new PlateInteger(plate), values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /* ------------- Well statistics across the plates of a stack ----------  */
+    
+    /**
+     * Returns the statistic for each well position using the values of the well 
+     * in every plate of the stack. For example, the median of well A1 across the 
+     * replicate plates. The stack is read in a single sweep and the results are
+     * mapped to wells holding the values of each position.
+     * @param    StackInteger    the stack
+     * @param    int             the integer value
+     * @return                   map of wells and results
+     */
+    public Map<WellInteger, Double> stackWells(StackInteger stack, final int p) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        
+        Collection<WellInteger> positions = this.positions(stack, 0, -1);
+        
+        Map<WellInteger, Double> results = new TreeMap<WellInteger, Double>();
+        
+        List<Double> values = ParallelUtil.map(this.pool, positions, new ParallelUtil.Task<WellInteger, Double>() {
+            public Double apply(WellInteger well) {
+                return well(well, p);
+            }
+        });
+        
+        int index = 0;
+        
+        for(WellInteger well : positions) {
+            results.put(well, values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Returns the statistic for each well position using the values between the
+     * indices of the well in every plate of the stack.
+     * @param    StackInteger    the stack
+     * @param    int             beginning index of subset
+     * @param    int             length of subset
+     * @param    int             the integer value
+     * @return                   map of wells and results
+     */
+    public Map<WellInteger, Double> stackWells(StackInteger stack, int begin, int length, final int p) {
+        
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        Preconditions.checkArgument(begin >= 0 && length >= 0, "Invalid subset.");
+        
+        Collection<WellInteger> positions = this.positions(stack, begin, length);
+        
+        Map<WellInteger, Double> results = new TreeMap<WellInteger, Double>();
+        
+        List<Double> values = ParallelUtil.map(this.pool, positions, new ParallelUtil.Task<WellInteger, Double>() {
+            public Double apply(WellInteger well) {
+                return well(well, p);
+            }
+        });
+        
+        int index = 0;
+        
+        for(WellInteger well : positions) {
+            results.put(well, values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /* --------------------- Aggregated stack statistics -------------------  */
+    
+    /**
+     * Returns the aggregated statistic for the stack.
+     * @param    StackInteger    the stack
+     * @param    int             the integer value
+     * @return                   the aggregated result
+     */
+    public double stacksAggregated(StackInteger stack, int p) {
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        return calculate(this.aggregated(stack, 0, -1), p);
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack. The stacks are processed
+     * in parallel when a pool is set.
+     * @param    Collection<StackInteger>    collection of stacks
+     * @param    int                         the integer value
+     * @return                               map of stacks and aggregated results
+     */
+    public Map<StackInteger, Double> stacksAggregated(Collection<StackInteger> collection, final int p) {
+        
+        Preconditions.checkNotNull(collection, "The stack collection cannot be null.");
+        
+        Map<StackInteger, Double> results = new LinkedHashMap<StackInteger, Double>();
+        
+        List<Double> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<StackInteger, Double>() {
+            public Double apply(StackInteger stack) {
+                return calculate(aggregated(stack, 0, -1), p);
+            }
+        });
+        
+        int index = 0;
+        
+        for(StackInteger stack : collection) {
+            results.put(new StackInteger(stack), values.get(index++));
         }
         
         return results;
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack. The stacks are processed
+     * in parallel when a pool is set.
+     * @param    StackInteger[]    array of stacks
+     * @param    int               the integer value
+     * @return                     map of stacks and aggregated results
+     */
+    public Map<StackInteger, Double> stacksAggregated(StackInteger[] array, int p) {
+        Preconditions.checkNotNull(array, "The stack array cannot be null.");
+        return this.stacksAggregated(Arrays.asList(array), p);
+    }
+    
+    /**
+     * Returns the aggregated statistic for the stack using the values between 
+     * the indices.
+     * @param    StackInteger    the stack
+     * @param    int             beginning index of subset
+     * @param    int             length of subset
+     * @param    int             the integer value
+     * @return                   the aggregated result
+     */
+    public double stacksAggregated(StackInteger stack, int begin, int length, int p) {
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+        Preconditions.checkArgument(begin >= 0 && length >= 0, "Invalid subset.");
+        return calculate(this.aggregated(stack, begin, length), p);
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack using the values between 
+     * the indices. The stacks are processed in parallel when a pool is set.
+     * @param    Collection<StackInteger>    collection of stacks
+     * @param    int                         beginning index of subset
+     * @param    int                         length of subset
+     * @param    int                         the integer value
+     * @return                               map of stacks and aggregated results
+     */
+    public Map<StackInteger, Double> stacksAggregated(
+            Collection<StackInteger> collection, final int begin, final int length, final int p) {
+        
+        Preconditions.checkNotNull(collection, "The stack collection cannot be null.");
+        Preconditions.checkArgument(begin >= 0 && length >= 0, "Invalid subset.");
+        
+        Map<StackInteger, Double> results = new LinkedHashMap<StackInteger, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<StackInteger, Double>() {
+            public Double apply(StackInteger stack) {
+                return calculate(aggregated(stack, begin, length), p);
+            }
+        });
+        
+        int index = 0;
+        
+        for(StackInteger stack : collection) {
+            results.put(new StackInteger(stack), values.get(index++));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Returns the aggregated statistic for each stack using the values between 
+     * the indices. The stacks are processed in parallel when a pool is set.
+     * @param    StackInteger[]    array of stacks
+     * @param    int               beginning index of subset
+     * @param    int               length of subset
+     * @param    int               the integer value
+     * @return                     map of stacks and aggregated results
+     */
+    public Map<StackInteger, Double> stacksAggregated(
+            StackInteger[] array, int begin, int length, int p) {
+        Preconditions.checkNotNull(array, "The stack array cannot be null.");
+        return this.stacksAggregated(Arrays.asList(array), begin, length, p);
     }
     
     /* -------------------------- Well statistics --------------------------  */
@@ -572,7 +943,7 @@ public abstract class QuantileStatisticInteger {
      */
     public double well(WellInteger well, int p) {
         Preconditions.checkNotNull(well, "The well cannot be null.");
-        return calculate(well.toDouble(), p);     
+        return calculate(well.toIntArray(), 0, well.size(), p);     
     }
     
     /**
@@ -586,10 +957,10 @@ public abstract class QuantileStatisticInteger {
      */
     public double well(WellInteger well, int begin, int length, int p) {
         Preconditions.checkNotNull(well, "The well cannot be null.");
-        Preconditions.checkArgument(begin <= well.data().size() &&
+        Preconditions.checkArgument(begin <= well.size() &&
                                     begin >= 0 &&
-                                    begin + length <= well.data().size());   
-        return calculate(well.toDouble(), begin, length, p);
+                                    begin + length <= well.size());   
+        return calculate(well.toIntArray(), begin, length, p);
         
     }
 
@@ -613,4 +984,75 @@ public abstract class QuantileStatisticInteger {
      * @return                   the result
      */
     public abstract double calculate(List<Double> list, int begin, int length, int p);
+    
+    /**
+     * Calculates the statistic of the values in a primitive array between the 
+     * offset and the offset plus the length. Well statistics are calculated 
+     * using the integer well data. Subclasses override this method to calculate 
+     * the statistic without converting each value to a double. By default the 
+     * values are converted to a list of doubles.
+     * @param    int[]    the array
+     * @param    int      index of the first value
+     * @param    int      number of values
+     * @param    int      the integer value
+     * @return            the result
+     */
+    public double calculate(int[] array, int offset, int length, int p) {
+        return calculate(IntegerUtil.toDoubleList(array, offset, length), p);
+    }
+    
+    /* ---------------------- Stack sweep helpers --------------------------  */
+    
+    /**
+     * Returns the values of every well in the stack. A negative length adds all 
+     * the values of each well.
+     * @param    StackInteger    the stack
+     * @param    int             beginning index of subset
+     * @param    int             length of subset or -1
+     * @return                   the values
+     */
+    private List<Double> aggregated(StackInteger stack, int begin, int length) {
+        
+        List<Double> aggregated = new ArrayList<Double>();
+        
+        for(PlateInteger plate : stack) {
+            for(WellInteger well : plate) {
+                aggregated.addAll(length < 0 ? well.toDouble() : well.toDouble().subList(begin, begin + length));
+            }
+        }
+        
+        return aggregated;
+    }
+    
+    /**
+     * Sweeps the stack once and returns a well for each well position holding 
+     * the values of the position from every plate. A negative length adds all
+     * the values of each well.
+     * @param    StackInteger    the stack
+     * @param    int             beginning index of subset
+     * @param    int             length of subset or -1
+     * @return                   the wells in row and column order
+     */
+    private Collection<WellInteger> positions(StackInteger stack, int begin, int length) {
+        
+        Map<WellInteger, WellInteger> positions = new TreeMap<WellInteger, WellInteger>();
+        
+        for(PlateInteger plate : stack) {
+            
+            for(WellInteger well : plate) {
+                
+                WellInteger position = positions.get(well);
+                
+                if(position == null) {
+                    position = new WellInteger(well.row(), well.column());
+                    positions.put(position, position);
+                }
+                
+                position.add(length < 0 ? well.data() : well.data().subList(begin, begin + length));
+            }
+        }
+        
+        return positions.values();
+    }
+    
 }
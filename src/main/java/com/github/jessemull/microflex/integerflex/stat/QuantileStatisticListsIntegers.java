@@ -28,12 +28,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class calculates descriptive statistics with calculate functions that take
@@ -131,7 +133,49 @@ import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
  * @email hello@jessemull.com
  */
 public abstract class QuantileStatisticListsIntegers {
+
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private ForkJoinPool pool;    // Pool for parallel execution or null
+    
+    /* ------------------------- Parallel Execution ------------------------- */
+    
+    /**
+     * Sets the fork join pool used to calculate the statistic for the wells, 
+     * plates and sets in parallel. Results are merged in the same order used 
+     * by sequential execution. A null pool restores sequential execution.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    
+    /**
+     * Returns the fork join pool used for parallel execution or null if the 
+     * statistic is calculated sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+    
+    /**
+     * Enables parallel execution using the shared default pool or restores 
+     * sequential execution.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
     
+    /**
+     * Returns true if the statistic is calculated in parallel.
+     * @return    true if parallel execution is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+        
     /* --------------- Well statistics for all plate wells ----------------- */
     
     /**
@@ -140,15 +184,23 @@ public abstract class QuantileStatisticListsIntegers {
      * @param    List<Double>     the input list
      * @return                    map of wells and results
      */
-    public Map<WellInteger, List<List<Double>>> plate(PlateInteger plate, List<Double> list) {
+    public Map<WellInteger, List<List<Double>>> plate(PlateInteger plate, final List<Double> list) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellInteger, List<List<Double>>> result = new TreeMap<WellInteger, List<List<Double>>>();
         
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellInteger, List<List<Double>>>() {
+            public List<List<Double>> apply(WellInteger well) {
+                return well(well, list);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : plate) {
             WellInteger clone = new WellInteger(well);
-            result.put(clone, well(well, list));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -164,15 +216,23 @@ public abstract class QuantileStatisticListsIntegers {
      * @param    List<Double>     the input list
      * @return                    map of wells and results   
      */
-    public Map<WellInteger, List<List<Double>>> plate(PlateInteger plate, int begin, int length, List<Double> list) {
+    public Map<WellInteger, List<List<Double>>> plate(PlateInteger plate, final int begin, final int length, final List<Double> list) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellInteger, List<List<Double>>> result = new TreeMap<WellInteger, List<List<Double>>>();
         
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellInteger, List<List<Double>>>() {
+            public List<List<Double>> apply(WellInteger well) {
+                return well(well, begin, length, list);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : plate) {
             WellInteger clone = new WellInteger(well);
-            result.put(clone, well(well, begin, length, list));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -207,23 +267,29 @@ public abstract class QuantileStatisticListsIntegers {
      * @param    List<Double>                the input list
      * @return                               map of plates and aggregated results
      */
-    public Map<PlateInteger, List<List<Double>>> platesAggregated(Collection<PlateInteger> collection, List<Double> list) {
+    public Map<PlateInteger, List<List<Double>>> platesAggregated(Collection<PlateInteger> collection, final List<Double> list) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
 
         Map<PlateInteger, List<List<Double>>> results = new TreeMap<PlateInteger, List<List<Double>>>();
         
-        for(PlateInteger plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-                aggregated.addAll(well.toDouble());
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateInteger, List<List<Double>>>() {
+            public List<List<Double>> apply(PlateInteger plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : plate) {
+                    aggregated.addAll(well.toDouble());
+                }
+
+                return calculate(aggregated, list);
             }
-      
-            results.put(clone, calculate(aggregated, list));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : collection) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -235,23 +301,29 @@ public abstract class QuantileStatisticListsIntegers {
      * @param    List<Double>      the input list
      * @return                     map of plates and aggregated result
      */
-    public Map<PlateInteger, List<List<Double>>> platesAggregated(PlateInteger[] array, List<Double> list) {
+    public Map<PlateInteger, List<List<Double>>> platesAggregated(PlateInteger[] array, final List<Double> list) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
 
         Map<PlateInteger, List<List<Double>>> results = new TreeMap<PlateInteger, List<List<Double>>>();
         
-        for(PlateInteger plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-                aggregated.addAll(well.toDouble());
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateInteger, List<List<Double>>>() {
+            public List<List<Double>> apply(PlateInteger plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : plate) {
+                    aggregated.addAll(well.toDouble());
+                }
+
+                return calculate(aggregated, list);
             }
-      
-            results.put(clone, calculate(aggregated, list));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : array) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -291,23 +363,29 @@ public abstract class QuantileStatisticListsIntegers {
      * @return                               map of plates and aggregated results
      */
     public Map<PlateInteger, List<List<Double>>> platesAggregated(
-            Collection<PlateInteger> collection, int begin, int length, List<Double> list) {
+            Collection<PlateInteger> collection, final int begin, final int length, final List<Double> list) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateInteger, List<List<Double>>> results = new TreeMap<PlateInteger, List<List<Double>>>();
         
-        for(PlateInteger plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-                aggregated.addAll(well.toDouble().subList(begin, begin + length));
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateInteger, List<List<Double>>>() {
+            public List<List<Double>> apply(PlateInteger plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : plate) {
+                    aggregated.addAll(well.toDouble().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, list);
             }
-      
-            results.put(clone, calculate(aggregated, list));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : collection) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -324,23 +402,29 @@ public abstract class QuantileStatisticListsIntegers {
      * @return                     map of plates and aggregated results
      */
     public Map<PlateInteger, List<List<Double>>> platesAggregated(
-            PlateInteger[] array, int begin, int length, List<Double> list) {
+            PlateInteger[] array, final int begin, final int length, final List<Double> list) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateInteger, List<List<Double>>> results = new TreeMap<PlateInteger, List<List<Double>>>();
         
-        for(PlateInteger plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-                aggregated.addAll(well.toDouble().subList(begin, begin + length));
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateInteger, List<List<Double>>>() {
+            public List<List<Double>> apply(PlateInteger plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : plate) {
+                    aggregated.addAll(well.toDouble().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, list);
             }
-      
-            results.put(clone, calculate(aggregated, list));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : array) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -355,15 +439,23 @@ public abstract class QuantileStatisticListsIntegers {
      * @param    List<Double>      the input list
      * @return                     map of wells and results
      */
-    public Map<WellInteger, List<List<Double>>> set(WellSetInteger set, List<Double> list) {
+    public Map<WellInteger, List<List<Double>>> set(WellSetInteger set, final List<Double> list) {
     	
         Preconditions.checkNotNull(set, "The set cannot be null.");
     	
     	Map<WellInteger, List<List<Double>>> result = new TreeMap<WellInteger, List<List<Double>>>();
         
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellInteger, List<List<Double>>>() {
+            public List<List<Double>> apply(WellInteger well) {
+                return well(well, list);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : set) {
             WellInteger clone = new WellInteger(well);
-            result.put(clone, well(well, list));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -379,15 +471,23 @@ public abstract class QuantileStatisticListsIntegers {
      * @param    List<Double>      the input list
      * @return                     map of wells and results
      */
-    public Map<WellInteger, List<List<Double>>> set(WellSetInteger set, int begin, int length, List<Double> list) {
+    public Map<WellInteger, List<List<Double>>> set(WellSetInteger set, final int begin, final int length, final List<Double> list) {
         
     	Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellInteger, List<List<Double>>> result = new TreeMap<WellInteger, List<List<Double>>>();
         
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellInteger, List<List<Double>>>() {
+            public List<List<Double>> apply(WellInteger well) {
+                return well(well, begin, length, list);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : set) {
-        	WellInteger clone = new WellInteger(well);
-            result.put(clone,  well(well, begin, length, list));
+            WellInteger clone = new WellInteger(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -422,23 +522,29 @@ public abstract class QuantileStatisticListsIntegers {
      * @param    List<Double>                  the input list
      * @return                                 map of well sets and aggregated results
      */
-    public Map<WellSetInteger, List<List<Double>>> setsAggregated(Collection<WellSetInteger> collection, List<Double> list) {
+    public Map<WellSetInteger, List<List<Double>>> setsAggregated(Collection<WellSetInteger> collection, final List<Double> list) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
 
         Map<WellSetInteger, List<List<Double>>> results = new TreeMap<WellSetInteger, List<List<Double>>>();
         
-        for(WellSetInteger set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-                aggregated.addAll(well.toDouble());
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetInteger, List<List<Double>>>() {
+            public List<List<Double>> apply(WellSetInteger set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : set) {
+                    aggregated.addAll(well.toDouble());
+                }
+
+                return calculate(aggregated, list);
             }
-      
-            results.put(clone, calculate(aggregated, list));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : collection) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -450,23 +556,29 @@ public abstract class QuantileStatisticListsIntegers {
      * @param    List<Double>        the input list
      * @return                       map of well sets and aggregated results
      */
-    public Map<WellSetInteger, List<List<Double>>> setsAggregated(WellSetInteger[] array, List<Double> list) {
+    public Map<WellSetInteger, List<List<Double>>> setsAggregated(WellSetInteger[] array, final List<Double> list) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
 
         Map<WellSetInteger, List<List<Double>>> results = new TreeMap<WellSetInteger, List<List<Double>>>();
         
-        for(WellSetInteger set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-                aggregated.addAll(well.toDouble());
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetInteger, List<List<Double>>>() {
+            public List<List<Double>> apply(WellSetInteger set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : set) {
+                    aggregated.addAll(well.toDouble());
+                }
+
+                return calculate(aggregated, list);
             }
-      
-            results.put(clone, calculate(aggregated, list));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : array) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -506,23 +618,29 @@ public abstract class QuantileStatisticListsIntegers {
      * @return                                 map of well sets and aggregated results
      */
     public Map<WellSetInteger, List<List<Double>>> setsAggregated(
-            Collection<WellSetInteger> collection, int begin, int length, List<Double> list) {
+            Collection<WellSetInteger> collection, final int begin, final int length, final List<Double> list) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetInteger, List<List<Double>>> results = new TreeMap<WellSetInteger, List<List<Double>>>();
         
-        for(WellSetInteger set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-                aggregated.addAll(well.toDouble().subList(begin, begin + length));
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetInteger, List<List<Double>>>() {
+            public List<List<Double>> apply(WellSetInteger set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : set) {
+                    aggregated.addAll(well.toDouble().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, list);
             }
-      
-            results.put(clone, calculate(aggregated, list));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : collection) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -539,23 +657,29 @@ public abstract class QuantileStatisticListsIntegers {
      * @return                       map of well sets and aggregated results
      */
     public Map<WellSetInteger, List<List<Double>>> setsAggregated(
-            WellSetInteger[] array, int begin, int length, List<Double> list) {
+            WellSetInteger[] array, final int begin, final int length, final List<Double> list) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetInteger, List<List<Double>>> results = new TreeMap<WellSetInteger, List<List<Double>>>();
         
-        for(WellSetInteger set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-                aggregated.addAll(well.toDouble().subList(begin, begin + length));
+        List<List<List<Double>>> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetInteger, List<List<Double>>>() {
+            public List<List<Double>> apply(WellSetInteger set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : set) {
+                    aggregated.addAll(well.toDouble().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, list);
             }
-      
-            results.put(clone, calculate(aggregated, list));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : array) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -28,12 +28,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.github.jessemull.microflex.util.ParallelUtil;
 
 /**
  * This class calculates descriptive statistics with list and double inputs to
@@ -131,7 +133,49 @@ import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
  * @email hello@jessemull.com
  */
 public abstract class QuantileStatisticRational {
+
+    /* ---------------------------- Private Fields -------------------------- */
+    
+    private ForkJoinPool pool;    // Pool for parallel execution or null
+    
+    /* ------------------------- Parallel Execution ------------------------- */
+    
+    /**
+     * Sets the fork join pool used to calculate the statistic for the wells, 
+     * plates and sets in parallel. Results are merged in the same order used 
+     * by sequential execution. A null pool restores sequential execution.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    
+    /**
+     * Returns the fork join pool used for parallel execution or null if the 
+     * statistic is calculated sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+    
+    /**
+     * Enables parallel execution using the shared default pool or restores 
+     * sequential execution.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
     
+    /**
+     * Returns true if the statistic is calculated in parallel.
+     * @return    true if parallel execution is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+        
     /* --------------- Well statistics for all plate wells ----------------- */
     
     /**
@@ -140,15 +184,23 @@ public abstract class QuantileStatisticRational {
      * @param    double         the double value
      * @return                  map of wells and results
      */
-    public Map<WellInteger, Double> plate(PlateInteger plate, double p) {
+    public Map<WellInteger, Double> plate(PlateInteger plate, final double p) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellInteger, Double> result = new TreeMap<WellInteger, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellInteger, Double>() {
+            public Double apply(WellInteger well) {
+                return well(well, p);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : plate) {
             WellInteger clone = new WellInteger(well);
-            result.put(clone, well(well, p));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -164,15 +216,23 @@ public abstract class QuantileStatisticRational {
      * @param    double          the double value
      * @return                   map of wells and results   
      */
-    public Map<WellInteger, Double> plate(PlateInteger plate, int begin, int length, double p) {
+    public Map<WellInteger, Double> plate(PlateInteger plate, final int begin, final int length, final double p) {
         
         Preconditions.checkNotNull(plate, "The plate value cannot be null.");
         
         Map<WellInteger, Double> result = new TreeMap<WellInteger, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool, plate, new ParallelUtil.Task<WellInteger, Double>() {
+            public Double apply(WellInteger well) {
+                return well(well, begin, length, p);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : plate) {
             WellInteger clone = new WellInteger(well);
-            result.put(clone, well(well, begin, length, p));
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -207,23 +267,29 @@ public abstract class QuantileStatisticRational {
      * @param    double                      the double value
      * @return                               map of plates and aggregated results
      */
-    public Map<PlateInteger, Double> platesAggregated(Collection<PlateInteger> collection, double p) {
+    public Map<PlateInteger, Double> platesAggregated(Collection<PlateInteger> collection, final double p) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
 
         Map<PlateInteger, Double> results = new TreeMap<PlateInteger, Double>();
         
-        for(PlateInteger plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-                aggregated.addAll(well.toDouble());
+        List<Double> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateInteger, Double>() {
+            public Double apply(PlateInteger plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : plate) {
+                    aggregated.addAll(well.toDouble());
+                }
+
+                return calculate(aggregated, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : collection) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -235,23 +301,29 @@ public abstract class QuantileStatisticRational {
      * @param    double            the double value
      * @return                     map of plates and aggregated result
      */
-    public Map<PlateInteger, Double> platesAggregated(PlateInteger[] array, double p) {
+    public Map<PlateInteger, Double> platesAggregated(PlateInteger[] array, final double p) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
 
         Map<PlateInteger, Double> results = new TreeMap<PlateInteger, Double>();
         
-        for(PlateInteger plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-                aggregated.addAll(well.toDouble());
+        List<Double> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateInteger, Double>() {
+            public Double apply(PlateInteger plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : plate) {
+                    aggregated.addAll(well.toDouble());
+                }
+
+                return calculate(aggregated, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : array) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -291,23 +363,29 @@ public abstract class QuantileStatisticRational {
      * @return                               map of plates and aggregated results
      */
     public Map<PlateInteger, Double> platesAggregated(
-            Collection<PlateInteger> collection, int begin, int length, double p) {
+            Collection<PlateInteger> collection, final int begin, final int length, final double p) {
         
         Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
         
         Map<PlateInteger, Double> results = new TreeMap<PlateInteger, Double>();
         
-        for(PlateInteger plate : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-                aggregated.addAll(well.toDouble().subList(begin, begin + length));
+        List<Double> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateInteger, Double>() {
+            public Double apply(PlateInteger plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : plate) {
+                    aggregated.addAll(well.toDouble().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : collection) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -324,23 +402,29 @@ public abstract class QuantileStatisticRational {
      * @return                     map of plates and aggregated results
      */
     public Map<PlateInteger, Double> platesAggregated(
-            PlateInteger[] array, int begin, int length, double p) {
+            PlateInteger[] array, final int begin, final int length, final double p) {
         
         Preconditions.checkNotNull(array, "The plate array cannot be null.");
         
         Map<PlateInteger, Double> results = new TreeMap<PlateInteger, Double>();
         
-        for(PlateInteger plate : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            PlateInteger clone = new PlateInteger(plate);
-            
-            for (WellInteger well : plate) {
-                aggregated.addAll(well.toDouble().subList(begin, begin + length));
+        List<Double> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<PlateInteger, Double>() {
+            public Double apply(PlateInteger plate) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : plate) {
+                    aggregated.addAll(well.toDouble().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : array) {
+            results.put(new PlateInteger(plate), values.get(index++));
         }
         
         return results;
@@ -355,15 +439,23 @@ public abstract class QuantileStatisticRational {
      * @param    double            the double value
      * @return                     map of wells and results
      */
-    public Map<WellInteger, Double> set(WellSetInteger set, double p) {
+    public Map<WellInteger, Double> set(WellSetInteger set, final double p) {
     	
         Preconditions.checkNotNull(set, "The set cannot be null.");
     	
     	Map<WellInteger, Double> result = new TreeMap<WellInteger, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellInteger, Double>() {
+            public Double apply(WellInteger well) {
+                return well(well, p);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : set) {
             WellInteger clone = new WellInteger(well);
-            result.put(clone, well(well, p));
+            result.put(clone, values.get(index++));
         }
       
         return result;
@@ -379,15 +471,23 @@ public abstract class QuantileStatisticRational {
      * @param    double            the double value
      * @return                     map of wells and results
      */
-    public Map<WellInteger, Double> set(WellSetInteger set, int begin, int length, double p) {
+    public Map<WellInteger, Double> set(WellSetInteger set, final int begin, final int length, final double p) {
         
     	Preconditions.checkNotNull(set, "The well set cannot be null.");
     	
     	Map<WellInteger, Double> result = new TreeMap<WellInteger, Double>();
         
+        List<Double> values = ParallelUtil.map(this.pool, set, new ParallelUtil.Task<WellInteger, Double>() {
+            public Double apply(WellInteger well) {
+                return well(well, begin, length, p);
+            }
+        });
+
+        int index = 0;
+
         for (WellInteger well : set) {
-        	WellInteger clone = new WellInteger(well);
-            result.put(clone,  well(well, begin, length, p));
+            WellInteger clone = new WellInteger(well);
+            result.put(clone, values.get(index++));
         }
         
         return result;
@@ -422,23 +522,29 @@ public abstract class QuantileStatisticRational {
      * @param    double                        the double value
      * @return                                 map of well sets and aggregated results
      */
-    public Map<WellSetInteger, Double> setsAggregated(Collection<WellSetInteger> collection, double p) {
+    public Map<WellSetInteger, Double> setsAggregated(Collection<WellSetInteger> collection, final double p) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
 
         Map<WellSetInteger, Double> results = new TreeMap<WellSetInteger, Double>();
         
-        for(WellSetInteger set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-                aggregated.addAll(well.toDouble());
+        List<Double> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetInteger, Double>() {
+            public Double apply(WellSetInteger set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : set) {
+                    aggregated.addAll(well.toDouble());
+                }
+
+                return calculate(aggregated, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : collection) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -450,23 +556,29 @@ public abstract class QuantileStatisticRational {
      * @param    double              the double value
      * @return                       map of well sets and aggregated results
      */
-    public Map<WellSetInteger, Double> setsAggregated(WellSetInteger[] array, double p) {
+    public Map<WellSetInteger, Double> setsAggregated(WellSetInteger[] array, final double p) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
 
         Map<WellSetInteger, Double> results = new TreeMap<WellSetInteger, Double>();
         
-        for(WellSetInteger set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-                aggregated.addAll(well.toDouble());
+        List<Double> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetInteger, Double>() {
+            public Double apply(WellSetInteger set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : set) {
+                    aggregated.addAll(well.toDouble());
+                }
+
+                return calculate(aggregated, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : array) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -506,23 +618,29 @@ public abstract class QuantileStatisticRational {
      * @return                                 map of well sets and aggregated results
      */
     public Map<WellSetInteger, Double> setsAggregated(
-            Collection<WellSetInteger> collection, int begin, int length, double p) {
+            Collection<WellSetInteger> collection, final int begin, final int length, final double p) {
         
         Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
         
         Map<WellSetInteger, Double> results = new TreeMap<WellSetInteger, Double>();
         
-        for(WellSetInteger set : collection) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-                aggregated.addAll(well.toDouble().subList(begin, begin + length));
+        List<Double> values = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetInteger, Double>() {
+            public Double apply(WellSetInteger set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : set) {
+                    aggregated.addAll(well.toDouble().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : collection) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
@@ -539,23 +657,29 @@ public abstract class QuantileStatisticRational {
      * @return                       map of well sets and aggregated results
      */
     public Map<WellSetInteger, Double> setsAggregated(
-            WellSetInteger[] array, int begin, int length, double p) {
+            WellSetInteger[] array, final int begin, final int length, final double p) {
         
         Preconditions.checkNotNull(array, "The well set array cannot be null.");
         
         Map<WellSetInteger, Double> results = new TreeMap<WellSetInteger, Double>();
         
-        for(WellSetInteger set : array) {
-            
-            List<Double> aggregated = new ArrayList<Double>();
-            WellSetInteger clone = new WellSetInteger(set);
-            
-            for (WellInteger well : set) {
-                aggregated.addAll(well.toDouble().subList(begin, begin + length));
+        List<Double> values = ParallelUtil.map(this.pool, array, new ParallelUtil.Task<WellSetInteger, Double>() {
+            public Double apply(WellSetInteger set) {
+
+                List<Double> aggregated = new ArrayList<Double>();
+
+                for (WellInteger well : set) {
+                    aggregated.addAll(well.toDouble().subList(begin, begin + length));
+                }
+
+                return calculate(aggregated, p);
             }
-      
-            results.put(clone, calculate(aggregated, p));
-        
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : array) {
+            results.put(new WellSetInteger(set), values.get(index++));
         }
         
         return results;
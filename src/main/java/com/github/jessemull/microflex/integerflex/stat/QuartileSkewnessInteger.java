@@ -23,10 +23,13 @@ package com.github.jessemull.microflex.integerflex.stat;
 
 /* ----------------------------- Dependencies ------------------------------ */
 
-import java.util.Collections;
 import java.util.List;
 
+import com.google.common.primitives.Doubles;
+
 import com.github.jessemull.microflex.integerflex.stat.DescriptiveStatisticInteger;
+import com.github.jessemull.microflex.util.IntegerUtil;
+import com.github.jessemull.microflex.util.SelectionUtil;
 
 /**
  * This class calculates the quartile skewness of integer plate stacks, plates, wells and 
@@ -133,34 +136,7 @@ public class QuartileSkewnessInteger extends DescriptiveStatisticInteger {
      * @return                   the result
      */
     public double calculate(List<Double> list) {
-        
-    	Collections.sort(list);
-        
-        if(list.size() < 2) {
-            return 0;
-        }
-        
-        int index = list.size() / 2;
-        
-        int lowQ2 = (int) Math.floor((list.size() - 1.0) / 2.0);
-        int highQ2 = (int) Math.ceil((list.size() - 1.0) / 2.0);
-        double q2 = (list.get(lowQ2) + list.get(highQ2)) / 2;
-        
-        List<Double> listQ1 = list.subList(0, index);
-        int lowQ1 = (int) Math.floor((listQ1.size() - 1.0) / 2.0);
-        int highQ1 = (int) Math.ceil((listQ1.size() - 1.0) / 2.0);
-        double q1 = (listQ1.get(lowQ1) + listQ1.get(highQ1)) / 2;
-        
-        if(list.size() % 2 != 0) {
-        	index++;
-        }
-        
-        List<Double> listQ3 = list.subList(index, list.size());
-        int lowQ3 = (int) Math.floor((listQ3.size() - 1.0) / 2.0);
-        int highQ3 = (int) Math.ceil((listQ3.size() - 1.0) / 2.0);
-        double q3 = (listQ3.get(lowQ3) + listQ3.get(highQ3)) / 2;
-        
-        return (q1 - 2 * q2 + q3) / (q3 - q1);
+        return this.skewness(Doubles.toArray(list));
     }
     
     /**
@@ -174,5 +150,44 @@ public class QuartileSkewnessInteger extends DescriptiveStatisticInteger {
     public double  calculate(List<Double> list, int begin, int length) {
         return calculate(list.subList(begin, begin + length));
     }
+    
+    /**
+     * Returns true. The quartile skewness is calculated from the integer well
+     * data.
+     * @return    true
+     */
+    public boolean isPrimitive() {
+        return true;
+    }
+    
+    /**
+     * Calculates the quartile skewness of the values in a primitive array
+     * between the offset and the offset plus the length. The values are copied
+     * to a scratch array of doubles.
+     * @param    int[]    the array
+     * @param    int      index of the first value
+     * @param    int      number of values
+     * @return            the result
+     */
+    public double calculate(int[] array, int offset, int length) {
+        return this.skewness(IntegerUtil.toDoubleArray(array, offset, length));
+    }
+    
+    /**
+     * Calculates the quartile skewness using a scratch array. The order of the
+     * values in the array is changed.
+     * @param    double[]    the scratch array
+     * @return               the result
+     */
+    private double skewness(double[] values) {
+    	
+        if(values.length < 2) {
+            return 0;
+        }
+        
+        double[] quartiles = SelectionUtil.quartiles(values, 0, values.length);
+        
+        return (quartiles[0] - 2 * quartiles[1] + quartiles[2]) / (quartiles[2] - quartiles[0]);
+    }
 
 }
@@ -24,9 +24,13 @@ package com.github.jessemull.microflex.integerflex.stat;
 /* ------------------------------ Dependencies ------------------------------ */
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
+import com.google.common.primitives.Doubles;
+
+import com.github.jessemull.microflex.util.IntegerUtil;
+import com.github.jessemull.microflex.util.SelectionUtil;
+
 /**
  * This class returns the quartiles for integer plate stacks, plates, wells and 
  * well sets.
@@ -132,14 +136,7 @@ public class QuartilesInteger extends DescriptiveStatisticListInteger {
      * @return                   the result
      */
 	public List<Double> calculate(List<Double> list) {
-		
-		List<Double> result = new ArrayList<Double>();
-		
-		result.add(this.percentile(list, 25));
-		result.add(this.percentile(list, 50));
-		result.add(this.percentile(list, 75));
-		
-		return result;
+		return this.quartiles(Doubles.toArray(list));
     }
     
     /**
@@ -154,42 +151,43 @@ public class QuartilesInteger extends DescriptiveStatisticListInteger {
     }
     
     /**
-     * Returns the percentile for the data set.
-     * @param    List<Double> list    the input list
-     * @param    int				  the percentile
-     * @return                        the result
+     * Returns true. The quartiles are calculated from the integer well data.
+     * @return    true
+     */
+    public boolean isPrimitive() {
+        return true;
+    }
+    
+    /**
+     * Returns the quartiles of the values in a primitive array between the
+     * offset and the offset plus the length. The values are copied to a
+     * scratch array of doubles.
+     * @param    int[]    the array
+     * @param    int      index of the first value
+     * @param    int      number of values
+     * @return            the result
      */
-    private double percentile(List<Double> list, int p) {
-    	
-        int n = list.size();
-    	
-    	if(n == 1) {
-    		return list.get(0);
-    	}
-    	
-        Collections.sort(list);        
-        double pos = (p * (n + 1)) / 100.0;
-        
-        if(pos < 1) {
-        	return list.get(0);
-        }
-        
-        if(pos >= n) {
-        	return list.get(list.size() - 1);
-        }
-        
-        if(pos == Math.floor(pos) && !Double.isInfinite(pos)) {       
-        	return list.get((int) pos - 1);
-        }
-        	
-        int lowerIndex = (int) Math.floor(pos) - 1;
-        int upperIndex = lowerIndex + 1;
-        
-        double lower = list.get(lowerIndex);
-        double upper = list.get(upperIndex);      
-        double d = pos - 1 - lowerIndex;
-        
-        return (upper - lower) * d + lower;
+    public List<Double> calculate(int[] array, int offset, int length) {
+        return this.quartiles(IntegerUtil.toDoubleArray(array, offset, length));
     }
     
+    /**
+     * Returns the quartiles using a scratch array. The order of the values in 
+     * the array is changed.
+     * @param    double[]    the scratch array
+     * @return               the result
+     */
+    private List<Double> quartiles(double[] values) {
+		
+		int n = values.length;
+		
+		List<Double> result = new ArrayList<Double>();
+		
+		result.add(SelectionUtil.quantile(values, 0, n, (25 * (n + 1)) / 100.0));
+		result.add(SelectionUtil.quantile(values, 0, n, (50 * (n + 1)) / 100.0));
+		result.add(SelectionUtil.quantile(values, 0, n, (75 * (n + 1)) / 100.0));
+		
+		return result;
+    }
+
 }
@@ -25,6 +25,7 @@ package com.github.jessemull.microflex.integerflex.stat;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * This class returns the range for integer plate stacks, plates, wells and well sets.
@@ -143,7 +144,51 @@ public class RangeInteger extends DescriptiveStatisticInteger {
      * @return                   the result
      */
     public double calculate(List<Double> list, int begin, int length) {
-        return Collections.max(list.subList(begin, begin + length));            
+        return calculate(list.subList(begin, begin + length));            
+    }
+    
+    /**
+     * Calculates the range of the values in a primitive array between the offset 
+     * and the offset plus the length. The range is calculated exactly using a long.
+     * @param    int[]    the array
+     * @param    int      index of the first value
+     * @param    int      number of values
+     * @return            the result
+     */
+    public double calculate(int[] array, int offset, int length) {
+        
+        if(length == 0) {
+            throw new NoSuchElementException();
+        }
+        
+        int min = array[offset];
+        int max = array[offset];
+        
+        for(int i = offset + 1; i < offset + length; i++) {
+            if(array[i] < min) {
+                min = array[i];
+            } else if(array[i] > max) {
+                max = array[i];
+            }
+        }
+        
+        return (long) max - min;
+    }
+    
+    /**
+     * Returns true. The range is calculated from a summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the range using a summary of the values.
+     * @param    SummaryInteger    the summary
+     * @return                     the result
+     */
+    public double calculate(SummaryInteger summary) {
+        return summary.max() - summary.min();
     }
-
 }
@@ -170,5 +170,22 @@ public class SampleStandardDeviationInteger extends DescriptiveStatisticInteger
         
         return sum / list.size();
     }
-
+    
+    /**
+     * Returns true. The sample standard deviation is calculated from the moments
+     * of a summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the sample standard deviation using a summary of the values.
+     * @param    SummaryInteger    the summary
+     * @return                     the result
+     */
+    public double calculate(SummaryInteger summary) {
+        return summary.sampleStandardDeviation();
+    }
 }
@@ -226,4 +226,21 @@ public class SampleVarianceInteger extends DescriptiveStatisticIntegerWeights {
         
     }
     
+    /**
+     * Returns true. The sample variance is calculated from the moments of a
+     * summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the sample variance using a summary of the values.
+     * @param    SummaryInteger    the summary
+     * @return                     the result
+     */
+    public double calculate(SummaryInteger summary) {
+        return summary.sampleVariance();
+    }
 }
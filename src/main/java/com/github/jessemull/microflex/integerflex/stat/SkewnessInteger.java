@@ -205,4 +205,22 @@ public class SkewnessInteger extends DescriptiveStatisticInteger {
 
     	return sum;
     }
+    
+    /**
+     * Returns true. The skewness is calculated from the moments of a summary of
+     * the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the skewness using a summary of the values.
+     * @param    SummaryInteger    the summary
+     * @return                     the result
+     */
+    public double calculate(SummaryInteger summary) {
+        return summary.skewness();
+    }
 }
@@ -170,5 +170,22 @@ public class StandardErrorInteger extends DescriptiveStatisticInteger {
         
         return sum / list.size();
     }
-
+    
+    /**
+     * Returns true. The standard error is calculated from the moments of a
+     * summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the standard error using a summary of the values.
+     * @param    SummaryInteger    the summary
+     * @return                     the result
+     */
+    public double calculate(SummaryInteger summary) {
+        return summary.populationStandardDeviation() / Math.sqrt(summary.n());
+    }
 }
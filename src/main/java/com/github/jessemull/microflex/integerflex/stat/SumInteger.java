@@ -197,4 +197,40 @@ public class SumInteger extends DescriptiveStatisticIntegerWeights {
     public double calculate(List<Double> list, double[] weights, int begin, int length) {
         return calculate(list.subList(begin, begin + length), weights);
     }
+    
+    /**
+     * Calculates the sum of the values in a primitive array between the offset 
+     * and the offset plus the length. The values are summed exactly using a long.
+     * @param    int[]    the array
+     * @param    int      index of the first value
+     * @param    int      number of values
+     * @return            the result
+     */
+    public double calculate(int[] array, int offset, int length) {
+        
+        long sum = 0;
+        
+        for(int i = offset; i < offset + length; i++) {
+            sum += array[i];
+        }
+        
+        return sum;
+    }
+    
+    /**
+     * Returns true. The sum is calculated from a summary of the values.
+     * @return    true
+     */
+    public boolean isMergeable() {
+        return true;
+    }
+    
+    /**
+     * Calculates the sum using a summary of the values.
+     * @param    SummaryInteger    the summary
+     * @return                     the result
+     */
+    public double calculate(SummaryInteger summary) {
+        return summary.sum();
+    }
 }
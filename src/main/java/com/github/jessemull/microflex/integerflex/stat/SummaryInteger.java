@@ -0,0 +1,375 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package -------------------------------- */
+
+package com.github.jessemull.microflex.integerflex.stat;
+
+/* ----------------------------- Dependencies ------------------------------ */
+
+import java.util.NoSuchElementException;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * This class holds the moment based summary statistics for a set of integer
+ * values. The summary is created by the summary statistics object using a
+ * single pass over the values. The running mean and the second, third and
+ * fourth central moments are updated for each value using the numerically
+ * stable one pass formulas described by Welford and Terriberry.
+ *
+ * <br><br>
+ *
+ * Summaries are mergeable. A summary calculated for each well, plate or stack
+ * can be merged with the summaries of other groups of values in any order to
+ * obtain the summary of all the values, without copying the values into an
+ * aggregated list.
+ *
+ * <br><br>
+ *
+ * The derived statistics use the same formulas as the individual descriptive
+ * statistic objects:
+ *
+ * <table cellspacing="5px" style="text-align:left; margin: 20px;">
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px;">Summary Statistics<div></th>
+ *    <tr>
+ *       <td>N</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Sum</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Product</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Minimum</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Maximum</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Mean</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Population Variance</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Sample Variance</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Population Standard Deviation</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Sample Standard Deviation</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Standard Error</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Skewness</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Kurtosis</td>
+ *    </tr>
+ * </table>
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class SummaryInteger {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    private long n;                                     // Number of values
+    private double sum;                                 // Sum of the values
+    private double product = 1;                         // Product of the values
+    private double min = Double.POSITIVE_INFINITY;      // Minimum value
+    private double max = Double.NEGATIVE_INFINITY;      // Maximum value
+    private double mean;                                // Running mean
+    private double m2;                                  // Sum of squared deviations
+    private double m3;                                  // Sum of cubed deviations
+    private double m4;                                  // Sum of fourth power deviations
+
+    /* ----------------------------- Constructors --------------------------- */
+
+    /**
+     * Creates an empty summary.
+     */
+    SummaryInteger() {}
+
+    /* ------------------------- Accumulation Methods ----------------------- */
+
+    /**
+     * Adds the values in the array between the offset and the offset plus the
+     * length to the summary.
+     * @param    int[]    the array
+     * @param    int      index of the first value
+     * @param    int      number of values
+     */
+    void add(int[] array, int offset, int length) {
+        for(int i = offset; i < offset + length; i++) {
+            this.add(array[i]);
+        }
+    }
+
+    /**
+     * Adds a value to the summary.
+     * @param    double    the value
+     */
+    void add(double value) {
+
+        long n1 = this.n++;
+        double n = this.n;
+
+        double delta = value - this.mean;
+        double deltaN = delta / n;
+        double deltaN2 = deltaN * deltaN;
+        double term = delta * deltaN * n1;
+
+        this.mean += deltaN;
+        this.m4 += term * deltaN2 * (n * n - 3 * n + 3) + 6 * deltaN2 * this.m2 - 4 * deltaN * this.m3;
+        this.m3 += term * deltaN * (n - 2) - 3 * deltaN * this.m2;
+        this.m2 += term;
+
+        this.sum += value;
+        this.product *= value;
+
+        if(value < this.min) {
+            this.min = value;
+        }
+
+        if(value > this.max) {
+            this.max = value;
+        }
+    }
+
+    /* ---------------------------- Merge Methods ------------------------- */
+
+    /**
+     * Merges the values of another summary into this summary. Merging is
+     * associative, so the partial summaries of wells, plates and stacks can be
+     * combined in any grouping. The central moments are combined using the
+     * pairwise formulas described by Chan, Golub and LeVeque and by Pebay.
+     * @param    SummaryInteger    the summary to merge
+     * @return                   this summary
+     */
+    public SummaryInteger merge(SummaryInteger summary) {
+
+        Preconditions.checkNotNull(summary, "The summary cannot be null.");
+
+        if(summary.n == 0) {
+            return this;
+        }
+
+        if(this.n == 0) {
+            this.mean = summary.mean;
+            this.m2 = summary.m2;
+            this.m3 = summary.m3;
+            this.m4 = summary.m4;
+        } else {
+
+            double n1 = this.n;
+            double n2 = summary.n;
+            double n = n1 + n2;
+
+            double delta = summary.mean - this.mean;
+            double delta2 = delta * delta;
+
+            double m2 = this.m2 + summary.m2 + delta2 * n1 * n2 / n;
+
+            double m3 = this.m3 + summary.m3 +
+                        delta2 * delta * n1 * n2 * (n1 - n2) / (n * n) +
+                        3 * delta * (n1 * summary.m2 - n2 * this.m2) / n;
+
+            double m4 = this.m4 + summary.m4 +
+                        delta2 * delta2 * n1 * n2 * (n1 * n1 - n1 * n2 + n2 * n2) / (n * n * n) +
+                        6 * delta2 * (n1 * n1 * summary.m2 + n2 * n2 * this.m2) / (n * n) +
+                        4 * delta * (n1 * summary.m3 - n2 * this.m3) / n;
+
+            this.mean += delta * n2 / n;
+            this.m2 = m2;
+            this.m3 = m3;
+            this.m4 = m4;
+        }
+
+        this.n += summary.n;
+        this.sum += summary.sum;
+        this.product *= summary.product;
+
+        if(summary.min < this.min) {
+            this.min = summary.min;
+        }
+
+        if(summary.max > this.max) {
+            this.max = summary.max;
+        }
+
+        return this;
+    }
+
+    /* ------------------------- Summary Statistics ------------------------- */
+
+    /**
+     * Returns the number of values.
+     * @return    the number of values
+     */
+    public long n() {
+        return this.n;
+    }
+
+    /**
+     * Returns the sum of the values.
+     * @return    the sum
+     */
+    public double sum() {
+        return this.sum;
+    }
+
+    /**
+     * Returns the product of the values or zero if the summary holds no values.
+     * @return    the product
+     */
+    public double product() {
+        return this.n == 0 ? 0 : this.product;
+    }
+
+    /**
+     * Returns the minimum value.
+     * @return    the minimum
+     * @throws    NoSuchElementException    if the summary holds no values
+     */
+    public double min() {
+        this.checkEmpty();
+        return this.min;
+    }
+
+    /**
+     * Returns the maximum value.
+     * @return    the maximum
+     * @throws    NoSuchElementException    if the summary holds no values
+     */
+    public double max() {
+        this.checkEmpty();
+        return this.max;
+    }
+
+    /**
+     * Returns the mean or zero if the summary holds no values.
+     * @return    the mean
+     */
+    public double mean() {
+        return this.mean;
+    }
+
+    /**
+     * Returns the population variance.
+     * @return    the population variance
+     */
+    public double populationVariance() {
+        return this.m2 / this.n;
+    }
+
+    /**
+     * Returns the sample variance.
+     * @return    the sample variance
+     */
+    public double sampleVariance() {
+        return this.m2 / (this.n - 1);
+    }
+
+    /**
+     * Returns the population standard deviation.
+     * @return    the population standard deviation
+     */
+    public double populationStandardDeviation() {
+        return Math.sqrt(this.populationVariance());
+    }
+
+    /**
+     * Returns the sample standard deviation.
+     * @return    the sample standard deviation
+     */
+    public double sampleStandardDeviation() {
+        return Math.sqrt(this.sampleVariance());
+    }
+
+    /**
+     * Returns the standard error of the mean.
+     * @return    the standard error
+     */
+    public double standardError() {
+        return this.sampleStandardDeviation() / Math.sqrt(this.n);
+    }
+
+    /**
+     * Returns the unbiased skewness.
+     * @return    the skewness
+     */
+    public double skewness() {
+        double n = this.n;
+        double coefficient = n / ((n - 1.0) * (n - 2.0));
+        return coefficient * this.m3 / Math.pow(this.sampleStandardDeviation(), 3);
+    }
+
+    /**
+     * Returns the unbiased kurtosis.
+     * @return    the kurtosis
+     * @throws    ArithmeticException    if the summary holds three values or less
+     */
+    public double kurtosis() {
+
+        if(this.n <= 3) {
+            throw new ArithmeticException("The kurtosis input list must contain " +
+                    "greater than three arguments.");
+        }
+
+        double n = this.n;
+        double variance = this.sampleVariance();
+
+        double coefficient =  (n * (n + 1)) / ((n - 1) * (n - 2) * (n - 3));
+        double subtrahend = (3 * Math.pow(n - 1, 2)) / ((n - 2) * (n - 3));
+
+        return this.m4 / (variance * variance) * coefficient - subtrahend;
+    }
+
+    /**
+     * Returns the summary as a string.
+     * @return    the summary
+     */
+    public String toString() {
+        return "N: " + this.n + " Sum: " + this.sum + " Mean: " + this.mean +
+               " Min: " + (this.n == 0 ? "NA" : this.min) +
+               " Max: " + (this.n == 0 ? "NA" : this.max) +
+               " Variance: " + this.sampleVariance();
+    }
+
+    /* --------------------------- Private Methods -------------------------- */
+
+    /**
+     * Throws an exception if the summary holds no values.
+     */
+    private void checkEmpty() {
+        if(this.n == 0) {
+            throw new NoSuchElementException("The summary does not contain any values.");
+        }
+    }
+
+}
@@ -0,0 +1,490 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package -------------------------------- */
+
+package com.github.jessemull.microflex.integerflex.stat;
+
+/* ----------------------------- Dependencies ------------------------------ */
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+
+import com.google.common.base.Preconditions;
+
+import com.github.jessemull.microflex.integerflex.plate.DensePlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.StackInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.github.jessemull.microflex.util.ParallelUtil;
+
+/**
+ * This class calculates the moment based summary statistics for integer plates,
+ * wells and well sets using a single pass over the values of each well. The
+ * count, sum, minimum, maximum, mean, variance, standard deviation, standard
+ * error, skewness and kurtosis are returned together in a summary object.
+ * Calculating several statistics for each well with the summary statistics
+ * object is faster than using the individual statistic objects, which each
+ * traverse the well values.
+ *
+ * <br><br>
+ *
+ * Summaries can be calculated on plates, sets and wells using standard or
+ * aggregated functions. Standard functions calculate the summary for each well
+ * in the plate or set. Aggregated functions calculate a single summary using the
+ * values from all the wells in the plate, set or stack. The values are never 
+ * copied into an aggregated list. Stack summaries merge a partial summary for 
+ * each plate, and the plates, sets and stacks in collections and arrays are 
+ * summarized in parallel when a fork join pool is set.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class SummaryStatisticsInteger {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    private ForkJoinPool pool;    // Pool for parallel execution or null
+
+    /* ------------------------- Parallel Execution ------------------------- */
+
+    /**
+     * Sets the fork join pool used to calculate the summaries of the plates, 
+     * sets and stacks in parallel. The partial summaries are merged in the same
+     * order used by sequential execution. A null pool restores sequential 
+     * execution.
+     * @param    ForkJoinPool    the pool or null
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the fork join pool used for parallel execution or null if the 
+     * summaries are calculated sequentially.
+     * @return    the pool or null
+     */
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+
+    /**
+     * Enables parallel execution using the shared default pool or restores 
+     * sequential execution.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ParallelUtil.defaultPool() : null;
+    }
+
+    /**
+     * Returns true if the summaries are calculated in parallel.
+     * @return    true if parallel execution is enabled
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+
+    /* ---------------- Well summaries for all plate wells ------------------ */
+
+    /**
+     * Returns the summary for each plate well.
+     * @param    PlateInteger    the plate
+     * @return                   map of wells and summaries
+     */
+    public Map<WellInteger, SummaryInteger> plate(PlateInteger plate) {
+
+        Preconditions.checkNotNull(plate, "The plate value cannot be null.");
+
+        Map<WellInteger, SummaryInteger> result = new TreeMap<WellInteger, SummaryInteger>();
+
+        for (WellInteger well : plate) {
+            result.put(new WellInteger(well), well(well));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the summary for each plate well using the values between the
+     * beginning and ending indices.
+     * @param    PlateInteger    the plate
+     * @param    int             beginning index of subset
+     * @param    int             length of subset
+     * @return                   map of wells and summaries
+     */
+    public Map<WellInteger, SummaryInteger> plate(PlateInteger plate, int begin, int length) {
+
+        Preconditions.checkNotNull(plate, "The plate value cannot be null.");
+
+        Map<WellInteger, SummaryInteger> result = new TreeMap<WellInteger, SummaryInteger>();
+
+        for (WellInteger well : plate) {
+            result.put(new WellInteger(well), well(well, begin, length));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the summary for each well in a dense plate. The summaries are
+     * calculated directly from the contiguous plate value array.
+     * @param    DensePlateInteger    the dense plate
+     * @return                        map of wells and summaries
+     */
+    public Map<WellInteger, SummaryInteger> plate(DensePlateInteger plate) {
+
+        Preconditions.checkNotNull(plate, "The plate value cannot be null.");
+
+        Map<WellInteger, SummaryInteger> result = new TreeMap<WellInteger, SummaryInteger>();
+        int[] values = plate.dataArray();
+
+        for (WellInteger well : plate) {
+            result.put(well, calculate(values,
+                    plate.dataOffset(well.row(), well.column()),
+                    plate.dataLength(well.row(), well.column())));
+        }
+
+        return result;
+    }
+
+    /* --------------------- Aggregated plate summaries --------------------- */
+
+    /**
+     * Returns the aggregated summary for the plate.
+     * @param    PlateInteger    the plate
+     * @return                   the aggregated summary
+     */
+    public SummaryInteger platesAggregated(PlateInteger plate) {
+
+        Preconditions.checkNotNull(plate, "The plate cannot be null.");
+
+        SummaryInteger summary = new SummaryInteger();
+
+        for (WellInteger well : plate) {
+            int[] values = well.toIntArray();
+            summary.add(values, 0, values.length);
+        }
+
+        return summary;
+    }
+
+    /**
+     * Returns the aggregated summary for a dense plate.
+     * @param    DensePlateInteger    the dense plate
+     * @return                        the aggregated summary
+     */
+    public SummaryInteger platesAggregated(DensePlateInteger plate) {
+        Preconditions.checkNotNull(plate, "The plate cannot be null.");
+        return calculate(plate.dataArray(), 0, plate.valueCount());
+    }
+
+    /**
+     * Returns the aggregated summary for each plate. The plates are summarized
+     * in parallel when a pool is set.
+     * @param    Collection<PlateInteger>    collection of plates
+     * @return                               map of plates and aggregated summaries
+     */
+    public Map<PlateInteger, SummaryInteger> platesAggregated(Collection<PlateInteger> collection) {
+
+        Preconditions.checkNotNull(collection, "The plate collection cannot be null.");
+
+        Map<PlateInteger, SummaryInteger> results = new TreeMap<PlateInteger, SummaryInteger>();
+
+        List<SummaryInteger> summaries = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<PlateInteger, SummaryInteger>() {
+            public SummaryInteger apply(PlateInteger plate) {
+                return platesAggregated(plate);
+            }
+        });
+
+        int index = 0;
+
+        for(PlateInteger plate : collection) {
+            results.put(new PlateInteger(plate), summaries.get(index++));
+        }
+
+        return results;
+    }
+
+    /**
+     * Returns the aggregated summary for each plate. The plates are summarized
+     * in parallel when a pool is set.
+     * @param    PlateInteger[]    array of plates
+     * @return                     map of plates and aggregated summaries
+     */
+    public Map<PlateInteger, SummaryInteger> platesAggregated(PlateInteger[] array) {
+        Preconditions.checkNotNull(array, "The plate array cannot be null.");
+        return this.platesAggregated(Arrays.asList(array));
+    }
+
+    /* ---------------- Well summaries for all wells in a set --------------- */
+
+    /**
+     * Returns the summary of each well in the well set.
+     * @param    WellSetInteger    the well set
+     * @return                     map of wells and summaries
+     */
+    public Map<WellInteger, SummaryInteger> set(WellSetInteger set) {
+
+        Preconditions.checkNotNull(set, "The set cannot be null.");
+
+        Map<WellInteger, SummaryInteger> result = new TreeMap<WellInteger, SummaryInteger>();
+
+        for (WellInteger well : set) {
+            result.put(new WellInteger(well), well(well));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the summary of each well in the well set using the values between
+     * the beginning and ending indices.
+     * @param    WellSetInteger    the well set
+     * @param    int               beginning index of subset
+     * @param    int               length of subset
+     * @return                     map of wells and summaries
+     */
+    public Map<WellInteger, SummaryInteger> set(WellSetInteger set, int begin, int length) {
+
+        Preconditions.checkNotNull(set, "The well set cannot be null.");
+
+        Map<WellInteger, SummaryInteger> result = new TreeMap<WellInteger, SummaryInteger>();
+
+        for (WellInteger well : set) {
+            result.put(new WellInteger(well), well(well, begin, length));
+        }
+
+        return result;
+    }
+
+    /* ---------------------- Aggregated set summaries ---------------------- */
+
+    /**
+     * Returns the aggregated summary for the well set.
+     * @param    WellSetInteger    the well set
+     * @return                     the aggregated summary
+     */
+    public SummaryInteger setsAggregated(WellSetInteger set) {
+
+        Preconditions.checkNotNull(set, "The well set cannot be null.");
+
+        SummaryInteger summary = new SummaryInteger();
+
+        for (WellInteger well : set) {
+            int[] values = well.toIntArray();
+            summary.add(values, 0, values.length);
+        }
+
+        return summary;
+    }
+
+    /**
+     * Returns the aggregated summary for each well set. The sets are summarized
+     * in parallel when a pool is set.
+     * @param    Collection<WellSetInteger>    collection of well sets
+     * @return                                 map of well sets and aggregated summaries
+     */
+    public Map<WellSetInteger, SummaryInteger> setsAggregated(Collection<WellSetInteger> collection) {
+
+        Preconditions.checkNotNull(collection, "The well set collection cannot be null.");
+
+        Map<WellSetInteger, SummaryInteger> results = new TreeMap<WellSetInteger, SummaryInteger>();
+
+        List<SummaryInteger> summaries = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<WellSetInteger, SummaryInteger>() {
+            public SummaryInteger apply(WellSetInteger set) {
+                return setsAggregated(set);
+            }
+        });
+
+        int index = 0;
+
+        for(WellSetInteger set : collection) {
+            results.put(new WellSetInteger(set), summaries.get(index++));
+        }
+
+        return results;
+    }
+
+    /**
+     * Returns the aggregated summary for each well set. The sets are summarized
+     * in parallel when a pool is set.
+     * @param    WellSetInteger[]    array of well sets
+     * @return                       map of well sets and aggregated summaries
+     */
+    public Map<WellSetInteger, SummaryInteger> setsAggregated(WellSetInteger[] array) {
+        Preconditions.checkNotNull(array, "The well set array cannot be null.");
+        return this.setsAggregated(Arrays.asList(array));
+    }
+
+    /* --------------------- Aggregated stack summaries --------------------- */
+
+    /**
+     * Returns the aggregated summary for the stack. A partial summary is
+     * calculated for each plate, in parallel when a pool is set, and the
+     * partial summaries are merged. The values are never copied into an 
+     * aggregated list.
+     * @param    StackInteger    the stack
+     * @return                   the aggregated summary
+     */
+    public SummaryInteger stacksAggregated(StackInteger stack) {
+
+        Preconditions.checkNotNull(stack, "The stack cannot be null.");
+
+        List<SummaryInteger> partials = ParallelUtil.map(this.pool, stack, new ParallelUtil.Task<PlateInteger, SummaryInteger>() {
+            public SummaryInteger apply(PlateInteger plate) {
+                return platesAggregated(plate);
+            }
+        });
+
+        SummaryInteger summary = new SummaryInteger();
+
+        for(SummaryInteger partial : partials) {
+            summary.merge(partial);
+        }
+
+        return summary;
+    }
+
+    /**
+     * Returns the aggregated summary for each stack. The stacks are summarized
+     * in parallel when a pool is set.
+     * @param    Collection<StackInteger>    collection of stacks
+     * @return                               map of stacks and aggregated summaries
+     */
+    public Map<StackInteger, SummaryInteger> stacksAggregated(Collection<StackInteger> collection) {
+
+        Preconditions.checkNotNull(collection, "The stack collection cannot be null.");
+
+        Map<StackInteger, SummaryInteger> results = new LinkedHashMap<StackInteger, SummaryInteger>();
+
+        List<SummaryInteger> summaries = ParallelUtil.map(this.pool, collection, new ParallelUtil.Task<StackInteger, SummaryInteger>() {
+            public SummaryInteger apply(StackInteger stack) {
+                return stacksAggregated(stack);
+            }
+        });
+
+        int index = 0;
+
+        for(StackInteger stack : collection) {
+            results.put(new StackInteger(stack), summaries.get(index++));
+        }
+
+        return results;
+    }
+
+    /**
+     * Returns the aggregated summary for each stack. The stacks are summarized
+     * in parallel when a pool is set.
+     * @param    StackInteger[]    array of stacks
+     * @return                     map of stacks and aggregated summaries
+     */
+    public Map<StackInteger, SummaryInteger> stacksAggregated(StackInteger[] array) {
+        Preconditions.checkNotNull(array, "The stack array cannot be null.");
+        return this.stacksAggregated(Arrays.asList(array));
+    }
+
+    /* --------------------------- Well summaries --------------------------- */
+
+    /**
+     * Returns the well summary.
+     * @param    WellInteger    the well
+     * @return                  the summary
+     */
+    public SummaryInteger well(WellInteger well) {
+        Preconditions.checkNotNull(well, "The well cannot be null.");
+        int[] values = well.toIntArray();
+        return calculate(values, 0, values.length);
+    }
+
+    /**
+     * Returns the well summary for the values between the beginning and ending
+     * indices.
+     * @param    WellInteger    the well
+     * @param    int            beginning index of subset
+     * @param    int            length of the subset
+     * @return                  the summary
+     */
+    public SummaryInteger well(WellInteger well, int begin, int length) {
+        Preconditions.checkNotNull(well, "The well cannot be null.");
+        int[] values = well.toIntArray();
+        Preconditions.checkArgument(begin <= values.length &&
+                                    begin >= 0 &&
+                                    begin + length <= values.length);
+        return calculate(values, begin, length);
+    }
+
+    /* --------- Methods for calculating the summary of a data set ---------- */
+
+    /**
+     * Calculates the summary.
+     * @param    List<Double>    the list
+     * @return                   the summary
+     */
+    public SummaryInteger calculate(List<Double> list) {
+
+        Preconditions.checkNotNull(list, "The list cannot be null.");
+
+        SummaryInteger summary = new SummaryInteger();
+
+        for(double db : list) {
+            summary.add(db);
+        }
+
+        return summary;
+    }
+
+    /**
+     * Calculates the summary of the values between the beginning and ending indices.
+     * @param    List<Double>    the list
+     * @param    int             beginning index of subset
+     * @param    int             length of subset
+     * @return                   the summary
+     */
+    public SummaryInteger calculate(List<Double> list, int begin, int length) {
+        return calculate(list.subList(begin, begin + length));
+    }
+
+    /**
+     * Calculates the summary of the values in a primitive array between the
+     * offset and the offset plus the length.
+     * @param    int[]    the array
+     * @param    int      index of the first value
+     * @param    int      number of values
+     * @return            the summary
+     */
+    public SummaryInteger calculate(int[] array, int offset, int length) {
+
+        Preconditions.checkNotNull(array, "The array cannot be null.");
+
+        SummaryInteger summary = new SummaryInteger();
+        summary.add(array, offset, length);
+
+        return summary;
+    }
+
+}
@@ -24,10 +24,6 @@ package com.github.jessemull.microflex.plate;
 /* -------------------- Dependencies -------------------- */
 
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import com.google.common.base.Preconditions;
 
@@ -86,6 +82,10 @@ import com.google.common.base.Preconditions;
  * The Well class also implements both hash code and equals functions in order to
  * prevent duplicate wells within a single plate object.
  * 
+ * The row and column of the well are held by an immutable well coordinate. The
+ * coordinates of the standard plate formats are shared by all wells, so wells 
+ * at the same position share the well ID, hash code and ordinal.
+ * 
  * The well constructor is passed a flag holding the numerical data type. Once 
  * set, the numerical data type cannot be changed. The MicroFlex library supports 
  * wells containing all primitive numerical types for input and output as well 
@@ -107,17 +107,8 @@ public abstract class Well<T extends Number> implements Comparable<Well<T>> {
     
     /* --------------------------- Private Fields --------------------------- */
     
-    private int row;                                                  // Well row
-    private int column;                                               // Well column
-    private int type;                                                 // Numerical data type
-    
-    private int ALPHA_BASE = 26;                                      // Number of char types available for the row ID
-    private String digits = "\\d+$";                                  // Numerals only regex
-    private String letters = "^[A-Z]+";                               // Letters only regex 
-    private String alphaOnly = "^[A-Za-z]+[0-9]+$";                   // Alphanumeric characters only     
-    private Pattern digitsPattern = Pattern.compile(digits);          // Numeral only pattern
-    private Pattern lettersPattern = Pattern.compile(letters);        // Letters only pattern
-    private Pattern alphaOnlyPattern = Pattern.compile(alphaOnly);    // Alphanumeric characters only pattern
+    private WellCoordinate coordinate;    // Well row and column
+    private int type;                     // Numerical data type
     
     /* ---------------------------- Constructors ---------------------------- */
     
@@ -130,9 +121,7 @@ public abstract class Well<T extends Number> implements Comparable<Well<T>> {
         this.validateType(type);
         this.validateIndices(row, column);
         this.type = type;
-        this.row = row;
-        this.column = column;
-
+        this.coordinate = WellCoordinate.of(row, column);
     }
        
     /**
@@ -143,17 +132,7 @@ public abstract class Well<T extends Number> implements Comparable<Well<T>> {
      * @param    int       the well column
      */
     public Well(int type, String row, int column) {
-        
-        try {
-            this.row = Integer.decode(row);
-        } catch(NumberFormatException e) {
-            this.row = parseRow(row);
-        }
-        
-        this.column = column;
-        this.type = type;
-        
-        validateIndices(this.row, this. column);
+        this(type, WellCoordinate.parseRow(row), column);
     }
         
     /**
@@ -165,17 +144,7 @@ public abstract class Well<T extends Number> implements Comparable<Well<T>> {
      * @throws   IllegalArgumentException    invalid column value
      */
     public Well(int type, int row, String column) {
-        
-        this.row = row;
-        this.type = type;
-        
-        try {
-            this.column = Integer.decode(column);
-        } catch(Exception e) {
-            throw new IllegalArgumentException("Illegal column value: " + column);
-        }
-
-        validateIndices(this.row, this. column);
+        this(type, row, WellCoordinate.parseColumn(column));
     }
     
     /**
@@ -187,21 +156,7 @@ public abstract class Well<T extends Number> implements Comparable<Well<T>> {
      * @throws   IllegalArgumentException    invalid column value
      */
     public Well(int type, String row, String column) {
-       
-        try {
-            this.row = Integer.decode(row);
-        } catch(NumberFormatException e) {
-            this.row = parseRow(row);
-        }
-        
-        try {
-            this.column = Integer.decode(column);
-        } catch(Exception e) {
-            throw new IllegalArgumentException("Illegal column value: " + column);
-        }
-        
-        this.type = type;
-        validateIndices(this.row, this. column);
+        this(type, WellCoordinate.parseRow(row), WellCoordinate.parseColumn(column));
     }
     
     /**
@@ -211,34 +166,10 @@ public abstract class Well<T extends Number> implements Comparable<Well<T>> {
      * @param    String    the well index
      */
     public Well(int type, String wellID) {
-        
-    	this.type = type;
-        String upper = wellID.toUpperCase().trim();
-        
-        Matcher digitsMatcher = digitsPattern.matcher(upper);
-        Matcher lettersMatcher = lettersPattern.matcher(upper);
-        Matcher alphasOnlyMatcher = alphaOnlyPattern.matcher(upper);
-        
-        /* Alphas matcher enforces the correct format for the well ID */
-        
-        if(alphasOnlyMatcher.find()) {
-            
-            lettersMatcher.find();
-            digitsMatcher.find();
-            
-            this.row = parseRow(lettersMatcher.group(0).trim());
-            
-            try {
-                this.column = Integer.decode(digitsMatcher.group(0));
-            } catch(NumberFormatException e) {
-                throw new IllegalArgumentException("Invalid column ID: " + digitsMatcher.group(0).trim());
-            }
-            
-        } else {
-            throw new IllegalArgumentException("Invalid well index: " + wellID);
-        }
-
-        validateIndices(this.row, this. column);
+        this.validateType(type);
+        this.type = type;
+        this.coordinate = WellCoordinate.parse(wellID);
+        this.validateIndices(this.coordinate.row(), this.coordinate.column());
     }
     
     /**
@@ -247,49 +178,17 @@ public abstract class Well<T extends Number> implements Comparable<Well<T>> {
      */
     public Well(Well<T> well) {
         this.type = well.type();
-    	this.row = well.row();
-    	this.column = well.column();
+    	this.coordinate = well.coordinate();
     }
 
-    /* --------------------------- Private Methods -------------------------- */
+    /* ---------------------------- Public Methods -------------------------- */
     
-    /**
-     * Converts a row ID to an integer value.
-     * @param    String    the row as a string
-     * @return             the row as an integer value
-     */
-    private int parseRow(String rowString) {
-        
-        int rowInt = 0;
-        int baseIndex = 1;
-
-        String upper = rowString.toUpperCase().trim();
-        Matcher lettersMatcher = lettersPattern.matcher(upper);
-        
-        if(lettersMatcher.find()) {
-            
-            String letters = lettersMatcher.group(0);
-            
-            rowInt = letters.charAt(letters.length() - 1) - 65;
-
-            for(int i = letters.length() - 2; i >= 0; i--) {
-                rowInt += (letters.charAt(i) - 65 + 1) * Math.pow(ALPHA_BASE, baseIndex++);  
-            }
-            
-            return rowInt;
-            
-        } else {           
-            throw new IllegalArgumentException("Invalid row ID: " + row);
-        }
-        
-    }
-
     /**
      * Returns the well index as a letter(s) number pair.
      * @return    the index
      */
     public String index() {
-    	return this.rowString() + this.column;
+    	return this.coordinate.id();
     }
     
     /**
@@ -319,7 +218,7 @@ public abstract class Well<T extends Number> implements Comparable<Well<T>> {
      * @return    the column number
      */
     public int column() {
-        return this.column;
+        return this.coordinate.column();
     }
     
     /**
@@ -327,7 +226,15 @@ public abstract class Well<T extends Number> implements Comparable<Well<T>> {
      * @return    the row number
      */
     public int row() {
-        return this.row;
+        return this.coordinate.row();
+    }
+    
+    /**
+     * Returns the well coordinate.
+     * @return    the coordinate
+     */
+    public WellCoordinate coordinate() {
+        return this.coordinate;
     }
     
     /**
@@ -335,7 +242,7 @@ public abstract class Well<T extends Number> implements Comparable<Well<T>> {
      * @return    the alpha base value
      */
     public int alphaBase() {
-        return this.ALPHA_BASE;
+        return WellCoordinate.ALPHA_BASE;
     }
     
     /**
@@ -343,16 +250,7 @@ public abstract class Well<T extends Number> implements Comparable<Well<T>> {
      * @return    row ID
      */
     public String rowString() {
-        
-        int rowInt = this.row;
-        String rowString = "";
-        
-        while (rowInt >=  0) {
-            rowString = (char) (rowInt % ALPHA_BASE + 65) + rowString;
-            rowInt = (rowInt  / ALPHA_BASE) - 1;
-        }
-        
-        return rowString;
+        return this.coordinate.rowString();
     }    
     
     /**
@@ -371,7 +269,7 @@ public abstract class Well<T extends Number> implements Comparable<Well<T>> {
     	
     	array += this.data().get(index) + "]";
     	
-        return rowString() + this.column + " " + array;
+        return this.coordinate.id() + " " + array;
     }
     
     /**
@@ -399,11 +297,7 @@ public abstract class Well<T extends Number> implements Comparable<Well<T>> {
      * @return    the hash code
      */
     public int hashCode() {
-        return new HashCodeBuilder(17, 37).
-                   append(this.row).
-                   append(this.column).
-                   append(this.ALPHA_BASE).
-                   toHashCode();    
+        return this.coordinate.hashCode();
     }
     
     /**
@@ -415,23 +309,13 @@ public abstract class Well<T extends Number> implements Comparable<Well<T>> {
      */
     public int compareTo(Well<T> well) throws ClassCastException {
         
-        if(this.equals(well)) {
-            return 0;
-        }
-        
-        if(this.row() > well.row()) {
-            return 1;
-        } else if(this.row() != well.row()) {
-            return -1;
-        }
+        WellCoordinate coordinate = well.coordinate();
         
-        if(this.column() > well.column()) {
-            return 1;
-        } else if(this.column() != well.column()) {
-            return -1;
+        if(this.coordinate == coordinate) {
+            return 0;
         }
         
-        return 0;
+        return this.coordinate.compareTo(coordinate);
     }
     
     public abstract List<T> data();
@@ -0,0 +1,436 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* ---------------------- Package ----------------------- */
+
+package com.github.jessemull.microflex.plate;
+
+/**
+ * This class represents the immutable row and column of a well. The coordinates
+ * of every position in the standard plate formats, up to and including the 1536
+ * well plate, are created once and shared by all wells and well indices. Other
+ * coordinates are created on demand. The hash code and ordinal are calculated
+ * when the coordinate is created.
+ *
+ * The class also holds the parser and formatter for well IDs. Row IDs are
+ * letters starting with A and working towards Z, followed by two letter IDs
+ * (A -> ... -> Z -> AA -> AB). Well IDs are a row ID followed by the column
+ * number, for example A1 or AF12. IDs are parsed without regular expressions
+ * or intermediate strings.
+ *
+ * Coordinates are compared using the row and then the column.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public final class WellCoordinate implements Comparable<WellCoordinate> {
+
+    /* --------------------------- Public Fields ---------------------------- */
+
+    public static final int ALPHA_BASE = 26;       // Number of char types available for the row ID
+    public static final int CACHED_ROWS = 32;      // Rows in a 1536 well plate
+    public static final int CACHED_COLUMNS = 48;   // Columns in a 1536 well plate
+
+    /* --------------------------- Private Fields --------------------------- */
+
+    private static final WellCoordinate[] CACHE;   // Standard plate coordinates
+    private static final String[] ROW_IDS;         // Standard plate row IDs
+
+    private final int row;                         // Well row
+    private final int column;                      // Well column
+    private final int hash;                        // Hash code
+    private final int ordinal;                     // Row major ordinal
+    private final String id;                       // Well ID for cached coordinates
+
+    static {
+
+        ROW_IDS = new String[CACHED_ROWS];
+        CACHE = new WellCoordinate[CACHED_ROWS * CACHED_COLUMNS];
+
+        for(int row = 0; row < CACHED_ROWS; row++) {
+
+            ROW_IDS[row] = format(row);
+
+            for(int column = 1; column <= CACHED_COLUMNS; column++) {
+                CACHE[row * CACHED_COLUMNS + column - 1] =
+                        new WellCoordinate(row, column, ROW_IDS[row] + column);
+            }
+        }
+    }
+
+    /* ---------------------------- Constructors ---------------------------- */
+
+    /**
+     * Creates a new coordinate. Coordinates are created using the factory
+     * methods.
+     * @param    int       the well row
+     * @param    int       the well column
+     * @param    String    the well ID or null
+     */
+    private WellCoordinate(int row, int column, String id) {
+        this.row = row;
+        this.column = column;
+        this.id = id;
+        this.hash = (((17 * 37) + row) * 37 + column) * 37 + ALPHA_BASE;
+        this.ordinal = row * CACHED_COLUMNS + column - 1;
+    }
+
+    /* --------------------------- Factory Methods -------------------------- */
+
+    /**
+     * Returns the coordinate for the row and column. The shared instance is
+     * returned for the positions of the standard plate formats.
+     * @param    int    the well row
+     * @param    int    the well column
+     * @return          the coordinate
+     */
+    public static WellCoordinate of(int row, int column) {
+
+        if(row >= 0 && row < CACHED_ROWS && column > 0 && column <= CACHED_COLUMNS) {
+            return CACHE[row * CACHED_COLUMNS + column - 1];
+        }
+
+        return new WellCoordinate(row, column, null);
+    }
+
+    /**
+     * Returns the coordinate for a well ID in the format [A-Za-z]+[0-9]+.
+     * Leading and trailing white space is ignored.
+     * @param    String    the well ID
+     * @return             the coordinate
+     * @throws   IllegalArgumentException    invalid well ID
+     */
+    public static WellCoordinate parse(String wellID) {
+
+        int begin = 0;
+        int end = wellID.length();
+
+        while(begin < end && Character.isWhitespace(wellID.charAt(begin))) {
+            begin++;
+        }
+
+        while(end > begin && Character.isWhitespace(wellID.charAt(end - 1))) {
+            end--;
+        }
+
+        int index = begin;
+        long row = 0;
+
+        while(index < end && isLetter(wellID.charAt(index))) {
+            row = row * ALPHA_BASE + letter(wellID.charAt(index++));
+            if(row > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Invalid row ID: " + wellID);
+            }
+        }
+
+        if(index == begin || index == end) {
+            throw new IllegalArgumentException("Invalid well index: " + wellID);
+        }
+
+        long column = 0;
+
+        for(int i = index; i < end; i++) {
+
+            char c = wellID.charAt(i);
+
+            if(c < '0' || c > '9') {
+                throw new IllegalArgumentException("Invalid well index: " + wellID);
+            }
+
+            column = column * 10 + (c - '0');
+
+            if(column > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Invalid column ID: " + wellID.substring(index, end));
+            }
+        }
+
+        return of((int) row - 1, (int) column);
+    }
+
+    /* --------------------------- Parser Methods --------------------------- */
+
+    /**
+     * Converts a row ID to an integer value. The row may be a number or letters
+     * starting with A. Letters are case insensitive.
+     * @param    String    the row as a string
+     * @return             the row as an integer value
+     * @throws   IllegalArgumentException    invalid row ID
+     */
+    public static int parseRow(String row) {
+
+        int begin = 0;
+        int end = row.length();
+
+        while(begin < end && Character.isWhitespace(row.charAt(begin))) {
+            begin++;
+        }
+
+        if(begin == end || !isLetter(row.charAt(begin))) {
+
+            try {
+                return Integer.decode(row);
+            } catch(NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid row ID: " + row);
+            }
+
+        }
+
+        long value = 0;
+
+        for(int i = begin; i < end && isLetter(row.charAt(i)); i++) {
+
+            value = value * ALPHA_BASE + letter(row.charAt(i));
+
+            if(value > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Invalid row ID: " + row);
+            }
+        }
+
+        return (int) value - 1;
+    }
+
+    /**
+     * Converts a column ID to an integer value.
+     * @param    String    the column as a string
+     * @return             the column as an integer value
+     * @throws   IllegalArgumentException    invalid column ID
+     */
+    public static int parseColumn(String column) {
+        try {
+            return Integer.decode(column);
+        } catch(Exception e) {
+            throw new IllegalArgumentException("Illegal column value: " + column);
+        }
+    }
+
+    /* -------------------------- Formatter Methods ------------------------- */
+
+    /**
+     * Returns the row ID for the row. Negative rows return an empty string.
+     * @param    int    the row
+     * @return          the row ID
+     */
+    public static String rowString(int row) {
+
+        if(row >= 0 && row < CACHED_ROWS) {
+            return ROW_IDS[row];
+        }
+
+        return format(row);
+    }
+
+    /**
+     * Appends the row ID for the row to the string builder.
+     * @param    StringBuilder    the string builder
+     * @param    int              the row
+     * @return                    the string builder
+     */
+    public static StringBuilder appendRow(StringBuilder builder, int row) {
+
+        if(row >= 0 && row < CACHED_ROWS) {
+            return builder.append(ROW_IDS[row]);
+        }
+
+        int length = builder.length();
+
+        while(row >= 0) {
+            builder.insert(length, (char) (row % ALPHA_BASE + 'A'));
+            row = row / ALPHA_BASE - 1;
+        }
+
+        return builder;
+    }
+
+    /**
+     * Appends the well ID to the string builder.
+     * @param    StringBuilder    the string builder
+     * @return                    the string builder
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+
+        if(this.id != null) {
+            return builder.append(this.id);
+        }
+
+        return appendRow(builder, this.row).append(this.column);
+    }
+
+    /* ------------------------------- Methods ------------------------------ */
+
+    /**
+     * Returns the row number.
+     * @return    the row number
+     */
+    public int row() {
+        return this.row;
+    }
+
+    /**
+     * Returns the column number.
+     * @return    the column number
+     */
+    public int column() {
+        return this.column;
+    }
+
+    /**
+     * Returns the row major ordinal of the coordinate using the number of columns
+     * in a 1536 well plate. The ordinals of the standard plate positions are
+     * unique and ordered in the same way as the coordinates.
+     * @return    the ordinal
+     */
+    public int ordinal() {
+        return this.ordinal;
+    }
+
+    /**
+     * Returns true if the coordinate is a shared standard plate position.
+     * @return    true if the coordinate is shared
+     */
+    public boolean isCached() {
+        return this.id != null;
+    }
+
+    /**
+     * Returns the row ID.
+     * @return    the row ID
+     */
+    public String rowString() {
+        return rowString(this.row);
+    }
+
+    /**
+     * Returns the well ID as a letter(s) number pair.
+     * @return    the well ID
+     */
+    public String id() {
+        return this.id != null ? this.id : rowString(this.row) + this.column;
+    }
+
+    /**
+     * Returns the well ID.
+     * @return    the well ID
+     */
+    public String toString() {
+        return this.id();
+    }
+
+    /**
+     * Coordinates with the same row and column are equivalent.
+     * @param    Object    the object
+     * @return             true if equal, false otherwise
+     */
+    public boolean equals(Object object) {
+
+        if(this == object) {
+            return true;
+        }
+
+        if(object instanceof WellCoordinate == false) {
+            return false;
+        }
+
+        WellCoordinate coordinate = (WellCoordinate) object;
+
+        return this.row == coordinate.row && this.column == coordinate.column;
+    }
+
+    /**
+     * Hash code uses the row, column and ALPHA_BASE fields.
+     * @return    the hash code
+     */
+    public int hashCode() {
+        return this.hash;
+    }
+
+    /**
+     * Coordinates are ordered based on row and column number.
+     * @param    WellCoordinate    the coordinate for comparison
+     * @return                     this == coordinate --> 0
+     *                             this > coordinate --> 1
+     *                             this < coordinate --> -1
+     */
+    public int compareTo(WellCoordinate coordinate) {
+        return compare(this.row, this.column, coordinate.row, coordinate.column);
+    }
+
+    /**
+     * Compares two positions using the row and then the column.
+     * @param    int    the first row
+     * @param    int    the first column
+     * @param    int    the second row
+     * @param    int    the second column
+     * @return          first == second --> 0
+     *                  first > second --> 1
+     *                  first < second --> -1
+     */
+    public static int compare(int row1, int column1, int row2, int column2) {
+
+        if(row1 != row2) {
+            return row1 > row2 ? 1 : -1;
+        }
+
+        if(column1 != column2) {
+            return column1 > column2 ? 1 : -1;
+        }
+
+        return 0;
+    }
+
+    /* --------------------------- Private Methods -------------------------- */
+
+    /**
+     * Builds the row ID for the row.
+     * @param    int    the row
+     * @return          the row ID
+     */
+    private static String format(int row) {
+
+        char[] chars = new char[8];
+        int index = chars.length;
+
+        while(row >= 0) {
+            chars[--index] = (char) (row % ALPHA_BASE + 'A');
+            row = row / ALPHA_BASE - 1;
+        }
+
+        return new String(chars, index, chars.length - index);
+    }
+
+    /**
+     * Returns true if the character is an ASCII letter.
+     * @param    char    the character
+     * @return           true if the character is a letter
+     */
+    private static boolean isLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    /**
+     * Returns the one based value of a letter.
+     * @param    char    the letter
+     * @return           the value
+     */
+    private static int letter(char c) {
+        return (c >= 'a' ? c - 'a' : c - 'A') + 1;
+    }
+
+}
@@ -21,10 +21,9 @@
 
 package com.github.jessemull.microflex.plate;
 
-import org.apache.commons.lang3.builder.HashCodeBuilder;
-
 /**
- * A wrapper for a row and column index pair.
+ * A wrapper for a row and column index pair. The row and column are held by a
+ * well coordinate, which is shared with the wells at the same position.
  * 
  * @author Jesse L. Mull
  * @update Updated Oct 18, 2016
@@ -35,9 +34,7 @@ public class WellIndex implements Comparable<WellIndex> {
     	
 	/*---------------------------- Private Fields ----------------------------*/
 	
-	private int row;                // Row index
-    private int column;             // Column index
-    private int ALPHA_BASE = 26;    // Number of char types available for the row ID
+	private WellCoordinate coordinate;    // Row and column index
     
     /*----------------------------- Constructors -----------------------------*/
     
@@ -47,8 +44,15 @@ public class WellIndex implements Comparable<WellIndex> {
      * @param    int    the column index
      */
 	public WellIndex(int row, int column) {
-		this.row = row;
-		this.column = column;
+		this.coordinate = WellCoordinate.of(row, column);
+	}
+	
+	/**
+	 * Creates a new well index object from a well coordinate.
+	 * @param    WellCoordinate    the coordinate
+	 */
+	public WellIndex(WellCoordinate coordinate) {
+		this.coordinate = coordinate;
 	}
 		
 	/*------------------------------- Methods --------------------------------*/
@@ -58,7 +62,7 @@ public class WellIndex implements Comparable<WellIndex> {
 	 * @return    the row index
 	 */
 	public int row() {
-		return this.row;
+		return this.coordinate.row();
 	}
 		
 	/**
@@ -66,7 +70,15 @@ public class WellIndex implements Comparable<WellIndex> {
 	 * @return    the column index
 	 */
 	public int column() {
-		return this.column;
+		return this.coordinate.column();
+	}
+	
+	/**
+	 * Returns the well coordinate.
+	 * @return    the coordinate
+	 */
+	public WellCoordinate coordinate() {
+		return this.coordinate;
 	}
 
 	/**
@@ -76,24 +88,14 @@ public class WellIndex implements Comparable<WellIndex> {
 	 *            0 -> input == this 
 	 */
 	public int compareTo(WellIndex index) {
-		
-		if(this.equals(index)) {
-			return 0;
-		}
-		
-		if(this.row != index.row()) {
-			return this.row > index.row() ? 1 : -1;
-		}
-		
-		return this.column > index.column() ? 1 : -1;
-		
+		return this.coordinate.compareTo(index.coordinate);
 	}
 	
 	/**
 	 * Returns a string containing the well.
 	 */
 	public String toString() {
-		return this.rowString() + this.column;
+		return this.coordinate.id();
 	}
 
 	/**
@@ -101,16 +103,7 @@ public class WellIndex implements Comparable<WellIndex> {
      * @return    row ID
      */
     public String rowString() {
-        
-        int rowInt = this.row;
-        String rowString = "";
-        
-        while (rowInt >=  0) {
-            rowString = (char) (rowInt % ALPHA_BASE + 65) + rowString;
-            rowInt = (rowInt  / ALPHA_BASE) - 1;
-        }
-        
-        return rowString;
+        return this.coordinate.rowString();
     }
     
 	/**
@@ -128,13 +121,7 @@ public class WellIndex implements Comparable<WellIndex> {
             return true;
         }
         
-        WellIndex index = (WellIndex) object;
-        
-        if(this.row != index.row() || this.column != index.column()) {
-        	return false;
-        }
-        
-        return true;
+        return this.coordinate.equals(((WellIndex) object).coordinate);
     }
     
     /**
@@ -142,9 +129,6 @@ public class WellIndex implements Comparable<WellIndex> {
      * @return    the hash code
      */
     public int hashCode() {
-        return new HashCodeBuilder(17, 37).
-                   append(this.row).
-                   append(this.column).
-                   toHashCode();    
+        return this.coordinate.hashCode();
     }
-}
+}
\ No newline at end of file
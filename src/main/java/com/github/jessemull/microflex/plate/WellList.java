@@ -24,10 +24,14 @@ package com.github.jessemull.microflex.plate;
 /*------------------------------- Dependencies -------------------------------*/
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
@@ -38,12 +42,20 @@ import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
 import com.github.jessemull.microflex.integerflex.plate.WellInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.google.common.base.Preconditions;
 
 /**
  * Internal data structure to hold lists of well indices for well sets or plates.
  * The list of well indices prevents redundant data storage for the wells
  * within a well set or plate object.
  * 
+ * <br><br>
+ * 
+ * The indices are stored as a bit set for each row holding one bit per column,
+ * so membership tests are constant time and the union, intersection and 
+ * difference of two lists are calculated a word at a time. The indices are 
+ * iterated in row major order.
+ * 
  * @author Jesse L. Mull
  * @update Updated Oct 18, 2016
  * @address http://www.jessemull.com
@@ -57,9 +69,14 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
 	
     private String label;                                        
     
-    /* Well list indices */
+    /* Well list indices as column bits for each row */
+    
+    private BitSet[] rows = new BitSet[0];
+    private int size;
+    
+    /* Number of times any well list was relabeled */
     
-    private TreeSet<WellIndex> indices = new TreeSet<WellIndex>();
+    private static final AtomicLong RELABELS = new AtomicLong();
     
     /*----------------------------- Constructors -----------------------------*/
     
@@ -122,9 +139,16 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
      * @param    WellList    the well list
      */
     public WellList(WellList list) {
-    	for(WellIndex index : list) {
-    		this.add(new WellIndex(index.row(), index.column()));
+    	
+    	this.rows = new BitSet[list.rows.length];
+    	
+    	for(int i = 0; i < list.rows.length; i++) {
+    		if(list.rows[i] != null) {
+    			this.rows[i] = (BitSet) list.rows[i].clone();
+    		}
     	}
+    	
+    	this.size = list.size;
     	this.label = list.label();
     }
     
@@ -135,7 +159,31 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
      * @param    WellIndex    the well index
      */
     public void add(WellIndex index) {
-    	this.indices.add(index);
+    	this.add(index.row(), index.column());
+    }
+    
+    /**
+     * Adds the well index with the row and column.
+     * @param    int    the row index
+     * @param    int    the column index
+     */
+    public void add(int row, int column) {
+    	
+    	Preconditions.checkArgument(row >= 0 && column >= 0, 
+    			"Indices must be positive values: %s %s.", row, column);
+    	
+    	if(row >= this.rows.length) {
+    		this.rows = Arrays.copyOf(this.rows, Math.max(row + 1, this.rows.length * 2));
+    	}
+    	
+    	if(this.rows[row] == null) {
+    		this.rows[row] = new BitSet();
+    	}
+    	
+    	if(!this.rows[row].get(column)) {
+    		this.rows[row].set(column);
+    		this.size++;
+    	}
     }
     	
     /**
@@ -143,23 +191,176 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
      * @param    WellIndex    the well index
      */
     public void remove(WellIndex index) {
-    	this.indices.remove(index);
+    	this.remove(index.row(), index.column());
+    }
+    
+    /**
+     * Removes the well index with the row and column.
+     * @param    int    the row index
+     * @param    int    the column index
+     */
+    public void remove(int row, int column) {
+    	if(this.contains(row, column)) {
+    		this.rows[row].clear(column);
+    		this.size--;
+    	}
+    }
+    
+    /**
+     * Returns true if the list contains the well index.
+     * @param    WellIndex    the well index
+     * @return                true if the list contains the index
+     */
+    public boolean contains(WellIndex index) {
+    	return this.contains(index.row(), index.column());
+    }
+    
+    /**
+     * Returns true if the list contains the well index with the row and column.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          true if the list contains the index
+     */
+    public boolean contains(int row, int column) {
+    	BitSet bits = this.row(row);
+    	return bits != null && column >= 0 && bits.get(column);
+    }
+    
+    /**
+     * Returns a new unlabeled list holding the indices contained in either list.
+     * @param    WellList    the well list
+     * @return               the union of the lists
+     */
+    public WellList union(WellList list) {
+    	
+    	Preconditions.checkNotNull(list, "The well list cannot be null.");
+    	
+    	WellList result = new WellList();
+    	result.rows = new BitSet[Math.max(this.rows.length, list.rows.length)];
+    	
+    	for(int i = 0; i < result.rows.length; i++) {
+    		
+    		BitSet first = this.row(i);
+    		BitSet second = list.row(i);
+    		
+    		if(first == null && second == null) {
+    			continue;
+    		}
+    		
+    		BitSet bits = new BitSet();
+    		
+    		if(first != null) {
+    			bits.or(first);
+    		}
+    		
+    		if(second != null) {
+    			bits.or(second);
+    		}
+    		
+    		result.set(i, bits);
+    	}
+    	
+    	return result;
+    }
+    
+    /**
+     * Returns a new unlabeled list holding the indices contained in both lists.
+     * @param    WellList    the well list
+     * @return               the intersection of the lists
+     */
+    public WellList intersection(WellList list) {
+    	
+    	Preconditions.checkNotNull(list, "The well list cannot be null.");
+    	
+    	WellList result = new WellList();
+    	result.rows = new BitSet[Math.min(this.rows.length, list.rows.length)];
+    	
+    	for(int i = 0; i < result.rows.length; i++) {
+    		
+    		BitSet first = this.row(i);
+    		BitSet second = list.row(i);
+    		
+    		if(first == null || second == null) {
+    			continue;
+    		}
+    		
+    		BitSet bits = (BitSet) first.clone();
+    		bits.and(second);
+    		
+    		result.set(i, bits);
+    	}
+    	
+    	return result;
+    }
+    
+    /**
+     * Returns a new unlabeled list holding the indices contained in this list 
+     * and not contained in the input list.
+     * @param    WellList    the well list
+     * @return               the difference of the lists
+     */
+    public WellList difference(WellList list) {
+    	
+    	Preconditions.checkNotNull(list, "The well list cannot be null.");
+    	
+    	WellList result = new WellList();
+    	result.rows = new BitSet[this.rows.length];
+    	
+    	for(int i = 0; i < result.rows.length; i++) {
+    		
+    		BitSet first = this.row(i);
+    		BitSet second = list.row(i);
+    		
+    		if(first == null) {
+    			continue;
+    		}
+    		
+    		BitSet bits = (BitSet) first.clone();
+    		
+    		if(second != null) {
+    			bits.andNot(second);
+    		}
+    		
+    		result.set(i, bits);
+    	}
+    	
+    	return result;
     }
     	
     /**
-     * Sets the list name.
+     * Sets the list name. Plates index their groups by label, so every call 
+     * increments the relabel count.
      * @param    String    list name
      */
     public void setLabel(String label) {
     	this.label = label;
+    	RELABELS.incrementAndGet();
+    }
+    
+    /**
+     * Returns the number of times any well list was relabeled. Plates compare
+     * the count with the count seen when their group labels were indexed and
+     * rebuild the label index after a relabel.
+     * @return    the relabel count
+     */
+    public static long relabels() {
+    	return RELABELS.get();
     }
     	
     /**
-     * Returns the list of indices.
+     * Returns a sorted copy of the indices. Changes to the returned set are 
+     * not written to the list.
      * @return    the list of indices
      */
     public Set<WellIndex> indices() {
-    	return this.indices;
+    	
+    	TreeSet<WellIndex> indices = new TreeSet<WellIndex>();
+    	
+    	for(WellIndex index : this) {
+    		indices.add(index);
+    	}
+    	
+    	return indices;
     }
     	
     /**
@@ -175,15 +376,38 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
      * @return    list size
      */
     public int size() {
-    	return this.indices.size();
+    	return this.size;
+    }
+    
+    /**
+     * Returns an upper bound for the rows holding indices. Rows at or after 
+     * the bound hold no indices.
+     * @return    the row bound
+     */
+    public int rowBound() {
+    	return this.rows.length;
     }
     
     /**
-     * Returns a well index iterator.
+     * Returns the first column at or after the column holding an index in the 
+     * row or -1 if no such column exists. Walking the columns of each row 
+     * visits the indices in row major order without creating well indices.
+     * @param    int    the row index
+     * @param    int    the first column to check
+     * @return          the column or -1
+     */
+    public int nextColumn(int row, int column) {
+    	BitSet bits = this.row(row);
+    	return bits == null ? -1 : bits.nextSetBit(column);
+    }
+    
+    /**
+     * Returns a well index iterator. The indices are returned in row major 
+     * order.
      * @return    Iterator<WellIndex> iterator()
      */
     public Iterator<WellIndex> iterator() {
-    	return this.indices.iterator();
+    	return new IndexIterator();
     }
 
     /**
@@ -202,8 +426,7 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
     	}
     	
     	for(WellInteger well : set) {
-    		WellIndex index = new WellIndex(well.row(), well.column());
-    		if(!this.indices.contains(index)) {
+    		if(!this.contains(well.row(), well.column())) {
     			return false;
     		}
     	}
@@ -223,8 +446,7 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
     	}
     	
     	for(WellDouble well : set) {
-    		WellIndex index = new WellIndex(well.row(), well.column());
-    		if(!this.indices.contains(index)) {
+    		if(!this.contains(well.row(), well.column())) {
     			return false;
     		}
     	}
@@ -244,8 +466,7 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
     	}
     	
     	for(WellBigInteger well : set) {
-    		WellIndex index = new WellIndex(well.row(), well.column());
-    		if(!this.indices.contains(index)) {
+    		if(!this.contains(well.row(), well.column())) {
     			return false;
     		}
     	}
@@ -265,8 +486,7 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
     	}
     	
     	for(WellBigDecimal well : set) {
-    		WellIndex index = new WellIndex(well.row(), well.column());
-    		if(!this.indices.contains(index)) {
+    		if(!this.contains(well.row(), well.column())) {
     			return false;
     		}
     	}
@@ -279,7 +499,7 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
      * @return    string holding label and indices
      */
     public String toString() {
-    	return this.label() + " " + Arrays.toString(this.indices.toArray()).toString();
+    	return this.label() + " " + Arrays.toString(this.indices().toArray()).toString();
     }
     
     /**
@@ -303,8 +523,10 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
         	return false;
         }
         
-        for(WellIndex index : list) {
-        	if(!this.indices.contains(index)) {
+        int length = Math.max(this.rows.length, list.rows.length);
+        
+        for(int i = 0; i < length; i++) {
+        	if(!same(this.row(i), list.row(i))) {
         		return false;
         	}
         }
@@ -317,10 +539,16 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
      * @return    the hash code
      */
     public int hashCode() {
-        return new HashCodeBuilder(17, 37).
-                   append(this.indices).
-                   append(this.label).
-                   toHashCode();    
+        
+        HashCodeBuilder builder = new HashCodeBuilder(17, 37);
+        
+        for(int i = 0; i < this.rows.length; i++) {
+        	if(this.rows[i] != null && !this.rows[i].isEmpty()) {
+        		builder.append(i).append(this.rows[i].hashCode());
+        	}
+        }
+        
+        return builder.append(this.label).toHashCode();
     }
     
     /**
@@ -336,31 +564,149 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
             return 0;
         }
         
-        if(this.indices.size() != list.size()) {
-        	return this.indices.size() > list.size() ? 1 : -1;
+        if(this.size() != list.size()) {
+        	return this.size() > list.size() ? 1 : -1;
         }
         
-        Iterator<WellIndex> iter1 = this.indices.descendingIterator();
-        Iterator<WellIndex> iter2 = new TreeSet<WellIndex>(list.indices()).descendingIterator();
+        /* 
+         * Comparing the indices pairwise in descending order is equivalent to 
+         * finding the greatest index contained in only one of the lists
+         */
         
-        while(iter1.hasNext()) {
+        for(int i = Math.max(this.rows.length, list.rows.length) - 1; i >= 0; i--) {
         	
-        	WellIndex index1 = iter1.next();
-        	WellIndex index2 = iter2.next();
+        	BitSet first = this.row(i);
+        	BitSet second = list.row(i);
         	
-        	if(index1.row() != index2.row()) {
-        		return index1.row() > index2.row() ? 1 : -1;
-        	}
+        	BitSet bits = first == null ? new BitSet() : (BitSet) first.clone();
         	
-        	if(index1.column() != index2.column()) {
-        		return index1.column() > index2.column() ? 1 : -1;
+        	if(second != null) {
+        		bits.xor(second);
         	}
         	
+        	if(!bits.isEmpty()) {
+        		return first != null && first.get(bits.length() - 1) ? 1 : -1;
+        	}
         }
         
         return 0;
     }
 
+    /*---------------------------- Private Methods ---------------------------*/
+    
+    /**
+     * Returns the column bits for the row or null if the row holds no indices.
+     * @param    int    the row index
+     * @return          the column bits
+     */
+    private BitSet row(int row) {
+    	return row >= 0 && row < this.rows.length ? this.rows[row] : null;
+    }
+    
+    /**
+     * Sets the column bits of a row while building a new list.
+     * @param    int       the row index
+     * @param    BitSet    the column bits
+     */
+    private void set(int row, BitSet bits) {
+    	if(!bits.isEmpty()) {
+    		this.rows[row] = bits;
+    		this.size += bits.cardinality();
+    	}
+    }
+    
+    /**
+     * Returns true if the rows hold the same column bits. Null rows are empty.
+     * @param    BitSet    the first row
+     * @param    BitSet    the second row
+     * @return             true if the rows are equivalent
+     */
+    private static boolean same(BitSet first, BitSet second) {
+    	
+    	if(first == null || second == null) {
+    		return (first == null || first.isEmpty()) && (second == null || second.isEmpty());
+    	}
+    	
+    	return first.equals(second);
+    }
+    
+    /**
+     * Iterates over the set bits of each row.
+     */
+    private class IndexIterator implements Iterator<WellIndex> {
+    	
+    	private int row;              // Row of the next index
+    	private int column = -1;      // Column of the next index
+    	private int lastRow = -1;     // Row of the last returned index
+    	private int lastColumn;       // Column of the last returned index
+    	
+    	/**
+    	 * Finds the first index.
+    	 */
+    	private IndexIterator() {
+    		this.advance(0, 0);
+    	}
+    	
+    	/**
+    	 * Returns true if the iteration has more indices.
+    	 * @return    true if more indices exist
+    	 */
+    	public boolean hasNext() {
+    		return this.column >= 0;
+    	}
+    	
+    	/**
+    	 * Returns the next index.
+    	 * @return    the next index
+    	 */
+    	public WellIndex next() {
+    		
+    		if(!this.hasNext()) {
+    			throw new NoSuchElementException();
+    		}
+    		
+    		this.lastRow = this.row;
+    		this.lastColumn = this.column;
+    		this.advance(this.row, this.column + 1);
+    		
+    		return new WellIndex(this.lastRow, this.lastColumn);
+    	}
+    	
+    	/**
+    	 * Removes the last index returned by the iterator.
+    	 */
+    	public void remove() {
+    		
+    		if(this.lastRow < 0) {
+    			throw new IllegalStateException();
+    		}
+    		
+    		WellList.this.remove(this.lastRow, this.lastColumn);
+    		this.lastRow = -1;
+    	}
+    	
+    	/**
+    	 * Moves the cursor to the first set bit at or after the row and column.
+    	 * @param    int    the row index
+    	 * @param    int    the column index
+    	 */
+    	private void advance(int row, int column) {
+    		
+    		for(int i = row; i < rows.length; i++) {
+    			
+    			int next = rows[i] == null ? -1 : rows[i].nextSetBit(i == row ? column : 0);
+    			
+    			if(next >= 0) {
+    				this.row = i;
+    				this.column = next;
+    				return;
+    			}
+    		}
+    		
+    		this.column = -1;
+    	}
+    }
+
 }
     	
     
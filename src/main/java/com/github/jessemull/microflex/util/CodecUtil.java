@@ -0,0 +1,240 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package -------------------------------- */
+
+package com.github.jessemull.microflex.util;
+
+/* ----------------------------- Dependencies ------------------------------ */
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLOutputFactory;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import com.google.common.base.Preconditions;
+
+/**
+ * This class is a process wide registry of the codecs used by the plate readers
+ * and writers of every numerical type. Creating a JAXB context, compiling a JSON
+ * schema or configuring an object mapper is far more expensive than reading or
+ * writing the small documents handled by the library, so each codec is created
+ * once on first use and shared by all readers and writers.
+ *
+ * <br><br>
+ *
+ * JAXB contexts, compiled JSON schemas, the StAX output factory and the Jackson
+ * object mappers, readers and writers are thread safe once created and are
+ * returned directly. JAXB
+ * marshallers and unmarshallers are not thread safe, so a new instance is
+ * created from the shared context on each call. Creating a marshaller from an
+ * existing context is inexpensive.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class CodecUtil {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    /* JAXB contexts, object readers and compiled schemas by class or resource */
+
+    private static final ConcurrentMap<Class<?>, JAXBContext> contexts =
+            new ConcurrentHashMap<Class<?>, JAXBContext>();
+    private static final ConcurrentMap<Class<?>, ObjectReader> readers =
+            new ConcurrentHashMap<Class<?>, ObjectReader>();
+    private static final ConcurrentMap<String, JsonSchema> schemas =
+            new ConcurrentHashMap<String, JsonSchema>();
+
+    /* ----------------------------- Constructors --------------------------- */
+
+    /**
+     * Static class.
+     */
+    private CodecUtil() {}
+
+    /* ------------------------------ JSON Codecs --------------------------- */
+
+    /**
+     * Returns the shared object mapper. The mapper must not be reconfigured.
+     * @return    the object mapper
+     */
+    public static ObjectMapper mapper() {
+        return Holder.MAPPER;
+    }
+
+    /**
+     * Returns the shared object mapper reading floating point numbers as exact
+     * big decimals. The mapper must not be reconfigured.
+     * @return    the object mapper
+     */
+    public static ObjectMapper decimalMapper() {
+        return DecimalHolder.MAPPER;
+    }
+
+    /**
+     * Returns the shared object writer using the default pretty printer.
+     * @return    the object writer
+     */
+    public static ObjectWriter writer() {
+        return Holder.WRITER;
+    }
+
+    /**
+     * Returns the shared object reader for the type.
+     * @param    Class<?>    the type
+     * @return               the object reader
+     */
+    public static ObjectReader reader(Class<?> type) {
+
+        Preconditions.checkNotNull(type, "The type cannot be null.");
+
+        ObjectReader reader = readers.get(type);
+
+        if(reader == null) {
+            reader = Holder.MAPPER.readerFor(type);
+            ObjectReader existing = readers.putIfAbsent(type, reader);
+            reader = existing == null ? reader : existing;
+        }
+
+        return reader;
+    }
+
+    /**
+     * Returns the compiled JSON schema for the class path resource.
+     * @param    String    the schema resource
+     * @return             the compiled schema
+     * @throws   IOException            the resource cannot be read
+     * @throws   ProcessingException    the schema is invalid
+     */
+    public static JsonSchema schema(String resource) throws IOException, ProcessingException {
+
+        Preconditions.checkNotNull(resource, "The schema resource cannot be null.");
+
+        JsonSchema schema = schemas.get(resource);
+
+        if(schema == null) {
+            JsonNode node = JsonLoader.fromResource(resource.startsWith("/") ? resource : "/" + resource);
+            schema = Holder.SCHEMA_FACTORY.getJsonSchema(node);
+            JsonSchema existing = schemas.putIfAbsent(resource, schema);
+            schema = existing == null ? schema : existing;
+        }
+
+        return schema;
+    }
+
+    /* ------------------------------ XML Codecs ---------------------------- */
+
+    /**
+     * Returns the shared JAXB context for the type.
+     * @param    Class<?>    the type
+     * @return               the JAXB context
+     * @throws   JAXBException
+     */
+    public static JAXBContext context(Class<?> type) throws JAXBException {
+
+        Preconditions.checkNotNull(type, "The type cannot be null.");
+
+        JAXBContext context = contexts.get(type);
+
+        if(context == null) {
+            context = JAXBContext.newInstance(type);
+            JAXBContext existing = contexts.putIfAbsent(type, context);
+            context = existing == null ? context : existing;
+        }
+
+        return context;
+    }
+
+    /**
+     * Returns a new marshaller for the type using formatted output.
+     * @param    Class<?>    the type
+     * @return               the marshaller
+     * @throws   JAXBException
+     */
+    public static Marshaller marshaller(Class<?> type) throws JAXBException {
+        Marshaller marshaller = context(type).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+        return marshaller;
+    }
+
+    /**
+     * Returns a new unmarshaller for the type.
+     * @param    Class<?>    the type
+     * @return               the unmarshaller
+     * @throws   JAXBException
+     */
+    public static Unmarshaller unmarshaller(Class<?> type) throws JAXBException {
+        return context(type).createUnmarshaller();
+    }
+
+    /**
+     * Returns the shared StAX output factory. The factory must not be
+     * reconfigured.
+     * @return    the output factory
+     */
+    public static XMLOutputFactory xmlOutputFactory() {
+        return XMLHolder.OUTPUT_FACTORY;
+    }
+
+    /* --------------------------- Private Classes -------------------------- */
+
+    /**
+     * Creates the shared mapper, writer and schema factory on first use.
+     */
+    private static class Holder {
+        private static final ObjectMapper MAPPER = new ObjectMapper();
+        private static final ObjectWriter WRITER = MAPPER.writerWithDefaultPrettyPrinter();
+        private static final JsonSchemaFactory SCHEMA_FACTORY = JsonSchemaFactory.byDefault();
+    }
+
+    /**
+     * Creates the shared big decimal mapper on first use.
+     */
+    private static class DecimalHolder {
+        private static final ObjectMapper MAPPER = new ObjectMapper()
+                .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                .setNodeFactory(JsonNodeFactory.withExactBigDecimals(true));
+    }
+
+    /**
+     * Creates the shared StAX output factory on first use.
+     */
+    private static class XMLHolder {
+        private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+    }
+
+}
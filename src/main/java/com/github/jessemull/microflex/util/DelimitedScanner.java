@@ -0,0 +1,406 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package -------------------------------- */
+
+package com.github.jessemull.microflex.util;
+
+/* ----------------------------- Dependencies ------------------------------ */
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * This class scans the rows of delimited plate maps and tables. A row is copied
+ * into a reusable character buffer and consumed from left to right by the next
+ * methods. Each next method either consumes a token and returns true, or leaves
+ * the position unchanged and returns false. The delimiter is matched literally.
+ *
+ * <br><br>
+ *
+ * Row IDs are converted directly from the letters in the buffer and numbers are
+ * scanned in place, so scanning a row does not compile a regular expression,
+ * split the row or create a string for each token. Numbers are unsigned decimals
+ * in the format [0-9]+(.[0-9]*)?. Double values with up to fifteen significant
+ * digits are converted without creating a string. Longer values are converted
+ * by the standard library.
+ *
+ * <br><br>
+ *
+ * The scanner is not thread safe. Each plate reader holds its own scanner.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class DelimitedScanner {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    private static final int ALPHA_BASE = 26;           // Number of letters in a row ID
+    private static final int EXACT_DIGITS = 15;         // Digits held exactly by a double
+    private static final int LONG_DIGITS = 18;          // Digits held by a long
+    private static final String NULL = "Null";          // Empty plate map well
+
+    /* Powers of ten held exactly by a double */
+
+    private static final double[] POWERS = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private char[] delimiter;                           // The delimiter
+    private char[] buffer = new char[256];              // The current row
+    private int length;                                 // Characters in the row
+    private int position;                               // Index of the next character
+
+    /* Bounds of the last number */
+
+    private int start;                                  // First character
+    private int point;                                  // Decimal point or the end
+    private int end;                                    // Last character exclusive
+
+    /* ---------------------------- Constructors ---------------------------- */
+
+    /**
+     * Creates a scanner using the delimiter.
+     * @param    String    the delimiter
+     */
+    public DelimitedScanner(String delimiter) {
+        this.setDelimiter(delimiter);
+    }
+
+    /* --------------------------- Buffer Methods --------------------------- */
+
+    /**
+     * Sets the delimiter.
+     * @param    String    the delimiter
+     */
+    public void setDelimiter(String delimiter) {
+        Preconditions.checkNotNull(delimiter, "The delimiter cannot be null.");
+        Preconditions.checkArgument(!delimiter.isEmpty(), "The delimiter cannot be empty.");
+        this.delimiter = delimiter.toCharArray();
+    }
+
+    /**
+     * Copies the row into the buffer and moves to the first character.
+     * @param    String    the row
+     */
+    public void load(String row) {
+
+        if(row.length() > this.buffer.length) {
+            this.buffer = new char[Math.max(row.length(), this.buffer.length * 2)];
+        }
+
+        row.getChars(0, row.length(), this.buffer, 0);
+
+        this.length = row.length();
+        this.position = 0;
+    }
+
+    /**
+     * Returns true if the row has been consumed.
+     * @return    true if no characters remain
+     */
+    public boolean atEnd() {
+        return this.position >= this.length;
+    }
+
+    /* ---------------------------- Next Methods ---------------------------- */
+
+    /**
+     * Skips white space. White space beginning a delimiter is not skipped.
+     */
+    public void skipWhitespace() {
+        while(this.position < this.length &&
+              Character.isWhitespace(this.buffer[this.position]) &&
+              !this.delimiterAt(this.position)) {
+            this.position++;
+        }
+    }
+
+    /**
+     * Consumes the delimiter.
+     * @return    true if the next characters match the delimiter
+     */
+    public boolean nextDelimiter() {
+
+        if(!this.delimiterAt(this.position)) {
+            return false;
+        }
+
+        this.position += this.delimiter.length;
+
+        return true;
+    }
+
+    /**
+     * Consumes the characters of the token.
+     * @param    String    the token
+     * @return             true if the next characters match the token
+     */
+    public boolean next(String token) {
+
+        if(this.length - this.position < token.length()) {
+            return false;
+        }
+
+        for(int i = 0; i < token.length(); i++) {
+            if(this.buffer[this.position + i] != token.charAt(i)) {
+                return false;
+            }
+        }
+
+        this.position += token.length();
+
+        return true;
+    }
+
+    /**
+     * Consumes the empty plate map well value.
+     * @return    true if the next characters are Null
+     */
+    public boolean nextNull() {
+        return this.next(NULL);
+    }
+
+    /**
+     * Consumes the letters of a row ID and returns the row index.
+     * @return    the row index or -1 if the next character is not a letter
+     */
+    public int nextRow() {
+
+        int row = 0;
+        int index = this.position;
+
+        while(index < this.length) {
+
+            char next = this.buffer[index];
+
+            if(next >= 'a' && next <= 'z') {
+                next -= 'a' - 'A';
+            }
+
+            if(next < 'A' || next > 'Z') {
+                break;
+            }
+
+            row = row * ALPHA_BASE + (next - 'A' + 1);
+            index++;
+        }
+
+        if(index == this.position) {
+            return -1;
+        }
+
+        this.position = index;
+
+        return row - 1;
+    }
+
+    /**
+     * Consumes a column index.
+     * @return    the column index or -1 if the next character is not a digit
+     */
+    public int nextColumn() {
+
+        int column = 0;
+        int index = this.position;
+
+        while(index < this.length && this.isDigit(this.buffer[index])) {
+
+            int digit = this.buffer[index++] - '0';
+
+            if(column > (Integer.MAX_VALUE - digit) / 10) {
+                throw new NumberFormatException("Invalid column index.");
+            }
+
+            column = column * 10 + digit;
+        }
+
+        if(index == this.position) {
+            return -1;
+        }
+
+        this.position = index;
+
+        return column;
+    }
+
+    /**
+     * Consumes a number. The value is returned by the value methods.
+     * @return    true if the next characters are a number
+     */
+    public boolean nextNumber() {
+
+        int index = this.position;
+
+        while(index < this.length && this.isDigit(this.buffer[index])) {
+            index++;
+        }
+
+        if(index == this.position) {
+            return false;
+        }
+
+        this.start = this.position;
+        this.point = index;
+
+        if(index < this.length && this.buffer[index] == '.') {
+
+            index++;
+
+            while(index < this.length && this.isDigit(this.buffer[index])) {
+                index++;
+            }
+        }
+
+        this.end = index;
+        this.position = index;
+
+        return true;
+    }
+
+    /* ---------------------------- Value Methods --------------------------- */
+
+    /**
+     * Returns the last number as a double.
+     * @return    the double value
+     */
+    public double doubleValue() {
+
+        int scale = this.point < this.end ? this.end - this.point - 1 : 0;
+
+        if(this.point - this.start + scale > EXACT_DIGITS) {
+            return Double.parseDouble(this.token());
+        }
+
+        long digits = 0;
+
+        for(int i = this.start; i < this.end; i++) {
+            if(i != this.point) {
+                digits = digits * 10 + (this.buffer[i] - '0');
+            }
+        }
+
+        return scale == 0 ? digits : digits / POWERS[scale];
+    }
+
+    /**
+     * Returns the last number as an integer.
+     * @return    the integer value
+     * @throws    NumberFormatException    the number is not an integer
+     */
+    public int intValue() {
+
+        if(this.point != this.end) {
+            throw new NumberFormatException("Invalid integer value: " + this.token());
+        }
+
+        int value = 0;
+
+        for(int i = this.start; i < this.end; i++) {
+
+            int digit = this.buffer[i] - '0';
+
+            if(value > (Integer.MAX_VALUE - digit) / 10) {
+                throw new NumberFormatException("Integer overflow: " + this.token());
+            }
+
+            value = value * 10 + digit;
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the last number as a big decimal.
+     * @return    the big decimal value
+     */
+    public BigDecimal bigDecimalValue() {
+        return new BigDecimal(this.buffer, this.start, this.end - this.start);
+    }
+
+    /**
+     * Returns the last number as a big integer.
+     * @return    the big integer value
+     * @throws    NumberFormatException    the number is not an integer
+     */
+    public BigInteger bigIntegerValue() {
+
+        if(this.point != this.end) {
+            throw new NumberFormatException("Invalid integer value: " + this.token());
+        }
+
+        if(this.end - this.start > LONG_DIGITS) {
+            return new BigInteger(this.token());
+        }
+
+        long value = 0;
+
+        for(int i = this.start; i < this.end; i++) {
+            value = value * 10 + (this.buffer[i] - '0');
+        }
+
+        return BigInteger.valueOf(value);
+    }
+
+    /* --------------------------- Private Methods -------------------------- */
+
+    /**
+     * Returns true if the delimiter begins at the index.
+     * @param    int    the index
+     * @return          true if the delimiter begins at the index
+     */
+    private boolean delimiterAt(int index) {
+
+        if(this.length - index < this.delimiter.length) {
+            return false;
+        }
+
+        for(int i = 0; i < this.delimiter.length; i++) {
+            if(this.buffer[index + i] != this.delimiter[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns true if the character is a decimal digit.
+     * @param    char    the character
+     * @return           true if the character is a digit
+     */
+    private boolean isDigit(char next) {
+        return next >= '0' && next <= '9';
+    }
+
+    /**
+     * Returns the last number as a string.
+     * @return    the number
+     */
+    private String token() {
+        return new String(this.buffer, this.start, this.end - this.start);
+    }
+
+}
@@ -313,7 +313,15 @@ public class IntegerUtil {
      * @return                    array of integers
      */
     public static int[] toIntegerArray(List<Integer> list) {    
-        return ArrayUtils.toPrimitive(list.toArray(new Integer [list.size()]));        
+        
+        int[] array = new int[list.size()];
+        int index = 0;
+        
+        for(Integer val : list) {
+            array[index++] = val;
+        }
+        
+        return array;
     }
     
     /**
@@ -383,6 +391,25 @@ public class IntegerUtil {
     	return doubleList;
     }
     
+    /**
+     * Converts the values in an array of integers between the offset and the 
+     * offset plus the length to a list of doubles.
+     * @param    int[]    array of integers
+     * @param    int      index of the first value
+     * @param    int      number of values
+     * @return            the list of doubles
+     */
+    public static List<Double> toDoubleList(int[] array, int offset, int length) {
+        
+        List<Double> doubleList = new ArrayList<Double>(length);
+        
+        for(int i = offset; i < offset + length; i++) {
+            doubleList.add((double) array[i]);
+        }
+        
+        return doubleList;
+    }
+    
     /**
      * Converts a list of integers to an array of doubles.
      * @param    List<Integer>    list of integers
@@ -393,6 +420,25 @@ public class IntegerUtil {
         
     }
     
+    /**
+     * Converts the values in an array of integers between the offset and the 
+     * offset plus the length to an array of doubles.
+     * @param    int[]    array of integers
+     * @param    int      index of the first value
+     * @param    int      number of values
+     * @return            array of doubles
+     */
+    public static double[] toDoubleArray(int[] array, int offset, int length) {
+        
+        double[] doubleArray = new double[length];
+        
+        for(int i = 0; i < length; i++) {
+            doubleArray[i] = array[offset + i];
+        }
+        
+        return doubleArray;
+    }
+    
     /**
      * Converts a list of integers to a list of BigIntegers.
      * @param    List<Integer>    list of integers
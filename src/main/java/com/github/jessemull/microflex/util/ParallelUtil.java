@@ -0,0 +1,324 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package -------------------------------- */
+
+package com.github.jessemull.microflex.util;
+
+/* ----------------------------- Dependencies ------------------------------ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * This class applies a task to each element of a collection using a fork join
+ * pool. The elements are split into contiguous ranges which are processed by
+ * the pool workers. Each result is stored at the index of its input element so
+ * the returned list always follows the iteration order of the input, regardless
+ * of the order in which the tasks complete. Results are therefore identical to
+ * those produced by a sequential loop.
+ *
+ * <br><br>
+ *
+ * When the pool is null or the input holds a single element the task is applied
+ * sequentially on the calling thread. Statistical and mathematical operations
+ * use this class to split per well and per plate work across the available
+ * cores. A shared default pool sized to the number of available processors is
+ * created on first use. Tasks may call this class from within a pool worker, in
+ * which case the nested ranges are forked onto the same pool.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class ParallelUtil {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    private static volatile ForkJoinPool defaultPool;    // Shared default pool
+    private static final int SPLITS = 4;                 // Ranges per worker thread
+
+    /* ---------------------------- Task Interface -------------------------- */
+
+    /**
+     * A task applied to each input element. Tasks must not modify shared state.
+     *
+     * @param    <T>    the input type
+     * @param    <R>    the result type
+     */
+    public interface Task<T, R> {
+
+        /**
+         * Returns the result for the input element.
+         * @param    T    the input element
+         * @return        the result
+         */
+        R apply(T input);
+    }
+
+    /**
+     * A task applied to each pair of input elements. Tasks must not modify 
+     * shared state.
+     *
+     * @param    <T>    the first input type
+     * @param    <U>    the second input type
+     * @param    <R>    the result type
+     */
+    public interface PairTask<T, U, R> {
+
+        /**
+         * Returns the result for the pair of input elements.
+         * @param    T    the first input element
+         * @param    U    the second input element
+         * @return        the result
+         */
+        R apply(T input1, U input2);
+    }
+
+    /* ---------------------------- Constructors ---------------------------- */
+
+    /**
+     * Private constructor prevents util class instantiation.
+     */
+    private ParallelUtil() {}
+
+    /* ----------------------------- Pool Methods --------------------------- */
+
+    /**
+     * Returns the shared default pool. The pool parallelism is equal to the
+     * number of available processors.
+     * @return    the default pool
+     */
+    public static ForkJoinPool defaultPool() {
+
+        if(defaultPool == null) {
+
+            synchronized(ParallelUtil.class) {
+
+                if(defaultPool == null) {
+                    defaultPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+                }
+
+            }
+        }
+
+        return defaultPool;
+    }
+
+    /* ------------------------------ Map Methods --------------------------- */
+
+    /**
+     * Applies the task to each element and returns the results in iteration
+     * order. The task is applied sequentially if the pool is null.
+     * @param    ForkJoinPool    the pool or null
+     * @param    Iterable<T>     the input elements
+     * @param    Task<T,R>       the task
+     * @return                   the results in iteration order
+     */
+    public static <T, R> List<R> map(ForkJoinPool pool,
+                                     Iterable<? extends T> inputs,
+                                     final Task<? super T, ? extends R> task) {
+
+        Preconditions.checkNotNull(inputs, "The input elements cannot be null.");
+        Preconditions.checkNotNull(task, "The task cannot be null.");
+
+        final List<T> list = new ArrayList<T>();
+
+        for(T input : inputs) {
+            list.add(input);
+        }
+
+        return invoke(pool, list.size(), new IndexTask<R>() {
+            public R apply(int index) {
+                return task.apply(list.get(index));
+            }
+        });
+    }
+
+    /**
+     * Applies the task to each element and returns the results in array order.
+     * The task is applied sequentially if the pool is null.
+     * @param    ForkJoinPool    the pool or null
+     * @param    T[]             the input elements
+     * @param    Task<T,R>       the task
+     * @return                   the results in array order
+     */
+    public static <T, R> List<R> map(ForkJoinPool pool, T[] inputs,
+                                     Task<? super T, ? extends R> task) {
+        Preconditions.checkNotNull(inputs, "The input elements cannot be null.");
+        return map(pool, Arrays.asList(inputs), task);
+    }
+
+    /**
+     * Applies the task to each pair of elements taken in iteration order from
+     * the two inputs and returns the results in iteration order. Elements of 
+     * the longer input without a pair are ignored. The task is applied 
+     * sequentially if the pool is null.
+     * @param    ForkJoinPool     the pool or null
+     * @param    Iterable<T>      the first input elements
+     * @param    Iterable<U>      the second input elements
+     * @param    PairTask<T,U,R>  the task
+     * @return                    the results in iteration order
+     */
+    public static <T, U, R> List<R> map(ForkJoinPool pool,
+                                        Iterable<? extends T> inputs1,
+                                        Iterable<? extends U> inputs2,
+                                        final PairTask<? super T, ? super U, ? extends R> task) {
+
+        Preconditions.checkNotNull(inputs1, "The first input elements cannot be null.");
+        Preconditions.checkNotNull(inputs2, "The second input elements cannot be null.");
+        Preconditions.checkNotNull(task, "The task cannot be null.");
+
+        final List<T> list1 = new ArrayList<T>();
+        final List<U> list2 = new ArrayList<U>();
+
+        Iterator<? extends T> iter1 = inputs1.iterator();
+        Iterator<? extends U> iter2 = inputs2.iterator();
+
+        while(iter1.hasNext() && iter2.hasNext()) {
+            list1.add(iter1.next());
+            list2.add(iter2.next());
+        }
+
+        return invoke(pool, list1.size(), new IndexTask<R>() {
+            public R apply(int index) {
+                return task.apply(list1.get(index), list2.get(index));
+            }
+        });
+    }
+
+    /* --------------------------- Private Methods -------------------------- */
+
+    /**
+     * Applies the task to each index and returns the results in index order.
+     * The ranges are forked onto the pool of the calling worker thread when 
+     * the pool is already running the caller.
+     * @param    ForkJoinPool    the pool or null
+     * @param    int             the number of indices
+     * @param    IndexTask<R>    the task
+     * @return                   the results in index order
+     */
+    private static <R> List<R> invoke(ForkJoinPool pool, int size, IndexTask<? extends R> task) {
+
+        List<R> results = new ArrayList<R>(size);
+
+        if(pool == null || size < 2) {
+
+            for(int i = 0; i < size; i++) {
+                results.add(task.apply(i));
+            }
+
+            return results;
+        }
+
+        @SuppressWarnings("unchecked")
+        R[] array = (R[]) new Object[size];
+
+        int threshold = Math.max(1, size / (pool.getParallelism() * SPLITS));
+
+        MapAction<R> action = new MapAction<R>(array, task, 0, size, threshold);
+
+        if(ForkJoinTask.getPool() == pool) {
+            action.invoke();
+        } else {
+            pool.invoke(action);
+        }
+
+        results.addAll(Arrays.asList(array));
+
+        return results;
+    }
+
+    /**
+     * A task applied to each index of the input elements.
+     *
+     * @param    <R>    the result type
+     */
+    private interface IndexTask<R> {
+
+        /**
+         * Returns the result for the index.
+         * @param    int    the index
+         * @return          the result
+         */
+        R apply(int index);
+    }
+
+    /* ----------------------------- Fork Join Action ----------------------- */
+
+    /**
+     * Applies the task to a range of input elements, splitting the range in
+     * half until the range is smaller than the threshold.
+     */
+    private static class MapAction<R> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final R[] results;                             // Results by index
+        private final IndexTask<? extends R> task;             // The task
+        private final int from;                                // First index
+        private final int to;                                  // Last index exclusive
+        private final int threshold;                           // Sequential range size
+
+        /**
+         * Creates an action for the range.
+         * @param    R[]             the result array
+         * @param    IndexTask<R>    the task
+         * @param    int             the first index
+         * @param    int             the last index exclusive
+         * @param    int             the sequential range size
+         */
+        MapAction(R[] results, IndexTask<? extends R> task, int from, int to, int threshold) {
+            this.results = results;
+            this.task = task;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        /**
+         * Applies the task to the range or splits the range.
+         */
+        protected void compute() {
+
+            if(this.to - this.from <= this.threshold) {
+
+                for(int i = this.from; i < this.to; i++) {
+                    this.results[i] = this.task.apply(i);
+                }
+
+                return;
+            }
+
+            int middle = (this.from + this.to) >>> 1;
+
+            invokeAll(new MapAction<R>(this.results, this.task, this.from, middle, this.threshold),
+                      new MapAction<R>(this.results, this.task, middle, this.to, this.threshold));
+        }
+    }
+
+}
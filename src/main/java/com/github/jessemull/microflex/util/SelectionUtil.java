@@ -0,0 +1,524 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------- Package Declaration --------------------------- */
+
+package com.github.jessemull.microflex.util;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.util.Arrays;
+
+/**
+ * This class finds order statistics without sorting the data set. The kth
+ * smallest value in a range is located using an introspective quickselect in
+ * O(n) expected time. Each pass partitions the range around a median of three
+ * pivot using a three way partition, so data sets holding many duplicate
+ * values do not degrade performance. If the number of passes exceeds twice
+ * the logarithm of the range length the remaining values are sorted, which
+ * limits the worst case to O(n log n).
+ *
+ * <br><br>
+ *
+ * Selection reorders the values within the range. Callers that must preserve
+ * the order of the input data set should select from a scratch copy. After
+ * selecting rank k all values before rank k are less than or equal to the
+ * selected value and all values after rank k are greater than or equal to the
+ * selected value, so higher ranks can be selected from the remainder of the
+ * range. Ranks are relative to the beginning of the range and start at zero.
+ *
+ * <br><br>
+ *
+ * Doubles are ordered using Double.compare, which matches the ordering used
+ * when sorting a list of doubles. Other values are ordered using their
+ * natural ordering.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class SelectionUtil {
+
+    /* ---------------------------- Constants ------------------------------- */
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;    // Ranges shorter than the threshold are sorted
+
+    /* ------------------------ Double Order Statistics --------------------- */
+
+    /**
+     * Returns the value with the given rank between the beginning and ending
+     * indices.
+     * @param    double[]    the values
+     * @param    int         beginning index of the range
+     * @param    int         ending index of the range, exclusive
+     * @param    int         rank of the value within the range
+     * @return               the value with the rank
+     */
+    public static double select(double[] values, int from, int to, int rank) {
+        return select(values, from, to, rank, maxDepth(to - from));
+    }
+
+    /**
+     * Returns the value with the given rank between the beginning and ending
+     * indices, sorting the remaining values once the number of partitioning
+     * passes reaches the depth.
+     * @param    double[]    the values
+     * @param    int         beginning index of the range
+     * @param    int         ending index of the range, exclusive
+     * @param    int         rank of the value within the range
+     * @param    int         partitioning passes allowed before sorting
+     * @return               the value with the rank
+     */
+    static double select(double[] values, int from, int to, int rank, int depth) {
+
+        checkRange(values.length, from, to, rank);
+
+        int k = from + rank;
+        int left = from;
+        int right = to - 1;
+
+        while(right > left) {
+
+            if(right - left < INSERTION_SORT_THRESHOLD) {
+                insertionSort(values, left, right);
+                return values[k];
+            }
+
+            if(depth-- == 0) {
+                Arrays.sort(values, left, right + 1);
+                return values[k];
+            }
+
+            double pivot = medianOfThree(values[left], values[(left + right) >>> 1], values[right]);
+
+            int lt = left;
+            int gt = right;
+            int i = left;
+
+            while(i <= gt) {
+
+                int compare = Double.compare(values[i], pivot);
+
+                if(compare < 0) {
+                    swap(values, lt++, i++);
+                } else if(compare > 0) {
+                    swap(values, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if(k < lt) {
+                right = lt - 1;
+            } else if(k > gt) {
+                left = gt + 1;
+            } else {
+                return values[k];
+            }
+        }
+
+        return values[k];
+    }
+
+    /**
+     * Returns the values with the given ranks between the beginning and ending
+     * indices. The ranks must be in ascending order.
+     * @param    double[]    the values
+     * @param    int         beginning index of the range
+     * @param    int         ending index of the range, exclusive
+     * @param    int[]       ascending ranks of the values within the range
+     * @return               the values with the ranks
+     */
+    public static double[] select(double[] values, int from, int to, int[] ranks) {
+
+        double[] result = new double[ranks.length];
+        int previous = 0;
+
+        for(int i = 0; i < ranks.length; i++) {
+
+            if(ranks[i] < previous) {
+                throw new IllegalArgumentException("Ranks must be in ascending order.");
+            }
+
+            result[i] = select(values, from + previous, to, ranks[i] - previous);
+            previous = ranks[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the median of the values between the beginning and ending indices
+     * or zero if the range is empty. The median of an even number of values is
+     * the mean of the two middle values.
+     * @param    double[]    the values
+     * @param    int         beginning index of the range
+     * @param    int         ending index of the range, exclusive
+     * @return               the median
+     */
+    public static double median(double[] values, int from, int to) {
+
+        int n = to - from;
+
+        if(n == 0) {
+            return 0;
+        }
+
+        double[] middle = select(values, from, to, new int[]{ (n - 1) / 2, n / 2 });
+
+        return (middle[0] + middle[1]) / 2;
+    }
+
+    /**
+     * Returns the quantile of the values between the beginning and ending
+     * indices at the given one based position. The position is calculated as
+     * p(n + 1). Values between two ranks are linearly interpolated. Positions
+     * below one return the minimum and positions at or above the number of
+     * values return the maximum.
+     * @param    double[]    the values
+     * @param    int         beginning index of the range
+     * @param    int         ending index of the range, exclusive
+     * @param    double      the one based position
+     * @return               the quantile
+     */
+    public static double quantile(double[] values, int from, int to, double pos) {
+
+        int n = to - from;
+
+        if(n == 0) {
+            throw new IndexOutOfBoundsException("The data set cannot be empty.");
+        }
+
+        if(n == 1) {
+            return values[from];
+        }
+
+        if(pos < 1) {
+            return select(values, from, to, 0);
+        }
+
+        if(pos >= n) {
+            return select(values, from, to, n - 1);
+        }
+
+        if(pos == Math.floor(pos) && !Double.isInfinite(pos)) {
+            return select(values, from, to, (int) pos - 1);
+        }
+
+        int lowerIndex = (int) Math.floor(pos) - 1;
+        double[] bounds = select(values, from, to, new int[]{ lowerIndex, lowerIndex + 1 });
+        double d = pos - 1 - lowerIndex;
+
+        return (bounds[1] - bounds[0]) * d + bounds[0];
+    }
+
+    /**
+     * Returns the first, second and third quartiles of the values between the
+     * beginning and ending indices. The second quartile is the median. The
+     * first and third quartiles are the medians of the lower and upper halves
+     * of the data set, excluding the median for an odd number of values. The
+     * range must hold at least two values.
+     * @param    double[]    the values
+     * @param    int         beginning index of the range
+     * @param    int         ending index of the range, exclusive
+     * @return               the quartiles
+     */
+    public static double[] quartiles(double[] values, int from, int to) {
+
+        int[] ranks = quartileRanks(to - from);
+        double[] selected = select(values, from, to, ranks);
+
+        return new double[] {
+                (selected[0] + selected[1]) / 2,
+                (selected[2] + selected[3]) / 2,
+                (selected[4] + selected[5]) / 2
+        };
+    }
+
+    /* ------------------------ Object Order Statistics --------------------- */
+
+    /**
+     * Returns the value with the given rank between the beginning and ending
+     * indices.
+     * @param    T[]    the values
+     * @param    int    beginning index of the range
+     * @param    int    ending index of the range, exclusive
+     * @param    int    rank of the value within the range
+     * @return          the value with the rank
+     */
+    public static <T extends Comparable<? super T>> T select(T[] values, int from, int to, int rank) {
+        return select(values, from, to, rank, maxDepth(to - from));
+    }
+
+    /**
+     * Returns the value with the given rank between the beginning and ending
+     * indices, sorting the remaining values once the number of partitioning
+     * passes reaches the depth.
+     * @param    T[]    the values
+     * @param    int    beginning index of the range
+     * @param    int    ending index of the range, exclusive
+     * @param    int    rank of the value within the range
+     * @param    int    partitioning passes allowed before sorting
+     * @return          the value with the rank
+     */
+    static <T extends Comparable<? super T>> T select(T[] values, int from, int to, int rank, int depth) {
+
+        checkRange(values.length, from, to, rank);
+
+        int k = from + rank;
+        int left = from;
+        int right = to - 1;
+
+        while(right > left) {
+
+            if(right - left < INSERTION_SORT_THRESHOLD) {
+                insertionSort(values, left, right);
+                return values[k];
+            }
+
+            if(depth-- == 0) {
+                Arrays.sort(values, left, right + 1);
+                return values[k];
+            }
+
+            T pivot = medianOfThree(values[left], values[(left + right) >>> 1], values[right]);
+
+            int lt = left;
+            int gt = right;
+            int i = left;
+
+            while(i <= gt) {
+
+                int compare = values[i].compareTo(pivot);
+
+                if(compare < 0) {
+                    swap(values, lt++, i++);
+                } else if(compare > 0) {
+                    swap(values, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if(k < lt) {
+                right = lt - 1;
+            } else if(k > gt) {
+                left = gt + 1;
+            } else {
+                return values[k];
+            }
+        }
+
+        return values[k];
+    }
+
+    /**
+     * Returns the values with the given ranks between the beginning and ending
+     * indices. The ranks must be in ascending order.
+     * @param    T[]      the values
+     * @param    int      beginning index of the range
+     * @param    int      ending index of the range, exclusive
+     * @param    int[]    ascending ranks of the values within the range
+     * @return            the values with the ranks
+     */
+    public static <T extends Comparable<? super T>> T[] select(T[] values, int from, int to, int[] ranks) {
+
+        T[] result = Arrays.copyOf(values, ranks.length);
+        int previous = 0;
+
+        for(int i = 0; i < ranks.length; i++) {
+
+            if(ranks[i] < previous) {
+                throw new IllegalArgumentException("Ranks must be in ascending order.");
+            }
+
+            result[i] = select(values, from + previous, to, ranks[i] - previous);
+            previous = ranks[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the ranks of the two values used to calculate each of the first,
+     * second and third quartiles for a data set of the given length. The first
+     * and third quartiles are the medians of the lower and upper halves of the
+     * data set.
+     * @param    int    the number of values
+     * @return          the ascending ranks
+     */
+    public static int[] quartileRanks(int n) {
+
+        if(n < 2) {
+            throw new IllegalArgumentException("Quartiles require at least two values.");
+        }
+
+        int half = n / 2;
+        int upper = n % 2 == 0 ? half : half + 1;
+
+        return new int[] {
+                (half - 1) / 2, half / 2,
+                (n - 1) / 2, n / 2,
+                upper + (half - 1) / 2, upper + half / 2
+        };
+    }
+
+    /* --------------------------- Private Methods -------------------------- */
+
+    /**
+     * Validates the range and the rank.
+     * @param    int    length of the array
+     * @param    int    beginning index of the range
+     * @param    int    ending index of the range, exclusive
+     * @param    int    rank of the value within the range
+     */
+    private static void checkRange(int length, int from, int to, int rank) {
+
+        if(from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range: " + from + " to " + to + ".");
+        }
+
+        if(rank < 0 || rank >= to - from) {
+            throw new IndexOutOfBoundsException("Rank: " + rank + ", Size: " + (to - from));
+        }
+    }
+
+    /**
+     * Returns the number of partitioning passes allowed before the remaining
+     * values are sorted.
+     * @param    int    length of the range
+     * @return          the maximum number of passes
+     */
+    private static int maxDepth(int length) {
+        return 2 * (32 - Integer.numberOfLeadingZeros(length));
+    }
+
+    /**
+     * Returns the median of three values.
+     * @param    double    the first value
+     * @param    double    the second value
+     * @param    double    the third value
+     * @return             the median
+     */
+    private static double medianOfThree(double a, double b, double c) {
+
+        if(Double.compare(a, b) > 0) {
+            double temp = a;
+            a = b;
+            b = temp;
+        }
+
+        if(Double.compare(b, c) > 0) {
+            b = c;
+        }
+
+        return Double.compare(a, b) > 0 ? a : b;
+    }
+
+    /**
+     * Returns the median of three values.
+     * @param    T    the first value
+     * @param    T    the second value
+     * @param    T    the third value
+     * @return        the median
+     */
+    private static <T extends Comparable<? super T>> T medianOfThree(T a, T b, T c) {
+
+        if(a.compareTo(b) > 0) {
+            T temp = a;
+            a = b;
+            b = temp;
+        }
+
+        if(b.compareTo(c) > 0) {
+            b = c;
+        }
+
+        return a.compareTo(b) > 0 ? a : b;
+    }
+
+    /**
+     * Sorts the values between the indices, inclusive.
+     * @param    double[]    the values
+     * @param    int         the first index
+     * @param    int         the last index
+     */
+    private static void insertionSort(double[] values, int left, int right) {
+
+        for(int i = left + 1; i <= right; i++) {
+
+            double value = values[i];
+            int j = i - 1;
+
+            while(j >= left && Double.compare(values[j], value) > 0) {
+                values[j + 1] = values[j];
+                j--;
+            }
+
+            values[j + 1] = value;
+        }
+    }
+
+    /**
+     * Sorts the values between the indices, inclusive.
+     * @param    T[]    the values
+     * @param    int    the first index
+     * @param    int    the last index
+     */
+    private static <T extends Comparable<? super T>> void insertionSort(T[] values, int left, int right) {
+
+        for(int i = left + 1; i <= right; i++) {
+
+            T value = values[i];
+            int j = i - 1;
+
+            while(j >= left && values[j].compareTo(value) > 0) {
+                values[j + 1] = values[j];
+                j--;
+            }
+
+            values[j + 1] = value;
+        }
+    }
+
+    /**
+     * Swaps two values.
+     * @param    double[]    the values
+     * @param    int         the first index
+     * @param    int         the second index
+     */
+    private static void swap(double[] values, int i, int j) {
+        double temp = values[i];
+        values[i] = values[j];
+        values[j] = temp;
+    }
+
+    /**
+     * Swaps two values.
+     * @param    Object[]    the values
+     * @param    int         the first index
+     * @param    int         the second index
+     */
+    private static void swap(Object[] values, int i, int j) {
+        Object temp = values[i];
+        values[i] = values[j];
+        values[j] = temp;
+    }
+}
@@ -0,0 +1,259 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/*--------------------------- Package Declaration ----------------------------*/
+
+package com.github.jessemull.microflex.io.iobigdecimal;
+
+/*------------------------------- Dependencies -------------------------------*/
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.InputMismatchException;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.bigdecimalflex.io.BinaryReaderBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.io.BinaryWriterBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.StackBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
+import com.github.jessemull.microflex.plate.WellIndex;
+import com.github.jessemull.microflex.plate.WellList;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * Tests the binary plate writer and memory mapped reader for big decimals.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class BinaryBigDecimalTest {
+
+    /* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random well and lists */
+
+	private static BigDecimal minValue = new BigDecimal(0);     // Minimum big decimal value for wells
+	private static BigDecimal maxValue = new BigDecimal(10);    // Maximum big decimal value for wells
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = PlateBigDecimal.ROWS_96WELL;
+	private static int columns = PlateBigDecimal.COLUMNS_96WELL;
+	private static int length = 5;
+	private static int plateNumber = 4;
+
+	private static StackBigDecimal stack;
+	private static File file = new File("binary-bigdecimal.bin");
+
+	/**
+	 * Generates random objects and numbers for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		stack = new StackBigDecimal(rows, columns, "Stack");
+
+		for(int i = 0; i < plateNumber; i++) {
+
+			PlateBigDecimal plate = RandomUtil.randomPlateBigDecimal(
+					rows, columns, minValue, maxValue, length, "Plate" + i);
+
+			WellList group = new WellList();
+			group.setLabel("Group" + i);
+			group.add(new WellIndex(0, 1));
+			group.add(new WellIndex(2, 3));
+
+			plate.addGroups(group);
+
+			if(i == 0) {
+				plate.replaceWells(new WellBigDecimal(rows - 1, columns, new BigDecimal[0]));
+			}
+
+			stack.add(plate);
+		}
+	}
+
+	/**
+	 * Deletes the file used in the test.
+	 */
+	@After
+	public void afterTests() {
+		file.delete();
+	}
+
+    /*------------------------------ Test Methods ----------------------------*/
+
+	/**
+	 * Tests writing and reading a stack.
+	 * @throws IOException
+	 */
+	@Test
+	public void testStack() throws IOException {
+
+		BinaryWriterBigDecimal.write(file, stack);
+
+		BinaryReaderBigDecimal reader = new BinaryReaderBigDecimal(file);
+
+		try {
+
+			assertEquals(stack.size(), reader.size());
+			assertEquals(rows, reader.rows());
+			assertEquals(columns, reader.columns());
+			assertEquals(stack.label(), reader.label());
+			assertEquals(1, reader.version());
+			assertEquals(stack, reader.stack());
+
+		} finally {
+			reader.close();
+		}
+
+		assertEquals(stack, BinaryReaderBigDecimal.read(file));
+	}
+
+	/**
+	 * Tests reading single plates in any order.
+	 * @throws IOException
+	 */
+	@Test
+	public void testPlate() throws IOException {
+
+		BinaryWriterBigDecimal.write(file, stack);
+
+		PlateBigDecimal[] plates = stack.toArray();
+		BinaryReaderBigDecimal reader = new BinaryReaderBigDecimal(file);
+
+		try {
+
+			for(int i = plates.length - 1; i >= 0; i--) {
+				assertEquals(plates[i].label(), reader.plateLabel(i));
+				assertEquals(plates[i].size(), reader.plateSize(i));
+				assertEquals(plates[i], reader.plate(i));
+			}
+
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Tests reading single wells.
+	 * @throws IOException
+	 */
+	@Test
+	public void testWell() throws IOException {
+
+		BinaryWriterBigDecimal.write(file, stack);
+
+		PlateBigDecimal[] plates = stack.toArray();
+		BinaryReaderBigDecimal reader = new BinaryReaderBigDecimal(file);
+
+		try {
+
+			for(int i = 0; i < plates.length; i++) {
+
+				for(WellBigDecimal well : plates[i]) {
+					assertEquals(well, reader.well(i, well.row(), well.column()));
+					assertEquals(well.data(), reader.well(i, well.row(), well.column()).data());
+				}
+
+				assertNull(reader.well(i, rows + 1, 1));
+			}
+
+			WellBigDecimal first = plates[0].dataSet().first();
+			assertEquals(first.data(), reader.well(0, first.index()).data());
+
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Tests writing plates one at a time.
+	 * @throws IOException
+	 */
+	@Test
+	public void testPlates() throws IOException {
+
+		BinaryWriterBigDecimal writer = new BinaryWriterBigDecimal(file, rows, columns, "Plates");
+
+		for(PlateBigDecimal plate : stack) {
+			writer.writePlate(plate);
+		}
+
+		assertEquals(stack.size(), writer.size());
+		writer.close();
+
+		StackBigDecimal result = BinaryReaderBigDecimal.read(file);
+
+		assertEquals("Plates", result.label());
+		assertEquals(stack.size(), result.size());
+
+		PlateBigDecimal[] plates = stack.toArray();
+		PlateBigDecimal[] results = result.toArray();
+
+		for(int i = 0; i < plates.length; i++) {
+			assertEquals(plates[i], results[i]);
+		}
+	}
+
+	/**
+	 * Tests writing a plate with different dimensions.
+	 * @throws IOException
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testDimensions() throws IOException {
+
+		BinaryWriterBigDecimal writer = new BinaryWriterBigDecimal(file, rows, columns, "Stack");
+
+		try {
+			writer.writePlate(new PlateBigDecimal(PlateBigDecimal.ROWS_384WELL, PlateBigDecimal.COLUMNS_384WELL));
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Tests reading a file that is not a binary plate file.
+	 * @throws IOException
+	 */
+	@Test(expected = InputMismatchException.class)
+	public void testInvalid() throws IOException {
+
+		FileOutputStream stream = new FileOutputStream(file);
+		stream.write(new byte[64]);
+		stream.close();
+
+		new BinaryReaderBigDecimal(file);
+	}
+
+}
@@ -0,0 +1,201 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/*--------------------------- Package Declaration ----------------------------*/
+
+package com.github.jessemull.microflex.io.iobigdecimal;
+
+/*------------------------------- Dependencies -------------------------------*/
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.InputMismatchException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.bigdecimalflex.io.PlateMapReaderBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.io.PlateReaderBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.io.PlateWriterBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.StackBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * Tests the parallel plate map reader for big decimals. The plates are compared to
+ * the plates read sequentially by the plate reader.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class PlateMapReaderBigDecimalTest {
+
+    /* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random well and lists */
+
+	private static BigDecimal minValue = new BigDecimal(0);     // Minimum big decimal value for wells
+	private static BigDecimal maxValue = new BigDecimal(10);    // Maximum big decimal value for wells
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = PlateBigDecimal.ROWS_96WELL;
+	private static int columns = PlateBigDecimal.COLUMNS_96WELL;
+	private static int length = 24;
+	private static int plateNumber = 50;
+
+	private static String maps;
+	private static List<PlateBigDecimal> plates = new ArrayList<PlateBigDecimal>();
+	private static File file = new File("plate-maps-bigdecimal.txt");
+
+	/**
+	 * Generates random objects and numbers for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		PlateWriterBigDecimal writer = new PlateWriterBigDecimal(new StringWriter());
+		StringBuilder builder = new StringBuilder();
+
+		for(int i = 0; i < plateNumber; i++) {
+
+			PlateBigDecimal plate = RandomUtil.randomPlateBigDecimal(
+					rows, columns, minValue, maxValue, length, "Plate" + i);
+
+			Map<WellBigDecimal, BigDecimal> map = new TreeMap<WellBigDecimal, BigDecimal>();
+
+			for(WellBigDecimal well : plate) {
+				map.put(well, well.get(0));
+			}
+
+			builder.append(writer.printMapResultAsString(map, rows, columns, "Plate" + i));
+			builder.append(i % 2 == 0 ? "\n" : "\r\n \n");
+		}
+
+		maps = builder.toString();
+
+		PlateReaderBigDecimal reader = new PlateReaderBigDecimal(new StringReader(maps));
+
+		while(reader.hasNextMap()) {
+			plates.add(reader.nextMap());
+		}
+	}
+
+	/**
+	 * Deletes the file used in the test.
+	 */
+	@After
+	public void afterTests() {
+		file.delete();
+	}
+
+    /*------------------------------ Test Methods ----------------------------*/
+
+	/**
+	 * Tests parsing plate maps in parallel.
+	 */
+	@Test
+	public void testParse() {
+
+		PlateMapReaderBigDecimal reader = new PlateMapReaderBigDecimal();
+
+		assertTrue(reader.isParallel());
+		assertEquals(plateNumber, plates.size());
+		assertEquals(plates, reader.parseMaps(maps));
+
+		reader.setParallel(false);
+
+		assertEquals(plates, reader.parseMaps(maps));
+	}
+
+	/**
+	 * Tests reading plate maps from a file.
+	 * @throws IOException
+	 */
+	@Test
+	public void testReadMaps() throws IOException {
+
+		write(maps.replace("\t", ","));
+
+		PlateMapReaderBigDecimal reader = new PlateMapReaderBigDecimal(",");
+
+		assertEquals(plates, reader.readMaps(file));
+		assertEquals(plates, reader.readMaps(file.getName()));
+	}
+
+	/**
+	 * Tests reading plate maps into a stack.
+	 * @throws IOException
+	 */
+	@Test
+	public void testReadStack() throws IOException {
+
+		write(maps);
+
+		StackBigDecimal stack = new PlateMapReaderBigDecimal().readStack(file, "Stack");
+
+		assertEquals(new StackBigDecimal(plates, "Stack"), stack);
+	}
+
+	/**
+	 * Tests input without plate maps.
+	 */
+	@Test
+	public void testEmpty() {
+		assertTrue(new PlateMapReaderBigDecimal().parseMaps("\n \n\r\n").isEmpty());
+	}
+
+	/**
+	 * Tests an invalid plate map.
+	 */
+	@Test(expected = InputMismatchException.class)
+	public void testInvalid() {
+		new PlateMapReaderBigDecimal().parseMaps(maps + "\nPlate\nA\tB\n");
+	}
+
+	/**
+	 * Writes the input to the file.
+	 * @param    String    the input
+	 * @throws   IOException
+	 */
+	private static void write(String input) throws IOException {
+		FileOutputStream stream = new FileOutputStream(file);
+		stream.write(input.getBytes("UTF-8"));
+		stream.close();
+	}
+
+}
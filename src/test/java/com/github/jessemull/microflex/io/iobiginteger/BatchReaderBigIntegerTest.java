@@ -0,0 +1,292 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/*--------------------------- Package Declaration ----------------------------*/
+
+package com.github.jessemull.microflex.io.iobiginteger;
+
+/*------------------------------- Dependencies -------------------------------*/
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.bigintegerflex.io.BatchFileBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.io.BatchReaderBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.io.BinaryWriterBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.io.JSONStreamWriterBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.io.PlateWriterBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.io.XMLStreamWriterBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.StackBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * Tests the batch reader for big integers.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class BatchReaderBigIntegerTest {
+
+    /* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random well and lists */
+
+	private static BigInteger minValue = new BigInteger(0 + "");      // Minimum big integer value for wells
+	private static BigInteger maxValue = new BigInteger(100 + "");    // Maximum big integer value for wells
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = PlateBigInteger.ROWS_96WELL;
+	private static int columns = PlateBigInteger.COLUMNS_96WELL;
+	private static int length = 5;
+	private static int plateNumber = 3;
+	private static int fileNumber = 10;
+
+	private static StackBigInteger stack;
+	private static File directory = new File("batch-biginteger");
+
+	/**
+	 * Generates random objects and numbers for testing and writes the files
+	 * in each format.
+	 * @throws Exception
+	 */
+	@BeforeClass
+	public static void setUp() throws Exception {
+
+		directory.mkdir();
+
+		stack = RandomUtil.randomStackBigInteger(
+				rows, columns, minValue, maxValue, length, "Stack", plateNumber);
+
+		PlateWriterBigInteger writer = new PlateWriterBigInteger(new StringWriter());
+
+		for(int i = 0; i < fileNumber; i++) {
+
+			StringBuilder builder = new StringBuilder();
+
+			for(PlateBigInteger plate : stack) {
+
+				Map<WellBigInteger, BigInteger> map = new TreeMap<WellBigInteger, BigInteger>();
+
+				for(WellBigInteger well : plate) {
+					map.put(well, well.get(0));
+				}
+
+				builder.append(writer.printMapResultAsString(map, rows, columns, plate.label()));
+				builder.append("\n");
+			}
+
+			write(new File(directory, "map" + i + ".txt"), builder.toString());
+		}
+
+		JSONStreamWriterBigInteger json = new JSONStreamWriterBigInteger(new File(directory, "plates.json"));
+		json.writePlates(stack.toArray());
+		json.close();
+
+		XMLStreamWriterBigInteger xml = new XMLStreamWriterBigInteger(new File(directory, "stacks.xml"));
+		xml.writeStack(stack);
+		xml.close();
+
+		BinaryWriterBigInteger.write(new File(directory, "stack.bin"), stack);
+
+		write(new File(directory, "invalid.txt"), "Invalid\nA\tB\n");
+		new File(directory, "subdirectory").mkdir();
+	}
+
+	/**
+	 * Deletes the files used in the test.
+	 */
+	@AfterClass
+	public static void tearDown() {
+
+		for(File file : directory.listFiles()) {
+			file.delete();
+		}
+
+		directory.delete();
+	}
+
+    /*------------------------------ Test Methods ----------------------------*/
+
+	/**
+	 * Tests reading a directory.
+	 * @throws Exception
+	 */
+	@Test
+	public void testReadDirectory() throws Exception {
+
+		final List<BatchFileBigInteger> files = new ArrayList<BatchFileBigInteger>();
+
+		new BatchReaderBigInteger(4, 2).readDirectory(directory, new BatchReaderBigInteger.Consumer() {
+			public void accept(BatchFileBigInteger file) {
+				files.add(file);
+			}
+		});
+
+		assertEquals(fileNumber + 4, files.size());
+
+		PlateBigInteger[] plates = stack.toArray();
+
+		for(BatchFileBigInteger file : files) {
+
+			String name = file.file().getName();
+
+			assertTrue(file.nanos() >= 0);
+
+			if(name.equals("invalid.txt")) {
+
+				assertFalse(file.succeeded());
+				assertNotNull(file.error());
+				assertTrue(file.plates().isEmpty());
+
+			} else if(name.equals("plates.json")) {
+
+				assertNull(file.error());
+				assertEquals(BatchReaderBigInteger.FORMAT_JSON, file.format());
+				assertEquals(Arrays.asList(plates), file.plates());
+
+			} else if(name.equals("stacks.xml")) {
+
+				assertNull(file.error());
+				assertEquals(BatchReaderBigInteger.FORMAT_XML, file.format());
+				assertEquals(1, file.stacks().size());
+				assertEquals(stack.size(), file.stacks().get(0).size());
+
+			} else if(name.equals("stack.bin")) {
+
+				assertNull(file.error());
+				assertEquals(BatchReaderBigInteger.FORMAT_BINARY, file.format());
+				assertEquals(Arrays.asList(stack), file.stacks());
+
+			} else {
+
+				assertTrue(file.succeeded());
+				assertEquals(BatchReaderBigInteger.FORMAT_TEXT, file.format());
+				assertEquals(stack.size(), file.plates().size());
+			}
+		}
+	}
+
+	/**
+	 * Tests reading a missing file.
+	 */
+	@Test
+	public void testMissing() {
+
+		BatchFileBigInteger file = new BatchReaderBigInteger().read(new File(directory, "missing.txt"));
+
+		assertFalse(file.succeeded());
+		assertEquals(BatchReaderBigInteger.FORMAT_UNKNOWN, file.format());
+		assertTrue(file.error() instanceof IOException);
+	}
+
+	/**
+	 * Tests a consumer exception.
+	 * @throws Exception
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testConsumerError() throws Exception {
+		new BatchReaderBigInteger(2, 1).readDirectory(directory, new BatchReaderBigInteger.Consumer() {
+			public void accept(BatchFileBigInteger file) {
+				throw new IllegalStateException();
+			}
+		});
+	}
+
+	/**
+	 * Tests an error thrown while reading a file.
+	 * @throws Exception
+	 */
+	@Test
+	public void testReadError() throws Exception {
+
+		final List<BatchFileBigInteger> files = new ArrayList<BatchFileBigInteger>();
+
+		BatchReaderBigInteger reader = new BatchReaderBigInteger(4, 2) {
+			public BatchFileBigInteger read(File file) {
+				if(file.getName().equals("stack.bin")) {
+					throw new StackOverflowError();
+				}
+				return super.read(file);
+			}
+		};
+
+		reader.readDirectory(directory, new BatchReaderBigInteger.Consumer() {
+			public void accept(BatchFileBigInteger file) {
+				files.add(file);
+			}
+		});
+
+		assertEquals(fileNumber + 4, files.size());
+
+		for(BatchFileBigInteger file : files) {
+
+			if(file.file().getName().equals("stack.bin")) {
+
+				assertFalse(file.succeeded());
+				assertEquals(BatchReaderBigInteger.FORMAT_UNKNOWN, file.format());
+				assertTrue(file.error() instanceof ExecutionException);
+				assertTrue(file.error().getCause() instanceof StackOverflowError);
+				assertTrue(file.stacks().isEmpty());
+
+			} else if(!file.file().getName().equals("invalid.txt")) {
+				assertTrue(file.succeeded());
+			}
+		}
+	}
+
+	/**
+	 * Writes the input to the file.
+	 * @param    File      the file
+	 * @param    String    the input
+	 * @throws   IOException
+	 */
+	private static void write(File file, String input) throws IOException {
+		FileOutputStream stream = new FileOutputStream(file);
+		stream.write(input.getBytes("UTF-8"));
+		stream.close();
+	}
+
+}
@@ -0,0 +1,366 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/*--------------------------- Package Declaration ----------------------------*/
+
+package com.github.jessemull.microflex.io.iobiginteger;
+
+/*------------------------------- Dependencies -------------------------------*/
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.InputMismatchException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.bigintegerflex.io.JSONStreamReaderBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.io.PlateWriterBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.StackBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * Tests the JSON stream reader big integer.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class JSONStreamReaderBigIntegerTest {
+
+    /* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random well and lists */
+
+	private static BigInteger minValue = new BigInteger(0 + "");      // Minimum big integer value for wells
+	private static BigInteger maxValue = new BigInteger(100 + "");    // Maximum big integer value for wells
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = PlateBigInteger.ROWS_96WELL;
+	private static int columns = PlateBigInteger.COLUMNS_96WELL;
+	private static int length = 24;
+	private static int plateNumber = 5;
+	private static int stackNumber = 3;
+
+	private static StackBigInteger stack;
+	private static List<StackBigInteger> stacks = new ArrayList<StackBigInteger>();
+	private static List<Map<WellBigInteger, BigInteger>> maps = new ArrayList<Map<WellBigInteger, BigInteger>>();
+
+	private static PlateWriterBigInteger writer = new PlateWriterBigInteger(new StringWriter());
+
+    /* Value of false redirects System.err */
+
+	private static boolean error = true;
+	private static PrintStream originalOut = System.out;
+
+	/**
+	 * Generates random objects and numbers for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		if(error) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+
+		stack = RandomUtil.randomStackBigInteger(
+				rows, columns, minValue, maxValue, length, "Stack", plateNumber);
+
+		for(PlateBigInteger plate : stack) {
+
+			Map<WellBigInteger, BigInteger> map = new TreeMap<WellBigInteger, BigInteger>();
+
+			for(WellBigInteger well : plate) {
+				map.put(well, well.get(0));
+			}
+
+			maps.add(map);
+		}
+
+		for(int k = 0; k < stackNumber; k++) {
+			stacks.add(RandomUtil.randomStackBigInteger(
+					rows, columns, minValue, maxValue, length, "Stack" + k, plateNumber));
+		}
+	}
+
+	/**
+	 * Toggles system error.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+	}
+
+    /*------------------------------ Test Methods ----------------------------*/
+
+	/**
+	 * Tests the JSON result methods.
+	 * @throws IOException
+	 */
+	@Test
+	public void testResults() throws IOException {
+
+		JSONStreamReaderBigInteger reader = new JSONStreamReaderBigInteger(
+				new StringReader(writer.resultToJSONAsString(maps)));
+		Iterator<Map<WellBigInteger, BigInteger>> iter = maps.iterator();
+
+		assertEquals("results", reader.root());
+		assertFalse(reader.hasNextJSONPlate());
+
+		while(reader.hasNextJSONResult()) {
+
+			Map<WellBigInteger, BigInteger> input = iter.next();
+			WellSetBigInteger output = reader.nextJSONResult();
+
+			assertEquals(input.size(), output.size());
+
+			for(WellBigInteger well : output) {
+				assertEquals(input.get(well), well.get(0));
+			}
+		}
+
+		assertFalse(iter.hasNext());
+		assertEquals(maps.size(), reader.index());
+
+		reader.close();
+	}
+
+	/**
+	 * Tests the JSON well methods.
+	 * @throws IOException
+	 */
+	@Test
+	public void testWells() throws IOException {
+
+		PlateBigInteger plate = stack.first();
+
+		JSONStreamReaderBigInteger reader = new JSONStreamReaderBigInteger(
+				new StringReader(writer.wellToJSONAsString(plate.dataSet().toWellArray())));
+		Iterator<WellBigInteger> iter = plate.iterator();
+
+		while(reader.hasNextJSONWell()) {
+
+			WellBigInteger input = iter.next();
+			WellBigInteger output = reader.nextJSONWell();
+
+			assertEquals(input, output);
+			assertEquals(input.data(), output.data());
+		}
+
+		assertFalse(iter.hasNext());
+
+		reader.close();
+	}
+
+	/**
+	 * Tests the JSON well set methods.
+	 * @throws IOException
+	 */
+	@Test
+	public void testSets() throws IOException {
+
+		List<WellSetBigInteger> sets = new ArrayList<WellSetBigInteger>();
+
+		for(PlateBigInteger plate : stack) {
+			sets.add(plate.dataSet());
+		}
+
+		JSONStreamReaderBigInteger reader = new JSONStreamReaderBigInteger(
+				new StringReader(writer.setToJSONAsString(sets)));
+		Iterator<WellSetBigInteger> iter = sets.iterator();
+
+		while(reader.hasNextJSONSet()) {
+
+			WellSetBigInteger input = iter.next();
+			WellSetBigInteger output = reader.nextJSONSet();
+
+			assertEquals(input.label(), output.label());
+			assertWells(input.iterator(), output.iterator());
+		}
+
+		assertFalse(iter.hasNext());
+
+		reader.close();
+	}
+
+	/**
+	 * Tests the JSON plate methods.
+	 * @throws IOException
+	 */
+	@Test
+	public void testPlates() throws IOException {
+
+		JSONStreamReaderBigInteger reader = new JSONStreamReaderBigInteger(
+				new StringReader(writer.plateToJSONAsString(stack.toArray())));
+		Iterator<PlateBigInteger> iter = stack.iterator();
+
+		while(reader.hasNextJSONPlate()) {
+
+			PlateBigInteger input = iter.next();
+			PlateBigInteger output = reader.nextJSONPlate();
+
+			assertEquals(input.label(), output.label());
+			assertWells(input.iterator(), output.iterator());
+		}
+
+		assertFalse(iter.hasNext());
+
+		reader.close();
+	}
+
+	/**
+	 * Tests the JSON plate methods without validation.
+	 * @throws IOException
+	 */
+	@Test
+	public void testPlatesNoValidation() throws IOException {
+
+		JSONStreamReaderBigInteger reader = new JSONStreamReaderBigInteger(
+				new StringReader(writer.plateToJSONAsString(stack.toArray())));
+		reader.setValidate(false);
+
+		Iterator<PlateBigInteger> iter = stack.iterator();
+
+		while(reader.hasNextJSONPlate()) {
+			assertWells(iter.next().iterator(), reader.nextJSONPlate().iterator());
+		}
+
+		assertFalse(iter.hasNext());
+
+		reader.close();
+	}
+
+	/**
+	 * Tests the JSON stack methods.
+	 * @throws IOException
+	 */
+	@Test
+	public void testStacks() throws IOException {
+
+		JSONStreamReaderBigInteger reader = new JSONStreamReaderBigInteger(
+				new StringReader(writer.stackToJSONAsString(stacks)));
+		Iterator<StackBigInteger> iter = stacks.iterator();
+
+		while(reader.hasNextJSONStack()) {
+
+			StackBigInteger input = iter.next();
+			StackBigInteger output = reader.nextJSONStack();
+
+			assertEquals(input.size(), output.size());
+
+			Iterator<PlateBigInteger> outputPlates = output.iterator();
+
+			for(PlateBigInteger plate : input) {
+				assertWells(plate.iterator(), outputPlates.next().iterator());
+			}
+		}
+
+		assertFalse(iter.hasNext());
+
+		reader.close();
+	}
+
+	/**
+	 * Tests the next method when no elements remain.
+	 * @throws IOException
+	 */
+	@Test(expected = NoSuchElementException.class)
+	public void testNoSuchElement() throws IOException {
+
+		JSONStreamReaderBigInteger reader = new JSONStreamReaderBigInteger(
+				new StringReader(writer.plateToJSONAsString(stack.first())));
+
+		assertTrue(reader.hasNextJSONPlate());
+		reader.nextJSONPlate();
+		assertFalse(reader.hasNextJSONPlate());
+
+		reader.nextJSONPlate();
+	}
+
+	/**
+	 * Tests validation of an invalid element.
+	 * @throws IOException
+	 */
+	@Test(expected = InputMismatchException.class)
+	public void testInvalidElement() throws IOException {
+
+		JSONStreamReaderBigInteger reader = new JSONStreamReaderBigInteger(
+				new StringReader("{\"plates\": [{\"label\": \"Plate\"}]}"));
+
+		reader.nextJSONPlate();
+	}
+
+	/**
+	 * Tests an invalid root field.
+	 * @throws IOException
+	 */
+	@Test(expected = InputMismatchException.class)
+	public void testInvalidRoot() throws IOException {
+		new JSONStreamReaderBigInteger(new StringReader("{\"invalid\": []}"));
+	}
+
+    /*---------------------------- Helper Methods ----------------------------*/
+
+	/**
+	 * Asserts that the wells and well values are equal.
+	 * @param    Iterator<WellBigInteger>    the input wells
+	 * @param    Iterator<WellBigInteger>    the output wells
+	 */
+	private static void assertWells(Iterator<WellBigInteger> input, Iterator<WellBigInteger> output) {
+
+		while(input.hasNext()) {
+
+			WellBigInteger inputWell = input.next();
+			WellBigInteger outputWell = output.next();
+
+			assertEquals(inputWell, outputWell);
+			assertEquals(inputWell.data(), outputWell.data());
+		}
+
+		assertFalse(output.hasNext());
+	}
+
+}
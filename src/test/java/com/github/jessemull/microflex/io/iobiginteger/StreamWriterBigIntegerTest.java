@@ -0,0 +1,352 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/*--------------------------- Package Declaration ----------------------------*/
+
+package com.github.jessemull.microflex.io.iobiginteger;
+
+/*------------------------------- Dependencies -------------------------------*/
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.bigintegerflex.io.JSONStreamWriterBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.io.PlateWriterBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.io.XMLStreamWriterBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.StackBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
+import com.github.jessemull.microflex.plate.WellIndex;
+import com.github.jessemull.microflex.plate.WellList;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * Tests the JSON and XML stream writers for big integers. The streamed output is
+ * compared to the output of the plate writer string methods.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class StreamWriterBigIntegerTest {
+
+    /* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random well and lists */
+
+	private static BigInteger minValue = new BigInteger(0 + "");      // Minimum big integer value for wells
+	private static BigInteger maxValue = new BigInteger(100 + "");    // Maximum big integer value for wells
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = PlateBigInteger.ROWS_96WELL;
+	private static int columns = PlateBigInteger.COLUMNS_96WELL;
+	private static int length = 5;
+	private static int plateNumber = 3;
+	private static int stackNumber = 2;
+
+	private static List<StackBigInteger> stacks = new ArrayList<StackBigInteger>();
+	private static List<PlateBigInteger> plates = new ArrayList<PlateBigInteger>();
+	private static List<WellSetBigInteger> sets = new ArrayList<WellSetBigInteger>();
+	private static List<WellBigInteger> wells = new ArrayList<WellBigInteger>();
+	private static List<Map<WellBigInteger, BigInteger>> maps = new ArrayList<Map<WellBigInteger, BigInteger>>();
+	private static List<String> labels = new ArrayList<String>();
+
+	private static PlateWriterBigInteger writer = new PlateWriterBigInteger(new StringWriter());
+
+	/**
+	 * Generates random objects and numbers for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		for(int k = 0; k < stackNumber; k++) {
+
+			StackBigInteger stack = RandomUtil.randomStackBigInteger(
+					rows, columns, minValue, maxValue, length, "Stack<" + k + ">", plateNumber);
+
+			for(PlateBigInteger plate : stack) {
+
+				WellList group = new WellList();
+				group.setLabel("Group & " + k);
+				group.add(new WellIndex(0, 1));
+				group.add(new WellIndex(1, 2));
+
+				plate.addGroups(group);
+				plates.add(plate);
+			}
+
+			stacks.add(stack);
+		}
+
+		PlateBigInteger plate = plates.get(0);
+
+		for(WellBigInteger well : plate) {
+			wells.add(well);
+		}
+
+		wells.add(new WellBigInteger(rows, columns));
+
+		sets.add(plate.dataSet());
+		sets.add(new WellSetBigInteger());
+
+		for(PlateBigInteger input : plates) {
+
+			Map<WellBigInteger, BigInteger> map = new TreeMap<WellBigInteger, BigInteger>();
+
+			for(WellBigInteger well : input) {
+				if(well.size() > 0) {
+					map.put(well, well.get(0));
+				}
+			}
+
+			maps.add(map);
+			labels.add(input.label());
+		}
+
+		maps.add(new TreeMap<WellBigInteger, BigInteger>());
+		labels.add("Empty");
+	}
+
+    /*------------------------------ Test Methods ----------------------------*/
+
+	/**
+	 * Tests streaming results.
+	 * @throws IOException
+	 */
+	@Test
+	public void testResults() throws IOException {
+
+		StringWriter json = new StringWriter();
+		JSONStreamWriterBigInteger jsonStream = new JSONStreamWriterBigInteger(json);
+		jsonStream.writeResults(maps, labels);
+		jsonStream.close();
+
+		StringWriter xml = new StringWriter();
+		XMLStreamWriterBigInteger xmlStream = new XMLStreamWriterBigInteger(xml);
+		xmlStream.writeResults(maps, labels);
+		xmlStream.close();
+
+		assertEquals(writer.resultToJSONAsString(maps, labels), json.toString());
+		assertEquals(writer.resultToXMLAsString(maps, labels), xml.toString());
+		assertEquals(maps.size(), jsonStream.count());
+		assertEquals(maps.size(), xmlStream.count());
+
+		json = new StringWriter();
+		jsonStream = new JSONStreamWriterBigInteger(json);
+		jsonStream.writeResults(maps);
+		jsonStream.close();
+
+		xml = new StringWriter();
+		xmlStream = new XMLStreamWriterBigInteger(xml);
+		xmlStream.writeResults(maps);
+		xmlStream.close();
+
+		assertEquals(writer.resultToJSONAsString(maps), json.toString());
+		assertEquals(writer.resultToXMLAsString(maps), xml.toString());
+
+		json = new StringWriter();
+		jsonStream = new JSONStreamWriterBigInteger(json);
+		jsonStream.writeResult(maps.get(0));
+		jsonStream.close();
+
+		assertEquals(writer.resultToJSONAsString(maps.get(0)), json.toString());
+	}
+
+	/**
+	 * Tests streaming wells.
+	 * @throws Exception
+	 */
+	@Test
+	public void testWells() throws Exception {
+
+		StringWriter json = new StringWriter();
+		JSONStreamWriterBigInteger jsonStream = new JSONStreamWriterBigInteger(json);
+		jsonStream.writeWells(wells);
+		jsonStream.close();
+
+		StringWriter xml = new StringWriter();
+		XMLStreamWriterBigInteger xmlStream = new XMLStreamWriterBigInteger(xml);
+		xmlStream.writeWells(wells);
+		xmlStream.close();
+
+		assertEquals(writer.wellToJSONAsString(wells), json.toString());
+		assertEquals(writer.wellToXMLAsString(wells), xml.toString());
+	}
+
+	/**
+	 * Tests streaming well sets.
+	 * @throws IOException
+	 */
+	@Test
+	public void testSets() throws IOException {
+
+		StringWriter json = new StringWriter();
+		JSONStreamWriterBigInteger jsonStream = new JSONStreamWriterBigInteger(json);
+		jsonStream.writeSets(sets);
+		jsonStream.close();
+
+		StringWriter xml = new StringWriter();
+		XMLStreamWriterBigInteger xmlStream = new XMLStreamWriterBigInteger(xml);
+		xmlStream.writeSets(sets);
+		xmlStream.close();
+
+		assertEquals(writer.setToJSONAsString(sets), json.toString());
+		assertEquals(writer.setToXMLAsString(sets), xml.toString());
+	}
+
+	/**
+	 * Tests streaming plates one at a time.
+	 * @throws IOException
+	 */
+	@Test
+	public void testPlates() throws IOException {
+
+		StringWriter json = new StringWriter();
+		JSONStreamWriterBigInteger jsonStream = new JSONStreamWriterBigInteger(json);
+
+		StringWriter xml = new StringWriter();
+		XMLStreamWriterBigInteger xmlStream = new XMLStreamWriterBigInteger(xml);
+
+		for(PlateBigInteger plate : plates) {
+			jsonStream.writePlate(plate);
+			xmlStream.writePlate(plate);
+		}
+
+		jsonStream.close();
+		xmlStream.close();
+
+		assertEquals(writer.plateToJSONAsString(plates), json.toString());
+		assertEquals(writer.plateToXMLAsString(plates), xml.toString());
+	}
+
+	/**
+	 * Tests streaming stacks.
+	 * @throws IOException
+	 */
+	@Test
+	public void testStacks() throws IOException {
+
+		StringWriter json = new StringWriter();
+		JSONStreamWriterBigInteger jsonStream = new JSONStreamWriterBigInteger(json);
+		jsonStream.writeStacks(stacks);
+		jsonStream.close();
+
+		StringWriter xml = new StringWriter();
+		XMLStreamWriterBigInteger xmlStream = new XMLStreamWriterBigInteger(xml);
+		xmlStream.writeStacks(stacks);
+		xmlStream.close();
+
+		assertEquals(writer.stackToJSONAsString(stacks), json.toString());
+		assertEquals(writer.stackToXMLAsString(stacks), xml.toString());
+	}
+
+	/**
+	 * Tests empty documents.
+	 * @throws IOException
+	 */
+	@Test
+	public void testEmpty() throws IOException {
+
+		List<StackBigInteger> none = new ArrayList<StackBigInteger>();
+
+		StringWriter json = new StringWriter();
+		JSONStreamWriterBigInteger jsonStream = new JSONStreamWriterBigInteger(json);
+		jsonStream.writeStacks(none);
+		jsonStream.close();
+
+		StringWriter xml = new StringWriter();
+		XMLStreamWriterBigInteger xmlStream = new XMLStreamWriterBigInteger(xml);
+		xmlStream.writeStacks(none);
+		xmlStream.close();
+
+		assertEquals(writer.stackToJSONAsString(none), json.toString());
+		assertEquals(writer.stackToXMLAsString(none), xml.toString());
+	}
+
+	/**
+	 * Tests the plate writer methods backed by the stream writers.
+	 * @throws Exception
+	 */
+	@Test
+	public void testPlateWriter() throws Exception {
+
+		StringWriter json = new StringWriter();
+		new PlateWriterBigInteger(json).stackToJSON(stacks);
+
+		StringWriter xml = new StringWriter();
+		PlateWriterBigInteger xmlWriter = new PlateWriterBigInteger(xml);
+		xmlWriter.stackToXML(stacks.toArray(new StackBigInteger[stacks.size()]));
+		xmlWriter.flush();
+
+		assertEquals(writer.stackToJSONAsString(stacks), json.toString());
+		assertEquals(writer.stackToXMLAsString(stacks), xml.toString());
+	}
+
+	/**
+	 * Tests writing a different element type to the document.
+	 * @throws IOException
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testMixedJSON() throws IOException {
+		JSONStreamWriterBigInteger stream = new JSONStreamWriterBigInteger(new StringWriter());
+		stream.writePlates(plates);
+		stream.writeWells(Arrays.asList(wells.get(0)));
+	}
+
+	/**
+	 * Tests writing a different element type to the document.
+	 * @throws IOException
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testMixedXML() throws IOException {
+		XMLStreamWriterBigInteger stream = new XMLStreamWriterBigInteger(new StringWriter());
+		stream.writeStacks(stacks);
+		stream.writePlate(plates.get(0));
+	}
+
+	/**
+	 * Tests writing to a completed document.
+	 * @throws IOException
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testFinished() throws IOException {
+		XMLStreamWriterBigInteger stream = new XMLStreamWriterBigInteger(new StringWriter());
+		stream.writePlate(plates.get(0));
+		stream.finish();
+		stream.writePlate(plates.get(0));
+	}
+
+}
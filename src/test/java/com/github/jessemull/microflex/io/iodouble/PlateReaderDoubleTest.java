@@ -24,6 +24,8 @@ package com.github.jessemull.microflex.io.iodouble;
 /*------------------------------- Dependencies -------------------------------*/
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
@@ -35,6 +37,8 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
 import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.util.ArrayList;
@@ -57,7 +61,9 @@ import com.github.jessemull.microflex.doubleflex.io.PlateWriterDouble;
 import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
 import com.github.jessemull.microflex.doubleflex.plate.StackDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
 import com.github.jessemull.microflex.doubleflex.stat.MeanDouble;
+import com.github.jessemull.microflex.plate.WellCoordinate;
 import com.github.jessemull.microflex.util.RandomUtil;
 
 /**
@@ -379,4 +385,191 @@ public class PlateReaderDoubleTest {
     	
     }
 
+    /*--------------------------- Format detection ---------------------------*/
+    
+    /**
+     * Tests format detection using JSON, XML and delimited input.
+     * @throws IOException 
+     */
+    @Test
+    public void testFormatDetection() throws IOException {
+    	
+    	PlateWriterDouble writer = new PlateWriterDouble(new StringWriter());
+    	
+    	PlateReaderDouble jsonReader = new PlateReaderDouble(
+    			new StringReader("\n  " + writer.plateToJSONAsString(array)));
+    	
+    	assertFalse(jsonReader.hasNextXMLPlate());
+    	assertEquals(array.length, jsonReader.allJSONPlates().size());
+    	
+    	jsonReader.close();
+    	
+    	PlateReaderDouble xmlReader = new PlateReaderDouble(
+    			new StringReader(writer.plateToXMLAsString(array)));
+    	
+    	assertFalse(xmlReader.hasNextJSONPlate());
+    	assertEquals(array.length, xmlReader.allXMLPlates().size());
+    	
+    	xmlReader.close();
+    	
+    	PlateReaderDouble tableReader = new PlateReaderDouble(
+    			new StringReader(writer.resultToTableAsString(maps, labelList)));
+    	
+    	assertFalse(tableReader.hasNextJSONResult());
+    	assertFalse(tableReader.hasNextXMLResult());
+    	
+    	for(Map<WellDouble, Double> map : maps) {
+    		assertTrue(tableReader.hasNextTable());
+    		assertEquals(map.size(), tableReader.nextTable().size());
+    	}
+    	
+    	tableReader.close();
+    }
+
+    /*---------------------------- Delimited input ---------------------------*/
+    
+    /**
+     * Tests a plate map holding single digit values and empty wells.
+     * @throws IOException 
+     */
+    @Test
+    public void testMapSingleDigit() throws IOException {
+    	
+    	PlateReaderDouble reader = new PlateReaderDouble(new StringReader(
+    			"Plate\n\t1\t2\t3\nA\t1\t2\t3\nB\t4\tNull\t6.5\n"));
+    	
+    	assertTrue(reader.hasNextMap());
+    	
+    	PlateDouble plate = reader.nextMap();
+    	
+    	assertEquals("Plate", plate.label());
+    	assertEquals(2, plate.rows());
+    	assertEquals(3, plate.columns());
+    	assertEquals(5, plate.size());
+    	assertEquals(1.0, plate.getWells(new WellDouble(0, 1)).get(0), 0.0);
+    	assertEquals(6.5, plate.getWells(new WellDouble(1, 3)).get(0), 0.0);
+    	assertNull(plate.getWells(new WellDouble(1, 2)));
+    	
+    	assertFalse(reader.hasNextMap());
+    	
+    	reader.close();
+    }
+    
+    /**
+     * Tests a plate map with row IDs of one, two and three letters.
+     * @throws IOException 
+     */
+    @Test
+    public void testMapLongRowIds() throws IOException {
+    	
+    	int mapRows = 800;
+    	StringBuilder builder = new StringBuilder("Plate\n\t1\t2\n");
+    	
+    	for(int i = 0; i < mapRows; i++) {
+    		builder.append(WellCoordinate.rowString(i) + "\t" + (i % 10) + "\t" + i + "\n");
+    	}
+    	
+    	PlateReaderDouble reader = new PlateReaderDouble(new StringReader(builder.toString()));
+    	
+    	assertTrue(reader.hasNextMap());
+    	
+    	PlateDouble plate = reader.nextMap();
+    	
+    	assertEquals(mapRows, plate.rows());
+    	assertEquals(mapRows * 2, plate.size());
+    	
+    	for(int i = 0; i < mapRows; i++) {
+    		assertEquals(i % 10, plate.getWells(new WellDouble(i, 1)).get(0), 0.0);
+    		assertEquals(i, plate.getWells(new WellDouble(i, 2)).get(0), 0.0);
+    	}
+    	
+    	reader.close();
+    }
+    
+    /**
+     * Tests a table with row IDs of one, two and three letters.
+     * @throws IOException 
+     */
+    @Test
+    public void testTableLongRowIds() throws IOException {
+    	
+    	PlateReaderDouble reader = new PlateReaderDouble(new StringReader(
+    			"Table\nIndex\tValue\nA1\t5\nZZ2\t7.25\nAAA3\t9\nabc12\t0\n"));
+    	
+    	assertTrue(reader.hasNextTable());
+    	
+    	WellSetDouble set = reader.nextTable();
+    	
+    	assertEquals("Table", set.label());
+    	assertEquals(4, set.size());
+    	assertEquals(5.0, set.getWells(new WellDouble(0, 1)).get(0), 0.0);
+    	assertEquals(7.25, set.getWells(new WellDouble(701, 2)).get(0), 0.0);
+    	assertEquals(9.0, set.getWells(new WellDouble(702, 3)).get(0), 0.0);
+    	assertEquals(0.0, set.getWells(new WellDouble(WellCoordinate.parseRow("ABC"), 12)).get(0), 0.0);
+    	
+    	reader.close();
+    }
+    
+    /**
+     * Tests malformed plate maps. The reader is reset after each failure.
+     * @throws IOException 
+     */
+    @Test
+    public void testMalformedMap() throws IOException {
+    	
+    	String[] maps = {
+    		"Plate label\n\t1\t2\nA\t1\t2\n",           // Label holding a space
+    		"Plate\n\t1\t3\nA\t1\t2\n",                 // Column header out of order
+    		"Plate\n\t1\t99999999999\nA\t1\t2\n",       // Column header overflow
+    		"Plate\n\t1\t2\nA\t1\tx\n",                 // Value is not a number
+    		"Plate\n\t1\t2\nA\t-1\t2\n",                // Value is negative
+    		"Plate\n\t1\t2\nB\t1\t2\n",                 // Row out of order
+    		"Plate\n\t1\t2\nA\t1\t2\nC\t1\t2\n",     // Skipped row
+    		"Plate\n\t1\t2\nA\t1\n",                     // Short row
+    		"Plate\n\t1\t2\nA\t1\t2\t3\n",             // Long row
+    		"Plate\n\t1\t2\nA 1\t2\n"                    // Missing delimiter
+    	};
+    	
+    	for(String map : maps) {
+    		
+    		PlateReaderDouble reader = new PlateReaderDouble(new StringReader(map));
+    		
+    		assertFalse(map, reader.hasNextMap());
+    		assertNull(map, reader.nextMap());
+    		assertEquals(map.substring(0, map.indexOf('\n')), reader.readLine());
+    		
+    		reader.close();
+    	}
+    }
+    
+    /**
+     * Tests malformed tables. The reader is reset after each failure.
+     * @throws IOException 
+     */
+    @Test
+    public void testMalformedTable() throws IOException {
+    	
+    	String[] tables = {
+    		"Table label\nIndex\tValue\nA1\t5\n",         // Label holding a space
+    		"Table\nIndex\tValues\nA1\t5\n",              // Invalid headers
+    		"Table\nIndex\tValue\n1A\t5\n",               // Column before row
+    		"Table\nIndex\tValue\nA\t5\n",                // Missing column
+    		"Table\nIndex\tValue\nA99999999999\t5\n",     // Column overflow
+    		"Table\nIndex\tValue\nA1\tx\n",               // Value is not a number
+    		"Table\nIndex\tValue\nA1\t5\t6\n",           // Extra value
+    		"Table\nIndex\tValue\nA1 5\n"                  // Missing delimiter
+    	};
+    	
+    	for(String table : tables) {
+    		
+    		PlateReaderDouble reader = new PlateReaderDouble(new StringReader(table));
+    		
+    		assertFalse(table, reader.hasNextTable());
+    		assertNull(table, reader.nextTable());
+    		assertEquals(table.substring(0, table.indexOf('\n')), reader.readLine());
+    		
+    		reader.close();
+    	}
+    }
+
 }
@@ -0,0 +1,291 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/*--------------------------- Package Declaration ----------------------------*/
+
+package com.github.jessemull.microflex.io.iointeger;
+
+/*------------------------------- Dependencies -------------------------------*/
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.integerflex.io.BatchFileInteger;
+import com.github.jessemull.microflex.integerflex.io.BatchReaderInteger;
+import com.github.jessemull.microflex.integerflex.io.BinaryWriterInteger;
+import com.github.jessemull.microflex.integerflex.io.JSONStreamWriterInteger;
+import com.github.jessemull.microflex.integerflex.io.PlateWriterInteger;
+import com.github.jessemull.microflex.integerflex.io.XMLStreamWriterInteger;
+import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.StackInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellInteger;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * Tests the batch reader for integers.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class BatchReaderIntegerTest {
+
+    /* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random well and lists */
+
+	private static int minValue = 0;      // Minimum int value for wells
+	private static int maxValue = 100;    // Maximum int value for wells
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = PlateInteger.ROWS_96WELL;
+	private static int columns = PlateInteger.COLUMNS_96WELL;
+	private static int length = 5;
+	private static int plateNumber = 3;
+	private static int fileNumber = 10;
+
+	private static StackInteger stack;
+	private static File directory = new File("batch-integer");
+
+	/**
+	 * Generates random objects and numbers for testing and writes the files
+	 * in each format.
+	 * @throws Exception
+	 */
+	@BeforeClass
+	public static void setUp() throws Exception {
+
+		directory.mkdir();
+
+		stack = RandomUtil.randomStackInteger(
+				rows, columns, minValue, maxValue, length, "Stack", plateNumber);
+
+		PlateWriterInteger writer = new PlateWriterInteger(new StringWriter());
+
+		for(int i = 0; i < fileNumber; i++) {
+
+			StringBuilder builder = new StringBuilder();
+
+			for(PlateInteger plate : stack) {
+
+				Map<WellInteger, Integer> map = new TreeMap<WellInteger, Integer>();
+
+				for(WellInteger well : plate) {
+					map.put(well, well.get(0));
+				}
+
+				builder.append(writer.printMapResultAsString(map, rows, columns, plate.label()));
+				builder.append("\n");
+			}
+
+			write(new File(directory, "map" + i + ".txt"), builder.toString());
+		}
+
+		JSONStreamWriterInteger json = new JSONStreamWriterInteger(new File(directory, "plates.json"));
+		json.writePlates(stack.toArray());
+		json.close();
+
+		XMLStreamWriterInteger xml = new XMLStreamWriterInteger(new File(directory, "stacks.xml"));
+		xml.writeStack(stack);
+		xml.close();
+
+		BinaryWriterInteger.write(new File(directory, "stack.bin"), stack);
+
+		write(new File(directory, "invalid.txt"), "Invalid\nA\tB\n");
+		new File(directory, "subdirectory").mkdir();
+	}
+
+	/**
+	 * Deletes the files used in the test.
+	 */
+	@AfterClass
+	public static void tearDown() {
+
+		for(File file : directory.listFiles()) {
+			file.delete();
+		}
+
+		directory.delete();
+	}
+
+    /*------------------------------ Test Methods ----------------------------*/
+
+	/**
+	 * Tests reading a directory.
+	 * @throws Exception
+	 */
+	@Test
+	public void testReadDirectory() throws Exception {
+
+		final List<BatchFileInteger> files = new ArrayList<BatchFileInteger>();
+
+		new BatchReaderInteger(4, 2).readDirectory(directory, new BatchReaderInteger.Consumer() {
+			public void accept(BatchFileInteger file) {
+				files.add(file);
+			}
+		});
+
+		assertEquals(fileNumber + 4, files.size());
+
+		PlateInteger[] plates = stack.toArray();
+
+		for(BatchFileInteger file : files) {
+
+			String name = file.file().getName();
+
+			assertTrue(file.nanos() >= 0);
+
+			if(name.equals("invalid.txt")) {
+
+				assertFalse(file.succeeded());
+				assertNotNull(file.error());
+				assertTrue(file.plates().isEmpty());
+
+			} else if(name.equals("plates.json")) {
+
+				assertNull(file.error());
+				assertEquals(BatchReaderInteger.FORMAT_JSON, file.format());
+				assertEquals(Arrays.asList(plates), file.plates());
+
+			} else if(name.equals("stacks.xml")) {
+
+				assertNull(file.error());
+				assertEquals(BatchReaderInteger.FORMAT_XML, file.format());
+				assertEquals(1, file.stacks().size());
+				assertEquals(stack.size(), file.stacks().get(0).size());
+
+			} else if(name.equals("stack.bin")) {
+
+				assertNull(file.error());
+				assertEquals(BatchReaderInteger.FORMAT_BINARY, file.format());
+				assertEquals(Arrays.asList(stack), file.stacks());
+
+			} else {
+
+				assertTrue(file.succeeded());
+				assertEquals(BatchReaderInteger.FORMAT_TEXT, file.format());
+				assertEquals(stack.size(), file.plates().size());
+			}
+		}
+	}
+
+	/**
+	 * Tests reading a missing file.
+	 */
+	@Test
+	public void testMissing() {
+
+		BatchFileInteger file = new BatchReaderInteger().read(new File(directory, "missing.txt"));
+
+		assertFalse(file.succeeded());
+		assertEquals(BatchReaderInteger.FORMAT_UNKNOWN, file.format());
+		assertTrue(file.error() instanceof IOException);
+	}
+
+	/**
+	 * Tests a consumer exception.
+	 * @throws Exception
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testConsumerError() throws Exception {
+		new BatchReaderInteger(2, 1).readDirectory(directory, new BatchReaderInteger.Consumer() {
+			public void accept(BatchFileInteger file) {
+				throw new IllegalStateException();
+			}
+		});
+	}
+
+	/**
+	 * Tests an error thrown while reading a file.
+	 * @throws Exception
+	 */
+	@Test
+	public void testReadError() throws Exception {
+
+		final List<BatchFileInteger> files = new ArrayList<BatchFileInteger>();
+
+		BatchReaderInteger reader = new BatchReaderInteger(4, 2) {
+			public BatchFileInteger read(File file) {
+				if(file.getName().equals("stack.bin")) {
+					throw new StackOverflowError();
+				}
+				return super.read(file);
+			}
+		};
+
+		reader.readDirectory(directory, new BatchReaderInteger.Consumer() {
+			public void accept(BatchFileInteger file) {
+				files.add(file);
+			}
+		});
+
+		assertEquals(fileNumber + 4, files.size());
+
+		for(BatchFileInteger file : files) {
+
+			if(file.file().getName().equals("stack.bin")) {
+
+				assertFalse(file.succeeded());
+				assertEquals(BatchReaderInteger.FORMAT_UNKNOWN, file.format());
+				assertTrue(file.error() instanceof ExecutionException);
+				assertTrue(file.error().getCause() instanceof StackOverflowError);
+				assertTrue(file.stacks().isEmpty());
+
+			} else if(!file.file().getName().equals("invalid.txt")) {
+				assertTrue(file.succeeded());
+			}
+		}
+	}
+
+	/**
+	 * Writes the input to the file.
+	 * @param    File      the file
+	 * @param    String    the input
+	 * @throws   IOException
+	 */
+	private static void write(File file, String input) throws IOException {
+		FileOutputStream stream = new FileOutputStream(file);
+		stream.write(input.getBytes("UTF-8"));
+		stream.close();
+	}
+
+}
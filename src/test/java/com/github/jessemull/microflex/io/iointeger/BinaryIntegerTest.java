@@ -0,0 +1,258 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/*--------------------------- Package Declaration ----------------------------*/
+
+package com.github.jessemull.microflex.io.iointeger;
+
+/*------------------------------- Dependencies -------------------------------*/
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.InputMismatchException;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.integerflex.io.BinaryReaderInteger;
+import com.github.jessemull.microflex.integerflex.io.BinaryWriterInteger;
+import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.StackInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellInteger;
+import com.github.jessemull.microflex.plate.WellIndex;
+import com.github.jessemull.microflex.plate.WellList;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * Tests the binary plate writer and memory mapped reader for integers.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class BinaryIntegerTest {
+
+    /* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random well and lists */
+
+	private static int minValue = 0;      // Minimum int value for wells
+	private static int maxValue = 100;    // Maximum int value for wells
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = PlateInteger.ROWS_96WELL;
+	private static int columns = PlateInteger.COLUMNS_96WELL;
+	private static int length = 5;
+	private static int plateNumber = 4;
+
+	private static StackInteger stack;
+	private static File file = new File("binary-integer.bin");
+
+	/**
+	 * Generates random objects and numbers for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		stack = new StackInteger(rows, columns, "Stack");
+
+		for(int i = 0; i < plateNumber; i++) {
+
+			PlateInteger plate = RandomUtil.randomPlateInteger(
+					rows, columns, minValue, maxValue, length, "Plate" + i);
+
+			WellList group = new WellList();
+			group.setLabel("Group" + i);
+			group.add(new WellIndex(0, 1));
+			group.add(new WellIndex(2, 3));
+
+			plate.addGroups(group);
+
+			if(i == 0) {
+				plate.replaceWells(new WellInteger(rows - 1, columns, new Integer[0]));
+			}
+
+			stack.add(plate);
+		}
+	}
+
+	/**
+	 * Deletes the file used in the test.
+	 */
+	@After
+	public void afterTests() {
+		file.delete();
+	}
+
+    /*------------------------------ Test Methods ----------------------------*/
+
+	/**
+	 * Tests writing and reading a stack.
+	 * @throws IOException
+	 */
+	@Test
+	public void testStack() throws IOException {
+
+		BinaryWriterInteger.write(file, stack);
+
+		BinaryReaderInteger reader = new BinaryReaderInteger(file);
+
+		try {
+
+			assertEquals(stack.size(), reader.size());
+			assertEquals(rows, reader.rows());
+			assertEquals(columns, reader.columns());
+			assertEquals(stack.label(), reader.label());
+			assertEquals(1, reader.version());
+			assertEquals(stack, reader.stack());
+
+		} finally {
+			reader.close();
+		}
+
+		assertEquals(stack, BinaryReaderInteger.read(file));
+	}
+
+	/**
+	 * Tests reading single plates in any order.
+	 * @throws IOException
+	 */
+	@Test
+	public void testPlate() throws IOException {
+
+		BinaryWriterInteger.write(file, stack);
+
+		PlateInteger[] plates = stack.toArray();
+		BinaryReaderInteger reader = new BinaryReaderInteger(file);
+
+		try {
+
+			for(int i = plates.length - 1; i >= 0; i--) {
+				assertEquals(plates[i].label(), reader.plateLabel(i));
+				assertEquals(plates[i].size(), reader.plateSize(i));
+				assertEquals(plates[i], reader.plate(i));
+			}
+
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Tests reading single wells.
+	 * @throws IOException
+	 */
+	@Test
+	public void testWell() throws IOException {
+
+		BinaryWriterInteger.write(file, stack);
+
+		PlateInteger[] plates = stack.toArray();
+		BinaryReaderInteger reader = new BinaryReaderInteger(file);
+
+		try {
+
+			for(int i = 0; i < plates.length; i++) {
+
+				for(WellInteger well : plates[i]) {
+					assertEquals(well, reader.well(i, well.row(), well.column()));
+					assertEquals(well.data(), reader.well(i, well.row(), well.column()).data());
+				}
+
+				assertNull(reader.well(i, rows + 1, 1));
+			}
+
+			WellInteger first = plates[0].dataSet().first();
+			assertEquals(first.data(), reader.well(0, first.index()).data());
+
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Tests writing plates one at a time.
+	 * @throws IOException
+	 */
+	@Test
+	public void testPlates() throws IOException {
+
+		BinaryWriterInteger writer = new BinaryWriterInteger(file, rows, columns, "Plates");
+
+		for(PlateInteger plate : stack) {
+			writer.writePlate(plate);
+		}
+
+		assertEquals(stack.size(), writer.size());
+		writer.close();
+
+		StackInteger result = BinaryReaderInteger.read(file);
+
+		assertEquals("Plates", result.label());
+		assertEquals(stack.size(), result.size());
+
+		PlateInteger[] plates = stack.toArray();
+		PlateInteger[] results = result.toArray();
+
+		for(int i = 0; i < plates.length; i++) {
+			assertEquals(plates[i], results[i]);
+		}
+	}
+
+	/**
+	 * Tests writing a plate with different dimensions.
+	 * @throws IOException
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testDimensions() throws IOException {
+
+		BinaryWriterInteger writer = new BinaryWriterInteger(file, rows, columns, "Stack");
+
+		try {
+			writer.writePlate(new PlateInteger(PlateInteger.ROWS_384WELL, PlateInteger.COLUMNS_384WELL));
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Tests reading a file that is not a binary plate file.
+	 * @throws IOException
+	 */
+	@Test(expected = InputMismatchException.class)
+	public void testInvalid() throws IOException {
+
+		FileOutputStream stream = new FileOutputStream(file);
+		stream.write(new byte[64]);
+		stream.close();
+
+		new BinaryReaderInteger(file);
+	}
+
+}
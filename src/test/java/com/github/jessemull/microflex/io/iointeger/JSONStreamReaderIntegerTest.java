@@ -0,0 +1,365 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/*--------------------------- Package Declaration ----------------------------*/
+
+package com.github.jessemull.microflex.io.iointeger;
+
+/*------------------------------- Dependencies -------------------------------*/
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.InputMismatchException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.integerflex.io.JSONStreamReaderInteger;
+import com.github.jessemull.microflex.integerflex.io.PlateWriterInteger;
+import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.StackInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * Tests the JSON stream reader integer.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class JSONStreamReaderIntegerTest {
+
+    /* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random well and lists */
+
+	private static int minValue = 0;      // Minimum int value for wells
+	private static int maxValue = 100;    // Maximum int value for wells
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = PlateInteger.ROWS_96WELL;
+	private static int columns = PlateInteger.COLUMNS_96WELL;
+	private static int length = 24;
+	private static int plateNumber = 5;
+	private static int stackNumber = 3;
+
+	private static StackInteger stack;
+	private static List<StackInteger> stacks = new ArrayList<StackInteger>();
+	private static List<Map<WellInteger, Integer>> maps = new ArrayList<Map<WellInteger, Integer>>();
+
+	private static PlateWriterInteger writer = new PlateWriterInteger(new StringWriter());
+
+    /* Value of false redirects System.err */
+
+	private static boolean error = true;
+	private static PrintStream originalOut = System.out;
+
+	/**
+	 * Generates random objects and numbers for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		if(error) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+
+		stack = RandomUtil.randomStackInteger(
+				rows, columns, minValue, maxValue, length, "Stack", plateNumber);
+
+		for(PlateInteger plate : stack) {
+
+			Map<WellInteger, Integer> map = new TreeMap<WellInteger, Integer>();
+
+			for(WellInteger well : plate) {
+				map.put(well, well.get(0));
+			}
+
+			maps.add(map);
+		}
+
+		for(int k = 0; k < stackNumber; k++) {
+			stacks.add(RandomUtil.randomStackInteger(
+					rows, columns, minValue, maxValue, length, "Stack" + k, plateNumber));
+		}
+	}
+
+	/**
+	 * Toggles system error.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+	}
+
+    /*------------------------------ Test Methods ----------------------------*/
+
+	/**
+	 * Tests the JSON result methods.
+	 * @throws IOException
+	 */
+	@Test
+	public void testResults() throws IOException {
+
+		JSONStreamReaderInteger reader = new JSONStreamReaderInteger(
+				new StringReader(writer.resultToJSONAsString(maps)));
+		Iterator<Map<WellInteger, Integer>> iter = maps.iterator();
+
+		assertEquals("results", reader.root());
+		assertFalse(reader.hasNextJSONPlate());
+
+		while(reader.hasNextJSONResult()) {
+
+			Map<WellInteger, Integer> input = iter.next();
+			WellSetInteger output = reader.nextJSONResult();
+
+			assertEquals(input.size(), output.size());
+
+			for(WellInteger well : output) {
+				assertEquals(input.get(well), well.get(0));
+			}
+		}
+
+		assertFalse(iter.hasNext());
+		assertEquals(maps.size(), reader.index());
+
+		reader.close();
+	}
+
+	/**
+	 * Tests the JSON well methods.
+	 * @throws IOException
+	 */
+	@Test
+	public void testWells() throws IOException {
+
+		PlateInteger plate = stack.first();
+
+		JSONStreamReaderInteger reader = new JSONStreamReaderInteger(
+				new StringReader(writer.wellToJSONAsString(plate.dataSet().toWellArray())));
+		Iterator<WellInteger> iter = plate.iterator();
+
+		while(reader.hasNextJSONWell()) {
+
+			WellInteger input = iter.next();
+			WellInteger output = reader.nextJSONWell();
+
+			assertEquals(input, output);
+			assertEquals(input.data(), output.data());
+		}
+
+		assertFalse(iter.hasNext());
+
+		reader.close();
+	}
+
+	/**
+	 * Tests the JSON well set methods.
+	 * @throws IOException
+	 */
+	@Test
+	public void testSets() throws IOException {
+
+		List<WellSetInteger> sets = new ArrayList<WellSetInteger>();
+
+		for(PlateInteger plate : stack) {
+			sets.add(plate.dataSet());
+		}
+
+		JSONStreamReaderInteger reader = new JSONStreamReaderInteger(
+				new StringReader(writer.setToJSONAsString(sets)));
+		Iterator<WellSetInteger> iter = sets.iterator();
+
+		while(reader.hasNextJSONSet()) {
+
+			WellSetInteger input = iter.next();
+			WellSetInteger output = reader.nextJSONSet();
+
+			assertEquals(input.label(), output.label());
+			assertWells(input.iterator(), output.iterator());
+		}
+
+		assertFalse(iter.hasNext());
+
+		reader.close();
+	}
+
+	/**
+	 * Tests the JSON plate methods.
+	 * @throws IOException
+	 */
+	@Test
+	public void testPlates() throws IOException {
+
+		JSONStreamReaderInteger reader = new JSONStreamReaderInteger(
+				new StringReader(writer.plateToJSONAsString(stack.toArray())));
+		Iterator<PlateInteger> iter = stack.iterator();
+
+		while(reader.hasNextJSONPlate()) {
+
+			PlateInteger input = iter.next();
+			PlateInteger output = reader.nextJSONPlate();
+
+			assertEquals(input.label(), output.label());
+			assertWells(input.iterator(), output.iterator());
+		}
+
+		assertFalse(iter.hasNext());
+
+		reader.close();
+	}
+
+	/**
+	 * Tests the JSON plate methods without validation.
+	 * @throws IOException
+	 */
+	@Test
+	public void testPlatesNoValidation() throws IOException {
+
+		JSONStreamReaderInteger reader = new JSONStreamReaderInteger(
+				new StringReader(writer.plateToJSONAsString(stack.toArray())));
+		reader.setValidate(false);
+
+		Iterator<PlateInteger> iter = stack.iterator();
+
+		while(reader.hasNextJSONPlate()) {
+			assertWells(iter.next().iterator(), reader.nextJSONPlate().iterator());
+		}
+
+		assertFalse(iter.hasNext());
+
+		reader.close();
+	}
+
+	/**
+	 * Tests the JSON stack methods.
+	 * @throws IOException
+	 */
+	@Test
+	public void testStacks() throws IOException {
+
+		JSONStreamReaderInteger reader = new JSONStreamReaderInteger(
+				new StringReader(writer.stackToJSONAsString(stacks)));
+		Iterator<StackInteger> iter = stacks.iterator();
+
+		while(reader.hasNextJSONStack()) {
+
+			StackInteger input = iter.next();
+			StackInteger output = reader.nextJSONStack();
+
+			assertEquals(input.size(), output.size());
+
+			Iterator<PlateInteger> outputPlates = output.iterator();
+
+			for(PlateInteger plate : input) {
+				assertWells(plate.iterator(), outputPlates.next().iterator());
+			}
+		}
+
+		assertFalse(iter.hasNext());
+
+		reader.close();
+	}
+
+	/**
+	 * Tests the next method when no elements remain.
+	 * @throws IOException
+	 */
+	@Test(expected = NoSuchElementException.class)
+	public void testNoSuchElement() throws IOException {
+
+		JSONStreamReaderInteger reader = new JSONStreamReaderInteger(
+				new StringReader(writer.plateToJSONAsString(stack.first())));
+
+		assertTrue(reader.hasNextJSONPlate());
+		reader.nextJSONPlate();
+		assertFalse(reader.hasNextJSONPlate());
+
+		reader.nextJSONPlate();
+	}
+
+	/**
+	 * Tests validation of an invalid element.
+	 * @throws IOException
+	 */
+	@Test(expected = InputMismatchException.class)
+	public void testInvalidElement() throws IOException {
+
+		JSONStreamReaderInteger reader = new JSONStreamReaderInteger(
+				new StringReader("{\"plates\": [{\"label\": \"Plate\"}]}"));
+
+		reader.nextJSONPlate();
+	}
+
+	/**
+	 * Tests an invalid root field.
+	 * @throws IOException
+	 */
+	@Test(expected = InputMismatchException.class)
+	public void testInvalidRoot() throws IOException {
+		new JSONStreamReaderInteger(new StringReader("{\"invalid\": []}"));
+	}
+
+    /*---------------------------- Helper Methods ----------------------------*/
+
+	/**
+	 * Asserts that the wells and well values are equal.
+	 * @param    Iterator<WellInteger>    the input wells
+	 * @param    Iterator<WellInteger>    the output wells
+	 */
+	private static void assertWells(Iterator<WellInteger> input, Iterator<WellInteger> output) {
+
+		while(input.hasNext()) {
+
+			WellInteger inputWell = input.next();
+			WellInteger outputWell = output.next();
+
+			assertEquals(inputWell, outputWell);
+			assertEquals(inputWell.data(), outputWell.data());
+		}
+
+		assertFalse(output.hasNext());
+	}
+
+}
@@ -0,0 +1,200 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/*--------------------------- Package Declaration ----------------------------*/
+
+package com.github.jessemull.microflex.io.iointeger;
+
+/*------------------------------- Dependencies -------------------------------*/
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.InputMismatchException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.integerflex.io.PlateMapReaderInteger;
+import com.github.jessemull.microflex.integerflex.io.PlateReaderInteger;
+import com.github.jessemull.microflex.integerflex.io.PlateWriterInteger;
+import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.StackInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellInteger;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * Tests the parallel plate map reader for integers. The plates are compared to
+ * the plates read sequentially by the plate reader.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class PlateMapReaderIntegerTest {
+
+    /* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random well and lists */
+
+	private static int minValue = 0;      // Minimum int value for wells
+	private static int maxValue = 100;    // Maximum int value for wells
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = PlateInteger.ROWS_96WELL;
+	private static int columns = PlateInteger.COLUMNS_96WELL;
+	private static int length = 24;
+	private static int plateNumber = 50;
+
+	private static String maps;
+	private static List<PlateInteger> plates = new ArrayList<PlateInteger>();
+	private static File file = new File("plate-maps-integer.txt");
+
+	/**
+	 * Generates random objects and numbers for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		PlateWriterInteger writer = new PlateWriterInteger(new StringWriter());
+		StringBuilder builder = new StringBuilder();
+
+		for(int i = 0; i < plateNumber; i++) {
+
+			PlateInteger plate = RandomUtil.randomPlateInteger(
+					rows, columns, minValue, maxValue, length, "Plate" + i);
+
+			Map<WellInteger, Integer> map = new TreeMap<WellInteger, Integer>();
+
+			for(WellInteger well : plate) {
+				map.put(well, well.get(0));
+			}
+
+			builder.append(writer.printMapResultAsString(map, rows, columns, "Plate" + i));
+			builder.append(i % 2 == 0 ? "\n" : "\r\n \n");
+		}
+
+		maps = builder.toString();
+
+		PlateReaderInteger reader = new PlateReaderInteger(new StringReader(maps));
+
+		while(reader.hasNextMap()) {
+			plates.add(reader.nextMap());
+		}
+	}
+
+	/**
+	 * Deletes the file used in the test.
+	 */
+	@After
+	public void afterTests() {
+		file.delete();
+	}
+
+    /*------------------------------ Test Methods ----------------------------*/
+
+	/**
+	 * Tests parsing plate maps in parallel.
+	 */
+	@Test
+	public void testParse() {
+
+		PlateMapReaderInteger reader = new PlateMapReaderInteger();
+
+		assertTrue(reader.isParallel());
+		assertEquals(plateNumber, plates.size());
+		assertEquals(plates, reader.parseMaps(maps));
+
+		reader.setParallel(false);
+
+		assertEquals(plates, reader.parseMaps(maps));
+	}
+
+	/**
+	 * Tests reading plate maps from a file.
+	 * @throws IOException
+	 */
+	@Test
+	public void testReadMaps() throws IOException {
+
+		write(maps.replace("\t", ","));
+
+		PlateMapReaderInteger reader = new PlateMapReaderInteger(",");
+
+		assertEquals(plates, reader.readMaps(file));
+		assertEquals(plates, reader.readMaps(file.getName()));
+	}
+
+	/**
+	 * Tests reading plate maps into a stack.
+	 * @throws IOException
+	 */
+	@Test
+	public void testReadStack() throws IOException {
+
+		write(maps);
+
+		StackInteger stack = new PlateMapReaderInteger().readStack(file, "Stack");
+
+		assertEquals(new StackInteger(plates, "Stack"), stack);
+	}
+
+	/**
+	 * Tests input without plate maps.
+	 */
+	@Test
+	public void testEmpty() {
+		assertTrue(new PlateMapReaderInteger().parseMaps("\n \n\r\n").isEmpty());
+	}
+
+	/**
+	 * Tests an invalid plate map.
+	 */
+	@Test(expected = InputMismatchException.class)
+	public void testInvalid() {
+		new PlateMapReaderInteger().parseMaps(maps + "\nPlate\nA\tB\n");
+	}
+
+	/**
+	 * Writes the input to the file.
+	 * @param    String    the input
+	 * @throws   IOException
+	 */
+	private static void write(String input) throws IOException {
+		FileOutputStream stream = new FileOutputStream(file);
+		stream.write(input.getBytes("UTF-8"));
+		stream.close();
+	}
+
+}
@@ -24,6 +24,8 @@ package com.github.jessemull.microflex.io.iointeger;
 /*------------------------------- Dependencies -------------------------------*/
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
@@ -35,6 +37,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
 import java.io.Reader;
+import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.util.ArrayList;
@@ -57,7 +60,9 @@ import com.github.jessemull.microflex.integerflex.io.PlateWriterInteger;
 import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
 import com.github.jessemull.microflex.integerflex.plate.StackInteger;
 import com.github.jessemull.microflex.integerflex.plate.WellInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
 import com.github.jessemull.microflex.integerflex.stat.MeanInteger;
+import com.github.jessemull.microflex.plate.WellCoordinate;
 import com.github.jessemull.microflex.util.RandomUtil;
 
 /**
@@ -387,4 +392,135 @@ public class PlateReaderIntegerTest {
     	
     }
 
+    /*---------------------------- Delimited input ---------------------------*/
+    
+    /**
+     * Tests a plate map holding single digit values, the largest integer and 
+     * empty wells.
+     * @throws IOException 
+     */
+    @Test
+    public void testMapSingleDigit() throws IOException {
+    	
+    	PlateReaderInteger reader = new PlateReaderInteger(new StringReader(
+    			"Plate\n\t1\t2\t3\nA\t1\t2\t3\nB\t4\tNull\t2147483647\n"));
+    	
+    	assertTrue(reader.hasNextMap());
+    	
+    	PlateInteger plate = reader.nextMap();
+    	
+    	assertEquals("Plate", plate.label());
+    	assertEquals(2, plate.rows());
+    	assertEquals(3, plate.columns());
+    	assertEquals(5, plate.size());
+    	assertEquals(1, (int) plate.getWells(new WellInteger(0, 1)).get(0));
+    	assertEquals(Integer.MAX_VALUE, (int) plate.getWells(new WellInteger(1, 3)).get(0));
+    	assertNull(plate.getWells(new WellInteger(1, 2)));
+    	
+    	assertFalse(reader.hasNextMap());
+    	
+    	reader.close();
+    }
+    
+    /**
+     * Tests a table with row IDs of one, two and three letters.
+     * @throws IOException 
+     */
+    @Test
+    public void testTableLongRowIds() throws IOException {
+    	
+    	PlateReaderInteger reader = new PlateReaderInteger(new StringReader(
+    			"Table\nIndex\tValue\nA1\t5\nZZ2\t7\nAAA3\t9\nabc12\t0\n"));
+    	
+    	assertTrue(reader.hasNextTable());
+    	
+    	WellSetInteger set = reader.nextTable();
+    	
+    	assertEquals("Table", set.label());
+    	assertEquals(4, set.size());
+    	assertEquals(5, (int) set.getWells(new WellInteger(0, 1)).get(0));
+    	assertEquals(7, (int) set.getWells(new WellInteger(701, 2)).get(0));
+    	assertEquals(9, (int) set.getWells(new WellInteger(702, 3)).get(0));
+    	assertEquals(0, (int) set.getWells(new WellInteger(WellCoordinate.parseRow("ABC"), 12)).get(0));
+    	
+    	reader.close();
+    }
+    
+    /**
+     * Tests malformed plate maps. The reader is reset after each failure.
+     * @throws IOException 
+     */
+    @Test
+    public void testMalformedMap() throws IOException {
+    	
+    	String[] maps = {
+    		"Plate\n\t1\t3\nA\t1\t2\n",                 // Column header out of order
+    		"Plate\n\t1\t2\nA\t1\tx\n",                 // Value is not a number
+    		"Plate\n\t1\t2\nB\t1\t2\n",                 // Row out of order
+    		"Plate\n\t1\t2\nA\t1\n"                      // Short row
+    	};
+    	
+    	for(String map : maps) {
+    		
+    		PlateReaderInteger reader = new PlateReaderInteger(new StringReader(map));
+    		
+    		assertFalse(map, reader.hasNextMap());
+    		assertNull(map, reader.nextMap());
+    		assertEquals("Plate", reader.readLine());
+    		
+    		reader.close();
+    	}
+    	
+    	/* Values matching the map format that are not integers */
+    	
+    	String[] values = {
+    		"Plate\n\t1\t2\nA\t1.5\t2\n",               // Decimal value
+    		"Plate\n\t1\t2\nA\t2147483648\t2\n"         // Integer overflow
+    	};
+    	
+    	for(String map : values) {
+    		
+    		PlateReaderInteger reader = new PlateReaderInteger(new StringReader(map));
+    		
+    		assertNull(map, reader.nextMap());
+    		assertEquals("Plate", reader.readLine());
+    		
+    		reader.close();
+    	}
+    }
+    
+    /**
+     * Tests malformed tables. The reader is reset after each failure.
+     * @throws IOException 
+     */
+    @Test
+    public void testMalformedTable() throws IOException {
+    	
+    	String[] tables = {
+    		"Table\nIndex\tValues\nA1\t5\n",              // Invalid headers
+    		"Table\nIndex\tValue\n1A\t5\n",               // Column before row
+    		"Table\nIndex\tValue\nA99999999999\t5\n",     // Column overflow
+    		"Table\nIndex\tValue\nA1\tx\n"                // Value is not a number
+    	};
+    	
+    	for(String table : tables) {
+    		
+    		PlateReaderInteger reader = new PlateReaderInteger(new StringReader(table));
+    		
+    		assertFalse(table, reader.hasNextTable());
+    		assertNull(table, reader.nextTable());
+    		assertEquals("Table", reader.readLine());
+    		
+    		reader.close();
+    	}
+    	
+    	PlateReaderInteger reader = new PlateReaderInteger(new StringReader(
+    			"Table\nIndex\tValue\nA1\t99999999999\n"));
+    	
+    	assertNull(reader.nextTable());
+    	assertEquals("Table", reader.readLine());
+    	
+    	reader.close();
+    }
+
 }
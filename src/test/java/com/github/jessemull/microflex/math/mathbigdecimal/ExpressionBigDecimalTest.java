@@ -0,0 +1,440 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.math.mathbigdecimal;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.bigdecimalflex.math.AdditionBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.math.DivisionBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.math.ExpressionBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.math.IncrementBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.math.MultiplicationBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.math.SubtractionBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.StackBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * This class tests the methods in the expression big decimal class. Each expression
+ * is compared to the result of the same operations performed one at a time.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ExpressionBigDecimalTest {
+
+/* ---------------------------- Local fields ---------------------------- */
+
+    /* Minimum and maximum values for random wells */
+
+	private static BigDecimal minValue = new BigDecimal(1);       // Minimum big decimal value for wells
+	private static BigDecimal maxValue = new BigDecimal(1000);    // Maximum big decimal value for wells
+
+	/* Constants and the math context */
+
+	private static BigDecimal five = new BigDecimal(5);
+	private static BigDecimal hundred = new BigDecimal(100);
+	private static MathContext mc = MathContext.DECIMAL64;
+
+	/* The operations */
+
+	private static AdditionBigDecimal addition = new AdditionBigDecimal();
+	private static SubtractionBigDecimal subtraction = new SubtractionBigDecimal();
+	private static DivisionBigDecimal division = new DivisionBigDecimal();
+	private static MultiplicationBigDecimal multiplication = new MultiplicationBigDecimal();
+	private static IncrementBigDecimal increment = new IncrementBigDecimal();
+
+	/* Random objects for testing */
+
+	private static int rows = PlateBigDecimal.ROWS_96WELL;
+	private static int columns = PlateBigDecimal.COLUMNS_96WELL;
+	private static int length = 24;
+	private static int plateNumber = 10;
+
+	private static StackBigDecimal stack;
+	private static PlateBigDecimal background;
+	private static PlateBigDecimal control;
+	private static PlateBigDecimal uneven;
+
+	/* Plates holding every third or fourth well of a full plate */
+
+	private static PlateBigDecimal sparseInput;
+	private static PlateBigDecimal sparseUneven;
+	private static PlateBigDecimal sparseControl;
+
+	/* Wells found only in the sparse input or only in the sparse argument */
+
+	private static WellBigDecimal inputOnly = new WellBigDecimal(0, 2);
+	private static WellBigDecimal argumentOnly = new WellBigDecimal(0, 1);
+
+    /* Value of false redirects System.err */
+
+	private static boolean error = true;
+	private static PrintStream originalOut = System.out;
+
+	/**
+	 * Generates random objects for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		if(error) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+
+		stack = RandomUtil.randomStackBigDecimal(rows, columns, minValue, maxValue, length, "Plate", plateNumber);
+		background = RandomUtil.randomPlateBigDecimal(rows, columns, minValue, maxValue, length, "Background");
+		control = RandomUtil.randomPlateBigDecimal(rows, columns, minValue, maxValue, length, "Control");
+		uneven = RandomUtil.randomPlateBigDecimal(rows, columns, minValue, maxValue, length + length / 2, "Uneven");
+
+		sparseInput = sparse(fullPlate("Input", length), 3, 0);
+		sparseUneven = sparse(fullPlate("Uneven", length + length / 2), 3, 1);
+		sparseControl = sparse(fullPlate("Control", length), 4, 2);
+	}
+
+	/**
+	 * Toggles system error.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+	}
+
+	/* ---------------------------- Test Methods ---------------------------- */
+
+	/**
+	 * Tests the expression using plates.
+	 */
+	@Test
+	public void testPlates() {
+
+		ExpressionBigDecimal expression = new ExpressionBigDecimal()
+				.subtract(background)
+				.divide(control, mc)
+				.multiply(hundred, mc);
+
+		assertEquals(3, expression.size());
+
+		for(PlateBigDecimal plate : stack) {
+
+			PlateBigDecimal chained = multiplication.plates(division.plates(
+					subtraction.plates(plate, background), control, mc), hundred, mc);
+			PlateBigDecimal returned = expression.plates(plate);
+
+			assertWells(chained.iterator(), returned.iterator());
+			assertEquals(plate.label(), returned.label());
+		}
+	}
+
+	/**
+	 * Tests the strict expression using plates.
+	 */
+	@Test
+	public void testPlatesStrict() {
+
+		ExpressionBigDecimal expression = new ExpressionBigDecimal()
+				.subtract(uneven)
+				.divide(control, mc)
+				.apply(increment);
+
+		for(PlateBigDecimal plate : stack) {
+
+			PlateBigDecimal chained = increment.plates(division.platesStrict(
+					subtraction.platesStrict(plate, uneven), control, mc));
+			PlateBigDecimal returned = expression.platesStrict(plate);
+
+			assertWells(chained.iterator(), returned.iterator());
+		}
+	}
+
+	/**
+	 * Tests the expression using well sets with missing wells.
+	 */
+	@Test
+	public void testSets() {
+
+		ExpressionBigDecimal expression = new ExpressionBigDecimal()
+				.subtract(uneven.dataSet())
+				.multiply(control.dataSet(), mc)
+				.add(five);
+
+		for(PlateBigDecimal plate : stack) {
+
+			WellSetBigDecimal set = plate.dataSet();
+
+			WellSetBigDecimal chained = multiplication.sets(subtraction.sets(
+					set, uneven.dataSet()), control.dataSet(), mc);
+			chained = new ExpressionBigDecimal().add(five).sets(chained);
+
+			WellSetBigDecimal chainedStrict = multiplication.setsStrict(subtraction.setsStrict(
+					set, uneven.dataSet()), control.dataSet(), mc);
+			chainedStrict = new ExpressionBigDecimal().add(five).sets(chainedStrict);
+
+			assertWells(chained.iterator(), expression.sets(set).iterator());
+			assertWells(chainedStrict.iterator(), expression.setsStrict(set).iterator());
+		}
+	}
+
+	/**
+	 * Tests the expression using stacks.
+	 */
+	@Test
+	public void testStacks() {
+
+		ExpressionBigDecimal expression = new ExpressionBigDecimal()
+				.subtract(background)
+				.divide(control, mc)
+				.multiply(hundred, mc);
+
+		StackBigDecimal returned = expression.stacks(stack);
+
+		assertEquals(stack.size(), returned.size());
+		assertEquals(stack.label(), returned.label());
+
+		List<PlateBigDecimal> chained = new ArrayList<PlateBigDecimal>();
+
+		for(PlateBigDecimal plate : stack) {
+			chained.add(multiplication.plates(division.plates(
+					subtraction.plates(plate, background), control, mc), hundred, mc));
+		}
+
+		/* The stack orders plates with equal wells arbitrarily */
+
+		for(PlateBigDecimal plate : returned) {
+			assertTrue(containsPlate(chained, plate));
+		}
+	}
+
+	/**
+	 * Tests an empty expression.
+	 */
+	@Test
+	public void testEmpty() {
+
+		PlateBigDecimal plate = stack.first();
+		PlateBigDecimal returned = new ExpressionBigDecimal().plates(plate);
+
+		assertWells(plate.iterator(), returned.iterator());
+
+		for(WellBigDecimal well : returned) {
+			assertNotSame(plate.getWells(well).data(), well.data());
+		}
+	}
+
+	/**
+	 * Tests the expression using well sets that are missing wells. The input 
+	 * is missing wells found in the arguments and the arguments are missing 
+	 * wells found in the input.
+	 */
+	@Test
+	public void testSetsSparse() {
+
+		WellSetBigDecimal set = sparseInput.dataSet();
+		WellSetBigDecimal unevenSet = sparseUneven.dataSet();
+		WellSetBigDecimal controlSet = sparseControl.dataSet();
+
+		assertTrue(set.contains(inputOnly) && !unevenSet.contains(inputOnly));
+		assertTrue(unevenSet.contains(argumentOnly) && !set.contains(argumentOnly));
+
+		ExpressionBigDecimal expression = new ExpressionBigDecimal()
+				.subtract(unevenSet)
+				.multiply(controlSet, mc)
+				.add(five);
+
+		WellSetBigDecimal chained = addition.sets(multiplication.sets(
+				subtraction.sets(set, unevenSet), controlSet, mc), five);
+		WellSetBigDecimal chainedStrict = addition.sets(multiplication.setsStrict(
+				subtraction.setsStrict(set, unevenSet), controlSet, mc), five);
+
+		WellSetBigDecimal returned = expression.sets(set);
+		WellSetBigDecimal returnedStrict = expression.setsStrict(set);
+
+		assertWells(chained.iterator(), returned.iterator());
+		assertWells(chainedStrict.iterator(), returnedStrict.iterator());
+
+		assertTrue(returned.contains(inputOnly));
+		assertTrue(returned.contains(argumentOnly));
+		assertFalse(returnedStrict.contains(inputOnly));
+		assertFalse(returnedStrict.contains(argumentOnly));
+	}
+
+	/**
+	 * Tests the expression using plates that are missing wells.
+	 */
+	@Test
+	public void testPlatesSparse() {
+
+		ExpressionBigDecimal expression = new ExpressionBigDecimal()
+				.subtract(sparseUneven)
+				.multiply(sparseControl, mc)
+				.apply(increment);
+
+		PlateBigDecimal chained = increment.plates(multiplication.plates(
+				subtraction.plates(sparseInput, sparseUneven), sparseControl, mc));
+		PlateBigDecimal chainedStrict = increment.plates(multiplication.platesStrict(
+				subtraction.platesStrict(sparseInput, sparseUneven), sparseControl, mc));
+
+		PlateBigDecimal returned = expression.plates(sparseInput);
+		PlateBigDecimal returnedStrict = expression.platesStrict(sparseInput);
+
+		assertWells(chained.iterator(), returned.iterator());
+		assertWells(chainedStrict.iterator(), returnedStrict.iterator());
+
+		assertTrue(returned.contains(inputOnly));
+		assertTrue(returned.contains(argumentOnly));
+		assertFalse(returnedStrict.contains(inputOnly));
+		assertFalse(returnedStrict.contains(argumentOnly));
+	}
+
+	/**
+	 * Tests a plate argument with different dimensions than the input.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testPlateDimensions() {
+		new ExpressionBigDecimal()
+				.subtract(new PlateBigDecimal(PlateBigDecimal.ROWS_384WELL, PlateBigDecimal.COLUMNS_384WELL))
+				.plates(stack.first());
+	}
+
+	/* --------------------------- Helper Methods --------------------------- */
+
+	/**
+	 * Asserts that the wells and well values are equal.
+	 * @param    Iterator<WellBigDecimal>    the expected wells
+	 * @param    Iterator<WellBigDecimal>    the returned wells
+	 */
+	private static void assertWells(Iterator<WellBigDecimal> expected, Iterator<WellBigDecimal> returned) {
+
+		while(expected.hasNext()) {
+
+			WellBigDecimal well1 = expected.next();
+			WellBigDecimal well2 = returned.next();
+
+			assertEquals(well1, well2);
+			assertEquals(well1.data(), well2.data());
+		}
+
+		assertFalse(returned.hasNext());
+	}
+
+	/**
+	 * Returns true if the list holds a plate with the same wells and well values.
+	 * @param    List<PlateBigDecimal>    the plates
+	 * @param    PlateBigDecimal          the plate
+	 * @return                            true if the list holds the plate
+	 */
+	private static boolean containsPlate(List<PlateBigDecimal> plates, PlateBigDecimal plate) {
+
+		for(PlateBigDecimal candidate : plates) {
+
+			if(candidate.size() != plate.size()) {
+				continue;
+			}
+
+			Iterator<WellBigDecimal> iter = plate.iterator();
+			boolean equal = true;
+
+			for(WellBigDecimal well : candidate) {
+
+				WellBigDecimal next = iter.next();
+
+				if(!well.equals(next) || !well.data().equals(next.data())) {
+					equal = false;
+					break;
+				}
+			}
+
+			if(equal) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns a plate where every well holds the same number of random values.
+	 * @param    String    the label
+	 * @param    int       the number of values in each well
+	 * @return             the plate
+	 */
+	private static PlateBigDecimal fullPlate(String label, int size) {
+
+		PlateBigDecimal plate = new PlateBigDecimal(rows, columns, label);
+
+		for(int i = 0; i < rows; i++) {
+			for(int j = 1; j <= columns; j++) {
+				plate.addWells(new WellBigDecimal(i, j, RandomUtil.randomBigDecimalList(minValue, maxValue, size)));
+			}
+		}
+
+		return plate;
+	}
+
+	/**
+	 * Returns a copy of the plate without the wells whose index in the plate
+	 * leaves the remainder when divided by the step.
+	 * @param    PlateBigDecimal    the plate
+	 * @param    int            the step
+	 * @param    int            the remainder
+	 * @return                  the sparse plate
+	 */
+	private static PlateBigDecimal sparse(PlateBigDecimal plate, int step, int remainder) {
+
+		PlateBigDecimal result = new PlateBigDecimal(plate.rows(), plate.columns(), plate.label());
+		int index = 0;
+
+		for(WellBigDecimal well : plate) {
+			if(index++ % step != remainder) {
+				result.addWells(new WellBigDecimal(well));
+			}
+		}
+
+		return result;
+	}
+
+}
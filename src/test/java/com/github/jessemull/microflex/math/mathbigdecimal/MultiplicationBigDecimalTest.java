@@ -34,6 +34,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -3998,6 +3999,232 @@ public class MultiplicationBigDecimalTest {
     	}
     }
 
+    /* --------------------------- In Place Methods ------------------------- */
+    
+    /**
+     * Tests the in place multiplication of two wells.
+     */
+    @Test
+    public void testWellsInPlace() {
+    	
+    	PlateBigDecimal[] plates1 = arrays1.get(0);
+    	PlateBigDecimal[] unevenPlates = uneven.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		Iterator<WellBigDecimal> iter1 = plates1[i].iterator();
+    		Iterator<WellBigDecimal> iter2 = unevenPlates[i].iterator();
+    		
+    		while(iter1.hasNext() && iter2.hasNext()) {
+    			
+    			WellBigDecimal well1 = iter1.next();
+    			WellBigDecimal well2 = iter2.next();
+    			
+    			WellBigDecimal returned = new WellBigDecimal(well1);
+    			WellBigDecimal returnedUneven = new WellBigDecimal(well2);
+    			
+    			multiplication.wellsInPlace(returned, well2, mc);
+    			multiplication.wellsInPlace(returnedUneven, well1, mc);
+    			
+    			assertEquals(multiplication.wells(well1, well2, mc), returned.data());
+    			assertEquals(multiplication.wells(well2, well1, mc), returnedUneven.data());
+    		}
+    	}
+    }
+    
+    /**
+     * Tests the strict in place multiplication of two wells.
+     */
+    @Test
+    public void testWellsStrictInPlace() {
+    	
+    	PlateBigDecimal[] plates1 = arrays1.get(0);
+    	PlateBigDecimal[] unevenPlates = uneven.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		Iterator<WellBigDecimal> iter1 = plates1[i].iterator();
+    		Iterator<WellBigDecimal> iter2 = unevenPlates[i].iterator();
+    		
+    		while(iter1.hasNext() && iter2.hasNext()) {
+    			
+    			WellBigDecimal well1 = iter1.next();
+    			WellBigDecimal well2 = iter2.next();
+    			
+    			WellBigDecimal returned = new WellBigDecimal(well1);
+    			WellBigDecimal returnedUneven = new WellBigDecimal(well2);
+    			
+    			multiplication.wellsStrictInPlace(returned, well2, mc);
+    			multiplication.wellsStrictInPlace(returnedUneven, well1, mc);
+    			
+    			assertEquals(multiplication.wellsStrict(well1, well2, mc), returned.data());
+    			assertEquals(multiplication.wellsStrict(well2, well1, mc), returnedUneven.data());
+    		}
+    	}
+    }
+    
+    /**
+     * Tests the in place multiplication of two plates.
+     */
+    @Test
+    public void testPlatesInPlace() {
+    	
+    	PlateBigDecimal[] plates1 = arrays1.get(0);
+    	PlateBigDecimal[] unevenPlates = uneven.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		PlateBigDecimal returned = new PlateBigDecimal(plates1[i]);
+    		
+    		multiplication.platesInPlace(returned, unevenPlates[i], mc);
+    		
+    		assertWells(multiplication.plates(plates1[i], unevenPlates[i], mc), returned);
+    		assertEquals(plates1[i].label(), returned.label());
+    	}
+    }
+    
+    /**
+     * Tests the strict in place multiplication of two plates.
+     */
+    @Test
+    public void testPlatesStrictInPlace() {
+    	
+    	PlateBigDecimal[] plates1 = arrays1.get(0);
+    	PlateBigDecimal[] unevenPlates = uneven.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		PlateBigDecimal returned = new PlateBigDecimal(plates1[i]);
+    		
+    		multiplication.platesStrictInPlace(returned, unevenPlates[i], mc);
+    		
+    		assertWells(multiplication.platesStrict(plates1[i], unevenPlates[i], mc), returned);
+    	}
+    }
+    
+    /**
+     * Tests the in place multiplication of a plate and a constant.
+     */
+    @Test
+    public void testPlateConstantInPlace() {
+    	
+    	PlateBigDecimal[] plates1 = arrays1.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		PlateBigDecimal returned = new PlateBigDecimal(plates1[i]);
+    		
+    		multiplication.platesInPlace(returned, new BigDecimal(5), mc);
+    		
+    		assertWells(multiplication.plates(plates1[i], new BigDecimal(5), mc), returned);
+    	}
+    }
+    
+    /**
+     * Tests the in place multiplication of two well sets.
+     */
+    @Test
+    public void testSetsInPlace() {
+    	
+    	PlateBigDecimal[] plates1 = arrays1.get(0);
+    	PlateBigDecimal[] unevenPlates = uneven.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		WellSetBigDecimal set1 = plates1[i].dataSet();
+    		WellSetBigDecimal setUneven = unevenPlates[i].dataSet();
+    		
+    		WellSetBigDecimal returned = new PlateBigDecimal(plates1[i]).dataSet();
+    		WellSetBigDecimal returnedStrict = new PlateBigDecimal(plates1[i]).dataSet();
+    		
+    		multiplication.setsInPlace(returned, setUneven, mc);
+    		multiplication.setsStrictInPlace(returnedStrict, setUneven, mc);
+    		
+    		assertWells(multiplication.sets(set1, setUneven, mc), returned);
+    		assertWells(multiplication.setsStrict(set1, setUneven, mc), returnedStrict);
+    	}
+    }
+    
+    /**
+     * Tests the in place multiplication of two stacks.
+     */
+    @Test
+    public void testStacksInPlace() {
+    	
+    	for(int k = 0; k < stacks1.size(); k++) {
+    		
+    		StackBigDecimal stack1 = stacks1.get(k);
+    		StackBigDecimal stackUneven = stacksUneven.get(k);
+    		
+    		PlateBigDecimal[] plates1 = stack1.toArray();
+    		PlateBigDecimal[] platesUneven = stackUneven.toArray();
+    		PlateBigDecimal[] returned = this.copy(plates1);
+    		PlateBigDecimal[] returnedStrict = this.copy(plates1);
+    		
+    		StackBigDecimal stack = new StackBigDecimal(stack1.rows(), stack1.columns());
+    		StackBigDecimal stackStrict = new StackBigDecimal(stack1.rows(), stack1.columns());
+    		
+    		stack.add(returned);
+    		stackStrict.add(returnedStrict);
+    		
+    		multiplication.stacksInPlace(stack, stackUneven, mc);
+    		multiplication.stacksStrictInPlace(stackStrict, stackUneven, mc);
+    		
+    		assertEquals(Math.max(plates1.length, platesUneven.length), stack.size());
+    		assertEquals(Math.min(plates1.length, platesUneven.length), stackStrict.size());
+    		
+    		for(int i = 0; i < plates1.length && i < platesUneven.length; i++) {
+    			assertWells(multiplication.plates(plates1[i], platesUneven[i], mc), returned[i]);
+    			assertWells(multiplication.platesStrict(plates1[i], platesUneven[i], mc), returnedStrict[i]);
+    		}
+    	}
+    }
+    
+    /**
+     * Tests parallel multiplication against sequential multiplication.
+     */
+    @Test
+    public void testParallel() {
+    	
+    	MultiplicationBigDecimal parallel = new MultiplicationBigDecimal();
+    	parallel.setPool(new ForkJoinPool(4));
+    	
+    	assertTrue(parallel.isParallel());
+    	
+    	for(int k = 0; k < arrays1.size(); k++) {
+    		
+    		PlateBigDecimal[] plates1 = arrays1.get(k);
+    		PlateBigDecimal[] unevenPlates = uneven.get(k);
+    		
+    		for(int i = 0; i < plates1.length; i++) {
+    			assertWells(multiplication.plates(plates1[i], unevenPlates[i], mc), 
+    					parallel.plates(plates1[i], unevenPlates[i], mc));
+    			assertWells(multiplication.platesStrict(plates1[i], unevenPlates[i], mc), 
+    					parallel.platesStrict(plates1[i], unevenPlates[i], mc));
+    			assertWells(multiplication.plates(plates1[i], new BigDecimal(5), mc), 
+    					parallel.plates(plates1[i], new BigDecimal(5), mc));
+    		}
+    	}
+    	
+    	for(int k = 0; k < stacks1.size(); k++) {
+    		
+    		StackBigDecimal stack1 = stacks1.get(k);
+    		StackBigDecimal stackUneven = stacksUneven.get(k);
+    		
+    		assertStacks(multiplication.stacks(stack1, stackUneven, mc), 
+    				parallel.stacks(stack1, stackUneven, mc));
+    		assertStacks(multiplication.stacksStrict(stack1, stackUneven, mc), 
+    				parallel.stacksStrict(stack1, stackUneven, mc));
+    		assertStacks(multiplication.stacks(stack1, new BigDecimal(5), mc), 
+    				parallel.stacks(stack1, new BigDecimal(5), mc));
+    	}
+    	
+    	parallel.setParallel(false);
+    	
+    	assertFalse(parallel.isParallel());
+    	assertNull(parallel.pool());
+    }
+    
     /*---------------------------- Helper methods ----------------------------*/
     
     /**
@@ -4197,4 +4424,58 @@ public class MultiplicationBigDecimalTest {
 
 		return finalResultReturn;
     }
+    
+    /**
+     * Asserts that the wells and well values are equal.
+     * @param    Iterable<WellBigDecimal>    the expected wells
+     * @param    Iterable<WellBigDecimal>    the returned wells
+     */
+    private void assertWells(Iterable<WellBigDecimal> expected, Iterable<WellBigDecimal> returned) {
+    	
+    	Iterator<WellBigDecimal> iter1 = expected.iterator();
+    	Iterator<WellBigDecimal> iter2 = returned.iterator();
+    	
+    	while(iter1.hasNext()) {
+    		
+    		WellBigDecimal well1 = iter1.next();
+    		WellBigDecimal well2 = iter2.next();
+    		
+    		assertEquals(well1, well2);
+    		assertEquals(well1.data(), well2.data());
+    	}
+    	
+    	assertFalse(iter2.hasNext());
+    }
+    
+    /**
+     * Asserts that the stacks hold the same plates and well values.
+     * @param    StackBigDecimal    the expected stack
+     * @param    StackBigDecimal    the returned stack
+     */
+    private void assertStacks(StackBigDecimal expected, StackBigDecimal returned) {
+    	
+    	assertEquals(expected.size(), returned.size());
+    	
+    	Iterator<PlateBigDecimal> iter = returned.iterator();
+    	
+    	for(PlateBigDecimal plate : expected) {
+    		assertWells(plate, iter.next());
+    	}
+    }
+    
+    /**
+     * Returns copies of the plates.
+     * @param    PlateBigDecimal[]    the plates
+     * @return                        the copies
+     */
+    private PlateBigDecimal[] copy(PlateBigDecimal[] plates) {
+    	
+    	PlateBigDecimal[] copies = new PlateBigDecimal[plates.length];
+    	
+    	for(int i = 0; i < plates.length; i++) {
+    		copies[i] = new PlateBigDecimal(plates[i]);
+    	}
+    	
+    	return copies;
+    }
 }
@@ -32,6 +32,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -3991,6 +3992,232 @@ public class ANDBigIntegerTest {
     	}
     }
 
+    /* --------------------------- In Place Methods ------------------------- */
+    
+    /**
+     * Tests the in place AND operation using two wells.
+     */
+    @Test
+    public void testWellsInPlace() {
+    	
+    	PlateBigInteger[] plates1 = arrays1.get(0);
+    	PlateBigInteger[] unevenPlates = uneven.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		Iterator<WellBigInteger> iter1 = plates1[i].iterator();
+    		Iterator<WellBigInteger> iter2 = unevenPlates[i].iterator();
+    		
+    		while(iter1.hasNext() && iter2.hasNext()) {
+    			
+    			WellBigInteger well1 = iter1.next();
+    			WellBigInteger well2 = iter2.next();
+    			
+    			WellBigInteger returned = new WellBigInteger(well1);
+    			WellBigInteger returnedUneven = new WellBigInteger(well2);
+    			
+    			and.wellsInPlace(returned, well2);
+    			and.wellsInPlace(returnedUneven, well1);
+    			
+    			assertEquals(and.wells(well1, well2), returned.data());
+    			assertEquals(and.wells(well2, well1), returnedUneven.data());
+    		}
+    	}
+    }
+    
+    /**
+     * Tests the strict in place AND operation using two wells.
+     */
+    @Test
+    public void testWellsStrictInPlace() {
+    	
+    	PlateBigInteger[] plates1 = arrays1.get(0);
+    	PlateBigInteger[] unevenPlates = uneven.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		Iterator<WellBigInteger> iter1 = plates1[i].iterator();
+    		Iterator<WellBigInteger> iter2 = unevenPlates[i].iterator();
+    		
+    		while(iter1.hasNext() && iter2.hasNext()) {
+    			
+    			WellBigInteger well1 = iter1.next();
+    			WellBigInteger well2 = iter2.next();
+    			
+    			WellBigInteger returned = new WellBigInteger(well1);
+    			WellBigInteger returnedUneven = new WellBigInteger(well2);
+    			
+    			and.wellsStrictInPlace(returned, well2);
+    			and.wellsStrictInPlace(returnedUneven, well1);
+    			
+    			assertEquals(and.wellsStrict(well1, well2), returned.data());
+    			assertEquals(and.wellsStrict(well2, well1), returnedUneven.data());
+    		}
+    	}
+    }
+    
+    /**
+     * Tests the in place AND operation using two plates.
+     */
+    @Test
+    public void testPlatesInPlace() {
+    	
+    	PlateBigInteger[] plates1 = arrays1.get(0);
+    	PlateBigInteger[] unevenPlates = uneven.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		PlateBigInteger returned = new PlateBigInteger(plates1[i]);
+    		
+    		and.platesInPlace(returned, unevenPlates[i]);
+    		
+    		assertWells(and.plates(plates1[i], unevenPlates[i]), returned);
+    		assertEquals(plates1[i].label(), returned.label());
+    	}
+    }
+    
+    /**
+     * Tests the strict in place AND operation using two plates.
+     */
+    @Test
+    public void testPlatesStrictInPlace() {
+    	
+    	PlateBigInteger[] plates1 = arrays1.get(0);
+    	PlateBigInteger[] unevenPlates = uneven.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		PlateBigInteger returned = new PlateBigInteger(plates1[i]);
+    		
+    		and.platesStrictInPlace(returned, unevenPlates[i]);
+    		
+    		assertWells(and.platesStrict(plates1[i], unevenPlates[i]), returned);
+    	}
+    }
+    
+    /**
+     * Tests the in place AND operation using a plate and a constant.
+     */
+    @Test
+    public void testPlateConstantInPlace() {
+    	
+    	PlateBigInteger[] plates1 = arrays1.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		PlateBigInteger returned = new PlateBigInteger(plates1[i]);
+    		
+    		and.platesInPlace(returned, BigInteger.valueOf(5));
+    		
+    		assertWells(and.plates(plates1[i], BigInteger.valueOf(5)), returned);
+    	}
+    }
+    
+    /**
+     * Tests the in place AND operation using two well sets.
+     */
+    @Test
+    public void testSetsInPlace() {
+    	
+    	PlateBigInteger[] plates1 = arrays1.get(0);
+    	PlateBigInteger[] unevenPlates = uneven.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		WellSetBigInteger set1 = plates1[i].dataSet();
+    		WellSetBigInteger setUneven = unevenPlates[i].dataSet();
+    		
+    		WellSetBigInteger returned = new PlateBigInteger(plates1[i]).dataSet();
+    		WellSetBigInteger returnedStrict = new PlateBigInteger(plates1[i]).dataSet();
+    		
+    		and.setsInPlace(returned, setUneven);
+    		and.setsStrictInPlace(returnedStrict, setUneven);
+    		
+    		assertWells(and.sets(set1, setUneven), returned);
+    		assertWells(and.setsStrict(set1, setUneven), returnedStrict);
+    	}
+    }
+    
+    /**
+     * Tests the in place AND operation using two stacks.
+     */
+    @Test
+    public void testStacksInPlace() {
+    	
+    	for(int k = 0; k < stacks1.size(); k++) {
+    		
+    		StackBigInteger stack1 = stacks1.get(k);
+    		StackBigInteger stackUneven = stacksUneven.get(k);
+    		
+    		PlateBigInteger[] plates1 = stack1.toArray();
+    		PlateBigInteger[] platesUneven = stackUneven.toArray();
+    		PlateBigInteger[] returned = this.copy(plates1);
+    		PlateBigInteger[] returnedStrict = this.copy(plates1);
+    		
+    		StackBigInteger stack = new StackBigInteger(stack1.rows(), stack1.columns());
+    		StackBigInteger stackStrict = new StackBigInteger(stack1.rows(), stack1.columns());
+    		
+    		stack.add(returned);
+    		stackStrict.add(returnedStrict);
+    		
+    		and.stacksInPlace(stack, stackUneven);
+    		and.stacksStrictInPlace(stackStrict, stackUneven);
+    		
+    		assertEquals(Math.max(plates1.length, platesUneven.length), stack.size());
+    		assertEquals(Math.min(plates1.length, platesUneven.length), stackStrict.size());
+    		
+    		for(int i = 0; i < plates1.length && i < platesUneven.length; i++) {
+    			assertWells(and.plates(plates1[i], platesUneven[i]), returned[i]);
+    			assertWells(and.platesStrict(plates1[i], platesUneven[i]), returnedStrict[i]);
+    		}
+    	}
+    }
+    
+    /**
+     * Tests parallel AND operations against sequential AND operations.
+     */
+    @Test
+    public void testParallel() {
+    	
+    	ANDBigInteger parallel = new ANDBigInteger();
+    	parallel.setPool(new ForkJoinPool(4));
+    	
+    	assertTrue(parallel.isParallel());
+    	
+    	for(int k = 0; k < arrays1.size(); k++) {
+    		
+    		PlateBigInteger[] plates1 = arrays1.get(k);
+    		PlateBigInteger[] unevenPlates = uneven.get(k);
+    		
+    		for(int i = 0; i < plates1.length; i++) {
+    			assertWells(and.plates(plates1[i], unevenPlates[i]), 
+    					parallel.plates(plates1[i], unevenPlates[i]));
+    			assertWells(and.platesStrict(plates1[i], unevenPlates[i]), 
+    					parallel.platesStrict(plates1[i], unevenPlates[i]));
+    			assertWells(and.plates(plates1[i], BigInteger.valueOf(5)), 
+    					parallel.plates(plates1[i], BigInteger.valueOf(5)));
+    		}
+    	}
+    	
+    	for(int k = 0; k < stacks1.size(); k++) {
+    		
+    		StackBigInteger stack1 = stacks1.get(k);
+    		StackBigInteger stackUneven = stacksUneven.get(k);
+    		
+    		assertStacks(and.stacks(stack1, stackUneven), 
+    				parallel.stacks(stack1, stackUneven));
+    		assertStacks(and.stacksStrict(stack1, stackUneven), 
+    				parallel.stacksStrict(stack1, stackUneven));
+    		assertStacks(and.stacks(stack1, BigInteger.valueOf(5)), 
+    				parallel.stacks(stack1, BigInteger.valueOf(5)));
+    	}
+    	
+    	parallel.setParallel(false);
+    	
+    	assertFalse(parallel.isParallel());
+    	assertNull(parallel.pool());
+    }
+    
     /*---------------------------- Helper methods ----------------------------*/
     
     /**
@@ -4190,4 +4417,58 @@ public class ANDBigIntegerTest {
 
 		return finalResultReturn;
     }
+    
+    /**
+     * Asserts that the wells and well values are equal.
+     * @param    Iterable<WellBigInteger>    the expected wells
+     * @param    Iterable<WellBigInteger>    the returned wells
+     */
+    private void assertWells(Iterable<WellBigInteger> expected, Iterable<WellBigInteger> returned) {
+    	
+    	Iterator<WellBigInteger> iter1 = expected.iterator();
+    	Iterator<WellBigInteger> iter2 = returned.iterator();
+    	
+    	while(iter1.hasNext()) {
+    		
+    		WellBigInteger well1 = iter1.next();
+    		WellBigInteger well2 = iter2.next();
+    		
+    		assertEquals(well1, well2);
+    		assertEquals(well1.data(), well2.data());
+    	}
+    	
+    	assertFalse(iter2.hasNext());
+    }
+    
+    /**
+     * Asserts that the stacks hold the same plates and well values.
+     * @param    StackBigInteger    the expected stack
+     * @param    StackBigInteger    the returned stack
+     */
+    private void assertStacks(StackBigInteger expected, StackBigInteger returned) {
+    	
+    	assertEquals(expected.size(), returned.size());
+    	
+    	Iterator<PlateBigInteger> iter = returned.iterator();
+    	
+    	for(PlateBigInteger plate : expected) {
+    		assertWells(plate, iter.next());
+    	}
+    }
+    
+    /**
+     * Returns copies of the plates.
+     * @param    PlateBigInteger[]    the plates
+     * @return                        the copies
+     */
+    private PlateBigInteger[] copy(PlateBigInteger[] plates) {
+    	
+    	PlateBigInteger[] copies = new PlateBigInteger[plates.length];
+    	
+    	for(int i = 0; i < plates.length; i++) {
+    		copies[i] = new PlateBigInteger(plates[i]);
+    	}
+    	
+    	return copies;
+    }
 }
@@ -0,0 +1,459 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.math.mathbiginteger;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.bigintegerflex.math.AdditionBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.math.DivisionBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.math.ExpressionBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.math.IncrementBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.math.LeftShiftBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.math.MultiplicationBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.math.SubtractionBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.StackBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.WellSetBigInteger;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * This class tests the methods in the expression big integer class. Each expression
+ * is compared to the result of the same operations performed one at a time.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ExpressionBigIntegerTest {
+
+/* ---------------------------- Local fields ---------------------------- */
+
+    /* Minimum and maximum values for random wells */
+
+	private static BigInteger minValue = BigInteger.valueOf(1);       // Minimum big integer value for wells
+	private static BigInteger maxValue = BigInteger.valueOf(1000);    // Maximum big integer value for wells
+
+	/* Constants */
+
+	private static BigInteger five = BigInteger.valueOf(5);
+	private static BigInteger hundred = BigInteger.valueOf(100);
+
+	/* The operations */
+
+	private static AdditionBigInteger addition = new AdditionBigInteger();
+	private static SubtractionBigInteger subtraction = new SubtractionBigInteger();
+	private static DivisionBigInteger division = new DivisionBigInteger();
+	private static MultiplicationBigInteger multiplication = new MultiplicationBigInteger();
+	private static IncrementBigInteger increment = new IncrementBigInteger();
+	private static LeftShiftBigInteger leftShift = new LeftShiftBigInteger();
+
+	/* Random objects for testing */
+
+	private static int rows = PlateBigInteger.ROWS_96WELL;
+	private static int columns = PlateBigInteger.COLUMNS_96WELL;
+	private static int length = 24;
+	private static int plateNumber = 10;
+
+	private static StackBigInteger stack;
+	private static PlateBigInteger background;
+	private static PlateBigInteger control;
+	private static PlateBigInteger uneven;
+
+	/* Plates holding every third or fourth well of a full plate */
+
+	private static PlateBigInteger sparseInput;
+	private static PlateBigInteger sparseUneven;
+	private static PlateBigInteger sparseControl;
+
+	/* Wells found only in the sparse input or only in the sparse argument */
+
+	private static WellBigInteger inputOnly = new WellBigInteger(0, 2);
+	private static WellBigInteger argumentOnly = new WellBigInteger(0, 1);
+
+    /* Value of false redirects System.err */
+
+	private static boolean error = true;
+	private static PrintStream originalOut = System.out;
+
+	/**
+	 * Generates random objects for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		if(error) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+
+		stack = RandomUtil.randomStackBigInteger(rows, columns, minValue, maxValue, length, "Plate", plateNumber);
+		background = RandomUtil.randomPlateBigInteger(rows, columns, minValue, maxValue, length, "Background");
+		control = RandomUtil.randomPlateBigInteger(rows, columns, minValue, maxValue, length, "Control");
+		uneven = RandomUtil.randomPlateBigInteger(rows, columns, minValue, maxValue, length + length / 2, "Uneven");
+
+		sparseInput = sparse(fullPlate("Input", length), 3, 0);
+		sparseUneven = sparse(fullPlate("Uneven", length + length / 2), 3, 1);
+		sparseControl = sparse(fullPlate("Control", length), 4, 2);
+	}
+
+	/**
+	 * Toggles system error.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+	}
+
+	/* ---------------------------- Test Methods ---------------------------- */
+
+	/**
+	 * Tests the expression using plates.
+	 */
+	@Test
+	public void testPlates() {
+
+		ExpressionBigInteger expression = new ExpressionBigInteger()
+				.subtract(background)
+				.divide(control)
+				.multiply(hundred);
+
+		assertEquals(3, expression.size());
+
+		for(PlateBigInteger plate : stack) {
+
+			PlateBigInteger chained = multiplication.plates(division.plates(
+					subtraction.plates(plate, background), control), hundred);
+			PlateBigInteger returned = expression.plates(plate);
+
+			assertWells(chained.iterator(), returned.iterator());
+			assertEquals(plate.label(), returned.label());
+		}
+	}
+
+	/**
+	 * Tests the strict expression using plates.
+	 */
+	@Test
+	public void testPlatesStrict() {
+
+		ExpressionBigInteger expression = new ExpressionBigInteger()
+				.subtract(uneven)
+				.divide(control)
+				.apply(increment);
+
+		for(PlateBigInteger plate : stack) {
+
+			PlateBigInteger chained = increment.plates(division.platesStrict(
+					subtraction.platesStrict(plate, uneven), control));
+			PlateBigInteger returned = expression.platesStrict(plate);
+
+			assertWells(chained.iterator(), returned.iterator());
+		}
+	}
+
+	/**
+	 * Tests the expression using well sets with missing wells.
+	 */
+	@Test
+	public void testSets() {
+
+		ExpressionBigInteger expression = new ExpressionBigInteger()
+				.subtract(uneven.dataSet())
+				.multiply(control.dataSet())
+				.add(five);
+
+		for(PlateBigInteger plate : stack) {
+
+			WellSetBigInteger set = plate.dataSet();
+
+			WellSetBigInteger chained = multiplication.sets(subtraction.sets(
+					set, uneven.dataSet()), control.dataSet());
+			chained = new ExpressionBigInteger().add(five).sets(chained);
+
+			WellSetBigInteger chainedStrict = multiplication.setsStrict(subtraction.setsStrict(
+					set, uneven.dataSet()), control.dataSet());
+			chainedStrict = new ExpressionBigInteger().add(five).sets(chainedStrict);
+
+			assertWells(chained.iterator(), expression.sets(set).iterator());
+			assertWells(chainedStrict.iterator(), expression.setsStrict(set).iterator());
+		}
+	}
+
+	/**
+	 * Tests the expression using stacks.
+	 */
+	@Test
+	public void testStacks() {
+
+		ExpressionBigInteger expression = new ExpressionBigInteger()
+				.subtract(background)
+				.divide(control)
+				.multiply(hundred);
+
+		StackBigInteger returned = expression.stacks(stack);
+
+		assertEquals(stack.size(), returned.size());
+		assertEquals(stack.label(), returned.label());
+
+		List<PlateBigInteger> chained = new ArrayList<PlateBigInteger>();
+
+		for(PlateBigInteger plate : stack) {
+			chained.add(multiplication.plates(division.plates(
+					subtraction.plates(plate, background), control), hundred));
+		}
+
+		/* The stack orders plates with equal wells arbitrarily */
+
+		for(PlateBigInteger plate : returned) {
+			assertTrue(containsPlate(chained, plate));
+		}
+	}
+
+	/**
+	 * Tests an empty expression.
+	 */
+	@Test
+	public void testEmpty() {
+
+		PlateBigInteger plate = stack.first();
+		PlateBigInteger returned = new ExpressionBigInteger().plates(plate);
+
+		assertWells(plate.iterator(), returned.iterator());
+
+		for(WellBigInteger well : returned) {
+			assertNotSame(plate.getWells(well).data(), well.data());
+		}
+	}
+
+	/**
+	 * Tests the expression using well sets that are missing wells. The input 
+	 * is missing wells found in the arguments and the arguments are missing 
+	 * wells found in the input.
+	 */
+	@Test
+	public void testSetsSparse() {
+
+		WellSetBigInteger set = sparseInput.dataSet();
+		WellSetBigInteger unevenSet = sparseUneven.dataSet();
+		WellSetBigInteger controlSet = sparseControl.dataSet();
+
+		assertTrue(set.contains(inputOnly) && !unevenSet.contains(inputOnly));
+		assertTrue(unevenSet.contains(argumentOnly) && !set.contains(argumentOnly));
+
+		ExpressionBigInteger expression = new ExpressionBigInteger()
+				.subtract(unevenSet)
+				.multiply(controlSet)
+				.add(five);
+
+		WellSetBigInteger chained = addition.sets(multiplication.sets(
+				subtraction.sets(set, unevenSet), controlSet), five);
+		WellSetBigInteger chainedStrict = addition.sets(multiplication.setsStrict(
+				subtraction.setsStrict(set, unevenSet), controlSet), five);
+
+		WellSetBigInteger returned = expression.sets(set);
+		WellSetBigInteger returnedStrict = expression.setsStrict(set);
+
+		assertWells(chained.iterator(), returned.iterator());
+		assertWells(chainedStrict.iterator(), returnedStrict.iterator());
+
+		assertTrue(returned.contains(inputOnly));
+		assertTrue(returned.contains(argumentOnly));
+		assertFalse(returnedStrict.contains(inputOnly));
+		assertFalse(returnedStrict.contains(argumentOnly));
+	}
+
+	/**
+	 * Tests the expression using plates that are missing wells.
+	 */
+	@Test
+	public void testPlatesSparse() {
+
+		ExpressionBigInteger expression = new ExpressionBigInteger()
+				.subtract(sparseUneven)
+				.multiply(sparseControl)
+				.apply(increment);
+
+		PlateBigInteger chained = increment.plates(multiplication.plates(
+				subtraction.plates(sparseInput, sparseUneven), sparseControl));
+		PlateBigInteger chainedStrict = increment.plates(multiplication.platesStrict(
+				subtraction.platesStrict(sparseInput, sparseUneven), sparseControl));
+
+		PlateBigInteger returned = expression.plates(sparseInput);
+		PlateBigInteger returnedStrict = expression.platesStrict(sparseInput);
+
+		assertWells(chained.iterator(), returned.iterator());
+		assertWells(chainedStrict.iterator(), returnedStrict.iterator());
+
+		assertTrue(returned.contains(inputOnly));
+		assertTrue(returned.contains(argumentOnly));
+		assertFalse(returnedStrict.contains(inputOnly));
+		assertFalse(returnedStrict.contains(argumentOnly));
+	}
+
+	/**
+	 * Tests a plate argument with different dimensions than the input.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testPlateDimensions() {
+		new ExpressionBigInteger()
+				.subtract(new PlateBigInteger(PlateBigInteger.ROWS_384WELL, PlateBigInteger.COLUMNS_384WELL))
+				.plates(stack.first());
+	}
+
+	/**
+	 * Tests the expression using a shift operation.
+	 */
+	@Test
+	public void testShift() {
+
+		ExpressionBigInteger expression = new ExpressionBigInteger()
+				.multiply(control)
+				.apply(leftShift, 2);
+
+		for(PlateBigInteger plate : stack) {
+
+			PlateBigInteger chained = leftShift.plates(multiplication.plates(plate, control), 2);
+			PlateBigInteger returned = expression.plates(plate);
+
+			assertWells(chained.iterator(), returned.iterator());
+		}
+	}
+
+	/* --------------------------- Helper Methods --------------------------- */
+
+	/**
+	 * Asserts that the wells and well values are equal.
+	 * @param    Iterator<WellBigInteger>    the expected wells
+	 * @param    Iterator<WellBigInteger>    the returned wells
+	 */
+	private static void assertWells(Iterator<WellBigInteger> expected, Iterator<WellBigInteger> returned) {
+
+		while(expected.hasNext()) {
+
+			WellBigInteger well1 = expected.next();
+			WellBigInteger well2 = returned.next();
+
+			assertEquals(well1, well2);
+			assertEquals(well1.data(), well2.data());
+		}
+
+		assertFalse(returned.hasNext());
+	}
+
+	/**
+	 * Returns true if the list holds a plate with the same wells and well values.
+	 * @param    List<PlateBigInteger>    the plates
+	 * @param    PlateBigInteger          the plate
+	 * @return                            true if the list holds the plate
+	 */
+	private static boolean containsPlate(List<PlateBigInteger> plates, PlateBigInteger plate) {
+
+		for(PlateBigInteger candidate : plates) {
+
+			if(candidate.size() != plate.size()) {
+				continue;
+			}
+
+			Iterator<WellBigInteger> iter = plate.iterator();
+			boolean equal = true;
+
+			for(WellBigInteger well : candidate) {
+
+				WellBigInteger next = iter.next();
+
+				if(!well.equals(next) || !well.data().equals(next.data())) {
+					equal = false;
+					break;
+				}
+			}
+
+			if(equal) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns a plate where every well holds the same number of random values.
+	 * @param    String    the label
+	 * @param    int       the number of values in each well
+	 * @return             the plate
+	 */
+	private static PlateBigInteger fullPlate(String label, int size) {
+
+		PlateBigInteger plate = new PlateBigInteger(rows, columns, label);
+
+		for(int i = 0; i < rows; i++) {
+			for(int j = 1; j <= columns; j++) {
+				plate.addWells(new WellBigInteger(i, j, RandomUtil.randomBigIntegerList(minValue, maxValue, size)));
+			}
+		}
+
+		return plate;
+	}
+
+	/**
+	 * Returns a copy of the plate without the wells whose index in the plate
+	 * leaves the remainder when divided by the step.
+	 * @param    PlateBigInteger    the plate
+	 * @param    int            the step
+	 * @param    int            the remainder
+	 * @return                  the sparse plate
+	 */
+	private static PlateBigInteger sparse(PlateBigInteger plate, int step, int remainder) {
+
+		PlateBigInteger result = new PlateBigInteger(plate.rows(), plate.columns(), plate.label());
+		int index = 0;
+
+		for(WellBigInteger well : plate) {
+			if(index++ % step != remainder) {
+				result.addWells(new WellBigInteger(well));
+			}
+		}
+
+		return result;
+	}
+
+}
@@ -3992,6 +3992,95 @@ public class SubtractionBigIntegerTest {
     	}
     }
 
+    /* --------------------------- In Place Methods ------------------------- */
+    
+    /**
+     * Tests the in place subtraction of two wells.
+     */
+    @Test
+    public void testWellsInPlace() {
+    	
+    	PlateBigInteger[] plates1 = arrays1.get(0);
+    	PlateBigInteger[] unevenPlates = uneven.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		Iterator<WellBigInteger> iter1 = plates1[i].iterator();
+    		Iterator<WellBigInteger> iter2 = unevenPlates[i].iterator();
+    		
+    		while(iter1.hasNext() && iter2.hasNext()) {
+    			
+    			WellBigInteger well1 = iter1.next();
+    			WellBigInteger well2 = iter2.next();
+    			
+    			WellBigInteger returned = new WellBigInteger(well1);
+    			WellBigInteger returnedUneven = new WellBigInteger(well2);
+    			
+    			subtraction.wellsInPlace(returned, well2);
+    			subtraction.wellsInPlace(returnedUneven, well1);
+    			
+    			assertEquals(subtraction.wells(well1, well2), returned.data());
+    			assertEquals(subtraction.wells(well2, well1), returnedUneven.data());
+    		}
+    	}
+    }
+    
+    /**
+     * Tests the strict in place subtraction of two wells.
+     */
+    @Test
+    public void testWellsStrictInPlace() {
+    	
+    	PlateBigInteger[] plates1 = arrays1.get(0);
+    	PlateBigInteger[] unevenPlates = uneven.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		Iterator<WellBigInteger> iter1 = plates1[i].iterator();
+    		Iterator<WellBigInteger> iter2 = unevenPlates[i].iterator();
+    		
+    		while(iter1.hasNext() && iter2.hasNext()) {
+    			
+    			WellBigInteger well1 = iter1.next();
+    			WellBigInteger well2 = iter2.next();
+    			
+    			WellBigInteger returned = new WellBigInteger(well1);
+    			WellBigInteger returnedUneven = new WellBigInteger(well2);
+    			
+    			subtraction.wellsStrictInPlace(returned, well2);
+    			subtraction.wellsStrictInPlace(returnedUneven, well1);
+    			
+    			assertEquals(subtraction.wellsStrict(well1, well2), returned.data());
+    			assertEquals(subtraction.wellsStrict(well2, well1), returnedUneven.data());
+    		}
+    	}
+    }
+    
+    /**
+     * Tests the in place subtraction of a constant from a plate.
+     */
+    @Test
+    public void testPlateConstantInPlace() {
+    	
+    	PlateBigInteger[] plates1 = arrays1.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		PlateBigInteger returned = new PlateBigInteger(plates1[i]);
+    		
+    		subtraction.platesInPlace(returned, BigInteger.valueOf(5));
+    		
+    		Iterator<WellBigInteger> iter1 = plates1[i].iterator();
+    		Iterator<WellBigInteger> iter2 = returned.iterator();
+    		
+    		while(iter1.hasNext()) {
+    			assertEquals(subtraction.wells(iter1.next(), BigInteger.valueOf(5)), iter2.next().data());
+    		}
+    		
+    		assertFalse(iter2.hasNext());
+    	}
+    }
+    
     /*---------------------------- Helper methods ----------------------------*/
     
     /**
@@ -0,0 +1,395 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.math.mathdouble;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Iterator;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.doubleflex.math.AdditionDouble;
+import com.github.jessemull.microflex.doubleflex.math.DivisionDouble;
+import com.github.jessemull.microflex.doubleflex.math.ExpressionDouble;
+import com.github.jessemull.microflex.doubleflex.math.IncrementDouble;
+import com.github.jessemull.microflex.doubleflex.math.MultiplicationDouble;
+import com.github.jessemull.microflex.doubleflex.math.SubtractionDouble;
+import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
+import com.github.jessemull.microflex.doubleflex.plate.StackDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * This class tests the methods in the expression double class. Each expression
+ * is compared to the result of the same operations performed one at a time.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ExpressionDoubleTest {
+
+/* ---------------------------- Local fields ---------------------------- */
+
+    /* Minimum and maximum values for random wells */
+
+	private static double minValue = 1;           // Minimum double value for wells
+	private static double maxValue = 1000;        // Maximum double value for wells
+
+	/* The operations */
+
+	private static AdditionDouble addition = new AdditionDouble();
+	private static SubtractionDouble subtraction = new SubtractionDouble();
+	private static DivisionDouble division = new DivisionDouble();
+	private static MultiplicationDouble multiplication = new MultiplicationDouble();
+	private static IncrementDouble increment = new IncrementDouble();
+
+	/* Random objects for testing */
+
+	private static int rows = PlateDouble.ROWS_96WELL;
+	private static int columns = PlateDouble.COLUMNS_96WELL;
+	private static int length = 24;
+	private static int plateNumber = 10;
+
+	private static StackDouble stack;
+	private static PlateDouble background;
+	private static PlateDouble control;
+	private static PlateDouble uneven;
+
+	/* Plates holding every third or fourth well of a full plate */
+
+	private static PlateDouble sparseInput;
+	private static PlateDouble sparseUneven;
+	private static PlateDouble sparseControl;
+
+	/* Wells found only in the sparse input or only in the sparse argument */
+
+	private static WellDouble inputOnly = new WellDouble(0, 2);
+	private static WellDouble argumentOnly = new WellDouble(0, 1);
+
+    /* Value of false redirects System.err */
+
+	private static boolean error = true;
+	private static PrintStream originalOut = System.out;
+
+	/**
+	 * Generates random objects for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		if(error) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+
+		stack = RandomUtil.randomStackDouble(rows, columns, minValue, maxValue, length, "Plate", plateNumber);
+		background = RandomUtil.randomPlateDouble(rows, columns, minValue, maxValue, length, "Background");
+		control = RandomUtil.randomPlateDouble(rows, columns, minValue, maxValue, length, "Control");
+		uneven = RandomUtil.randomPlateDouble(rows, columns, minValue, maxValue, length + length / 2, "Uneven");
+
+		sparseInput = sparse(fullPlate("Input", length), 3, 0);
+		sparseUneven = sparse(fullPlate("Uneven", length + length / 2), 3, 1);
+		sparseControl = sparse(fullPlate("Control", length), 4, 2);
+	}
+
+	/**
+	 * Toggles system error.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+	}
+
+	/* ---------------------------- Test Methods ---------------------------- */
+
+	/**
+	 * Tests the expression using plates.
+	 */
+	@Test
+	public void testPlates() {
+
+		ExpressionDouble expression = new ExpressionDouble()
+				.subtract(background)
+				.divide(control)
+				.multiply(100);
+
+		assertEquals(3, expression.size());
+
+		for(PlateDouble plate : stack) {
+
+			PlateDouble chained = multiplication.plates(division.plates(
+					subtraction.plates(plate, background), control), 100);
+			PlateDouble returned = expression.plates(plate);
+
+			assertWells(chained.iterator(), returned.iterator());
+			assertEquals(plate.label(), returned.label());
+		}
+	}
+
+	/**
+	 * Tests the strict expression using plates.
+	 */
+	@Test
+	public void testPlatesStrict() {
+
+		ExpressionDouble expression = new ExpressionDouble()
+				.subtract(uneven)
+				.divide(control)
+				.apply(increment);
+
+		for(PlateDouble plate : stack) {
+
+			PlateDouble chained = increment.plates(division.platesStrict(
+					subtraction.platesStrict(plate, uneven), control));
+			PlateDouble returned = expression.platesStrict(plate);
+
+			assertWells(chained.iterator(), returned.iterator());
+		}
+	}
+
+	/**
+	 * Tests the expression using well sets with missing wells.
+	 */
+	@Test
+	public void testSets() {
+
+		ExpressionDouble expression = new ExpressionDouble()
+				.subtract(uneven.dataSet())
+				.multiply(control.dataSet())
+				.add(5);
+
+		for(PlateDouble plate : stack) {
+
+			WellSetDouble set = plate.dataSet();
+
+			WellSetDouble chained = multiplication.sets(subtraction.sets(
+					set, uneven.dataSet()), control.dataSet());
+			chained = new ExpressionDouble().add(5).sets(chained);
+
+			WellSetDouble chainedStrict = multiplication.setsStrict(subtraction.setsStrict(
+					set, uneven.dataSet()), control.dataSet());
+			chainedStrict = new ExpressionDouble().add(5).sets(chainedStrict);
+
+			assertWells(chained.iterator(), expression.sets(set).iterator());
+			assertWells(chainedStrict.iterator(), expression.setsStrict(set).iterator());
+		}
+	}
+
+	/**
+	 * Tests the expression using stacks.
+	 */
+	@Test
+	public void testStacks() {
+
+		ExpressionDouble expression = new ExpressionDouble()
+				.subtract(background)
+				.divide(control)
+				.multiply(100);
+
+		StackDouble returned = expression.stacks(stack);
+
+		assertEquals(stack.size(), returned.size());
+		assertEquals(stack.label(), returned.label());
+
+		StackDouble chained = new StackDouble(stack.rows(), stack.columns());
+
+		for(PlateDouble plate : stack) {
+			chained.add(multiplication.plates(division.plates(
+					subtraction.plates(plate, background), control), 100));
+		}
+
+		Iterator<PlateDouble> iter = returned.iterator();
+
+		for(PlateDouble plate : chained) {
+			assertWells(plate.iterator(), iter.next().iterator());
+		}
+	}
+
+	/**
+	 * Tests an empty expression.
+	 */
+	@Test
+	public void testEmpty() {
+
+		PlateDouble plate = stack.first();
+		PlateDouble returned = new ExpressionDouble().plates(plate);
+
+		assertWells(plate.iterator(), returned.iterator());
+
+		for(WellDouble well : returned) {
+			assertNotSame(plate.getWells(well).dataArray(), well.dataArray());
+		}
+	}
+
+	/**
+	 * Tests the expression using well sets that are missing wells. The input 
+	 * is missing wells found in the arguments and the arguments are missing 
+	 * wells found in the input.
+	 */
+	@Test
+	public void testSetsSparse() {
+
+		WellSetDouble set = sparseInput.dataSet();
+		WellSetDouble unevenSet = sparseUneven.dataSet();
+		WellSetDouble controlSet = sparseControl.dataSet();
+
+		assertTrue(set.contains(inputOnly) && !unevenSet.contains(inputOnly));
+		assertTrue(unevenSet.contains(argumentOnly) && !set.contains(argumentOnly));
+
+		ExpressionDouble expression = new ExpressionDouble()
+				.subtract(unevenSet)
+				.multiply(controlSet)
+				.add(5);
+
+		WellSetDouble chained = addition.sets(multiplication.sets(
+				subtraction.sets(set, unevenSet), controlSet), 5);
+		WellSetDouble chainedStrict = addition.sets(multiplication.setsStrict(
+				subtraction.setsStrict(set, unevenSet), controlSet), 5);
+
+		WellSetDouble returned = expression.sets(set);
+		WellSetDouble returnedStrict = expression.setsStrict(set);
+
+		assertWells(chained.iterator(), returned.iterator());
+		assertWells(chainedStrict.iterator(), returnedStrict.iterator());
+
+		assertTrue(returned.contains(inputOnly));
+		assertTrue(returned.contains(argumentOnly));
+		assertFalse(returnedStrict.contains(inputOnly));
+		assertFalse(returnedStrict.contains(argumentOnly));
+	}
+
+	/**
+	 * Tests the expression using plates that are missing wells.
+	 */
+	@Test
+	public void testPlatesSparse() {
+
+		ExpressionDouble expression = new ExpressionDouble()
+				.subtract(sparseUneven)
+				.multiply(sparseControl)
+				.apply(increment);
+
+		PlateDouble chained = increment.plates(multiplication.plates(
+				subtraction.plates(sparseInput, sparseUneven), sparseControl));
+		PlateDouble chainedStrict = increment.plates(multiplication.platesStrict(
+				subtraction.platesStrict(sparseInput, sparseUneven), sparseControl));
+
+		PlateDouble returned = expression.plates(sparseInput);
+		PlateDouble returnedStrict = expression.platesStrict(sparseInput);
+
+		assertWells(chained.iterator(), returned.iterator());
+		assertWells(chainedStrict.iterator(), returnedStrict.iterator());
+
+		assertTrue(returned.contains(inputOnly));
+		assertTrue(returned.contains(argumentOnly));
+		assertFalse(returnedStrict.contains(inputOnly));
+		assertFalse(returnedStrict.contains(argumentOnly));
+	}
+
+	/**
+	 * Tests a plate argument with different dimensions than the input.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testPlateDimensions() {
+		new ExpressionDouble()
+				.subtract(new PlateDouble(PlateDouble.ROWS_384WELL, PlateDouble.COLUMNS_384WELL))
+				.plates(stack.first());
+	}
+
+	/* --------------------------- Helper Methods --------------------------- */
+
+	/**
+	 * Asserts that the wells and well values are equal.
+	 * @param    Iterator<WellDouble>    the expected wells
+	 * @param    Iterator<WellDouble>    the returned wells
+	 */
+	private static void assertWells(Iterator<WellDouble> expected, Iterator<WellDouble> returned) {
+
+		while(expected.hasNext()) {
+
+			WellDouble well1 = expected.next();
+			WellDouble well2 = returned.next();
+
+			assertEquals(well1, well2);
+			assertEquals(well1.data(), well2.data());
+		}
+
+		assertFalse(returned.hasNext());
+	}
+
+	/**
+	 * Returns a plate where every well holds the same number of random values.
+	 * @param    String    the label
+	 * @param    int       the number of values in each well
+	 * @return             the plate
+	 */
+	private static PlateDouble fullPlate(String label, int size) {
+
+		PlateDouble plate = new PlateDouble(rows, columns, label);
+
+		for(int i = 0; i < rows; i++) {
+			for(int j = 1; j <= columns; j++) {
+				plate.addWells(new WellDouble(i, j, RandomUtil.randomDoubleList(minValue, maxValue, size)));
+			}
+		}
+
+		return plate;
+	}
+
+	/**
+	 * Returns a copy of the plate without the wells whose index in the plate
+	 * leaves the remainder when divided by the step.
+	 * @param    PlateDouble    the plate
+	 * @param    int            the step
+	 * @param    int            the remainder
+	 * @return                  the sparse plate
+	 */
+	private static PlateDouble sparse(PlateDouble plate, int step, int remainder) {
+
+		PlateDouble result = new PlateDouble(plate.rows(), plate.columns(), plate.label());
+		int index = 0;
+
+		for(WellDouble well : plate) {
+			if(index++ % step != remainder) {
+				result.addWells(new WellDouble(well));
+			}
+		}
+
+		return result;
+	}
+
+}
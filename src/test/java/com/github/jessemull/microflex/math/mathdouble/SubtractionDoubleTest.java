@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.junit.AfterClass;
@@ -3991,6 +3992,232 @@ public class SubtractionDoubleTest {
     	}
     }
 
+    /* --------------------------- In Place Methods ------------------------- */
+    
+    /**
+     * Tests the in place subtraction of two wells.
+     */
+    @Test
+    public void testWellsInPlace() {
+    	
+    	PlateDouble[] plates1 = arrays1.get(0);
+    	PlateDouble[] unevenPlates = uneven.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		Iterator<WellDouble> iter1 = plates1[i].iterator();
+    		Iterator<WellDouble> iter2 = unevenPlates[i].iterator();
+    		
+    		while(iter1.hasNext() && iter2.hasNext()) {
+    			
+    			WellDouble well1 = iter1.next();
+    			WellDouble well2 = iter2.next();
+    			
+    			WellDouble returned = new WellDouble(well1);
+    			WellDouble returnedUneven = new WellDouble(well2);
+    			
+    			subtraction.wellsInPlace(returned, well2);
+    			subtraction.wellsInPlace(returnedUneven, well1);
+    			
+    			assertEquals(subtraction.wells(well1, well2), returned.data());
+    			assertEquals(subtraction.wells(well2, well1), returnedUneven.data());
+    		}
+    	}
+    }
+    
+    /**
+     * Tests the strict in place subtraction of two wells.
+     */
+    @Test
+    public void testWellsStrictInPlace() {
+    	
+    	PlateDouble[] plates1 = arrays1.get(0);
+    	PlateDouble[] unevenPlates = uneven.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		Iterator<WellDouble> iter1 = plates1[i].iterator();
+    		Iterator<WellDouble> iter2 = unevenPlates[i].iterator();
+    		
+    		while(iter1.hasNext() && iter2.hasNext()) {
+    			
+    			WellDouble well1 = iter1.next();
+    			WellDouble well2 = iter2.next();
+    			
+    			WellDouble returned = new WellDouble(well1);
+    			WellDouble returnedUneven = new WellDouble(well2);
+    			
+    			subtraction.wellsStrictInPlace(returned, well2);
+    			subtraction.wellsStrictInPlace(returnedUneven, well1);
+    			
+    			assertEquals(subtraction.wellsStrict(well1, well2), returned.data());
+    			assertEquals(subtraction.wellsStrict(well2, well1), returnedUneven.data());
+    		}
+    	}
+    }
+    
+    /**
+     * Tests the in place subtraction of two plates.
+     */
+    @Test
+    public void testPlatesInPlace() {
+    	
+    	PlateDouble[] plates1 = arrays1.get(0);
+    	PlateDouble[] unevenPlates = uneven.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		PlateDouble returned = new PlateDouble(plates1[i]);
+    		
+    		subtraction.platesInPlace(returned, unevenPlates[i]);
+    		
+    		assertWells(subtraction.plates(plates1[i], unevenPlates[i]), returned);
+    		assertEquals(plates1[i].label(), returned.label());
+    	}
+    }
+    
+    /**
+     * Tests the strict in place subtraction of two plates.
+     */
+    @Test
+    public void testPlatesStrictInPlace() {
+    	
+    	PlateDouble[] plates1 = arrays1.get(0);
+    	PlateDouble[] unevenPlates = uneven.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		PlateDouble returned = new PlateDouble(plates1[i]);
+    		
+    		subtraction.platesStrictInPlace(returned, unevenPlates[i]);
+    		
+    		assertWells(subtraction.platesStrict(plates1[i], unevenPlates[i]), returned);
+    	}
+    }
+    
+    /**
+     * Tests the in place subtraction of a constant from a plate.
+     */
+    @Test
+    public void testPlateConstantInPlace() {
+    	
+    	PlateDouble[] plates1 = arrays1.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		PlateDouble returned = new PlateDouble(plates1[i]);
+    		
+    		subtraction.platesInPlace(returned, 5);
+    		
+    		assertWells(subtraction.plates(plates1[i], 5), returned);
+    	}
+    }
+    
+    /**
+     * Tests the in place subtraction of two well sets.
+     */
+    @Test
+    public void testSetsInPlace() {
+    	
+    	PlateDouble[] plates1 = arrays1.get(0);
+    	PlateDouble[] unevenPlates = uneven.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		WellSetDouble set1 = plates1[i].dataSet();
+    		WellSetDouble setUneven = unevenPlates[i].dataSet();
+    		
+    		WellSetDouble returned = new PlateDouble(plates1[i]).dataSet();
+    		WellSetDouble returnedStrict = new PlateDouble(plates1[i]).dataSet();
+    		
+    		subtraction.setsInPlace(returned, setUneven);
+    		subtraction.setsStrictInPlace(returnedStrict, setUneven);
+    		
+    		assertWells(subtraction.sets(set1, setUneven), returned);
+    		assertWells(subtraction.setsStrict(set1, setUneven), returnedStrict);
+    	}
+    }
+    
+    /**
+     * Tests the in place subtraction of two stacks.
+     */
+    @Test
+    public void testStacksInPlace() {
+    	
+    	for(int k = 0; k < stacks1.size(); k++) {
+    		
+    		StackDouble stack1 = stacks1.get(k);
+    		StackDouble stackUneven = stacksUneven.get(k);
+    		
+    		PlateDouble[] plates1 = stack1.toArray();
+    		PlateDouble[] platesUneven = stackUneven.toArray();
+    		PlateDouble[] returned = this.copy(plates1);
+    		PlateDouble[] returnedStrict = this.copy(plates1);
+    		
+    		StackDouble stack = new StackDouble(stack1.rows(), stack1.columns());
+    		StackDouble stackStrict = new StackDouble(stack1.rows(), stack1.columns());
+    		
+    		stack.add(returned);
+    		stackStrict.add(returnedStrict);
+    		
+    		subtraction.stacksInPlace(stack, stackUneven);
+    		subtraction.stacksStrictInPlace(stackStrict, stackUneven);
+    		
+    		assertEquals(Math.max(plates1.length, platesUneven.length), stack.size());
+    		assertEquals(Math.min(plates1.length, platesUneven.length), stackStrict.size());
+    		
+    		for(int i = 0; i < plates1.length && i < platesUneven.length; i++) {
+    			assertWells(subtraction.plates(plates1[i], platesUneven[i]), returned[i]);
+    			assertWells(subtraction.platesStrict(plates1[i], platesUneven[i]), returnedStrict[i]);
+    		}
+    	}
+    }
+    
+    /**
+     * Tests parallel subtraction against sequential subtraction.
+     */
+    @Test
+    public void testParallel() {
+    	
+    	SubtractionDouble parallel = new SubtractionDouble();
+    	parallel.setPool(new ForkJoinPool(4));
+    	
+    	assertTrue(parallel.isParallel());
+    	
+    	for(int k = 0; k < arrays1.size(); k++) {
+    		
+    		PlateDouble[] plates1 = arrays1.get(k);
+    		PlateDouble[] unevenPlates = uneven.get(k);
+    		
+    		for(int i = 0; i < plates1.length; i++) {
+    			assertWells(subtraction.plates(plates1[i], unevenPlates[i]), 
+    					parallel.plates(plates1[i], unevenPlates[i]));
+    			assertWells(subtraction.platesStrict(plates1[i], unevenPlates[i]), 
+    					parallel.platesStrict(plates1[i], unevenPlates[i]));
+    			assertWells(subtraction.plates(plates1[i], 5), 
+    					parallel.plates(plates1[i], 5));
+    		}
+    	}
+    	
+    	for(int k = 0; k < stacks1.size(); k++) {
+    		
+    		StackDouble stack1 = stacks1.get(k);
+    		StackDouble stackUneven = stacksUneven.get(k);
+    		
+    		assertStacks(subtraction.stacks(stack1, stackUneven), 
+    				parallel.stacks(stack1, stackUneven));
+    		assertStacks(subtraction.stacksStrict(stack1, stackUneven), 
+    				parallel.stacksStrict(stack1, stackUneven));
+    		assertStacks(subtraction.stacks(stack1, 5), 
+    				parallel.stacks(stack1, 5));
+    	}
+    	
+    	parallel.setParallel(false);
+    	
+    	assertFalse(parallel.isParallel());
+    	assertNull(parallel.pool());
+    }
+    
     /*---------------------------- Helper methods ----------------------------*/
     
     /**
@@ -4190,4 +4417,58 @@ public class SubtractionDoubleTest {
 
 		return finalResultReturn;
     }
+    
+    /**
+     * Asserts that the wells and well values are equal.
+     * @param    Iterable<WellDouble>    the expected wells
+     * @param    Iterable<WellDouble>    the returned wells
+     */
+    private void assertWells(Iterable<WellDouble> expected, Iterable<WellDouble> returned) {
+    	
+    	Iterator<WellDouble> iter1 = expected.iterator();
+    	Iterator<WellDouble> iter2 = returned.iterator();
+    	
+    	while(iter1.hasNext()) {
+    		
+    		WellDouble well1 = iter1.next();
+    		WellDouble well2 = iter2.next();
+    		
+    		assertEquals(well1, well2);
+    		assertEquals(well1.data(), well2.data());
+    	}
+    	
+    	assertFalse(iter2.hasNext());
+    }
+    
+    /**
+     * Asserts that the stacks hold the same plates and well values.
+     * @param    StackDouble    the expected stack
+     * @param    StackDouble    the returned stack
+     */
+    private void assertStacks(StackDouble expected, StackDouble returned) {
+    	
+    	assertEquals(expected.size(), returned.size());
+    	
+    	Iterator<PlateDouble> iter = returned.iterator();
+    	
+    	for(PlateDouble plate : expected) {
+    		assertWells(plate, iter.next());
+    	}
+    }
+    
+    /**
+     * Returns copies of the plates.
+     * @param    PlateDouble[]    the plates
+     * @return                    the copies
+     */
+    private PlateDouble[] copy(PlateDouble[] plates) {
+    	
+    	PlateDouble[] copies = new PlateDouble[plates.length];
+    	
+    	for(int i = 0; i < plates.length; i++) {
+    		copies[i] = new PlateDouble(plates[i]);
+    	}
+    	
+    	return copies;
+    }
 }
@@ -0,0 +1,395 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.math.mathinteger;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Iterator;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.integerflex.math.AdditionInteger;
+import com.github.jessemull.microflex.integerflex.math.DivisionInteger;
+import com.github.jessemull.microflex.integerflex.math.ExpressionInteger;
+import com.github.jessemull.microflex.integerflex.math.IncrementInteger;
+import com.github.jessemull.microflex.integerflex.math.MultiplicationInteger;
+import com.github.jessemull.microflex.integerflex.math.SubtractionInteger;
+import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.StackInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * This class tests the methods in the expression integer class. Each expression
+ * is compared to the result of the same operations performed one at a time.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ExpressionIntegerTest {
+
+/* ---------------------------- Local fields ---------------------------- */
+
+    /* Minimum and maximum values for random wells */
+
+	private static int minValue = 1;              // Minimum integer value for wells
+	private static int maxValue = 1000;           // Maximum integer value for wells
+
+	/* The operations */
+
+	private static AdditionInteger addition = new AdditionInteger();
+	private static SubtractionInteger subtraction = new SubtractionInteger();
+	private static DivisionInteger division = new DivisionInteger();
+	private static MultiplicationInteger multiplication = new MultiplicationInteger();
+	private static IncrementInteger increment = new IncrementInteger();
+
+	/* Random objects for testing */
+
+	private static int rows = PlateInteger.ROWS_96WELL;
+	private static int columns = PlateInteger.COLUMNS_96WELL;
+	private static int length = 24;
+	private static int plateNumber = 10;
+
+	private static StackInteger stack;
+	private static PlateInteger background;
+	private static PlateInteger control;
+	private static PlateInteger uneven;
+
+	/* Plates holding every third or fourth well of a full plate */
+
+	private static PlateInteger sparseInput;
+	private static PlateInteger sparseUneven;
+	private static PlateInteger sparseControl;
+
+	/* Wells found only in the sparse input or only in the sparse argument */
+
+	private static WellInteger inputOnly = new WellInteger(0, 2);
+	private static WellInteger argumentOnly = new WellInteger(0, 1);
+
+    /* Value of false redirects System.err */
+
+	private static boolean error = true;
+	private static PrintStream originalOut = System.out;
+
+	/**
+	 * Generates random objects for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		if(error) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+
+		stack = RandomUtil.randomStackInteger(rows, columns, minValue, maxValue, length, "Plate", plateNumber);
+		background = RandomUtil.randomPlateInteger(rows, columns, minValue, maxValue, length, "Background");
+		control = RandomUtil.randomPlateInteger(rows, columns, minValue, maxValue, length, "Control");
+		uneven = RandomUtil.randomPlateInteger(rows, columns, minValue, maxValue, length + length / 2, "Uneven");
+
+		sparseInput = sparse(fullPlate("Input", length), 3, 0);
+		sparseUneven = sparse(fullPlate("Uneven", length + length / 2), 3, 1);
+		sparseControl = sparse(fullPlate("Control", length), 4, 2);
+	}
+
+	/**
+	 * Toggles system error.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+	}
+
+	/* ---------------------------- Test Methods ---------------------------- */
+
+	/**
+	 * Tests the expression using plates.
+	 */
+	@Test
+	public void testPlates() {
+
+		ExpressionInteger expression = new ExpressionInteger()
+				.subtract(background)
+				.divide(control)
+				.multiply(100);
+
+		assertEquals(3, expression.size());
+
+		for(PlateInteger plate : stack) {
+
+			PlateInteger chained = multiplication.plates(division.plates(
+					subtraction.plates(plate, background), control), 100);
+			PlateInteger returned = expression.plates(plate);
+
+			assertWells(chained.iterator(), returned.iterator());
+			assertEquals(plate.label(), returned.label());
+		}
+	}
+
+	/**
+	 * Tests the strict expression using plates.
+	 */
+	@Test
+	public void testPlatesStrict() {
+
+		ExpressionInteger expression = new ExpressionInteger()
+				.subtract(uneven)
+				.divide(control)
+				.apply(increment);
+
+		for(PlateInteger plate : stack) {
+
+			PlateInteger chained = increment.plates(division.platesStrict(
+					subtraction.platesStrict(plate, uneven), control));
+			PlateInteger returned = expression.platesStrict(plate);
+
+			assertWells(chained.iterator(), returned.iterator());
+		}
+	}
+
+	/**
+	 * Tests the expression using well sets with missing wells.
+	 */
+	@Test
+	public void testSets() {
+
+		ExpressionInteger expression = new ExpressionInteger()
+				.subtract(uneven.dataSet())
+				.multiply(control.dataSet())
+				.add(5);
+
+		for(PlateInteger plate : stack) {
+
+			WellSetInteger set = plate.dataSet();
+
+			WellSetInteger chained = multiplication.sets(subtraction.sets(
+					set, uneven.dataSet()), control.dataSet());
+			chained = new ExpressionInteger().add(5).sets(chained);
+
+			WellSetInteger chainedStrict = multiplication.setsStrict(subtraction.setsStrict(
+					set, uneven.dataSet()), control.dataSet());
+			chainedStrict = new ExpressionInteger().add(5).sets(chainedStrict);
+
+			assertWells(chained.iterator(), expression.sets(set).iterator());
+			assertWells(chainedStrict.iterator(), expression.setsStrict(set).iterator());
+		}
+	}
+
+	/**
+	 * Tests the expression using stacks.
+	 */
+	@Test
+	public void testStacks() {
+
+		ExpressionInteger expression = new ExpressionInteger()
+				.subtract(background)
+				.divide(control)
+				.multiply(100);
+
+		StackInteger returned = expression.stacks(stack);
+
+		assertEquals(stack.size(), returned.size());
+		assertEquals(stack.label(), returned.label());
+
+		StackInteger chained = new StackInteger(stack.rows(), stack.columns());
+
+		for(PlateInteger plate : stack) {
+			chained.add(multiplication.plates(division.plates(
+					subtraction.plates(plate, background), control), 100));
+		}
+
+		Iterator<PlateInteger> iter = returned.iterator();
+
+		for(PlateInteger plate : chained) {
+			assertWells(plate.iterator(), iter.next().iterator());
+		}
+	}
+
+	/**
+	 * Tests an empty expression.
+	 */
+	@Test
+	public void testEmpty() {
+
+		PlateInteger plate = stack.first();
+		PlateInteger returned = new ExpressionInteger().plates(plate);
+
+		assertWells(plate.iterator(), returned.iterator());
+
+		for(WellInteger well : returned) {
+			assertNotSame(plate.getWells(well).data(), well.data());
+		}
+	}
+
+	/**
+	 * Tests the expression using well sets that are missing wells. The input 
+	 * is missing wells found in the arguments and the arguments are missing 
+	 * wells found in the input.
+	 */
+	@Test
+	public void testSetsSparse() {
+
+		WellSetInteger set = sparseInput.dataSet();
+		WellSetInteger unevenSet = sparseUneven.dataSet();
+		WellSetInteger controlSet = sparseControl.dataSet();
+
+		assertTrue(set.contains(inputOnly) && !unevenSet.contains(inputOnly));
+		assertTrue(unevenSet.contains(argumentOnly) && !set.contains(argumentOnly));
+
+		ExpressionInteger expression = new ExpressionInteger()
+				.subtract(unevenSet)
+				.multiply(controlSet)
+				.add(5);
+
+		WellSetInteger chained = addition.sets(multiplication.sets(
+				subtraction.sets(set, unevenSet), controlSet), 5);
+		WellSetInteger chainedStrict = addition.sets(multiplication.setsStrict(
+				subtraction.setsStrict(set, unevenSet), controlSet), 5);
+
+		WellSetInteger returned = expression.sets(set);
+		WellSetInteger returnedStrict = expression.setsStrict(set);
+
+		assertWells(chained.iterator(), returned.iterator());
+		assertWells(chainedStrict.iterator(), returnedStrict.iterator());
+
+		assertTrue(returned.contains(inputOnly));
+		assertTrue(returned.contains(argumentOnly));
+		assertFalse(returnedStrict.contains(inputOnly));
+		assertFalse(returnedStrict.contains(argumentOnly));
+	}
+
+	/**
+	 * Tests the expression using plates that are missing wells.
+	 */
+	@Test
+	public void testPlatesSparse() {
+
+		ExpressionInteger expression = new ExpressionInteger()
+				.subtract(sparseUneven)
+				.multiply(sparseControl)
+				.apply(increment);
+
+		PlateInteger chained = increment.plates(multiplication.plates(
+				subtraction.plates(sparseInput, sparseUneven), sparseControl));
+		PlateInteger chainedStrict = increment.plates(multiplication.platesStrict(
+				subtraction.platesStrict(sparseInput, sparseUneven), sparseControl));
+
+		PlateInteger returned = expression.plates(sparseInput);
+		PlateInteger returnedStrict = expression.platesStrict(sparseInput);
+
+		assertWells(chained.iterator(), returned.iterator());
+		assertWells(chainedStrict.iterator(), returnedStrict.iterator());
+
+		assertTrue(returned.contains(inputOnly));
+		assertTrue(returned.contains(argumentOnly));
+		assertFalse(returnedStrict.contains(inputOnly));
+		assertFalse(returnedStrict.contains(argumentOnly));
+	}
+
+	/**
+	 * Tests a plate argument with different dimensions than the input.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testPlateDimensions() {
+		new ExpressionInteger()
+				.subtract(new PlateInteger(PlateInteger.ROWS_384WELL, PlateInteger.COLUMNS_384WELL))
+				.plates(stack.first());
+	}
+
+	/* --------------------------- Helper Methods --------------------------- */
+
+	/**
+	 * Asserts that the wells and well values are equal.
+	 * @param    Iterator<WellInteger>    the expected wells
+	 * @param    Iterator<WellInteger>    the returned wells
+	 */
+	private static void assertWells(Iterator<WellInteger> expected, Iterator<WellInteger> returned) {
+
+		while(expected.hasNext()) {
+
+			WellInteger well1 = expected.next();
+			WellInteger well2 = returned.next();
+
+			assertEquals(well1, well2);
+			assertEquals(well1.data(), well2.data());
+		}
+
+		assertFalse(returned.hasNext());
+	}
+
+	/**
+	 * Returns a plate where every well holds the same number of random values.
+	 * @param    String    the label
+	 * @param    int       the number of values in each well
+	 * @return             the plate
+	 */
+	private static PlateInteger fullPlate(String label, int size) {
+
+		PlateInteger plate = new PlateInteger(rows, columns, label);
+
+		for(int i = 0; i < rows; i++) {
+			for(int j = 1; j <= columns; j++) {
+				plate.addWells(new WellInteger(i, j, RandomUtil.randomIntegerList(minValue, maxValue, size)));
+			}
+		}
+
+		return plate;
+	}
+
+	/**
+	 * Returns a copy of the plate without the wells whose index in the plate
+	 * leaves the remainder when divided by the step.
+	 * @param    PlateInteger    the plate
+	 * @param    int            the step
+	 * @param    int            the remainder
+	 * @return                  the sparse plate
+	 */
+	private static PlateInteger sparse(PlateInteger plate, int step, int remainder) {
+
+		PlateInteger result = new PlateInteger(plate.rows(), plate.columns(), plate.label());
+		int index = 0;
+
+		for(WellInteger well : plate) {
+			if(index++ % step != remainder) {
+				result.addWells(new WellInteger(well));
+			}
+		}
+
+		return result;
+	}
+
+}
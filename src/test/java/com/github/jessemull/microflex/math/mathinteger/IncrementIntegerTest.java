@@ -30,6 +30,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -522,4 +523,163 @@ public class IncrementIntegerTest {
 		    }
         }
     } 
+    
+    /* --------------------------- In Place Methods ------------------------- */
+    
+    /**
+     * Tests the in place increment of a well.
+     */
+    @Test
+    public void testWellsInPlace() {
+    	
+    	for(PlateInteger plate : arrays.get(0)) {
+    		for(WellInteger well : plate) {
+    			
+    			WellInteger returned = new WellInteger(well);
+    			
+    			increment.wellsInPlace(returned);
+    			
+    			assertEquals(increment.wells(well), returned.data());
+    		}
+    	}
+    }
+    
+    /**
+     * Tests the in place increment of a plate.
+     */
+    @Test
+    public void testPlatesInPlace() {
+    	
+    	for(PlateInteger plate : arrays.get(0)) {
+    		
+    		PlateInteger returned = new PlateInteger(plate);
+    		
+    		increment.platesInPlace(returned);
+    		
+    		assertWells(increment.plates(plate), returned);
+    		assertEquals(plate.label(), returned.label());
+    	}
+    }
+    
+    /**
+     * Tests the in place increment of a well set.
+     */
+    @Test
+    public void testSetsInPlace() {
+    	
+    	for(PlateInteger plate : arrays.get(0)) {
+    		
+    		WellSetInteger returned = new PlateInteger(plate).dataSet();
+    		
+    		increment.setsInPlace(returned);
+    		
+    		assertWells(increment.sets(plate.dataSet()), returned);
+    	}
+    }
+    
+    /**
+     * Tests the in place increment of a stack.
+     */
+    @Test
+    public void testStacksInPlace() {
+    	
+    	for(StackInteger stack : stacks) {
+    		
+    		PlateInteger[] plates = stack.toArray();
+    		PlateInteger[] returned = this.copy(plates);
+    		
+    		StackInteger returnedStack = new StackInteger(stack.rows(), stack.columns());
+    		returnedStack.add(returned);
+    		
+    		increment.stacksInPlace(returnedStack);
+    		
+    		assertEquals(plates.length, returnedStack.size());
+    		
+    		for(int i = 0; i < plates.length; i++) {
+    			assertWells(increment.plates(plates[i]), returned[i]);
+    		}
+    	}
+    }
+    
+    /**
+     * Tests parallel increment against sequential increment.
+     */
+    @Test
+    public void testParallel() {
+    	
+    	IncrementInteger parallel = new IncrementInteger();
+    	parallel.setPool(new ForkJoinPool(4));
+    	
+    	assertTrue(parallel.isParallel());
+    	
+    	for(PlateInteger plate : arrays.get(0)) {
+    		assertWells(increment.plates(plate), parallel.plates(plate));
+    		assertWells(increment.sets(plate.dataSet()), parallel.sets(plate.dataSet()));
+    	}
+    	
+    	for(StackInteger stack : stacks) {
+    		assertStacks(increment.stacks(stack), parallel.stacks(stack));
+    	}
+    	
+    	parallel.setParallel(false);
+    	
+    	assertFalse(parallel.isParallel());
+    	assertNull(parallel.pool());
+    }
+    
+    /*---------------------------- Helper methods ----------------------------*/
+    
+    /**
+     * Asserts that the wells and well values are equal.
+     * @param    Iterable<WellInteger>    the expected wells
+     * @param    Iterable<WellInteger>    the returned wells
+     */
+    private void assertWells(Iterable<WellInteger> expected, Iterable<WellInteger> returned) {
+    	
+    	Iterator<WellInteger> iter1 = expected.iterator();
+    	Iterator<WellInteger> iter2 = returned.iterator();
+    	
+    	while(iter1.hasNext()) {
+    		
+    		WellInteger well1 = iter1.next();
+    		WellInteger well2 = iter2.next();
+    		
+    		assertEquals(well1, well2);
+    		assertEquals(well1.data(), well2.data());
+    	}
+    	
+    	assertFalse(iter2.hasNext());
+    }
+    
+    /**
+     * Asserts that the stacks hold the same plates and well values.
+     * @param    StackInteger    the expected stack
+     * @param    StackInteger    the returned stack
+     */
+    private void assertStacks(StackInteger expected, StackInteger returned) {
+    	
+    	assertEquals(expected.size(), returned.size());
+    	
+    	Iterator<PlateInteger> iter = returned.iterator();
+    	
+    	for(PlateInteger plate : expected) {
+    		assertWells(plate, iter.next());
+    	}
+    }
+    
+    /**
+     * Returns copies of the plates.
+     * @param    PlateInteger[]    the plates
+     * @return                     the copies
+     */
+    private PlateInteger[] copy(PlateInteger[] plates) {
+    	
+    	PlateInteger[] copies = new PlateInteger[plates.length];
+    	
+    	for(int i = 0; i < plates.length; i++) {
+    		copies[i] = new PlateInteger(plates[i]);
+    	}
+    	
+    	return copies;
+    }
 }
@@ -30,6 +30,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -540,4 +541,173 @@ public class LeftShiftIntegerTest {
 		    }
         }
     } 
+    
+    /* --------------------------- In Place Methods ------------------------- */
+    
+    /**
+     * Tests the in place left shift of a well.
+     */
+    @Test
+    public void testWellsInPlace() {
+    	
+    	int n = minShift + random.nextInt(maxShift - minShift);
+    	
+    	for(PlateInteger plate : arrays.get(0)) {
+    		for(WellInteger well : plate) {
+    			
+    			WellInteger returned = new WellInteger(well);
+    			
+    			shift.wellsInPlace(returned, n);
+    			
+    			assertEquals(shift.wells(well, n), returned.data());
+    		}
+    	}
+    }
+    
+    /**
+     * Tests the in place left shift of a plate.
+     */
+    @Test
+    public void testPlatesInPlace() {
+    	
+    	int n = minShift + random.nextInt(maxShift - minShift);
+    	
+    	for(PlateInteger plate : arrays.get(0)) {
+    		
+    		PlateInteger returned = new PlateInteger(plate);
+    		
+    		shift.platesInPlace(returned, n);
+    		
+    		assertWells(shift.plates(plate, n), returned);
+    		assertEquals(plate.label(), returned.label());
+    	}
+    }
+    
+    /**
+     * Tests the in place left shift of a well set.
+     */
+    @Test
+    public void testSetsInPlace() {
+    	
+    	int n = minShift + random.nextInt(maxShift - minShift);
+    	
+    	for(PlateInteger plate : arrays.get(0)) {
+    		
+    		WellSetInteger returned = new PlateInteger(plate).dataSet();
+    		
+    		shift.setsInPlace(returned, n);
+    		
+    		assertWells(shift.sets(plate.dataSet(), n), returned);
+    	}
+    }
+    
+    /**
+     * Tests the in place left shift of a stack.
+     */
+    @Test
+    public void testStacksInPlace() {
+    	
+    	int n = minShift + random.nextInt(maxShift - minShift);
+    	
+    	for(StackInteger stack : stacks) {
+    		
+    		PlateInteger[] plates = stack.toArray();
+    		PlateInteger[] returned = this.copy(plates);
+    		
+    		StackInteger returnedStack = new StackInteger(stack.rows(), stack.columns());
+    		returnedStack.add(returned);
+    		
+    		shift.stacksInPlace(returnedStack, n);
+    		
+    		assertEquals(plates.length, returnedStack.size());
+    		
+    		for(int i = 0; i < plates.length; i++) {
+    			assertWells(shift.plates(plates[i], n), returned[i]);
+    		}
+    	}
+    }
+    
+    /**
+     * Tests parallel left shift against sequential left shift.
+     */
+    @Test
+    public void testParallel() {
+    	
+    	int n = minShift + random.nextInt(maxShift - minShift);
+    	
+    	LeftShiftInteger parallel = new LeftShiftInteger();
+    	parallel.setPool(new ForkJoinPool(4));
+    	
+    	assertTrue(parallel.isParallel());
+    	
+    	for(PlateInteger plate : arrays.get(0)) {
+    		assertWells(shift.plates(plate, n), parallel.plates(plate, n));
+    		assertWells(shift.sets(plate.dataSet(), n), parallel.sets(plate.dataSet(), n));
+    	}
+    	
+    	for(StackInteger stack : stacks) {
+    		assertStacks(shift.stacks(stack, n), parallel.stacks(stack, n));
+    	}
+    	
+    	parallel.setParallel(false);
+    	
+    	assertFalse(parallel.isParallel());
+    	assertNull(parallel.pool());
+    }
+    
+    /*---------------------------- Helper methods ----------------------------*/
+    
+    /**
+     * Asserts that the wells and well values are equal.
+     * @param    Iterable<WellInteger>    the expected wells
+     * @param    Iterable<WellInteger>    the returned wells
+     */
+    private void assertWells(Iterable<WellInteger> expected, Iterable<WellInteger> returned) {
+    	
+    	Iterator<WellInteger> iter1 = expected.iterator();
+    	Iterator<WellInteger> iter2 = returned.iterator();
+    	
+    	while(iter1.hasNext()) {
+    		
+    		WellInteger well1 = iter1.next();
+    		WellInteger well2 = iter2.next();
+    		
+    		assertEquals(well1, well2);
+    		assertEquals(well1.data(), well2.data());
+    	}
+    	
+    	assertFalse(iter2.hasNext());
+    }
+    
+    /**
+     * Asserts that the stacks hold the same plates and well values.
+     * @param    StackInteger    the expected stack
+     * @param    StackInteger    the returned stack
+     */
+    private void assertStacks(StackInteger expected, StackInteger returned) {
+    	
+    	assertEquals(expected.size(), returned.size());
+    	
+    	Iterator<PlateInteger> iter = returned.iterator();
+    	
+    	for(PlateInteger plate : expected) {
+    		assertWells(plate, iter.next());
+    	}
+    }
+    
+    /**
+     * Returns copies of the plates.
+     * @param    PlateInteger[]    the plates
+     * @return                     the copies
+     */
+    private PlateInteger[] copy(PlateInteger[] plates) {
+    	
+    	PlateInteger[] copies = new PlateInteger[plates.length];
+    	
+    	for(int i = 0; i < plates.length; i++) {
+    		copies[i] = new PlateInteger(plates[i]);
+    	}
+    	
+    	return copies;
+    }
 }
@@ -3990,6 +3990,95 @@ public class SubtractionIntegerTest {
     	}
     }
 
+    /* --------------------------- In Place Methods ------------------------- */
+    
+    /**
+     * Tests the in place subtraction of two wells.
+     */
+    @Test
+    public void testWellsInPlace() {
+    	
+    	PlateInteger[] plates1 = arrays1.get(0);
+    	PlateInteger[] unevenPlates = uneven.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		Iterator<WellInteger> iter1 = plates1[i].iterator();
+    		Iterator<WellInteger> iter2 = unevenPlates[i].iterator();
+    		
+    		while(iter1.hasNext() && iter2.hasNext()) {
+    			
+    			WellInteger well1 = iter1.next();
+    			WellInteger well2 = iter2.next();
+    			
+    			WellInteger returned = new WellInteger(well1);
+    			WellInteger returnedUneven = new WellInteger(well2);
+    			
+    			subtraction.wellsInPlace(returned, well2);
+    			subtraction.wellsInPlace(returnedUneven, well1);
+    			
+    			assertEquals(subtraction.wells(well1, well2), returned.data());
+    			assertEquals(subtraction.wells(well2, well1), returnedUneven.data());
+    		}
+    	}
+    }
+    
+    /**
+     * Tests the strict in place subtraction of two wells.
+     */
+    @Test
+    public void testWellsStrictInPlace() {
+    	
+    	PlateInteger[] plates1 = arrays1.get(0);
+    	PlateInteger[] unevenPlates = uneven.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		Iterator<WellInteger> iter1 = plates1[i].iterator();
+    		Iterator<WellInteger> iter2 = unevenPlates[i].iterator();
+    		
+    		while(iter1.hasNext() && iter2.hasNext()) {
+    			
+    			WellInteger well1 = iter1.next();
+    			WellInteger well2 = iter2.next();
+    			
+    			WellInteger returned = new WellInteger(well1);
+    			WellInteger returnedUneven = new WellInteger(well2);
+    			
+    			subtraction.wellsStrictInPlace(returned, well2);
+    			subtraction.wellsStrictInPlace(returnedUneven, well1);
+    			
+    			assertEquals(subtraction.wellsStrict(well1, well2), returned.data());
+    			assertEquals(subtraction.wellsStrict(well2, well1), returnedUneven.data());
+    		}
+    	}
+    }
+    
+    /**
+     * Tests the in place subtraction of a constant from a plate.
+     */
+    @Test
+    public void testPlateConstantInPlace() {
+    	
+    	PlateInteger[] plates1 = arrays1.get(0);
+    	
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		PlateInteger returned = new PlateInteger(plates1[i]);
+    		
+    		subtraction.platesInPlace(returned, 5);
+    		
+    		Iterator<WellInteger> iter1 = plates1[i].iterator();
+    		Iterator<WellInteger> iter2 = returned.iterator();
+    		
+    		while(iter1.hasNext()) {
+    			assertEquals(subtraction.wells(iter1.next(), 5), iter2.next().data());
+    		}
+    		
+    		assertFalse(iter2.hasNext());
+    	}
+    }
+    
     /*---------------------------- Helper methods ----------------------------*/
     
     /**
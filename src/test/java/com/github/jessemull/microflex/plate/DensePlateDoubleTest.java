@@ -0,0 +1,272 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* --------------------------- Package declaration -------------------------- */
+
+package com.github.jessemull.microflex.plate;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Iterator;
+import java.util.Random;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.doubleflex.plate.DensePlateDouble;
+import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * This class tests the methods and constructors in the dense double plate class.
+ * 
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class DensePlateDoubleTest {
+	
+	/* ---------------------------- Local fields ---------------------------- */
+	
+	/* Minimum and maximum values for random wells and lists */
+	
+	private static double minValue = -1000000000;    // Minimum double value for wells
+	private static double maxValue = 1000000000;     // Maximum double value for wells
+	private static int minLength = 100;              // Minimum well set length
+	private static int maxLength = 1000;             // Maximum well set length
+	private static Random random = new Random();     // Generates random integers
+	
+	/* Random plates for testing */
+	
+	private static PlateDouble[] plates = new PlateDouble[10];
+	
+	/* Value of false redirects System.err */
+	
+	private static boolean error = false;
+	private static PrintStream originalOut = System.out;
+	
+	/**
+	 * Generates random objects and numbers for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+		
+		if(error == false) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+
+		for(int i = 0; i < plates.length; i++) {
+			
+			int rows = PlateDouble.ROWS_48WELL + 
+	                random.nextInt(PlateDouble.ROWS_1536WELL - 
+	                PlateDouble.ROWS_48WELL + 1);
+
+			int columns =  PlateDouble.COLUMNS_48WELL + 
+	                random.nextInt(PlateDouble.COLUMNS_1536WELL - 
+			        PlateDouble.COLUMNS_48WELL + 1);
+			
+			plates[i] = RandomUtil.randomPlateDouble(rows, columns, minValue, 
+					maxValue, minLength, maxLength, 0, rows * columns / 5, "Plate" + i);
+		}
+	}
+	
+	/**
+	 * Toggles system error.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+	}
+	
+	/* --------------------------- Constructors -----------------------------*/
+	
+	/**
+	 * Tests the constructor.
+	 */
+	@Test
+	public void testConstructor() {
+		
+		for(PlateDouble plate : plates) {
+			
+			DensePlateDouble dense = new DensePlateDouble(plate);
+			
+			assertEquals(plate.rows(), dense.rows());
+			assertEquals(plate.columns(), dense.columns());
+			assertEquals(plate.label(), dense.label());
+			assertEquals(plate.size(), dense.size());
+			
+			int count = 0;
+			
+			for(WellDouble well : plate) {
+				count += well.size();
+			}
+			
+			assertEquals(count, dense.valueCount());
+		}
+	}
+	
+	/* --------------------------- Well Lookup ------------------------------*/
+	
+	/**
+	 * Tests well lookup.
+	 */
+	@Test
+	public void testGetWells() {
+		
+		for(PlateDouble plate : plates) {
+			
+			DensePlateDouble dense = new DensePlateDouble(plate);
+			
+			for(WellDouble well : plate) {
+				assertTrue(dense.contains(well));
+				assertEquals(well.data(), dense.getWells(well).data());
+				assertEquals(well.data(), dense.getWells(well.row(), well.column()).data());
+			}
+			
+			for(int row = 0; row <= plate.rows(); row++) {
+				for(int column = 1; column <= plate.columns(); column++) {
+					WellDouble well = new WellDouble(row, column);
+					assertEquals(plate.contains(well), dense.contains(row, column));
+				}
+			}
+			
+			assertNull(dense.getWells(plate.rows() + 1, 1));
+			assertFalse(dense.contains(0, plate.columns() + 1));
+		}
+	}
+	
+	/**
+	 * Tests row and column lookup.
+	 */
+	@Test
+	public void testGetRowColumn() {
+		
+		for(PlateDouble plate : plates) {
+			
+			DensePlateDouble dense = new DensePlateDouble(plate);
+			
+			for(int row = 0; row <= plate.rows(); row++) {
+				
+				WellSetDouble expected = plate.getRow(row);
+				WellSetDouble returned = dense.getRow(row);
+				
+				if(expected == null) {
+					assertNull(returned);
+				} else {
+					assertEquals(expected.size(), returned.size());
+					assertTrue(expected.allWells().containsAll(returned.allWells()));
+				}
+			}
+			
+			for(int column = 1; column <= plate.columns(); column++) {
+				
+				WellSetDouble expected = plate.getColumn(column);
+				WellSetDouble returned = dense.getColumn(column);
+				
+				if(expected == null) {
+					assertNull(returned);
+				} else {
+					assertEquals(expected.size(), returned.size());
+					assertTrue(expected.allWells().containsAll(returned.allWells()));
+				}
+			}
+		}
+	}
+	
+	/* ------------------------ Primitive Data Access -----------------------*/
+	
+	/**
+	 * Tests the primitive data accessors.
+	 */
+	@Test
+	public void testDataArray() {
+		
+		for(PlateDouble plate : plates) {
+			
+			DensePlateDouble dense = new DensePlateDouble(plate);
+			double[] values = dense.dataArray();
+			int previous = 0;
+			
+			for(WellDouble well : plate) {
+				
+				int offset = dense.dataOffset(well.row(), well.column());
+				int length = dense.dataLength(well.row(), well.column());
+				
+				assertEquals(previous, offset);
+				assertEquals(well.size(), length);
+				
+				for(int i = 0; i < length; i++) {
+					assertEquals(well.get(i), values[offset + i], 0.0);
+					assertEquals(well.get(i), dense.get(well.row(), well.column(), i), 0.0);
+				}
+				
+				previous = offset + length;
+			}
+		}
+	}
+	
+	/* ------------------------ Conversion Methods --------------------------*/
+	
+	/**
+	 * Tests conversion to a standard plate and the iterator.
+	 */
+	@Test
+	public void testToPlate() {
+		
+		for(PlateDouble plate : plates) {
+			
+			PlateDouble converted = new DensePlateDouble(plate).toPlate();
+			
+			assertEquals(plate.rows(), converted.rows());
+			assertEquals(plate.columns(), converted.columns());
+			assertEquals(plate.label(), converted.label());
+			assertEquals(plate.size(), converted.size());
+			
+			Iterator<WellDouble> iter1 = plate.iterator();
+			Iterator<WellDouble> iter2 = converted.iterator();
+			
+			while(iter1.hasNext()) {
+				
+				WellDouble well1 = iter1.next();
+				WellDouble well2 = iter2.next();
+				
+				assertEquals(well1, well2);
+				assertEquals(well1.data(), well2.data());
+			}
+			
+			assertFalse(iter2.hasNext());
+		}
+	}
+	
+}
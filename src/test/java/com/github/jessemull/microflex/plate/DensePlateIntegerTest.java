@@ -0,0 +1,272 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* --------------------------- Package declaration -------------------------- */
+
+package com.github.jessemull.microflex.plate;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Iterator;
+import java.util.Random;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.integerflex.plate.DensePlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * This class tests the methods and constructors in the dense integer plate class.
+ * 
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class DensePlateIntegerTest {
+	
+	/* ---------------------------- Local fields ---------------------------- */
+	
+	/* Minimum and maximum values for random wells and lists */
+	
+	private static int minValue = -1000000000;       // Minimum integer value for wells
+	private static int maxValue = 1000000000;        // Maximum integer value for wells
+	private static int minLength = 100;              // Minimum well set length
+	private static int maxLength = 1000;             // Maximum well set length
+	private static Random random = new Random();     // Generates random integers
+	
+	/* Random plates for testing */
+	
+	private static PlateInteger[] plates = new PlateInteger[10];
+	
+	/* Value of false redirects System.err */
+	
+	private static boolean error = false;
+	private static PrintStream originalOut = System.out;
+	
+	/**
+	 * Generates random objects and numbers for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+		
+		if(error == false) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+
+		for(int i = 0; i < plates.length; i++) {
+			
+			int rows = PlateInteger.ROWS_48WELL + 
+	                random.nextInt(PlateInteger.ROWS_1536WELL - 
+	                PlateInteger.ROWS_48WELL + 1);
+
+			int columns =  PlateInteger.COLUMNS_48WELL + 
+	                random.nextInt(PlateInteger.COLUMNS_1536WELL - 
+			        PlateInteger.COLUMNS_48WELL + 1);
+			
+			plates[i] = RandomUtil.randomPlateInteger(rows, columns, minValue, 
+					maxValue, minLength, maxLength, 0, rows * columns / 5, "Plate" + i);
+		}
+	}
+	
+	/**
+	 * Toggles system error.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+	}
+	
+	/* --------------------------- Constructors -----------------------------*/
+	
+	/**
+	 * Tests the constructor.
+	 */
+	@Test
+	public void testConstructor() {
+		
+		for(PlateInteger plate : plates) {
+			
+			DensePlateInteger dense = new DensePlateInteger(plate);
+			
+			assertEquals(plate.rows(), dense.rows());
+			assertEquals(plate.columns(), dense.columns());
+			assertEquals(plate.label(), dense.label());
+			assertEquals(plate.size(), dense.size());
+			
+			int count = 0;
+			
+			for(WellInteger well : plate) {
+				count += well.size();
+			}
+			
+			assertEquals(count, dense.valueCount());
+		}
+	}
+	
+	/* --------------------------- Well Lookup ------------------------------*/
+	
+	/**
+	 * Tests well lookup.
+	 */
+	@Test
+	public void testGetWells() {
+		
+		for(PlateInteger plate : plates) {
+			
+			DensePlateInteger dense = new DensePlateInteger(plate);
+			
+			for(WellInteger well : plate) {
+				assertTrue(dense.contains(well));
+				assertEquals(well.data(), dense.getWells(well).data());
+				assertEquals(well.data(), dense.getWells(well.row(), well.column()).data());
+			}
+			
+			for(int row = 0; row <= plate.rows(); row++) {
+				for(int column = 1; column <= plate.columns(); column++) {
+					WellInteger well = new WellInteger(row, column);
+					assertEquals(plate.contains(well), dense.contains(row, column));
+				}
+			}
+			
+			assertNull(dense.getWells(plate.rows() + 1, 1));
+			assertFalse(dense.contains(0, plate.columns() + 1));
+		}
+	}
+	
+	/**
+	 * Tests row and column lookup.
+	 */
+	@Test
+	public void testGetRowColumn() {
+		
+		for(PlateInteger plate : plates) {
+			
+			DensePlateInteger dense = new DensePlateInteger(plate);
+			
+			for(int row = 0; row <= plate.rows(); row++) {
+				
+				WellSetInteger expected = plate.getRow(row);
+				WellSetInteger returned = dense.getRow(row);
+				
+				if(expected == null) {
+					assertNull(returned);
+				} else {
+					assertEquals(expected.size(), returned.size());
+					assertTrue(expected.allWells().containsAll(returned.allWells()));
+				}
+			}
+			
+			for(int column = 1; column <= plate.columns(); column++) {
+				
+				WellSetInteger expected = plate.getColumn(column);
+				WellSetInteger returned = dense.getColumn(column);
+				
+				if(expected == null) {
+					assertNull(returned);
+				} else {
+					assertEquals(expected.size(), returned.size());
+					assertTrue(expected.allWells().containsAll(returned.allWells()));
+				}
+			}
+		}
+	}
+	
+	/* ------------------------ Primitive Data Access -----------------------*/
+	
+	/**
+	 * Tests the primitive data accessors.
+	 */
+	@Test
+	public void testDataArray() {
+		
+		for(PlateInteger plate : plates) {
+			
+			DensePlateInteger dense = new DensePlateInteger(plate);
+			int[] values = dense.dataArray();
+			int previous = 0;
+			
+			for(WellInteger well : plate) {
+				
+				int offset = dense.dataOffset(well.row(), well.column());
+				int length = dense.dataLength(well.row(), well.column());
+				
+				assertEquals(previous, offset);
+				assertEquals(well.size(), length);
+				
+				for(int i = 0; i < length; i++) {
+					assertEquals((int) well.get(i), values[offset + i]);
+					assertEquals((int) well.get(i), dense.get(well.row(), well.column(), i));
+				}
+				
+				previous = offset + length;
+			}
+		}
+	}
+	
+	/* ------------------------ Conversion Methods --------------------------*/
+	
+	/**
+	 * Tests conversion to a standard plate and the iterator.
+	 */
+	@Test
+	public void testToPlate() {
+		
+		for(PlateInteger plate : plates) {
+			
+			PlateInteger converted = new DensePlateInteger(plate).toPlate();
+			
+			assertEquals(plate.rows(), converted.rows());
+			assertEquals(plate.columns(), converted.columns());
+			assertEquals(plate.label(), converted.label());
+			assertEquals(plate.size(), converted.size());
+			
+			Iterator<WellInteger> iter1 = plate.iterator();
+			Iterator<WellInteger> iter2 = converted.iterator();
+			
+			while(iter1.hasNext()) {
+				
+				WellInteger well1 = iter1.next();
+				WellInteger well2 = iter2.next();
+				
+				assertEquals(well1, well2);
+				assertEquals(well1.data(), well2.data());
+			}
+			
+			assertFalse(iter2.hasNext());
+		}
+	}
+	
+}
@@ -734,6 +734,115 @@ public class PlateIntegerTest {
     	}
     }      
     
+    /**
+     * Tests the get groups method using a label after a group is relabeled.
+     */
+    @Test
+    public void testGetGroupsRelabeled() {
+    	
+    	PlateInteger plate = new PlateInteger(PlateInteger.ROWS_96WELL, PlateInteger.COLUMNS_96WELL, "Relabeled");
+    	plate.addWells(new WellInteger(0, 1));
+    	
+    	WellList list = new WellList("A");
+    	list.add(0, 1);
+    	list.add(1, 2);
+    	plate.addGroups(list);
+    	
+    	assertNotNull(plate.getGroups("A"));
+    	
+    	list.setLabel("B");
+    	
+    	assertNull(plate.getGroups("A"));
+    	
+    	WellSetInteger set = plate.getGroups("B");
+    	
+    	assertNotNull(set);
+    	assertEquals("B", set.label());
+    	assertEquals(2, set.size());
+    	assertSame(plate.first(), set.first());
+    }
+    
+    /**
+     * Tests a missing label is found after a group is added or relabeled.
+     */
+    @Test
+    public void testContainsGroupAfterMiss() {
+    	
+    	PlateInteger plate = new PlateInteger(PlateInteger.ROWS_96WELL, PlateInteger.COLUMNS_96WELL, "Miss");
+    	
+    	WellList list = new WellList("A");
+    	list.add(0, 1);
+    	plate.addGroups(list);
+    	
+    	assertFalse(plate.containsGroup("B"));
+    	assertFalse(plate.containsGroup("B"));
+    	
+    	list.setLabel("B");
+    	
+    	assertTrue(plate.containsGroup("B"));
+    	assertFalse(plate.containsGroup("A"));
+    	
+    	WellList second = new WellList("C");
+    	second.add(1, 1);
+    	
+    	assertNull(plate.getGroups("C"));
+    	
+    	plate.addGroups(second);
+    	
+    	assertEquals("C", plate.getGroups("C").label());
+    	
+    	plate.removeGroups(second);
+    	
+    	assertNull(plate.getGroups("C"));
+    }
+    
+    /**
+     * Tests the group wells hold the plate wells and empty wells for indices
+     * before, between and after the plate wells.
+     */
+    @Test
+    public void testGetGroupsMerged() {
+    	
+    	PlateInteger plate = new PlateInteger(PlateInteger.ROWS_96WELL, PlateInteger.COLUMNS_96WELL, "Merged");
+    	
+    	plate.addWells(new WellInteger(1, 3));
+    	plate.addWells(new WellInteger(2, 5));
+    	plate.addWells(new WellInteger(4, 1));
+    	plate.addWells(new WellInteger(7, 12));
+    	
+    	WellList list = new WellList("Merged");
+    	list.add(0, 1);
+    	list.add(1, 3);
+    	list.add(2, 4);
+    	list.add(4, 1);
+    	list.add(7, 11);
+    	list.add(7, 12);
+    	
+    	plate.addGroups(list);
+    	
+    	WellSetInteger set = plate.getGroups("Merged");
+    	
+    	assertEquals(list.size(), set.size());
+    	assertTrue(list.equalsSet(set));
+    	
+    	for(WellInteger well : set) {
+    		if(plate.contains(well)) {
+    			assertSame(plate.getWells(well), well);
+    		} else {
+    			assertEquals(0, well.size());
+    		}
+    	}
+    	
+    	WellList empty = new WellList("Empty");
+    	empty.add(3, 3);
+    	empty.add(7, 12);
+    	
+    	plate.addGroups(empty);
+    	
+    	assertEquals(2, plate.getGroups("Empty").size());
+    	assertEquals(0, plate.getGroups("Empty").first().size());
+    }
+    
     /**
      * Tests the get groups method using a well list.
      */
@@ -0,0 +1,202 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* --------------------------- Package declaration -------------------------- */
+
+package com.github.jessemull.microflex.plate;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
+import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
+import com.github.jessemull.microflex.integerflex.plate.WellInteger;
+
+/**
+ * This class tests the methods in the well coordinate class. Parsed and
+ * formatted well IDs are compared to the base 26 row conversion.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class WellCoordinateTest {
+
+	/* ---------------------------- Local fields ---------------------------- */
+
+	private Random random = new Random();    // Generates random integers
+	private int maxRow = 20000;              // Maximum row for random coordinates
+	private int maxColumn = 5000;            // Maximum column for random coordinates
+	private int coordinates = 10000;         // Number of random coordinates
+
+    /* ------------------------------ Methods ------------------------------- */
+
+	/**
+	 * Tests the shared coordinates of the standard plate formats.
+	 */
+	@Test
+	public void testCached() {
+
+		for(int row = 0; row < WellCoordinate.CACHED_ROWS; row++) {
+			for(int column = 1; column <= WellCoordinate.CACHED_COLUMNS; column++) {
+
+				WellCoordinate coordinate = WellCoordinate.of(row, column);
+
+				assertTrue(coordinate.isCached());
+				assertSame(coordinate, WellCoordinate.of(row, column));
+				assertSame(coordinate, WellCoordinate.parse(coordinate.id()));
+				assertSame(coordinate, new WellDouble(row, column).coordinate());
+				assertSame(coordinate, new WellIndex(row, column).coordinate());
+				assertEquals(row * WellCoordinate.CACHED_COLUMNS + column - 1, coordinate.ordinal());
+			}
+		}
+
+		assertFalse(WellCoordinate.of(WellCoordinate.CACHED_ROWS, 1).isCached());
+		assertFalse(WellCoordinate.of(0, WellCoordinate.CACHED_COLUMNS + 1).isCached());
+	}
+
+	/**
+	 * Tests parsing and formatting well IDs.
+	 */
+	@Test
+	public void testParseFormat() {
+
+		for(int i = 0; i < coordinates; i++) {
+
+			int row = random.nextInt(maxRow);
+			int column = random.nextInt(maxColumn) + 1;
+			String id = rowString(row) + column;
+
+			WellCoordinate coordinate = WellCoordinate.of(row, column);
+
+			assertEquals(id, coordinate.id());
+			assertEquals(id, coordinate.toString());
+			assertEquals(id, coordinate.appendTo(new StringBuilder()).toString());
+			assertEquals(rowString(row), coordinate.rowString());
+			assertEquals(row, WellCoordinate.parseRow(rowString(row)));
+			assertEquals(row, WellCoordinate.parseRow(rowString(row).toLowerCase()));
+			assertEquals(row, WellCoordinate.parseRow("" + row));
+
+			assertEquals(coordinate, WellCoordinate.parse(id));
+			assertEquals(coordinate, WellCoordinate.parse(" " + id.toLowerCase() + " "));
+			assertEquals(coordinate, new WellInteger(id).coordinate());
+			assertEquals(id, new WellBigDecimal(rowString(row), column).index());
+		}
+	}
+
+	/**
+	 * Tests equality, hash codes and ordering.
+	 */
+	@Test
+	public void testEqualsCompareTo() {
+
+		for(int i = 0; i < coordinates; i++) {
+
+			WellCoordinate first = WellCoordinate.of(random.nextInt(40), random.nextInt(60) + 1);
+			WellCoordinate second = WellCoordinate.of(random.nextInt(40), random.nextInt(60) + 1);
+
+			WellCoordinate copy = WellCoordinate.of(first.row(), first.column());
+
+			assertEquals(first, copy);
+			assertEquals(first.hashCode(), copy.hashCode());
+			assertEquals(0, first.compareTo(copy));
+
+			int expected = first.row() != second.row() ?
+					Integer.signum(first.row() - second.row()) :
+					Integer.signum(first.column() - second.column());
+
+			assertEquals(expected, first.compareTo(second));
+			assertEquals(expected, new WellDouble(first.row(), first.column()).compareTo(
+					new WellDouble(second.row(), second.column())));
+			assertEquals(expected, new WellIndex(first.row(), first.column()).compareTo(
+					new WellIndex(second.row(), second.column())));
+
+			int hash = new HashCodeBuilder(17, 37).
+					append(first.row()).
+					append(first.column()).
+					append(26).
+					toHashCode();
+
+			assertEquals(hash, first.hashCode());
+			assertEquals(hash, new WellDouble(first.row(), first.column()).hashCode());
+		}
+	}
+
+	/**
+	 * Tests well IDs without a row.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseNoRow() {
+		WellCoordinate.parse("12");
+	}
+
+	/**
+	 * Tests well IDs without a column.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseNoColumn() {
+		WellCoordinate.parse("AB");
+	}
+
+	/**
+	 * Tests well IDs holding invalid characters.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseInvalid() {
+		WellCoordinate.parse("A1-2");
+	}
+
+	/**
+	 * Tests invalid row IDs.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseRowInvalid() {
+		WellCoordinate.parseRow("1A");
+	}
+
+    /* --------------------------- Helper Methods --------------------------- */
+
+	/**
+	 * Converts the row number to a row ID.
+	 * @param    int    the row number
+	 * @return          the row ID
+	 */
+	private static String rowString(int row) {
+
+		String result = "";
+
+		while(row >= 0) {
+			result = (char) (row % 26 + 65) + result;
+			row = row / 26 - 1;
+		}
+
+		return result;
+	}
+
+}
@@ -989,6 +989,90 @@ public class WellDoubleTest {
     	}
     }
     
+    /**
+     * Tests the primitive data array accessors.
+     */
+    @Test
+    public void testDataArray() {
+    	
+    	for(int i = 0; i < 100; i++) {
+    		
+	    	List<Double> doubleList = RandomUtil.
+	    			randomDoubleList(minValue, maxValue, minLength, maxLength);
+	        WellDouble doubleWell = this.randomWell(doubleList);
+	        
+	        double[] array = doubleWell.dataArray();
+	        int offset = doubleWell.dataOffset();
+	        
+	        assertEquals(doubleList.size(), doubleWell.dataLength());
+	        
+	        for(int j = 0; j < doubleWell.dataLength(); j++) {
+	        	assertEquals(doubleList.get(j), array[offset + j], 0.0);
+	        }
+	        
+	        WellDouble primitive = new WellDouble(doubleWell.row(), 
+	        		doubleWell.column(), doubleWell.toDoubleArray());
+	        assertEquals(doubleList, primitive.data());
+    	}
+    }
+    
+    /**
+     * Tests changes to the data set view are written through to the well.
+     */
+    @Test
+    public void testDataView() {
+    	
+    	for(int i = 0; i < 100; i++) {
+    		
+	    	List<Double> doubleList = RandomUtil.
+	    			randomDoubleList(minValue, maxValue, minLength, maxLength);
+	        WellDouble doubleWell = this.randomWell(doubleList);
+	        List<Double> view = doubleWell.data();
+	        
+	        view.set(0, 1.0);
+	        assertEquals(1.0, doubleWell.get(0), 0.0);
+	        
+	        view.add(2.0);
+	        assertEquals(doubleList.size() + 1, doubleWell.size());
+	        assertEquals(2.0, doubleWell.get(doubleWell.size() - 1), 0.0);
+	        
+	        view.remove(0);
+	        assertEquals(doubleList.size(), doubleWell.size());
+	        assertEquals(view, doubleWell.data());
+	        
+	        doubleWell.clear();
+	        assertTrue(view.isEmpty());
+    	}
+    }
+    
+    /**
+     * Tests setting a null value through the data set view.
+     */
+    @Test
+    public void testDataViewSetNull() {
+    	
+    	WellDouble doubleWell = new WellDouble(0, 1, new Double[]{ 1.0, 2.0 });
+    	
+    	thrown.expect(NullPointerException.class);
+    	thrown.expectMessage("The data set cannot contain null values.");
+    	
+    	doubleWell.data().set(0, null);
+    }
+    
+    /**
+     * Tests inserting a null value through the data set view.
+     */
+    @Test
+    public void testDataViewAddNull() {
+    	
+    	WellDouble doubleWell = new WellDouble(0, 1, new Double[]{ 1.0, 2.0 });
+    	
+    	thrown.expect(NullPointerException.class);
+    	thrown.expectMessage("The data set cannot contain null values.");
+    	
+    	doubleWell.data().add(1, null);
+    }
+    
     /**
      * Returns a random big integer well.
      */
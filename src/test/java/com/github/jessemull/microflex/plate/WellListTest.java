@@ -0,0 +1,302 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* --------------------------- Package declaration -------------------------- */
+
+package com.github.jessemull.microflex.plate;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * This class tests the methods in the well list class. The bit set backed list
+ * is compared to a sorted set of well indices.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class WellListTest {
+
+	/* ---------------------------- Local fields ---------------------------- */
+
+	private Random random = new Random();    // Generates random integers
+	private int rows = 16;                   // Number of plate rows
+	private int columns = 24;                // Number of plate columns
+	private int lists = 100;                 // Number of random lists
+
+    /* ------------------------------ Methods ------------------------------- */
+
+	/**
+	 * Tests adding, removing and iterating over the indices.
+	 */
+	@Test
+	public void testIndices() {
+
+		for(int i = 0; i < lists; i++) {
+
+			TreeSet<WellIndex> expected = this.randomIndices();
+			WellList list = new WellList(expected, "List" + i);
+
+			assertEquals(expected.size(), list.size());
+			assertEquals(new ArrayList<WellIndex>(expected), this.toList(list));
+			assertEquals(expected, list.indices());
+
+			for(int row = 0; row < rows; row++) {
+				for(int column = 0; column <= columns; column++) {
+					assertEquals(expected.contains(new WellIndex(row, column)), list.contains(row, column));
+				}
+			}
+
+			WellIndex removed = expected.pollFirst();
+
+			if(removed != null) {
+				list.remove(removed);
+				list.remove(removed);
+				assertEquals(expected.size(), list.size());
+				assertFalse(list.contains(removed));
+			}
+		}
+	}
+
+	/**
+	 * Tests removing indices using the iterator.
+	 */
+	@Test
+	public void testIteratorRemove() {
+
+		TreeSet<WellIndex> expected = this.randomIndices();
+		WellList list = new WellList(expected);
+
+		Iterator<WellIndex> iter = list.iterator();
+
+		while(iter.hasNext()) {
+
+			WellIndex index = iter.next();
+
+			if(index.column() % 2 == 0) {
+				iter.remove();
+				expected.remove(index);
+			}
+		}
+
+		assertEquals(expected.size(), list.size());
+		assertEquals(new ArrayList<WellIndex>(expected), this.toList(list));
+	}
+
+	/**
+	 * Tests the union, intersection and difference of two lists.
+	 */
+	@Test
+	public void testSetOperations() {
+
+		for(int i = 0; i < lists; i++) {
+
+			TreeSet<WellIndex> first = this.randomIndices();
+			TreeSet<WellIndex> second = this.randomIndices();
+
+			WellList list1 = new WellList(first);
+			WellList list2 = new WellList(second);
+
+			TreeSet<WellIndex> union = new TreeSet<WellIndex>(first);
+			union.addAll(second);
+
+			TreeSet<WellIndex> intersection = new TreeSet<WellIndex>(first);
+			intersection.retainAll(second);
+
+			TreeSet<WellIndex> difference = new TreeSet<WellIndex>(first);
+			difference.removeAll(second);
+
+			assertEquals(new WellList(union), list1.union(list2));
+			assertEquals(new WellList(intersection), list1.intersection(list2));
+			assertEquals(new WellList(difference), list1.difference(list2));
+
+			assertEquals(union.size(), list1.union(list2).size());
+			assertEquals(intersection.size(), list1.intersection(list2).size());
+			assertEquals(difference.size(), list1.difference(list2).size());
+
+			assertEquals(first, list1.indices());
+			assertEquals(second, list2.indices());
+		}
+	}
+
+	/**
+	 * Tests equality, hash codes and ordering.
+	 */
+	@Test
+	public void testEqualsCompareTo() {
+
+		for(int i = 0; i < lists; i++) {
+
+			TreeSet<WellIndex> first = this.randomIndices();
+			TreeSet<WellIndex> second = this.randomIndices();
+
+			WellList list1 = new WellList(first);
+			WellList list2 = new WellList(second);
+			WellList copy = new WellList(list1);
+
+			assertEquals(list1, copy);
+			assertEquals(list1.hashCode(), copy.hashCode());
+			assertEquals(0, list1.compareTo(copy));
+
+			copy.add(new WellIndex(rows + 5, 1));
+			copy.remove(new WellIndex(rows + 5, 1));
+
+			assertEquals(list1, copy);
+			assertEquals(list1.hashCode(), copy.hashCode());
+
+			assertEquals(expectedCompare(first, second), list1.compareTo(list2));
+			assertEquals(-expectedCompare(first, second), list2.compareTo(list1));
+		}
+	}
+
+	/**
+	 * Tests group retrieval from the plate using the label index.
+	 */
+	@Test
+	public void testPlateGroups() {
+
+		PlateDouble plate = RandomUtil.randomPlateDouble(rows, columns, 0, 100, 5, "Plate");
+
+		WellList controls = new WellList(this.randomIndices(), "Controls");
+		WellList samples = new WellList(this.randomIndices(), "Samples");
+		samples.add(new WellIndex(0, 1));
+
+		plate.addGroups(controls);
+
+		assertTrue(plate.containsGroup("Controls"));
+		assertFalse(plate.containsGroup("Samples"));
+
+		plate.addGroups(samples);
+
+		WellSetDouble set = plate.getGroups("Samples");
+
+		assertEquals("Samples", set.label());
+		assertEquals(samples.size(), set.size());
+
+		for(WellDouble well : set) {
+			WellDouble stored = plate.getWells(well);
+
+			assertTrue(samples.contains(well.row(), well.column()));
+			assertTrue(stored == null ? well.size() == 0 : stored == well);
+		}
+
+		samples.setLabel("Renamed");
+
+		assertNull(plate.getGroups("Samples"));
+		assertEquals(samples.size(), plate.getGroups("Renamed").size());
+
+		plate.removeGroups("Controls");
+
+		assertFalse(plate.containsGroup("Controls"));
+		assertNull(plate.getGroups(controls));
+	}
+
+	/**
+	 * Tests adding a negative index.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeIndex() {
+		new WellList().add(new WellIndex(-1, 0));
+	}
+
+    /* --------------------------- Helper Methods --------------------------- */
+
+	/**
+	 * Returns a random set of indices.
+	 * @return    the indices
+	 */
+	private TreeSet<WellIndex> randomIndices() {
+
+		TreeSet<WellIndex> indices = new TreeSet<WellIndex>();
+		int size = random.nextInt(rows * columns / 2);
+
+		for(int i = 0; i < size; i++) {
+			indices.add(new WellIndex(random.nextInt(rows), random.nextInt(columns) + 1));
+		}
+
+		return indices;
+	}
+
+	/**
+	 * Returns the indices of the list in iteration order.
+	 * @param    WellList    the list
+	 * @return               the indices
+	 */
+	private List<WellIndex> toList(WellList list) {
+
+		List<WellIndex> result = new ArrayList<WellIndex>();
+
+		for(WellIndex index : list) {
+			result.add(index);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Compares the sets using the pairwise descending order of the well list.
+	 * @param    TreeSet<WellIndex>    the first set
+	 * @param    TreeSet<WellIndex>    the second set
+	 * @return                         the expected comparison
+	 */
+	private static int expectedCompare(TreeSet<WellIndex> first, TreeSet<WellIndex> second) {
+
+		if(first.equals(second)) {
+			return 0;
+		}
+
+		if(first.size() != second.size()) {
+			return first.size() > second.size() ? 1 : -1;
+		}
+
+		Iterator<WellIndex> iter1 = first.descendingIterator();
+		Iterator<WellIndex> iter2 = second.descendingIterator();
+
+		while(iter1.hasNext()) {
+
+			int compare = iter1.next().compareTo(iter2.next());
+
+			if(compare != 0) {
+				return compare;
+			}
+		}
+
+		return 0;
+	}
+
+}
@@ -36,6 +36,7 @@ import java.util.List;
 import java.util.TreeMap;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.junit.AfterClass;
@@ -45,6 +46,7 @@ import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
 import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.StackBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
 import com.github.jessemull.microflex.bigdecimalflex.stat.MeanBigDecimal;
@@ -924,4 +926,121 @@ public class MeanBigDecimalTest {
 		
 		return array;
     }
+    
+    /* -------------------------- Parallel Execution -------------------------- */
+    
+    /**
+     * Tests parallel execution against sequential execution.
+     */
+    @Test
+    public void testParallel() {
+    	
+    	MeanBigDecimal parallel = new MeanBigDecimal();
+    	parallel.setParallel(true);
+    	
+    	for(PlateBigDecimal plate : array) {
+    		assertEquals(mean.plate(plate, mc), parallel.plate(plate, mc));
+    		assertEquals(mean.set(plate.dataSet(), mc), parallel.set(plate.dataSet(), mc));
+    	}
+    	
+    	assertEquals(mean.platesAggregated(array, mc), parallel.platesAggregated(array, mc));
+    }
+    
+    /**
+     * Tests the stack statistics.
+     */
+    @Test
+    public void testStack() {
+    	
+    	StackBigDecimal stack = new StackBigDecimal(array, "Stack");
+    	
+    	MeanBigDecimal parallel = new MeanBigDecimal();
+    	parallel.setPool(new ForkJoinPool(4));
+    	
+    	Map<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>> results = mean.stack(stack, mc);
+    	
+    	assertEquals(stack.size(), results.size());
+    	
+    	for(PlateBigDecimal plate : stack) {
+    		assertEquals(mean.plate(plate, mc), results.get(plate));
+    	}
+    	
+    	assertEquals(results, parallel.stack(stack, mc));
+    	assertEquals(mean.stack(stack, 1, 3, mc), parallel.stack(stack, 1, 3, mc));
+    }
+    
+    /**
+     * Tests the aggregated stack statistics.
+     */
+    @Test
+    public void testStacksAggregated() {
+    	
+    	StackBigDecimal stack = new StackBigDecimal(array, "Stack");
+    	
+    	MeanBigDecimal parallel = new MeanBigDecimal();
+    	parallel.setPool(new ForkJoinPool(4));
+    	
+    	List<BigDecimal> values = new ArrayList<BigDecimal>();
+    	List<BigDecimal> valuesIndices = new ArrayList<BigDecimal>();
+    	
+    	for(PlateBigDecimal plate : stack) {
+    		for(WellBigDecimal well : plate) {
+    			values.addAll(well.data());
+    			valuesIndices.addAll(well.data().subList(1, 4));
+    		}
+    	}
+    	
+    	BigDecimal result = mean.stacksAggregated(stack, mc);
+    	
+    	assertEquals(mean.calculate(values, mc), result);
+    	assertEquals(mean.calculate(valuesIndices, mc), mean.stacksAggregated(stack, 1, 3, mc));
+    	
+    	Map<StackBigDecimal, BigDecimal> results = parallel.stacksAggregated(new StackBigDecimal[]{ stack }, mc);
+    	
+    	assertEquals(1, results.size());
+    	assertEquals(result, results.get(stack));
+    }
+    
+    /**
+     * Tests the well statistics across the plates of a stack.
+     */
+    @Test
+    public void testStackWells() {
+    	
+    	StackBigDecimal stack = new StackBigDecimal(array, "Stack");
+    	
+    	MeanBigDecimal parallel = new MeanBigDecimal();
+    	parallel.setPool(new ForkJoinPool(4));
+    	
+    	Map<WellBigDecimal, BigDecimal> results = mean.stackWells(stack, mc);
+    	Map<WellBigDecimal, BigDecimal> resultsIndices = mean.stackWells(stack, 1, 3, mc);
+    	
+    	Map<WellBigDecimal, List<BigDecimal>> values = new TreeMap<WellBigDecimal, List<BigDecimal>>();
+    	Map<WellBigDecimal, List<BigDecimal>> valuesIndices = new TreeMap<WellBigDecimal, List<BigDecimal>>();
+    	
+    	for(PlateBigDecimal plate : stack) {
+    		
+    		for(WellBigDecimal well : plate) {
+    			
+    			if(!values.containsKey(well)) {
+    				values.put(well, new ArrayList<BigDecimal>());
+    				valuesIndices.put(well, new ArrayList<BigDecimal>());
+    			}
+    			
+    			values.get(well).addAll(well.data());
+    			valuesIndices.get(well).addAll(well.data().subList(1, 4));
+    		}
+    	}
+    	
+    	assertEquals(values.size(), results.size());
+    	
+    	for(WellBigDecimal well : values.keySet()) {
+    		assertEquals(mean.calculate(values.get(well), mc), results.get(well));
+    		assertEquals(mean.calculate(valuesIndices.get(well), mc), resultsIndices.get(well));
+    	}
+    	
+    	assertEquals(results, parallel.stackWells(stack, mc));
+    	assertEquals(resultsIndices, parallel.stackWells(stack, 1, 3, mc));
+    }
+
 }
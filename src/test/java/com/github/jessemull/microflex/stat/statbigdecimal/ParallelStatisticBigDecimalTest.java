@@ -0,0 +1,332 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.stat.statbigdecimal;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.CentralMomentBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.ChunksBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.CumulativeSumBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.DescriptiveStatisticBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.DescriptiveStatisticBigDecimalContext;
+import com.github.jessemull.microflex.bigdecimalflex.stat.MaxBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.MeanBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.MedianBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.MinBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.QuantileBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.QuartilesBigDecimal;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * This class tests the big decimal statistics calculated using a pool match the
+ * statistics calculated sequentially.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ParallelStatisticBigDecimalTest {
+
+	/* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random well and lists */
+
+	private static BigDecimal minValue = new BigDecimal(1 + "");                    // Minimum big decimal value for wells
+	private static BigDecimal maxValue = new BigDecimal(100 + "");                  // Maximum big decimal value for wells
+	private static MathContext mc = new MathContext(10, RoundingMode.HALF_DOWN);    // Math context for input values
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = 5;
+	private static int columns = 4;
+	private static int length = 10;
+	private static int begin = 2;
+	private static int lengthIndices = 5;
+	private static int plateNumber = 6;
+	private static int p = 2;
+	private static double quantile = 0.25;
+	private static double[] weights = new double[length];
+	private static PlateBigDecimal[] array = new PlateBigDecimal[plateNumber];
+	private static WellSetBigDecimal[] sets = new WellSetBigDecimal[plateNumber];
+
+	/* The pool shared by the parallel statistics */
+
+	private static ForkJoinPool pool = new ForkJoinPool(4);
+
+    /* Value of false redirects System.err */
+
+	private static boolean error = true;
+	private static PrintStream originalOut = System.out;
+
+	/**
+	 * Generates random objects and numbers for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		if(error) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+
+		for(int j = 0; j < array.length; j++) {
+
+			array[j] = RandomUtil.randomPlateBigDecimal(
+					rows, columns, minValue, maxValue, length, "Plate1-" + j);
+
+			sets[j] = array[j].dataSet();
+			sets[j].setLabel("Set1-" + j);
+		}
+
+		for(int i = 0; i < weights.length; i++) {
+			weights[i] = (i + 1) / (double) weights.length;
+		}
+	}
+
+	/**
+	 * Toggles system error and shuts down the pool.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+		pool.shutdown();
+	}
+
+    /* ------------------------ Descriptive statistics ---------------------- */
+
+	/**
+	 * Tests the descriptive statistics calculated using a pool.
+	 */
+	@Test
+	public void testDescriptive() {
+
+		DescriptiveStatisticBigDecimal[] statistics = { new MaxBigDecimal(), new MinBigDecimal() };
+		DescriptiveStatisticBigDecimal[] parallel = { new MaxBigDecimal(), new MinBigDecimal() };
+
+		for(int i = 0; i < statistics.length; i++) {
+
+			parallel[i].setPool(pool);
+
+			for(PlateBigDecimal plate : array) {
+				assertEquals(statistics[i].plate(plate), parallel[i].plate(plate));
+				assertEquals(statistics[i].plate(plate, begin, lengthIndices),
+						parallel[i].plate(plate, begin, lengthIndices));
+				assertEquals(statistics[i].set(plate.dataSet()), parallel[i].set(plate.dataSet()));
+			}
+
+			assertEquals(statistics[i].platesAggregated(array), parallel[i].platesAggregated(array));
+			assertEquals(statistics[i].platesAggregated(Arrays.asList(array), begin, lengthIndices),
+					parallel[i].platesAggregated(Arrays.asList(array), begin, lengthIndices));
+			assertEquals(statistics[i].setsAggregated(sets), parallel[i].setsAggregated(sets));
+			assertEquals(statistics[i].setsAggregated(sets, begin, lengthIndices),
+					parallel[i].setsAggregated(sets, begin, lengthIndices));
+		}
+	}
+
+	/**
+	 * Tests the descriptive context statistics calculated using a pool.
+	 */
+	@Test
+	public void testDescriptiveContext() {
+
+		DescriptiveStatisticBigDecimalContext[] statistics = { new MeanBigDecimal(), new MedianBigDecimal() };
+		DescriptiveStatisticBigDecimalContext[] parallel = { new MeanBigDecimal(), new MedianBigDecimal() };
+
+		for(int i = 0; i < statistics.length; i++) {
+
+			parallel[i].setPool(pool);
+
+			for(PlateBigDecimal plate : array) {
+				assertEquals(statistics[i].plate(plate, mc), parallel[i].plate(plate, mc));
+				assertEquals(statistics[i].plate(plate, begin, lengthIndices, mc),
+						parallel[i].plate(plate, begin, lengthIndices, mc));
+				assertEquals(statistics[i].set(plate.dataSet(), mc), parallel[i].set(plate.dataSet(), mc));
+			}
+
+			assertEquals(statistics[i].platesAggregated(array, mc), parallel[i].platesAggregated(array, mc));
+			assertEquals(statistics[i].platesAggregated(Arrays.asList(array), begin, lengthIndices, mc),
+					parallel[i].platesAggregated(Arrays.asList(array), begin, lengthIndices, mc));
+			assertEquals(statistics[i].setsAggregated(sets, mc), parallel[i].setsAggregated(sets, mc));
+			assertEquals(statistics[i].setsAggregated(sets, begin, lengthIndices, mc),
+					parallel[i].setsAggregated(sets, begin, lengthIndices, mc));
+		}
+	}
+
+	/**
+	 * Tests the weighted statistics calculated using a pool.
+	 */
+	@Test
+	public void testWeights() {
+
+		MeanBigDecimal mean = new MeanBigDecimal();
+		MeanBigDecimal parallel = new MeanBigDecimal();
+		parallel.setPool(pool);
+
+		for(PlateBigDecimal plate : array) {
+			assertEquals(mean.plate(plate, weights, mc), parallel.plate(plate, weights, mc));
+			assertEquals(mean.set(plate.dataSet(), weights, mc), parallel.set(plate.dataSet(), weights, mc));
+		}
+
+		assertEquals(mean.platesAggregated(array, weights, mc), parallel.platesAggregated(array, weights, mc));
+		assertEquals(mean.platesAggregated(Arrays.asList(array), weights, mc),
+				parallel.platesAggregated(Arrays.asList(array), weights, mc));
+	}
+
+	/**
+	 * Tests the enabling and disabling of parallel execution.
+	 */
+	@Test
+	public void testSetParallel() {
+
+		MeanBigDecimal mean = new MeanBigDecimal();
+
+		assertFalse(mean.isParallel());
+		assertNull(mean.pool());
+
+		mean.setParallel(true);
+
+		assertTrue(mean.isParallel());
+		assertNotNull(mean.pool());
+
+		mean.setParallel(false);
+
+		assertFalse(mean.isParallel());
+		assertNull(mean.pool());
+	}
+
+    /* --------------------------- List statistics -------------------------- */
+
+	/**
+	 * Tests the list statistics calculated using a pool.
+	 */
+	@Test
+	public void testList() {
+
+		QuartilesBigDecimal quartiles = new QuartilesBigDecimal();
+		QuartilesBigDecimal parallel = new QuartilesBigDecimal();
+		parallel.setPool(pool);
+
+		for(PlateBigDecimal plate : array) {
+			assertEquals(quartiles.plate(plate, mc), parallel.plate(plate, mc));
+			assertEquals(quartiles.set(plate.dataSet(), mc), parallel.set(plate.dataSet(), mc));
+		}
+
+		assertEquals(quartiles.platesAggregated(array, mc), parallel.platesAggregated(array, mc));
+		assertEquals(quartiles.setsAggregated(sets, mc), parallel.setsAggregated(sets, mc));
+	}
+
+	/**
+	 * Tests the weighted list statistics calculated using a pool.
+	 */
+	@Test
+	public void testListWeights() {
+
+		CumulativeSumBigDecimal sum = new CumulativeSumBigDecimal();
+		CumulativeSumBigDecimal parallel = new CumulativeSumBigDecimal();
+		parallel.setPool(pool);
+
+		for(PlateBigDecimal plate : array) {
+			assertEquals(sum.plate(plate, weights, mc), parallel.plate(plate, weights, mc));
+		}
+
+		assertEquals(sum.platesAggregated(array, weights, mc), parallel.platesAggregated(array, weights, mc));
+	}
+
+    /* ------------------------- Quantile statistics ------------------------ */
+
+	/**
+	 * Tests the quantile statistics calculated using a pool.
+	 */
+	@Test
+	public void testQuantile() {
+
+		CentralMomentBigDecimal moment = new CentralMomentBigDecimal();
+		CentralMomentBigDecimal parallel = new CentralMomentBigDecimal();
+		parallel.setPool(pool);
+
+		for(PlateBigDecimal plate : array) {
+			assertEquals(moment.plate(plate, p, mc), parallel.plate(plate, p, mc));
+			assertEquals(moment.set(plate.dataSet(), p, mc), parallel.set(plate.dataSet(), p, mc));
+		}
+
+		assertEquals(moment.platesAggregated(array, p, mc), parallel.platesAggregated(array, p, mc));
+		assertEquals(moment.setsAggregated(sets, p, mc), parallel.setsAggregated(sets, p, mc));
+	}
+
+	/**
+	 * Tests the rational quantile statistics calculated using a pool.
+	 */
+	@Test
+	public void testQuantileRational() {
+
+		QuantileBigDecimal statistic = new QuantileBigDecimal();
+		QuantileBigDecimal parallel = new QuantileBigDecimal();
+		parallel.setPool(pool);
+
+		for(PlateBigDecimal plate : array) {
+			assertEquals(statistic.plate(plate, quantile, mc), parallel.plate(plate, quantile, mc));
+		}
+
+		assertEquals(statistic.platesAggregated(array, quantile, mc), parallel.platesAggregated(array, quantile, mc));
+	}
+
+	/**
+	 * Tests the quantile list statistics calculated using a pool.
+	 */
+	@Test
+	public void testQuantileList() {
+
+		ChunksBigDecimal chunks = new ChunksBigDecimal();
+		ChunksBigDecimal parallel = new ChunksBigDecimal();
+		parallel.setPool(pool);
+
+		for(PlateBigDecimal plate : array) {
+			assertEquals(chunks.plate(plate, p, mc), parallel.plate(plate, p, mc));
+		}
+
+		assertEquals(chunks.platesAggregated(array, p, mc), parallel.platesAggregated(array, p, mc));
+	}
+
+}
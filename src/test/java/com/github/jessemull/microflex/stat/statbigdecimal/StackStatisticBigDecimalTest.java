@@ -0,0 +1,374 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.stat.statbigdecimal;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.StackBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.CentralMomentBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.DescriptiveStatisticBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.DescriptiveStatisticBigDecimalContext;
+import com.github.jessemull.microflex.bigdecimalflex.stat.MaxBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.MeanBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.MedianBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.MinBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.PowerDeviationBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.QuantileStatisticBigDecimalContext;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * This class tests the stack statistics of the big decimal descriptive and
+ * quantile statistics against the statistics calculated plate by plate.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class StackStatisticBigDecimalTest {
+
+	/* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random well and lists */
+
+	private static BigDecimal minValue = new BigDecimal(0);                         // Minimum big decimal value for wells
+	private static BigDecimal maxValue = new BigDecimal(100);                       // Maximum big decimal value for wells
+	private static MathContext mc = new MathContext(10, RoundingMode.HALF_DOWN);    // Math context for input values
+	private static BigDecimal tolerance = new BigDecimal("1e-8");                   // Relative tolerance for reordered sums
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = 5;
+	private static int columns = 4;
+	private static int length = 10;
+	private static int begin = 2;
+	private static int lengthIndices = 5;
+	private static int plateNumber = 4;
+	private static int p = 2;
+	private static PlateBigDecimal[] array = new PlateBigDecimal[plateNumber];
+	private static StackBigDecimal stack;
+
+	/* The statistics */
+
+	private static DescriptiveStatisticBigDecimal[] statistics = {
+		new MaxBigDecimal(), new MinBigDecimal() };
+	private static DescriptiveStatisticBigDecimalContext[] statisticsContext = {
+		new MeanBigDecimal(), new MedianBigDecimal() };
+	private static QuantileStatisticBigDecimalContext[] quantiles = {
+		new CentralMomentBigDecimal(), new PowerDeviationBigDecimal() };
+
+    /* Value of false redirects System.err */
+
+	private static boolean error = true;
+	private static PrintStream originalOut = System.out;
+
+	/**
+	 * Generates random objects and numbers for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		if(error) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+
+		for(int j = 0; j < array.length; j++) {
+			array[j] = RandomUtil.randomPlateBigDecimal(
+					rows, columns, minValue, maxValue, length, "Plate1-" + j);
+		}
+
+		stack = new StackBigDecimal(array, "Stack");
+	}
+
+	/**
+	 * Toggles system error.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+	}
+
+    /* ------------------------ Descriptive statistics ---------------------- */
+
+	/**
+	 * Tests the stack statistics match the plate statistics.
+	 */
+	@Test
+	public void testStack() {
+
+		for(DescriptiveStatisticBigDecimal statistic : statistics) {
+
+			Map<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>> results = statistic.stack(stack);
+			Map<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>> resultsIndices = statistic.stack(stack, begin, lengthIndices);
+
+			assertEquals(stack.size(), results.size());
+
+			for(PlateBigDecimal plate : stack) {
+				assertEquals(statistic.plate(plate), results.get(plate));
+				assertEquals(statistic.plate(plate, begin, lengthIndices), resultsIndices.get(plate));
+			}
+		}
+	}
+
+	/**
+	 * Tests the well statistics across the plates of the stack match the
+	 * statistics of a plate holding the values of every plate.
+	 */
+	@Test
+	public void testStackWells() {
+
+		for(DescriptiveStatisticBigDecimal statistic : statistics) {
+			assertWells(statistic.plate(merged(0, -1)), statistic.stackWells(stack));
+			assertWells(statistic.plate(merged(begin, lengthIndices)),
+					statistic.stackWells(stack, begin, lengthIndices));
+		}
+	}
+
+	/**
+	 * Tests the aggregated stack statistics match the aggregated statistics of
+	 * a plate holding the values of every plate.
+	 */
+	@Test
+	public void testStacksAggregated() {
+
+		for(DescriptiveStatisticBigDecimal statistic : statistics) {
+
+			BigDecimal result = statistic.stacksAggregated(stack);
+
+			assertClose(statistic.platesAggregated(merged(0, -1)), result);
+			assertClose(statistic.platesAggregated(merged(begin, lengthIndices)),
+					statistic.stacksAggregated(stack, begin, lengthIndices));
+			assertEquals(result, statistic.stacksAggregated(new StackBigDecimal[]{ stack }).get(stack));
+		}
+	}
+
+    /* -------------------- Descriptive context statistics ------------------ */
+
+	/**
+	 * Tests the context stack statistics match the plate statistics.
+	 */
+	@Test
+	public void testContextStack() {
+
+		for(DescriptiveStatisticBigDecimalContext statistic : statisticsContext) {
+
+			Map<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>> results = statistic.stack(stack, mc);
+			Map<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>> resultsIndices = statistic.stack(stack, begin, lengthIndices, mc);
+
+			assertEquals(stack.size(), results.size());
+
+			for(PlateBigDecimal plate : stack) {
+				assertEquals(statistic.plate(plate, mc), results.get(plate));
+				assertEquals(statistic.plate(plate, begin, lengthIndices, mc), resultsIndices.get(plate));
+			}
+		}
+	}
+
+	/**
+	 * Tests the context well statistics across the plates of the stack match
+	 * the statistics of a plate holding the values of every plate.
+	 */
+	@Test
+	public void testContextStackWells() {
+
+		for(DescriptiveStatisticBigDecimalContext statistic : statisticsContext) {
+			assertWells(statistic.plate(merged(0, -1), mc), statistic.stackWells(stack, mc));
+			assertWells(statistic.plate(merged(begin, lengthIndices), mc),
+					statistic.stackWells(stack, begin, lengthIndices, mc));
+		}
+	}
+
+	/**
+	 * Tests the aggregated context stack statistics match the aggregated
+	 * statistics of a plate holding the values of every plate.
+	 */
+	@Test
+	public void testContextStacksAggregated() {
+
+		for(DescriptiveStatisticBigDecimalContext statistic : statisticsContext) {
+
+			BigDecimal result = statistic.stacksAggregated(stack, mc);
+
+			assertClose(statistic.platesAggregated(merged(0, -1), mc), result);
+			assertClose(statistic.platesAggregated(merged(begin, lengthIndices), mc),
+					statistic.stacksAggregated(stack, begin, lengthIndices, mc));
+			assertEquals(result, statistic.stacksAggregated(new StackBigDecimal[]{ stack }, mc).get(stack));
+		}
+	}
+
+	/**
+	 * Tests the context stack statistics calculated using a pool match the
+	 * sequential results.
+	 */
+	@Test
+	public void testContextStackParallel() {
+
+		MeanBigDecimal parallel = new MeanBigDecimal();
+		parallel.setPool(new ForkJoinPool(4));
+
+		MeanBigDecimal mean = new MeanBigDecimal();
+
+		assertEquals(mean.stack(stack, mc), parallel.stack(stack, mc));
+		assertEquals(mean.stackWells(stack, mc), parallel.stackWells(stack, mc));
+		assertEquals(mean.stackWells(stack, begin, lengthIndices, mc),
+				parallel.stackWells(stack, begin, lengthIndices, mc));
+		assertEquals(mean.stacksAggregated(stack, mc), parallel.stacksAggregated(stack, mc));
+	}
+
+    /* ------------------------- Quantile statistics ------------------------ */
+
+	/**
+	 * Tests the quantile stack statistics match the plate statistics.
+	 */
+	@Test
+	public void testQuantileStack() {
+
+		for(QuantileStatisticBigDecimalContext statistic : quantiles) {
+
+			Map<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>> results = statistic.stack(stack, p, mc);
+			Map<PlateBigDecimal, Map<WellBigDecimal, BigDecimal>> resultsIndices = statistic.stack(stack, begin, lengthIndices, p, mc);
+
+			assertEquals(stack.size(), results.size());
+
+			for(PlateBigDecimal plate : stack) {
+				assertEquals(statistic.plate(plate, p, mc), results.get(plate));
+				assertEquals(statistic.plate(plate, begin, lengthIndices, p, mc), resultsIndices.get(plate));
+			}
+		}
+	}
+
+	/**
+	 * Tests the quantile well statistics across the plates of the stack match
+	 * the statistics of a plate holding the values of every plate.
+	 */
+	@Test
+	public void testQuantileStackWells() {
+
+		for(QuantileStatisticBigDecimalContext statistic : quantiles) {
+			assertWells(statistic.plate(merged(0, -1), p, mc), statistic.stackWells(stack, p, mc));
+			assertWells(statistic.plate(merged(begin, lengthIndices), p, mc),
+					statistic.stackWells(stack, begin, lengthIndices, p, mc));
+		}
+	}
+
+	/**
+	 * Tests the aggregated quantile stack statistics match the aggregated
+	 * statistics of a plate holding the values of every plate.
+	 */
+	@Test
+	public void testQuantileStacksAggregated() {
+
+		for(QuantileStatisticBigDecimalContext statistic : quantiles) {
+			assertClose(statistic.platesAggregated(merged(0, -1), p, mc), statistic.stacksAggregated(stack, p, mc));
+			assertClose(statistic.platesAggregated(merged(begin, lengthIndices), p, mc),
+					statistic.stacksAggregated(stack, begin, lengthIndices, p, mc));
+		}
+	}
+
+    /* --------------------------- Helper Methods --------------------------- */
+
+	/**
+	 * Returns a plate where each well holds the values of the well position from
+	 * every plate in the stack. A negative length adds all the values of each
+	 * well.
+	 * @param    int    beginning index of subset
+	 * @param    int    length of subset or -1
+	 * @return          the merged plate
+	 */
+	private static PlateBigDecimal merged(int begin, int length) {
+
+		Map<WellBigDecimal, List<BigDecimal>> values = new TreeMap<WellBigDecimal, List<BigDecimal>>();
+
+		for(PlateBigDecimal plate : stack) {
+
+			for(WellBigDecimal well : plate) {
+
+				if(!values.containsKey(well)) {
+					values.put(well, new ArrayList<BigDecimal>());
+				}
+
+				values.get(well).addAll(length < 0 ? well.data() : well.data().subList(begin, begin + length));
+			}
+		}
+
+		PlateBigDecimal merged = new PlateBigDecimal(rows, columns, "Merged");
+
+		for(Map.Entry<WellBigDecimal, List<BigDecimal>> entry : values.entrySet()) {
+			merged.addWells(new WellBigDecimal(entry.getKey().row(), entry.getKey().column(), entry.getValue()));
+		}
+
+		return merged;
+	}
+
+	/**
+	 * Asserts the well results hold the same wells and results within the
+	 * relative tolerance.
+	 * @param    Map<WellBigDecimal, BigDecimal>    the expected results
+	 * @param    Map<WellBigDecimal, BigDecimal>    the results
+	 */
+	private static void assertWells(Map<WellBigDecimal, BigDecimal> expected, Map<WellBigDecimal, BigDecimal> results) {
+
+		assertEquals(expected.keySet(), results.keySet());
+
+		for(WellBigDecimal well : expected.keySet()) {
+			assertClose(expected.get(well), results.get(well));
+		}
+	}
+
+	/**
+	 * Asserts the result is within the relative tolerance of the expected
+	 * result.
+	 * @param    BigDecimal    the expected result
+	 * @param    BigDecimal    the result
+	 */
+	private static void assertClose(BigDecimal expected, BigDecimal result) {
+		BigDecimal bound = tolerance.multiply(expected.abs().max(BigDecimal.ONE));
+		assertTrue(expected + " != " + result, expected.subtract(result).abs().compareTo(bound) <= 0);
+	}
+
+}
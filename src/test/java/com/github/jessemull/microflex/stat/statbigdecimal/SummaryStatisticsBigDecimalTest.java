@@ -0,0 +1,388 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.stat.statbigdecimal;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.bigdecimalflex.plate.PlateBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.StackBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.WellBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.plate.WellSetBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.SummaryBigDecimal;
+import com.github.jessemull.microflex.bigdecimalflex.stat.SummaryStatisticsBigDecimal;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * This class tests the methods in the big decimal summary statistics class.
+ * 
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class SummaryStatisticsBigDecimalTest {
+
+	/* ---------------------------- Local Fields -----------------------------*/
+	
+    /* Minimum and maximum values for random well and lists */
+	
+	private static BigDecimal minValue = new BigDecimal(0);     // Minimum big decimal value for wells
+	private static BigDecimal maxValue = new BigDecimal(100);   // Maximum big decimal value for wells
+	private static Random random = new Random();    // Generates random integers
+	private static double delta = 1e-8;             // Relative tolerance for results
+	private static MathContext mc = new MathContext(34, RoundingMode.HALF_DOWN);    // Math context for results
+
+	/* The summary statistics operation */
+	
+	private static SummaryStatisticsBigDecimal summary = new SummaryStatisticsBigDecimal();
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = 5;
+	private static int columns = 4;
+	private static int length = 10;
+	private static int plateNumber = 5;
+	private static PlateBigDecimal[] array = new PlateBigDecimal[plateNumber];
+	
+    /* Value of false redirects System.err */
+	
+	private static boolean error = true;
+	private static PrintStream originalOut = System.out;
+
+	/**
+	 * Generates random objects and numbers for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+		
+		if(error) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+
+		for(int j = 0; j < array.length; j++) {
+
+			PlateBigDecimal plate = RandomUtil.randomPlateBigDecimal(
+					rows, columns, minValue, maxValue, length, "Plate1-" + j);
+
+			array[j] = plate;
+		}
+	}
+	
+	/**
+	 * Toggles system error.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+	}
+	
+	/* ---------------------------- Constructors -----------------------------*/
+	
+	/**
+	 * Tests the default constructor.
+	 */
+	@Test
+	public void testConstructor() {
+		SummaryStatisticsBigDecimal test = new SummaryStatisticsBigDecimal();
+		assertNotNull(test);
+	}
+	
+    /* ---------------- Well summaries for all plate wells ------------------ */
+    
+    /**
+     * Tests the plate summary method.
+     */
+	@Test
+    public void testPlate() {
+		
+		for(PlateBigDecimal plate : array) {
+
+    		Map<WellBigDecimal, SummaryBigDecimal> returnedMap = summary.plate(plate, mc);
+    		
+    		assertEquals(plate.size(), returnedMap.size());
+    		
+			for(WellBigDecimal well : plate) {
+				assertSummary(new DescriptiveStatistics(values(well)), returnedMap.get(well));
+			}
+		} 
+    }
+    
+    /**
+     * Tests the plate summary method using the values between the indices.
+     */
+    @Test
+    public void testPlateIndices() {
+    	
+    	for(PlateBigDecimal plate : array) {
+
+    		int begin = random.nextInt(length - 5);
+			int end = begin + 5;
+			
+    		Map<WellBigDecimal, SummaryBigDecimal> returnedMap = summary.plate(plate, begin, end - begin, mc);
+    		
+			for(WellBigDecimal well : plate) {
+				
+				double[] input = Arrays.copyOfRange(values(well), begin, end);
+				
+				assertSummary(new DescriptiveStatistics(input), returnedMap.get(well));
+			}
+		} 
+    }
+    
+    /* --------------------- Aggregated plate summaries --------------------- */
+    
+    /**
+     * Tests the aggregated plate summary method.
+     */
+    @Test
+    public void testAggregatedPlate() {
+    	
+    	for(PlateBigDecimal plate : array) {
+
+    		DescriptiveStatistics stat = new DescriptiveStatistics();
+    		
+			for(WellBigDecimal well : plate) {
+				for(double db : values(well)) {
+					stat.addValue(db);
+				}
+			}
+			
+			assertSummary(stat, summary.platesAggregated(plate, mc));
+		} 
+    }
+    
+    /* ---------------------- Summaries for well sets ----------------------- */
+    
+    /**
+     * Tests the set summary methods.
+     */
+    @Test
+    public void testSet() {
+    	
+    	for(PlateBigDecimal plate : array) {
+
+    		WellSetBigDecimal set = plate.dataSet();
+    		Map<WellBigDecimal, SummaryBigDecimal> returnedMap = summary.set(set, mc);
+    		DescriptiveStatistics aggregated = new DescriptiveStatistics();
+    		
+			for(WellBigDecimal well : set) {
+				
+				assertSummary(new DescriptiveStatistics(values(well)), returnedMap.get(well));
+				
+				for(double db : values(well)) {
+					aggregated.addValue(db);
+				}
+			}
+			
+			assertSummary(aggregated, summary.setsAggregated(set, mc));
+		} 
+    }
+    
+    /* --------------------------- Well summaries --------------------------- */
+    
+    /**
+     * Tests the well summary methods.
+     */
+    @Test
+    public void testWell() {
+    	
+    	for(PlateBigDecimal plate : array) {
+			for(WellBigDecimal well : plate) {
+				
+				assertSummary(new DescriptiveStatistics(values(well)), summary.well(well, mc));
+				
+				double[] input = Arrays.copyOfRange(values(well), 2, 8);
+				assertSummary(new DescriptiveStatistics(input), summary.well(well, 2, 6, mc));
+			}
+		} 
+    }
+    
+    /**
+     * Tests the kurtosis of a summary holding less than four values.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void testKurtosisException() {
+    	WellBigDecimal well = array[0].first();
+    	summary.well(well, 0, 3, mc).kurtosis();
+    }
+    
+    /* ------------------------- Merged summaries --------------------------- */
+    
+    /**
+     * Tests merging the summaries of the first and second half of each well.
+     */
+    @Test
+    public void testMerge() {
+    	
+    	for(PlateBigDecimal plate : array) {
+			for(WellBigDecimal well : plate) {
+				
+				SummaryBigDecimal merged = summary.well(well, 0, 5, mc).merge(summary.well(well, 5, 5, mc));
+				double product = 1;
+				
+				for(double db : values(well)) {
+					product *= db;
+				}
+				
+				assertSummary(new DescriptiveStatistics(values(well)), merged);
+				assertClose(product, merged.product().doubleValue());
+			}
+		} 
+    }
+    
+    /**
+     * Tests merging empty summaries.
+     */
+    @Test
+    public void testMergeEmpty() {
+    	
+    	WellBigDecimal well = array[0].first();
+    	DescriptiveStatistics stat = new DescriptiveStatistics(values(well));
+    	
+    	assertSummary(stat, summary.well(well, 0, 0, mc).merge(summary.well(well, mc)));
+    	assertSummary(stat, summary.well(well, mc).merge(summary.well(well, 0, 0, mc)));
+    }
+    
+    /* --------------------- Aggregated stack summaries --------------------- */
+    
+    /**
+     * Tests the aggregated stack summary methods.
+     */
+    @Test
+    public void testAggregatedStack() {
+    	
+    	StackBigDecimal stack = new StackBigDecimal(array, "Stack");
+    	DescriptiveStatistics stat = new DescriptiveStatistics();
+    	
+    	for(PlateBigDecimal plate : stack) {
+			for(WellBigDecimal well : plate) {
+				for(double db : values(well)) {
+					stat.addValue(db);
+				}
+			}
+    	}
+    	
+    	assertSummary(stat, summary.stacksAggregated(stack, mc));
+    	assertSummary(stat, summary.stacksAggregated(new StackBigDecimal[]{ stack }, mc).get(stack));
+    }
+    
+    /**
+     * Tests the aggregated summary methods using a fork join pool.
+     */
+    @Test
+    public void testParallel() {
+    	
+    	SummaryStatisticsBigDecimal parallel = new SummaryStatisticsBigDecimal();
+    	parallel.setParallel(true);
+    	
+    	StackBigDecimal stack = new StackBigDecimal(array, "Stack");
+    	SummaryBigDecimal sequential = summary.stacksAggregated(stack, mc);
+    	SummaryBigDecimal returned = parallel.stacksAggregated(stack, mc);
+    	
+    	assertEquals(sequential.n(), returned.n());
+    	assertClose(sequential.sum().doubleValue(), returned.sum().doubleValue());
+    	assertClose(sequential.min().doubleValue(), returned.min().doubleValue());
+    	assertClose(sequential.max().doubleValue(), returned.max().doubleValue());
+    	
+    	Map<PlateBigDecimal, SummaryBigDecimal> plates = parallel.platesAggregated(array, mc);
+    	
+    	assertEquals(array.length, plates.size());
+    	
+    	for(PlateBigDecimal plate : array) {
+    		SummaryBigDecimal expected = summary.platesAggregated(plate, mc);
+    		assertEquals(expected.n(), plates.get(plate).n());
+    		assertClose(expected.sum().doubleValue(), plates.get(plate).sum().doubleValue());
+    	}
+    }
+    
+    /* --------------------------- Helper Methods --------------------------- */
+    
+    /**
+     * Returns the well values as a double array.
+     * @param    WellBigDecimal    the well
+     * @return                     the values
+     */
+    private static double[] values(WellBigDecimal well) {
+    	
+    	double[] values = new double[well.size()];
+    	int index = 0;
+    	
+    	for(BigDecimal bd : well) {
+    		values[index++] = bd.doubleValue();
+    	}
+    	
+    	return values;
+    }
+    
+    /**
+     * Compares the summary to the commons math descriptive statistics.
+     * @param    DescriptiveStatistics    the expected statistics
+     * @param    SummaryBigDecimal        the returned summary
+     */
+    private static void assertSummary(DescriptiveStatistics stat, SummaryBigDecimal returned) {
+    	
+    	assertEquals(stat.getN(), returned.n());
+    	assertClose(stat.getSum(), returned.sum().doubleValue());
+    	assertClose(stat.getMin(), returned.min().doubleValue());
+    	assertClose(stat.getMax(), returned.max().doubleValue());
+    	assertClose(stat.getMean(), returned.mean().doubleValue());
+    	assertClose(stat.getPopulationVariance(), returned.populationVariance().doubleValue());
+    	assertClose(stat.getVariance(), returned.sampleVariance().doubleValue());
+    	assertClose(stat.getStandardDeviation(), returned.sampleStandardDeviation().doubleValue());
+    	assertClose(stat.getSkewness(), returned.skewness().doubleValue());
+    	assertClose(stat.getKurtosis(), returned.kurtosis().doubleValue());
+    }
+    
+    /**
+     * Asserts the values are equal within the relative tolerance.
+     * @param    double    the expected value
+     * @param    double    the returned value
+     */
+    private static void assertClose(double expected, double returned) {
+    	double tolerance = delta * Math.max(1.0, Math.abs(expected));
+    	assertEquals(expected, returned, tolerance);
+    }
+    
+}
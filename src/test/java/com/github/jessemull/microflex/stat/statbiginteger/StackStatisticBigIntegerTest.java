@@ -0,0 +1,375 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.stat.statbiginteger;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.bigintegerflex.plate.PlateBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.StackBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.plate.WellBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.stat.CentralMomentBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.stat.DescriptiveStatisticBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.stat.DescriptiveStatisticBigIntegerContext;
+import com.github.jessemull.microflex.bigintegerflex.stat.MaxBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.stat.MeanBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.stat.MedianBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.stat.MinBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.stat.PowerDeviationBigInteger;
+import com.github.jessemull.microflex.bigintegerflex.stat.QuantileStatisticBigIntegerContext;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * This class tests the stack statistics of the big integer descriptive and
+ * quantile statistics against the statistics calculated plate by plate.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class StackStatisticBigIntegerTest {
+
+	/* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random well and lists */
+
+	private static BigInteger minValue = new BigInteger(0 + "");                    // Minimum big integer value for wells
+	private static BigInteger maxValue = new BigInteger(100 + "");                  // Maximum big integer value for wells
+	private static MathContext mc = new MathContext(10, RoundingMode.HALF_DOWN);    // Math context for input values
+	private static BigDecimal tolerance = new BigDecimal("1e-8");                   // Relative tolerance for reordered sums
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = 5;
+	private static int columns = 4;
+	private static int length = 10;
+	private static int begin = 2;
+	private static int lengthIndices = 5;
+	private static int plateNumber = 4;
+	private static int p = 2;
+	private static PlateBigInteger[] array = new PlateBigInteger[plateNumber];
+	private static StackBigInteger stack;
+
+	/* The statistics */
+
+	private static DescriptiveStatisticBigInteger[] statistics = {
+		new MaxBigInteger(), new MinBigInteger() };
+	private static DescriptiveStatisticBigIntegerContext[] statisticsContext = {
+		new MeanBigInteger(), new MedianBigInteger() };
+	private static QuantileStatisticBigIntegerContext[] quantiles = {
+		new CentralMomentBigInteger(), new PowerDeviationBigInteger() };
+
+    /* Value of false redirects System.err */
+
+	private static boolean error = true;
+	private static PrintStream originalOut = System.out;
+
+	/**
+	 * Generates random objects and numbers for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		if(error) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+
+		for(int j = 0; j < array.length; j++) {
+			array[j] = RandomUtil.randomPlateBigInteger(
+					rows, columns, minValue, maxValue, length, "Plate1-" + j);
+		}
+
+		stack = new StackBigInteger(array, "Stack");
+	}
+
+	/**
+	 * Toggles system error.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+	}
+
+    /* ------------------------ Descriptive statistics ---------------------- */
+
+	/**
+	 * Tests the stack statistics match the plate statistics.
+	 */
+	@Test
+	public void testStack() {
+
+		for(DescriptiveStatisticBigInteger statistic : statistics) {
+
+			Map<PlateBigInteger, Map<WellBigInteger, BigDecimal>> results = statistic.stack(stack);
+			Map<PlateBigInteger, Map<WellBigInteger, BigDecimal>> resultsIndices = statistic.stack(stack, begin, lengthIndices);
+
+			assertEquals(stack.size(), results.size());
+
+			for(PlateBigInteger plate : stack) {
+				assertEquals(statistic.plate(plate), results.get(plate));
+				assertEquals(statistic.plate(plate, begin, lengthIndices), resultsIndices.get(plate));
+			}
+		}
+	}
+
+	/**
+	 * Tests the well statistics across the plates of the stack match the
+	 * statistics of a plate holding the values of every plate.
+	 */
+	@Test
+	public void testStackWells() {
+
+		for(DescriptiveStatisticBigInteger statistic : statistics) {
+			assertWells(statistic.plate(merged(0, -1)), statistic.stackWells(stack));
+			assertWells(statistic.plate(merged(begin, lengthIndices)),
+					statistic.stackWells(stack, begin, lengthIndices));
+		}
+	}
+
+	/**
+	 * Tests the aggregated stack statistics match the aggregated statistics of
+	 * a plate holding the values of every plate.
+	 */
+	@Test
+	public void testStacksAggregated() {
+
+		for(DescriptiveStatisticBigInteger statistic : statistics) {
+
+			BigDecimal result = statistic.stacksAggregated(stack);
+
+			assertClose(statistic.platesAggregated(merged(0, -1)), result);
+			assertClose(statistic.platesAggregated(merged(begin, lengthIndices)),
+					statistic.stacksAggregated(stack, begin, lengthIndices));
+			assertEquals(result, statistic.stacksAggregated(new StackBigInteger[]{ stack }).get(stack));
+		}
+	}
+
+    /* -------------------- Descriptive context statistics ------------------ */
+
+	/**
+	 * Tests the context stack statistics match the plate statistics.
+	 */
+	@Test
+	public void testContextStack() {
+
+		for(DescriptiveStatisticBigIntegerContext statistic : statisticsContext) {
+
+			Map<PlateBigInteger, Map<WellBigInteger, BigDecimal>> results = statistic.stack(stack, mc);
+			Map<PlateBigInteger, Map<WellBigInteger, BigDecimal>> resultsIndices = statistic.stack(stack, begin, lengthIndices, mc);
+
+			assertEquals(stack.size(), results.size());
+
+			for(PlateBigInteger plate : stack) {
+				assertEquals(statistic.plate(plate, mc), results.get(plate));
+				assertEquals(statistic.plate(plate, begin, lengthIndices, mc), resultsIndices.get(plate));
+			}
+		}
+	}
+
+	/**
+	 * Tests the context well statistics across the plates of the stack match
+	 * the statistics of a plate holding the values of every plate.
+	 */
+	@Test
+	public void testContextStackWells() {
+
+		for(DescriptiveStatisticBigIntegerContext statistic : statisticsContext) {
+			assertWells(statistic.plate(merged(0, -1), mc), statistic.stackWells(stack, mc));
+			assertWells(statistic.plate(merged(begin, lengthIndices), mc),
+					statistic.stackWells(stack, begin, lengthIndices, mc));
+		}
+	}
+
+	/**
+	 * Tests the aggregated context stack statistics match the aggregated
+	 * statistics of a plate holding the values of every plate.
+	 */
+	@Test
+	public void testContextStacksAggregated() {
+
+		for(DescriptiveStatisticBigIntegerContext statistic : statisticsContext) {
+
+			BigDecimal result = statistic.stacksAggregated(stack, mc);
+
+			assertClose(statistic.platesAggregated(merged(0, -1), mc), result);
+			assertClose(statistic.platesAggregated(merged(begin, lengthIndices), mc),
+					statistic.stacksAggregated(stack, begin, lengthIndices, mc));
+			assertEquals(result, statistic.stacksAggregated(new StackBigInteger[]{ stack }, mc).get(stack));
+		}
+	}
+
+	/**
+	 * Tests the context stack statistics calculated using a pool match the
+	 * sequential results.
+	 */
+	@Test
+	public void testContextStackParallel() {
+
+		MeanBigInteger parallel = new MeanBigInteger();
+		parallel.setPool(new ForkJoinPool(4));
+
+		MeanBigInteger mean = new MeanBigInteger();
+
+		assertEquals(mean.stack(stack, mc), parallel.stack(stack, mc));
+		assertEquals(mean.stackWells(stack, mc), parallel.stackWells(stack, mc));
+		assertEquals(mean.stackWells(stack, begin, lengthIndices, mc),
+				parallel.stackWells(stack, begin, lengthIndices, mc));
+		assertEquals(mean.stacksAggregated(stack, mc), parallel.stacksAggregated(stack, mc));
+	}
+
+    /* ------------------------- Quantile statistics ------------------------ */
+
+	/**
+	 * Tests the quantile stack statistics match the plate statistics.
+	 */
+	@Test
+	public void testQuantileStack() {
+
+		for(QuantileStatisticBigIntegerContext statistic : quantiles) {
+
+			Map<PlateBigInteger, Map<WellBigInteger, BigDecimal>> results = statistic.stack(stack, p, mc);
+			Map<PlateBigInteger, Map<WellBigInteger, BigDecimal>> resultsIndices = statistic.stack(stack, begin, lengthIndices, p, mc);
+
+			assertEquals(stack.size(), results.size());
+
+			for(PlateBigInteger plate : stack) {
+				assertEquals(statistic.plate(plate, p, mc), results.get(plate));
+				assertEquals(statistic.plate(plate, begin, lengthIndices, p, mc), resultsIndices.get(plate));
+			}
+		}
+	}
+
+	/**
+	 * Tests the quantile well statistics across the plates of the stack match
+	 * the statistics of a plate holding the values of every plate.
+	 */
+	@Test
+	public void testQuantileStackWells() {
+
+		for(QuantileStatisticBigIntegerContext statistic : quantiles) {
+			assertWells(statistic.plate(merged(0, -1), p, mc), statistic.stackWells(stack, p, mc));
+			assertWells(statistic.plate(merged(begin, lengthIndices), p, mc),
+					statistic.stackWells(stack, begin, lengthIndices, p, mc));
+		}
+	}
+
+	/**
+	 * Tests the aggregated quantile stack statistics match the aggregated
+	 * statistics of a plate holding the values of every plate.
+	 */
+	@Test
+	public void testQuantileStacksAggregated() {
+
+		for(QuantileStatisticBigIntegerContext statistic : quantiles) {
+			assertClose(statistic.platesAggregated(merged(0, -1), p, mc), statistic.stacksAggregated(stack, p, mc));
+			assertClose(statistic.platesAggregated(merged(begin, lengthIndices), p, mc),
+					statistic.stacksAggregated(stack, begin, lengthIndices, p, mc));
+		}
+	}
+
+    /* --------------------------- Helper Methods --------------------------- */
+
+	/**
+	 * Returns a plate where each well holds the values of the well position from
+	 * every plate in the stack. A negative length adds all the values of each
+	 * well.
+	 * @param    int    beginning index of subset
+	 * @param    int    length of subset or -1
+	 * @return          the merged plate
+	 */
+	private static PlateBigInteger merged(int begin, int length) {
+
+		Map<WellBigInteger, List<BigInteger>> values = new TreeMap<WellBigInteger, List<BigInteger>>();
+
+		for(PlateBigInteger plate : stack) {
+
+			for(WellBigInteger well : plate) {
+
+				if(!values.containsKey(well)) {
+					values.put(well, new ArrayList<BigInteger>());
+				}
+
+				values.get(well).addAll(length < 0 ? well.data() : well.data().subList(begin, begin + length));
+			}
+		}
+
+		PlateBigInteger merged = new PlateBigInteger(rows, columns, "Merged");
+
+		for(Map.Entry<WellBigInteger, List<BigInteger>> entry : values.entrySet()) {
+			merged.addWells(new WellBigInteger(entry.getKey().row(), entry.getKey().column(), entry.getValue()));
+		}
+
+		return merged;
+	}
+
+	/**
+	 * Asserts the well results hold the same wells and results within the
+	 * relative tolerance.
+	 * @param    Map<WellBigInteger, BigDecimal>    the expected results
+	 * @param    Map<WellBigInteger, BigDecimal>    the results
+	 */
+	private static void assertWells(Map<WellBigInteger, BigDecimal> expected, Map<WellBigInteger, BigDecimal> results) {
+
+		assertEquals(expected.keySet(), results.keySet());
+
+		for(WellBigInteger well : expected.keySet()) {
+			assertClose(expected.get(well), results.get(well));
+		}
+	}
+
+	/**
+	 * Asserts the result is within the relative tolerance of the expected
+	 * result.
+	 * @param    BigDecimal    the expected result
+	 * @param    BigDecimal    the result
+	 */
+	private static void assertClose(BigDecimal expected, BigDecimal result) {
+		BigDecimal bound = tolerance.multiply(expected.abs().max(BigDecimal.ONE));
+		assertTrue(expected + " != " + result, expected.subtract(result).abs().compareTo(bound) <= 0);
+	}
+
+}
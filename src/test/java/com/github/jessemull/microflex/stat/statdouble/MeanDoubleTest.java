@@ -33,6 +33,7 @@ import java.util.List;
 import java.util.TreeMap;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.apache.commons.math3.util.Precision;
@@ -43,6 +44,7 @@ import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
 import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
+import com.github.jessemull.microflex.doubleflex.plate.StackDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
 import com.github.jessemull.microflex.doubleflex.stat.MeanDouble;
@@ -830,5 +832,133 @@ public class MeanDoubleTest {
 			}		
 		}		
     }
+    
+    /* -------------------------- Parallel Execution -------------------------- */
+    
+    /**
+     * Tests parallel execution against sequential execution.
+     */
+    @Test
+    public void testParallel() {
+    	
+    	MeanDouble parallel = new MeanDouble();
+    	parallel.setPool(new ForkJoinPool(4));
+    	
+    	assertTrue(parallel.isParallel());
+    	
+    	for(PlateDouble plate : array) {
+    		assertEquals(mean.plate(plate), parallel.plate(plate));
+    		assertEquals(mean.set(plate.dataSet()), parallel.set(plate.dataSet()));
+    		assertEquals(mean.plate(plate, 1, 3), parallel.plate(plate, 1, 3));
+    	}
+    	
+    	assertEquals(mean.platesAggregated(array), parallel.platesAggregated(array));
+    	assertEquals(mean.platesAggregated(Arrays.asList(array)), 
+    			     parallel.platesAggregated(Arrays.asList(array)));
+    	
+    	parallel.setParallel(false);
+    	
+    	assertFalse(parallel.isParallel());
+    	assertNull(parallel.pool());
+    }
+    
+    /**
+     * Tests the stack statistics.
+     */
+    @Test
+    public void testStack() {
+    	
+    	StackDouble stack = new StackDouble(array, "Stack");
+    	
+    	MeanDouble parallel = new MeanDouble();
+    	parallel.setPool(new ForkJoinPool(4));
+    	
+    	Map<PlateDouble, Map<WellDouble, Double>> results = mean.stack(stack);
+    	
+    	assertEquals(stack.size(), results.size());
+    	
+    	for(PlateDouble plate : stack) {
+    		assertEquals(mean.plate(plate), results.get(plate));
+    	}
+    	
+    	assertEquals(results, parallel.stack(stack));
+    	assertEquals(mean.stack(stack, 1, 3), parallel.stack(stack, 1, 3));
+    }
+    
+    /**
+     * Tests the aggregated stack statistics.
+     */
+    @Test
+    public void testStacksAggregated() {
+    	
+    	StackDouble stack = new StackDouble(array, "Stack");
+    	
+    	MeanDouble parallel = new MeanDouble();
+    	parallel.setPool(new ForkJoinPool(4));
+    	
+    	List<Double> values = new ArrayList<Double>();
+    	List<Double> valuesIndices = new ArrayList<Double>();
+    	
+    	for(PlateDouble plate : stack) {
+    		for(WellDouble well : plate) {
+    			values.addAll(well.data());
+    			valuesIndices.addAll(well.data().subList(1, 4));
+    		}
+    	}
+    	
+    	Double result = mean.stacksAggregated(stack);
+    	
+    	assertEquals(Precision.round(mean.calculate(values), precision), 
+    			     Precision.round(result, precision), 0.0);
+    	assertEquals(Precision.round(mean.calculate(valuesIndices), precision), 
+    			     Precision.round(mean.stacksAggregated(stack, 1, 3), precision), 0.0);
+    	
+    	Map<StackDouble, Double> results = parallel.stacksAggregated(new StackDouble[]{ stack });
+    	
+    	assertEquals(1, results.size());
+    	assertEquals(result, results.get(stack), 0.0);
+    }
+    
+    /**
+     * Tests the well statistics across the plates of a stack.
+     */
+    @Test
+    public void testStackWells() {
+    	
+    	StackDouble stack = new StackDouble(array, "Stack");
+    	
+    	MeanDouble parallel = new MeanDouble();
+    	parallel.setPool(new ForkJoinPool(4));
+    	
+    	Map<WellDouble, Double> results = mean.stackWells(stack);
+    	Map<WellDouble, Double> resultsIndices = mean.stackWells(stack, 1, 3);
+    	
+    	Map<WellDouble, List<Double>> values = new TreeMap<WellDouble, List<Double>>();
+    	Map<WellDouble, List<Double>> valuesIndices = new TreeMap<WellDouble, List<Double>>();
+    	
+    	for(PlateDouble plate : stack) {
+    		
+    		for(WellDouble well : plate) {
+    			
+    			if(!values.containsKey(well)) {
+    				values.put(well, new ArrayList<Double>());
+    				valuesIndices.put(well, new ArrayList<Double>());
+    			}
+    			
+    			values.get(well).addAll(well.data());
+    			valuesIndices.get(well).addAll(well.data().subList(1, 4));
+    		}
+    	}
+    	
+    	assertEquals(values.size(), results.size());
+    	
+    	for(WellDouble well : values.keySet()) {
+    		assertEquals(mean.calculate(values.get(well)), results.get(well), 0.0);
+    		assertEquals(mean.calculate(valuesIndices.get(well)), resultsIndices.get(well), 0.0);
+    	}
+    	
+    	assertEquals(results, parallel.stackWells(stack));
+    	assertEquals(resultsIndices, parallel.stackWells(stack, 1, 3));
+    }
 
 }
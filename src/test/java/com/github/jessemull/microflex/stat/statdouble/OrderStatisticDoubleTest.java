@@ -0,0 +1,198 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.stat.statdouble;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
+import com.github.jessemull.microflex.doubleflex.stat.MedianDouble;
+import com.github.jessemull.microflex.doubleflex.stat.QuantileDouble;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * This class tests that the selection based median and quantile statistics
+ * leave the order of the well data unchanged.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class OrderStatisticDoubleTest {
+
+	/* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random well and lists */
+
+	private static double minValue = 0;      // Minimum double value for wells
+	private static double maxValue = 100;    // Maximum double value for wells
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = 5;
+	private static int columns = 4;
+	private static int length = 50;
+	private static int begin = 10;
+	private static int lengthIndices = 25;
+
+    /* Value of false redirects System.err */
+
+	private static boolean error = true;
+	private static PrintStream originalOut = System.out;
+
+	/**
+	 * Redirects system error.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		if(error) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+	}
+
+	/**
+	 * Toggles system error.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+	}
+
+    /* ---------------------------- Input order ----------------------------- */
+
+	/**
+	 * Tests the median leaves the well data in its original order.
+	 */
+	@Test
+	public void testMedianOrder() {
+
+		PlateDouble plate = randomPlate();
+		List<List<Double>> original = data(plate);
+		MedianDouble median = new MedianDouble();
+
+		for(WellDouble well : plate) {
+			assertEquals(stat(well.data()).getPercentile(50), median.well(well), 1e-10);
+			median.well(well, begin, lengthIndices);
+		}
+
+		median.plate(plate);
+		median.platesAggregated(plate);
+		median.platesAggregated(plate, begin, lengthIndices);
+
+		assertEquals(original, data(plate));
+	}
+
+	/**
+	 * Tests the quantile leaves the well data in its original order.
+	 */
+	@Test
+	public void testQuantileOrder() {
+
+		PlateDouble plate = randomPlate();
+		List<List<Double>> original = data(plate);
+		QuantileDouble quantile = new QuantileDouble();
+
+		for(WellDouble well : plate) {
+			assertEquals(stat(well.data()).getPercentile(25), quantile.well(well, 0.25), 1e-10);
+			quantile.well(well, begin, lengthIndices, 0.75);
+		}
+
+		quantile.plate(plate, 0.5);
+		quantile.platesAggregated(plate, 0.1);
+		quantile.setsAggregated(plate.dataSet(), begin, lengthIndices, 0.9);
+
+		assertEquals(original, data(plate));
+	}
+
+    /* --------------------------- Helper Methods --------------------------- */
+
+	/**
+	 * Returns a plate where every well holds the same number of random values.
+	 * @return    the plate
+	 */
+	private static PlateDouble randomPlate() {
+
+		PlateDouble plate = new PlateDouble(rows, columns, "Plate");
+
+		for(int i = 0; i < rows; i++) {
+			for(int j = 1; j <= columns; j++) {
+				plate.addWells(new WellDouble(i, j, RandomUtil.randomDoubleList(minValue, maxValue, length)));
+			}
+		}
+
+		return plate;
+	}
+
+	/**
+	 * Returns a copy of the data in each well of the plate.
+	 * @param    PlateDouble    the plate
+	 * @return                  the well data
+	 */
+	private static List<List<Double>> data(PlateDouble plate) {
+
+		List<List<Double>> data = new ArrayList<List<Double>>();
+
+		for(WellDouble well : plate) {
+			data.add(new ArrayList<Double>(well.data()));
+		}
+
+		return data;
+	}
+
+	/**
+	 * Returns the commons math descriptive statistics for the values.
+	 * @param    List<Double>    the values
+	 * @return                   the statistics
+	 */
+	private static DescriptiveStatistics stat(List<Double> values) {
+
+		DescriptiveStatistics stat = new DescriptiveStatistics();
+
+		for(double value : values) {
+			stat.addValue(value);
+		}
+
+		return stat;
+	}
+
+}
@@ -0,0 +1,296 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.stat.statdouble;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
+import com.github.jessemull.microflex.doubleflex.stat.CentralMomentDouble;
+import com.github.jessemull.microflex.doubleflex.stat.ChunksDouble;
+import com.github.jessemull.microflex.doubleflex.stat.CumulativeSumDouble;
+import com.github.jessemull.microflex.doubleflex.stat.DescriptiveStatisticDouble;
+import com.github.jessemull.microflex.doubleflex.stat.MeanDouble;
+import com.github.jessemull.microflex.doubleflex.stat.MedianDouble;
+import com.github.jessemull.microflex.doubleflex.stat.QuantileDouble;
+import com.github.jessemull.microflex.doubleflex.stat.QuartilesDouble;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * This class tests the double statistics calculated using a pool match the
+ * statistics calculated sequentially.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ParallelStatisticDoubleTest {
+
+	/* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random well and lists */
+
+	private static double minValue = 1;      // Minimum double value for wells
+	private static double maxValue = 100;    // Maximum double value for wells
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = 5;
+	private static int columns = 4;
+	private static int length = 10;
+	private static int begin = 2;
+	private static int lengthIndices = 5;
+	private static int plateNumber = 6;
+	private static int p = 2;
+	private static double quantile = 0.25;
+	private static double[] weights = new double[length];
+	private static PlateDouble[] array = new PlateDouble[plateNumber];
+	private static WellSetDouble[] sets = new WellSetDouble[plateNumber];
+
+	/* The pool shared by the parallel statistics */
+
+	private static ForkJoinPool pool = new ForkJoinPool(4);
+
+    /* Value of false redirects System.err */
+
+	private static boolean error = true;
+	private static PrintStream originalOut = System.out;
+
+	/**
+	 * Generates random objects and numbers for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		if(error) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+
+		for(int j = 0; j < array.length; j++) {
+
+			array[j] = RandomUtil.randomPlateDouble(
+					rows, columns, minValue, maxValue, length, "Plate1-" + j);
+
+			sets[j] = array[j].dataSet();
+			sets[j].setLabel("Set1-" + j);
+		}
+
+		for(int i = 0; i < weights.length; i++) {
+			weights[i] = (i + 1) / (double) weights.length;
+		}
+	}
+
+	/**
+	 * Toggles system error and shuts down the pool.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+		pool.shutdown();
+	}
+
+    /* ------------------------ Descriptive statistics ---------------------- */
+
+	/**
+	 * Tests the descriptive statistics calculated using a pool.
+	 */
+	@Test
+	public void testDescriptive() {
+
+		DescriptiveStatisticDouble[] statistics = { new MeanDouble(), new MedianDouble() };
+		DescriptiveStatisticDouble[] parallel = { new MeanDouble(), new MedianDouble() };
+
+		for(int i = 0; i < statistics.length; i++) {
+
+			parallel[i].setPool(pool);
+
+			for(PlateDouble plate : array) {
+				assertEquals(statistics[i].plate(plate), parallel[i].plate(plate));
+				assertEquals(statistics[i].plate(plate, begin, lengthIndices),
+						parallel[i].plate(plate, begin, lengthIndices));
+				assertEquals(statistics[i].set(plate.dataSet()), parallel[i].set(plate.dataSet()));
+			}
+
+			assertEquals(statistics[i].platesAggregated(array), parallel[i].platesAggregated(array));
+			assertEquals(statistics[i].platesAggregated(Arrays.asList(array), begin, lengthIndices),
+					parallel[i].platesAggregated(Arrays.asList(array), begin, lengthIndices));
+			assertEquals(statistics[i].setsAggregated(sets), parallel[i].setsAggregated(sets));
+			assertEquals(statistics[i].setsAggregated(sets, begin, lengthIndices),
+					parallel[i].setsAggregated(sets, begin, lengthIndices));
+		}
+	}
+
+	/**
+	 * Tests the weighted statistics calculated using a pool.
+	 */
+	@Test
+	public void testWeights() {
+
+		MeanDouble mean = new MeanDouble();
+		MeanDouble parallel = new MeanDouble();
+		parallel.setPool(pool);
+
+		for(PlateDouble plate : array) {
+			assertEquals(mean.plate(plate, weights), parallel.plate(plate, weights));
+			assertEquals(mean.set(plate.dataSet(), weights), parallel.set(plate.dataSet(), weights));
+		}
+
+		assertEquals(mean.platesAggregated(array, weights), parallel.platesAggregated(array, weights));
+		assertEquals(mean.platesAggregated(Arrays.asList(array), weights),
+				parallel.platesAggregated(Arrays.asList(array), weights));
+	}
+
+	/**
+	 * Tests the enabling and disabling of parallel execution.
+	 */
+	@Test
+	public void testSetParallel() {
+
+		MeanDouble mean = new MeanDouble();
+
+		assertFalse(mean.isParallel());
+		assertNull(mean.pool());
+
+		mean.setParallel(true);
+
+		assertTrue(mean.isParallel());
+		assertNotNull(mean.pool());
+
+		mean.setParallel(false);
+
+		assertFalse(mean.isParallel());
+		assertNull(mean.pool());
+	}
+
+    /* --------------------------- List statistics -------------------------- */
+
+	/**
+	 * Tests the list statistics calculated using a pool.
+	 */
+	@Test
+	public void testList() {
+
+		QuartilesDouble quartiles = new QuartilesDouble();
+		QuartilesDouble parallel = new QuartilesDouble();
+		parallel.setPool(pool);
+
+		for(PlateDouble plate : array) {
+			assertEquals(quartiles.plate(plate), parallel.plate(plate));
+			assertEquals(quartiles.set(plate.dataSet()), parallel.set(plate.dataSet()));
+		}
+
+		assertEquals(quartiles.platesAggregated(array), parallel.platesAggregated(array));
+		assertEquals(quartiles.setsAggregated(sets), parallel.setsAggregated(sets));
+	}
+
+	/**
+	 * Tests the weighted list statistics calculated using a pool.
+	 */
+	@Test
+	public void testListWeights() {
+
+		CumulativeSumDouble sum = new CumulativeSumDouble();
+		CumulativeSumDouble parallel = new CumulativeSumDouble();
+		parallel.setPool(pool);
+
+		for(PlateDouble plate : array) {
+			assertEquals(sum.plate(plate, weights), parallel.plate(plate, weights));
+		}
+
+		assertEquals(sum.platesAggregated(array, weights), parallel.platesAggregated(array, weights));
+	}
+
+    /* ------------------------- Quantile statistics ------------------------ */
+
+	/**
+	 * Tests the quantile statistics calculated using a pool.
+	 */
+	@Test
+	public void testQuantile() {
+
+		CentralMomentDouble moment = new CentralMomentDouble();
+		CentralMomentDouble parallel = new CentralMomentDouble();
+		parallel.setPool(pool);
+
+		for(PlateDouble plate : array) {
+			assertEquals(moment.plate(plate, p), parallel.plate(plate, p));
+			assertEquals(moment.set(plate.dataSet(), p), parallel.set(plate.dataSet(), p));
+		}
+
+		assertEquals(moment.platesAggregated(array, p), parallel.platesAggregated(array, p));
+		assertEquals(moment.setsAggregated(sets, p), parallel.setsAggregated(sets, p));
+	}
+
+	/**
+	 * Tests the rational quantile statistics calculated using a pool.
+	 */
+	@Test
+	public void testQuantileRational() {
+
+		QuantileDouble statistic = new QuantileDouble();
+		QuantileDouble parallel = new QuantileDouble();
+		parallel.setPool(pool);
+
+		for(PlateDouble plate : array) {
+			assertEquals(statistic.plate(plate, quantile), parallel.plate(plate, quantile));
+		}
+
+		assertEquals(statistic.platesAggregated(array, quantile), parallel.platesAggregated(array, quantile));
+	}
+
+	/**
+	 * Tests the quantile list statistics calculated using a pool.
+	 */
+	@Test
+	public void testQuantileList() {
+
+		ChunksDouble chunks = new ChunksDouble();
+		ChunksDouble parallel = new ChunksDouble();
+		parallel.setPool(pool);
+
+		for(PlateDouble plate : array) {
+			assertEquals(chunks.plate(plate, p), parallel.plate(plate, p));
+		}
+
+		assertEquals(chunks.platesAggregated(array, p), parallel.platesAggregated(array, p));
+	}
+
+}
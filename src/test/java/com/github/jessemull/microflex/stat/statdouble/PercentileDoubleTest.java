@@ -33,6 +33,7 @@ import java.util.List;
 import java.util.TreeMap;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.apache.commons.math3.util.Precision;
@@ -43,6 +44,7 @@ import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
 import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
+import com.github.jessemull.microflex.doubleflex.plate.StackDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
 import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
 import com.github.jessemull.microflex.doubleflex.stat.PercentileDouble;
@@ -872,5 +874,129 @@ public class PercentileDoubleTest {
 			}		
 		}		
     }
+    
+    /* -------------------------- Parallel Execution -------------------------- */
+    
+    /**
+     * Tests parallel execution against sequential execution.
+     */
+    @Test
+    public void testParallel() {
+    	
+    	PercentileDouble parallel = new PercentileDouble();
+    	parallel.setPool(new ForkJoinPool(4));
+    	
+    	int p = random.nextInt(100) + 1;
+    	
+    	for(PlateDouble plate : array) {
+    		assertEquals(percentile.plate(plate, p), parallel.plate(plate, p));
+    		assertEquals(percentile.set(plate.dataSet(), p), parallel.set(plate.dataSet(), p));
+    	}
+    	
+    	assertEquals(percentile.platesAggregated(array, p), parallel.platesAggregated(array, p));
+    }
+    
+    /**
+     * Tests the stack statistics.
+     */
+    @Test
+    public void testStack() {
+    	
+    	StackDouble stack = new StackDouble(array, "Stack");
+    	
+    	PercentileDouble parallel = new PercentileDouble();
+    	parallel.setPool(new ForkJoinPool(4));
+    	
+    	int p = random.nextInt(100) + 1;
+    	
+    	Map<PlateDouble, Map<WellDouble, Double>> results = percentile.stack(stack, p);
+    	
+    	assertEquals(stack.size(), results.size());
+    	
+    	for(PlateDouble plate : stack) {
+    		assertEquals(percentile.plate(plate, p), results.get(plate));
+    	}
+    	
+    	assertEquals(results, parallel.stack(stack, p));
+    	assertEquals(percentile.stack(stack, 1, 3, p), parallel.stack(stack, 1, 3, p));
+    }
+    
+    /**
+     * Tests the aggregated stack statistics.
+     */
+    @Test
+    public void testStacksAggregated() {
+    	
+    	StackDouble stack = new StackDouble(array, "Stack");
+    	
+    	PercentileDouble parallel = new PercentileDouble();
+    	parallel.setPool(new ForkJoinPool(4));
+    	
+    	int p = random.nextInt(100) + 1;
+    	
+    	List<Double> values = new ArrayList<Double>();
+    	List<Double> valuesIndices = new ArrayList<Double>();
+    	
+    	for(PlateDouble plate : stack) {
+    		for(WellDouble well : plate) {
+    			values.addAll(well.data());
+    			valuesIndices.addAll(well.data().subList(1, 4));
+    		}
+    	}
+    	
+    	Double result = percentile.stacksAggregated(stack, p);
+    	
+    	assertEquals(percentile.calculate(values, p), result, 0.0);
+    	assertEquals(percentile.calculate(valuesIndices, p), percentile.stacksAggregated(stack, 1, 3, p), 0.0);
+    	
+    	Map<StackDouble, Double> results = parallel.stacksAggregated(new StackDouble[]{ stack }, p);
+    	
+    	assertEquals(1, results.size());
+    	assertEquals(result, results.get(stack), 0.0);
+    }
+    
+    /**
+     * Tests the well statistics across the plates of a stack.
+     */
+    @Test
+    public void testStackWells() {
+    	
+    	StackDouble stack = new StackDouble(array, "Stack");
+    	
+    	PercentileDouble parallel = new PercentileDouble();
+    	parallel.setPool(new ForkJoinPool(4));
+    	
+    	int p = random.nextInt(100) + 1;
+    	
+    	Map<WellDouble, Double> results = percentile.stackWells(stack, p);
+    	Map<WellDouble, Double> resultsIndices = percentile.stackWells(stack, 1, 3, p);
+    	
+    	Map<WellDouble, List<Double>> values = new TreeMap<WellDouble, List<Double>>();
+    	Map<WellDouble, List<Double>> valuesIndices = new TreeMap<WellDouble, List<Double>>();
+    	
+    	for(PlateDouble plate : stack) {
+    		
+    		for(WellDouble well : plate) {
+    			
+    			if(!values.containsKey(well)) {
+    				values.put(well, new ArrayList<Double>());
+    				valuesIndices.put(well, new ArrayList<Double>());
+    			}
+    			
+    			values.get(well).addAll(well.data());
+    			valuesIndices.get(well).addAll(well.data().subList(1, 4));
+    		}
+    	}
+    	
+    	assertEquals(values.size(), results.size());
+    	
+    	for(WellDouble well : values.keySet()) {
+    		assertEquals(percentile.calculate(values.get(well), p), results.get(well), 0.0);
+    		assertEquals(percentile.calculate(valuesIndices.get(well), p), resultsIndices.get(well), 0.0);
+    	}
+    	
+    	assertEquals(results, parallel.stackWells(stack, p));
+    	assertEquals(resultsIndices, parallel.stackWells(stack, 1, 3, p));
+    }
 
 }
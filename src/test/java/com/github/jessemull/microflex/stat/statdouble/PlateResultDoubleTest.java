@@ -0,0 +1,341 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.stat.statdouble;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.doubleflex.io.PlateWriterDouble;
+import com.github.jessemull.microflex.doubleflex.plate.DensePlateDouble;
+import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellSetDouble;
+import com.github.jessemull.microflex.doubleflex.stat.CentralMomentDouble;
+import com.github.jessemull.microflex.doubleflex.stat.MeanDouble;
+import com.github.jessemull.microflex.doubleflex.stat.PercentileDouble;
+import com.github.jessemull.microflex.doubleflex.stat.PlateResultDouble;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * This class tests the compact double result and the result methods of the
+ * descriptive statistic, quantile statistic and plate writer classes.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class PlateResultDoubleTest {
+
+	/* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random well and lists */
+
+	private static double minValue = 0;             // Minimum double value for wells
+	private static double maxValue = 100;           // Maximum double value for wells
+	private static Random random = new Random();    // Generates random integers
+
+	/* The mean operation */
+
+	private static MeanDouble mean = new MeanDouble();
+
+	/* The quantile operations */
+
+	private static CentralMomentDouble moment = new CentralMomentDouble();
+	private static PercentileDouble percentile = new PercentileDouble();
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = 5;
+	private static int columns = 4;
+	private static int length = 10;
+	private static int plateNumber = 5;
+	private static PlateDouble[] array = new PlateDouble[plateNumber];
+
+    /* Value of false redirects System.err */
+
+	private static boolean error = true;
+	private static PrintStream originalOut = System.out;
+
+	/**
+	 * Generates random objects and numbers for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		if(error) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+
+		for(int j = 0; j < array.length; j++) {
+
+			PlateDouble plate = RandomUtil.randomPlateDouble(
+					rows, columns, minValue, maxValue, length, "Plate1-" + j);
+
+			array[j] = plate;
+		}
+	}
+
+	/**
+	 * Toggles system error.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+	}
+
+	/* ---------------------------- Result Methods ---------------------------*/
+
+	/**
+	 * Tests the put, get and contains methods.
+	 */
+	@Test
+	public void testPutGet() {
+
+		PlateResultDouble result = new PlateResultDouble(rows, columns);
+
+		assertEquals(0, result.size());
+		assertFalse(result.contains(0, 1));
+		assertFalse(result.contains(-1, 1));
+		assertFalse(result.contains(0, columns + 1));
+
+		result.put(0, 1, 1.5);
+		result.put(new WellDouble(rows - 1, columns), 2.5);
+
+		assertEquals(2, result.size());
+		assertEquals(1.5, result.get(0, 1), 0);
+		assertEquals(2.5, result.get(new WellDouble(rows - 1, columns)), 0);
+		assertTrue(Double.isNaN(result.dataArray()[result.slot(1, 1)]));
+		assertEquals("A1", result.index(result.slot(0, 1)));
+		assertEquals("Result", result.label());
+	}
+
+	/**
+	 * Tests the get method using a well without a result.
+	 */
+	@Test(expected = NoSuchElementException.class)
+	public void testGetMissing() {
+		new PlateResultDouble(rows, columns).get(0, 1);
+	}
+
+	/**
+	 * Tests the put method using a well outside the result dimensions.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testPutInvalid() {
+		new PlateResultDouble(rows, columns).put(0, columns + 1, 1.0);
+	}
+
+	/* ------------------------------ Map View -------------------------------*/
+
+	/**
+	 * Tests the map view.
+	 */
+	@Test
+	public void testMapView() {
+
+		PlateResultDouble result = new PlateResultDouble(rows, columns);
+
+		result.put(2, 3, 3.0);
+		result.put(0, 2, 1.0);
+		result.put(1, 1, 2.0);
+
+		Map<WellDouble, Double> map = result.toMap();
+
+		assertEquals(3, map.size());
+		assertEquals(1.0, map.get(new WellDouble(0, 2)), 0);
+		assertNull(map.get(new WellDouble(0, 1)));
+		assertFalse(map.containsKey("A1"));
+
+		List<WellDouble> keys = new ArrayList<WellDouble>(map.keySet());
+
+		assertEquals(new WellDouble(0, 2), keys.get(0));
+		assertEquals(new WellDouble(1, 1), keys.get(1));
+		assertEquals(new WellDouble(2, 3), keys.get(2));
+
+		result.put(4, 4, 4.0);
+
+		assertEquals(4, map.size());
+	}
+
+	/**
+	 * Tests that the map view cannot be modified.
+	 */
+	@Test(expected = UnsupportedOperationException.class)
+	public void testMapViewReadOnly() {
+
+		PlateResultDouble result = new PlateResultDouble(rows, columns);
+
+		result.toMap().put(new WellDouble(0, 1), 1.0);
+	}
+
+	/* -------------------------- Statistic Results --------------------------*/
+
+	/**
+	 * Tests the plate result method.
+	 */
+	@Test
+	public void testPlateResult() {
+
+		for(PlateDouble plate : array) {
+
+			Map<WellDouble, Double> expected = mean.plate(plate);
+			PlateResultDouble result = mean.plateResult(plate);
+
+			assertEquals(expected, result.toMap());
+			assertEquals(plate.label(), result.label());
+
+			for(WellDouble well : plate) {
+				assertEquals(expected.get(well), result.get(well), 0);
+			}
+		}
+	}
+
+	/**
+	 * Tests the plate result method using the values between the indices.
+	 */
+	@Test
+	public void testPlateResultIndices() {
+
+		for(PlateDouble plate : array) {
+
+			int begin = random.nextInt(length - 5);
+
+			assertEquals(mean.plate(plate, begin, 5),
+					mean.plateResult(plate, begin, 5).toMap());
+		}
+	}
+
+	/**
+	 * Tests the plate result method using a dense plate.
+	 */
+	@Test
+	public void testDensePlateResult() {
+
+		for(PlateDouble plate : array) {
+			assertEquals(mean.plate(plate),
+					mean.plateResult(new DensePlateDouble(plate)).toMap());
+		}
+	}
+
+	/**
+	 * Tests the set result methods.
+	 */
+	@Test
+	public void testSetResult() {
+
+		for(PlateDouble plate : array) {
+
+			WellSetDouble set = plate.dataSet();
+			int begin = random.nextInt(length - 5);
+
+			assertEquals(mean.set(set), mean.setResult(set).toMap());
+			assertEquals(mean.set(set, begin, 5), mean.setResult(set, begin, 5).toMap());
+		}
+	}
+
+	/**
+	 * Tests the plate result methods of the quantile statistics.
+	 */
+	@Test
+	public void testQuantilePlateResult() {
+
+		for(PlateDouble plate : array) {
+
+			int begin = random.nextInt(length - 5);
+
+			PlateResultDouble result = moment.plateResult(plate, 3);
+
+			assertEquals(moment.plate(plate, 3), result.toMap());
+			assertEquals(plate.label(), result.label());
+			assertEquals(moment.plate(plate, begin, 5, 3), moment.plateResult(plate, begin, 5, 3).toMap());
+
+			assertEquals(percentile.plate(plate, 25), percentile.plateResult(plate, 25).toMap());
+			assertEquals(percentile.plate(plate, begin, 5, 25), percentile.plateResult(plate, begin, 5, 25).toMap());
+		}
+	}
+
+	/**
+	 * Tests the set result methods of the quantile statistics.
+	 */
+	@Test
+	public void testQuantileSetResult() {
+
+		for(PlateDouble plate : array) {
+
+			WellSetDouble set = plate.dataSet();
+			int begin = random.nextInt(length - 5);
+
+			assertEquals(moment.set(set, 2), moment.setResult(set, 2).toMap());
+			assertEquals(moment.set(set, begin, 5, 2), moment.setResult(set, begin, 5, 2).toMap());
+
+			assertEquals(percentile.set(set, 75), percentile.setResult(set, 75).toMap());
+			assertEquals(percentile.set(set, begin, 5, 75), percentile.setResult(set, begin, 5, 75).toMap());
+		}
+	}
+
+	/* ---------------------------- Writer Output ----------------------------*/
+
+	/**
+	 * Tests the plate map and table output for a compact result.
+	 */
+	@Test
+	public void testWriter() {
+
+		PlateWriterDouble writer = new PlateWriterDouble(new StringWriter());
+
+		for(PlateDouble plate : array) {
+
+			Map<WellDouble, Double> map = mean.plate(plate);
+			PlateResultDouble result = mean.plateResult(plate);
+
+			assertEquals(writer.resultToPlateMapAsString(map, rows, columns, plate.label()),
+					writer.resultToPlateMapAsString(result));
+			assertEquals(writer.resultToTableAsString(map, plate.label()),
+					writer.resultToTableAsString(result));
+			assertEquals(writer.resultToXMLAsString(map, plate.label()),
+					writer.resultToXMLAsString(result));
+		}
+	}
+
+}
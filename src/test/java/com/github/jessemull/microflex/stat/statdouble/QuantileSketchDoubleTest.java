@@ -0,0 +1,459 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.stat.statdouble;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.doubleflex.plate.PlateDouble;
+import com.github.jessemull.microflex.doubleflex.plate.StackDouble;
+import com.github.jessemull.microflex.doubleflex.plate.WellDouble;
+import com.github.jessemull.microflex.doubleflex.stat.InterquartileRangeDouble;
+import com.github.jessemull.microflex.doubleflex.stat.MedianDouble;
+import com.github.jessemull.microflex.doubleflex.stat.PercentileDouble;
+import com.github.jessemull.microflex.doubleflex.stat.QuantileDouble;
+import com.github.jessemull.microflex.doubleflex.stat.QuantileSketchDouble;
+import com.github.jessemull.microflex.doubleflex.stat.QuartileDeviationDouble;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * This class tests the methods in the double quantile sketch class. The rank
+ * of each approximate quantile is compared to the rank of the exact quantile.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class QuantileSketchDoubleTest {
+
+	/* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random well and lists */
+
+	private static double minValue = 0;             // Minimum double value for wells
+	private static double maxValue = 100;           // Maximum double value for wells
+	private static Random random = new Random();    // Generates random values
+	private static double error = 0.005;            // Normalized rank error bound
+
+	/* Random objects and numbers for testing */
+
+	private static int size = 200000;
+	private static double[] values = new double[size];
+
+    /* Value of false redirects System.err */
+
+	private static boolean printError = true;
+	private static PrintStream originalOut = System.out;
+
+	/**
+	 * Generates random objects and numbers for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		if(printError) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+
+		for(int i = 0; i < size; i++) {
+			values[i] = minValue + random.nextGaussian() * maxValue;
+		}
+	}
+
+	/**
+	 * Toggles system error.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+	}
+
+    /* ------------------------------ Quantiles ----------------------------- */
+
+	/**
+	 * Tests the quantiles of a sketch holding every value.
+	 */
+	@Test
+	public void testQuantiles() {
+
+		QuantileSketchDouble sketch = new QuantileSketchDouble(error);
+		sketch.add(values, 0, size);
+
+		assertEquals(size, sketch.n());
+		assertTrue(sketch.retained() < size / 10);
+
+		assertQuantiles(values, sketch);
+	}
+
+	/**
+	 * Tests the quantiles of sketches merged in different orders.
+	 */
+	@Test
+	public void testMerge() {
+
+		int parts = 10;
+		QuantileSketchDouble[] sketches = new QuantileSketchDouble[parts];
+
+		for(int i = 0; i < parts; i++) {
+			sketches[i] = new QuantileSketchDouble(error);
+			sketches[i].add(values, i * size / parts, size / parts);
+		}
+
+		QuantileSketchDouble forward = new QuantileSketchDouble(error);
+		QuantileSketchDouble pairwise = sketches[parts - 1];
+
+		for(int i = 0; i < parts; i++) {
+			forward.merge(sketches[i]);
+		}
+
+		for(int i = parts - 2; i >= 0; i--) {
+			pairwise = sketches[i].merge(pairwise);
+		}
+
+		assertEquals(size, forward.n());
+		assertEquals(size, pairwise.n());
+
+		assertQuantiles(values, forward);
+		assertQuantiles(values, pairwise);
+	}
+
+	/**
+	 * Tests the minimum, maximum and extreme quantiles.
+	 */
+	@Test
+	public void testExtrema() {
+
+		QuantileSketchDouble sketch = new QuantileSketchDouble(error);
+		sketch.add(values, 0, size);
+
+		double[] sorted = values.clone();
+		Arrays.sort(sorted);
+
+		assertEquals(sorted[0], sketch.min(), 0.0);
+		assertEquals(sorted[size - 1], sketch.max(), 0.0);
+		assertEquals(sorted[0], sketch.quantile(0), 0.0);
+		assertEquals(sorted[size - 1], sketch.quantile(1), 0.0);
+	}
+
+	/**
+	 * Tests a sketch built from the wells of a stack.
+	 */
+	@Test
+	public void testStack() {
+
+		StackDouble stack = RandomUtil.randomStackDouble(8, 12, minValue, maxValue, 50, "Stack", 5);
+		QuantileSketchDouble sketch = new QuantileSketchDouble(error);
+		sketch.add(stack);
+
+		int index = 0;
+		double[] input = new double[(int) sketch.n()];
+
+		for(PlateDouble plate : stack) {
+			for(WellDouble well : plate) {
+				for(double db : well) {
+					input[index++] = db;
+				}
+			}
+		}
+
+		assertEquals(input.length, index);
+		assertQuantiles(input, sketch);
+	}
+
+	/**
+	 * Tests serialization of a sketch.
+	 */
+	@Test
+	public void testSerialization() throws IOException, ClassNotFoundException {
+
+		QuantileSketchDouble sketch = new QuantileSketchDouble(error);
+		sketch.add(values, 0, size);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream output = new ObjectOutputStream(bytes);
+		output.writeObject(sketch);
+		output.close();
+
+		ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		QuantileSketchDouble returned = (QuantileSketchDouble) input.readObject();
+		input.close();
+
+		assertEquals(sketch.n(), returned.n());
+		assertEquals(sketch.error(), returned.error(), 0.0);
+
+		for(int p = 0; p <= 100; p++) {
+			assertEquals(sketch.percentile(p), returned.percentile(p), 0.0);
+		}
+
+		returned.add(values, 0, size);
+		assertEquals(2 * size, returned.n());
+	}
+
+	/**
+	 * Tests the quantile of an empty sketch.
+	 */
+	@Test(expected = NoSuchElementException.class)
+	public void testEmpty() {
+		new QuantileSketchDouble(error).quantile(0.5);
+	}
+
+	/**
+	 * Tests an invalid error bound.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidError() {
+		new QuantileSketchDouble(0);
+	}
+
+    /* ------------------------- Approximate results ------------------------ */
+
+	/**
+	 * Tests the aggregated percentiles and medians calculated using sketches.
+	 */
+	@Test
+	public void testApproximateStatistics() {
+
+		StackDouble stack = RandomUtil.randomStackDouble(16, 24, minValue, maxValue, 25, "Stack", 4);
+		PlateDouble plate = stack.first();
+
+		double[] plateValues = values(plate);
+		double[] stackValues = new double[0];
+
+		for(PlateDouble input : stack) {
+			double[] next = values(input);
+			double[] joined = Arrays.copyOf(stackValues, stackValues.length + next.length);
+			System.arraycopy(next, 0, joined, stackValues.length, next.length);
+			stackValues = joined;
+		}
+
+		PercentileDouble percentile = new PercentileDouble();
+		MedianDouble median = new MedianDouble();
+
+		percentile.setError(error);
+		median.setError(error);
+
+		for(int p = 1; p < 100; p++) {
+			assertRank(plateValues, percentile.platesAggregated(plate, p), p / 100.0);
+			assertRank(stackValues, percentile.stacksAggregated(stack, p), p / 100.0);
+		}
+
+		assertRank(plateValues, median.platesAggregated(plate), 0.5);
+		assertRank(stackValues, median.stacksAggregated(stack), 0.5);
+
+		percentile.setError(0);
+		median.setError(0);
+
+		assertEquals(new PercentileDouble().platesAggregated(plate, 25), percentile.platesAggregated(plate, 25), 0.0);
+		assertEquals(new MedianDouble().stacksAggregated(stack), median.stacksAggregated(stack), 0.0);
+	}
+
+	/**
+	 * Tests the aggregated quantiles, interquartile ranges and quartile 
+	 * deviations calculated using sketches.
+	 */
+	@Test
+	public void testApproximateQuartiles() {
+
+		StackDouble stack = RandomUtil.randomStackDouble(16, 24, minValue, maxValue, 25, "Stack", 4);
+		PlateDouble plate = stack.first();
+
+		double[] plateValues = values(plate);
+		double tolerance = 4 * error * (maxValue - minValue);
+
+		QuantileDouble quantile = new QuantileDouble();
+		InterquartileRangeDouble range = new InterquartileRangeDouble();
+		QuartileDeviationDouble deviation = new QuartileDeviationDouble();
+
+		quantile.setError(error);
+		range.setError(error);
+		deviation.setError(error);
+
+		for(int p = 1; p < 100; p++) {
+			assertRank(plateValues, quantile.platesAggregated(plate, p / 100.0), p / 100.0);
+			assertRank(plateValues, quantile.setsAggregated(plate.dataSet(), p / 100.0), p / 100.0);
+		}
+
+		assertEquals(new InterquartileRangeDouble().platesAggregated(plate), 
+				range.platesAggregated(plate), tolerance);
+		assertEquals(new InterquartileRangeDouble().stacksAggregated(stack), 
+				range.stacksAggregated(stack), tolerance);
+		assertEquals(new QuartileDeviationDouble().platesAggregated(plate), 
+				deviation.platesAggregated(plate), tolerance / 2);
+		assertEquals(new QuartileDeviationDouble().stacksAggregated(stack), 
+				deviation.stacksAggregated(stack), tolerance / 2);
+
+		quantile.setError(0);
+		range.setError(0);
+		deviation.setError(0);
+
+		assertEquals(new QuantileDouble().platesAggregated(plate, 0.25), quantile.platesAggregated(plate, 0.25), 0.0);
+		assertEquals(new InterquartileRangeDouble().platesAggregated(plate), range.platesAggregated(plate), 0.0);
+		assertEquals(new QuartileDeviationDouble().stacksAggregated(stack), deviation.stacksAggregated(stack), 0.0);
+	}
+
+	/**
+	 * Tests an invalid error bound for the percentile statistic.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidStatisticError() {
+		new PercentileDouble().setError(1);
+	}
+
+    /* --------------------------- Helper Methods --------------------------- */
+
+	/**
+	 * Asserts the rank of each percentile of the sketch is within the error
+	 * bound of the exact rank.
+	 * @param    double[]                the values
+	 * @param    QuantileSketchDouble    the sketch
+	 */
+	private static void assertQuantiles(double[] values, QuantileSketchDouble sketch) {
+
+		double[] sorted = values.clone();
+		Arrays.sort(sorted);
+
+		int n = sorted.length;
+
+		for(int p = 1; p < 100; p++) {
+
+			double returned = sketch.percentile(p);
+			double target = p / 100.0 * n;
+
+			int lower = lowerBound(sorted, returned);
+			int upper = upperBound(sorted, returned);
+
+			assertTrue("Percentile " + p, target >= lower - error * n && target <= upper + error * n);
+		}
+	}
+
+	/**
+	 * Asserts the rank of the value is within the error bound of the quantile.
+	 * @param    double[]    the values
+	 * @param    double      the approximate quantile
+	 * @param    double      the quantile
+	 */
+	private static void assertRank(double[] values, double returned, double quantile) {
+
+		double[] sorted = values.clone();
+		Arrays.sort(sorted);
+
+		int n = sorted.length;
+		double target = quantile * n;
+
+		int lower = lowerBound(sorted, returned);
+		int upper = upperBound(sorted, returned);
+
+		assertTrue("Quantile " + quantile, target >= lower - error * n && target <= upper + error * n);
+	}
+
+	/**
+	 * Returns the values of the wells in the plate.
+	 * @param    PlateDouble    the plate
+	 * @return                  the values
+	 */
+	private static double[] values(PlateDouble plate) {
+
+		int size = 0;
+
+		for(WellDouble well : plate) {
+			size += well.size();
+		}
+
+		int index = 0;
+		double[] result = new double[size];
+
+		for(WellDouble well : plate) {
+			for(double db : well) {
+				result[index++] = db;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the number of values less than the value.
+	 * @param    double[]    the sorted values
+	 * @param    double      the value
+	 * @return               the rank
+	 */
+	private static int lowerBound(double[] sorted, double value) {
+
+		int index = Arrays.binarySearch(sorted, value);
+
+		if(index < 0) {
+			return -index - 1;
+		}
+
+		while(index > 0 && sorted[index - 1] == value) {
+			index--;
+		}
+
+		return index;
+	}
+
+	/**
+	 * Returns the number of values less than or equal to the value.
+	 * @param    double[]    the sorted values
+	 * @param    double      the value
+	 * @return               the rank
+	 */
+	private static int upperBound(double[] sorted, double value) {
+
+		int index = Arrays.binarySearch(sorted, value);
+
+		if(index < 0) {
+			return -index - 1;
+		}
+
+		while(index < sorted.length - 1 && sorted[index + 1] == value) {
+			index++;
+		}
+
+		return index + 1;
+	}
+
+}
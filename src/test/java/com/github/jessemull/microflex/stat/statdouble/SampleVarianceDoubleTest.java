@@ -68,6 +68,7 @@ public class SampleVarianceDoubleTest {
 	private static double maxValue = 100;           // Maximum double value for wells
 	private static Random random = new Random();    // Generates random integers
 	private static int precision = 10;              // Precision for double results
+	private static double tolerance = 1e-10;        // Relative tolerance for aggregated results
 	
 	/* The addition operation */
 	
@@ -228,7 +229,7 @@ public class SampleVarianceDoubleTest {
     	for(PlateDouble plate : array) {
 
     		List<Double> resultList = new ArrayList<Double>();
-    		double aggregatedReturned = Precision.round(variance.platesAggregated(plate), precision);
+    		double aggregatedReturned = variance.platesAggregated(plate);
     		
     		for(WellDouble well : plate) {
 				resultList.addAll(well.data());
@@ -241,9 +242,9 @@ public class SampleVarianceDoubleTest {
 			}
 			
 			DescriptiveStatistics statAggregated = new DescriptiveStatistics(inputAggregated);
-			double resultAggregated = Precision.round(statAggregated.getVariance(), precision);
+			double resultAggregated = statAggregated.getVariance();
 
-			assertTrue(resultAggregated == aggregatedReturned);
+			assertEquals(resultAggregated, aggregatedReturned, tolerance * Math.max(1, Math.abs(resultAggregated)));
 		}
     }
     
@@ -279,10 +280,10 @@ public class SampleVarianceDoubleTest {
     	
     	for(PlateDouble plate : collection) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(plate), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(plate), precision);
+    		double result = aggregatedResultMap.get(plate);
+			double returned = aggregatedReturnedMap.get(plate);
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     }
     
@@ -317,10 +318,10 @@ public class SampleVarianceDoubleTest {
     	
     	for(PlateDouble plate : array) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(plate), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(plate), precision);
+    		double result = aggregatedResultMap.get(plate);
+			double returned = aggregatedReturnedMap.get(plate);
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     	
     }    
@@ -338,7 +339,7 @@ public class SampleVarianceDoubleTest {
 			int end = (begin + 4) + random.nextInt(size - (begin + 4) + 1);
 
     	    List<Double> resultList = new ArrayList<Double>();
-    		double aggregatedReturned = Precision.round(variance.platesAggregated(plate, begin, end - begin), precision);
+    		double aggregatedReturned = variance.platesAggregated(plate, begin, end - begin);
     		
     		for(WellDouble well : plate) {
 				resultList.addAll(well.data().subList(begin, end));
@@ -351,9 +352,9 @@ public class SampleVarianceDoubleTest {
 			}
 			
 			DescriptiveStatistics statAggregated = new DescriptiveStatistics(inputAggregated);
-			double aggregatedResult = Precision.round(statAggregated.getVariance(), precision);
+			double aggregatedResult = statAggregated.getVariance();
 	
-			assertTrue(aggregatedResult == aggregatedReturned);
+			assertEquals(aggregatedResult, aggregatedReturned, tolerance * Math.max(1, Math.abs(aggregatedResult)));
 		}
     }
     
@@ -395,10 +396,10 @@ public class SampleVarianceDoubleTest {
     	
     	for(PlateDouble plate : collection) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(plate), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(plate), precision);
+    		double result = aggregatedResultMap.get(plate);
+			double returned = aggregatedReturnedMap.get(plate);
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     }
     
@@ -438,10 +439,10 @@ public class SampleVarianceDoubleTest {
     	
     	for(PlateDouble plate : arrayIndices) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(plate), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(plate), precision);
+    		double result = aggregatedResultMap.get(plate);
+			double returned = aggregatedReturnedMap.get(plate);
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     }
     
@@ -535,7 +536,7 @@ public class SampleVarianceDoubleTest {
     	for(PlateDouble plate : array) {
 
     		List<Double> resultList = new ArrayList<Double>();
-    		double aggregatedReturned = Precision.round(variance.setsAggregated(plate.dataSet()), precision);
+    		double aggregatedReturned = variance.setsAggregated(plate.dataSet());
     		
     		for(WellDouble well : plate) {
 				resultList.addAll(well.data());
@@ -548,9 +549,9 @@ public class SampleVarianceDoubleTest {
 			}
 			
 			DescriptiveStatistics statAggregated = new DescriptiveStatistics(inputAggregated);
-			double resultAggregated = Precision.round(statAggregated.getVariance(), precision);
+			double resultAggregated = statAggregated.getVariance();
 	
-			assertTrue(resultAggregated == aggregatedReturned);
+			assertEquals(resultAggregated, aggregatedReturned, tolerance * Math.max(1, Math.abs(resultAggregated)));
 		}
     }
     
@@ -591,10 +592,10 @@ public class SampleVarianceDoubleTest {
     	
     	for(WellSetDouble set : collection) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(set), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(set), precision);			
+    		double result = aggregatedResultMap.get(set);
+			double returned = aggregatedReturnedMap.get(set);			
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     }
     
@@ -635,10 +636,10 @@ public class SampleVarianceDoubleTest {
     	
     	for(WellSetDouble set : setArray) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(set), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(set), precision);
+    		double result = aggregatedResultMap.get(set);
+			double returned = aggregatedReturnedMap.get(set);
 			
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     	
     }    
@@ -656,7 +657,7 @@ public class SampleVarianceDoubleTest {
 			int end = (begin + 4) + random.nextInt(size - (begin + 4) + 1);
 			
     		List<Double> resultList = new ArrayList<Double>();
-    		double aggregatedReturned = Precision.round(variance.setsAggregated(plate.dataSet(), begin, end - begin), precision);
+    		double aggregatedReturned = variance.setsAggregated(plate.dataSet(), begin, end - begin);
     		
     		for(WellDouble well : plate) {
 				resultList.addAll(well.data().subList(begin, end));
@@ -669,9 +670,9 @@ public class SampleVarianceDoubleTest {
 			}
 			
 			DescriptiveStatistics statAggregated = new DescriptiveStatistics(inputAggregated);
-			double resultAggregated = Precision.round(statAggregated.getVariance(), precision);
+			double resultAggregated = statAggregated.getVariance();
 	
-			assertTrue(resultAggregated == aggregatedReturned);
+			assertEquals(resultAggregated, aggregatedReturned, tolerance * Math.max(1, Math.abs(resultAggregated)));
 		}
     }
     
@@ -717,10 +718,10 @@ public class SampleVarianceDoubleTest {
     	
     	for(WellSetDouble set : collection) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(set), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(set), precision);
+    		double result = aggregatedResultMap.get(set);
+			double returned = aggregatedReturnedMap.get(set);
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     }
     
@@ -766,10 +767,10 @@ public class SampleVarianceDoubleTest {
     	
     	for(WellSetDouble plate : setArrayIndices) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(plate), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(plate), precision);
+    		double result = aggregatedResultMap.get(plate);
+			double returned = aggregatedReturnedMap.get(plate);
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     }
     
@@ -0,0 +1,331 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.stat.statinteger;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Map;
+
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.integerflex.math.AdditionInteger;
+import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.github.jessemull.microflex.integerflex.stat.IncrementalSummaryInteger;
+import com.github.jessemull.microflex.integerflex.stat.SummaryInteger;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * This class tests the methods in the integer incremental summary class. The
+ * running summaries are compared to the commons math descriptive statistics
+ * after values are appended to and removed from the tracked wells.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IncrementalSummaryIntegerTest {
+
+	/* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random well and lists */
+
+	private static int minValue = 0;                // Minimum integer value for wells
+	private static int maxValue = 100;              // Maximum integer value for wells
+	private static double delta = 1e-8;             // Relative tolerance for results
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = 5;
+	private static int columns = 4;
+	private static int length = 10;
+	private static int cycles = 5;
+
+    /* Value of false redirects System.err */
+
+	private static boolean error = true;
+	private static PrintStream originalOut = System.out;
+
+	/**
+	 * Redirects system error.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		if(error) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+	}
+
+	/**
+	 * Toggles system error.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+	}
+
+    /* -------------------------- Appended values --------------------------- */
+
+    /**
+     * Tests the well summaries after values are appended to the plate wells.
+     */
+	@Test
+    public void testPlate() {
+
+		PlateInteger plate = randomPlate();
+		IncrementalSummaryInteger incremental = new IncrementalSummaryInteger(plate);
+
+		for(int i = 0; i < cycles; i++) {
+
+			Map<WellInteger, SummaryInteger> returnedMap = incremental.summaries();
+
+			assertEquals(plate.size(), returnedMap.size());
+
+			for(WellInteger well : plate) {
+				assertSummary(stat(well), returnedMap.get(well));
+				assertSummary(stat(well), incremental.summary(well));
+			}
+
+			assertSummary(stat(plate), incremental.aggregated());
+
+			for(WellInteger well : plate) {
+				well.add(RandomUtil.randomIntegerList(minValue, maxValue, 3).toArray(new Integer[3]));
+			}
+		}
+    }
+
+	/**
+	 * Tests the summary of a single well after values are appended.
+	 */
+	@Test
+	public void testWell() {
+
+		WellInteger well = new WellInteger(1, 1, RandomUtil.randomIntegerList(minValue, maxValue, length));
+		IncrementalSummaryInteger incremental = new IncrementalSummaryInteger(well);
+
+		for(int i = 0; i < cycles; i++) {
+
+			assertSummary(stat(well), incremental.summary(well));
+
+			well.add(RandomUtil.randomIntegerList(minValue, maxValue, 1).get(0));
+			well.add(RandomUtil.randomIntegerList(minValue, maxValue, 2));
+		}
+	}
+
+	/* --------------------------- Changed values --------------------------- */
+
+	/**
+	 * Tests the well summaries after values are replaced, removed and rewritten.
+	 */
+	@Test
+	public void testChanged() {
+
+		PlateInteger plate = randomPlate();
+		IncrementalSummaryInteger incremental = new IncrementalSummaryInteger(plate);
+		AdditionInteger addition = new AdditionInteger();
+
+		incremental.summaries();
+
+		for(WellInteger well : plate) {
+
+			switch(well.column() % 4) {
+			    case 0:  well.replaceData(RandomUtil.randomIntegerList(minValue, maxValue, length)); break;
+			    case 1:  well.removeRange(0, 2); break;
+			    case 2:  well.data().set(0, maxValue + 1); well.dataModified(); break;
+			    default: addition.wellsInPlace(well, 10); break;
+			}
+		}
+
+		for(WellInteger well : plate) {
+			assertSummary(stat(well), incremental.summary(well));
+		}
+
+		for(WellInteger well : plate) {
+			well.clear();
+			well.add(RandomUtil.randomIntegerList(minValue, maxValue, length));
+		}
+
+		assertSummary(stat(plate), incremental.aggregated());
+	}
+
+	/**
+	 * Tests the well set summaries after wells are added and removed.
+	 */
+	@Test
+	public void testSet() {
+
+		WellSetInteger set = randomPlate().dataSet();
+		IncrementalSummaryInteger incremental = new IncrementalSummaryInteger(set);
+
+		assertSummary(stat(set), incremental.aggregated());
+
+		WellInteger removed = set.first();
+		set.remove(removed);
+		set.add(new WellInteger(rows + 1, 1, RandomUtil.randomIntegerList(minValue, maxValue, length)));
+
+		Map<WellInteger, SummaryInteger> returnedMap = incremental.summaries();
+
+		assertEquals(set.size(), returnedMap.size());
+		assertFalse(returnedMap.containsKey(removed));
+		assertSummary(stat(set), incremental.aggregated());
+
+		incremental.reset();
+
+		assertSummary(stat(set), incremental.aggregated());
+	}
+
+	/**
+	 * Tests the summary of single wells after wells are added, replaced and
+	 * removed from the set.
+	 */
+	@Test
+	public void testSetWell() {
+
+		WellSetInteger set = randomPlate().dataSet();
+		IncrementalSummaryInteger incremental = new IncrementalSummaryInteger(set);
+
+		for(WellInteger well : set) {
+			assertSummary(stat(well), incremental.summary(well));
+		}
+
+		WellInteger removed = set.first();
+		WellInteger replaced = set.last();
+		WellInteger added = new WellInteger(rows + 1, 1, RandomUtil.randomIntegerList(minValue, maxValue, length));
+		WellInteger replacement = new WellInteger(replaced.row(), replaced.column(),
+				RandomUtil.randomIntegerList(minValue, maxValue, length));
+
+		set.remove(removed);
+		set.remove(replaced);
+		set.add(replacement);
+		set.add(added);
+
+		assertSummary(stat(added), incremental.summary(added));
+		assertSummary(stat(replacement), incremental.summary(replaced));
+
+		try {
+			incremental.summary(removed);
+			fail();
+		} catch(IllegalArgumentException e) {}
+
+		assertEquals(set.size(), incremental.summaries().size());
+		assertSummary(stat(set), incremental.aggregated());
+	}
+
+	/**
+	 * Tests the summary of a well that is not tracked.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testNotTracked() {
+		WellInteger well = new WellInteger(1, 1, RandomUtil.randomIntegerList(minValue, maxValue, length));
+		new IncrementalSummaryInteger(well).summary(new WellInteger(1, 2));
+	}
+
+    /* --------------------------- Helper Methods --------------------------- */
+
+	/**
+	 * Returns a random plate where each well holds the same number of values.
+	 * @return    the plate
+	 */
+	private static PlateInteger randomPlate() {
+		return RandomUtil.randomPlateInteger(rows, columns, minValue, maxValue, length, "Plate");
+	}
+
+    /**
+     * Returns the commons math descriptive statistics for the well values.
+     * @param    Iterable<WellInteger>    the wells
+     * @return                           the statistics
+     */
+    private static DescriptiveStatistics stat(Iterable<WellInteger> wells) {
+
+    	DescriptiveStatistics stat = new DescriptiveStatistics();
+
+    	for(WellInteger well : wells) {
+    		for(double db : well) {
+    			stat.addValue(db);
+    		}
+    	}
+
+    	return stat;
+    }
+
+    /**
+     * Returns the commons math descriptive statistics for the well values.
+     * @param    WellInteger    the well
+     * @return                 the statistics
+     */
+    private static DescriptiveStatistics stat(WellInteger well) {
+
+    	DescriptiveStatistics stat = new DescriptiveStatistics();
+
+    	for(double db : well) {
+    		stat.addValue(db);
+    	}
+
+    	return stat;
+    }
+
+    /**
+     * Compares the summary to the commons math descriptive statistics.
+     * @param    DescriptiveStatistics    the expected statistics
+     * @param    SummaryInteger            the returned summary
+     */
+    private static void assertSummary(DescriptiveStatistics stat, SummaryInteger returned) {
+
+    	assertEquals(stat.getN(), returned.n());
+    	assertClose(stat.getSum(), returned.sum());
+    	assertClose(stat.getMin(), returned.min());
+    	assertClose(stat.getMax(), returned.max());
+    	assertClose(stat.getMean(), returned.mean());
+    	assertClose(stat.getPopulationVariance(), returned.populationVariance());
+    	assertClose(stat.getVariance(), returned.sampleVariance());
+    	assertClose(stat.getSkewness(), returned.skewness());
+    	assertClose(stat.getKurtosis(), returned.kurtosis());
+    }
+
+    /**
+     * Asserts the values are equal within the relative tolerance.
+     * @param    double    the expected value
+     * @param    double    the returned value
+     */
+    private static void assertClose(double expected, double returned) {
+    	double tolerance = delta * Math.max(1.0, Math.abs(expected));
+    	assertEquals(expected, returned, tolerance);
+    }
+
+}
@@ -67,6 +67,7 @@ public class KurtosisIntegerTest {
 	private static int maxValue = 100;           // Maximum integer value for wells
 	private static Random random = new Random();    // Generates random integers
 	private static int precision = 10;              // Precision for double results
+	private static double tolerance = 1e-10;        // Relative tolerance for aggregated results
 	
 	/* The addition operation */
 	
@@ -227,7 +228,7 @@ public class KurtosisIntegerTest {
     	for(PlateInteger plate : array) {
 
     		List<Double> resultList = new ArrayList<Double>();
-    		double aggregatedReturned = Precision.round(kurtosis.platesAggregated(plate), precision);
+    		double aggregatedReturned = kurtosis.platesAggregated(plate);
     		
     		for(WellInteger well : plate) {
 				resultList.addAll(well.toDouble());
@@ -240,9 +241,9 @@ public class KurtosisIntegerTest {
 			}
 			
 			DescriptiveStatistics statAggregated = new DescriptiveStatistics(inputAggregated);
-			double resultAggregated = Precision.round(statAggregated.getKurtosis(), precision);
+			double resultAggregated = statAggregated.getKurtosis();
 
-			assertTrue(resultAggregated == aggregatedReturned);
+			assertEquals(resultAggregated, aggregatedReturned, tolerance * Math.max(1, Math.abs(resultAggregated)));
 		}
     }
     
@@ -278,10 +279,10 @@ public class KurtosisIntegerTest {
     	
     	for(PlateInteger plate : collection) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(plate), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(plate), precision);
+    		double result = aggregatedResultMap.get(plate);
+			double returned = aggregatedReturnedMap.get(plate);
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     }
     
@@ -316,10 +317,10 @@ public class KurtosisIntegerTest {
     	
     	for(PlateInteger plate : array) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(plate), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(plate), precision);
+    		double result = aggregatedResultMap.get(plate);
+			double returned = aggregatedReturnedMap.get(plate);
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     	
     }    
@@ -337,7 +338,7 @@ public class KurtosisIntegerTest {
 			int end = (begin + 4) + random.nextInt(size - (begin + 4) + 1);
 
     	    List<Double> resultList = new ArrayList<Double>();
-    		double aggregatedReturned = Precision.round(kurtosis.platesAggregated(plate, begin, end - begin), precision);
+    		double aggregatedReturned = kurtosis.platesAggregated(plate, begin, end - begin);
     		
     		for(WellInteger well : plate) {
 				resultList.addAll(well.toDouble().subList(begin, end));
@@ -350,9 +351,9 @@ public class KurtosisIntegerTest {
 			}
 			
 			DescriptiveStatistics statAggregated = new DescriptiveStatistics(inputAggregated);
-			double aggregatedResult = Precision.round(statAggregated.getKurtosis(), precision);
+			double aggregatedResult = statAggregated.getKurtosis();
 	
-			assertTrue(aggregatedResult == aggregatedReturned);
+			assertEquals(aggregatedResult, aggregatedReturned, tolerance * Math.max(1, Math.abs(aggregatedResult)));
 		}
     }
     
@@ -394,10 +395,10 @@ public class KurtosisIntegerTest {
     	
     	for(PlateInteger plate : collection) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(plate), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(plate), precision);
+    		double result = aggregatedResultMap.get(plate);
+			double returned = aggregatedReturnedMap.get(plate);
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     }
     
@@ -437,10 +438,10 @@ public class KurtosisIntegerTest {
     	
     	for(PlateInteger plate : arrayIndices) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(plate), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(plate), precision);
+    		double result = aggregatedResultMap.get(plate);
+			double returned = aggregatedReturnedMap.get(plate);
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     }
     
@@ -534,7 +535,7 @@ public class KurtosisIntegerTest {
     	for(PlateInteger plate : array) {
 
     		List<Double> resultList = new ArrayList<Double>();
-    		double aggregatedReturned = Precision.round(kurtosis.setsAggregated(plate.dataSet()), precision);
+    		double aggregatedReturned = kurtosis.setsAggregated(plate.dataSet());
     		
     		for(WellInteger well : plate) {
 				resultList.addAll(well.toDouble());
@@ -547,9 +548,9 @@ public class KurtosisIntegerTest {
 			}
 			
 			DescriptiveStatistics statAggregated = new DescriptiveStatistics(inputAggregated);
-			double resultAggregated = Precision.round(statAggregated.getKurtosis(), precision);
+			double resultAggregated = statAggregated.getKurtosis();
 	
-			assertTrue(resultAggregated == aggregatedReturned);
+			assertEquals(resultAggregated, aggregatedReturned, tolerance * Math.max(1, Math.abs(resultAggregated)));
 		}
     }
     
@@ -590,10 +591,10 @@ public class KurtosisIntegerTest {
     	
     	for(WellSetInteger set : collection) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(set), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(set), precision);			
+    		double result = aggregatedResultMap.get(set);
+			double returned = aggregatedReturnedMap.get(set);			
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     }
     
@@ -634,10 +635,10 @@ public class KurtosisIntegerTest {
     	
     	for(WellSetInteger set : setArray) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(set), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(set), precision);
+    		double result = aggregatedResultMap.get(set);
+			double returned = aggregatedReturnedMap.get(set);
 			
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     	
     }    
@@ -655,7 +656,7 @@ public class KurtosisIntegerTest {
 			int end = (begin + 4) + random.nextInt(size - (begin + 4) + 1);
 			
     		List<Double> resultList = new ArrayList<Double>();
-    		double aggregatedReturned = Precision.round(kurtosis.setsAggregated(plate.dataSet(), begin, end - begin), precision);
+    		double aggregatedReturned = kurtosis.setsAggregated(plate.dataSet(), begin, end - begin);
     		
     		for(WellInteger well : plate) {
 				resultList.addAll(well.toDouble().subList(begin, end));
@@ -668,9 +669,9 @@ public class KurtosisIntegerTest {
 			}
 			
 			DescriptiveStatistics statAggregated = new DescriptiveStatistics(inputAggregated);
-			double resultAggregated = Precision.round(statAggregated.getKurtosis(), precision);
+			double resultAggregated = statAggregated.getKurtosis();
 	
-			assertTrue(resultAggregated == aggregatedReturned);
+			assertEquals(resultAggregated, aggregatedReturned, tolerance * Math.max(1, Math.abs(resultAggregated)));
 		}
     }
     
@@ -716,10 +717,10 @@ public class KurtosisIntegerTest {
     	
     	for(WellSetInteger set : collection) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(set), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(set), precision);
+    		double result = aggregatedResultMap.get(set);
+			double returned = aggregatedReturnedMap.get(set);
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     }
     
@@ -765,10 +766,10 @@ public class KurtosisIntegerTest {
     	
     	for(WellSetInteger plate : setArrayIndices) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(plate), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(plate), precision);
+    		double result = aggregatedResultMap.get(plate);
+			double returned = aggregatedReturnedMap.get(plate);
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     }
     
@@ -0,0 +1,296 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.stat.statinteger;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.github.jessemull.microflex.integerflex.stat.CentralMomentInteger;
+import com.github.jessemull.microflex.integerflex.stat.ChunksInteger;
+import com.github.jessemull.microflex.integerflex.stat.CumulativeSumInteger;
+import com.github.jessemull.microflex.integerflex.stat.DescriptiveStatisticInteger;
+import com.github.jessemull.microflex.integerflex.stat.MeanInteger;
+import com.github.jessemull.microflex.integerflex.stat.MedianInteger;
+import com.github.jessemull.microflex.integerflex.stat.QuantileInteger;
+import com.github.jessemull.microflex.integerflex.stat.QuartilesInteger;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * This class tests the integer statistics calculated using a pool match the
+ * statistics calculated sequentially.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ParallelStatisticIntegerTest {
+
+	/* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random well and lists */
+
+	private static int minValue = 1;      // Minimum integer value for wells
+	private static int maxValue = 100;    // Maximum integer value for wells
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = 5;
+	private static int columns = 4;
+	private static int length = 10;
+	private static int begin = 2;
+	private static int lengthIndices = 5;
+	private static int plateNumber = 6;
+	private static int p = 2;
+	private static double quantile = 0.25;
+	private static double[] weights = new double[length];
+	private static PlateInteger[] array = new PlateInteger[plateNumber];
+	private static WellSetInteger[] sets = new WellSetInteger[plateNumber];
+
+	/* The pool shared by the parallel statistics */
+
+	private static ForkJoinPool pool = new ForkJoinPool(4);
+
+    /* Value of false redirects System.err */
+
+	private static boolean error = true;
+	private static PrintStream originalOut = System.out;
+
+	/**
+	 * Generates random objects and numbers for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		if(error) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+
+		for(int j = 0; j < array.length; j++) {
+
+			array[j] = RandomUtil.randomPlateInteger(
+					rows, columns, minValue, maxValue, length, "Plate1-" + j);
+
+			sets[j] = array[j].dataSet();
+			sets[j].setLabel("Set1-" + j);
+		}
+
+		for(int i = 0; i < weights.length; i++) {
+			weights[i] = (i + 1) / (double) weights.length;
+		}
+	}
+
+	/**
+	 * Toggles system error and shuts down the pool.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+		pool.shutdown();
+	}
+
+    /* ------------------------ Descriptive statistics ---------------------- */
+
+	/**
+	 * Tests the descriptive statistics calculated using a pool.
+	 */
+	@Test
+	public void testDescriptive() {
+
+		DescriptiveStatisticInteger[] statistics = { new MeanInteger(), new MedianInteger() };
+		DescriptiveStatisticInteger[] parallel = { new MeanInteger(), new MedianInteger() };
+
+		for(int i = 0; i < statistics.length; i++) {
+
+			parallel[i].setPool(pool);
+
+			for(PlateInteger plate : array) {
+				assertEquals(statistics[i].plate(plate), parallel[i].plate(plate));
+				assertEquals(statistics[i].plate(plate, begin, lengthIndices),
+						parallel[i].plate(plate, begin, lengthIndices));
+				assertEquals(statistics[i].set(plate.dataSet()), parallel[i].set(plate.dataSet()));
+			}
+
+			assertEquals(statistics[i].platesAggregated(array), parallel[i].platesAggregated(array));
+			assertEquals(statistics[i].platesAggregated(Arrays.asList(array), begin, lengthIndices),
+					parallel[i].platesAggregated(Arrays.asList(array), begin, lengthIndices));
+			assertEquals(statistics[i].setsAggregated(sets), parallel[i].setsAggregated(sets));
+			assertEquals(statistics[i].setsAggregated(sets, begin, lengthIndices),
+					parallel[i].setsAggregated(sets, begin, lengthIndices));
+		}
+	}
+
+	/**
+	 * Tests the weighted statistics calculated using a pool.
+	 */
+	@Test
+	public void testWeights() {
+
+		MeanInteger mean = new MeanInteger();
+		MeanInteger parallel = new MeanInteger();
+		parallel.setPool(pool);
+
+		for(PlateInteger plate : array) {
+			assertEquals(mean.plate(plate, weights), parallel.plate(plate, weights));
+			assertEquals(mean.set(plate.dataSet(), weights), parallel.set(plate.dataSet(), weights));
+		}
+
+		assertEquals(mean.platesAggregated(array, weights), parallel.platesAggregated(array, weights));
+		assertEquals(mean.platesAggregated(Arrays.asList(array), weights),
+				parallel.platesAggregated(Arrays.asList(array), weights));
+	}
+
+	/**
+	 * Tests the enabling and disabling of parallel execution.
+	 */
+	@Test
+	public void testSetParallel() {
+
+		MeanInteger mean = new MeanInteger();
+
+		assertFalse(mean.isParallel());
+		assertNull(mean.pool());
+
+		mean.setParallel(true);
+
+		assertTrue(mean.isParallel());
+		assertNotNull(mean.pool());
+
+		mean.setParallel(false);
+
+		assertFalse(mean.isParallel());
+		assertNull(mean.pool());
+	}
+
+    /* --------------------------- List statistics -------------------------- */
+
+	/**
+	 * Tests the list statistics calculated using a pool.
+	 */
+	@Test
+	public void testList() {
+
+		QuartilesInteger quartiles = new QuartilesInteger();
+		QuartilesInteger parallel = new QuartilesInteger();
+		parallel.setPool(pool);
+
+		for(PlateInteger plate : array) {
+			assertEquals(quartiles.plate(plate), parallel.plate(plate));
+			assertEquals(quartiles.set(plate.dataSet()), parallel.set(plate.dataSet()));
+		}
+
+		assertEquals(quartiles.platesAggregated(array), parallel.platesAggregated(array));
+		assertEquals(quartiles.setsAggregated(sets), parallel.setsAggregated(sets));
+	}
+
+	/**
+	 * Tests the weighted list statistics calculated using a pool.
+	 */
+	@Test
+	public void testListWeights() {
+
+		CumulativeSumInteger sum = new CumulativeSumInteger();
+		CumulativeSumInteger parallel = new CumulativeSumInteger();
+		parallel.setPool(pool);
+
+		for(PlateInteger plate : array) {
+			assertEquals(sum.plate(plate, weights), parallel.plate(plate, weights));
+		}
+
+		assertEquals(sum.platesAggregated(array, weights), parallel.platesAggregated(array, weights));
+	}
+
+    /* ------------------------- Quantile statistics ------------------------ */
+
+	/**
+	 * Tests the quantile statistics calculated using a pool.
+	 */
+	@Test
+	public void testQuantile() {
+
+		CentralMomentInteger moment = new CentralMomentInteger();
+		CentralMomentInteger parallel = new CentralMomentInteger();
+		parallel.setPool(pool);
+
+		for(PlateInteger plate : array) {
+			assertEquals(moment.plate(plate, p), parallel.plate(plate, p));
+			assertEquals(moment.set(plate.dataSet(), p), parallel.set(plate.dataSet(), p));
+		}
+
+		assertEquals(moment.platesAggregated(array, p), parallel.platesAggregated(array, p));
+		assertEquals(moment.setsAggregated(sets, p), parallel.setsAggregated(sets, p));
+	}
+
+	/**
+	 * Tests the rational quantile statistics calculated using a pool.
+	 */
+	@Test
+	public void testQuantileRational() {
+
+		QuantileInteger statistic = new QuantileInteger();
+		QuantileInteger parallel = new QuantileInteger();
+		parallel.setPool(pool);
+
+		for(PlateInteger plate : array) {
+			assertEquals(statistic.plate(plate, quantile), parallel.plate(plate, quantile));
+		}
+
+		assertEquals(statistic.platesAggregated(array, quantile), parallel.platesAggregated(array, quantile));
+	}
+
+	/**
+	 * Tests the quantile list statistics calculated using a pool.
+	 */
+	@Test
+	public void testQuantileList() {
+
+		ChunksInteger chunks = new ChunksInteger();
+		ChunksInteger parallel = new ChunksInteger();
+		parallel.setPool(pool);
+
+		for(PlateInteger plate : array) {
+			assertEquals(chunks.plate(plate, p), parallel.plate(plate, p));
+		}
+
+		assertEquals(chunks.platesAggregated(array, p), parallel.platesAggregated(array, p));
+	}
+
+}
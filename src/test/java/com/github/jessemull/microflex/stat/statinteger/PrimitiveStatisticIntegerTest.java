@@ -0,0 +1,292 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.stat.statinteger;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellInteger;
+import com.github.jessemull.microflex.integerflex.stat.CentralMomentInteger;
+import com.github.jessemull.microflex.integerflex.stat.CumulativeSumInteger;
+import com.github.jessemull.microflex.integerflex.stat.DescriptiveStatisticInteger;
+import com.github.jessemull.microflex.integerflex.stat.DescriptiveStatisticListInteger;
+import com.github.jessemull.microflex.integerflex.stat.GeometricMeanInteger;
+import com.github.jessemull.microflex.integerflex.stat.InterquartileRangeInteger;
+import com.github.jessemull.microflex.integerflex.stat.KurtosisInteger;
+import com.github.jessemull.microflex.integerflex.stat.MaxInteger;
+import com.github.jessemull.microflex.integerflex.stat.MeanInteger;
+import com.github.jessemull.microflex.integerflex.stat.MedianDeviationInteger;
+import com.github.jessemull.microflex.integerflex.stat.MedianInteger;
+import com.github.jessemull.microflex.integerflex.stat.MinInteger;
+import com.github.jessemull.microflex.integerflex.stat.ModeInteger;
+import com.github.jessemull.microflex.integerflex.stat.PopulationStandardDeviationInteger;
+import com.github.jessemull.microflex.integerflex.stat.PopulationVarianceInteger;
+import com.github.jessemull.microflex.integerflex.stat.PowerDeviationInteger;
+import com.github.jessemull.microflex.integerflex.stat.QuantileStatisticInteger;
+import com.github.jessemull.microflex.integerflex.stat.QuartileDeviationInteger;
+import com.github.jessemull.microflex.integerflex.stat.QuartileSkewnessInteger;
+import com.github.jessemull.microflex.integerflex.stat.QuartilesInteger;
+import com.github.jessemull.microflex.integerflex.stat.RangeInteger;
+import com.github.jessemull.microflex.integerflex.stat.SampleStandardDeviationInteger;
+import com.github.jessemull.microflex.integerflex.stat.SampleVarianceInteger;
+import com.github.jessemull.microflex.integerflex.stat.SkewnessInteger;
+import com.github.jessemull.microflex.integerflex.stat.StandardErrorInteger;
+import com.github.jessemull.microflex.integerflex.stat.SumInteger;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * This class tests that well statistics calculated from the integer well data
+ * match the statistics calculated from a list of doubles.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class PrimitiveStatisticIntegerTest {
+
+	/* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random well and lists */
+
+	private static int minValue = 1;             // Minimum integer value for wells
+	private static int maxValue = 100;           // Maximum integer value for wells
+	private static double tolerance = 1e-10;     // Relative tolerance for summary results
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = 5;
+	private static int columns = 4;
+	private static int length = 50;
+	private static int begin = 10;
+	private static int lengthIndices = 25;
+
+    /* Value of false redirects System.err */
+
+	private static boolean error = true;
+	private static PrintStream originalOut = System.out;
+
+	/**
+	 * Redirects system error.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		if(error) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+	}
+
+	/**
+	 * Toggles system error.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+	}
+
+    /* ---------------------------- Integer kernels ------------------------- */
+
+	/**
+	 * Tests the statistics with integer kernels return the list results.
+	 */
+	@Test
+	public void testKernels() {
+
+		DescriptiveStatisticInteger[] statistics = {
+				new SumInteger(), new MeanInteger(), new MinInteger(),
+				new MaxInteger(), new RangeInteger(), new ModeInteger(),
+				new MedianInteger(), new MedianDeviationInteger(),
+				new InterquartileRangeInteger(), new QuartileDeviationInteger(),
+				new QuartileSkewnessInteger() };
+
+		PlateInteger plate = randomPlate();
+
+		for(DescriptiveStatisticInteger statistic : statistics) {
+
+			assertTrue(statistic.isPrimitive());
+
+			for(WellInteger well : plate) {
+				List<Double> list = well.toDouble();
+				assertEquals(statistic.calculate(list), statistic.well(well), 0.0);
+				assertEquals(statistic.calculate(list, begin, lengthIndices),
+						statistic.well(well, begin, lengthIndices), 0.0);
+			}
+		}
+	}
+
+	/**
+	 * Tests the list statistics with integer kernels return the list results.
+	 */
+	@Test
+	public void testListKernels() {
+
+		DescriptiveStatisticListInteger[] statistics = {
+				new CumulativeSumInteger(), new QuartilesInteger() };
+
+		PlateInteger plate = randomPlate();
+
+		for(DescriptiveStatisticListInteger statistic : statistics) {
+
+			assertTrue(statistic.isPrimitive());
+
+			for(WellInteger well : plate) {
+				List<Double> list = well.toDouble();
+				assertEquals(statistic.calculate(list), statistic.well(well));
+				assertEquals(statistic.calculate(list, begin, lengthIndices),
+						statistic.well(well, begin, lengthIndices));
+			}
+		}
+	}
+
+	/**
+	 * Tests the central moment and power deviation kernels return the list
+	 * results.
+	 */
+	@Test
+	public void testQuantileKernels() {
+
+		QuantileStatisticInteger[] statistics = {
+				new CentralMomentInteger(), new PowerDeviationInteger() };
+
+		PlateInteger plate = randomPlate();
+
+		for(QuantileStatisticInteger statistic : statistics) {
+			for(WellInteger well : plate) {
+				List<Double> list = well.toDouble();
+				for(int p = 1; p <= 4; p++) {
+					assertEquals(statistic.calculate(list, p), statistic.well(well, p), 0.0);
+					assertEquals(statistic.calculate(list, begin, lengthIndices, p),
+							statistic.well(well, begin, lengthIndices, p), 0.0);
+				}
+			}
+		}
+	}
+
+    /* ---------------------------- Summary kernels ------------------------- */
+
+	/**
+	 * Tests the mergeable moment statistics calculated from a summary of the
+	 * integer well data.
+	 */
+	@Test
+	public void testSummaryKernels() {
+
+		DescriptiveStatisticInteger[] statistics = {
+				new PopulationVarianceInteger(), new SampleVarianceInteger(),
+				new PopulationStandardDeviationInteger(),
+				new SampleStandardDeviationInteger(), new StandardErrorInteger(),
+				new SkewnessInteger(), new KurtosisInteger() };
+
+		PlateInteger plate = randomPlate();
+
+		for(DescriptiveStatisticInteger statistic : statistics) {
+
+			assertTrue(statistic.isMergeable());
+			assertTrue(statistic.isPrimitive());
+
+			for(WellInteger well : plate) {
+
+				List<Double> list = well.toDouble();
+
+				double result = statistic.calculate(list);
+				assertEquals(result, statistic.well(well), tolerance * Math.max(1, Math.abs(result)));
+
+				result = statistic.calculate(list, begin, lengthIndices);
+				assertEquals(result, statistic.well(well, begin, lengthIndices),
+						tolerance * Math.max(1, Math.abs(result)));
+			}
+		}
+	}
+
+    /* --------------------------- List statistics -------------------------- */
+
+	/**
+	 * Tests statistics without an integer kernel use the list of doubles.
+	 */
+	@Test
+	public void testListFallback() {
+
+		GeometricMeanInteger mean = new GeometricMeanInteger();
+		PlateInteger plate = randomPlate();
+
+		assertFalse(mean.isPrimitive());
+
+		for(WellInteger well : plate) {
+			assertEquals(mean.calculate(well.toDouble()), mean.well(well), 0.0);
+			assertEquals(mean.calculate(well.toDouble(), begin, lengthIndices),
+					mean.well(well, begin, lengthIndices), 0.0);
+		}
+	}
+
+	/**
+	 * Tests the range of the values between the indices.
+	 */
+	@Test
+	public void testRangeIndices() {
+
+		RangeInteger range = new RangeInteger();
+		List<Double> list = Arrays.asList(5.0, 40.0, 12.0, 30.0, 18.0, 90.0);
+
+		assertEquals(28.0, range.calculate(list, 1, 4), 0.0);
+		assertEquals(28.0, range.calculate(new int[]{ 5, 40, 12, 30, 18, 90 }, 1, 4), 0.0);
+		assertEquals(85.0, range.calculate(list), 0.0);
+	}
+
+    /* --------------------------- Helper Methods --------------------------- */
+
+	/**
+	 * Returns a plate where every well holds the same number of random values.
+	 * @return    the plate
+	 */
+	private static PlateInteger randomPlate() {
+
+		PlateInteger plate = new PlateInteger(rows, columns, "Plate");
+
+		for(int i = 0; i < rows; i++) {
+			for(int j = 1; j <= columns; j++) {
+				plate.addWells(new WellInteger(i, j, RandomUtil.randomIntegerList(minValue, maxValue, length)));
+			}
+		}
+
+		return plate;
+	}
+
+}
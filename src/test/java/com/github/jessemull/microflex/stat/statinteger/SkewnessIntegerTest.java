@@ -66,6 +66,7 @@ public class SkewnessIntegerTest {
 	private static int maxValue = 100;           // Maximum integer value for wells
 	private static Random random = new Random();    // Generates random integers
 	private static int precision = 10;              // Precision for integer results
+	private static double tolerance = 1e-10;        // Relative tolerance for aggregated results
 	
 	/* The addition operation */
 	
@@ -226,7 +227,7 @@ public class SkewnessIntegerTest {
     	for(PlateInteger plate : array) {
 
     		List<Double> resultList = new ArrayList<Double>();
-    		double aggregatedReturned = Precision.round(mean.platesAggregated(plate), precision);
+    		double aggregatedReturned = mean.platesAggregated(plate);
     		
     		for(WellInteger well : plate) {
 				resultList.addAll(well.toDouble());
@@ -239,9 +240,9 @@ public class SkewnessIntegerTest {
 			}
 			
 			DescriptiveStatistics statAggregated = new DescriptiveStatistics(inputAggregated);
-			double resultAggregated = Precision.round(statAggregated.getSkewness(), precision);
+			double resultAggregated = statAggregated.getSkewness();
 
-			assertTrue(resultAggregated == aggregatedReturned);
+			assertEquals(resultAggregated, aggregatedReturned, tolerance * Math.max(1, Math.abs(resultAggregated)));
 		}
     }
     
@@ -277,10 +278,10 @@ public class SkewnessIntegerTest {
     	
     	for(PlateInteger plate : collection) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(plate), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(plate), precision);
+    		double result = aggregatedResultMap.get(plate);
+			double returned = aggregatedReturnedMap.get(plate);
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     }
     
@@ -315,10 +316,10 @@ public class SkewnessIntegerTest {
     	
     	for(PlateInteger plate : array) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(plate), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(plate), precision);
+    		double result = aggregatedResultMap.get(plate);
+			double returned = aggregatedReturnedMap.get(plate);
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     	
     }    
@@ -336,7 +337,7 @@ public class SkewnessIntegerTest {
 			int end = (begin + 4) + random.nextInt(size - (begin + 4) + 1);
 
     	    List<Double> resultList = new ArrayList<Double>();
-    		double aggregatedReturned = Precision.round(mean.platesAggregated(plate, begin, end - begin), precision);
+    		double aggregatedReturned = mean.platesAggregated(plate, begin, end - begin);
     		
     		for(WellInteger well : plate) {
 				resultList.addAll(well.toDouble().subList(begin, end));
@@ -349,9 +350,9 @@ public class SkewnessIntegerTest {
 			}
 			
 			DescriptiveStatistics statAggregated = new DescriptiveStatistics(inputAggregated);
-			double aggregatedResult = Precision.round(statAggregated.getSkewness(), precision);
+			double aggregatedResult = statAggregated.getSkewness();
 	
-			assertTrue(aggregatedResult == aggregatedReturned);
+			assertEquals(aggregatedResult, aggregatedReturned, tolerance * Math.max(1, Math.abs(aggregatedResult)));
 		}
     }
     
@@ -393,10 +394,10 @@ public class SkewnessIntegerTest {
     	
     	for(PlateInteger plate : collection) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(plate), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(plate), precision);
+    		double result = aggregatedResultMap.get(plate);
+			double returned = aggregatedReturnedMap.get(plate);
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     }
     
@@ -436,10 +437,10 @@ public class SkewnessIntegerTest {
     	
     	for(PlateInteger plate : arrayIndices) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(plate), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(plate), precision);
+    		double result = aggregatedResultMap.get(plate);
+			double returned = aggregatedReturnedMap.get(plate);
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     }
     
@@ -533,7 +534,7 @@ public class SkewnessIntegerTest {
     	for(PlateInteger plate : array) {
 
     		List<Double> resultList = new ArrayList<Double>();
-    		double aggregatedReturned = Precision.round(mean.setsAggregated(plate.dataSet()), precision);
+    		double aggregatedReturned = mean.setsAggregated(plate.dataSet());
     		
     		for(WellInteger well : plate) {
 				resultList.addAll(well.toDouble());
@@ -546,9 +547,9 @@ public class SkewnessIntegerTest {
 			}
 			
 			DescriptiveStatistics statAggregated = new DescriptiveStatistics(inputAggregated);
-			double resultAggregated = Precision.round(statAggregated.getSkewness(), precision);
+			double resultAggregated = statAggregated.getSkewness();
 	
-			assertTrue(resultAggregated == aggregatedReturned);
+			assertEquals(resultAggregated, aggregatedReturned, tolerance * Math.max(1, Math.abs(resultAggregated)));
 		}
     }
     
@@ -589,10 +590,10 @@ public class SkewnessIntegerTest {
     	
     	for(WellSetInteger set : collection) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(set), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(set), precision);			
+    		double result = aggregatedResultMap.get(set);
+			double returned = aggregatedReturnedMap.get(set);			
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     }
     
@@ -633,10 +634,10 @@ public class SkewnessIntegerTest {
     	
     	for(WellSetInteger set : setArray) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(set), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(set), precision);
+    		double result = aggregatedResultMap.get(set);
+			double returned = aggregatedReturnedMap.get(set);
 			
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     	
     }    
@@ -654,7 +655,7 @@ public class SkewnessIntegerTest {
 			int end = (begin + 4) + random.nextInt(size - (begin + 4) + 1);
 			
     		List<Double> resultList = new ArrayList<Double>();
-    		double aggregatedReturned = Precision.round(mean.setsAggregated(plate.dataSet(), begin, end - begin), precision);
+    		double aggregatedReturned = mean.setsAggregated(plate.dataSet(), begin, end - begin);
     		
     		for(WellInteger well : plate) {
 				resultList.addAll(well.toDouble().subList(begin, end));
@@ -667,9 +668,9 @@ public class SkewnessIntegerTest {
 			}
 			
 			DescriptiveStatistics statAggregated = new DescriptiveStatistics(inputAggregated);
-			double resultAggregated = Precision.round(statAggregated.getSkewness(), precision);
+			double resultAggregated = statAggregated.getSkewness();
 	
-			assertTrue(resultAggregated == aggregatedReturned);
+			assertEquals(resultAggregated, aggregatedReturned, tolerance * Math.max(1, Math.abs(resultAggregated)));
 		}
     }
     
@@ -715,10 +716,10 @@ public class SkewnessIntegerTest {
     	
     	for(WellSetInteger set : collection) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(set), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(set), precision);
+    		double result = aggregatedResultMap.get(set);
+			double returned = aggregatedReturnedMap.get(set);
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     }
     
@@ -764,10 +765,10 @@ public class SkewnessIntegerTest {
     	
     	for(WellSetInteger plate : setArrayIndices) {
     		
-    		double result = Precision.round(aggregatedResultMap.get(plate), precision);
-			double returned = Precision.round(aggregatedReturnedMap.get(plate), precision);
+    		double result = aggregatedResultMap.get(plate);
+			double returned = aggregatedReturnedMap.get(plate);
 
-			assertTrue(result == returned);
+			assertEquals(result, returned, tolerance * Math.max(1, Math.abs(result)));
     	}
     }
     
@@ -0,0 +1,311 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.stat.statinteger;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.StackInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellInteger;
+import com.github.jessemull.microflex.integerflex.stat.CentralMomentInteger;
+import com.github.jessemull.microflex.integerflex.stat.DescriptiveStatisticInteger;
+import com.github.jessemull.microflex.integerflex.stat.MaxInteger;
+import com.github.jessemull.microflex.integerflex.stat.MeanInteger;
+import com.github.jessemull.microflex.integerflex.stat.MedianInteger;
+import com.github.jessemull.microflex.integerflex.stat.PowerDeviationInteger;
+import com.github.jessemull.microflex.integerflex.stat.QuantileStatisticInteger;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * This class tests the stack statistics of the integer descriptive and quantile
+ * statistics against the statistics calculated plate by plate.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class StackStatisticIntegerTest {
+
+	/* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random well and lists */
+
+	private static int minValue = 1;             // Minimum integer value for wells
+	private static int maxValue = 100;           // Maximum integer value for wells
+	private static double tolerance = 1e-10;     // Relative tolerance for reordered sums
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = 5;
+	private static int columns = 4;
+	private static int length = 10;
+	private static int begin = 2;
+	private static int lengthIndices = 5;
+	private static int plateNumber = 4;
+	private static int p = 2;
+	private static PlateInteger[] array = new PlateInteger[plateNumber];
+	private static StackInteger stack;
+
+	/* The statistics */
+
+	private static DescriptiveStatisticInteger[] statistics = {
+		new MeanInteger(), new MaxInteger(), new MedianInteger() };
+	private static QuantileStatisticInteger[] quantiles = {
+		new CentralMomentInteger(), new PowerDeviationInteger() };
+
+    /* Value of false redirects System.err */
+
+	private static boolean error = true;
+	private static PrintStream originalOut = System.out;
+
+	/**
+	 * Generates random objects and numbers for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		if(error) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+
+		for(int j = 0; j < array.length; j++) {
+			array[j] = RandomUtil.randomPlateInteger(
+					rows, columns, minValue, maxValue, length, "Plate1-" + j);
+		}
+
+		stack = new StackInteger(array, "Stack");
+	}
+
+	/**
+	 * Toggles system error.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+	}
+
+    /* ------------------------ Descriptive statistics ---------------------- */
+
+	/**
+	 * Tests the stack statistics match the plate statistics.
+	 */
+	@Test
+	public void testStack() {
+
+		for(DescriptiveStatisticInteger statistic : statistics) {
+
+			Map<PlateInteger, Map<WellInteger, Double>> results = statistic.stack(stack);
+			Map<PlateInteger, Map<WellInteger, Double>> resultsIndices = statistic.stack(stack, begin, lengthIndices);
+
+			assertEquals(stack.size(), results.size());
+
+			for(PlateInteger plate : stack) {
+				assertEquals(statistic.plate(plate), results.get(plate));
+				assertEquals(statistic.plate(plate, begin, lengthIndices), resultsIndices.get(plate));
+			}
+		}
+	}
+
+	/**
+	 * Tests the well statistics across the plates of the stack match the
+	 * statistics of a plate holding the values of every plate.
+	 */
+	@Test
+	public void testStackWells() {
+
+		for(DescriptiveStatisticInteger statistic : statistics) {
+			assertWells(statistic.plate(merged(0, -1)), statistic.stackWells(stack));
+			assertWells(statistic.plate(merged(begin, lengthIndices)),
+					statistic.stackWells(stack, begin, lengthIndices));
+		}
+	}
+
+	/**
+	 * Tests the aggregated stack statistics match the aggregated statistics of
+	 * a plate holding the values of every plate.
+	 */
+	@Test
+	public void testStacksAggregated() {
+
+		for(DescriptiveStatisticInteger statistic : statistics) {
+
+			double result = statistic.stacksAggregated(stack);
+
+			assertClose(statistic.platesAggregated(merged(0, -1)), result);
+			assertClose(statistic.platesAggregated(merged(begin, lengthIndices)),
+					statistic.stacksAggregated(stack, begin, lengthIndices));
+			assertEquals(result, statistic.stacksAggregated(new StackInteger[]{ stack }).get(stack), 0.0);
+		}
+	}
+
+	/**
+	 * Tests the stack statistics calculated using a pool match the sequential
+	 * results.
+	 */
+	@Test
+	public void testStackParallel() {
+
+		MeanInteger parallel = new MeanInteger();
+		parallel.setPool(new ForkJoinPool(4));
+
+		MeanInteger mean = new MeanInteger();
+
+		assertEquals(mean.stack(stack), parallel.stack(stack));
+		assertEquals(mean.stackWells(stack), parallel.stackWells(stack));
+		assertEquals(mean.stackWells(stack, begin, lengthIndices),
+				parallel.stackWells(stack, begin, lengthIndices));
+		assertEquals(mean.stacksAggregated(stack), parallel.stacksAggregated(stack), 0.0);
+	}
+
+    /* ------------------------- Quantile statistics ------------------------ */
+
+	/**
+	 * Tests the quantile stack statistics match the plate statistics.
+	 */
+	@Test
+	public void testQuantileStack() {
+
+		for(QuantileStatisticInteger statistic : quantiles) {
+
+			Map<PlateInteger, Map<WellInteger, Double>> results = statistic.stack(stack, p);
+			Map<PlateInteger, Map<WellInteger, Double>> resultsIndices = statistic.stack(stack, begin, lengthIndices, p);
+
+			assertEquals(stack.size(), results.size());
+
+			for(PlateInteger plate : stack) {
+				assertEquals(statistic.plate(plate, p), results.get(plate));
+				assertEquals(statistic.plate(plate, begin, lengthIndices, p), resultsIndices.get(plate));
+			}
+		}
+	}
+
+	/**
+	 * Tests the quantile well statistics across the plates of the stack match
+	 * the statistics of a plate holding the values of every plate.
+	 */
+	@Test
+	public void testQuantileStackWells() {
+
+		for(QuantileStatisticInteger statistic : quantiles) {
+			assertWells(statistic.plate(merged(0, -1), p), statistic.stackWells(stack, p));
+			assertWells(statistic.plate(merged(begin, lengthIndices), p),
+					statistic.stackWells(stack, begin, lengthIndices, p));
+		}
+	}
+
+	/**
+	 * Tests the aggregated quantile stack statistics match the aggregated
+	 * statistics of a plate holding the values of every plate.
+	 */
+	@Test
+	public void testQuantileStacksAggregated() {
+
+		for(QuantileStatisticInteger statistic : quantiles) {
+			assertClose(statistic.platesAggregated(merged(0, -1), p), statistic.stacksAggregated(stack, p));
+			assertClose(statistic.platesAggregated(merged(begin, lengthIndices), p),
+					statistic.stacksAggregated(stack, begin, lengthIndices, p));
+		}
+	}
+
+    /* --------------------------- Helper Methods --------------------------- */
+
+	/**
+	 * Returns a plate where each well holds the values of the well position from
+	 * every plate in the stack. A negative length adds all the values of each
+	 * well.
+	 * @param    int    beginning index of subset
+	 * @param    int    length of subset or -1
+	 * @return          the merged plate
+	 */
+	private static PlateInteger merged(int begin, int length) {
+
+		Map<WellInteger, List<Integer>> values = new TreeMap<WellInteger, List<Integer>>();
+
+		for(PlateInteger plate : stack) {
+
+			for(WellInteger well : plate) {
+
+				if(!values.containsKey(well)) {
+					values.put(well, new ArrayList<Integer>());
+				}
+
+				values.get(well).addAll(length < 0 ? well.data() : well.data().subList(begin, begin + length));
+			}
+		}
+
+		PlateInteger merged = new PlateInteger(rows, columns, "Merged");
+
+		for(Map.Entry<WellInteger, List<Integer>> entry : values.entrySet()) {
+			merged.addWells(new WellInteger(entry.getKey().row(), entry.getKey().column(), entry.getValue()));
+		}
+
+		return merged;
+	}
+
+	/**
+	 * Asserts the well results hold the same wells and results within the
+	 * relative tolerance.
+	 * @param    Map<WellInteger, Double>    the expected results
+	 * @param    Map<WellInteger, Double>    the results
+	 */
+	private static void assertWells(Map<WellInteger, Double> expected, Map<WellInteger, Double> results) {
+
+		assertEquals(expected.keySet(), results.keySet());
+
+		for(WellInteger well : expected.keySet()) {
+			assertClose(expected.get(well), results.get(well));
+		}
+	}
+
+	/**
+	 * Asserts the result is within the relative tolerance of the expected
+	 * result.
+	 * @param    double    the expected result
+	 * @param    double    the result
+	 */
+	private static void assertClose(double expected, double result) {
+		assertEquals(expected, result, tolerance * Math.max(1, Math.abs(expected)));
+	}
+
+}
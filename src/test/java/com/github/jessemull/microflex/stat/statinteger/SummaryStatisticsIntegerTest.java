@@ -0,0 +1,384 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.stat.statinteger;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.github.jessemull.microflex.integerflex.plate.PlateInteger;
+import com.github.jessemull.microflex.integerflex.plate.StackInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellInteger;
+import com.github.jessemull.microflex.integerflex.plate.WellSetInteger;
+import com.github.jessemull.microflex.integerflex.stat.SummaryInteger;
+import com.github.jessemull.microflex.integerflex.stat.SummaryStatisticsInteger;
+import com.github.jessemull.microflex.util.RandomUtil;
+
+/**
+ * This class tests the methods in the integer summary statistics class.
+ * 
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class SummaryStatisticsIntegerTest {
+
+	/* ---------------------------- Local Fields -----------------------------*/
+	
+    /* Minimum and maximum values for random well and lists */
+	
+	private static int minValue = 0;                // Minimum integer value for wells
+	private static int maxValue = 100;              // Maximum integer value for wells
+	private static Random random = new Random();    // Generates random integers
+	private static double delta = 1e-8;             // Relative tolerance for results
+
+	/* The summary statistics operation */
+	
+	private static SummaryStatisticsInteger summary = new SummaryStatisticsInteger();
+
+	/* Random objects and numbers for testing */
+
+	private static int rows = 5;
+	private static int columns = 4;
+	private static int length = 10;
+	private static int plateNumber = 5;
+	private static PlateInteger[] array = new PlateInteger[plateNumber];
+	
+    /* Value of false redirects System.err */
+	
+	private static boolean error = true;
+	private static PrintStream originalOut = System.out;
+
+	/**
+	 * Generates random objects and numbers for testing.
+	 */
+	@BeforeClass
+	public static void setUp() {
+		
+		if(error) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+
+		for(int j = 0; j < array.length; j++) {
+
+			PlateInteger plate = RandomUtil.randomPlateInteger(
+					rows, columns, minValue, maxValue, length, "Plate1-" + j);
+
+			array[j] = plate;
+		}
+	}
+	
+	/**
+	 * Toggles system error.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+	}
+	
+	/* ---------------------------- Constructors -----------------------------*/
+	
+	/**
+	 * Tests the default constructor.
+	 */
+	@Test
+	public void testConstructor() {
+		SummaryStatisticsInteger test = new SummaryStatisticsInteger();
+		assertNotNull(test);
+	}
+	
+    /* ---------------- Well summaries for all plate wells ------------------ */
+    
+    /**
+     * Tests the plate summary method.
+     */
+	@Test
+    public void testPlate() {
+		
+		for(PlateInteger plate : array) {
+
+    		Map<WellInteger, SummaryInteger> returnedMap = summary.plate(plate);
+    		
+    		assertEquals(plate.size(), returnedMap.size());
+    		
+			for(WellInteger well : plate) {
+				assertSummary(new DescriptiveStatistics(values(well)), returnedMap.get(well));
+			}
+		} 
+    }
+    
+    /**
+     * Tests the plate summary method using the values between the indices.
+     */
+    @Test
+    public void testPlateIndices() {
+    	
+    	for(PlateInteger plate : array) {
+
+    		int begin = random.nextInt(length - 5);
+			int end = begin + 5;
+			
+    		Map<WellInteger, SummaryInteger> returnedMap = summary.plate(plate, begin, end - begin);
+    		
+			for(WellInteger well : plate) {
+				
+				double[] input = Arrays.copyOfRange(values(well), begin, end);
+				
+				assertSummary(new DescriptiveStatistics(input), returnedMap.get(well));
+			}
+		} 
+    }
+    
+    /* --------------------- Aggregated plate summaries --------------------- */
+    
+    /**
+     * Tests the aggregated plate summary method.
+     */
+    @Test
+    public void testAggregatedPlate() {
+    	
+    	for(PlateInteger plate : array) {
+
+    		DescriptiveStatistics stat = new DescriptiveStatistics();
+    		
+			for(WellInteger well : plate) {
+				for(double db : values(well)) {
+					stat.addValue(db);
+				}
+			}
+			
+			assertSummary(stat, summary.platesAggregated(plate));
+		} 
+    }
+    
+    /* ---------------------- Summaries for well sets ----------------------- */
+    
+    /**
+     * Tests the set summary methods.
+     */
+    @Test
+    public void testSet() {
+    	
+    	for(PlateInteger plate : array) {
+
+    		WellSetInteger set = plate.dataSet();
+    		Map<WellInteger, SummaryInteger> returnedMap = summary.set(set);
+    		DescriptiveStatistics aggregated = new DescriptiveStatistics();
+    		
+			for(WellInteger well : set) {
+				
+				assertSummary(new DescriptiveStatistics(values(well)), returnedMap.get(well));
+				
+				for(double db : values(well)) {
+					aggregated.addValue(db);
+				}
+			}
+			
+			assertSummary(aggregated, summary.setsAggregated(set));
+		} 
+    }
+    
+    /* --------------------------- Well summaries --------------------------- */
+    
+    /**
+     * Tests the well summary methods.
+     */
+    @Test
+    public void testWell() {
+    	
+    	for(PlateInteger plate : array) {
+			for(WellInteger well : plate) {
+				
+				assertSummary(new DescriptiveStatistics(values(well)), summary.well(well));
+				
+				double[] input = Arrays.copyOfRange(values(well), 2, 8);
+				assertSummary(new DescriptiveStatistics(input), summary.well(well, 2, 6));
+			}
+		} 
+    }
+    
+    /**
+     * Tests the kurtosis of a summary holding less than four values.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void testKurtosisException() {
+    	WellInteger well = array[0].first();
+    	summary.well(well, 0, 3).kurtosis();
+    }
+    
+    /* ------------------------- Merged summaries --------------------------- */
+    
+    /**
+     * Tests merging the summaries of the first and second half of each well.
+     */
+    @Test
+    public void testMerge() {
+    	
+    	for(PlateInteger plate : array) {
+			for(WellInteger well : plate) {
+				
+				SummaryInteger merged = summary.well(well, 0, 5).merge(summary.well(well, 5, 5));
+				double product = 1;
+				
+				for(double db : values(well)) {
+					product *= db;
+				}
+				
+				assertSummary(new DescriptiveStatistics(values(well)), merged);
+				assertClose(product, merged.product());
+			}
+		} 
+    }
+    
+    /**
+     * Tests merging empty summaries.
+     */
+    @Test
+    public void testMergeEmpty() {
+    	
+    	WellInteger well = array[0].first();
+    	DescriptiveStatistics stat = new DescriptiveStatistics(values(well));
+    	
+    	assertSummary(stat, summary.well(well, 0, 0).merge(summary.well(well)));
+    	assertSummary(stat, summary.well(well).merge(summary.well(well, 0, 0)));
+    }
+    
+    /* --------------------- Aggregated stack summaries --------------------- */
+    
+    /**
+     * Tests the aggregated stack summary methods.
+     */
+    @Test
+    public void testAggregatedStack() {
+    	
+    	StackInteger stack = new StackInteger(array, "Stack");
+    	DescriptiveStatistics stat = new DescriptiveStatistics();
+    	
+    	for(PlateInteger plate : stack) {
+			for(WellInteger well : plate) {
+				for(double db : values(well)) {
+					stat.addValue(db);
+				}
+			}
+    	}
+    	
+    	assertSummary(stat, summary.stacksAggregated(stack));
+    	assertSummary(stat, summary.stacksAggregated(new StackInteger[]{ stack }).get(stack));
+    }
+    
+    /**
+     * Tests the aggregated summary methods using a fork join pool.
+     */
+    @Test
+    public void testParallel() {
+    	
+    	SummaryStatisticsInteger parallel = new SummaryStatisticsInteger();
+    	parallel.setParallel(true);
+    	
+    	StackInteger stack = new StackInteger(array, "Stack");
+    	SummaryInteger sequential = summary.stacksAggregated(stack);
+    	SummaryInteger returned = parallel.stacksAggregated(stack);
+    	
+    	assertEquals(sequential.n(), returned.n());
+    	assertClose(sequential.sum(), returned.sum());
+    	assertClose(sequential.min(), returned.min());
+    	assertClose(sequential.max(), returned.max());
+    	
+    	Map<PlateInteger, SummaryInteger> plates = parallel.platesAggregated(array);
+    	
+    	assertEquals(array.length, plates.size());
+    	
+    	for(PlateInteger plate : array) {
+    		SummaryInteger expected = summary.platesAggregated(plate);
+    		assertEquals(expected.n(), plates.get(plate).n());
+    		assertClose(expected.sum(), plates.get(plate).sum());
+    	}
+    }
+    
+    /* --------------------------- Helper Methods --------------------------- */
+    
+    /**
+     * Returns the well values as a double array.
+     * @param    WellInteger    the well
+     * @return                  the values
+     */
+    private static double[] values(WellInteger well) {
+    	
+    	double[] values = new double[well.size()];
+    	int index = 0;
+    	
+    	for(int in : well) {
+    		values[index++] = in;
+    	}
+    	
+    	return values;
+    }
+    
+    /**
+     * Compares the summary to the commons math descriptive statistics.
+     * @param    DescriptiveStatistics    the expected statistics
+     * @param    SummaryInteger           the returned summary
+     */
+    private static void assertSummary(DescriptiveStatistics stat, SummaryInteger returned) {
+    	
+    	assertEquals(stat.getN(), returned.n());
+    	assertClose(stat.getSum(), returned.sum());
+    	assertClose(stat.getMin(), returned.min());
+    	assertClose(stat.getMax(), returned.max());
+    	assertClose(stat.getMean(), returned.mean());
+    	assertClose(stat.getPopulationVariance(), returned.populationVariance());
+    	assertClose(stat.getVariance(), returned.sampleVariance());
+    	assertClose(stat.getStandardDeviation(), returned.sampleStandardDeviation());
+    	assertClose(stat.getSkewness(), returned.skewness());
+    	assertClose(stat.getKurtosis(), returned.kurtosis());
+    }
+    
+    /**
+     * Asserts the values are equal within the relative tolerance.
+     * @param    double    the expected value
+     * @param    double    the returned value
+     */
+    private static void assertClose(double expected, double returned) {
+    	double tolerance = delta * Math.max(1.0, Math.abs(expected));
+    	assertEquals(expected, returned, tolerance);
+    }
+    
+}
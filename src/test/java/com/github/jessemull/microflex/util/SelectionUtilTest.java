@@ -0,0 +1,399 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflex.util;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * This class tests the methods in the selection utility class. Each selected
+ * value is compared to the value at the same rank of a sorted copy.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class SelectionUtilTest {
+
+	/* ---------------------------- Local Fields -----------------------------*/
+
+    /* Minimum and maximum values for random arrays */
+
+	private static double minValue = 0;             // Minimum double value for arrays
+	private static double maxValue = 100;           // Maximum double value for arrays
+	private static Random random = new Random();    // Generates random values
+
+	/* Random objects and numbers for testing */
+
+	private static int minLength = 1;
+	private static int maxLength = 500;
+	private static int arrayNumber = 100;
+
+    /* ---------------------------- Single ranks ---------------------------- */
+
+	/**
+	 * Tests selecting every rank of short and long arrays.
+	 */
+	@Test
+	public void testSelect() {
+
+		for(int i = 0; i < arrayNumber; i++) {
+
+			double[] values = randomArray(randomLength());
+			double[] sorted = sorted(values);
+
+			for(int rank = 0; rank < values.length; rank++) {
+				double[] copy = values.clone();
+				assertEquals(sorted[rank], SelectionUtil.select(copy, 0, copy.length, rank), 0.0);
+				assertPartitioned(copy, 0, copy.length, rank);
+			}
+		}
+	}
+
+	/**
+	 * Tests selecting ranks from a range within the array.
+	 */
+	@Test
+	public void testSelectRange() {
+
+		for(int i = 0; i < arrayNumber; i++) {
+
+			double[] values = randomArray(maxLength);
+
+			int from = random.nextInt(maxLength / 2);
+			int to = from + 1 + random.nextInt(maxLength - from);
+			int rank = random.nextInt(to - from);
+
+			double[] copy = values.clone();
+			double[] sorted = sorted(Arrays.copyOfRange(values, from, to));
+
+			assertEquals(sorted[rank], SelectionUtil.select(copy, from, to, rank), 0.0);
+
+			/* Values outside the range are not moved */
+
+			for(int j = 0; j < from; j++) {
+				assertEquals(values[j], copy[j], 0.0);
+			}
+
+			for(int j = to; j < values.length; j++) {
+				assertEquals(values[j], copy[j], 0.0);
+			}
+		}
+	}
+
+    /* ---------------------------- Multiple ranks -------------------------- */
+
+	/**
+	 * Tests selecting several ascending ranks in a single call.
+	 */
+	@Test
+	public void testSelectRanks() {
+
+		for(int i = 0; i < arrayNumber; i++) {
+
+			double[] values = randomArray(randomLength());
+			double[] sorted = sorted(values);
+
+			int[] ranks = new int[1 + random.nextInt(10)];
+
+			for(int j = 0; j < ranks.length; j++) {
+				ranks[j] = random.nextInt(values.length);
+			}
+
+			Arrays.sort(ranks);
+
+			double[] returned = SelectionUtil.select(values.clone(), 0, values.length, ranks);
+
+			for(int j = 0; j < ranks.length; j++) {
+				assertEquals(sorted[ranks[j]], returned[j], 0.0);
+			}
+		}
+	}
+
+	/**
+	 * Tests selecting ranks that are not in ascending order.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testSelectRanksDescending() {
+		SelectionUtil.select(randomArray(50), 0, 50, new int[]{ 30, 10 });
+	}
+
+	/**
+	 * Tests the median, quantiles and quartiles against a sorted copy.
+	 */
+	@Test
+	public void testMedianQuantileQuartiles() {
+
+		for(int i = 0; i < arrayNumber; i++) {
+
+			double[] values = randomArray(2 + random.nextInt(maxLength));
+			double[] sorted = sorted(values);
+			int n = sorted.length;
+
+			double median = (sorted[(n - 1) / 2] + sorted[n / 2]) / 2;
+			assertEquals(median, SelectionUtil.median(values.clone(), 0, n), 0.0);
+
+			double pos = 0.5 + random.nextDouble() * n;
+			assertEquals(quantile(sorted, pos), SelectionUtil.quantile(values.clone(), 0, n, pos), 1e-10);
+
+			int[] ranks = SelectionUtil.quartileRanks(n);
+			double[] quartiles = SelectionUtil.quartiles(values.clone(), 0, n);
+
+			for(int j = 0; j < 3; j++) {
+				assertEquals((sorted[ranks[2 * j]] + sorted[ranks[2 * j + 1]]) / 2, quartiles[j], 0.0);
+			}
+		}
+	}
+
+    /* ----------------------------- Duplicates ----------------------------- */
+
+	/**
+	 * Tests arrays holding few distinct values and arrays holding a single
+	 * repeated value.
+	 */
+	@Test
+	public void testDuplicates() {
+
+		for(int i = 0; i < arrayNumber; i++) {
+
+			double[] values = new double[randomLength()];
+
+			for(int j = 0; j < values.length; j++) {
+				values[j] = random.nextInt(3);
+			}
+
+			double[] sorted = sorted(values);
+
+			for(int rank = 0; rank < values.length; rank += 1 + values.length / 20) {
+				double[] copy = values.clone();
+				assertEquals(sorted[rank], SelectionUtil.select(copy, 0, copy.length, rank), 0.0);
+				assertPartitioned(copy, 0, copy.length, rank);
+			}
+		}
+
+		double[] constant = new double[maxLength];
+		Arrays.fill(constant, 7.0);
+
+		assertEquals(7.0, SelectionUtil.select(constant, 0, maxLength, maxLength / 2), 0.0);
+		assertArrayEquals(new double[]{ 7.0, 7.0, 7.0 }, SelectionUtil.quartiles(constant, 0, maxLength), 0.0);
+	}
+
+	/**
+	 * Tests values ordered by Double.compare, which places negative zero before
+	 * zero and NaN after positive infinity.
+	 */
+	@Test
+	public void testSpecialValues() {
+
+		double[] values = { Double.NaN, 0.0, Double.POSITIVE_INFINITY, -0.0,
+				Double.NEGATIVE_INFINITY, 1.0 };
+		double[] sorted = sorted(values);
+
+		for(int rank = 0; rank < values.length; rank++) {
+			assertEquals(sorted[rank], SelectionUtil.select(values.clone(), 0, values.length, rank), 0.0);
+		}
+
+		assertEquals(-0.0, SelectionUtil.select(values.clone(), 0, values.length, 1), 0.0);
+		assertTrue(Double.isNaN(SelectionUtil.select(values.clone(), 0, values.length, 5)));
+	}
+
+    /* ---------------------------- Sort fallback --------------------------- */
+
+	/**
+	 * Tests the sorted fallback used once the partitioning passes are
+	 * exhausted.
+	 */
+	@Test
+	public void testSortFallback() {
+
+		for(int i = 0; i < arrayNumber; i++) {
+
+			double[] values = randomArray(100 + random.nextInt(maxLength));
+			double[] sorted = sorted(values);
+
+			int rank = random.nextInt(values.length);
+
+			/* A depth of zero sorts the whole range */
+
+			double[] copy = values.clone();
+			assertEquals(sorted[rank], SelectionUtil.select(copy, 0, copy.length, rank, 0), 0.0);
+			assertArrayEquals(sorted, copy, 0.0);
+
+			/* A depth of one partitions once and sorts the remainder */
+
+			copy = values.clone();
+			assertEquals(sorted[rank], SelectionUtil.select(copy, 0, copy.length, rank, 1), 0.0);
+			assertPartitioned(copy, 0, copy.length, rank);
+		}
+	}
+
+	/**
+	 * Tests the sorted fallback for objects.
+	 */
+	@Test
+	public void testSortFallbackObjects() {
+
+		for(int i = 0; i < arrayNumber; i++) {
+
+			Integer[] values = new Integer[100 + random.nextInt(maxLength)];
+
+			for(int j = 0; j < values.length; j++) {
+				values[j] = random.nextInt(50);
+			}
+
+			Integer[] sorted = values.clone();
+			Arrays.sort(sorted);
+
+			int rank = random.nextInt(values.length);
+
+			assertEquals(sorted[rank], SelectionUtil.select(values.clone(), 0, values.length, rank));
+			assertEquals(sorted[rank], SelectionUtil.select(values.clone(), 0, values.length, rank, 0));
+			assertEquals(sorted[rank], SelectionUtil.select(values.clone(), 0, values.length, rank, 1));
+
+			Integer[] returned = SelectionUtil.select(values.clone(), 0, values.length,
+					new int[]{ 0, rank, values.length - 1 });
+
+			assertEquals(sorted[0], returned[0]);
+			assertEquals(sorted[rank], returned[1]);
+			assertEquals(sorted[values.length - 1], returned[2]);
+		}
+	}
+
+    /* ---------------------------- Invalid input --------------------------- */
+
+	/**
+	 * Tests a rank outside the range.
+	 */
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testInvalidRank() {
+		SelectionUtil.select(randomArray(10), 2, 8, 6);
+	}
+
+	/**
+	 * Tests a range outside the array.
+	 */
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testInvalidRange() {
+		SelectionUtil.select(randomArray(10), 5, 11, 0);
+	}
+
+	/**
+	 * Tests quartiles of a single value.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidQuartiles() {
+		SelectionUtil.quartiles(randomArray(1), 0, 1);
+	}
+
+    /* --------------------------- Helper Methods --------------------------- */
+
+	/**
+	 * Asserts the values before the rank are less than or equal to the value at
+	 * the rank and the values after the rank are greater than or equal to it.
+	 * @param    double[]    the values
+	 * @param    int         beginning index of the range
+	 * @param    int         ending index of the range, exclusive
+	 * @param    int         the rank
+	 */
+	private static void assertPartitioned(double[] values, int from, int to, int rank) {
+
+		double selected = values[from + rank];
+
+		for(int i = from; i < from + rank; i++) {
+			assertTrue(Double.compare(values[i], selected) <= 0);
+		}
+
+		for(int i = from + rank + 1; i < to; i++) {
+			assertTrue(Double.compare(values[i], selected) >= 0);
+		}
+	}
+
+	/**
+	 * Returns the interpolated quantile of the sorted values at the one based
+	 * position.
+	 * @param    double[]    the sorted values
+	 * @param    double      the one based position
+	 * @return               the quantile
+	 */
+	private static double quantile(double[] sorted, double pos) {
+
+		int n = sorted.length;
+
+		if(pos < 1) {
+			return sorted[0];
+		}
+
+		if(pos >= n) {
+			return sorted[n - 1];
+		}
+
+		int lower = (int) Math.floor(pos) - 1;
+
+		return (sorted[lower + 1] - sorted[lower]) * (pos - 1 - lower) + sorted[lower];
+	}
+
+	/**
+	 * Returns a sorted copy of the values.
+	 * @param    double[]    the values
+	 * @return               the sorted copy
+	 */
+	private static double[] sorted(double[] values) {
+		double[] sorted = values.clone();
+		Arrays.sort(sorted);
+		return sorted;
+	}
+
+	/**
+	 * Returns an array of random values.
+	 * @param    int    the length
+	 * @return          the array
+	 */
+	private static double[] randomArray(int length) {
+
+		double[] values = new double[length];
+
+		for(int i = 0; i < length; i++) {
+			values[i] = minValue + random.nextDouble() * (maxValue - minValue);
+		}
+
+		return values;
+	}
+
+	/**
+	 * Returns a random array length.
+	 * @return    the length
+	 */
+	private static int randomLength() {
+		return minLength + random.nextInt(maxLength);
+	}
+
+}